@@ -172,4 +172,66 @@ public class CommonHandler {
 
         return endEntity;
     }
+
+    /**
+     * Adds entities and relationships for the process Context structure, retrieving the entities at the other
+     * end of all of the relationships with a single repository request
+     *
+     * @param userId        String - userId of user making request.
+     * @param startEntity   parent entity of the relationships
+     * @param relationships the relationships of the parent node
+     * @return Entities which are the children of the relationships, empty list if any of the Entities is missing
+     */
+    protected List<EntityDetail> buildGraphEdgesByRelationships(String userId, EntityDetail startEntity,
+                                                                List<Relationship> relationships, AssetContext graph) throws PropertyServerException,
+            UserNotAuthorizedException {
+
+        String methodName = "buildGraphEdgesByRelationships";
+
+        if (relationships.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> endEntityGUIDs = new ArrayList<>();
+        for (Relationship relationship : relationships) {
+            endEntityGUIDs.add(getGUIDAtTheEnd(startEntity.getGUID(), relationship));
+        }
+
+        Map<String, EntityDetail> endEntities = new HashMap<>();
+        for (EntityDetail endEntity : repositoryHandler.getEntitiesByGUIDs(userId, endEntityGUIDs, methodName)) {
+            endEntities.put(endEntity.getGUID(), endEntity);
+        }
+
+        if (!endEntities.keySet().containsAll(endEntityGUIDs)) {
+            return Collections.emptyList();
+        }
+
+        Converter converter = new Converter();
+        LineageEntity startVertex = converter.createEntity(startEntity);
+        graph.addVertex(startVertex);
+
+        List<EntityDetail> entityDetails = new ArrayList<>();
+        for (int i = 0; i < relationships.size(); i++) {
+            Relationship relationship = relationships.get(i);
+            EntityDetail endEntity = endEntities.get(endEntityGUIDs.get(i));
+
+            LineageEntity endVertex = converter.createEntity(endEntity);
+            graph.addVertex(endVertex);
+
+            GraphContext edge = new GraphContext(relationship.getType().getTypeDefName(), relationship.getGUID(), startVertex, endVertex);
+            graph.addEdge(edge);
+
+            entityDetails.add(endEntity);
+        }
+
+        return entityDetails;
+    }
+
+    private String getGUIDAtTheEnd(String entityDetailGUID, Relationship relationship) {
+        if (relationship.getEntityOneProxy().getGUID().equals(entityDetailGUID)) {
+            return relationship.getEntityTwoProxy().getGUID();
+        } else {
+            return relationship.getEntityOneProxy().getGUID();
+        }
+    }
 }
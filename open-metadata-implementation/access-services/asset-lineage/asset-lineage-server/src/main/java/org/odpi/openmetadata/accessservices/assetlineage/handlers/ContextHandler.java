@@ -152,15 +152,7 @@ public class ContextHandler {
                                                                                                                    InvalidParameterException {
         List<Relationship> relationships = commonHandler.getRelationshipsByType(userId, startEntity.getGUID(), relationshipType, typeDefName);
 
-        List<EntityDetail> entityDetails = new ArrayList<>();
-        for (Relationship relationship : relationships) {
-
-            EntityDetail endEntity = commonHandler.buildGraphEdgeByRelationship(userId, startEntity, relationship, graph);
-            if(endEntity == null) return Collections.emptyList();
-
-            entityDetails.add(endEntity);
-        }
-        return entityDetails;
+        return commonHandler.buildGraphEdgesByRelationships(userId, startEntity, relationships, graph);
     }
 
     private void setAssetDetails(String userId, EntityDetail startEntity) throws InvalidParameterException,
@@ -154,19 +154,16 @@ public class ProcessHandler {
         if (startEntity == null) return Collections.emptyList();
         String startEntityType = startEntity.getType().getTypeDefName();
 
-        List<EntityDetail> entityDetails = new ArrayList<>();
+        List<Relationship> relationshipsToFollow = new ArrayList<>();
         for (Relationship relationship : relationships) {
 
             if(relationship.getType().getTypeDefName().equals(ATTRIBUTE_FOR_SCHEMA) && startEntityType.equals(SCHEMA_ATTRIBUTE)){
                 continue;
             }
-            EntityDetail endEntity = commonHandler.buildGraphEdgeByRelationship(userId,startEntity,relationship,graph);
-            if(endEntity == null) return Collections.emptyList();
-
-            entityDetails.add(endEntity);
+            relationshipsToFollow.add(relationship);
         }
 
-        return entityDetails;
+        return commonHandler.buildGraphEdgesByRelationships(userId, startEntity, relationshipsToFollow, graph);
 
     }
 
@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.handlers;
+
+import org.odpi.openmetadata.accessservices.assetlineage.AssetContext;
+import org.odpi.openmetadata.accessservices.assetlineage.GraphContext;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the building of the lineage graph edges from the relationships of an entity.
+ */
+public class CommonHandlerTest {
+
+    private static final String USER_ID = "testUser";
+    private static final String START_GUID = "start";
+
+    private StoredEntitiesHandler repositoryHandler;
+    private CommonHandler commonHandler;
+
+    /**
+     * Repository handler that returns the stored entities in the order they are requested, leaving out
+     * the ones it does not know.
+     */
+    private static class StoredEntitiesHandler extends RepositoryHandler {
+        Map<String, EntityDetail> entities = new HashMap<>();
+        int requests = 0;
+
+        StoredEntitiesHandler() {
+            super(null, null, null, 100);
+        }
+
+        @Override
+        public List<EntityDetail> getEntitiesByGUIDs(String userId, List<String> guids, String methodName) {
+            requests++;
+
+            List<EntityDetail> results = new ArrayList<>();
+            for (String guid : guids) {
+                if (entities.containsKey(guid)) {
+                    results.add(entities.get(guid));
+                }
+            }
+            return results;
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        repositoryHandler = new StoredEntitiesHandler();
+        commonHandler = new CommonHandler("testService", "testServer", null, null, repositoryHandler);
+
+        for (String guid : Arrays.asList("column-1", "column-2", "column-3")) {
+            repositoryHandler.entities.put(guid, getEntity(guid));
+        }
+    }
+
+    @Test
+    public void testEdgesAreBuiltInRelationshipOrder() throws Exception {
+        AssetContext graph = new AssetContext();
+
+        List<EntityDetail> endEntities = commonHandler.buildGraphEdgesByRelationships(USER_ID,
+                getEntity(START_GUID),
+                Arrays.asList(getRelationship("relationship-1", START_GUID, "column-3"),
+                        getRelationship("relationship-2", "column-1", START_GUID)),
+                graph);
+
+        assertEquals(getGUIDs(endEntities), Arrays.asList("column-3", "column-1"));
+        assertEquals(repositoryHandler.requests, 1);
+
+        Set<String> edges = graph.getNeighbors().values().stream()
+                .flatMap(Set::stream)
+                .map(GraphContext::getRelationshipGuid)
+                .collect(Collectors.toSet());
+        assertEquals(edges.size(), 2);
+        assertTrue(edges.contains("relationship-1"));
+        assertTrue(edges.contains("relationship-2"));
+    }
+
+    @Test
+    public void testNoEdgesWhenAnEndIsMissing() throws Exception {
+        AssetContext graph = new AssetContext();
+
+        List<EntityDetail> endEntities = commonHandler.buildGraphEdgesByRelationships(USER_ID,
+                getEntity(START_GUID),
+                Arrays.asList(getRelationship("relationship-1", START_GUID, "column-1"),
+                        getRelationship("relationship-2", START_GUID, "deleted-column")),
+                graph);
+
+        assertTrue(endEntities.isEmpty());
+        assertTrue(graph.getNeighbors().isEmpty());
+    }
+
+    @Test
+    public void testNoRelationships() throws Exception {
+        AssetContext graph = new AssetContext();
+
+        assertTrue(commonHandler.buildGraphEdgesByRelationships(USER_ID, getEntity(START_GUID), new ArrayList<>(), graph).isEmpty());
+        assertEquals(repositoryHandler.requests, 0);
+    }
+
+    private List<String> getGUIDs(List<EntityDetail> entities) {
+        return entities.stream().map(EntityDetail::getGUID).collect(Collectors.toList());
+    }
+
+    private EntityDetail getEntity(String guid) {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName("RelationalColumn");
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(type);
+        return entity;
+    }
+
+    private Relationship getRelationship(String guid, String entityOneGUID, String entityTwoGUID) {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName("LineageMapping");
+
+        EntityProxy entityOne = new EntityProxy();
+        entityOne.setGUID(entityOneGUID);
+
+        EntityProxy entityTwo = new EntityProxy();
+        entityTwo.setGUID(entityTwoGUID);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+        return relationship;
+    }
+}
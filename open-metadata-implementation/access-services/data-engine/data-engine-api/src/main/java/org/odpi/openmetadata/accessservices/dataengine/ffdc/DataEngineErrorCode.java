@@ -46,7 +46,11 @@ public enum DataEngineErrorCode {
     DATA_ENGINE_EXCEPTION(400, "OMAS-DATA-ENGINE-400-004",
             "Exception while processing the data engine event {0}",
             "The system is unable to process the event.",
-            "Verify the topic configuration or the event schema.");
+            "Verify the topic configuration or the event schema."),
+    UNKNOWN_LINEAGE_MAPPING_ATTRIBUTES(400, "OMAS-DATA-ENGINE-400-005 ",
+            "The lineage mappings {0} were not created because their schema attributes could not be found",
+            "The system created the other lineage mappings of the request and skipped these ones.",
+            "Create the missing schema attributes and retry the request for the skipped lineage mappings.");
 
 
     private int HTTPErrorCode;
@@ -2,7 +2,9 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.dataengine.server.handlers;
 
+import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.model.Attribute;
+import org.odpi.openmetadata.accessservices.dataengine.model.LineageMapping;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.PortPropertiesMapper;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.SchemaTypePropertiesMapper;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
@@ -16,6 +18,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ComplexSchem
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
@@ -26,11 +29,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -166,6 +174,171 @@ public class DataEngineSchemaTypeHandler {
         }
     }
 
+    /**
+     * Create the missing LineageMapping relationships between schema attributes. Each distinct qualified name is
+     * resolved once and the lookups for the schema attributes and the existing relationships run in parallel. The new
+     * relationships are stored in a single batch request. A lineage mapping whose schema attributes can not be found
+     * is skipped, so it does not stop the other lineage mappings from being created, and is then reported
+     *
+     * @param userId             the name of the calling user
+     * @param lineageMappings    the source and target schema attributes of each lineage mapping
+     * @param externalSourceName the unique name of the external source
+     *
+     * @throws InvalidParameterException the bean properties are invalid or the schema attributes of some of the
+     *                                   lineage mappings could not be found
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public void addLineageMappingRelationships(String userId, List<LineageMapping> lineageMappings,
+                                               String externalSourceName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException {
+        final String methodName = "addLineageMappingRelationships";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        if (CollectionUtils.isEmpty(lineageMappings)) {
+            return;
+        }
+
+        Set<String> qualifiedNames = new HashSet<>();
+        for (LineageMapping lineageMapping : lineageMappings) {
+            invalidParameterHandler.validateName(lineageMapping.getSourceAttribute(),
+                    PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
+            invalidParameterHandler.validateName(lineageMapping.getTargetAttribute(),
+                    PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
+
+            qualifiedNames.add(lineageMapping.getSourceAttribute());
+            qualifiedNames.add(lineageMapping.getTargetAttribute());
+        }
+
+        List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+
+        Map<String, String> schemaAttributeGUIDs = new ConcurrentHashMap<>();
+        qualifiedNames.parallelStream().forEach(qualifiedName -> {
+            try {
+                String schemaAttributeGUID = findSchemaAttribute(userId, qualifiedName);
+                if (schemaAttributeGUID != null) {
+                    schemaAttributeGUIDs.put(qualifiedName, schemaAttributeGUID);
+                }
+            } catch (UserNotAuthorizedException | PropertyServerException error) {
+                errors.add(error);
+            }
+        });
+        throwFirstError(errors);
+
+        Map<String, List<String>> mappedAttributes = new LinkedHashMap<>();
+        Set<String> unresolvedMappings = new LinkedHashSet<>();
+        for (LineageMapping lineageMapping : lineageMappings) {
+            String sourceSchemaAttributeGUID = schemaAttributeGUIDs.get(lineageMapping.getSourceAttribute());
+            String targetSchemaAttributeGUID = schemaAttributeGUIDs.get(lineageMapping.getTargetAttribute());
+
+            if (sourceSchemaAttributeGUID == null || targetSchemaAttributeGUID == null) {
+                log.error("Skipping the lineage mapping from {} to {} because its schema attributes could not be found",
+                        lineageMapping.getSourceAttribute(), lineageMapping.getTargetAttribute());
+                unresolvedMappings.add(lineageMapping.getSourceAttribute() + "->" + lineageMapping.getTargetAttribute());
+                continue;
+            }
+
+            mappedAttributes.putIfAbsent(sourceSchemaAttributeGUID + "->" + targetSchemaAttributeGUID,
+                    Arrays.asList(sourceSchemaAttributeGUID, targetSchemaAttributeGUID));
+        }
+
+        createLineageMappingRelationships(userId, mappedAttributes, externalSourceName, errors);
+
+        if (!unresolvedMappings.isEmpty()) {
+            DataEngineErrorCode errorCode = DataEngineErrorCode.UNKNOWN_LINEAGE_MAPPING_ATTRIBUTES;
+            String errorMessage = errorCode.getErrorMessageId()
+                    + errorCode.getFormattedErrorMessage(String.join(", ", unresolvedMappings));
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(), this.getClass().getName(), methodName,
+                    errorMessage, errorCode.getSystemAction(), errorCode.getUserAction(),
+                    PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME);
+        }
+    }
+
+    /**
+     * Store the LineageMapping relationships that do not exist yet in a single batch request
+     *
+     * @param userId             the name of the calling user
+     * @param mappedAttributes   the source and target schema attribute GUIDs of each lineage mapping
+     * @param externalSourceName the unique name of the external source
+     * @param errors             the list that captures the errors of the parallel lookups
+     *
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    private void createLineageMappingRelationships(String userId, Map<String, List<String>> mappedAttributes,
+                                                   String externalSourceName,
+                                                   List<Exception> errors) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException {
+        final String methodName = "addLineageMappingRelationships";
+
+        if (mappedAttributes.isEmpty()) {
+            return;
+        }
+
+        TypeDef relationshipTypeDef = repositoryHelper.getTypeDefByName(userId,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME);
+
+        Set<String> existingMappings = ConcurrentHashMap.newKeySet();
+        mappedAttributes.entrySet().parallelStream().forEach(mapping -> {
+            try {
+                Relationship relationship = repositoryHandler.getRelationshipBetweenEntities(userId,
+                        mapping.getValue().get(0), SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME,
+                        mapping.getValue().get(1), relationshipTypeDef.getGUID(), relationshipTypeDef.getName(),
+                        methodName);
+                if (relationship != null) {
+                    existingMappings.add(mapping.getKey());
+                }
+            } catch (UserNotAuthorizedException | PropertyServerException error) {
+                errors.add(error);
+            }
+        });
+        throwFirstError(errors);
+
+        List<Relationship> relationships = new ArrayList<>();
+        for (Map.Entry<String, List<String>> mapping : mappedAttributes.entrySet()) {
+            if (!existingMappings.contains(mapping.getKey())) {
+                relationships.add(repositoryHandler.getNewRelationship(relationshipTypeDef.getGUID(),
+                        relationshipTypeDef.getName(), mapping.getValue().get(0), mapping.getValue().get(1), null));
+            }
+        }
+
+        if (relationships.isEmpty()) {
+            return;
+        }
+
+        String externalSourceGUID = dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(userId,
+                externalSourceName);
+
+        repositoryHandler.createExternalInstances(userId, externalSourceGUID, externalSourceName,
+                new InstanceGraph(null, relationships), methodName);
+    }
+
+    /**
+     * Rethrow the first of the errors captured by the parallel lookups of a batch request
+     *
+     * @param errors the errors captured by the lookups
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    private void throwFirstError(List<Exception> errors) throws UserNotAuthorizedException,
+                                                                PropertyServerException {
+        if (errors.isEmpty()) {
+            return;
+        }
+
+        Exception error = errors.get(0);
+        if (error instanceof UserNotAuthorizedException) {
+            throw (UserNotAuthorizedException) error;
+        }
+        throw (PropertyServerException) error;
+    }
+
     /**
      * Remove the schema type with the associated schema attributes
      *
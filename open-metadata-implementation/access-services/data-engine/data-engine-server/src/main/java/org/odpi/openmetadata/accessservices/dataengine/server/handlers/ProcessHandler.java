@@ -18,6 +18,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.OwnerType;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
@@ -26,7 +27,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -268,6 +271,59 @@ public class ProcessHandler {
         }
     }
 
+    /**
+     * Create the missing ProcessPort relationships between a Process asset and the corresponding Ports. The ports
+     * already attached to the process are retrieved once and the new relationships are stored in a single
+     * batch request
+     *
+     * @param userId             the name of the calling user
+     * @param processGUID        the unique identifier of the process
+     * @param portGUIDs          the unique identifiers of the ports
+     * @param externalSourceName the unique name of the external source
+     *
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public void addProcessPortRelationships(String userId, String processGUID, Collection<String> portGUIDs,
+                                            String externalSourceName) throws InvalidParameterException,
+                                                                              UserNotAuthorizedException,
+                                                                              PropertyServerException {
+        final String methodName = "addProcessPortRelationships";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(processGUID, ProcessPropertiesMapper.GUID_PROPERTY_NAME, methodName);
+
+        if (CollectionUtils.isEmpty(portGUIDs)) {
+            return;
+        }
+
+        for (String portGUID : portGUIDs) {
+            invalidParameterHandler.validateGUID(portGUID, ProcessPropertiesMapper.GUID_PROPERTY_NAME, methodName);
+        }
+
+        Set<String> existingPortGUIDs = getPortsForProcess(userId, processGUID);
+        Set<String> newPortGUIDs = portGUIDs.stream().filter(portGUID -> !existingPortGUIDs.contains(portGUID))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (newPortGUIDs.isEmpty()) {
+            return;
+        }
+
+        TypeDef relationshipTypeDef = repositoryHelper.getTypeDefByName(userId,
+                ProcessPropertiesMapper.PROCESS_PORT_TYPE_NAME);
+
+        List<Relationship> relationships = newPortGUIDs.stream().map(portGUID ->
+                repositoryHandler.getNewRelationship(relationshipTypeDef.getGUID(), relationshipTypeDef.getName(),
+                        processGUID, portGUID, null)).collect(Collectors.toList());
+
+        String externalSourceGUID = dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(userId,
+                externalSourceName);
+
+        repositoryHandler.createExternalInstances(userId, externalSourceGUID, externalSourceName,
+                new InstanceGraph(null, relationships), methodName);
+    }
+
     /**
      * Update the process instance status
      *
@@ -442,9 +442,7 @@ public class DataEngineRESTServices {
         }
         ProcessHandler processHandler = instanceHandler.getProcessHandler(userId, serverName, methodName);
 
-        for (String portGUID : portGUIDs) {
-            processHandler.addProcessPortRelationship(userId, processGUID, portGUID, externalSourceName);
-        }
+        processHandler.addProcessPortRelationships(userId, processGUID, portGUIDs, externalSourceName);
     }
 
     /**
@@ -477,18 +475,15 @@ public class DataEngineRESTServices {
         DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler =
                 instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
 
-        lineageMappings.parallelStream().forEach(lineageMapping -> {
-            try {
-                dataEngineSchemaTypeHandler.addLineageMappingRelationship(userId, lineageMapping.getSourceAttribute(),
-                        lineageMapping.getTargetAttribute(), externalSourceName);
-            } catch (InvalidParameterException error) {
-                restExceptionHandler.captureInvalidParameterException(response, error);
-            } catch (PropertyServerException error) {
-                restExceptionHandler.capturePropertyServerException(response, error);
-            } catch (UserNotAuthorizedException error) {
-                restExceptionHandler.captureUserNotAuthorizedException(response, error);
-            }
-        });
+        try {
+            dataEngineSchemaTypeHandler.addLineageMappingRelationships(userId, lineageMappings, externalSourceName);
+        } catch (InvalidParameterException error) {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+        } catch (PropertyServerException error) {
+            restExceptionHandler.capturePropertyServerException(response, error);
+        } catch (UserNotAuthorizedException error) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
     }
 
     /**
@@ -778,17 +773,15 @@ public class DataEngineRESTServices {
 
         ProcessHandler processHandler = instanceHandler.getProcessHandler(userId, serverName, methodName);
 
-        portGUIDs.parallelStream().forEach(portGUID -> {
-            try {
-                processHandler.addProcessPortRelationship(userId, processGUID, portGUID, externalSourceName);
-            } catch (InvalidParameterException error) {
-                restExceptionHandler.captureInvalidParameterException(response, error);
-            } catch (PropertyServerException error) {
-                restExceptionHandler.capturePropertyServerException(response, error);
-            } catch (UserNotAuthorizedException error) {
-                restExceptionHandler.captureUserNotAuthorizedException(response, error);
-            }
-        });
+        try {
+            processHandler.addProcessPortRelationships(userId, processGUID, portGUIDs, externalSourceName);
+        } catch (InvalidParameterException error) {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+        } catch (PropertyServerException error) {
+            restExceptionHandler.capturePropertyServerException(response, error);
+        } catch (UserNotAuthorizedException error) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
     }
 
     private void deleteObsoletePorts(String userId, String serverName, Set<String> newPortGUIDs,
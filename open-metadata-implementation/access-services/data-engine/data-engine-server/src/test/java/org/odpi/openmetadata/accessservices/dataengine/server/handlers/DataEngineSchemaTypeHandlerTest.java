@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.odpi.openmetadata.accessservices.dataengine.model.Attribute;
+import org.odpi.openmetadata.accessservices.dataengine.model.LineageMapping;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.ProcessPropertiesMapper;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.SchemaTypePropertiesMapper;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
@@ -25,16 +26,21 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.PrimitiveSch
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -172,6 +178,124 @@ class DataEngineSchemaTypeHandlerTest {
                 SOURCE_GUID, TARGET_GUID, null, "addLineageMappingRelationship");
     }
 
+    @Test
+    void addLineageMappingRelationships() throws UserNotAuthorizedException, PropertyServerException,
+                                                 InvalidParameterException {
+        final String methodName = "addLineageMappingRelationships";
+
+        mockFindSchemaAttribute(SOURCE_QUALIFIED_NAME, SOURCE_GUID);
+        mockFindSchemaAttribute(TARGET_QUALIFIED_NAME, TARGET_GUID);
+
+        mockTypeDef(SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID);
+
+        when(dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(USER,
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+
+        LineageMapping lineageMapping = new LineageMapping(SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME);
+        dataEngineSchemaTypeHandler.addLineageMappingRelationships(USER, Arrays.asList(lineageMapping, lineageMapping),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        verify(repositoryHandler, times(1)).getUniqueEntityByName(USER, SOURCE_QUALIFIED_NAME,
+                SchemaTypePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, null,
+                SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_GUID, SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME,
+                "findSchemaAttribute");
+        verify(repositoryHandler, times(1)).getRelationshipBetweenEntities(USER, SOURCE_GUID,
+                SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, TARGET_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME, methodName);
+        verify(repositoryHandler, times(1)).getNewRelationship(SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME, SOURCE_GUID, TARGET_GUID, null);
+        verify(repositoryHandler, times(1)).createExternalInstances(eq(USER), eq(EXTERNAL_SOURCE_DE_GUID),
+                eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), any(InstanceGraph.class), eq(methodName));
+    }
+
+    @Test
+    void addLineageMappingRelationships_existingMapping() throws UserNotAuthorizedException,
+                                                                 PropertyServerException,
+                                                                 InvalidParameterException {
+        final String methodName = "addLineageMappingRelationships";
+
+        mockFindSchemaAttribute(SOURCE_QUALIFIED_NAME, SOURCE_GUID);
+        mockFindSchemaAttribute(TARGET_QUALIFIED_NAME, TARGET_GUID);
+
+        mockTypeDef(SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID);
+
+        when(repositoryHandler.getRelationshipBetweenEntities(USER, SOURCE_GUID,
+                SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, TARGET_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME, methodName)).thenReturn(mock(Relationship.class));
+
+        LineageMapping lineageMapping = new LineageMapping(SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME);
+        dataEngineSchemaTypeHandler.addLineageMappingRelationships(USER, Collections.singletonList(lineageMapping),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        verify(repositoryHandler, times(0)).createExternalInstances(eq(USER), any(), any(), any(InstanceGraph.class),
+                eq(methodName));
+    }
+
+    @Test
+    void addLineageMappingRelationships_unknownAttribute() throws UserNotAuthorizedException,
+                                                                  PropertyServerException,
+                                                                  InvalidParameterException {
+        final String methodName = "addLineageMappingRelationships";
+        final String unknownQualifiedName = "unknownAttribute";
+
+        mockFindSchemaAttribute(SOURCE_QUALIFIED_NAME, SOURCE_GUID);
+        mockFindSchemaAttribute(TARGET_QUALIFIED_NAME, TARGET_GUID);
+
+        mockTypeDef(SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID);
+
+        when(dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(USER,
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+
+        List<LineageMapping> lineageMappings = Arrays.asList(new LineageMapping(SOURCE_QUALIFIED_NAME,
+                TARGET_QUALIFIED_NAME), new LineageMapping(SOURCE_QUALIFIED_NAME, unknownQualifiedName));
+        InvalidParameterException thrown = assertThrows(InvalidParameterException.class, () ->
+                dataEngineSchemaTypeHandler.addLineageMappingRelationships(USER, lineageMappings,
+                        EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+
+        assertTrue(thrown.getMessage().contains("OMAS-DATA-ENGINE-400-005 "));
+        assertTrue(thrown.getMessage().contains(SOURCE_QUALIFIED_NAME + "->" + unknownQualifiedName));
+
+        verify(repositoryHandler, times(1)).getNewRelationship(SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME, SOURCE_GUID, TARGET_GUID, null);
+        verify(repositoryHandler, times(1)).createExternalInstances(eq(USER), eq(EXTERNAL_SOURCE_DE_GUID),
+                eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), any(InstanceGraph.class), eq(methodName));
+    }
+
+    @Test
+    void addLineageMappingRelationships_throwsUserNotAuthorizedException() throws UserNotAuthorizedException,
+                                                                                  PropertyServerException,
+                                                                                  InvocationTargetException,
+                                                                                  NoSuchMethodException,
+                                                                                  InstantiationException,
+                                                                                  IllegalAccessException,
+                                                                                  InvalidParameterException {
+        final String methodName = "addLineageMappingRelationships";
+
+        mockFindSchemaAttribute(SOURCE_QUALIFIED_NAME, SOURCE_GUID);
+        mockFindSchemaAttribute(TARGET_QUALIFIED_NAME, TARGET_GUID);
+
+        mockTypeDef(SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID);
+
+        UserNotAuthorizedException mockedException = mockException(UserNotAuthorizedException.class, methodName);
+        when(repositoryHandler.getRelationshipBetweenEntities(USER, SOURCE_GUID,
+                SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, TARGET_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_GUID,
+                SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME, methodName)).thenThrow(mockedException);
+
+        LineageMapping lineageMapping = new LineageMapping(SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME);
+        UserNotAuthorizedException thrown = assertThrows(UserNotAuthorizedException.class, () ->
+                dataEngineSchemaTypeHandler.addLineageMappingRelationships(USER,
+                        Collections.singletonList(lineageMapping), EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+
+        assertTrue(thrown.getMessage().contains("OMAS-DATA-ENGINE-404-001 "));
+    }
+
     @Test
     void addLineageMappingRelationship_throwsUserNotAuthorizedException() throws UserNotAuthorizedException,
                                                                                  PropertyServerException,
@@ -223,14 +347,14 @@ class DataEngineSchemaTypeHandlerTest {
                 SchemaElementMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME, 0, 0,
                 "getSchemaAttributesForSchemaType")).thenReturn(entityDetails);
 
-        //mock type for removeSchemaAttribute
-        mockTypeDef(SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_GUID);
+        //mock type for removeTabularColumn
+        mockTypeDef(SchemaElementMapper.TABULAR_COLUMN_TYPE_NAME, SchemaElementMapper.TABULAR_COLUMN_TYPE_GUID);
 
         dataEngineSchemaTypeHandler.removeSchemaType(USER, GUID);
 
         verify(repositoryHandler, times(1)).removeEntity(USER, ATTRIBUTE_GUID,
-                SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_GUID, SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME,
-                null, null, "removeSchemaAttribute");
+                SchemaElementMapper.TABULAR_COLUMN_TYPE_GUID, SchemaElementMapper.TABULAR_COLUMN_TYPE_NAME,
+                null, null, "removeTabularColumn");
 
         verify(schemaTypeHandler, times(1)).removeSchemaType(USER, GUID);
     }
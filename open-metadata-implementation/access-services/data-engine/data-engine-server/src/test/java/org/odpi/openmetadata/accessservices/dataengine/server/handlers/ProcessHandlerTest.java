@@ -26,6 +26,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.OwnerType;
 import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -33,6 +34,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -41,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -309,6 +312,36 @@ class ProcessHandlerTest {
                 PortPropertiesMapper.GUID_PROPERTY_NAME, methodName);
     }
 
+    @Test
+    void addProcessPortRelationships() throws UserNotAuthorizedException, PropertyServerException,
+                                              InvalidParameterException {
+        String methodName = "addProcessPortRelationships";
+
+        mockTypeDef(ProcessPropertiesMapper.PROCESS_PORT_TYPE_NAME, ProcessPropertiesMapper.PROCESS_PORT_TYPE_GUID);
+
+        EntityDetail portImplementation = mock(EntityDetail.class);
+        when(portImplementation.getGUID()).thenReturn(PORT_IMPL_GUID);
+        when(repositoryHandler.getEntitiesForRelationshipType(USER, PROCESS_GUID,
+                ProcessPropertiesMapper.PROCESS_TYPE_NAME, ProcessPropertiesMapper.PROCESS_PORT_TYPE_GUID,
+                ProcessPropertiesMapper.PROCESS_PORT_TYPE_NAME, 0, 0, "getPortsForProcess"))
+                .thenReturn(Collections.singletonList(portImplementation));
+
+        when(dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(USER,
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+
+        processHandler.addProcessPortRelationships(USER, PROCESS_GUID, Arrays.asList(PORT_IMPL_GUID, PORT_ALIAS_GUID),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        verify(repositoryHandler, times(0)).getNewRelationship(ProcessPropertiesMapper.PROCESS_PORT_TYPE_GUID,
+                ProcessPropertiesMapper.PROCESS_PORT_TYPE_NAME, PROCESS_GUID, PORT_IMPL_GUID, null);
+        verify(repositoryHandler, times(1)).getNewRelationship(ProcessPropertiesMapper.PROCESS_PORT_TYPE_GUID,
+                ProcessPropertiesMapper.PROCESS_PORT_TYPE_NAME, PROCESS_GUID, PORT_ALIAS_GUID, null);
+        verify(repositoryHandler, times(1)).createExternalInstances(eq(USER), eq(EXTERNAL_SOURCE_DE_GUID),
+                eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), any(InstanceGraph.class), eq(methodName));
+        verify(repositoryHandler, times(0)).createExternalRelationship(any(), any(), any(), any(), any(), any(),
+                any(), any());
+    }
+
     @Test
     void updateProcessStatus() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         final String methodName = "updateProcessStatus";
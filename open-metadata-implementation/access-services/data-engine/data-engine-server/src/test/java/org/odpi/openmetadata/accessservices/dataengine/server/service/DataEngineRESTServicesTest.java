@@ -637,8 +637,8 @@ class DataEngineRESTServicesTest {
 
         GUIDResponse response = dataEngineRESTServices.addPortsToProcess(USER, SERVER_NAME, PROCESS_GUID, requestBody);
 
-        verify(processHandler, times(1)).addProcessPortRelationship(USER, PROCESS_GUID, GUID
-                , EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(processHandler, times(1)).addProcessPortRelationships(USER, PROCESS_GUID,
+                Collections.singletonList(GUID), EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
         assertEquals(PROCESS_GUID, response.getGUID());
     }
 
@@ -660,8 +660,8 @@ class DataEngineRESTServicesTest {
         org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException mockedException =
                 mockException(org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException.class,
                         methodName);
-        doThrow(mockedException).when(processHandler).addProcessPortRelationship(USER, PROCESS_GUID, GUID
-                , EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doThrow(mockedException).when(processHandler).addProcessPortRelationships(USER, PROCESS_GUID,
+                Collections.singletonList(GUID), EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
 
         GUIDResponse response = dataEngineRESTServices.addPortsToProcess(USER, SERVER_NAME, PROCESS_GUID, requestBody);
         verify(restExceptionHandler, times(1)).captureInvalidParameterException(response, mockedException);
@@ -684,8 +684,8 @@ class DataEngineRESTServicesTest {
         org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException mockedException =
                 mockException(org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException.class,
                         methodName);
-        doThrow(mockedException).when(processHandler).addProcessPortRelationship(USER, PROCESS_GUID, GUID,
-                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doThrow(mockedException).when(processHandler).addProcessPortRelationships(USER, PROCESS_GUID,
+                Collections.singletonList(GUID), EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
 
         GUIDResponse response = dataEngineRESTServices.addPortsToProcess(USER, SERVER_NAME, PROCESS_GUID, requestBody);
         verify(restExceptionHandler, times(1)).captureUserNotAuthorizedException(response, mockedException);
@@ -699,8 +699,9 @@ class DataEngineRESTServicesTest {
 
         dataEngineRESTServices.addLineageMappings(USER, SERVER_NAME, requestBody);
 
-        verify(dataEngineSchemaTypeHandler, times(1)).addLineageMappingRelationship(USER, SOURCE_QUALIFIED_NAME,
-                TARGET_QUALIFIED_NAME, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(dataEngineSchemaTypeHandler, times(1)).addLineageMappingRelationships(USER,
+                Collections.singletonList(new LineageMapping(SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME)),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
     }
 
     @Test
@@ -719,8 +720,9 @@ class DataEngineRESTServicesTest {
         org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException mockedException =
                 mockException(org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException.class,
                         methodName);
-        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(USER,
-                SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationships(USER,
+                Collections.singletonList(new LineageMapping(SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME)),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
 
         VoidResponse response = dataEngineRESTServices.addLineageMappings(USER, SERVER_NAME, requestBody);
 
@@ -743,8 +745,9 @@ class DataEngineRESTServicesTest {
         org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException mockedException =
                 mockException(org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException.class,
                         methodName);
-        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(USER,
-                SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationships(USER,
+                Collections.singletonList(new LineageMapping(SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME)),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
 
         VoidResponse response = dataEngineRESTServices.addLineageMappings(USER, SERVER_NAME, requestBody);
 
@@ -16,6 +16,7 @@ import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.nodes
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.relationships.TermAnchorRelationship;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.*;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.GlossaryMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.TermMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.TermAnchorMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.utilities.OMRSAPIHelper;
@@ -318,24 +319,10 @@ public class SubjectAreaTermRESTServices extends SubjectAreaRESTServicesInstance
             {
                 EntityDetailsResponse entityDetailsResponse = (EntityDetailsResponse) response;
                 List<EntityDetail> entitydetails = entityDetailsResponse.getEntityDetails();
-                List<Term> terms = new ArrayList<>();
                 if (entitydetails == null) {
-                    response = new TermsResponse(terms);
+                    response = new TermsResponse(new ArrayList<>());
                 } else {
-                    for (EntityDetail entityDetail : entitydetails) {
-                        // call the getTerm so that the GlossarySummary and other parts are populated.
-                        response = getTermByGuid(serverName, userId, entityDetail.getGUID());
-                        if (response.getResponseCategory() == ResponseCategory.Term) {
-                            TermResponse termResponse = (TermResponse) response;
-                            Term term = termResponse.getTerm();
-                            terms.add(term);
-                        } else {
-                            break;
-                        }
-                    }
-                    if (response.getResponseCategory() == ResponseCategory.Term) {
-                        response = new TermsResponse(terms);
-                    }
+                    response = getTermsFromEntityDetails(methodName, userId, entitydetails);
                 }
             }
         }
@@ -347,6 +334,71 @@ public class SubjectAreaTermRESTServices extends SubjectAreaRESTServicesInstance
         return response;
     }
 
+    /**
+     * Map the found term entities to Terms, populating their GlossarySummaries.  The terms' anchor relationships are
+     * retrieved for each term but the glossaries they refer to are retrieved with a single call, so terms that share
+     * a glossary do not retrieve it again.
+     *
+     * @param methodName   rest API name
+     * @param userId       userId under which the request is performed
+     * @param entityDetails found term entities
+     * @return a response which when successful contains the terms
+     */
+    private SubjectAreaOMASAPIResponse getTermsFromEntityDetails(String methodName, String userId, List<EntityDetail> entityDetails) {
+        List<Term> terms = new ArrayList<>();
+        List<TermAnchorRelationship> termAnchors = new ArrayList<>();
+        Set<String> glossaryGuids = new LinkedHashSet<>();
+        String anchorTypeGuid = TypeGuids.getTermAnchorTypeGuid();
+
+        try {
+            for (EntityDetail entityDetail : entityDetails) {
+                Term term = (Term) new TermMapper(oMRSAPIHelper).mapEntityDetailToNode(entityDetail);
+                TermAnchorRelationship termAnchor = null;
+
+                SubjectAreaOMASAPIResponse response = oMRSAPIHelper.callGetRelationshipsForEntity(methodName, userId, entityDetail.getGUID(), anchorTypeGuid, 0, null, null, null, 0);
+                if (!response.getResponseCategory().equals(ResponseCategory.OmrsRelationships)) {
+                    return response;
+                }
+                List<Relationship> glossaryRelationships = ((RelationshipsResponse) response).getRelationships();
+                if (glossaryRelationships != null && glossaryRelationships.iterator().hasNext()) {
+                    termAnchor = (TermAnchorRelationship) new TermAnchorMapper(oMRSAPIHelper).mapRelationshipToLine(glossaryRelationships.iterator().next());
+                    glossaryGuids.add(termAnchor.getGlossaryGuid());
+                }
+                terms.add(term);
+                termAnchors.add(termAnchor);
+            }
+
+            Map<String, Glossary> glossaries = new HashMap<>();
+            if (!glossaryGuids.isEmpty()) {
+                SubjectAreaOMASAPIResponse response = oMRSAPIHelper.callOMRSGetEntitiesByGuids(methodName, userId, new ArrayList<>(glossaryGuids));
+                if (!response.getResponseCategory().equals(ResponseCategory.OmrsEntityDetails)) {
+                    return response;
+                }
+                List<EntityDetail> glossaryEntities = ((EntityDetailsResponse) response).getEntityDetails();
+                if (glossaryEntities != null) {
+                    GlossaryMapper glossaryMapper = new GlossaryMapper(oMRSAPIHelper);
+                    for (EntityDetail glossaryEntity : glossaryEntities) {
+                        glossaries.put(glossaryEntity.getGUID(), glossaryMapper.mapEntityDetailToNode(glossaryEntity));
+                    }
+                }
+            }
+
+            for (int i = 0; i < terms.size(); i++) {
+                TermAnchorRelationship termAnchor = termAnchors.get(i);
+                if (termAnchor != null) {
+                    Glossary glossary = glossaries.get(termAnchor.getGlossaryGuid());
+                    if (glossary != null) {
+                        terms.get(i).setGlossary(SubjectAreaUtils.extractGlossarySummaryFromGlossary(glossary, termAnchor));
+                    }
+                }
+            }
+        } catch (InvalidParameterException e) {
+            return OMASExceptionToResponse.convertInvalidParameterException(e);
+        }
+
+        return new TermsResponse(terms);
+    }
+
     /**
      * Update a Term
      * <p>
@@ -241,6 +241,55 @@ public class OMRSAPIHelper {
     }
 
 
+    /**
+     * Get the entities with the supplied guids with a single call to omrs.  Entities that are not known are left out
+     * of the response.
+     *
+     * @param restAPIName rest API name
+     * @param userId userId under which the request is performed
+     * @param entityGUIDs guids of the entities to get
+     * @return EntityDetailsResponse containing the entities in the order of the supplied guids, or an error response
+     */
+    public SubjectAreaOMASAPIResponse callOMRSGetEntitiesByGuids(String restAPIName, String userId , List<String> entityGUIDs) {
+
+        String methodName = "callOMRSGetEntitiesByGuids";
+        if (log.isDebugEnabled()) {
+            log.debug("==> Method: " + methodName );
+        }
+        SubjectAreaOMASAPIResponse response = null;
+
+        try {
+            List<EntityDetail> gotEntityDetails = getOMRSMetadataCollection(restAPIName).getEntitiesByGUIDs(userId, entityGUIDs);
+            response = new EntityDetailsResponse(gotEntityDetails);
+        } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException e) {
+           response =  this.errorHandler.handleInvalidParameterException(e,
+                    restAPIName,
+                    serverName,
+                    serviceName);
+        } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException e) {
+           response =  this.errorHandler.handleRepositoryError(e,
+                    restAPIName,
+                    serverName,
+                    serviceName);
+        } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException e) {
+           response =  this.errorHandler.handleUnauthorizedUser(userId,
+                    restAPIName,
+                    serverName,
+                    serviceName);
+        } catch (MetadataServerUncontactableException e)
+        {
+            response =  this.errorHandler.handleMetadataServerUnContactable(e,
+                    restAPIName,
+                    serverName,
+                    serviceName);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("<== Method: " + methodName );
+        }
+        return response;
+    }
+
+
     public SubjectAreaOMASAPIResponse callFindEntitiesByPropertyValue(String restAPIName, String     userId,
                                                          String                    entityTypeGUID,
                                                          String                    searchCriteria ,
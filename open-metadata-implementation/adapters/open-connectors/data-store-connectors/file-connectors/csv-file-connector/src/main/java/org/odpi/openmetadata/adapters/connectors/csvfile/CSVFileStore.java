@@ -42,8 +42,8 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned the first time this is called and
+     * again whenever the file changes.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +74,19 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return a batch of data records starting at the requested record.  This is used to step through the file
+     * a page at a time.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.
+     *
+     * @param startingRecordNumber first record to return
+     * @param maximumRecords maximum number of records to return (0 means return all of the remaining records)
+     * @return list of records, each record is a list of strings, one for each column
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the starting record.
+     */
+    List<List<String>> readRecords(int  startingRecordNumber,
+                                   int  maximumRecords) throws FileException, FileReadException;
 }
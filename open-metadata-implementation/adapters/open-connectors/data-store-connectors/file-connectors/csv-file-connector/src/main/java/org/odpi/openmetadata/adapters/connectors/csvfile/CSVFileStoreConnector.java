@@ -12,8 +12,14 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 
@@ -29,6 +35,20 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
 
+    /*
+     * The record index holds the byte offset of every recordIndexInterval'th row in the file.  The cursor
+     * is the position of the row following the last row read.  The index is rebuilt when the file changes.
+     */
+    private static final int recordIndexInterval = 1000;
+    private static final int readBufferSize      = 65536;
+
+    private long[]         recordIndex         = null;
+    private int            indexedRowCount     = 0;
+    private long           indexedFileLength   = -1;
+    private long           indexedLastModified = -1;
+    private int            cursorRowNumber     = -1;
+    private long           cursorPosition      = -1;
+
     /*
      * Variables used for logging and debug.
      */
@@ -127,8 +147,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned the first time this is called and
+     * again whenever the file changes.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,40 +158,12 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
-
         File fileStore = getFile(methodName);
+        long rowCount  = getRowCount(fileStore, methodName);
 
-        try
-        {
-            Scanner scanner  = new Scanner(fileStore);
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-            scanner.close();
-
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
+        if ((rowCount > 0) && (columnNames == null))
         {
-            CSVFileConnectorErrorCode errorCode = CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
-            String                    errorMessage = errorCode.getErrorMessageId()
-                                                   + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                        error.getMessage());
-
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -200,7 +192,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
         }
         else
         {
-            return readRow(0, methodName);
+            return readRows(0, 1, methodName).get(0);
         }
     }
 
@@ -218,55 +210,156 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "readRecord";
 
+        return readRows(getRowNumber(dataRecordNumber), 1, methodName).get(0);
+    }
+
+
+    /**
+     * Return a batch of data records starting at the requested record.  This is used to step through the file
+     * a page at a time.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.
+     *
+     * @param startingRecordNumber first record to return
+     * @param maximumRecords maximum number of records to return (0 means return all of the remaining records)
+     * @return list of records, each record is a list of strings, one for each column
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the starting record.
+     */
+    public List<List<String>> readRecords(int  startingRecordNumber,
+                                          int  maximumRecords) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        return readRows(getRowNumber(startingRecordNumber), maximumRecords, methodName);
+    }
+
+
+    /**
+     * Convert a data record number into a row number in the file.
+     *
+     * @param dataRecordNumber data record number
+     * @return row number
+     */
+    private int  getRowNumber(int  dataRecordNumber)
+    {
         if (columnNames == null)
         {
-            return readRow(dataRecordNumber + 1, methodName);
+            return dataRecordNumber + 1;
         }
         else
         {
-            return readRow(dataRecordNumber, methodName);
+            return dataRecordNumber;
         }
     }
 
 
     /**
-     * Return the requested row in the file.  The first record is record 0.
+     * Return the number of rows in the file.  The record index is rebuilt if the file has changed since it was
+     * last scanned.  Blank lines at the end of the file are not counted.
      *
-     * @param recordLocation long
+     * @param fileStore file to scan
      * @param methodName name of calling method
-     * @return List of strings, each string is the value from the column.
-     * @throws FileException problem accessing the file
-     * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
+     * @return row count
+     * @throws FileReadException unable to scan the file
      */
-    private List<String>      readRow(int     recordLocation,
-                                      String  methodName) throws FileException, FileReadException
+    private synchronized int  getRowCount(File    fileStore,
+                                          String  methodName) throws FileReadException
     {
+        if ((recordIndex == null) ||
+            (fileStore.length() != indexedFileLength) ||
+            (fileStore.lastModified() != indexedLastModified))
+        {
+            this.buildRecordIndex(fileStore, methodName);
+        }
 
-        File fileStore = super.getFile(methodName);
+        return indexedRowCount;
+    }
 
-        try
+
+    /**
+     * Scan the file to count the rows and save the position of every recordIndexInterval'th row.
+     * This means any row can be located by reading at most recordIndexInterval rows.
+     *
+     * @param fileStore file to scan
+     * @param methodName name of calling method
+     * @throws FileReadException unable to scan the file
+     */
+    private void buildRecordIndex(File    fileStore,
+                                  String  methodName) throws FileReadException
+    {
+        long   fileLength   = fileStore.length();
+        long   lastModified = fileStore.lastModified();
+        long[] rowPositions = new long[16];
+        int    indexSize    = 0;
+        int    rowNumber    = 0;
+        int    rowCount     = 0;
+
+        try (CSVRowReader rowReader = new CSVRowReader(fileStore, 0, quoteChar))
         {
-            Scanner scanner        = new Scanner(fileStore);
+            long rowPosition = rowReader.getPosition();
 
-            int rowCounter = 0;
-            while (scanner.hasNext())
+            while (rowReader.nextRow(null))
             {
-                if (rowCounter == recordLocation)
+                if (rowNumber % recordIndexInterval == 0)
                 {
-                    return parseRecord(scanner.nextLine());
+                    if (indexSize == rowPositions.length)
+                    {
+                        rowPositions = Arrays.copyOf(rowPositions, indexSize * 2);
+                    }
+
+                    rowPositions[indexSize] = rowPosition;
+                    indexSize ++;
                 }
-                else
+
+                rowNumber ++;
+
+                if (! rowReader.isBlankRow())
                 {
-                    scanner.nextLine();
+                    rowCount = rowNumber;
                 }
-                rowCounter ++;
+
+                rowPosition = rowReader.getPosition();
             }
-            scanner.close();
+        }
+        catch (IOException  error)
+        {
+            throw getUnexpectedIOException(error, methodName);
+        }
 
+        this.recordIndex = Arrays.copyOf(rowPositions, indexSize);
+        this.indexedRowCount = rowCount;
+        this.indexedFileLength = fileLength;
+        this.indexedLastModified = lastModified;
+        this.cursorRowNumber = -1;
+        this.cursorPosition = -1;
+    }
+
+
+    /**
+     * Return the requested rows in the file.  The first row is row 0.  The read starts from the nearest
+     * indexed row, or from the end of the previous read if that is closer, so stepping through the file
+     * in order only reads each row once.
+     *
+     * @param firstRowNumber first row to return
+     * @param maximumRows maximum number of rows to return (0 means all of the remaining rows)
+     * @param methodName name of calling method
+     * @return list of rows, each row is a list of strings, one for each column.
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the requested row.
+     */
+    private synchronized List<List<String>> readRows(int     firstRowNumber,
+                                                     int     maximumRows,
+                                                     String  methodName) throws FileException, FileReadException
+    {
+        File fileStore = super.getFile(methodName);
+        int  rowCount  = getRowCount(fileStore, methodName);
+
+        if ((firstRowNumber < 0) || (firstRowNumber >= rowCount))
+        {
             CSVFileConnectorErrorCode errorCode = CSVFileConnectorErrorCode.FILE_TOO_SHORT;
             String                    errorMessage = errorCode.getErrorMessageId()
                                                    + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                        Integer.toString(recordLocation));
+                                                                                        Integer.toString(firstRowNumber));
 
             throw new FileReadException(errorCode.getHTTPErrorCode(),
                                         this.getClass().getName(),
@@ -275,30 +368,84 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
                                         errorCode.getSystemAction(),
                                         errorCode.getUserAction(),
                                         fileStoreName);
+        }
+
+        int lastRowNumber = rowCount;
 
+        if ((maximumRows > 0) && (maximumRows < rowCount - firstRowNumber))
+        {
+            lastRowNumber = firstRowNumber + maximumRows;
         }
-        catch (IOException  error)
+
+        int  startRowNumber = (firstRowNumber / recordIndexInterval) * recordIndexInterval;
+        long startPosition  = recordIndex[firstRowNumber / recordIndexInterval];
+
+        if ((cursorRowNumber >= startRowNumber) && (cursorRowNumber <= firstRowNumber))
         {
-            CSVFileConnectorErrorCode errorCode = CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
-            String                    errorMessage = errorCode.getErrorMessageId()
-                                                   + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                        error.getMessage());
+            startRowNumber = cursorRowNumber;
+            startPosition = cursorPosition;
+        }
 
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        error,
-                                        fileStoreName);
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CSVRowReader rowReader = new CSVRowReader(fileStore, startPosition, quoteChar))
+        {
+            for (int rowNumber = startRowNumber; rowNumber < firstRowNumber; rowNumber++)
+            {
+                rowReader.nextRow(null);
+            }
+
+            ByteArrayOutputStream rowBytes = new ByteArrayOutputStream();
+
+            for (int rowNumber = firstRowNumber; rowNumber < lastRowNumber; rowNumber++)
+            {
+                rowBytes.reset();
+                rowReader.nextRow(rowBytes);
+                rows.add(parseRecord(new String(rowBytes.toByteArray(), StandardCharsets.UTF_8)));
+            }
+
+            cursorRowNumber = lastRowNumber;
+            cursorPosition = rowReader.getPosition();
+        }
+        catch (IOException  error)
+        {
+            throw getUnexpectedIOException(error, methodName);
         }
+
+        return rows;
     }
 
 
     /**
-     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
-     * and other tricks found in CSV files are handled.
+     * Return the exception to throw when an IO exception occurs reading the file.
+     *
+     * @param error IO exception
+     * @param methodName name of calling method
+     * @return exception to throw
+     */
+    private FileReadException getUnexpectedIOException(IOException  error,
+                                                       String       methodName)
+    {
+        CSVFileConnectorErrorCode errorCode = CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
+        String                    errorMessage = errorCode.getErrorMessageId()
+                                               + errorCode.getFormattedErrorMessage(fileStoreName,
+                                                                                    error.getMessage());
+
+        return new FileReadException(errorCode.getHTTPErrorCode(),
+                                     this.getClass().getName(),
+                                     methodName,
+                                     errorMessage,
+                                     errorCode.getSystemAction(),
+                                     errorCode.getUserAction(),
+                                     error,
+                                     fileStoreName);
+    }
+
+
+    /**
+     * Step through the record, character by character, extracting each column following the rules of RFC 4180.
+     * A value enclosed in the quote character may include the delimiter, line breaks and quote characters;
+     * a quote character inside a quoted value is escaped by doubling it.
      *
      * @param fileRecord a single record from the CSV file store
      * @return an array of column values extracted from the record
@@ -310,82 +457,186 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             return null;
         }
 
-        List<String> result = new ArrayList<>();
-        StringBuffer currentValue = new StringBuffer();
-
-        boolean inQuotes = false;
-        boolean startCollectingCharacters = false;
-        boolean doubleQuotesInColumn = false;
+        List<String>  result       = new ArrayList<>();
+        StringBuilder currentValue = new StringBuilder();
+        boolean       inQuotes     = false;
+        int           length       = fileRecord.length();
 
-        char[] characters = fileRecord.toCharArray();
+        /*
+         * The line feed is removed when the record is read, leaving the carriage return of a CRLF line break.
+         */
+        if (fileRecord.charAt(length - 1) == '\r')
+        {
+            length = length - 1;
+        }
 
-        for (char character : characters)
+        for (int i = 0; i < length; i++)
         {
+            char character = fileRecord.charAt(i);
+
             if (inQuotes)
             {
-                startCollectingCharacters = true;
                 if (character == quoteChar)
                 {
-                    inQuotes = false;
-                    doubleQuotesInColumn = false;
-                }
-                else
-                {
-                    if (character == '\"')
+                    if ((i + 1 < length) && (fileRecord.charAt(i + 1) == quoteChar))
                     {
-                        if (!doubleQuotesInColumn)
-                        {
-                            currentValue.append(character);
-                            doubleQuotesInColumn = true;
-                        }
+                        currentValue.append(character);
+                        i++;
                     }
                     else
                     {
-                        currentValue.append(character);
+                        inQuotes = false;
                     }
-
+                }
+                else
+                {
+                    currentValue.append(character);
                 }
             }
+            else if (character == quoteChar)
+            {
+                inQuotes = true;
+            }
+            else if (character == delimiterChar)
+            {
+                result.add(currentValue.toString());
+                currentValue.setLength(0);
+            }
             else
             {
-                if (character == quoteChar)
-                {
+                currentValue.append(character);
+            }
+        }
 
-                    inQuotes = true;
+        result.add(currentValue.toString());
 
-                    if (characters[0] != '"' && quoteChar == '\"')
-                    {
-                        currentValue.append('"');
-                    }
+        return result;
+    }
 
-                    if (startCollectingCharacters)
-                    {
-                        currentValue.append('"');
-                    }
-                }
-                else if (character == delimiterChar)
-                {
-                    result.add(currentValue.toString());
 
-                    currentValue = new StringBuffer();
-                    startCollectingCharacters = false;
+    /**
+     * CSVRowReader reads the rows of the file from a starting position.  A row ends at a line feed that is not
+     * inside a quoted value.  It works on the bytes of the file so it supports any character set where the
+     * line feed and quote character are encoded as single bytes.  The rows are decoded as UTF-8.
+     */
+    private static class CSVRowReader implements Closeable
+    {
+        private final InputStream inputStream;
+        private final int         quoteByte;
+        private long              position;
+        private boolean           blankRow = true;
+
+
+        /**
+         * Open the file at the requested position.
+         *
+         * @param fileStore file to read
+         * @param startPosition byte offset of the first row to read
+         * @param quoteChar character used to enclose values
+         * @throws IOException unable to open the file
+         */
+        CSVRowReader(File    fileStore,
+                     long    startPosition,
+                     char    quoteChar) throws IOException
+        {
+            FileInputStream fileInputStream = new FileInputStream(fileStore);
+
+            fileInputStream.getChannel().position(startPosition);
+
+            this.inputStream = new BufferedInputStream(fileInputStream, readBufferSize);
+            this.position = startPosition;
 
+            if (quoteChar < 0x80)
+            {
+                this.quoteByte = quoteChar;
+            }
+            else
+            {
+                this.quoteByte = -1;
+            }
+        }
+
+
+        /**
+         * Read the next row.
+         *
+         * @param rowBytes buffer to receive the content of the row without its line feed (or null to skip the row)
+         * @return boolean flag indicating whether there was a row to read
+         * @throws IOException problem reading the file
+         */
+        boolean nextRow(ByteArrayOutputStream rowBytes) throws IOException
+        {
+            int     nextByte = inputStream.read();
+            boolean inQuotes = false;
+
+            if (nextByte == -1)
+            {
+                return false;
+            }
+
+            blankRow = true;
+
+            while (nextByte != -1)
+            {
+                position ++;
+
+                if (nextByte == quoteByte)
+                {
+                    inQuotes = ! inQuotes;
+                }
+                else if ((nextByte == '\n') && (! inQuotes))
+                {
+                    return true;
                 }
-                else if (character == '\n')
+
+                if ((blankRow) && (! Character.isWhitespace(nextByte)))
                 {
-                    break;
+                    blankRow = false;
                 }
-                else if (character != '\r')
+
+                if (rowBytes != null)
                 {
-                    currentValue.append(character);
+                    rowBytes.write(nextByte);
                 }
+
+                nextByte = inputStream.read();
             }
 
+            return true;
         }
 
-        result.add(currentValue.toString());
 
-        return result;
+        /**
+         * Return whether the last row read only contained white space.
+         *
+         * @return boolean
+         */
+        boolean isBlankRow()
+        {
+            return blankRow;
+        }
+
+
+        /**
+         * Return the byte offset of the next row.
+         *
+         * @return offset in the file
+         */
+        long getPosition()
+        {
+            return position;
+        }
+
+
+        /**
+         * Close the file.
+         *
+         * @throws IOException problem closing the file
+         */
+        public void close() throws IOException
+        {
+            inputStream.close();
+        }
     }
 
 
@@ -10,8 +10,12 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -165,6 +169,97 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testReadRecords()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + complexColumnsWithColumnNamesFile));
+            connector.start();
+
+            List<List<String>> records = connector.readRecords(0, 0);
+            assertTrue(records.size() == connector.getRecordCount());
+
+            for (int i=0; i<records.size(); i++)
+            {
+                assertEquals(records.get(i), connector.readRecord(i));
+            }
+
+            assertEquals(connector.readRecord(3).get(5), "Data Steward, \"New\" Clinical Trials");
+            assertEquals(connector.readRecords(2, 3), records.subList(2, 5));
+            assertEquals(connector.readRecords(records.size() - 1, 10), records.subList(records.size() - 1, records.size()));
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    @Test public void testMultiLineValues()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            File testFile = File.createTempFile("MultiLineValues", ".csv");
+            testFile.deleteOnExit();
+
+            Files.write(testFile.toPath(), "Id,Notes\n1,\"First line\nSecond line\"\n2,Simple\n".getBytes(StandardCharsets.UTF_8));
+
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getAbsolutePath()));
+            connector.start();
+
+            assertTrue(connector.getRecordCount() == 2);
+            assertEquals(connector.readRecord(0).get(1), "First line\nSecond line");
+            assertEquals(connector.readRecord(1).get(1), "Simple");
+
+            /*
+             * The file is changed so the record index is rebuilt.
+             */
+            Files.write(testFile.toPath(), "Id,Notes\n1,Changed\n2,Simple\n3,Added\n".getBytes(StandardCharsets.UTF_8));
+
+            assertTrue(connector.getRecordCount() == 3);
+            assertEquals(connector.readRecord(2).get(1), "Added");
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    @Test public void testUTF8Values()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            File testFile = File.createTempFile("UTF8Values", ".csv");
+            testFile.deleteOnExit();
+
+            Files.write(testFile.toPath(), "Id,Name\n1,Caf\u00e9 M\u00fcller\n2,\u65e5\u672c\n".getBytes(StandardCharsets.UTF_8));
+
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getAbsolutePath()));
+            connector.start();
+
+            assertEquals(connector.readRecord(0).get(1), "Caf\u00e9 M\u00fcller");
+            assertEquals(connector.readRecord(1).get(1), "\u65e5\u672c");
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
     @Test public void testUnconventionalFile()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
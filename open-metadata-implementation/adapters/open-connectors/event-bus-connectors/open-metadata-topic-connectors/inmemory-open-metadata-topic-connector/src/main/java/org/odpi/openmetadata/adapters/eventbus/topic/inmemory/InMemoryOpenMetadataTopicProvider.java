@@ -38,6 +38,8 @@ public class InMemoryOpenMetadataTopicProvider extends OpenMetadataTopicProvider
 
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(sleepTimeProperty);
+        recognizedConfigurationProperties.add(listenerThreadsProperty);
+        recognizedConfigurationProperties.add(listenerQueueSizeProperty);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
@@ -2,9 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -12,7 +14,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -21,10 +28,22 @@ import java.util.concurrent.ExecutionException;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * By default each event is acknowledged by Kafka before the next one is sent.  In asynchronous mode, events are
+ * sent as soon as they are available and Kafka's acknowledgements are processed in callbacks.  The number of
+ * unacknowledged events is bounded so the producer waits when Kafka falls behind.  All of the events
+ * from this producer use the same key so Kafka keeps them in order on the topic.  An event that Kafka fails to
+ * deliver in asynchronous mode, or that could not be handed to Kafka, is resent in the same way as in synchronous
+ * mode.  It may then arrive after the events that were already in flight, but no new events are sent until it
+ * has been delivered.
+ *
+ * The number of events waiting to be sent is bounded.  When the buffer is full, the caller waits for space
+ * for a configured time and then the event is discarded and the loss is recorded in the audit log.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private volatile List<String> sendBuffer = new ArrayList<>();
+    private final BlockingQueue<String> sendBuffer;
+    private final BlockingQueue<String> retryBuffer = new LinkedBlockingQueue<>();
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
@@ -43,7 +62,16 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     private Producer<String, String>        producer;
     private KafkaOpenMetadataTopicConnector connector;
 
-    private long    messageSendCount = 0;
+    private boolean                         asyncSend;
+    private int                             maxInFlightEvents;
+    private Semaphore                       inFlightEvents;
+    private long                            queueFullWaitTime;
+
+    private final AtomicLong messageSendCount       = new AtomicLong(0);
+    private final AtomicLong messageFailureCount    = new AtomicLong(0);
+    private final AtomicLong messageDiscardCount    = new AtomicLong(0);
+    private final AtomicLong totalSendLatencyNanos  = new AtomicLong(0);
+    private final AtomicLong maxSendLatencyNanos    = new AtomicLong(0);
 
 
     /**
@@ -52,15 +80,17 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      *
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
+     * @param producerConfig egeria specific configuration for the producer.
      * @param producerProperties properties for the consumer.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
      */
-    KafkaOpenMetadataEventProducer(String                          topicName,
-                                   String                          localServerId,
-                                   Properties                      producerProperties,
-                                   KafkaOpenMetadataTopicConnector connector,
-                                   OMRSAuditLog                    auditLog)
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   KafkaOpenMetadataEventProducerConfiguration producerConfig,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   OMRSAuditLog                                auditLog)
     {
         this.auditLog = auditLog;
         this.topicName = topicName;
@@ -69,6 +99,19 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         this.producerProperties = producerProperties;
         this.listenerThreadName = defaultThreadName + topicName;
 
+        this.asyncSend = producerConfig.getBooleanProperty(KafkaOpenMetadataEventProducerProperty.ASYNC_SEND);
+        this.maxInFlightEvents = Math.max(producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_EVENTS), 1);
+        this.inFlightEvents = new Semaphore(maxInFlightEvents);
+        this.sendBuffer = new LinkedBlockingQueue<>(Math.max(producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_QUEUED_EVENTS), 1));
+        this.queueFullWaitTime = Math.max(producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.QUEUE_FULL_WAIT_TIME), 0);
+
+        if (asyncSend)
+        {
+            /*
+             * With more than one request in flight, a retry inside the Kafka producer could reorder the events.
+             */
+            producerProperties.putIfAbsent("max.in.flight.requests.per.connection", "1");
+        }
 
         final String           actionDescription = "new producer";
         KafkaOpenMetadataTopicConnectorAuditCode auditCode;
@@ -104,9 +147,11 @@ public class KafkaOpenMetadataEventProducer implements Runnable
             {
                 log.debug("Sending message {0}" + event);
                 ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
+                long sendStartTime = System.nanoTime();
                 producer.send(record).get();
                 eventSent = true;
-                messageSendCount++;
+                this.recordSendLatency(sendStartTime);
+                messageSendCount.incrementAndGet();
             }
             catch (ExecutionException error)
             {
@@ -129,7 +174,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                                            auditCode.getLogMessageId(),
                                            auditCode.getSeverity(),
                                            auditCode.getFormattedLogMessage(topicName,
-                                                                            Long.toString(messageSendCount),
+                                                                            Long.toString(messageSendCount.get()),
                                                                             Long.toString(this.getSendBufferSize()),
                                                                             error.getMessage()),
                                            null,
@@ -146,19 +191,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
             }
             catch (Throwable error)
             {
-                log.error("Exception in sendEvent " + error.toString());
-                KafkaOpenMetadataTopicConnectorErrorCode errorCode = KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT;
-                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(error.getClass().getName(),
-                                                                                                         topicName,
-                                                                                                         error.getMessage());
-
-                throw new ConnectorCheckedException(errorCode.getHTTPErrorCode(),
-                                                    this.getClass().getName(),
-                                                    methodName,
-                                                    errorMessage,
-                                                    errorCode.getSystemAction(),
-                                                    errorCode.getUserAction(),
-                                                    error);
+                throw this.getSendException(error, methodName);
             }
             finally
             {
@@ -172,6 +205,75 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     }
 
 
+    /**
+     * Sends the supplied event to the topic without waiting for it to be acknowledged.  The call waits if the
+     * maximum number of events are already in flight.  The result of the send is processed in a callback.
+     *
+     * @param event object containing the event properties.
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     * @throws InterruptedException the thread was interrupted waiting for events in flight to complete
+     */
+    private void publishEventAsync(String event) throws ConnectorCheckedException, InterruptedException
+    {
+        final String methodName = "publishEventAsync";
+
+        inFlightEvents.acquire();
+
+        try
+        {
+            log.debug("Sending message {0}" + event);
+            ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
+            producer.send(record, new SendCallback(event, System.nanoTime()));
+        }
+        catch (Throwable error)
+        {
+            inFlightEvents.release();
+
+            throw this.getSendException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Build the exception for an unexpected error sending an event.
+     *
+     * @param error error from Kafka
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private ConnectorCheckedException getSendException(Throwable error,
+                                                       String    methodName)
+    {
+        log.error("Exception in sendEvent " + error.toString());
+        KafkaOpenMetadataTopicConnectorErrorCode errorCode = KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT;
+        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(error.getClass().getName(),
+                                                                                                 topicName,
+                                                                                                 error.getMessage());
+
+        return new ConnectorCheckedException(errorCode.getHTTPErrorCode(),
+                                             this.getClass().getName(),
+                                             methodName,
+                                             errorMessage,
+                                             errorCode.getSystemAction(),
+                                             errorCode.getUserAction(),
+                                             error);
+    }
+
+
+    /**
+     * Add the time taken to send an event to the latency metrics.
+     *
+     * @param sendStartTime value of System.nanoTime() when the send started
+     */
+    private void recordSendLatency(long sendStartTime)
+    {
+        long latency = System.nanoTime() - sendStartTime;
+
+        totalSendLatencyNanos.addAndGet(latency);
+        maxSendLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+
     /**
      * This is the method that provides the behaviour of the thread.
      */
@@ -194,36 +296,79 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
         while (isRunning())
         {
+            String bufferedEvent = null;
+
             try
             {
-                String bufferedEvent = this.getEvent();
+                /*
+                 * Resend the events that were not delivered, waiting for each one to be acknowledged.  The events
+                 * still in flight complete first so that any of them that fail are resent in the order they
+                 * were sent.
+                 */
+                if (! retryBuffer.isEmpty())
+                {
+                    this.waitForInFlightEvents();
+                }
+
+                bufferedEvent = retryBuffer.poll();
+
+                while (bufferedEvent != null)
+                {
+                    publishEvent(bufferedEvent);
+
+                    bufferedEvent = retryBuffer.poll();
+                }
 
                 /*
-                 * If there are no events waiting then sleep
+                 * Wait for the next event.  The timeout is only there so the running flag and the retry buffer
+                 * are checked periodically.
                  */
-                if (bufferedEvent == null)
+                bufferedEvent = sendBuffer.poll(sleepTime, TimeUnit.MILLISECONDS);
+
+                /*
+                 * Send all waiting events.  If an event fails in the meantime, no more events are sent until
+                 * it has been resent.  The event just taken from the send buffer is queued behind it.
+                 */
+                while (bufferedEvent != null)
                 {
-                    Thread.sleep(sleepTime);
+                    if (! retryBuffer.isEmpty())
+                    {
+                        this.waitForInFlightEvents();
+                        this.retryEvent(bufferedEvent);
+                        bufferedEvent = null;
+                    }
+                    else
+                    {
+                        if (asyncSend)
+                        {
+                            publishEventAsync(bufferedEvent);
+                        }
+                        else
+                        {
+                            publishEvent(bufferedEvent);
+                        }
+
+                        bufferedEvent = sendBuffer.poll();
+                    }
                 }
-                else
+
+                if (asyncSend)
                 {
                     /*
-                     * Send all waiting events
+                     * The buffer is empty so push out any events that Kafka is holding back to build a batch.
                      */
-                    while (bufferedEvent != null)
-                    {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
-                    }
+                    producer.flush();
                 }
             }
             catch (InterruptedException   error)
             {
                 log.info("Woken up from sleep " + error.getMessage());
+                this.retryEvent(bufferedEvent);
             }
             catch (Throwable   error)
             {
                 log.error("Bad exception from sending events " + error.getMessage());
+                this.retryEvent(bufferedEvent);
                 this.recoverAfterError();
             }
         }
@@ -235,7 +380,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         auditLog.logRecord(listenerThreadName,
                            auditCode.getLogMessageId(),
                            auditCode.getSeverity(),
-                           auditCode.getFormattedLogMessage(topicName, Integer.toString(getSendBufferSize()), Long.toString(messageSendCount)),
+                           auditCode.getFormattedLogMessage(topicName, Integer.toString(getSendBufferSize()), Long.toString(messageSendCount.get())),
                            this.producerProperties.toString(),
                            auditCode.getSystemAction(),
                            auditCode.getUserAction());
@@ -243,51 +388,176 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
 
     /**
-     * Supports putting events to the in memory OMRS Topic
+     * Wait for Kafka to acknowledge or fail all of the events sent in asynchronous mode.  Any that fail are
+     * in the retry buffer when this method returns.
      *
-     * @param newEvent  event to publish
+     * @throws InterruptedException the thread was interrupted while waiting
      */
-    private synchronized void putEvent(String  newEvent)
+    private void waitForInFlightEvents() throws InterruptedException
     {
-        sendBuffer.add(newEvent);
+        producer.flush();
+        inFlightEvents.acquire(maxInFlightEvents);
+        inFlightEvents.release(maxInFlightEvents);
     }
 
 
     /**
-     * Returns the size of the send buffer
+     * Queue an event that was not delivered so it is resent.
+     *
+     * @param event event or null if no event was being sent
+     */
+    private void retryEvent(String event)
+    {
+        if (event != null)
+        {
+            retryBuffer.add(event);
+        }
+    }
+
+
+    /**
+     * Returns the number of events waiting to be sent or resent.
      *
      * @return int
      */
-    private synchronized int getSendBufferSize()
+    private int getSendBufferSize()
+    {
+        return sendBuffer.size() + retryBuffer.size();
+    }
+
+
+    /**
+     * Sends the supplied event to the topic.  If the send buffer is full, the caller waits for space.  The event
+     * is discarded if there is still no space after the configured wait time.
+     *
+     * @param event  OMRSEvent object containing the event properties.
+     */
+    public void sendEvent(String event)
+    {
+        final String methodName = "sendEvent";
+
+        boolean eventQueued = false;
+
+        try
+        {
+            eventQueued = sendBuffer.offer(event, queueFullWaitTime, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (! eventQueued)
+        {
+            long discardCount = messageDiscardCount.incrementAndGet();
+
+            log.debug("Send buffer full; discarding event: " + event);
+
+            /*
+             * The first discarded event and every thousandth one after it are logged to the audit log.
+             */
+            if (discardCount == 1 || discardCount % 1000 == 0)
+            {
+                KafkaOpenMetadataTopicConnectorAuditCode auditCode;
+
+                auditCode = KafkaOpenMetadataTopicConnectorAuditCode.EVENT_DISCARDED;
+                auditLog.logRecord(methodName,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(topicName,
+                                                                    Integer.toString(this.getSendBufferSize()),
+                                                                    Long.toString(discardCount)),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of events waiting to be sent.
+     *
+     * @return count of events
+     */
+    public int getSendQueueDepth()
+    {
+        return this.getSendBufferSize();
+    }
+
+
+    /**
+     * Return the number of events that have been sent but not yet acknowledged by Kafka.
+     * This is only non-zero in asynchronous mode.
+     *
+     * @return count of events
+     */
+    public int getInFlightEventCount()
+    {
+        return maxInFlightEvents - inFlightEvents.availablePermits();
+    }
+
+
+    /**
+     * Return the number of events successfully sent.
+     *
+     * @return count of events
+     */
+    public long getMessageSendCount()
+    {
+        return messageSendCount.get();
+    }
+
+
+    /**
+     * Return the number of times that Kafka failed to deliver an event in asynchronous mode.  Each of these
+     * events is resent.
+     *
+     * @return count of events
+     */
+    public long getMessageFailureCount()
     {
-        return sendBuffer.size();
+        return messageFailureCount.get();
     }
 
 
     /**
-     * Returns all of the events found on the in memory OMRS Topic.
+     * Return the number of events discarded because the send buffer was full.
      *
-     * @return list of received events.
+     * @return count of events
      */
-    private synchronized String getEvent()
+    public long getMessageDiscardCount()
     {
-        if (sendBuffer.isEmpty())
+        return messageDiscardCount.get();
+    }
+
+
+    /**
+     * Return the average time between sending an event and Kafka acknowledging it.
+     *
+     * @return time in milliseconds
+     */
+    public double getAverageSendLatency()
+    {
+        long sendCount = messageSendCount.get();
+
+        if (sendCount == 0)
         {
-            return null;
+            return 0;
         }
 
-        return sendBuffer.remove(0);
+        return (double)totalSendLatencyNanos.get() / sendCount / 1000000;
     }
 
 
     /**
-     * Sends the supplied event to the topic.
+     * Return the longest time between sending an event and Kafka acknowledging it.
      *
-     * @param event  OMRSEvent object containing the event properties.
+     * @return time in milliseconds
      */
-    public void sendEvent(String event)
+    public double getMaxSendLatency()
     {
-        this.putEvent(event);
+        return (double)maxSendLatencyNanos.get() / 1000000;
     }
 
 
@@ -323,7 +593,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      *
      * @return boolean
      */
-    private synchronized  boolean isRunning()
+    private boolean isRunning()
     {
         return running;
     }
@@ -332,9 +602,84 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     /**
      * Flip the switch to stop the thread.
      */
-    private synchronized void stopRunning()
+    private void stopRunning()
     {
         running = false;
     }
 
+
+    /**
+     * SendCallback processes Kafka's acknowledgement of an event sent in asynchronous mode.
+     */
+    private class SendCallback implements Callback
+    {
+        private String event;
+        private long   sendStartTime;
+
+
+        /**
+         * Constructor records the event and when it was sent.
+         *
+         * @param event event being sent
+         * @param sendStartTime value of System.nanoTime() when the send started
+         */
+        SendCallback(String event,
+                     long   sendStartTime)
+        {
+            this.event = event;
+            this.sendStartTime = sendStartTime;
+        }
+
+
+        /**
+         * Called by the Kafka producer's thread once the event is acknowledged or has failed.
+         *
+         * @param metadata details of where the event was stored (null if failed)
+         * @param error exception if the send failed (null if successful)
+         */
+        @Override
+        public void onCompletion(RecordMetadata metadata, Exception error)
+        {
+            final String methodName = "onCompletion";
+
+            if (error == null)
+            {
+                recordSendLatency(sendStartTime);
+                messageSendCount.incrementAndGet();
+            }
+            else
+            {
+                long failureCount = messageFailureCount.incrementAndGet();
+
+                log.debug("Kafka was unable to send event: exception message is " + error.getMessage());
+                retryEvent(event);
+
+                /*
+                 * The first failure and every thousandth failure after it are logged to the audit log.
+                 */
+                if (failureCount == 1 || failureCount % 1000 == 0)
+                {
+                    KafkaOpenMetadataTopicConnectorAuditCode auditCode;
+
+                    auditCode = KafkaOpenMetadataTopicConnectorAuditCode.ASYNC_EVENT_SEND_FAILED;
+                    auditLog.logRecord(methodName,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(topicName,
+                                                                        Long.toString(messageSendCount.get()),
+                                                                        Long.toString(failureCount),
+                                                                        error.getMessage()),
+                                       null,
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
+                }
+            }
+
+            /*
+             * The event is released from flight after any retry is queued so that a thread waiting for the
+             * events in flight sees the retry.
+             */
+            inFlightEvents.release();
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer
+ *
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+	/*
+	 * When true, events are sent without waiting for Kafka to acknowledge each one.  Many events are in
+	 * flight at once and the results are processed in callbacks.  When false, each event is acknowledged
+	 * before the next one is sent and failed sends are retried until they succeed.
+	 */
+	ASYNC_SEND("async_send", "false"),
+
+	/*
+	 * Controls the maximum number of events that can be sent in asynchronous mode before Kafka has
+	 * acknowledged them.  When this number is reached, the producer waits for acknowledgements
+	 * before sending more events.
+	 */
+	MAX_IN_FLIGHT_EVENTS("max_in_flight_events", "1000"),
+
+	/*
+	 * Controls the maximum number of events waiting to be sent.  When this number is reached, the caller
+	 * sending an event waits for space in the buffer.
+	 */
+	MAX_QUEUED_EVENTS("max_queued_events", "100000"),
+
+	/*
+	 * Controls how long (in milliseconds) the caller waits for space in a full send buffer.  If there is
+	 * still no space after this time, the event is discarded and the audit log records the loss.
+	 */
+	QUEUE_FULL_WAIT_TIME("queue_full_wait_time", "5000");
+
+	private String propertyName;
+	private String defaultValue;
+
+	KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+	{
+		this.propertyName = name;
+		this.defaultValue = defaultValue;
+	}
+	
+	public String getPropertyName() {
+		return propertyName;
+	}
+	
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+
+
+}
@@ -2,9 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -28,6 +25,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private Properties producerProperties = new Properties();
+    private Properties producerEgeriaProperties = new Properties();
     
     private Properties consumerEgeriaProperties = new Properties();
     private Properties consumerProperties = new Properties();
@@ -37,7 +35,6 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     private String       topicName          = null;
     private String       serverId           = null;
-    private List<IncomingEvent> incomingEventsList = Collections.synchronizedList(new ArrayList<>());
     /**
      * Constructor sets up the default properties for the producer and consumer.  Any properties passed through
      * the connection's additional properties will override these values.  For most environments,
@@ -165,6 +162,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaConsumerPropertyName);
             copyProperties(propertiesObject, consumerEgeriaProperties);
+
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
         }
         catch (Throwable   error)
         {
@@ -213,7 +213,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
         consumerThread.start();
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        KafkaOpenMetadataEventProducerConfiguration producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerConfig, producerProperties, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
         producerThread.start();
 
@@ -236,33 +237,54 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Return the number of outbound events waiting to be sent to Kafka.
+     *
+     * @return count of events
+     */
+    public int getSendQueueDepth()
+    {
+        if (producer != null)
+        {
+            return producer.getSendQueueDepth();
+        }
+
+        return 0;
+    }
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * Return the number of outbound events sent to Kafka that are waiting to be acknowledged.
      *
-     * @return a list of received events or null
+     * @return count of events
      */
-    @Override
-    protected List<IncomingEvent> checkForIncomingEvents()
+    public int getInFlightEventCount()
     {
-        List<IncomingEvent> newEvents = null;
+        if (producer != null)
+        {
+            return producer.getInFlightEventCount();
+        }
 
-        // This method is called periodically from a independent thread managed by OpenMetadataTopic
-        // (superclass) so it should not block.
+        return 0;
+    }
 
-        if ((incomingEventsList != null) && (!incomingEventsList.isEmpty()))
-        {
-            log.debug("Checking for events.  Number of found events: {0}", incomingEventsList.size());
-            newEvents = new ArrayList<>(incomingEventsList);
 
-            // empty incomingEventsList otherwise same events will be sent again
-            incomingEventsList.removeAll(newEvents);
+    /**
+     * Return the average time taken for Kafka to acknowledge an outbound event.
+     *
+     * @return time in milliseconds
+     */
+    public double getAverageSendLatency()
+    {
+        if (producer != null)
+        {
+            return producer.getAverageSendLatency();
         }
 
-        return newEvents;
+        return 0;
     }
 
+
     /**
      * Distribute events to other listeners.
      *
@@ -271,7 +293,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     void distributeToListeners(IncomingEvent event)
     {
         log.debug("distribute event to listeners" + event);
-        incomingEventsList.add(event);
+        super.receiveEvent(event);
     }
 
 
@@ -306,6 +328,6 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * @return int
      */
     int getNumberOfUnprocessedEvents() {
-    	return incomingEventsList.size();
+    	return super.getIncomingEventQueueSize();
     }
 }
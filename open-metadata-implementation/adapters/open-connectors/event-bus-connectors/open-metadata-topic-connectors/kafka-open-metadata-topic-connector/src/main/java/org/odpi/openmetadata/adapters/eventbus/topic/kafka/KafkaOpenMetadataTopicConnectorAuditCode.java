@@ -103,7 +103,23 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode
              OMRSAuditLogRecordSeverity.ERROR,
              "Property {0} is missing from the Kafka Event Bus configuration",
              "The system is unable to connect to the event bus.",
-             "Add the missing property to the event bus properties in the server configuration.")
+             "Add the missing property to the event bus properties in the server configuration."),
+
+    ASYNC_EVENT_SEND_FAILED("OCF-KAFKA-TOPIC-CONNECTOR-0014",
+             OMRSAuditLogRecordSeverity.ERROR,
+             "Apache Kafka was unable to deliver an event on topic {0}.  {1} events successfully sent; {2} events failed. Latest error message is {3}",
+             "The producer is sending events asynchronously and Apache Kafka has exhausted its retries for this event.  " +
+                     "The event is resent, waiting for each attempt to be acknowledged, until it is delivered.  " +
+                     "It may be delivered after events that were sent later.",
+             "Review the operational status of Apache Kafka to ensure it is running and the topic is defined."),
+
+    EVENT_DISCARDED("OCF-KAFKA-TOPIC-CONNECTOR-0015",
+             OMRSAuditLogRecordSeverity.ERROR,
+             "An event for topic {0} was discarded because the send buffer is full with {1} events.  {2} events have been discarded",
+             "Apache Kafka is not accepting events as fast as the server is producing them.  The server waited for " +
+                     "space in the send buffer and then discarded the event.  It will not be sent.",
+             "Review the operational status of Apache Kafka to ensure it is running and the topic is defined.  " +
+                     "If Kafka is running, increase the max_queued_events or queue_full_wait_time properties of the producer.")
 
     ;
 
@@ -21,6 +21,7 @@ public class KafkaOpenMetadataTopicProvider extends OpenMetadataTopicProvider
     public static final String  producerPropertyName = "producer";
     public static final String  consumerPropertyName = "consumer";
     public static final String  egeriaConsumerPropertyName = "egeria_kafka_consumer";
+    public static final String  egeriaProducerPropertyName = "egeria_kafka_producer";
     public static final String  serverIdPropertyName = "local.server.id";
 
     /**
@@ -44,8 +45,12 @@ public class KafkaOpenMetadataTopicProvider extends OpenMetadataTopicProvider
         List<String>  recognizedPropertyNames = new ArrayList<>();
         recognizedPropertyNames.add(producerPropertyName);
         recognizedPropertyNames.add(consumerPropertyName);
+        recognizedPropertyNames.add(egeriaConsumerPropertyName);
+        recognizedPropertyNames.add(egeriaProducerPropertyName);
         recognizedPropertyNames.add(serverIdPropertyName);
         recognizedPropertyNames.add(sleepTimeProperty);
+        recognizedPropertyNames.add(listenerThreadsProperty);
+        recognizedPropertyNames.add(listenerQueueSizeProperty);
 
         connectorType.setRecognizedConfigurationProperties(recognizedPropertyNames);
 
@@ -14,29 +14,79 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.governanceservers.openlineage.buffergraphstore.BufferGraphConnectorBase;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.cassandra.BufferGraphFactory;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorAuditCode;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_COLUMN;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_COLUMN;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
 
+/**
+ * BufferGraphConnector stores the lineage events in the buffer graph and periodically maps the processes
+ * in the buffer graph to the main graph.
+ * <p>
+ * The lineage events are written to the buffer graph in batches.  A batch is committed in one transaction when
+ * it reaches the batchSize configuration property (default 500 relationships) or when the flushInterval
+ * configuration property (default 5000 milliseconds) has passed.  The vertices are located through the indexed
+ * GUID property, with the vertex ids of recently used GUIDs cached in memory.
+ * <p>
+ * The scheduler task only maps the processes that have been added or changed since it last ran, along with the
+ * processes that could not be mapped because their columns were not yet in the main graph.  Every process is
+ * mapped on the first run after the connector starts.
+ */
 public class BufferGraphConnector extends BufferGraphConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(BufferGraphConnector.class);
+
+    static final String BATCH_SIZE_PROPERTY = "batchSize";
+    static final String FLUSH_INTERVAL_PROPERTY = "flushInterval";
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL = 5000;
+    private static final int VERTEX_ID_CACHE_SIZE = 10000;
+    private static final String PROCESS = "Process";
+
     private JanusGraph bufferGraph;
     private GraphVertexMapper graphVertexMapper = new GraphVertexMapper();
+    private MainGraphMapper mainGraphMapper = new MainGraphMapper();
 
     private JanusGraph mainGraph;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private ScheduledExecutorService flushScheduler;
+
+    private final Object batchLock = new Object();
+    private final List<Set<GraphContext>> pendingEvents = new ArrayList<>();
+    private int pendingRelationships = 0;
+    private final Map<String, Object> vertexIdCache = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return size() > VERTEX_ID_CACHE_SIZE;
+        }
+    };
+
+    private final Set<String> changedProcesses = ConcurrentHashMap.newKeySet();
+    private volatile boolean fullMergeRequired = true;
+
 
     /**
      * Initialize the connector.
@@ -48,6 +98,7 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties) {
         super.initialize(connectorInstanceId, connectionProperties);
         initializeGraphDB();
+        initializeBatching();
     }
 
     /**
@@ -58,6 +109,30 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     public void start() throws ConnectorCheckedException
     {
         super.start();
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BufferGraphFlush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flushPendingEvents, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write any waiting lineage events to the buffer graph and stop the flush thread.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+
+        flushPendingEvents();
+
+        super.disconnect();
     }
 
     private void initializeGraphDB(){
@@ -76,136 +151,382 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
         }
     }
 
+    private void initializeBatching() {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties == null) {
+            return;
+        }
+
+        batchSize = (int) Math.min(Integer.MAX_VALUE,
+                                   Math.max(1, getLongProperty(configurationProperties, BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE)));
+        flushInterval = Math.max(1, getLongProperty(configurationProperties, FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL));
+        log.debug("Buffer graph batch size {} and flush interval {}", batchSize, flushInterval);
+    }
+
+    /**
+     * Return a numeric configuration property, or the default value if it is missing or not a number.
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties, String propertyName, long defaultValue) {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value.toString().trim());
+        }
+        catch (NumberFormatException e) {
+            log.error("Buffer graph property {} has value {} which is not a number; using {}", propertyName, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Override
     public void setMainGraph(Object mainGraph) {
         this.mainGraph = (JanusGraph) mainGraph;
     }
 
+    /**
+     * Set the buffer graph directly rather than opening it from the connection.  Used by the tests.
+     *
+     * @param bufferGraph buffer graph
+     */
+    void setBufferGraph(JanusGraph bufferGraph) {
+        this.bufferGraph = bufferGraph;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Queue the graph contexts of the lineage event for the next batch.  The contexts are validated before
+     * they are queued so the errors are returned to the caller.
+     *
+     * @param lineageEvent event
+     */
     @Override
     public void addEntity(LineageEvent lineageEvent){
+        final String methodName = "addEntity";
 
-        GraphTraversalSource g =  bufferGraph.traversal();
+        Set<GraphContext> verticesToBeAdded = lineageEvent.getAssetContext().values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
 
-        Set<GraphContext> verticesToBeAdded = new HashSet<>();
-        lineageEvent.getAssetContext().entrySet().stream().forEach(entry ->
-                {
-                    if(entry.getValue().size()>1){
-                        verticesToBeAdded.addAll(entry.getValue());
-                    }else {
-                        verticesToBeAdded.add(entry.getValue().stream().findFirst().get());
-                    }
-                }
-            );
+        for (GraphContext nodeToNode : verticesToBeAdded) {
+            if (nodeToNode.getRelationshipType() == null) {
+                log.error("{} Relationship type name is missing", methodName);
+                throwException(JanusConnectorErrorCode.RELATIONSHIP_TYPE_NAME_NOT_KNOWN, nodeToNode.getRelationshipGuid(), methodName);
+            }
+            validateEntity(nodeToNode.getFromVertex(), methodName);
+            validateEntity(nodeToNode.getToVertex(), methodName);
+        }
 
-        verticesToBeAdded.stream().forEach(entry -> addVerticesAndRelationship(g,entry));
+        boolean batchFull;
+        synchronized (batchLock) {
+            pendingEvents.add(verticesToBeAdded);
+            pendingRelationships += verticesToBeAdded.size();
+            batchFull = pendingRelationships >= batchSize;
+        }
+
+        if (batchFull) {
+            flushPendingEvents();
+        }
     }
 
+    /**
+     * Map the processes that changed since the last run to the main graph.  Once their changes are committed the
+     * main graph connector is told, so it drops the lineage it has cached.
+     */
     @Override
     public void schedulerTask(){
+        flushPendingEvents();
+
         GraphTraversalSource g = bufferGraph.traversal();
-        List<Vertex> vertices = g.V().has(PROPERTY_KEY_ENTITY_NAME, "Process").toList();
+        List<String> guidList;
+
+        if (fullMergeRequired) {
+            fullMergeRequired = false;
+            changedProcesses.clear();
+            guidList = g.V().has(PROPERTY_KEY_ENTITY_NAME, PROCESS).values(PROPERTY_KEY_ENTITY_GUID)
+                    .toList().stream().map(Object::toString).collect(Collectors.toList());
+        }
+        else {
+            guidList = new ArrayList<>(changedProcesses);
+            changedProcesses.removeAll(guidList);
+        }
 
-        List<String> guidList = vertices.stream().map(v -> (String) v.property(PROPERTY_KEY_ENTITY_GUID).value()).collect(Collectors.toList());
+        log.debug("Mapping {} processes to the main graph", guidList.size());
 
         for (String guid : guidList) {
-            Iterator<Vertex> initial =  g.V().has(PROPERTY_KEY_ENTITY_GUID,guid).has("displayName","initial_load");
-            if(!initial.hasNext()) {
+            try {
+                if (!mapProcess(g, guid)) {
+                    changedProcesses.add(guid);
+                }
+            }
+            catch (Exception e) {
+                log.error("Process {} could not be mapped to the main graph: {}", guid, e.getMessage());
+                mainGraph.tx().rollback();
+                changedProcesses.add(guid);
+            }
+        }
+        g.tx().commit();
+
+        if (!guidList.isEmpty() && mainGraphConnector != null) {
+            mainGraphConnector.mainGraphChanged();
+        }
+    }
 
+    /**
+     * Map the columns of a process in the buffer graph to the main graph.  The main graph changes for the
+     * process are committed together.
+     *
+     * @param g buffer graph traversal
+     * @param guid unique identifier of the process
+     * @return false if some columns of the process are not yet in the main graph
+     */
+    private boolean mapProcess(GraphTraversalSource g, String guid) {
+        Iterator<Vertex> processIt = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid);
+        if (!processIt.hasNext()) {
+            return true;
+        }
 
-                List<Vertex> inputPath = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).out("ProcessPort").out("PortDelegation").has("PortImplementation", "portType", "INPUT_PORT")
-                        .out("PortSchema").out("AttributeForSchema").out("SchemaAttributeType").in("LineageMapping").in("SchemaAttributeType")
-                        .toList();
+        Vertex process = processIt.next();
+        Iterator<Vertex> initial = g.V(process.id()).has("displayName", "initial_load");
+        if (initial.hasNext()) {
+            return true;
+        }
 
-                Vertex process = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next();
-                for (Vertex vertex : inputPath) {
-                    String vertexGuid = vertex.value(PROPERTY_KEY_ENTITY_GUID);
-                    Iterator<Vertex> r = g.V().has(PROPERTY_KEY_ENTITY_GUID, vertexGuid).out("SchemaAttributeType").out("LineageMapping");
+        List<Vertex> inputPath = g.V(process.id()).out("ProcessPort").out("PortDelegation").has("PortImplementation", "portType", "INPUT_PORT")
+                .out("PortSchema").out("AttributeForSchema").out("SchemaAttributeType").in("LineageMapping").in("SchemaAttributeType")
+                .toList();
 
-                    Iterator<Vertex> columnOut = findPathForOutputAsset(r.next(), g);
-                    if (columnOut != null && columnOut.hasNext()) {
-                        String columnOutGuid = columnOut.next().values(PROPERTY_KEY_ENTITY_GUID).next().toString();
-                        String columnInGuid = vertex.values(PROPERTY_KEY_ENTITY_GUID).next().toString();
+        boolean complete = true;
+        for (Vertex vertex : inputPath) {
+            Iterator<Vertex> r = g.V(vertex.id()).out("SchemaAttributeType").out("LineageMapping");
+            if (!r.hasNext()) {
+                continue;
+            }
 
+            Iterator<Vertex> columnOut = findPathForOutputAsset(r.next(), g);
+            if (columnOut != null && columnOut.hasNext()) {
+                String columnOutGuid = columnOut.next().values(PROPERTY_KEY_ENTITY_GUID).next().toString();
+                String columnInGuid = vertex.values(PROPERTY_KEY_ENTITY_GUID).next().toString();
 
-                        if (!columnOutGuid.isEmpty() && !columnInGuid.isEmpty()) {
-                            MainGraphMapper mainGraphMapper = new MainGraphMapper();
-                            mainGraphMapper.mapStructure(columnInGuid, process, columnOutGuid,mainGraph);
-                        }
+                if (!columnOutGuid.isEmpty() && !columnInGuid.isEmpty()) {
+                    complete &= mainGraphMapper.mapStructure(columnInGuid, process, columnOutGuid, mainGraph);
+                }
+            }
+        }
+        mainGraph.tx().commit();
+        return complete;
+    }
+
+    /**
+     * Write the waiting lineage events to the buffer graph in one transaction.  If the transaction fails, it is
+     * rolled back and the events are written again one per transaction, so a bad event only loses itself and
+     * does not block the events after it.
+     */
+    private void flushPendingEvents() {
+        final String methodName = "flushPendingEvents";
+
+        synchronized (batchLock) {
+            if (pendingEvents.isEmpty()) {
+                return;
+            }
+
+            GraphTraversalSource g = bufferGraph.traversal();
+
+            try {
+                storeEvents(g, pendingEvents);
+                log.debug("Added {} lineage events to the buffer graph", pendingEvents.size());
+            }
+            catch (Exception e) {
+                log.error("Batch of lineage events could not be added to the buffer graph: {}", e.getMessage());
+                g.tx().rollback();
+                logAudit(JanusConnectorAuditCode.BUFFER_GRAPH_BATCH_FAILED, methodName, e,
+                         Integer.toString(pendingEvents.size()), e.getMessage());
+
+                for (Set<GraphContext> eventContexts : pendingEvents) {
+                    try {
+                        storeEvents(g, Collections.singletonList(eventContexts));
+                    }
+                    catch (Exception eventError) {
+                        log.error("Lineage event could not be added to the buffer graph: {}", eventError.getMessage());
+                        g.tx().rollback();
+                        logAudit(JanusConnectorAuditCode.LINEAGE_EVENT_NOT_STORED, methodName, eventError,
+                                 eventContexts.stream().map(GraphContext::getRelationshipGuid).collect(Collectors.joining(", ")),
+                                 eventError.getMessage());
                     }
                 }
             }
+            finally {
+                pendingEvents.clear();
+                pendingRelationships = 0;
+            }
+        }
+    }
+
+    /**
+     * Add the lineage events to the buffer graph and commit them.  The vertex ids and the changed processes
+     * are only remembered once the commit has worked.
+     */
+    private void storeEvents(GraphTraversalSource g, List<Set<GraphContext>> events) {
+        Map<String, Vertex> batchVertices = new HashMap<>();
+        Set<String> batchProcesses = new HashSet<>();
+
+        for (Set<GraphContext> eventContexts : events) {
+            addEventContexts(g, eventContexts, batchVertices, batchProcesses);
         }
         g.tx().commit();
+
+        for (Map.Entry<String, Vertex> entry : batchVertices.entrySet()) {
+            vertexIdCache.put(entry.getKey(), entry.getValue().id());
+        }
+        changedProcesses.addAll(batchProcesses);
+    }
+
+    /**
+     * Add the vertices and relationships of one lineage event.  If anything is added or changed, the processes
+     * in the event are marked for mapping to the main graph.
+     */
+    private void addEventContexts(GraphTraversalSource g,
+                                  Set<GraphContext> eventContexts,
+                                  Map<String, Vertex> batchVertices,
+                                  Set<String> batchProcesses) {
+        boolean changed = false;
+        Set<String> eventProcesses = new HashSet<>();
+
+        for (GraphContext nodeToNode : eventContexts) {
+            changed |= addVerticesAndRelationship(g, nodeToNode, batchVertices);
+
+            if (PROCESS.equals(nodeToNode.getFromVertex().getTypeDefName())) {
+                eventProcesses.add(nodeToNode.getFromVertex().getGuid());
+            }
+            if (PROCESS.equals(nodeToNode.getToVertex().getTypeDefName())) {
+                eventProcesses.add(nodeToNode.getToVertex().getGuid());
+            }
+        }
+
+        if (changed) {
+            batchProcesses.addAll(eventProcesses);
+        }
     }
 
-    private void addVerticesAndRelationship(GraphTraversalSource g, GraphContext nodeToNode){
+    private boolean addVerticesAndRelationship(GraphTraversalSource g, GraphContext nodeToNode, Map<String, Vertex> batchVertices){
         LineageEntity fromEntity = nodeToNode.getFromVertex();
         LineageEntity toEntity = nodeToNode.getToVertex();
 
-        Vertex vertexFrom = addVertex(g,fromEntity);
-        Vertex vertexTo = addVertex(g,toEntity);
-
-        //add check gia null vertex
-        addRelationship(nodeToNode.getRelationshipGuid(),nodeToNode.getRelationshipType(),vertexFrom,vertexTo);
+        boolean changed = addVertex(g, fromEntity, batchVertices);
+        changed |= addVertex(g, toEntity, batchVertices);
 
+        changed |= addRelationship(g, nodeToNode.getRelationshipGuid(), nodeToNode.getRelationshipType(),
+                                   batchVertices.get(fromEntity.getGuid()), batchVertices.get(toEntity.getGuid()));
+        return changed;
     }
 
-    private  Vertex addVertex(GraphTraversalSource g,LineageEntity lineageEntity){
+    /**
+     * Create the vertex for the entity, or update it if the entity has a later version than the vertex.
+     *
+     * @return true if the vertex was created or updated
+     */
+    private boolean addVertex(GraphTraversalSource g, LineageEntity lineageEntity, Map<String, Vertex> batchVertices){
         final String methodName = "addVertex";
 
-        Iterator<Vertex> vertexIt = g.V().has(PROPERTY_KEY_ENTITY_GUID, lineageEntity.getGuid());
-        Vertex vertex;
+        if (batchVertices.containsKey(lineageEntity.getGuid())) {
+            return false;
+        }
+
+        Vertex vertex = findVertex(g, lineageEntity.getGuid());
+        boolean changed = false;
 
-        if(!vertexIt.hasNext()){
+        if (vertex == null) {
             vertex = g.addV(lineageEntity.getTypeDefName()).next();
-            addPropertiesToVertex(g,vertex,lineageEntity);
-            g.tx().commit();
+            addPropertiesToVertex(vertex, lineageEntity);
+            changed = true;
+        }
+        else if (lineageEntity.getVersion() > ((Number) vertex.property(PROPERTY_KEY_ENTITY_VERSION).orElse(0L)).longValue()) {
+            log.debug("{} updating existing vertex {}", methodName, vertex);
+            addPropertiesToVertex(vertex, lineageEntity);
+            changed = true;
         }
         else {
-            vertex = vertexIt.next();
             log.debug("{} found existing vertex {}", methodName, vertex);
-            g.tx().rollback();
         }
-        return vertex;
+
+        batchVertices.put(lineageEntity.getGuid(), vertex);
+        return changed;
     }
 
     /**
-     * Creates new Relationships and it's properties in bufferGraph and mainGraph related to Lineage.
+     * Look up a vertex by GUID, using the cached vertex id where possible.
      *
+     * @return vertex or null if it is not in the buffer graph
      */
-    private void addRelationship(String relationshipGuid,String relationshipType,Vertex fromVertex,Vertex toVertex){
-        String methodName = "addRelationship";
+    private Vertex findVertex(GraphTraversalSource g, String guid) {
+        Object vertexId = vertexIdCache.get(guid);
 
-        if (relationshipType == null) {
-            log.error("{} Relationship type name is missing", methodName);
-            throwException(JanusConnectorErrorCode.RELATIONSHIP_TYPE_NAME_NOT_KNOWN,relationshipGuid,methodName);
+        if (vertexId != null) {
+            Iterator<Vertex> vertexIt = g.V(vertexId);
+            if (vertexIt.hasNext()) {
+                return vertexIt.next();
+            }
+            vertexIdCache.remove(guid);
         }
 
-        GraphTraversalSource g = bufferGraph.traversal();
+        Iterator<Vertex> vertexIt = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid);
+        if (vertexIt.hasNext()) {
+            return vertexIt.next();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the relationship in the buffer graph unless the vertices are already linked by a relationship of
+     * the same type.
+     *
+     * @return true if the relationship was created
+     */
+    private boolean addRelationship(GraphTraversalSource g, String relationshipGuid, String relationshipType, Vertex fromVertex, Vertex toVertex){
 
-        Iterator<Edge> edgeIt = g.E().has(PROPERTY_KEY_RELATIONSHIP_GUID, relationshipGuid);
+        Iterator<Edge> edgeIt = g.V(fromVertex.id()).outE(relationshipType).where(__.inV().hasId(toVertex.id()));
         if (edgeIt.hasNext()) {
-            g.tx().rollback();
-            throwException(JanusConnectorErrorCode.RELATIONSHIP_ALREADY_EXISTS,relationshipGuid,methodName);
-            return;
+            return false;
         }
-        //TODO add try catch
-        fromVertex.addEdge(relationshipType, toVertex);
-        g.tx().commit();
+
+        Edge edge = fromVertex.addEdge(relationshipType, toVertex);
+        if (relationshipGuid != null) {
+            edge.property(PROPERTY_KEY_RELATIONSHIP_GUID, relationshipGuid);
+        }
+        return true;
     }
-    private void addPropertiesToVertex(GraphTraversalSource g,Vertex vertex, LineageEntity lineageEntity){
+
+    private void addPropertiesToVertex(Vertex vertex, LineageEntity lineageEntity){
         final String methodName = "addPropertiesToVertex";
 
         try {
             graphVertexMapper.mapEntityToVertex(lineageEntity, vertex);
         }catch (Exception e) {
             log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
             throwException(JanusConnectorErrorCode.ENTITY_NOT_CREATED,lineageEntity.getGuid(),methodName);
 
         }
     }
 
+    private void validateEntity(LineageEntity lineageEntity, String methodName) {
+        if (lineageEntity == null || lineageEntity.getGuid() == null || lineageEntity.getTypeDefName() == null) {
+            log.error("{} entity is missing core attributes", methodName);
+            throwException(JanusConnectorErrorCode.ENTITY_PROPERTIES_ERROR,
+                           lineageEntity == null ? null : lineageEntity.getGuid(), methodName);
+        }
+    }
+
     private Iterator<Vertex> findPathForOutputAsset(Vertex v, GraphTraversalSource g)  {
 
         try{
@@ -224,6 +545,19 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
         }
     }
 
+    private void logAudit(JanusConnectorAuditCode auditCode, String methodName, Exception error, String... params) {
+        if (auditLog != null) {
+            auditLog.logException(methodName,
+                                  auditCode.getLogMessageId(),
+                                  auditCode.getSeverity(),
+                                  auditCode.getFormattedLogMessage(params),
+                                  null,
+                                  auditCode.getSystemAction(),
+                                  auditCode.getUserAction(),
+                                  error);
+        }
+    }
+
     private void throwException(JanusConnectorErrorCode errorCode,String guid,String methodName){
 
         String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(guid, methodName,
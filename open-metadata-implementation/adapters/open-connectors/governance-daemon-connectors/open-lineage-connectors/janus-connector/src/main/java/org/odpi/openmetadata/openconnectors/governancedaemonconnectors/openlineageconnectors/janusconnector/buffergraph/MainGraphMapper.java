@@ -4,6 +4,7 @@
 package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.buffergraph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
 import org.slf4j.Logger;
@@ -19,7 +20,13 @@ public class MainGraphMapper {
     private static final Logger log = LoggerFactory.getLogger(MainGraphMapper.class);
 
 
-    public void mapStructure(String columnInGuid, Vertex process, String columnOutGuid, JanusGraph mainGraph) {
+    /**
+     * Link the input column to the output column through a SubProcess vertex for the process.  Nothing is added if
+     * the columns are already linked through the process.  The caller commits the main graph changes.
+     *
+     * @return false if either column is not yet in the main graph
+     */
+    public boolean mapStructure(String columnInGuid, Vertex process, String columnOutGuid, JanusGraph mainGraph) {
 
         GraphTraversalSource main = mainGraph.traversal();
 
@@ -28,21 +35,28 @@ public class MainGraphMapper {
 
         Iterator<Vertex> columnInVertex = main.V().has(PROPERTY_KEY_ENTITY_GUID, columnInGuid);
         Iterator<Vertex> columnOutVertex = main.V().has(PROPERTY_KEY_ENTITY_GUID, columnOutGuid);
-        Iterator<Vertex> processVertex = main.V().has("id",processGuid);
 
         if (columnInVertex.hasNext() && columnOutVertex.hasNext()) {
 
+            Vertex columnIn = columnInVertex.next();
+            Vertex columnOut = columnOutVertex.next();
+
+            Iterator<Vertex> existingVertex = main.V(columnIn.id()).out(NODE_LABEL_PROCESS).has(PROPERTY_KEY_ENTITY_GUID, processGuid)
+                    .where(__.out(NODE_LABEL_PROCESS).hasId(columnOut.id()));
+            if (existingVertex.hasNext()) {
+                log.debug("Columns with guidIn {} and out {} are already mapped for process {}", columnInGuid, columnOutGuid, processGuid);
+                return true;
+            }
+
             Vertex vertex = main.addV("SubProcess").next();
             vertex.property("id", UUID.randomUUID());
             vertex.property(PROPERTY_KEY_ENTITY_GUID, processGuid);
             vertex.property(PROPERTY_KEY_ENTITY_NAME, processName);
 
-            Vertex columnIn = columnInVertex.next();
-            Vertex columnOut = columnOutVertex.next();
-
             columnIn.addEdge(NODE_LABEL_PROCESS, vertex);
             vertex.addEdge(NODE_LABEL_PROCESS,columnOut);
 
+            Iterator<Vertex> processVertex = main.V().has("id",processGuid);
             if(processVertex.hasNext()){
                 Vertex processTopLevel = processVertex.next();
                 vertex.addEdge(NODE_LABEL_PROCESS,processTopLevel);
@@ -55,12 +69,11 @@ public class MainGraphMapper {
                 vertex.addEdge(NODE_LABEL_PROCESS,mainProcess);
             }
 
-            main.tx().commit();
+            return true;
 
         } else {
             log.debug("Columns does not exist in maingraph with guidIn {} and out {}",columnInGuid,columnOutGuid);
-            main.tx().rollback();
-
+            return false;
         }
 
     }
@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
+
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+import org.odpi.openmetadata.governanceservers.openlineage.model.View;
+import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * LineageQueryCache holds the responses of recent lineage queries, keyed by graph, scope, view and queried GUID.
+ * Responses are removed when they are older than the time to live, and the least recently used response is
+ * removed when the cache is full.  The owner clears the cache when the graph changes.
+ */
+class LineageQueryCache {
+
+    private final int maxEntries;
+    private final long timeToLive;
+
+    private final Map<Key, Entry> entries;
+    /**
+     * Identity of a lineage query.
+     */
+    private static class Key {
+        private final String graphName;
+        private final Scope scope;
+        private final View view;
+        private final String guid;
+
+        Key(String graphName, Scope scope, View view, String guid) {
+            this.graphName = graphName;
+            this.scope = scope;
+            this.view = view;
+            this.guid = guid;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(graphName, key.graphName) &&
+                    scope == key.scope &&
+                    view == key.view &&
+                    Objects.equals(guid, key.guid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(graphName, scope, view, guid);
+        }
+    }
+
+    /**
+     * A cached response and the time it was created.
+     */
+    private static class Entry {
+        private final LineageResponse response;
+        private final long created = System.currentTimeMillis();
+
+        Entry(LineageResponse response) {
+            this.response = response;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries maximum number of responses to keep (zero disables the cache)
+     * @param timeToLive maximum age of a response in milliseconds
+     */
+    LineageQueryCache(int maxEntries, long timeToLive) {
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return the cached response for a query.
+     *
+     * @return response or null if the query is not cached
+     */
+    synchronized LineageResponse get(String graphName, Scope scope, View view, String guid) {
+        Key key = new Key(graphName, scope, view, guid);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.created > timeToLive) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.response;
+    }
+
+    /**
+     * Save the response of a query.
+     */
+    synchronized void put(String graphName, Scope scope, View view, String guid, LineageResponse response) {
+        if (maxEntries <= 0 || response == null) {
+            return;
+        }
+
+        entries.put(new Key(graphName, scope, view, guid), new Entry(response));
+
+        if (entries.size() > maxEntries) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Remove all of the cached responses.
+     */
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Return the number of cached responses.
+     *
+     * @return count
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -2,8 +2,9 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
 
-import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -12,7 +13,6 @@ import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.graphdb.tinkerpop.io.graphson.JanusGraphSONModuleV2d0;
-import org.odpi.openmetadata.accessservices.assetlineage.model.event.LineageEvent;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.governanceservers.openlineage.maingraphstore.MainGraphConnectorBase;
@@ -33,9 +33,31 @@ import java.util.*;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.*;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
 
+/**
+ * The lineage queries walk at most lineageMaxDepth edges away from the queried node and follow at most
+ * lineageMaxFanOut lineage edges out of each node, visiting every node once.  The responses are cached
+ * (lineageCacheSize responses for lineageCacheTimeToLive milliseconds).  All of the cached responses are dropped
+ * when the buffer graph has committed new lineage to the main graph, because a new edge can change the lineage of
+ * nodes that are not in a response, such as the ultimate sources of a column or the tables of the table view.
+ */
 public class MainGraphConnector extends MainGraphConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(MainGraphConnector.class);
+
+    static final String MAX_DEPTH_PROPERTY = "lineageMaxDepth";
+    static final String MAX_FAN_OUT_PROPERTY = "lineageMaxFanOut";
+    static final String CACHE_SIZE_PROPERTY = "lineageCacheSize";
+    static final String CACHE_TIME_TO_LIVE_PROPERTY = "lineageCacheTimeToLive";
+
+    private static final int DEFAULT_MAX_DEPTH = 100;
+    private static final int DEFAULT_MAX_FAN_OUT = 1000;
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    private static final long DEFAULT_CACHE_TIME_TO_LIVE = 60000;
+
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private int maxFanOut = DEFAULT_MAX_FAN_OUT;
+    private LineageQueryCache lineageQueryCache = new LineageQueryCache(DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TIME_TO_LIVE);
+
     private JanusGraph bufferGraph;
     private GraphVertexMapper graphVertexMapper = new GraphVertexMapper();
     private JanusGraph mainGraph;
@@ -54,6 +76,7 @@ public class MainGraphConnector extends MainGraphConnectorBase {
 
         super.initialize(connectorInstanceId, connectionProperties);
         initializeGraphDB();
+        initializeLineageQueries();
     }
 
     /**
@@ -90,9 +113,51 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         }
     }
 
-    @Override
-    public void addEntity(LineageEvent lineageEvent) {
+    private void initializeLineageQueries() {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties == null) {
+            return;
+        }
 
+        maxDepth = (int) Math.min(Integer.MAX_VALUE,
+                                  Math.max(1, getLongProperty(configurationProperties, MAX_DEPTH_PROPERTY, DEFAULT_MAX_DEPTH)));
+        maxFanOut = (int) Math.min(Integer.MAX_VALUE,
+                                   Math.max(1, getLongProperty(configurationProperties, MAX_FAN_OUT_PROPERTY, DEFAULT_MAX_FAN_OUT)));
+        int cacheSize = (int) Math.min(Integer.MAX_VALUE,
+                                       getLongProperty(configurationProperties, CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+        long cacheTimeToLive = getLongProperty(configurationProperties, CACHE_TIME_TO_LIVE_PROPERTY, DEFAULT_CACHE_TIME_TO_LIVE);
+
+        lineageQueryCache = new LineageQueryCache(cacheSize, cacheTimeToLive);
+        log.debug("Lineage queries limited to depth {} and fan out {}, cache size {}", maxDepth, maxFanOut, cacheSize);
+    }
+
+    /**
+     * Return a numeric configuration property, or the default value if it is missing or not a number.
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties, String propertyName, long defaultValue) {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value.toString().trim());
+        }
+        catch (NumberFormatException e) {
+            log.error("Lineage query property {} has value {} which is not a number; using {}", propertyName, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Drop the cached lineage responses.  This is called by the buffer graph once the new lineage has been
+     * committed to the main graph, so a query can not cache the lineage from before the change.
+     */
+    @Override
+    public void mainGraphChanged() {
+        lineageQueryCache.clear();
     }
 
     /**
@@ -105,8 +170,38 @@ public class MainGraphConnector extends MainGraphConnectorBase {
      * @return A subgraph containing all relevant paths, in graphSON format.
      */
     public LineageResponse lineage(String graphName, Scope scope, View view, String guid) {
+        return lineage(getJanusGraph(graphName), graphName, scope, view, guid);
+    }
 
-        Graph graph = getJanusGraph(graphName);
+    /**
+     * Returns a lineage subgraph of the supplied graph, from the cache when the same query has been run recently.
+     *
+     * @param graph     the graph to query.
+     * @param graphName the name of the graph, used in the cache key.
+     * @param scope     source-and-destination, end-to-end, ultimate-source, ultimate-destination, glossary.
+     * @param view      The view queried by the user: hostview, tableview, columnview.
+     * @param guid      The guid of the node of which the lineage is queried from.
+     * @return A subgraph containing all relevant paths.
+     */
+    LineageResponse lineage(Graph graph, String graphName, Scope scope, View view, String guid) {
+        LineageResponse lineageResponse = lineageQueryCache.get(graphName, scope, view, guid);
+        if (lineageResponse == null) {
+            lineageResponse = runLineageQuery(graph, scope, view, guid);
+            lineageQueryCache.put(graphName, scope, view, guid, lineageResponse);
+        }
+        return lineageResponse;
+    }
+
+    /**
+     * Return the number of cached lineage responses.
+     *
+     * @return count
+     */
+    int getCachedLineageResponseCount() {
+        return lineageQueryCache.size();
+    }
+
+    private LineageResponse runLineageQuery(Graph graph, Scope scope, View view, String guid) {
         switch (scope) {
             case SOURCE_AND_DESTINATION:
                 return sourceAndDestination(graph, view, guid);
@@ -141,10 +236,10 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         Graph endToEndGraph = (Graph)
                 g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
                         union(
-                                until(inE(edgeLabel).count().is(0)).
-                                        repeat((Traversal) inE(edgeLabel).subgraph("subGraph").outV()),
-                                until(outE(edgeLabel).count().is(0)).
-                                        repeat((Traversal) outE(edgeLabel).subgraph("subGraph").inV())
+                                __.<Vertex>until(or(not(inE(edgeLabel)), loops().is(P.gte(maxDepth)))).
+                                        repeat(__.<Vertex, Edge>local(inE(edgeLabel).limit(maxFanOut)).subgraph("subGraph").outV().dedup()),
+                                __.<Vertex>until(or(not(outE(edgeLabel)), loops().is(P.gte(maxDepth)))).
+                                        repeat(__.<Vertex, Edge>local(outE(edgeLabel).limit(maxFanOut)).subgraph("subGraph").inV().dedup())
                         ).cap("subGraph").next();
 
         LineageResponse lineageResponse = getLineageResponse(endToEndGraph);
@@ -246,10 +341,7 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         GraphTraversalSource g = graph.traversal();
         String edgeLabel = getEdgeLabel(view);
 
-        List<Vertex> sourcesList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).
-                until(inE(edgeLabel).count().is(0)).
-                repeat(inE(edgeLabel).outV().simplePath()).
-                dedup().toList();
+        List<Vertex> sourcesList = findSources(g, edgeLabel, guid);
 
         Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).next();
 
@@ -278,10 +370,7 @@ public class MainGraphConnector extends MainGraphConnectorBase {
     private LineageResponse ultimateDestination(Graph graph, View view, String guid) {
         GraphTraversalSource g = graph.traversal();
         String edgeLabel = getEdgeLabel(view);
-        List<Vertex> destinationsList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).
-                until(outE(edgeLabel).count().is(0)).
-                repeat(outE(edgeLabel).inV().simplePath()).
-                dedup().toList();
+        List<Vertex> destinationsList = findDestinations(g, edgeLabel, guid);
 
         Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).next();
 
@@ -311,15 +400,9 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         GraphTraversalSource g = graph.traversal();
         String edgeLabel = getEdgeLabel(view);
 
-        List<Vertex> sourcesList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).
-                until(inE(edgeLabel).count().is(0)).
-                repeat(inE(edgeLabel).outV().simplePath()).
-                dedup().toList();
+        List<Vertex> sourcesList = findSources(g, edgeLabel, guid);
 
-        List<Vertex> destinationsList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).
-                until(outE(edgeLabel).count().is(0)).
-                repeat(outE(edgeLabel).inV().simplePath()).
-                dedup().toList();
+        List<Vertex> destinationsList = findDestinations(g, edgeLabel, guid);
 
         Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).next();
         LineageVertex queriedVertex = abstractVertex(originalQueriedVertex);
@@ -336,6 +419,28 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         return lineageResponse;
     }
 
+    /**
+     * Return the nodes without incoming lineage edges that lead to the queried node, or the nodes where the walk
+     * stopped at the depth limit.  Every node is expanded once.
+     */
+    private List<Vertex> findSources(GraphTraversalSource g, String edgeLabel, String guid) {
+        return g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).
+                until(or(not(inE(edgeLabel)), loops().is(P.gte(maxDepth)))).
+                repeat(local(inE(edgeLabel).limit(maxFanOut)).outV().dedup()).
+                dedup().toList();
+    }
+
+    /**
+     * Return the nodes without outgoing lineage edges that the queried node leads to, or the nodes where the walk
+     * stopped at the depth limit.  Every node is expanded once.
+     */
+    private List<Vertex> findDestinations(GraphTraversalSource g, String edgeLabel, String guid) {
+        return g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid).
+                until(or(not(outE(edgeLabel)), loops().is(P.gte(maxDepth)))).
+                repeat(local(outE(edgeLabel).limit(maxFanOut)).inV().dedup()).
+                dedup().toList();
+    }
+
     private void addSourceCondensation(List<Vertex> sourcesList, List<LineageVertex> lineageVertices, List<LineageEdge> lineageEdges, Vertex originalQueriedVertex, LineageVertex queriedVertex) {
         //Only add condensed node if there is something to condense in the first place. The gremlin query returns the queried node
         //when there isn't any.
@@ -406,7 +511,8 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         Graph subGraph = (Graph)
                 g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_GUID, guid)
                         .emit().
-                        repeat(bothE(EDGE_LABEL_GLOSSARYTERM_TO_GLOSSARYTERM).subgraph("subGraph").simplePath().otherV())
+                        repeat(__.<Vertex, Edge>local(bothE(EDGE_LABEL_GLOSSARYTERM_TO_GLOSSARYTERM).limit(maxFanOut)).subgraph("subGraph").otherV().dedup()).
+                        times(maxDepth)
                         .inE(EDGE_LABEL_SEMANTIC).subgraph("subGraph").outV()
                         .cap("subGraph").next();
 
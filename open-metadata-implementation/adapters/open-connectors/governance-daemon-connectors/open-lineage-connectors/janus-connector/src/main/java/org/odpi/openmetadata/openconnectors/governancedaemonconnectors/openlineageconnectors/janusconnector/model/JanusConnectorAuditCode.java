@@ -0,0 +1,75 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+
+public enum JanusConnectorAuditCode {
+
+    BUFFER_GRAPH_BATCH_FAILED("OPEN-LINEAGE-JANUS-0001",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The buffer graph could not store a batch of {0} lineage events; error message was: {1}",
+            "The batch is rolled back and the lineage events are stored one at a time.",
+            "No action is required unless the lineage events can not be stored one at a time either."),
+
+    LINEAGE_EVENT_NOT_STORED("OPEN-LINEAGE-JANUS-0002",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The buffer graph could not store the lineage event for the relationships {0}; error message was: {1}",
+            "The lineage event is discarded.  The other lineage events of the batch are stored.",
+            "Review the error message and the lineage event.  The lineage for these relationships is missing until " +
+                    "they are sent again."),
+    ;
+
+    private static final Logger log = LoggerFactory.getLogger(JanusConnectorAuditCode.class);
+    private String logMessageId;
+    private OMRSAuditLogRecordSeverity severity;
+    private String logMessage;
+    private String systemAction;
+    private String userAction;
+
+    JanusConnectorAuditCode(String logMessageId, OMRSAuditLogRecordSeverity severity, String logMessage, String systemAction, String userAction) {
+        this.logMessageId = logMessageId;
+        this.severity = severity;
+        this.logMessage = logMessage;
+        this.systemAction = systemAction;
+        this.userAction = userAction;
+    }
+
+
+    public String getLogMessageId() {
+        return logMessageId;
+    }
+
+    public OMRSAuditLogRecordSeverity getSeverity() {
+        return severity;
+    }
+
+    public String getLogMessage() {
+        return logMessage;
+    }
+
+    public String getSystemAction() {
+        return systemAction;
+    }
+
+    public String getUserAction() {
+        return userAction;
+    }
+
+    public String getFormattedLogMessage(String... params) {
+        log.debug(String.format("<== Janus Connector Audit Code.getMessage(%s)", Arrays.toString(params)));
+
+        String result = MessageFormat.format(logMessage, params);
+
+        log.debug(String.format("==> Janus Connector Audit Code.getMessage(%s): %s", Arrays.toString(params), result));
+
+        return result;
+    }
+
+}
@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.buffergraph;
+
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.odpi.openmetadata.accessservices.assetlineage.GraphContext;
+import org.odpi.openmetadata.accessservices.assetlineage.LineageEntity;
+import org.odpi.openmetadata.accessservices.assetlineage.model.event.LineageEvent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_GUID;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the batching of lineage events by the buffer graph connector against an in-memory JanusGraph.
+ */
+public class BufferGraphConnectorTest {
+
+    private static final String COLUMN = "RelationalColumn";
+    private static final String LINEAGE_MAPPING = "LineageMapping";
+
+    private JanusGraph bufferGraph;
+    private RecordingAuditLog auditLog;
+
+    /**
+     * Audit log that remembers the message ids it is given.
+     */
+    private static class RecordingAuditLog extends OMRSAuditLog {
+        List<String> logMessageIds = new ArrayList<>();
+
+        RecordingAuditLog() {
+            super(new OMRSAuditLogDestination("testServer", "testServerType", "testOrganization", new ArrayList<>()),
+                  OMRSAuditingComponent.REST_SERVICES);
+        }
+
+        @Override
+        public void logException(String actionDescription,
+                                 String logMessageId,
+                                 OMRSAuditLogRecordSeverity severity,
+                                 String logMessage,
+                                 String additionalInformation,
+                                 String systemAction,
+                                 String userAction,
+                                 Throwable caughtException) {
+            logMessageIds.add(logMessageId);
+        }
+    }
+
+    /**
+     * The in-memory backend only finds its own schema locks again when it uses the full precision of the clock.
+     */
+    @BeforeClass
+    public void openGraph() {
+        bufferGraph = JanusGraphFactory.build().set("storage.backend", "inmemory").set("graph.timestamps", "NANO").open();
+    }
+
+    @BeforeMethod
+    public void createAuditLog() {
+        auditLog = new RecordingAuditLog();
+    }
+
+    @AfterClass
+    public void closeGraph() {
+        bufferGraph.close();
+    }
+
+    @Test
+    public void testBadEventDoesNotLoseBatch() {
+        BufferGraphConnector connector = getConnector(3);
+
+        connector.addEntity(getLineageEvent("good-1", "column-1", "column-2", null));
+        connector.addEntity(getLineageEvent("bad", "column-3", "column-4", Collections.singletonMap("name", null)));
+        assertFalse(hasVertex("column-1"));
+
+        connector.addEntity(getLineageEvent("good-2", "column-5", "column-6", null));
+
+        assertTrue(hasVertex("column-1"));
+        assertTrue(hasVertex("column-2"));
+        assertTrue(hasVertex("column-5"));
+        assertTrue(hasVertex("column-6"));
+        assertFalse(hasVertex("column-3"));
+        assertFalse(hasVertex("column-4"));
+
+        assertEquals(auditLog.logMessageIds,
+                     Arrays.asList(JanusConnectorAuditCode.BUFFER_GRAPH_BATCH_FAILED.getLogMessageId(),
+                                   JanusConnectorAuditCode.LINEAGE_EVENT_NOT_STORED.getLogMessageId()));
+
+        /*
+         * The failed batch does not stop the next one.
+         */
+        connector.addEntity(getLineageEvent("good-3", "column-7", "column-8", null));
+        connector.addEntity(getLineageEvent("good-4", "column-9", "column-1", null));
+        connector.addEntity(getLineageEvent("good-5", "column-10", "column-2", null));
+
+        assertTrue(hasVertex("column-10"));
+        assertEquals(auditLog.logMessageIds.size(), 2);
+    }
+
+    @Test
+    public void testBatchIsStoredOnDisconnect() throws Exception {
+        BufferGraphConnector connector = getConnector(100);
+
+        connector.addEntity(getLineageEvent("good-6", "column-11", "column-12", null));
+        assertFalse(hasVertex("column-11"));
+
+        connector.disconnect();
+
+        assertTrue(hasVertex("column-11"));
+        assertTrue(auditLog.logMessageIds.isEmpty());
+    }
+
+    @Test
+    public void testInvalidBatchingPropertiesUseDefaults() {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("graphDB", "none");
+        configurationProperties.put(BufferGraphConnector.BATCH_SIZE_PROPERTY, "many");
+        configurationProperties.put(BufferGraphConnector.FLUSH_INTERVAL_PROPERTY, " 250 ");
+
+        BufferGraphConnector connector = new BufferGraphConnector();
+        connector.initialize("test", new ConnectionProperties(getConnection(configurationProperties)));
+
+        assertEquals(connector.getBatchSize(), 500);
+        assertEquals(connector.getFlushInterval(), 250L);
+    }
+
+    private BufferGraphConnector getConnector(int batchSize) {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("graphDB", "none");
+        configurationProperties.put(BufferGraphConnector.BATCH_SIZE_PROPERTY, batchSize);
+
+        BufferGraphConnector connector = new BufferGraphConnector();
+        connector.initialize("test", new ConnectionProperties(getConnection(configurationProperties)));
+        connector.setBufferGraph(bufferGraph);
+        connector.setAuditLog(auditLog);
+        return connector;
+    }
+
+    private Connection getConnection(Map<String, Object> configurationProperties) {
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+        return connection;
+    }
+
+    private boolean hasVertex(String guid) {
+        boolean found = bufferGraph.traversal().V().has(PROPERTY_KEY_ENTITY_GUID, guid).hasNext();
+        bufferGraph.tx().rollback();
+        return found;
+    }
+
+    private LineageEvent getLineageEvent(String relationshipGuid, String fromGuid, String toGuid, Map<String, String> toProperties) {
+        LineageEntity from = getLineageEntity(fromGuid, null);
+        LineageEntity to = getLineageEntity(toGuid, toProperties);
+
+        LineageEvent lineageEvent = new LineageEvent();
+        lineageEvent.setAssetContext(Collections.singletonMap(toGuid,
+                Collections.singleton(new GraphContext(LINEAGE_MAPPING, relationshipGuid, from, to))));
+        return lineageEvent;
+    }
+
+    private LineageEntity getLineageEntity(String guid, Map<String, String> properties) {
+        LineageEntity lineageEntity = new LineageEntity();
+        lineageEntity.setGuid(guid);
+        lineageEntity.setTypeDefName(COLUMN);
+        lineageEntity.setVersion(1L);
+        lineageEntity.setProperties(properties);
+        return lineageEntity;
+    }
+}
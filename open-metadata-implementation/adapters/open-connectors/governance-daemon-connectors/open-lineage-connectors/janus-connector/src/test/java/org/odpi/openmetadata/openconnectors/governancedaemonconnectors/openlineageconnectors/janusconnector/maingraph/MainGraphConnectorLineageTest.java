@@ -0,0 +1,265 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.odpi.openmetadata.accessservices.assetlineage.GraphContext;
+import org.odpi.openmetadata.accessservices.assetlineage.LineageEntity;
+import org.odpi.openmetadata.accessservices.assetlineage.model.event.LineageEvent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+import org.odpi.openmetadata.governanceservers.openlineage.model.View;
+import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the lineage queries against a synthetic column lineage graph of 6,000 nodes (30 layers of 200 columns,
+ * each column fed by two columns of the layer before) and checks that a repeated query is served from the cache.
+ * Every column can reach a large part of the graph through a number of paths that grows exponentially with
+ * the depth, so the queries only finish because each node is expanded once.
+ */
+public class MainGraphConnectorLineageTest {
+
+    private static final String GRAPH_NAME = "main";
+    private static final int LAYERS = 30;
+    private static final int WIDTH = 200;
+    private static final int FAN_IN = 2;
+
+    private Graph graph;
+    private Map<String, List<String>> upstream = new HashMap<>();
+    private Map<String, List<String>> downstream = new HashMap<>();
+
+    @BeforeClass
+    public void buildGraph() {
+        TinkerGraph tinkerGraph = TinkerGraph.open();
+        tinkerGraph.createIndex(PROPERTY_KEY_ENTITY_GUID, Vertex.class);
+        graph = tinkerGraph;
+
+        Random random = new Random(42);
+        Vertex[] previousLayer = null;
+
+        for (int layer = 0; layer < LAYERS; layer++) {
+            Vertex[] currentLayer = new Vertex[WIDTH];
+            for (int column = 0; column < WIDTH; column++) {
+                currentLayer[column] = addColumn(columnGuid(layer, column));
+                if (previousLayer != null) {
+                    for (int edge = 0; edge < FAN_IN; edge++) {
+                        addLineage(previousLayer[random.nextInt(WIDTH)], currentLayer[column]);
+                    }
+                }
+            }
+            previousLayer = currentLayer;
+        }
+    }
+
+    @Test
+    public void testUltimateSource() {
+        MainGraphConnector connector = new MainGraphConnector();
+        String guid = columnGuid(LAYERS - 1, 0);
+
+        LineageResponse response = cachedQuery(connector, Scope.ULTIMATE_SOURCE, guid);
+
+        assertEquals(getColumnGuids(response, guid), reachable(guid, upstream));
+    }
+
+    @Test
+    public void testUltimateDestination() {
+        MainGraphConnector connector = new MainGraphConnector();
+        String guid = columnGuid(0, 0);
+
+        LineageResponse response = cachedQuery(connector, Scope.ULTIMATE_DESTINATION, guid);
+
+        assertEquals(getColumnGuids(response, guid), reachable(guid, downstream));
+    }
+
+    @Test
+    public void testEndToEnd() {
+        MainGraphConnector connector = new MainGraphConnector();
+        String guid = columnGuid(LAYERS / 2, 0);
+
+        LineageResponse response = cachedQuery(connector, Scope.END_TO_END, guid);
+
+        Set<String> guids = getColumnGuids(response, null);
+        assertTrue(guids.contains(guid));
+        assertTrue(guids.containsAll(reachable(guid, upstream)));
+        assertTrue(guids.containsAll(reachable(guid, downstream)));
+    }
+
+    @Test
+    public void testDepthLimit() {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("graphDB", "none");
+        configurationProperties.put(MainGraphConnector.MAX_DEPTH_PROPERTY, 3);
+
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+
+        MainGraphConnector connector = new MainGraphConnector();
+        connector.initialize("test", new ConnectionProperties(connection));
+
+        Graph chain = TinkerGraph.open();
+        Vertex previous = null;
+        for (int column = 0; column < 10; column++) {
+            Vertex vertex = chain.addVertex(NODE_LABEL_COLUMN);
+            vertex.property(PROPERTY_KEY_ENTITY_GUID, "chain-" + column);
+            vertex.property(PROPERTY_KEY_ENTITY_NODE_ID, "chain-" + column);
+            if (previous != null) {
+                previous.addEdge(EDGE_LABEL_COLUMN_AND_PROCESS, vertex);
+            }
+            previous = vertex;
+        }
+
+        LineageResponse response = connector.lineage(chain, "chain", Scope.ULTIMATE_SOURCE, View.COLUMN_VIEW, "chain-9");
+
+        assertEquals(getColumnGuids(response, "chain-9"), Collections.singleton("chain-6"));
+    }
+
+    @Test
+    public void testCacheInvalidation() {
+        MainGraphConnector connector = new MainGraphConnector();
+        String guid = columnGuid(3, 0);
+
+        LineageResponse response = connector.lineage(graph, GRAPH_NAME, Scope.ULTIMATE_SOURCE, View.COLUMN_VIEW, guid);
+        assertSame(connector.lineage(graph, GRAPH_NAME, Scope.ULTIMATE_SOURCE, View.COLUMN_VIEW, guid), response);
+        assertEquals(connector.getCachedLineageResponseCount(), 1);
+
+        /*
+         * The new source feeds a column in the middle of the lineage, which is not in the response.  The lineage
+         * event does not change the main graph so the response is still cached when it arrives.
+         */
+        String sourceGuid = "new-source-column";
+        String middleGuid = upstream.get(guid).get(0);
+
+        connector.addEntity(getLineageEvent(sourceGuid, middleGuid));
+        assertEquals(connector.getCachedLineageResponseCount(), 1);
+
+        Graph changedGraph = copyGraph();
+        Vertex source = changedGraph.addVertex(NODE_LABEL_COLUMN);
+        source.property(PROPERTY_KEY_ENTITY_GUID, sourceGuid);
+        source.property(PROPERTY_KEY_ENTITY_NODE_ID, sourceGuid);
+        source.addEdge(EDGE_LABEL_COLUMN_AND_PROCESS, changedGraph.traversal().V().has(PROPERTY_KEY_ENTITY_GUID, middleGuid).next());
+
+        connector.mainGraphChanged();
+        assertEquals(connector.getCachedLineageResponseCount(), 0);
+
+        LineageResponse changedResponse = connector.lineage(changedGraph, GRAPH_NAME, Scope.ULTIMATE_SOURCE, View.COLUMN_VIEW, guid);
+        assertNotSame(changedResponse, response);
+        assertTrue(getColumnGuids(changedResponse, guid).contains(sourceGuid));
+    }
+
+    private LineageResponse cachedQuery(MainGraphConnector connector, Scope scope, String guid) {
+        LineageResponse response = connector.lineage(graph, GRAPH_NAME, scope, View.COLUMN_VIEW, guid);
+
+        assertSame(connector.lineage(graph, GRAPH_NAME, scope, View.COLUMN_VIEW, guid), response);
+        return response;
+    }
+
+    /**
+     * Return a copy of the lineage graph that a test can change without affecting the other tests.
+     */
+    private Graph copyGraph() {
+        TinkerGraph copy = TinkerGraph.open();
+        copy.createIndex(PROPERTY_KEY_ENTITY_GUID, Vertex.class);
+
+        Map<Object, Vertex> copiedVertices = new HashMap<>();
+        graph.vertices().forEachRemaining(vertex -> {
+            Vertex copiedVertex = copy.addVertex(vertex.label());
+            copiedVertex.property(PROPERTY_KEY_ENTITY_GUID, vertex.value(PROPERTY_KEY_ENTITY_GUID));
+            copiedVertex.property(PROPERTY_KEY_ENTITY_NODE_ID, vertex.value(PROPERTY_KEY_ENTITY_NODE_ID));
+            copiedVertices.put(vertex.id(), copiedVertex);
+        });
+        graph.edges().forEachRemaining(edge -> copiedVertices.get(edge.outVertex().id())
+                .addEdge(edge.label(), copiedVertices.get(edge.inVertex().id())));
+        return copy;
+    }
+
+    private Vertex addColumn(String guid) {
+        Vertex vertex = graph.addVertex(NODE_LABEL_COLUMN);
+        vertex.property(PROPERTY_KEY_ENTITY_GUID, guid);
+        vertex.property(PROPERTY_KEY_ENTITY_NODE_ID, guid);
+        return vertex;
+    }
+
+    private void addLineage(Vertex from, Vertex to) {
+        from.addEdge(EDGE_LABEL_COLUMN_AND_PROCESS, to);
+
+        String fromGuid = from.value(PROPERTY_KEY_ENTITY_GUID);
+        String toGuid = to.value(PROPERTY_KEY_ENTITY_GUID);
+        upstream.computeIfAbsent(toGuid, k -> new ArrayList<>()).add(fromGuid);
+        downstream.computeIfAbsent(fromGuid, k -> new ArrayList<>()).add(toGuid);
+    }
+
+    private String columnGuid(int layer, int column) {
+        return "column-" + layer + "-" + column;
+    }
+
+    /**
+     * Return the columns at the ends of the lineage of a column, worked out without gremlin.
+     */
+    private Set<String> reachable(String guid, Map<String, List<String>> neighbours) {
+        Set<String> visited = new HashSet<>();
+        Set<String> ends = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(guid);
+        visited.add(guid);
+
+        while (!toVisit.isEmpty()) {
+            String current = toVisit.poll();
+            List<String> next = neighbours.get(current);
+            if (next == null) {
+                ends.add(current);
+            } else {
+                for (String nextGuid : next) {
+                    if (visited.add(nextGuid)) {
+                        toVisit.add(nextGuid);
+                    }
+                }
+            }
+        }
+        return ends;
+    }
+
+    private Set<String> getColumnGuids(LineageResponse response, String excludedGuid) {
+        Set<String> guids = new HashSet<>();
+        for (LineageVertex vertex : response.getLineageVerticesAndEdges().getLineageVertices()) {
+            if (NODE_LABEL_COLUMN.equals(vertex.getNodeType()) && !vertex.getGuid().equals(excludedGuid)) {
+                guids.add(vertex.getGuid());
+            }
+        }
+        return guids;
+    }
+
+    private LineageEvent getLineageEvent(String fromGuid, String toGuid) {
+        LineageEntity from = new LineageEntity();
+        from.setGuid(fromGuid);
+        LineageEntity to = new LineageEntity();
+        to.setGuid(toGuid);
+
+        LineageEvent lineageEvent = new LineageEvent();
+        lineageEvent.setAssetContext(Collections.singletonMap(toGuid,
+                Collections.singleton(new GraphContext(EDGE_LABEL_COLUMN_AND_PROCESS, "relationship", from, to))));
+        return lineageEvent;
+    }
+}
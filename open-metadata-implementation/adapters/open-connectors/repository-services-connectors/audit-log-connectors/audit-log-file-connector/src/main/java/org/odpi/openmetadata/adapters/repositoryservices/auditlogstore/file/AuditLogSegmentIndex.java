@@ -0,0 +1,506 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AuditLogSegmentIndex describes the contents of one segment file of the file based audit log store.
+ * It records the time period covered by the segment, the number of records for each severity and reporting
+ * component, and the file offset of every block of recordsPerBlock records along with the time period
+ * covered by that block.  The queries use the index to skip segments and blocks that can not contain
+ * matching records.
+ *
+ * The index is saved alongside the segment file when the segment is closed and is rebuilt from the segment
+ * file if it is missing or out of date when the store starts.
+ */
+public class AuditLogSegmentIndex
+{
+    static final int recordsPerBlock = 256;
+
+    private long              segmentNumber        = 0;
+    private long              length               = 0;
+    private long              recordCount          = 0;
+    private long              firstTimeStamp       = Long.MAX_VALUE;
+    private long              lastTimeStamp        = Long.MIN_VALUE;
+    private Map<String, Long> severityCounts       = new HashMap<>();
+    private Map<String, Long> componentCounts      = new HashMap<>();
+    private List<Long>        blockOffsets         = new ArrayList<>();
+    private List<Long>        blockFirstTimeStamps = new ArrayList<>();
+    private List<Long>        blockLastTimeStamps  = new ArrayList<>();
+
+
+    /**
+     * Default constructor
+     */
+    public AuditLogSegmentIndex()
+    {
+    }
+
+
+    /**
+     * Constructor for a new, empty segment.
+     *
+     * @param segmentNumber number of the segment
+     */
+    public AuditLogSegmentIndex(long segmentNumber)
+    {
+        this.segmentNumber = segmentNumber;
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    public AuditLogSegmentIndex(AuditLogSegmentIndex template)
+    {
+        if (template != null)
+        {
+            segmentNumber = template.getSegmentNumber();
+            length = template.getLength();
+            recordCount = template.getRecordCount();
+            firstTimeStamp = template.getFirstTimeStamp();
+            lastTimeStamp = template.getLastTimeStamp();
+            severityCounts = new HashMap<>(template.getSeverityCounts());
+            componentCounts = new HashMap<>(template.getComponentCounts());
+            blockOffsets = new ArrayList<>(template.getBlockOffsets());
+            blockFirstTimeStamps = new ArrayList<>(template.getBlockFirstTimeStamps());
+            blockLastTimeStamps = new ArrayList<>(template.getBlockLastTimeStamps());
+        }
+    }
+
+
+    /**
+     * Add the details of a record that has been appended to the segment.
+     *
+     * @param logRecord record that was written
+     * @param recordLength number of bytes written for the record (including the line separator)
+     */
+    void addRecord(OMRSAuditLogRecord logRecord,
+                   long               recordLength)
+    {
+        long timeStamp = getTimeStamp(logRecord);
+
+        if (recordCount % recordsPerBlock == 0)
+        {
+            blockOffsets.add(length);
+            blockFirstTimeStamps.add(timeStamp);
+            blockLastTimeStamps.add(timeStamp);
+        }
+        else
+        {
+            int currentBlock = blockOffsets.size() - 1;
+
+            blockFirstTimeStamps.set(currentBlock, Math.min(blockFirstTimeStamps.get(currentBlock), timeStamp));
+            blockLastTimeStamps.set(currentBlock, Math.max(blockLastTimeStamps.get(currentBlock), timeStamp));
+        }
+
+        firstTimeStamp = Math.min(firstTimeStamp, timeStamp);
+        lastTimeStamp = Math.max(lastTimeStamp, timeStamp);
+
+        if (logRecord.getSeverity() != null)
+        {
+            severityCounts.merge(logRecord.getSeverity(), 1L, Long::sum);
+        }
+
+        String componentName = getComponentName(logRecord);
+
+        if (componentName != null)
+        {
+            componentCounts.merge(componentName, 1L, Long::sum);
+        }
+
+        recordCount++;
+        length = length + recordLength;
+    }
+
+
+    /**
+     * Return the time stamp used to index a log record.
+     *
+     * @param logRecord log record
+     * @return time in milliseconds
+     */
+    static long getTimeStamp(OMRSAuditLogRecord logRecord)
+    {
+        if (logRecord.getTimeStamp() == null)
+        {
+            return 0;
+        }
+
+        return logRecord.getTimeStamp().getTime();
+    }
+
+
+    /**
+     * Return the component name used to index a log record.
+     *
+     * @param logRecord log record
+     * @return component name or null
+     */
+    static String getComponentName(OMRSAuditLogRecord logRecord)
+    {
+        if (logRecord.getReportingComponent() == null)
+        {
+            return null;
+        }
+
+        return logRecord.getReportingComponent().getComponentName();
+    }
+
+
+    /**
+     * Return whether any of the records in the segment could have been written in the time period.
+     *
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @return boolean
+     */
+    boolean overlaps(Date startDate,
+                     Date endDate)
+    {
+        return (recordCount > 0) && overlaps(firstTimeStamp, lastTimeStamp, startDate, endDate);
+    }
+
+
+    /**
+     * Return whether all of the records in the segment were written in the time period.
+     *
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @return boolean
+     */
+    boolean isWithin(Date startDate,
+                     Date endDate)
+    {
+        return ((startDate == null) || (firstTimeStamp >= startDate.getTime())) &&
+               ((endDate == null) || (lastTimeStamp <= endDate.getTime()));
+    }
+
+
+    /**
+     * Return whether any of the records in a block could have been written in the time period.
+     *
+     * @param block block number
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @return boolean
+     */
+    boolean blockOverlaps(int  block,
+                          Date startDate,
+                          Date endDate)
+    {
+        return overlaps(blockFirstTimeStamps.get(block), blockLastTimeStamps.get(block), startDate, endDate);
+    }
+
+
+    /**
+     * Return whether the time period first to last overlaps the requested time period.
+     *
+     * @param first earliest time stamp
+     * @param last latest time stamp
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @return boolean
+     */
+    private static boolean overlaps(long first,
+                                    long last,
+                                    Date startDate,
+                                    Date endDate)
+    {
+        return ((startDate == null) || (last >= startDate.getTime())) &&
+               ((endDate == null) || (first <= endDate.getTime()));
+    }
+
+
+    /**
+     * Return the number of records in the segment with the requested severity and component.  A null
+     * value matches all records.
+     *
+     * @param severity severity name or null
+     * @param componentName component name or null
+     * @return count of records (an upper bound when both are set)
+     */
+    long getMatchingCount(String severity,
+                          String componentName)
+    {
+        long count = recordCount;
+
+        if (severity != null)
+        {
+            count = Math.min(count, severityCounts.getOrDefault(severity, 0L));
+        }
+
+        if (componentName != null)
+        {
+            count = Math.min(count, componentCounts.getOrDefault(componentName, 0L));
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the offset in the segment file of the end of a block.
+     *
+     * @param block block number
+     * @return file offset
+     */
+    long getBlockEnd(int block)
+    {
+        if (block + 1 < blockOffsets.size())
+        {
+            return blockOffsets.get(block + 1);
+        }
+
+        return length;
+    }
+
+
+    /**
+     * Return the number of the segment.  This determines the name of the segment file and the order of the segments.
+     *
+     * @return long
+     */
+    public long getSegmentNumber()
+    {
+        return segmentNumber;
+    }
+
+
+    /**
+     * Set up the number of the segment.
+     *
+     * @param segmentNumber long
+     */
+    public void setSegmentNumber(long segmentNumber)
+    {
+        this.segmentNumber = segmentNumber;
+    }
+
+
+    /**
+     * Return the number of bytes of the segment file that contain complete records.
+     *
+     * @return long
+     */
+    public long getLength()
+    {
+        return length;
+    }
+
+
+    /**
+     * Set up the number of bytes of the segment file that contain complete records.
+     *
+     * @param length long
+     */
+    public void setLength(long length)
+    {
+        this.length = length;
+    }
+
+
+    /**
+     * Return the number of records in the segment.
+     *
+     * @return long
+     */
+    public long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of records in the segment.
+     *
+     * @param recordCount long
+     */
+    public void setRecordCount(long recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the time stamp of the earliest record in the segment.
+     *
+     * @return time in milliseconds
+     */
+    public long getFirstTimeStamp()
+    {
+        return firstTimeStamp;
+    }
+
+
+    /**
+     * Set up the time stamp of the earliest record in the segment.
+     *
+     * @param firstTimeStamp time in milliseconds
+     */
+    public void setFirstTimeStamp(long firstTimeStamp)
+    {
+        this.firstTimeStamp = firstTimeStamp;
+    }
+
+
+    /**
+     * Return the time stamp of the latest record in the segment.
+     *
+     * @return time in milliseconds
+     */
+    public long getLastTimeStamp()
+    {
+        return lastTimeStamp;
+    }
+
+
+    /**
+     * Set up the time stamp of the latest record in the segment.
+     *
+     * @param lastTimeStamp time in milliseconds
+     */
+    public void setLastTimeStamp(long lastTimeStamp)
+    {
+        this.lastTimeStamp = lastTimeStamp;
+    }
+
+
+    /**
+     * Return the number of records in the segment for each severity.
+     *
+     * @return map of severity name to count
+     */
+    public Map<String, Long> getSeverityCounts()
+    {
+        return severityCounts;
+    }
+
+
+    /**
+     * Set up the number of records in the segment for each severity.
+     *
+     * @param severityCounts map of severity name to count
+     */
+    public void setSeverityCounts(Map<String, Long> severityCounts)
+    {
+        this.severityCounts = (severityCounts == null) ? new HashMap<>() : severityCounts;
+    }
+
+
+    /**
+     * Return the number of records in the segment for each reporting component.
+     *
+     * @return map of component name to count
+     */
+    public Map<String, Long> getComponentCounts()
+    {
+        return componentCounts;
+    }
+
+
+    /**
+     * Set up the number of records in the segment for each reporting component.
+     *
+     * @param componentCounts map of component name to count
+     */
+    public void setComponentCounts(Map<String, Long> componentCounts)
+    {
+        this.componentCounts = (componentCounts == null) ? new HashMap<>() : componentCounts;
+    }
+
+
+    /**
+     * Return the file offset of the start of each block of records.
+     *
+     * @return list of offsets
+     */
+    public List<Long> getBlockOffsets()
+    {
+        return blockOffsets;
+    }
+
+
+    /**
+     * Set up the file offset of the start of each block of records.
+     *
+     * @param blockOffsets list of offsets
+     */
+    public void setBlockOffsets(List<Long> blockOffsets)
+    {
+        this.blockOffsets = (blockOffsets == null) ? new ArrayList<>() : blockOffsets;
+    }
+
+
+    /**
+     * Return the time stamp of the earliest record in each block.
+     *
+     * @return list of times in milliseconds
+     */
+    public List<Long> getBlockFirstTimeStamps()
+    {
+        return blockFirstTimeStamps;
+    }
+
+
+    /**
+     * Set up the time stamp of the earliest record in each block.
+     *
+     * @param blockFirstTimeStamps list of times in milliseconds
+     */
+    public void setBlockFirstTimeStamps(List<Long> blockFirstTimeStamps)
+    {
+        this.blockFirstTimeStamps = (blockFirstTimeStamps == null) ? new ArrayList<>() : blockFirstTimeStamps;
+    }
+
+
+    /**
+     * Return the time stamp of the latest record in each block.
+     *
+     * @return list of times in milliseconds
+     */
+    public List<Long> getBlockLastTimeStamps()
+    {
+        return blockLastTimeStamps;
+    }
+
+
+    /**
+     * Set up the time stamp of the latest record in each block.
+     *
+     * @param blockLastTimeStamps list of times in milliseconds
+     */
+    public void setBlockLastTimeStamps(List<Long> blockLastTimeStamps)
+    {
+        this.blockLastTimeStamps = (blockLastTimeStamps == null) ? new ArrayList<>() : blockLastTimeStamps;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AuditLogSegmentIndex{" +
+                "segmentNumber=" + segmentNumber +
+                ", length=" + length +
+                ", recordCount=" + recordCount +
+                ", firstTimeStamp=" + firstTimeStamp +
+                ", lastTimeStamp=" + lastTimeStamp +
+                ", severityCounts=" + severityCounts +
+                ", componentCounts=" + componentCounts +
+                '}';
+    }
+}
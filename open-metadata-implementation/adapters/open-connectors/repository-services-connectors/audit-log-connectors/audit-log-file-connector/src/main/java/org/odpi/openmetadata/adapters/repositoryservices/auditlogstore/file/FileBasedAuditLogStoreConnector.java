@@ -2,6 +2,9 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -10,19 +13,82 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterE
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * FileBasedAuditLogStoreConnector provides a connector implementation for a file based audit log.
- * The audit log is stored in a directory and each audit log record is stored as a file with a filename build
- * from the record's unique identifier (guid).
+ * The audit log is stored in a directory named in the endpoint of the connection.  It is an append-only
+ * store made up of segment files.  Each segment file holds one audit log record per line in JSON.
+ * A new segment is started when the current segment reaches the maximum segment size or has been open for the
+ * maximum segment age.
+ *
+ * Records passed to storeLogRecord are added to a queue and written to the current segment by a writer thread
+ * so the caller does not wait for the file system.  If the queue is full, the caller waits for space.
+ * The queries wait for the records already queued to be written before they run.
+ *
+ * An AuditLogSegmentIndex is kept for each segment.  It is saved alongside the segment when the segment is
+ * closed and is used by the queries to skip the segments and blocks of records that can not match the request.
  */
 public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
 {
     private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogStoreConnector.class);
 
+    private static final String segmentFilePrefix    = "auditlog-";
+    private static final String segmentFileExtension = ".json";
+    private static final String indexFileExtension   = ".index";
+
+    private static final long   defaultMaxSegmentSize = 10 * 1024 * 1024;
+    private static final long   defaultMaxSegmentAge  = 24 * 60 * 60;
+    private static final int    defaultWriteQueueSize = 10000;
+
+    private static final int    maxRecordsPerWrite    = 1000;
+    private static final long   writerPollInterval    = 1000;
+    private static final long   maxWaitForWrites      = 10000;
+
+    private static final ObjectMapper objectMapper = OMRSJSONMapper.getObjectMapper();
+
+    private String                                   directoryName         = null;
+    private File                                     directory             = null;
+    private long                                     maxSegmentSize        = defaultMaxSegmentSize;
+    private long                                     maxSegmentAge         = defaultMaxSegmentAge * 1000;
+    private BlockingQueue<OMRSAuditLogRecord>        writeQueue            = new ArrayBlockingQueue<>(defaultWriteQueueSize);
+
+    private final Object                             segmentLock           = new Object();
+    private final List<AuditLogSegmentIndex>         segments              = new ArrayList<>();
+    private long                                     nextSegmentNumber     = 1;
+    private AuditLogSegmentIndex                     activeSegment         = null;
+    private OutputStream                             activeSegmentStream   = null;
+    private long                                     activeSegmentOpenTime = 0;
+
+    private final AtomicLong                         queuedCount           = new AtomicLong(0);
+    private long                                     writtenCount          = 0;
+
+    private volatile boolean                         running               = false;
+    private Thread                                   writerThread          = null;
+
 
     /**
      * Default constructor used by the connector provider.
@@ -33,7 +99,55 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Store the audit log record in the audit log store.
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+        EndpointProperties  endpoint                = connectionProperties.getEndpoint();
+
+        if (configurationProperties != null)
+        {
+            Object  maxSegmentSizeProperty = configurationProperties.get(FileBasedAuditLogStoreProvider.maxSegmentSizeProperty);
+            Object  maxSegmentAgeProperty  = configurationProperties.get(FileBasedAuditLogStoreProvider.maxSegmentAgeProperty);
+            Object  writeQueueSizeProperty = configurationProperties.get(FileBasedAuditLogStoreProvider.writeQueueSizeProperty);
+
+            if ((maxSegmentSizeProperty instanceof Number) && (((Number)maxSegmentSizeProperty).longValue() > 0))
+            {
+                maxSegmentSize = ((Number)maxSegmentSizeProperty).longValue();
+            }
+
+            if ((maxSegmentAgeProperty instanceof Number) && (((Number)maxSegmentAgeProperty).longValue() > 0))
+            {
+                maxSegmentAge = ((Number)maxSegmentAgeProperty).longValue() * 1000;
+            }
+
+            if ((writeQueueSizeProperty instanceof Number) && (((Number)writeQueueSizeProperty).intValue() > 0))
+            {
+                writeQueue = new ArrayBlockingQueue<>(((Number)writeQueueSizeProperty).intValue());
+            }
+        }
+
+        if (endpoint != null)
+        {
+            directoryName = endpoint.getAddress();
+        }
+        else
+        {
+            log.error("Null endpoint");
+        }
+    }
+
+
+    /**
+     * Store the audit log record in the audit log store.  The record is queued for writing by the
+     * writer thread.
      *
      * @param logRecord  log record to store
      * @return unique identifier assigned to the log record
@@ -56,9 +170,38 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                 errorCode.getUserAction());
         }
 
-        log.debug("AuditLogRecord: " + logRecord.toString());
+        if (logRecord.getGUID() == null)
+        {
+            logRecord.setGUID(UUID.randomUUID().toString());
+        }
 
-        return null;
+        if (logRecord.getTimeStamp() == null)
+        {
+            logRecord.setTimeStamp(new Date());
+        }
+
+        queuedCount.incrementAndGet();
+
+        if (running)
+        {
+            try
+            {
+                writeQueue.put(logRecord);
+
+                return logRecord.getGUID();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /*
+         * The writer thread is not running so the record is written on the caller's thread.
+         */
+        writeRecords(Collections.singletonList(logRecord));
+
+        return logRecord.getGUID();
     }
 
 
@@ -71,6 +214,47 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
      */
     public OMRSAuditLogRecord  getAuditLogRecord(String     logRecordId) throws InvalidParameterException
     {
+        final String   methodName = "getAuditLogRecord";
+
+        validateQueryParameter(logRecordId, "logRecordId", methodName);
+
+        List<AuditLogSegmentIndex> segmentSnapshot = getSegmentSnapshot();
+
+        /*
+         * Work backwards since the most recent records are the most likely to be requested.
+         */
+        for (int segment = segmentSnapshot.size() - 1; segment >= 0; segment--)
+        {
+            AuditLogSegmentIndex segmentIndex = segmentSnapshot.get(segment);
+
+            if (segmentIndex.getRecordCount() > 0)
+            {
+                try (InputStream inputStream = openSegment(segmentIndex, 0))
+                {
+                    long   position = 0;
+                    String line;
+
+                    while ((position < segmentIndex.getLength()) && ((line = readLine(inputStream)) != null))
+                    {
+                        position = position + line.getBytes(StandardCharsets.UTF_8).length + 1;
+
+                        if (line.contains(logRecordId))
+                        {
+                            OMRSAuditLogRecord logRecord = objectMapper.readValue(line, OMRSAuditLogRecord.class);
+
+                            if (logRecordId.equals(logRecord.getGUID()))
+                            {
+                                return logRecord;
+                            }
+                        }
+                    }
+                }
+                catch (IOException error)
+                {
+                    log.error("Unable to read audit log segment " + getSegmentFile(segmentIndex) + ": " + error);
+                }
+            }
+        }
 
         return null;
     }
@@ -94,7 +278,9 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                   int     maximumRecords) throws InvalidParameterException,
                                                                                                  PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsByTimeStamp";
+
+        return findLogRecords(null, null, startDate, endDate, offset, maximumRecords, methodName);
     }
 
     /**
@@ -117,7 +303,11 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                  int      maximumRecords) throws InvalidParameterException,
                                                                                                  PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsBySeverity";
+
+        validateQueryParameter(severity, "severity", methodName);
+
+        return findLogRecords(severity, null, startDate, endDate, offset, maximumRecords, methodName);
     }
 
 
@@ -141,28 +331,782 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                   int    maximumRecords) throws InvalidParameterException,
                                                                                                 PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsByComponent";
+
+        validateQueryParameter(component, "component", methodName);
+
+        return findLogRecords(null, component, startDate, endDate, offset, maximumRecords, methodName);
     }
 
 
     /**
      * Indicates that the connector is completely configured and can begin processing.
+     * The directory is created if necessary, the indexes of the existing segments are loaded and the
+     * writer thread is started.
      *
      * @throws ConnectorCheckedException there is a problem within the connector.
      */
     public void start() throws ConnectorCheckedException
     {
+        final String   methodName = "start";
+
         super.start();
+
+        directory = new File(directoryName == null ? "" : directoryName);
+
+        if ((directoryName == null) || ((! directory.isDirectory()) && (! directory.mkdirs())))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.AUDIT_LOG_DIRECTORY_NOT_AVAILABLE;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(directoryName,
+                                                                            "the directory can not be created");
+
+            throw new ConnectorCheckedException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        synchronized (segmentLock)
+        {
+            loadSegmentIndexes();
+        }
+
+        running = true;
+
+        writerThread = new Thread(this::writeQueuedRecords, "FileBasedAuditLogStore:" + directoryName);
+        writerThread.setDaemon(true);
+        writerThread.start();
     }
 
 
     /**
-     * Free up any resources held since the connector is no longer needed.
+     * Free up any resources held since the connector is no longer needed.  The records in the queue are
+     * written and the current segment is closed.  The writer thread has stopped before the records left in the
+     * queue are written here so the records are written in order and none are written after the segment is closed.
      *
      * @throws ConnectorCheckedException there is a problem within the connector.
      */
     public  void disconnect() throws ConnectorCheckedException
     {
+        running = false;
+
+        if (writerThread != null)
+        {
+            stopWriterThread();
+
+            writerThread = null;
+        }
+
+        List<OMRSAuditLogRecord> remainingRecords = new ArrayList<>();
+
+        writeQueue.drainTo(remainingRecords);
+        writeRecords(remainingRecords);
+
+        synchronized (segmentLock)
+        {
+            closeActiveSegment();
+        }
+
         super.disconnect();
     }
+
+
+    /**
+     * Wait for the writer thread to write the queued records and end.  If it is still writing after the maximum
+     * wait it is interrupted so it ends after its current batch.  The wait continues if the calling thread is
+     * interrupted; the interrupt is passed on when the writer thread has ended.
+     */
+    private void stopWriterThread()
+    {
+        boolean interrupted = false;
+
+        try
+        {
+            writerThread.join(maxWaitForWrites);
+        }
+        catch (InterruptedException error)
+        {
+            interrupted = true;
+        }
+
+        while (writerThread.isAlive())
+        {
+            writerThread.interrupt();
+
+            try
+            {
+                writerThread.join();
+            }
+            catch (InterruptedException error)
+            {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * The body of the writer thread.  It takes the records from the queue in batches and writes them to the
+     * active segment.  The poll interval means the age of the active segment is checked even when no
+     * records are being logged.
+     */
+    private void writeQueuedRecords()
+    {
+        List<OMRSAuditLogRecord> batch = new ArrayList<>();
+
+        while (running || (! writeQueue.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord logRecord = writeQueue.poll(writerPollInterval, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    batch.add(logRecord);
+                    writeQueue.drainTo(batch, maxRecordsPerWrite - 1);
+                }
+
+                writeRecords(batch);
+                batch.clear();
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Audit log writer interrupted");
+                break;
+            }
+            catch (Throwable error)
+            {
+                log.error("Unexpected error in audit log writer: " + error);
+                batch.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Append a batch of records to the active segment, rotating the segment when it becomes too big or
+     * too old.  The written records are flushed before the lock is released so the queries can read them.
+     *
+     * @param logRecords records to write
+     */
+    private void writeRecords(List<OMRSAuditLogRecord> logRecords)
+    {
+        synchronized (segmentLock)
+        {
+            if ((activeSegment != null) && (System.currentTimeMillis() - activeSegmentOpenTime >= maxSegmentAge))
+            {
+                closeActiveSegment();
+            }
+
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                try
+                {
+                    if (activeSegment == null)
+                    {
+                        openActiveSegment();
+                    }
+
+                    byte[] recordBytes = objectMapper.writeValueAsBytes(logRecord);
+
+                    activeSegmentStream.write(recordBytes);
+                    activeSegmentStream.write('\n');
+                    activeSegment.addRecord(logRecord, recordBytes.length + 1);
+
+                    if (activeSegment.getLength() >= maxSegmentSize)
+                    {
+                        closeActiveSegment();
+                    }
+                }
+                catch (Throwable error)
+                {
+                    log.error("Unable to write audit log record " + logRecord + " to " + directoryName + ": " + error);
+
+                    closeActiveSegment();
+                }
+            }
+
+            if (activeSegmentStream != null)
+            {
+                try
+                {
+                    activeSegmentStream.flush();
+                }
+                catch (IOException error)
+                {
+                    log.error("Unable to flush audit log segment in " + directoryName + ": " + error);
+
+                    closeActiveSegment();
+                }
+            }
+
+            writtenCount = writtenCount + logRecords.size();
+            segmentLock.notifyAll();
+        }
+    }
+
+
+    /**
+     * Start a new segment file.  Called with the segment lock held.
+     *
+     * @throws IOException the segment file can not be created
+     */
+    private void openActiveSegment() throws IOException
+    {
+        if (directory == null)
+        {
+            throw new IOException("audit log store has not been started");
+        }
+
+        AuditLogSegmentIndex segmentIndex = new AuditLogSegmentIndex(nextSegmentNumber);
+
+        activeSegmentStream = new BufferedOutputStream(new FileOutputStream(getSegmentFile(segmentIndex)), 64 * 1024);
+        activeSegment = segmentIndex;
+        activeSegmentOpenTime = System.currentTimeMillis();
+        nextSegmentNumber++;
+
+        segments.add(segmentIndex);
+    }
+
+
+    /**
+     * Close the active segment and save its index.  Called with the segment lock held.
+     */
+    private void closeActiveSegment()
+    {
+        if (activeSegmentStream != null)
+        {
+            try
+            {
+                activeSegmentStream.close();
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to close audit log segment " + getSegmentFile(activeSegment) + ": " + error);
+            }
+        }
+
+        if (activeSegment != null)
+        {
+            saveSegmentIndex(activeSegment);
+        }
+
+        activeSegmentStream = null;
+        activeSegment = null;
+    }
+
+
+    /**
+     * Load the indexes for the segments already in the directory.  An index is rebuilt from its segment if it is
+     * missing or does not match the length of the segment file.  Called with the segment lock held.
+     */
+    private void loadSegmentIndexes()
+    {
+        segments.clear();
+
+        File[] segmentFiles = directory.listFiles((dir, name) -> name.startsWith(segmentFilePrefix) &&
+                                                                 name.endsWith(segmentFileExtension));
+
+        if (segmentFiles != null)
+        {
+            for (File segmentFile : segmentFiles)
+            {
+                String name = segmentFile.getName();
+
+                try
+                {
+                    long segmentNumber = Long.parseLong(name.substring(segmentFilePrefix.length(),
+                                                                       name.length() - segmentFileExtension.length()));
+
+                    AuditLogSegmentIndex segmentIndex = null;
+                    File                 indexFile    = getIndexFile(segmentNumber);
+
+                    if (indexFile.exists())
+                    {
+                        try
+                        {
+                            segmentIndex = objectMapper.readValue(indexFile, AuditLogSegmentIndex.class);
+                        }
+                        catch (IOException error)
+                        {
+                            log.debug("Unable to read audit log index " + indexFile + ": " + error);
+                        }
+                    }
+
+                    if ((segmentIndex == null) || (segmentIndex.getLength() != segmentFile.length()))
+                    {
+                        segmentIndex = rebuildSegmentIndex(segmentNumber, segmentFile);
+                        saveSegmentIndex(segmentIndex);
+                    }
+
+                    segments.add(segmentIndex);
+                    nextSegmentNumber = Math.max(nextSegmentNumber, segmentNumber + 1);
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignoring file " + name + " in audit log directory " + directoryName);
+                }
+            }
+        }
+
+        segments.sort((segment1, segment2) -> Long.compare(segment1.getSegmentNumber(), segment2.getSegmentNumber()));
+    }
+
+
+    /**
+     * Rebuild the index of a segment by reading its records.  Any incomplete or unreadable record at the end of
+     * the segment (for example after a crash) is not included.  A partial record after the last line separator
+     * is removed from the segment file so the file and its index have the same length.  The file is left
+     * alone if a complete record can not be read.
+     *
+     * @param segmentNumber number of the segment
+     * @param segmentFile segment file
+     * @return index
+     */
+    private AuditLogSegmentIndex rebuildSegmentIndex(long segmentNumber,
+                                                     File segmentFile)
+    {
+        AuditLogSegmentIndex segmentIndex = new AuditLogSegmentIndex(segmentNumber);
+        boolean              partialLine  = false;
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(segmentFile), 64 * 1024))
+        {
+            ByteArrayOutputStream lineBytes = new ByteArrayOutputStream();
+            int                   nextByte;
+
+            while ((nextByte = inputStream.read()) != -1)
+            {
+                if (nextByte == '\n')
+                {
+                    OMRSAuditLogRecord logRecord = objectMapper.readValue(lineBytes.toByteArray(), OMRSAuditLogRecord.class);
+
+                    segmentIndex.addRecord(logRecord, lineBytes.size() + 1);
+                    lineBytes.reset();
+                }
+                else
+                {
+                    lineBytes.write(nextByte);
+                }
+            }
+
+            partialLine = (lineBytes.size() > 0);
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to read all of audit log segment " + segmentFile + ": " + error);
+        }
+
+        if (partialLine)
+        {
+            log.debug("Removing partial record from the end of audit log segment " + segmentFile);
+
+            try (FileChannel segmentChannel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.WRITE))
+            {
+                segmentChannel.truncate(segmentIndex.getLength());
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to remove partial record from audit log segment " + segmentFile + ": " + error);
+            }
+        }
+
+        return segmentIndex;
+    }
+
+
+    /**
+     * Save the index for a segment alongside the segment file.
+     *
+     * @param segmentIndex index to save
+     */
+    private void saveSegmentIndex(AuditLogSegmentIndex segmentIndex)
+    {
+        File indexFile = getIndexFile(segmentIndex.getSegmentNumber());
+
+        try
+        {
+            objectMapper.writeValue(indexFile, segmentIndex);
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to write audit log index " + indexFile + ": " + error);
+        }
+    }
+
+
+    /**
+     * Return the file that holds the records of a segment.
+     *
+     * @param segmentIndex index of the segment
+     * @return file
+     */
+    private File getSegmentFile(AuditLogSegmentIndex segmentIndex)
+    {
+        return new File(directory, segmentFilePrefix + String.format("%010d", segmentIndex.getSegmentNumber()) + segmentFileExtension);
+    }
+
+
+    /**
+     * Return the file that holds the index of a segment.
+     *
+     * @param segmentNumber number of the segment
+     * @return file
+     */
+    private File getIndexFile(long segmentNumber)
+    {
+        return new File(directory, segmentFilePrefix + String.format("%010d", segmentNumber) + indexFileExtension);
+    }
+
+
+    /**
+     * Wait for the records queued before this call to be written and then return a copy of the segment indexes.
+     * The copies only cover the records that were written when the copy was taken so the queries do not see
+     * records that are still being written.
+     *
+     * @return list of segment indexes, oldest first
+     */
+    private List<AuditLogSegmentIndex> getSegmentSnapshot()
+    {
+        long waitUntil = System.currentTimeMillis() + maxWaitForWrites;
+        long target    = queuedCount.get();
+
+        synchronized (segmentLock)
+        {
+            while ((writtenCount < target) && (running) && (System.currentTimeMillis() < waitUntil))
+            {
+                try
+                {
+                    segmentLock.wait(writerPollInterval);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            List<AuditLogSegmentIndex> segmentSnapshot = new ArrayList<>();
+
+            for (AuditLogSegmentIndex segmentIndex : segments)
+            {
+                segmentSnapshot.add(new AuditLogSegmentIndex(segmentIndex));
+            }
+
+            return segmentSnapshot;
+        }
+    }
+
+
+    /**
+     * Return the log records that match the requested severity or component and were written in the time period.
+     * The segment indexes are used to skip over the segments that have no matching records and to count off the
+     * offset without reading the segments that fall wholly within the time period.  Within a segment,
+     * only the blocks of records that overlap the time period are read.
+     *
+     * @param severity severity to match or null for any severity
+     * @param componentName component to match or null for any component
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @param offset number of matching records to skip
+     * @param maximumRecords maximum number of log records to return (zero means no limit)
+     * @param methodName calling method
+     * @return list of log records or null if none match
+     * @throws InvalidParameterException the time period is invalid
+     * @throws PagingErrorException the offset or maximumRecords is negative
+     */
+    private List<OMRSAuditLogRecord> findLogRecords(String severity,
+                                                    String componentName,
+                                                    Date   startDate,
+                                                    Date   endDate,
+                                                    int    offset,
+                                                    int    maximumRecords,
+                                                    String methodName) throws InvalidParameterException,
+                                                                              PagingErrorException
+    {
+        validatePagingParameter(offset, "offset", methodName);
+        validatePagingParameter(maximumRecords, "maximumRecords", methodName);
+
+        if ((startDate != null) && (endDate != null) && (startDate.after(endDate)))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.INVALID_AUDIT_LOG_TIME_PERIOD;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(startDate.toString(),
+                                                                            endDate.toString(),
+                                                                            methodName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        List<OMRSAuditLogRecord> results        = new ArrayList<>();
+        long                     recordsToSkip  = offset;
+
+        for (AuditLogSegmentIndex segmentIndex : getSegmentSnapshot())
+        {
+            if ((maximumRecords > 0) && (results.size() >= maximumRecords))
+            {
+                break;
+            }
+
+            if (! segmentIndex.overlaps(startDate, endDate))
+            {
+                continue;
+            }
+
+            long matchingCount = segmentIndex.getMatchingCount(severity, componentName);
+
+            if (matchingCount == 0)
+            {
+                continue;
+            }
+
+            if ((segmentIndex.isWithin(startDate, endDate)) && (matchingCount <= recordsToSkip))
+            {
+                recordsToSkip = recordsToSkip - matchingCount;
+                continue;
+            }
+
+            try
+            {
+                recordsToSkip = readSegment(segmentIndex,
+                                            severity,
+                                            componentName,
+                                            startDate,
+                                            endDate,
+                                            recordsToSkip,
+                                            maximumRecords,
+                                            results);
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to read audit log segment " + getSegmentFile(segmentIndex) + ": " + error);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Read the blocks of a segment that overlap the time period, adding the matching records to the results.
+     *
+     * @param segmentIndex index of the segment to read
+     * @param severity severity to match or null for any severity
+     * @param componentName component to match or null for any component
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @param recordsToSkip number of matching records still to skip
+     * @param maximumRecords maximum number of log records to return (zero means no limit)
+     * @param results accumulated results
+     * @return number of matching records still to skip
+     * @throws IOException problem reading the segment file
+     */
+    private long readSegment(AuditLogSegmentIndex     segmentIndex,
+                             String                   severity,
+                             String                   componentName,
+                             Date                     startDate,
+                             Date                     endDate,
+                             long                     recordsToSkip,
+                             int                      maximumRecords,
+                             List<OMRSAuditLogRecord> results) throws IOException
+    {
+        List<Long> blockOffsets = segmentIndex.getBlockOffsets();
+
+        for (int block = 0; block < blockOffsets.size(); block++)
+        {
+            if (! segmentIndex.blockOverlaps(block, startDate, endDate))
+            {
+                continue;
+            }
+
+            long blockStart = blockOffsets.get(block);
+            long blockEnd   = segmentIndex.getBlockEnd(block);
+
+            try (InputStream inputStream = openSegment(segmentIndex, blockStart))
+            {
+                long   position = blockStart;
+                String line;
+
+                while ((position < blockEnd) && ((line = readLine(inputStream)) != null))
+                {
+                    position = position + line.getBytes(StandardCharsets.UTF_8).length + 1;
+
+                    OMRSAuditLogRecord logRecord = objectMapper.readValue(line, OMRSAuditLogRecord.class);
+
+                    if (isMatchingRecord(logRecord, severity, componentName, startDate, endDate))
+                    {
+                        if (recordsToSkip > 0)
+                        {
+                            recordsToSkip--;
+                        }
+                        else
+                        {
+                            results.add(logRecord);
+
+                            if ((maximumRecords > 0) && (results.size() >= maximumRecords))
+                            {
+                                return recordsToSkip;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return recordsToSkip;
+    }
+
+
+    /**
+     * Return whether a log record matches the query.
+     *
+     * @param logRecord log record
+     * @param severity severity to match or null for any severity
+     * @param componentName component to match or null for any component
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @return boolean
+     */
+    private boolean isMatchingRecord(OMRSAuditLogRecord logRecord,
+                                     String             severity,
+                                     String             componentName,
+                                     Date               startDate,
+                                     Date               endDate)
+    {
+        long timeStamp = AuditLogSegmentIndex.getTimeStamp(logRecord);
+
+        return ((startDate == null) || (timeStamp >= startDate.getTime())) &&
+               ((endDate == null) || (timeStamp <= endDate.getTime())) &&
+               ((severity == null) || (severity.equals(logRecord.getSeverity()))) &&
+               ((componentName == null) || (componentName.equals(AuditLogSegmentIndex.getComponentName(logRecord))));
+    }
+
+
+    /**
+     * Open a segment file for reading from the requested position.
+     *
+     * @param segmentIndex index of the segment
+     * @param position file offset to start reading from
+     * @return input stream
+     * @throws IOException problem opening the file
+     */
+    private InputStream openSegment(AuditLogSegmentIndex segmentIndex,
+                                    long                 position) throws IOException
+    {
+        FileInputStream fileInputStream = new FileInputStream(getSegmentFile(segmentIndex));
+
+        try
+        {
+            fileInputStream.getChannel().position(position);
+        }
+        catch (IOException error)
+        {
+            fileInputStream.close();
+            throw error;
+        }
+
+        return new BufferedInputStream(fileInputStream, 64 * 1024);
+    }
+
+
+    /**
+     * Read the next record from a segment.  JSON escapes the line separators in string values so each
+     * record is on one line.
+     *
+     * @param inputStream segment file
+     * @return line without the line separator or null at the end of the file
+     * @throws IOException problem reading the file
+     */
+    private String readLine(InputStream inputStream) throws IOException
+    {
+        ByteArrayOutputStream lineBytes = new ByteArrayOutputStream();
+        int                   nextByte;
+
+        while ((nextByte = inputStream.read()) != -1)
+        {
+            if (nextByte == '\n')
+            {
+                return new String(lineBytes.toByteArray(), StandardCharsets.UTF_8);
+            }
+
+            lineBytes.write(nextByte);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Validate that a query parameter is not null.
+     *
+     * @param parameterValue value passed
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws InvalidParameterException the value is null
+     */
+    private void validateQueryParameter(String parameterValue,
+                                        String parameterName,
+                                        String methodName) throws InvalidParameterException
+    {
+        if (parameterValue == null)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NULL_AUDIT_LOG_QUERY_PARAMETER;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(parameterName, methodName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Validate that a paging parameter is not negative.
+     *
+     * @param parameterValue value passed
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws PagingErrorException the value is negative
+     */
+    private void validatePagingParameter(int    parameterValue,
+                                         String parameterName,
+                                         String methodName) throws PagingErrorException
+    {
+        if (parameterValue < 0)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NEGATIVE_AUDIT_LOG_PAGING_PARAMETER;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(Integer.toString(parameterValue),
+                                                                            parameterName,
+                                                                            methodName);
+
+            throw new PagingErrorException(errorCode.getHTTPErrorCode(),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           errorMessage,
+                                           errorCode.getSystemAction(),
+                                           errorCode.getUserAction());
+        }
+    }
 }
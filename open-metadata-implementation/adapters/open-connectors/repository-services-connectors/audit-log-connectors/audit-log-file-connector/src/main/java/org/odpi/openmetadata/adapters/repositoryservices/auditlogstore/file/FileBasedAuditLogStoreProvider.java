@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * FileBasedAuditLogStoreProvider is the OCF connector provider for the file based audit log store.
  */
@@ -14,6 +17,10 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
     static final String  connectorTypeName = "File Based Audit Log Store Connector";
     static final String  connectorTypeDescription = "Connector supports storing of audit log messages in a file.";
 
+    public static final String  maxSegmentSizeProperty = "maxSegmentSize";
+    public static final String  maxSegmentAgeProperty = "maxSegmentAge";
+    public static final String  writeQueueSizeProperty = "writeQueueSize";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * audit log store implementation.
@@ -32,6 +39,13 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(maxSegmentSizeProperty);
+        recognizedConfigurationProperties.add(maxSegmentAgeProperty);
+        recognizedConfigurationProperties.add(writeQueueSizeProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,107 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the counts, time periods and blocks kept by AuditLogSegmentIndex.
+ */
+public class AuditLogSegmentIndexTest
+{
+    private OMRSAuditLogRecord getLogRecord(long timeStamp, String severity, String componentName)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setTimeStamp(new Date(timeStamp));
+        logRecord.setSeverity(severity);
+        logRecord.setReportingComponent(new OMRSAuditLogReportingComponent(1, componentName, null, null));
+
+        return logRecord;
+    }
+
+
+    @Test
+    public void testBlocks()
+    {
+        AuditLogSegmentIndex segmentIndex = new AuditLogSegmentIndex(1);
+        int                  recordCount  = AuditLogSegmentIndex.recordsPerBlock + 10;
+
+        for (int record = 0; record < recordCount; record++)
+        {
+            segmentIndex.addRecord(getLogRecord(1000 + record, "Information", "component"), 100);
+        }
+
+        assertEquals(segmentIndex.getRecordCount(), recordCount);
+        assertEquals(segmentIndex.getLength(), recordCount * 100L);
+        assertEquals(segmentIndex.getBlockOffsets().size(), 2);
+        assertEquals(segmentIndex.getBlockEnd(0), AuditLogSegmentIndex.recordsPerBlock * 100L);
+        assertEquals(segmentIndex.getBlockEnd(1), segmentIndex.getLength());
+
+        /*
+         * Only the second block covers the last ten time stamps.
+         */
+        Date startDate = new Date(1000 + AuditLogSegmentIndex.recordsPerBlock);
+
+        assertFalse(segmentIndex.blockOverlaps(0, startDate, null));
+        assertTrue(segmentIndex.blockOverlaps(1, startDate, null));
+    }
+
+
+    @Test
+    public void testTimePeriod()
+    {
+        AuditLogSegmentIndex segmentIndex = new AuditLogSegmentIndex(1);
+
+        assertFalse(segmentIndex.overlaps(null, null));
+
+        segmentIndex.addRecord(getLogRecord(2000, "Information", "component"), 100);
+        segmentIndex.addRecord(getLogRecord(1000, "Information", "component"), 100);
+
+        assertEquals(segmentIndex.getFirstTimeStamp(), 1000);
+        assertEquals(segmentIndex.getLastTimeStamp(), 2000);
+
+        assertTrue(segmentIndex.overlaps(new Date(1500), new Date(3000)));
+        assertFalse(segmentIndex.overlaps(new Date(2001), null));
+        assertFalse(segmentIndex.overlaps(null, new Date(999)));
+
+        assertTrue(segmentIndex.isWithin(new Date(1000), new Date(2000)));
+        assertFalse(segmentIndex.isWithin(new Date(1500), null));
+    }
+
+
+    @Test
+    public void testMatchingCounts()
+    {
+        AuditLogSegmentIndex segmentIndex = new AuditLogSegmentIndex(1);
+
+        segmentIndex.addRecord(getLogRecord(1000, "Information", "component1"), 100);
+        segmentIndex.addRecord(getLogRecord(1000, "Error", "component1"), 100);
+        segmentIndex.addRecord(getLogRecord(1000, "Error", "component2"), 100);
+
+        assertEquals(segmentIndex.getMatchingCount(null, null), 3);
+        assertEquals(segmentIndex.getMatchingCount("Error", null), 2);
+        assertEquals(segmentIndex.getMatchingCount(null, "component1"), 2);
+        assertEquals(segmentIndex.getMatchingCount("Information", "component2"), 1);
+        assertEquals(segmentIndex.getMatchingCount("Exception", null), 0);
+
+        /*
+         * The copy is not changed by records added to the original.
+         */
+        AuditLogSegmentIndex segmentCopy = new AuditLogSegmentIndex(segmentIndex);
+
+        segmentIndex.addRecord(getLogRecord(1000, "Error", "component2"), 100);
+
+        assertEquals(segmentCopy.getMatchingCount("Error", null), 2);
+        assertEquals(segmentCopy.getLength(), 300);
+    }
+}
@@ -0,0 +1,210 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the writing, querying and recovery of the segment files of the FileBasedAuditLogStoreConnector.
+ */
+public class FileBasedAuditLogStoreConnectorTest
+{
+    private File directory;
+
+
+    @BeforeMethod
+    public void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory("auditlog").toFile();
+    }
+
+
+    @AfterMethod
+    public void deleteDirectory()
+    {
+        File[] files = directory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                file.delete();
+            }
+        }
+
+        directory.delete();
+    }
+
+
+    private FileBasedAuditLogStoreConnector getConnector() throws Exception
+    {
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress(directory.getAbsolutePath());
+        connection.setEndpoint(endpoint);
+
+        FileBasedAuditLogStoreConnector connector = new FileBasedAuditLogStoreConnector();
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    private OMRSAuditLogRecord getLogRecord(long timeStamp, String severity, String componentName)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setTimeStamp(new Date(timeStamp));
+        logRecord.setSeverity(severity);
+        logRecord.setReportingComponent(new OMRSAuditLogReportingComponent(1, componentName, null, null));
+        logRecord.setMessageText("Message " + timeStamp);
+
+        return logRecord;
+    }
+
+
+    private File getSegmentFile()
+    {
+        return new File(directory, "auditlog-0000000001.json");
+    }
+
+
+    @Test
+    public void testQueries() throws Exception
+    {
+        FileBasedAuditLogStoreConnector connector = getConnector();
+
+        String firstGUID = connector.storeLogRecord(getLogRecord(1000, "Information", "component1"));
+
+        connector.storeLogRecord(getLogRecord(2000, "Error", "component1"));
+        connector.storeLogRecord(getLogRecord(3000, "Error", "component2"));
+        connector.storeLogRecord(getLogRecord(4000, "Information", "component2"));
+
+        assertEquals(connector.getAuditLogRecord(firstGUID).getTimeStamp().getTime(), 1000);
+        assertNull(connector.getAuditLogRecord("unknown"));
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getTimeStamp().getTime(), 2000);
+
+        results = connector.getAuditLogRecordsByComponent("component2", new Date(3500), null, 0, 0);
+
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getTimeStamp().getTime(), 4000);
+
+        results = connector.getAuditLogRecordsByTimeStamp(null, null, 1, 2);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getTimeStamp().getTime(), 2000);
+        assertEquals(results.get(1).getTimeStamp().getTime(), 3000);
+
+        assertNull(connector.getAuditLogRecordsBySeverity("Exception", null, null, 0, 0));
+
+        connector.disconnect();
+    }
+
+
+    @Test
+    public void testQueuedRecordsAreWrittenOnDisconnect() throws Exception
+    {
+        final int recordCount = 5000;
+
+        FileBasedAuditLogStoreConnector connector = getConnector();
+
+        for (int record = 0; record < recordCount; record++)
+        {
+            connector.storeLogRecord(getLogRecord(1000 + record, "Information", "component1"));
+        }
+
+        connector.disconnect();
+
+        connector = getConnector();
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0);
+
+        assertEquals(results.size(), recordCount);
+
+        /*
+         * The records are in the order they were stored.
+         */
+        for (int record = 0; record < recordCount; record++)
+        {
+            assertEquals(results.get(record).getTimeStamp().getTime(), 1000 + record);
+        }
+
+        connector.disconnect();
+    }
+
+
+    @Test
+    public void testPartialRecordIsRemovedOnRestart() throws Exception
+    {
+        FileBasedAuditLogStoreConnector connector = getConnector();
+
+        connector.storeLogRecord(getLogRecord(1000, "Information", "component1"));
+        connector.storeLogRecord(getLogRecord(2000, "Information", "component1"));
+        connector.disconnect();
+
+        File segmentFile    = getSegmentFile();
+        long completeLength = segmentFile.length();
+
+        /*
+         * Simulate a crash part way through writing a record.
+         */
+        try (FileOutputStream outputStream = new FileOutputStream(segmentFile, true))
+        {
+            outputStream.write("{\"guid\":\"partial".getBytes(StandardCharsets.UTF_8));
+        }
+
+        connector = getConnector();
+
+        assertEquals(segmentFile.length(), completeLength);
+
+        String guid = connector.storeLogRecord(getLogRecord(3000, "Information", "component1"));
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0);
+
+        assertEquals(results.size(), 3);
+        assertNotNull(connector.getAuditLogRecord(guid));
+
+        connector.disconnect();
+
+        /*
+         * The next restart uses the saved index rather than rebuilding it.
+         */
+        File indexFile = new File(directory, "auditlog-0000000001.index");
+
+        assertTrue(indexFile.exists());
+
+        connector = getConnector();
+
+        assertEquals(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0).size(), 3);
+
+        connector.disconnect();
+    }
+}
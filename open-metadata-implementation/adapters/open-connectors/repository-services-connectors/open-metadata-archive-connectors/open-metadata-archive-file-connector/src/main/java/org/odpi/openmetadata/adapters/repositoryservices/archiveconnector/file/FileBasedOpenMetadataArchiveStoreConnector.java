@@ -2,17 +2,29 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveElementProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
@@ -22,6 +34,16 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /*
+     * Names of the fields in the archive file that are used when streaming its contents.
+     */
+    private static final String archivePropertiesFieldName    = "archiveProperties";
+    private static final String archiveTypeStoreFieldName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreFieldName = "archiveInstanceStore";
+    private static final String entitiesFieldName             = "entities";
+    private static final String relationshipsFieldName        = "relationships";
+    private static final String classificationsFieldName      = "classifications";
+
     /*
      * Variables used in writing to the file.
      */
@@ -74,11 +96,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
         {
             log.debug("Retrieving server configuration properties");
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            newOpenMetadataArchive = OMRSJSONMapper.getReader(OpenMetadataArchive.class).readValue(archiveStoreFile);
         }
         catch (IOException ioException)
         {
@@ -95,6 +113,206 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to the processor one element at a time.  The file is read with a
+     * streaming parser so the whole archive is never held in memory.  The first pass reads the archive
+     * properties and the type store, which are small.  The second pass reads the instance store and passes
+     * each entity, relationship and classification to the processor as soon as it is parsed.
+     *
+     * @param processor receiver of the archive's contents
+     * @return boolean flag indicating whether the archive had any content
+     * @throws OMRSRuntimeException the instance store could not be read to the end
+     */
+    @Override
+    public boolean processArchiveContents(OpenMetadataArchiveElementProcessor processor) throws OMRSRuntimeException
+    {
+        final String methodName = "processArchiveContents";
+
+        File                          archiveStoreFile  = new File(archiveStoreName);
+        ObjectMapper                  objectMapper      = OMRSJSONMapper.getObjectMapper();
+        OpenMetadataArchiveProperties archiveProperties = null;
+        OpenMetadataArchiveTypeStore  archiveTypeStore  = null;
+
+        log.debug("Streaming open metadata archive " + archiveStoreName);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(archiveStoreFile))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                return false;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (archivePropertiesFieldName.equals(fieldName))
+                {
+                    archiveProperties = parser.readValueAs(OpenMetadataArchiveProperties.class);
+                }
+                else if (archiveTypeStoreFieldName.equals(fieldName))
+                {
+                    archiveTypeStore = parser.readValueAs(OpenMetadataArchiveTypeStore.class);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+        catch (FileNotFoundException notFoundException)
+        {
+            log.debug("Missing open metadata archive " + archiveStoreName, notFoundException);
+
+            return false;
+        }
+        catch (IOException ioException)
+        {
+            log.debug("Unusable open metadata archive " + archiveStoreName, ioException);
+
+            throw this.getReadError(ioException, methodName);
+        }
+
+        if (processor.processArchiveProperties(archiveProperties))
+        {
+            processTypeStore(archiveTypeStore, processor);
+
+            try (JsonParser parser = objectMapper.getFactory().createParser(archiveStoreFile))
+            {
+                if ((parser.nextToken() == JsonToken.START_OBJECT) && (skipToField(parser, archiveInstanceStoreFieldName)))
+                {
+                    this.streamInstanceStore(parser, processor);
+                }
+            }
+            catch (IOException ioException)
+            {
+                log.debug("Unable to read instances from open metadata archive " + archiveStoreName, ioException);
+
+                throw this.getReadError(ioException, methodName);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Build the exception returned when the archive file exists but can not be read to the end.
+     *
+     * @param ioException error from the parser
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private OMRSRuntimeException getReadError(IOException ioException,
+                                              String      methodName)
+    {
+        OMRSErrorCode errorCode    = OMRSErrorCode.ARCHIVE_READ_ERROR;
+        String        errorMessage = errorCode.getErrorMessageId()
+                                   + errorCode.getFormattedErrorMessage(archiveStoreName,
+                                                                        ioException.getMessage());
+
+        return new OMRSRuntimeException(errorCode.getHTTPErrorCode(),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        errorMessage,
+                                        errorCode.getSystemAction(),
+                                        errorCode.getUserAction(),
+                                        ioException);
+    }
+
+
+    /**
+     * Move the parser to the value of the named field in the current object.
+     *
+     * @param parser parser positioned at the start of an object
+     * @param requiredFieldName name of the field to find
+     * @return boolean flag indicating whether the field was found and its value is an object
+     * @throws IOException problem reading the file
+     */
+    private boolean skipToField(JsonParser parser,
+                                String     requiredFieldName) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            if ((parser.nextToken() == JsonToken.START_OBJECT) && (requiredFieldName.equals(fieldName)))
+            {
+                return true;
+            }
+
+            parser.skipChildren();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Step through the instance store, passing each instance to the processor as it is parsed.
+     * The lists are processed in the order they appear in the file.
+     *
+     * @param parser parser positioned at the start of the instance store
+     * @param processor receiver of the instances
+     * @throws IOException problem reading the file
+     */
+    private void streamInstanceStore(JsonParser                          parser,
+                                     OpenMetadataArchiveElementProcessor processor) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            if (parser.nextToken() != JsonToken.START_ARRAY)
+            {
+                parser.skipChildren();
+            }
+            else if (entitiesFieldName.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    EntityDetail entity = parser.readValueAs(EntityDetail.class);
+
+                    if (entity != null)
+                    {
+                        processor.processEntity(entity);
+                    }
+                }
+            }
+            else if (relationshipsFieldName.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    Relationship relationship = parser.readValueAs(Relationship.class);
+
+                    if (relationship != null)
+                    {
+                        processor.processRelationship(relationship);
+                    }
+                }
+            }
+            else if (classificationsFieldName.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    ClassificationEntityExtension classification = parser.readValueAs(ClassificationEntityExtension.class);
+
+                    if (classification != null)
+                    {
+                        processor.processClassification(classification);
+                    }
+                }
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -114,9 +332,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String archiveStoreFileContents = objectMapper.writeValueAsString(archiveContents);
+                String archiveStoreFileContents = OMRSJSONMapper.writeValueAsString(archiveContents);
 
                 FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, (String)null,false);
             }
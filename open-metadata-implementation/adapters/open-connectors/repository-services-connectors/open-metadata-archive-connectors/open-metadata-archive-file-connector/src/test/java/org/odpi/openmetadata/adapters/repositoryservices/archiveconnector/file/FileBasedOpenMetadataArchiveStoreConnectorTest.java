@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveElementProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the streaming of an archive file by the FileBasedOpenMetadataArchiveStoreConnector.
+ */
+public class FileBasedOpenMetadataArchiveStoreConnectorTest
+{
+    /**
+     * Records the elements passed from the archive.
+     */
+    private static class RecordingProcessor implements OpenMetadataArchiveElementProcessor
+    {
+        OpenMetadataArchiveProperties archiveProperties = null;
+        List<EntityDetail>            entities          = new ArrayList<>();
+
+        public boolean processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            this.archiveProperties = archiveProperties;
+            return true;
+        }
+
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch) { }
+
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef) { }
+
+        public void processTypeDef(TypeDef typeDef) { }
+
+        public void processEntity(EntityDetail entity)
+        {
+            entities.add(entity);
+        }
+
+        public void processRelationship(Relationship relationship) { }
+
+        public void processClassification(ClassificationEntityExtension classification) { }
+    }
+
+
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(File archiveFile)
+    {
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress(archiveFile.getAbsolutePath());
+        connection.setEndpoint(endpoint);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    private String getArchiveText(int entityCount) throws Exception
+    {
+        ObjectMapper                  objectMapper      = new ObjectMapper();
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("testArchiveGUID");
+        archiveProperties.setArchiveName("testArchive");
+
+        StringBuilder archiveText = new StringBuilder("{\"archiveProperties\":");
+
+        archiveText.append(objectMapper.writeValueAsString(archiveProperties));
+        archiveText.append(",\"archiveInstanceStore\":{\"entities\":[");
+
+        for (int i = 0; i < entityCount; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("entity-" + i);
+
+            if (i > 0)
+            {
+                archiveText.append(",");
+            }
+            archiveText.append(objectMapper.writeValueAsString(entity));
+        }
+
+        archiveText.append("]}}");
+
+        return archiveText.toString();
+    }
+
+
+    @Test
+    public void testStreamsCompleteArchive() throws Exception
+    {
+        File archiveFile = File.createTempFile("archive", ".json");
+        archiveFile.deleteOnExit();
+        Files.write(archiveFile.toPath(), getArchiveText(3).getBytes(StandardCharsets.UTF_8));
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        assertTrue(getConnector(archiveFile).processArchiveContents(processor));
+        assertEquals(processor.archiveProperties.getArchiveName(), "testArchive");
+        assertEquals(processor.entities.size(), 3);
+        assertEquals(processor.entities.get(2).getGUID(), "entity-2");
+    }
+
+
+    @Test
+    public void testTruncatedArchiveIsReported() throws Exception
+    {
+        String archiveText = getArchiveText(3);
+
+        /*
+         * Cut the file part way through the last entity.  The archive is scanned before any of it is
+         * loaded, so nothing is passed to the processor.
+         */
+        String truncatedText = archiveText.substring(0, archiveText.lastIndexOf("entity-2") - 5);
+
+        File archiveFile = File.createTempFile("archive", ".json");
+        archiveFile.deleteOnExit();
+        Files.write(archiveFile.toPath(), truncatedText.getBytes(StandardCharsets.UTF_8));
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        try
+        {
+            getConnector(archiveFile).processArchiveContents(processor);
+            fail("Truncated archive was reported as loaded");
+        }
+        catch (OMRSRuntimeException error)
+        {
+            assertTrue(error.getMessage().contains("OMRS-ARCHIVE-MANAGER-500-001"));
+        }
+
+        assertNull(processor.archiveProperties);
+        assertTrue(processor.entities.isEmpty());
+    }
+
+
+    @Test
+    public void testMissingArchiveIsEmpty() throws Exception
+    {
+        File archiveFile = File.createTempFile("archive", ".json");
+        assertTrue(archiveFile.delete());
+
+        assertFalse(getConnector(archiveFile).processArchiveContents(new RecordingProcessor()));
+    }
+}
@@ -125,6 +125,18 @@ public enum GraphOMRSErrorCode
             "There is an already a relationship with GUID {0} so cannot honour request to create relationship in {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because there is already a relationship with the same GUID.",
             "Correct the caller's code and retry the request."),
+    ENTITIES_NOT_COUNTED(400, "OMRS-GRAPH-REPOSITORY-400-024 ",
+            "The attempt to count the entities of type {0} failed in {1} method of class {2} to open metadata repository {3}",
+            "The system was unable to perform the entity count.",
+            "Check the system logs for the error from the graph database, correct the cause and retry the request."),
+    TRANSACTION_CONFLICT(409, "OMRS-GRAPH-REPOSITORY-409-001 ",
+            "The graph transaction that updates the instance with GUID {0} could not be committed in {1} method of class {2} to open metadata repository {3}; the error was {4}",
+            "The system rolled back the transaction. This is usually because another transaction held the lock on the instance's unique identifier, for example when two threads created the same instance at the same time.",
+            "Retrieve the latest version of the instance and retry the request. If the problem persists, check the system logs."),
+    VERSION_CONFLICT(409, "OMRS-GRAPH-REPOSITORY-409-002 ",
+            "The update of the instance with GUID {0} in {1} method of class {2} to open metadata repository {3} was rejected because version {4} of the instance is already stored and the update is for version {5}",
+            "The system rolled back the transaction. Another request has already stored the same or a later version of the instance.",
+            "Retrieve the latest version of the instance and retry the request."),
 
     ;
 
@@ -390,6 +390,17 @@ public class GraphOMRSGraphFactory {
             createMixedIndexForVertexCoreProperty(PROPERTY_NAME_INSTANCE_LICENSE,         PROPERTY_KEY_CLASSIFICATION_INSTANCE_LICENSE);
             createMixedIndexForVertexCoreProperty(PROPERTY_NAME_REPLICATED_BY,            PROPERTY_KEY_CLASSIFICATION_REPLICATED_BY);
 
+            /*
+             *  Version locks
+             */
+
+            // Each update of an entity or relationship writes a new version number. Locking the version property keys means that
+            // the storage backend rejects the commit of the second of two concurrent transactions that update the same instance,
+            // rather than letting the last one to commit silently overwrite the other.
+
+            createLockedPropertyKey(PROPERTY_NAME_VERSION, PROPERTY_KEY_ENTITY_VERSION);
+            createLockedPropertyKey(PROPERTY_NAME_VERSION, PROPERTY_KEY_RELATIONSHIP_VERSION);
+
         }
         catch (Exception e) {
 
@@ -795,6 +806,51 @@ public class GraphOMRSGraphFactory {
     }
 
 
+    private static void createLockedPropertyKey(String propertyName, String propertyKeyName)
+    {
+
+        final String methodName = "createLockedPropertyKey";
+
+        String className = corePropertyTypes.get(propertyName);
+
+        Class clazz;
+        try {
+            clazz = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            log.error("{} class not found for property {}", methodName, propertyName);
+            log.error("{} NO LOCK SET for property {}", methodName, propertyName);
+            return;
+        }
+
+        JanusGraphManagement management = graph.openManagement();
+
+        try {
+
+            // The property key may already exist in a graph that was created before the key was locked
+            PropertyKey propertyKey = management.getPropertyKey(propertyKeyName);
+            if (propertyKey == null) {
+                log.debug("{} make property key for property {}", methodName, propertyKeyName);
+                propertyKey = management.makePropertyKey(propertyKeyName).dataType(clazz).make();
+            }
+
+            if (management.getConsistency(propertyKey) == ConsistencyModifier.LOCK) {
+                log.debug("{} property key {} is already locked", methodName, propertyKeyName);
+                management.rollback();
+                return;
+            }
+
+            log.info("{} lock property key {}", methodName, propertyKeyName);
+            management.setConsistency(propertyKey, ConsistencyModifier.LOCK);
+            management.commit();
+        }
+        catch (Exception e) {
+            log.error("{} caught exception from locking property key {}, exception {}", methodName, propertyKeyName, e);
+            management.rollback();
+        }
+
+    }
+
+
     private static boolean createControlIndex() {
 
         final String methodName = "createControlIndex";
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.InstanceScanIterator;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSDynamicTypeMetadataCollectionBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
@@ -12,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
@@ -23,6 +25,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSPageTokenFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 
@@ -31,7 +34,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 
 /**
@@ -43,6 +50,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataCollection.class);
 
+    private static final int defaultScanPageSize = 100;
+    private static final int scanGUIDBatchSize   = 10000;
+
     private GraphOMRSMetadataStore    graphStore  = null;
     private OMRSAuditLog              auditLog = null;
 
@@ -386,6 +396,43 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getEntitiesByGUIDs
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "getEntitiesByGUIDs";
+        final String guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateGUIDList(guidsParameterName, guids, methodName);
+
+        /*
+         * Perform operation - the entities are retrieved with a single traversal
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (EntityDetail entity : graphStore.getEntityDetailsFromStore(guids)) {
+            if ((entity.getStatus() != InstanceStatus.DELETED) && (repositoryValidator.validEntity(repositoryName, entity))) {
+                entities.add(entity);
+            }
+        }
+
+        if (entities.isEmpty()) {
+            return null;
+        }
+
+        return entities;
+    }
+
+
     // addRelationship
     public Relationship addRelationship(String               userId,
                                         String               relationshipTypeGUID,
@@ -542,6 +589,195 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // addInstances
+    @Override
+    public InstanceGraph addInstances(String         userId,
+                                      InstanceGraph  instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeErrorException,
+                                                                       PropertyErrorException,
+                                                                       ClassificationErrorException,
+                                                                       EntityNotKnownException,
+                                                                       StatusNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "addInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addInstancesParameterValidation(userId, instances, methodName);
+
+        return this.addInstanceBatch(userId, null, null, instances, methodName);
+    }
+
+
+    // addExternalInstances
+    @Override
+    public InstanceGraph addExternalInstances(String         userId,
+                                              String         externalSourceGUID,
+                                              String         externalSourceName,
+                                              InstanceGraph  instances) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               ClassificationErrorException,
+                                                                               EntityNotKnownException,
+                                                                               StatusNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        final String methodName = "addExternalInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addExternalInstancesParameterValidation(userId, externalSourceGUID, instances, methodName);
+
+        return this.addInstanceBatch(userId, externalSourceGUID, externalSourceName, instances, methodName);
+    }
+
+
+    /*
+     * Build the instances of a validated batch and resolve the ends of its relationships, then create them all in a
+     * single graph transaction so that a batch that fails leaves nothing in the repository.  Relationship ends that
+     * refer to an entity in the batch are linked to the new entity.  Other ends must refer to an existing entity
+     * that is not deleted.
+     */
+    private InstanceGraph addInstanceBatch(String         userId,
+                                           String         externalSourceGUID,
+                                           String         externalSourceName,
+                                           InstanceGraph  instances,
+                                           String         methodName) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             TypeErrorException,
+                                                                             EntityNotKnownException
+    {
+        final String typeGUIDParameterName = "instances.type.typeDefGUID";
+
+        InstanceProvenanceType    provenanceType   = InstanceProvenanceType.LOCAL_COHORT;
+        String                    collectionId     = metadataCollectionId;
+        String                    collectionName   = metadataCollectionName;
+        Map<String, EntityProxy>  batchProxies     = new HashMap<>();
+        List<EntityDetail>        newEntities      = new ArrayList<>();
+        List<Relationship>        newRelationships = new ArrayList<>();
+
+        if (externalSourceGUID != null)
+        {
+            provenanceType = InstanceProvenanceType.EXTERNAL_SOURCE;
+            collectionId   = externalSourceGUID;
+            collectionName = externalSourceName;
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                              typeGUIDParameterName,
+                                                              entity.getType().getTypeDefGUID(),
+                                                              methodName);
+
+                EntityDetail newEntity = repositoryHelper.getNewEntity(repositoryName,
+                                                                       collectionId,
+                                                                       provenanceType,
+                                                                       userId,
+                                                                       typeDef.getName(),
+                                                                       entity.getProperties(),
+                                                                       entity.getClassifications());
+
+                newEntity.setMetadataCollectionName(collectionName);
+
+                if (externalSourceGUID != null)
+                {
+                    newEntity.setReplicatedBy(metadataCollectionId);
+                }
+
+                if (entity.getStatus() != null)
+                {
+                    newEntity.setStatus(entity.getStatus());
+                }
+
+                if (entity.getGUID() != null)
+                {
+                    batchProxies.put(entity.getGUID(), repositoryHelper.getNewEntityProxy(repositoryName, newEntity));
+                }
+
+                newEntities.add(newEntity);
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                              typeGUIDParameterName,
+                                                              relationship.getType().getTypeDefGUID(),
+                                                              methodName);
+
+                Relationship newRelationship = repositoryHelper.getNewRelationship(repositoryName,
+                                                                                   collectionId,
+                                                                                   provenanceType,
+                                                                                   userId,
+                                                                                   typeDef.getName(),
+                                                                                   relationship.getProperties());
+
+                if (externalSourceGUID != null)
+                {
+                    newRelationship.setMetadataCollectionName(externalSourceName);
+                    newRelationship.setReplicatedBy(metadataCollectionId);
+                }
+
+                EntityProxy entityOneProxy = this.getBatchEntityProxy(batchProxies,
+                                                                      relationship.getEntityOneProxy().getGUID(),
+                                                                      methodName);
+                EntityProxy entityTwoProxy = this.getBatchEntityProxy(batchProxies,
+                                                                      relationship.getEntityTwoProxy().getGUID(),
+                                                                      methodName);
+
+                repositoryValidator.validateRelationshipEnds(repositoryName, entityOneProxy, entityTwoProxy, typeDef, methodName);
+
+                newRelationship.setEntityOneProxy(entityOneProxy);
+                newRelationship.setEntityTwoProxy(entityTwoProxy);
+
+                if (relationship.getStatus() != null)
+                {
+                    newRelationship.setStatus(relationship.getStatus());
+                }
+
+                newRelationships.add(newRelationship);
+            }
+        }
+
+        graphStore.createInstancesInStore(newEntities, newRelationships);
+
+        return new InstanceGraph(newEntities, newRelationships);
+    }
+
+
+    /*
+     * Return the proxy for one end of a relationship in a batch - either the proxy of a new entity in the batch or
+     * the proxy of an existing entity that is not deleted.
+     */
+    private EntityProxy getBatchEntityProxy(Map<String, EntityProxy>  batchProxies,
+                                            String                    entityGUID,
+                                            String                    methodName) throws RepositoryErrorException,
+                                                                                         EntityNotKnownException
+    {
+        EntityProxy entityProxy = batchProxies.get(entityGUID);
+
+        if (entityProxy == null)
+        {
+            entityProxy = graphStore.getEntityProxyFromStore(entityGUID);
+
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entityProxy, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityProxy, methodName);
+        }
+
+        return entityProxy;
+    }
+
+
     // getRelationship
     public Relationship getRelationship(String    userId,
                                         String    guid)
@@ -570,6 +806,43 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getRelationshipsByGUIDs
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "getRelationshipsByGUIDs";
+        final String guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateGUIDList(guidsParameterName, guids, methodName);
+
+        /*
+         * Process operation - the relationships are retrieved with a single traversal
+         */
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (Relationship relationship : graphStore.getRelationshipsFromStore(guids)) {
+            if ((relationship.getStatus() != InstanceStatus.DELETED) && (repositoryValidator.validRelationship(repositoryName, relationship))) {
+                relationships.add(relationship);
+            }
+        }
+
+        if (relationships.isEmpty()) {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
     // updateEntityStatus
     public EntityDetail updateEntityStatus(String           userId,
                                            String           entityGUID,
@@ -1171,6 +1444,213 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // countRelationshipsForEntity
+    @Override
+    public int countRelationshipsForEntity(String                     userId,
+                                           String                     entityGUID,
+                                           String                     relationshipTypeGUID,
+                                           List<InstanceStatus>       limitResultsByStatus,
+                                           Date                       asOfTime)
+            throws
+            InvalidParameterException,
+            TypeErrorException,
+            RepositoryErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            PagingErrorException,
+            UserNotAuthorizedException,
+            FunctionNotSupportedException
+    {
+        final String  methodName = "countRelationshipsForEntity";
+        final String  relationshipTypeGUIDParameterName = "relationshipTypeGUID";
+
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                entityGUID,
+                relationshipTypeGUID,
+                0,
+                limitResultsByStatus,
+                asOfTime,
+                null,
+                null,
+                0);
+
+        /*
+         * Perform operation
+         */
+        EntitySummary  entity = this.getEntitySummary(userId, entityGUID);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        /*
+         * The relationships are stored with their type name so the count is filtered on the name of the
+         * requested type.
+         */
+        String relationshipTypeName = null;
+        if (relationshipTypeGUID != null) {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, relationshipTypeGUIDParameterName, relationshipTypeGUID, methodName);
+            relationshipTypeName = typeDef.getName();
+        }
+
+        return graphStore.countRelationshipsForEntity(entityGUID, relationshipTypeName, limitResultsByStatus);
+    }
+
+
+    // countEntitiesByProperty
+    /*
+     * The entities are counted by the graph, one entity type at a time, so no entities are mapped.
+     */
+    @Override
+    public int countEntitiesByProperty(String                 userId,
+                                       String                 entityTypeGUID,
+                                       InstanceProperties     matchProperties,
+                                       MatchCriteria          matchCriteria,
+                                       List<InstanceStatus>   limitResultsByStatus,
+                                       List<String>           limitResultsByClassification,
+                                       Date                   asOfTime)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "countEntitiesByProperty";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                entityTypeGUID,
+                matchProperties,
+                matchCriteria,
+                0,
+                limitResultsByStatus,
+                limitResultsByClassification,
+                asOfTime,
+                null,
+                null,
+                0);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        /*
+         * Perform operation
+         */
+        int count = 0;
+
+        for (String typeDefName : getEntityTypeDefNames(entityTypeGUID, methodName)) {
+            // The count expects the regexp to match fully to the value, as for the find.
+            count += graphStore.countEntitiesByProperty(typeDefName, matchProperties, matchCriteria, true, limitResultsByStatus, limitResultsByClassification);
+        }
+
+        return count;
+    }
+
+
+    // countEntitiesByClassification
+    /*
+     * The entities are counted by the graph, one entity type at a time, so no entities are mapped.
+     */
+    @Override
+    public int countEntitiesByClassification(String                 userId,
+                                             String                 entityTypeGUID,
+                                             String                 classificationName,
+                                             InstanceProperties     matchClassificationProperties,
+                                             MatchCriteria          matchCriteria,
+                                             List<InstanceStatus>   limitResultsByStatus,
+                                             Date                   asOfTime)
+            throws
+            InvalidParameterException,
+            TypeErrorException,
+            RepositoryErrorException,
+            ClassificationErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "countEntitiesByClassification";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByClassificationParameterValidation(userId,
+                entityTypeGUID,
+                classificationName,
+                matchClassificationProperties,
+                matchCriteria,
+                0,
+                limitResultsByStatus,
+                asOfTime,
+                null,
+                null,
+                0);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        /*
+         * Perform operation
+         */
+        int count = 0;
+
+        for (String typeDefName : getEntityTypeDefNames(entityTypeGUID, methodName)) {
+            count += graphStore.countEntitiesByClassification(classificationName, matchClassificationProperties, matchCriteria, typeDefName, limitResultsByStatus);
+        }
+
+        return count;
+    }
+
+
+    /*
+     * Return the names of the active entity types that are the requested type or one of its sub-types.  A null
+     * entityTypeGUID means any entity type.
+     */
+    private List<String> getEntityTypeDefNames(String entityTypeGUID,
+                                               String methodName)
+            throws
+            TypeErrorException
+    {
+        final String entityTypeGUIDParameterName = "entityTypeGUID";
+
+        String specifiedTypeName = null;
+        if (entityTypeGUID != null) {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, entityTypeGUIDParameterName, entityTypeGUID, methodName);
+            specifiedTypeName = typeDef.getName();
+        }
+
+        List<String> typeDefNames = new ArrayList<>();
+
+        for (TypeDef typeDef : repositoryHelper.getActiveTypeDefGallery().getTypeDefs()) {
+            if ((typeDef.getCategory() == TypeDefCategory.ENTITY_DEF) &&
+                ((specifiedTypeName == null) || (repositoryHelper.isTypeOf(metadataCollectionId, typeDef.getName(), specifiedTypeName)))) {
+                typeDefNames.add(typeDef.getName());
+            }
+        }
+
+        return typeDefNames;
+    }
+
+
     // findEntitiesByProperty
     public List<EntityDetail> findEntitiesByProperty(String                 userId,
                                                      String                 entityTypeGUID,
@@ -1243,49 +1723,282 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 // If entityTypeGUID parameter is not null there is an expected type, so check whether the
                 // current type matches the expected type or is one of its sub-types.
 
-                if (specifiedTypeName != null) {
+                if (specifiedTypeName != null) {
+
+                    boolean typeMatch = repositoryHelper.isTypeOf(metadataCollectionId, actualTypeName, specifiedTypeName);
+                    if (!typeMatch) {
+                        continue;
+                    }
+
+                }
+
+                // Invoke a type specific search. The search will expect the regexp to match fully to the value.
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true);
+
+                if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
+                    if (returnEntities == null) {
+                        returnEntities = new ArrayList<>();
+                    }
+                    log.info("{}: for type {} found {} entities", methodName, typeDef.getName(), entitiesForCurrentType.size());
+                    returnEntities.addAll(entitiesForCurrentType);
+                } else {
+                    log.info("{}: for type {} found no entities", methodName, typeDef.getName());
+                }
+
+            }
+        }
+
+        // Eliminate soft deleted entities and apply status and classification filtering if any was requested
+        if (returnEntities == null) {
+            return null;
+        }
+        else {
+            List<EntityDetail> retainedEntities = new ArrayList<>();
+            for (EntityDetail entity : returnEntities) {
+                if (entity != null) {
+                    if ((entity.getStatus() != InstanceStatus.DELETED)
+                            && (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity))
+                            && (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity))) {
+
+                        retainedEntities.add(entity);
+                    }
+                }
+            }
+
+            return repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        }
+    }
+
+
+    // scanEntities
+    /*
+     * The graph is asked for the GUIDs of the matching entities only, in GUID order and a batch at a time.  The
+     * entities themselves are read from the graph a page at a time as the iterator is used, so a scan does not
+     * hold, or repeatedly re-read, every matching entity.
+     */
+    @Override
+    public Iterator<EntityDetail> scanEntities(String                    userId,
+                                               String                    entityTypeGUID,
+                                               String                    homeMetadataCollectionId,
+                                               List<InstanceStatus>      limitResultsByStatus,
+                                               int                       pageSize)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "scanEntities";
+        final String entityTypeGUIDParameterName = "entityTypeGUID";
+        final int    scanPageSize = (pageSize > 0) ? pageSize : defaultScanPageSize;
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                entityTypeGUID,
+                null,
+                null,
+                0,
+                limitResultsByStatus,
+                null,
+                null,
+                null,
+                null,
+                pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<String> typeDefNames = null;
+
+        if (entityTypeGUID != null) {
+            TypeDef specifiedTypeDef = repositoryHelper.getTypeDef(repositoryName, entityTypeGUIDParameterName, entityTypeGUID, methodName);
+
+            typeDefNames = new ArrayList<>();
+
+            for (TypeDef typeDef : repositoryHelper.getActiveTypeDefGallery().getTypeDefs()) {
+                if ((typeDef.getCategory() == TypeDefCategory.ENTITY_DEF) &&
+                    (repositoryHelper.isTypeOf(metadataCollectionId, typeDef.getName(), specifiedTypeDef.getName()))) {
+                    typeDefNames.add(typeDef.getName());
+                }
+            }
+        }
+
+        final List<String> entityTypeDefNames = typeDefNames;
+
+        GUIDScan entityGUIDScan = new GUIDScan() {
+            @Override
+            List<String> getGUIDBatch(String afterGUID, int maxGUIDs)
+            {
+                return graphStore.getEntityGUIDsFromStore(entityTypeDefNames, homeMetadataCollectionId, afterGUID, maxGUIDs);
+            }
+        };
+
+        return new InstanceScanIterator<EntityDetail>(repositoryName,
+                                                      homeMetadataCollectionId,
+                                                      this.getEntityScanPage(entityGUIDScan, null, scanPageSize, limitResultsByStatus),
+                                                      methodName) {
+            @Override
+            protected InstancePage getNextPage(String pageToken) throws OMRSCheckedExceptionBase
+            {
+                return getEntityScanPage(entityGUIDScan, pageToken, scanPageSize, limitResultsByStatus);
+            }
+
+            @Override
+            protected List<EntityDetail> getPageInstances(InstancePage page)
+            {
+                return page.getEntities();
+            }
+        };
+    }
+
+
+    /*
+     * Read the entities for one page of a scan.  The page token is the GUID of the last entity of the previous page.
+     */
+    private InstancePage getEntityScanPage(GUIDScan             entityGUIDScan,
+                                           String               afterGUID,
+                                           int                  pageSize,
+                                           List<InstanceStatus> limitResultsByStatus)
+            throws
+            RepositoryErrorException
+    {
+        InstancePage page      = new InstancePage();
+        List<String> pageGUIDs = entityGUIDScan.getPageGUIDs(afterGUID, pageSize);
+
+        List<EntityDetail> retainedEntities = new ArrayList<>();
+
+        if (!pageGUIDs.isEmpty()) {
+            for (EntityDetail entity : graphStore.getEntityDetailsFromStore(pageGUIDs)) {
+                if ((entity.getStatus() != InstanceStatus.DELETED)
+                        && (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity))) {
+                    retainedEntities.add(entity);
+                }
+            }
+
+            if (entityGUIDScan.hasMoreGUIDs()) {
+                page.setNextPageToken(pageGUIDs.get(pageGUIDs.size() - 1));
+            }
+        }
+
+        page.setEntities(retainedEntities);
+
+        return page;
+    }
+
+
+    // findEntityPageByProperty
+    /*
+     * When the results are sequenced by GUID alone, the graph is asked for the GUIDs of the matching entities that
+     * follow the page token, in GUID order, and only the entities for the page (plus one to show whether there is
+     * another page) are read from the graph.  A page sequenced by a property uses the default implementation, which
+     * reads all of the matching entities and sorts them, since the graph is not able to resume from a property value.
+     */
+    @Override
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "findEntityPageByProperty";
+
+        if (sequencingProperty != null) {
+            return super.findEntityPageByProperty(userId,
+                    entityTypeGUID,
+                    matchProperties,
+                    matchCriteria,
+                    pageToken,
+                    limitResultsByStatus,
+                    limitResultsByClassification,
+                    asOfTime,
+                    sequencingProperty,
+                    sequencingOrder,
+                    pageSize);
+        }
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                entityTypeGUID,
+                matchProperties,
+                matchCriteria,
+                0,
+                limitResultsByStatus,
+                limitResultsByClassification,
+                asOfTime,
+                null,
+                sequencingOrder,
+                pageSize);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
 
-                    boolean typeMatch = repositoryHelper.isTypeOf(metadataCollectionId, actualTypeName, specifiedTypeName);
-                    if (!typeMatch) {
-                        continue;
-                    }
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
 
-                }
+        /*
+         * Perform operation
+         */
+        OMRSPageTokenFilter pageTokenFilter = repositoryHelper.getPageTokenFilter(pageToken, null, sequencingOrder);
+        int                 maxGUIDs        = (pageSize > 0) ? pageSize + 1 : Integer.MAX_VALUE;
+        TreeSet<String>     pageGUIDs       = new TreeSet<>();
+
+        for (String typeDefName : getEntityTypeDefNames(entityTypeGUID, methodName)) {
+            // The search will expect the regexp to match fully to the value.
+            List<String> guidsForCurrentType = graphStore.findEntityGUIDsByProperty(typeDefName,
+                    matchProperties,
+                    matchCriteria,
+                    true,
+                    limitResultsByStatus,
+                    limitResultsByClassification,
+                    pageTokenFilter.getLastGUID(),
+                    maxGUIDs);
+
+            addPageGUIDs(pageGUIDs, guidsForCurrentType, maxGUIDs);
+        }
 
-                // Invoke a type specific search. The search will expect the regexp to match fully to the value.
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true);
+        List<EntityDetail> pageEntities = new ArrayList<>();
+        if (!pageGUIDs.isEmpty()) {
+            pageEntities = graphStore.getEntityDetailsFromStore(new ArrayList<>(pageGUIDs));
+        }
 
-                if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
-                    if (returnEntities == null) {
-                        returnEntities = new ArrayList<>();
-                    }
-                    log.info("{}: for type {} found {} entities", methodName, typeDef.getName(), entitiesForCurrentType.size());
-                    returnEntities.addAll(entitiesForCurrentType);
-                } else {
-                    log.info("{}: for type {} found no entities", methodName, typeDef.getName());
-                }
+        return repositoryHelper.formatEntityPage(pageEntities, null, null, sequencingOrder, pageSize);
+    }
 
-            }
-        }
 
-        // Eliminate soft deleted entities and apply status and classification filtering if any was requested
-        if (returnEntities == null) {
-            return null;
-        }
-        else {
-            List<EntityDetail> retainedEntities = new ArrayList<>();
-            for (EntityDetail entity : returnEntities) {
-                if (entity != null) {
-                    if ((entity.getStatus() != InstanceStatus.DELETED)
-                            && (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity))
-                            && (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity))) {
+    /*
+     * Merge the GUIDs found for one type into the GUIDs for a page, keeping only the first maxGUIDs of them.
+     */
+    private void addPageGUIDs(TreeSet<String> pageGUIDs,
+                              List<String>    guids,
+                              int             maxGUIDs)
+    {
+        if (guids != null) {
+            pageGUIDs.addAll(guids);
 
-                        retainedEntities.add(entity);
-                    }
-                }
+            while (pageGUIDs.size() > maxGUIDs) {
+                pageGUIDs.pollLast();
             }
-
-            return repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
         }
     }
 
@@ -1430,6 +2143,272 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
 
 
+    // scanRelationships
+    /*
+     * The graph is asked for the GUIDs of the matching relationships only, in GUID order and a batch at a time.
+     * The relationships themselves are read from the graph a page at a time as the iterator is used.  There are no supertype/subtype hierarchies in
+     * relationship types, so only the specified type (or all types) is scanned.
+     */
+    @Override
+    public Iterator<Relationship> scanRelationships(String                    userId,
+                                                    String                    relationshipTypeGUID,
+                                                    String                    homeMetadataCollectionId,
+                                                    List<InstanceStatus>      limitResultsByStatus,
+                                                    int                       pageSize)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "scanRelationships";
+        final String guidParameterName = "relationshipTypeGUID";
+        final int    scanPageSize = (pageSize > 0) ? pageSize : defaultScanPageSize;
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                relationshipTypeGUID,
+                null,
+                null,
+                0,
+                limitResultsByStatus,
+                null,
+                null,
+                null,
+                pageSize);
+
+        this.validateTypeGUID(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<String> typeDefNames = null;
+
+        if (relationshipTypeGUID != null) {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
+
+            typeDefNames = new ArrayList<>();
+            typeDefNames.add(typeDef.getName());
+        }
+
+        final List<String> relationshipTypeDefNames = typeDefNames;
+
+        GUIDScan relationshipGUIDScan = new GUIDScan() {
+            @Override
+            List<String> getGUIDBatch(String afterGUID, int maxGUIDs)
+            {
+                return graphStore.getRelationshipGUIDsFromStore(relationshipTypeDefNames, homeMetadataCollectionId, afterGUID, maxGUIDs);
+            }
+        };
+
+        return new InstanceScanIterator<Relationship>(repositoryName,
+                                                      homeMetadataCollectionId,
+                                                      this.getRelationshipScanPage(relationshipGUIDScan, null, scanPageSize, limitResultsByStatus),
+                                                      methodName) {
+            @Override
+            protected InstancePage getNextPage(String pageToken) throws OMRSCheckedExceptionBase
+            {
+                return getRelationshipScanPage(relationshipGUIDScan, pageToken, scanPageSize, limitResultsByStatus);
+            }
+
+            @Override
+            protected List<Relationship> getPageInstances(InstancePage page)
+            {
+                return page.getRelationships();
+            }
+        };
+    }
+
+
+    /*
+     * Read the relationships for one page of a scan.  The page token is the GUID of the last relationship of the
+     * previous page.
+     */
+    private InstancePage getRelationshipScanPage(GUIDScan             relationshipGUIDScan,
+                                                 String               afterGUID,
+                                                 int                  pageSize,
+                                                 List<InstanceStatus> limitResultsByStatus)
+            throws
+            RepositoryErrorException
+    {
+        InstancePage page      = new InstancePage();
+        List<String> pageGUIDs = relationshipGUIDScan.getPageGUIDs(afterGUID, pageSize);
+
+        List<Relationship> retainedRelationships = new ArrayList<>();
+
+        if (!pageGUIDs.isEmpty()) {
+            for (Relationship relationship : graphStore.getRelationshipsFromStore(pageGUIDs)) {
+                if ((relationship.getStatus() != InstanceStatus.DELETED)
+                        && (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship))) {
+                    retainedRelationships.add(relationship);
+                }
+            }
+
+            if (relationshipGUIDScan.hasMoreGUIDs()) {
+                page.setNextPageToken(pageGUIDs.get(pageGUIDs.size() - 1));
+            }
+        }
+
+        page.setRelationships(retainedRelationships);
+
+        return page;
+    }
+
+
+    // findRelationshipPageByProperty
+    /*
+     * As for findEntityPageByProperty, a page sequenced by GUID alone is resumed by the graph from the GUID in the
+     * page token and only the relationships for the page are read.  A page sequenced by a property uses the default
+     * implementation.
+     */
+    @Override
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize)
+            throws
+            InvalidParameterException,
+            TypeErrorException,
+            RepositoryErrorException,
+            PropertyErrorException,
+            PagingErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "findRelationshipPageByProperty";
+        final String guidParameterName = "relationshipTypeGUID";
+
+        if (sequencingProperty != null) {
+            return super.findRelationshipPageByProperty(userId,
+                    relationshipTypeGUID,
+                    matchProperties,
+                    matchCriteria,
+                    pageToken,
+                    limitResultsByStatus,
+                    asOfTime,
+                    sequencingProperty,
+                    sequencingOrder,
+                    pageSize);
+        }
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                relationshipTypeGUID,
+                matchProperties,
+                matchCriteria,
+                0,
+                limitResultsByStatus,
+                asOfTime,
+                null,
+                sequencingOrder,
+                pageSize);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        /*
+         * Perform operation
+         *
+         * There are no supertype/subtype hierarchies in relationship types, so only search the specified type or all types.
+         */
+        List<String> typeDefNames = new ArrayList<>();
+
+        if (relationshipTypeGUID != null) {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
+            typeDefNames.add(typeDef.getName());
+        }
+        else {
+            for (TypeDef typeDef : repositoryHelper.getActiveTypeDefGallery().getTypeDefs()) {
+                if (typeDef.getCategory() == TypeDefCategory.RELATIONSHIP_DEF) {
+                    typeDefNames.add(typeDef.getName());
+                }
+            }
+        }
+
+        OMRSPageTokenFilter pageTokenFilter = repositoryHelper.getPageTokenFilter(pageToken, null, sequencingOrder);
+        int                 maxGUIDs        = (pageSize > 0) ? pageSize + 1 : Integer.MAX_VALUE;
+        TreeSet<String>     pageGUIDs       = new TreeSet<>();
+
+        for (String typeDefName : typeDefNames) {
+            List<String> guidsForCurrentType = graphStore.findRelationshipGUIDsByProperty(typeDefName,
+                    matchProperties,
+                    matchCriteria,
+                    true,
+                    limitResultsByStatus,
+                    pageTokenFilter.getLastGUID(),
+                    maxGUIDs);
+
+            addPageGUIDs(pageGUIDs, guidsForCurrentType, maxGUIDs);
+        }
+
+        List<Relationship> pageRelationships = new ArrayList<>();
+        if (!pageGUIDs.isEmpty()) {
+            pageRelationships = graphStore.getRelationshipsFromStore(new ArrayList<>(pageGUIDs));
+        }
+
+        return repositoryHelper.formatRelationshipPage(pageRelationships, null, null, sequencingOrder, pageSize);
+    }
+
+
+    /*
+     * GUIDScan steps through the GUIDs of the instances returned by a scan.  The GUIDs are retrieved from the graph
+     * in GUID order, scanGUIDBatchSize at a time, and each batch resumes after the last GUID of the previous page,
+     * so the memory used by a scan does not grow with the size of the repository.
+     */
+    private abstract static class GUIDScan {
+        private List<String> guidBatch     = new ArrayList<>();
+        private int          batchPosition = 0;
+        private boolean      lastBatch     = false;
+
+        /*
+         * Retrieve, in GUID order, up to maxGUIDs of the GUIDs that follow afterGUID (null means from the start).
+         */
+        abstract List<String> getGUIDBatch(String afterGUID, int maxGUIDs);
+
+        /*
+         * Return the GUIDs of the page that follows afterGUID.  A new batch is retrieved when the current one has
+         * been used.
+         */
+        List<String> getPageGUIDs(String afterGUID, int pageSize) {
+            if ((batchPosition == guidBatch.size()) && (!lastBatch)) {
+                guidBatch = getGUIDBatch(afterGUID, scanGUIDBatchSize);
+                batchPosition = 0;
+                lastBatch = (guidBatch.size() < scanGUIDBatchSize);
+            }
+
+            int          endPosition = Math.min(batchPosition + pageSize, guidBatch.size());
+            List<String> pageGUIDs   = new ArrayList<>(guidBatch.subList(batchPosition, endPosition));
+
+            batchPosition = endPosition;
+
+            return pageGUIDs;
+        }
+
+        /*
+         * Return whether there may be more GUIDs after the current page.
+         */
+        boolean hasMoreGUIDs() {
+            return (batchPosition < guidBatch.size()) || (!lastBatch);
+        }
+    }
+
+
     public  void validateTypeGUID(String sourceName,
                                   String guidParameterName,
                                   String guid,
@@ -2484,7 +3463,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        graphStore.updateEntityInStore(entity);
+        graphStore.updateEntityInStore(updatedEntity);
 
         return updatedEntity;
     }
@@ -2858,6 +3837,139 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /*
+     * Save a batch of reference copies, such as the instances in a batch event from the cohort, in a single graph
+     * transaction.  Instances that are homed in this repository are skipped.  An instance that fails validation, or
+     * is rejected by the store, does not stop the rest of the batch from being saved - the first error is returned
+     * once all of the instances have been tried.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            EntityConflictException,
+            RelationshipConflictException,
+            InvalidEntityException,
+            InvalidRelationshipException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName                = "saveInstanceReferenceCopies";
+        final String  entityParameterName       = "instances.entities";
+        final String  relationshipParameterName = "instances.relationships";
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        List<EntityDetail>        entities              = new ArrayList<>();
+        List<Relationship>        relationships         = new ArrayList<>();
+        InvalidParameterException firstInvalidParameter = null;
+        RepositoryErrorException  firstRepositoryError  = null;
+
+        /*
+         * Validate parameters
+         */
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    try
+                    {
+                        super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                        entities.add(entity);
+                    }
+                    catch (InvalidParameterException error)
+                    {
+                        if ((firstInvalidParameter == null) && (firstRepositoryError == null))
+                        {
+                            firstInvalidParameter = error;
+                        }
+                    }
+                    catch (RepositoryErrorException error)
+                    {
+                        if ((firstInvalidParameter == null) && (firstRepositoryError == null))
+                        {
+                            firstRepositoryError = error;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    try
+                    {
+                        super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                        relationships.add(relationship);
+                    }
+                    catch (InvalidParameterException error)
+                    {
+                        if ((firstInvalidParameter == null) && (firstRepositoryError == null))
+                        {
+                            firstInvalidParameter = error;
+                        }
+                    }
+                    catch (RepositoryErrorException error)
+                    {
+                        if ((firstInvalidParameter == null) && (firstRepositoryError == null))
+                        {
+                            firstRepositoryError = error;
+                        }
+                    }
+                }
+            }
+        }
+
+        /*
+         * Save the valid instances
+         */
+        if ((! entities.isEmpty()) || (! relationships.isEmpty()))
+        {
+            try
+            {
+                graphStore.saveReferenceCopiesToStore(entities, relationships);
+            }
+            catch (InvalidParameterException error)
+            {
+                if ((firstInvalidParameter == null) && (firstRepositoryError == null))
+                {
+                    firstInvalidParameter = error;
+                }
+            }
+            catch (RepositoryErrorException error)
+            {
+                if ((firstInvalidParameter == null) && (firstRepositoryError == null))
+                {
+                    firstRepositoryError = error;
+                }
+            }
+        }
+
+        if (firstInvalidParameter != null)
+        {
+            throw firstInvalidParameter;
+        }
+        if (firstRepositoryError != null)
+        {
+            throw firstRepositoryError;
+        }
+    }
+
+
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
                                                String   typeDefGUID,
@@ -62,6 +62,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * GraphOMRSMetadataStore provides the graph store for the GraphRepositoryConnector
@@ -126,7 +127,28 @@ class GraphOMRSMetadataStore {
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        final String methodName = "createEntityInStore";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        addEntityToGraph(g, entity);
+
+        commitTransaction(g, entity.getGUID(), methodName);
+
+        return entity;
+    }
+
+
+    /*
+     * Add the vertex for a new entity in the current (thread bound) transaction.  The caller is responsible for
+     * committing the transaction.  On error the transaction is rolled back before the exception is thrown.
+     */
+    private void addEntityToGraph(GraphTraversalSource g, EntityDetail entity)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -135,7 +157,6 @@ class GraphOMRSMetadataStore {
 
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext()) {
@@ -229,11 +250,6 @@ class GraphOMRSMetadataStore {
                     errorCode.getSystemAction(),
                     errorCode.getUserAction());
         }
-
-
-        g.tx().commit();
-
-        return entity;
     }
 
     // A note on existence checking:
@@ -242,7 +258,7 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -250,6 +266,24 @@ class GraphOMRSMetadataStore {
         final String methodName = "createEntityProxyInStore";
 
         GraphTraversalSource g = instanceGraph.traversal();
+
+        addEntityProxyToGraph(g, entityProxy);
+
+        commitTransaction(g, entityProxy.getGUID(), methodName);
+    }
+
+
+    /*
+     * Add the vertex for an entity proxy to the current (thread bound) transaction.  The caller is responsible for
+     * committing the transaction.  On error the transaction is rolled back before the exception is thrown.
+     */
+    private void addEntityProxyToGraph(GraphTraversalSource g, EntityProxy entityProxy)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        final String methodName = "createEntityProxyInStore";
+
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityProxy.getGUID());
         if (vertexIt.hasNext()) {
             Vertex vertex = vertexIt.next();
@@ -301,9 +335,6 @@ class GraphOMRSMetadataStore {
                     errorCode.getSystemAction(),
                     errorCode.getUserAction());
         }
-
-        g.tx().commit();
-
     }
 
 
@@ -345,7 +376,28 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
+    void saveEntityReferenceCopyToStore(EntityDetail entity)
+        throws
+            InvalidParameterException,
+            RepositoryErrorException
+
+    {
+
+        final String methodName = "saveEntityReferenceCopyToStore";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        addEntityReferenceCopyToGraph(g, entity);
+
+        commitTransaction(g, entity.getGUID(), methodName);
+    }
+
+
+    /*
+     * Add or update the vertex for an entity reference copy in the current (thread bound) transaction.  The caller is
+     * responsible for committing the transaction.  On error the transaction is rolled back before the exception is thrown.
+     */
+    private void addEntityReferenceCopyToGraph(GraphTraversalSource g, EntityDetail entity)
         throws
             InvalidParameterException,
             RepositoryErrorException
@@ -356,7 +408,6 @@ class GraphOMRSMetadataStore {
 
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext()) {
@@ -396,6 +447,13 @@ class GraphOMRSMetadataStore {
                         errorCode.getUserAction());
             }
 
+            /*
+             * A proxy is always replaced, but an existing reference copy is only replaced by the same or a later version.
+             */
+            if (!Boolean.TRUE.equals(entityMapper.isProxy(vertex))) {
+                checkInstanceVersion(g, entity.getGUID(), entityMapper.getEntityVersion(vertex), entity.getVersion(), true, methodName);
+            }
+
         } else {
 
             // No existing vertex found - create one
@@ -441,16 +499,11 @@ class GraphOMRSMetadataStore {
                     errorCode.getSystemAction(),
                     errorCode.getUserAction());
         }
-
-
-        g.tx().commit();
-
-        return;
     }
 
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
             throws
             EntityNotKnownException,
             EntityProxyOnlyException,
@@ -551,7 +604,124 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    // getEntityDetailsFromStore
+    /*
+     * Retrieve the entities with the supplied GUIDs in one traversal. The result is in the order of the
+     * supplied GUIDs and has no entry for a GUID that has no entity, or only a proxy, in the graph.
+     */
+    List<EntityDetail> getEntityDetailsFromStore(List<String> guids)
+            throws
+            RepositoryErrorException
+    {
+        String methodName = "getEntityDetailsFromStore";
+
+        Map<String, EntityDetail> entitiesByGUID = new HashMap<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids))
+                                             .has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
+
+        while (gt.hasNext()) {
+            Vertex vertex = gt.next();
+            log.debug("{} found entity vertex {}", methodName, vertex);
+
+            try {
+                EntityDetail entity = new EntityDetail();
+                entityMapper.mapVertexToEntityDetail(vertex, entity);
+                entitiesByGUID.put(entity.getGUID(), entity);
+            }
+            catch (EntityProxyOnlyException e) {
+                // The vertex has become a proxy since the traversal selected it - leave it out of the result
+                log.debug("{} entity vertex {} is only a proxy", methodName, vertex);
+            }
+            catch (RepositoryErrorException e) {
+
+                log.error("{} Caught exception {}", methodName, e.getMessage());
+                g.tx().rollback();
+                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITY_NOT_FOUND;
+
+                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityMapper.getEntityGUID(vertex), methodName,
+                        this.getClass().getName(),
+                        repositoryName);
+
+                throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                        this.getClass().getName(),
+                        methodName,
+                        errorMessage,
+                        errorCode.getSystemAction(),
+                        errorCode.getUserAction());
+            }
+        }
+
+        g.tx().commit();
+
+        List<EntityDetail> entities = new ArrayList<>();
+        for (String guid : guids) {
+            EntityDetail entity = entitiesByGUID.get(guid);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+    // getEntityGUIDsFromStore
+    /*
+     * Retrieve, in GUID order, up to maxGUIDs of the GUIDs of the entities (not proxies) of the supplied types that
+     * follow afterGUID, optionally limited to a home metadata collection.  Null type names means entities of any type
+     * and a null afterGUID starts from the first GUID.  Only the GUIDs are read from the vertices and no more than
+     * maxGUIDs of them are kept, so a scan of a large graph resumes from the last GUID it has returned using a fixed
+     * amount of memory.
+     */
+    List<String> getEntityGUIDsFromStore(List<String> typeDefNames, String homeMetadataCollectionId, String afterGUID, int maxGUIDs)
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
+        if (typeDefNames != null) {
+            gt = gt.has(PROPERTY_KEY_ENTITY_TYPE_NAME, within(typeDefNames));
+        }
+        if (homeMetadataCollectionId != null) {
+            gt = gt.has(PROPERTY_KEY_ENTITY_METADATACOLLECTION_ID, homeMetadataCollectionId);
+        }
+        if (afterGUID != null) {
+            gt = gt.has(PROPERTY_KEY_ENTITY_GUID, P.gt(afterGUID));
+        }
+
+        List<String> guids = selectFirstGUIDs(gt.values(PROPERTY_KEY_ENTITY_GUID), maxGUIDs);
+
+        g.tx().commit();
+
+        return guids;
+    }
+
+
+    /*
+     * Return, in order, the lowest maxGUIDs of the GUIDs from a traversal.  Only maxGUIDs GUIDs are held while the
+     * traversal is read.
+     */
+    private List<String> selectFirstGUIDs(Iterator<String> guidIt, int maxGUIDs)
+    {
+        TreeSet<String> guids = new TreeSet<>();
+
+        while (guidIt.hasNext()) {
+            String guid = guidIt.next();
+
+            if ((guids.size() < maxGUIDs) || (guid.compareTo(guids.last()) < 0)) {
+                guids.add(guid);
+
+                if (guids.size() > maxGUIDs) {
+                    guids.pollLast();
+                }
+            }
+        }
+
+        return new ArrayList<>(guids);
+    }
+
+    EntitySummary getEntitySummaryFromStore(String guid)
             throws
             EntityNotKnownException,
             RepositoryErrorException
@@ -623,7 +793,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
             throws
             RepositoryErrorException
     {
@@ -681,7 +851,7 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -693,6 +863,26 @@ class GraphOMRSMetadataStore {
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        addRelationshipToGraph(g, relationship);
+
+        log.debug("{} Commit tx containing creation of edge", methodName);
+        commitTransaction(g, relationship.getGUID(), methodName);
+
+    }
+
+
+    /*
+     * Add the edge for a new relationship in the current (thread bound) transaction.  The vertices for both ends
+     * must already be in the graph or have been added earlier in the same transaction.  The caller is responsible
+     * for committing the transaction.  On error the transaction is rolled back before the exception is thrown.
+     */
+    private void addRelationshipToGraph(GraphTraversalSource g, Relationship relationship)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        String methodName = "createRelationshipInStore";
+
         Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
         if (edgeIt.hasNext()) {
             Edge edge = edgeIt.next();
@@ -771,10 +961,6 @@ class GraphOMRSMetadataStore {
                     errorCode.getSystemAction(),
                     errorCode.getUserAction());
         }
-
-        log.debug("{} Commit tx containing creation of edge", methodName);
-        g.tx().commit();
-
     }
 
 
@@ -826,7 +1012,7 @@ class GraphOMRSMetadataStore {
      *       - else metadataCollectionId is not local and values match
      *             update existing edge by mapping relationship
      */
-    synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
+    void saveRelationshipReferenceCopyToStore(Relationship relationship)
             throws
             InvalidParameterException,
             RepositoryErrorException
@@ -837,6 +1023,27 @@ class GraphOMRSMetadataStore {
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        addRelationshipReferenceCopyToGraph(g, relationship);
+
+        log.debug("{} Commit tx containing creation or update of edge", methodName);
+        commitTransaction(g, relationship.getGUID(), methodName);
+    }
+
+
+    /*
+     * Add or update the edge (and any entity proxies) for a relationship reference copy in the current (thread bound)
+     * transaction.  The caller is responsible for committing the transaction.  On error the transaction is rolled
+     * back before the exception is thrown.
+     */
+    private void addRelationshipReferenceCopyToGraph(GraphTraversalSource g, Relationship relationship)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+
+    {
+
+        final String methodName = "saveRelationshipReferenceCopyToStore";
+
         Vertex vertex;
 
         // Process end 1
@@ -882,7 +1089,7 @@ class GraphOMRSMetadataStore {
         }
         else {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            addEntityProxyToGraph(g, entityOne);
         }
 
         // Process end 2
@@ -927,7 +1134,7 @@ class GraphOMRSMetadataStore {
         }
         else {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+            addEntityProxyToGraph(g, entityTwo);
         }
 
 
@@ -1011,6 +1218,7 @@ class GraphOMRSMetadataStore {
                         errorCode.getUserAction());
             }
 
+            checkInstanceVersion(g, relationship.getGUID(), relationshipMapper.getRelationshipVersion(edge), relationship.getVersion(), true, methodName);
 
         }
         else {
@@ -1042,113 +1250,406 @@ class GraphOMRSMetadataStore {
                     errorCode.getSystemAction(),
                     errorCode.getUserAction());
         }
-
-        log.debug("{} Commit tx containing creation or update of edge", methodName);
-        g.tx().commit();
-
-        return;
     }
 
 
-
-
-    protected synchronized Relationship getRelationshipFromStore(String guid)
-            throws RepositoryErrorException
+    /*
+     * Create a batch of new entities and relationships in a single graph transaction.  The entities are added first
+     * so that the relationships in the same batch can link to them.
+     *
+     * The batch is all or nothing - if any of the instances is rejected the whole transaction is rolled back and
+     * the exception is returned to the caller.
+     */
+    void createInstancesInStore(List<EntityDetail> entities, List<Relationship> relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
     {
-        String methodName = "getRelationshipFromStore";
-
-        Relationship relationship = null;
+        final String methodName = "createInstancesInStore";
 
         GraphTraversalSource g = instanceGraph.traversal();
 
-        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, guid);
-        if (edgeIt.hasNext()) {
-            Edge edge = edgeIt.next();
-            log.debug("{} found existing edge {}", methodName, edge);
-
-            relationship = new Relationship();
-
-            // Map the properties
-            relationshipMapper.mapEdgeToRelationship(edge, relationship);
-
-            // Set the relationship ends...
-            Vertex vertex = null;
-            try {
-
-                vertex = edge.outVertex();
-
-                // Could test here whether each vertex is for a proxy, but it doesn't matter whether the vertex represents a full entity
-                // (i.e. EntityDetail of a local/reference copy) as opposed to an EntityProxy. It can be retrieved as a proxy anyway...
-
-                if (vertex != null) {
-                    log.debug("{} entity vertex {}", methodName, vertex);
-                    EntityProxy entityOneProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertex, entityOneProxy);
-                    log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
-                    relationship.setEntityOneProxy(entityOneProxy);
-                }
-
-                vertex = edge.inVertex();
-
-                if (vertex != null) {
-                    log.debug("{} entity vertex {}", methodName, vertex);
-                    EntityProxy entityTwoProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertex, entityTwoProxy);
-                    log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
-                    relationship.setEntityTwoProxy(entityTwoProxy);
-                }
-
-            } catch (Exception e) {
-                log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-                g.tx().rollback();
-                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND;
-
-                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityMapper.getEntityGUID(vertex), methodName,
-                        this.getClass().getName(),
-                        repositoryName);
+        String lastGUID = null;
 
-                throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
-                        this.getClass().getName(),
-                        methodName,
-                        errorMessage,
-                        errorCode.getSystemAction(),
-                        errorCode.getUserAction());
+        if (entities != null) {
+            for (EntityDetail entity : entities) {
+                addEntityToGraph(g, entity);
+                lastGUID = entity.getGUID();
             }
         }
 
-        g.tx().commit();
-
-        return relationship;
+        if (relationships != null) {
+            for (Relationship relationship : relationships) {
+                addRelationshipToGraph(g, relationship);
+                lastGUID = relationship.getGUID();
+            }
+        }
 
+        log.debug("{} Commit tx containing batch of new instances", methodName);
+        commitTransaction(g, lastGUID, methodName);
     }
 
 
-    synchronized void updateEntityInStore(EntityDetail entity)
+    /*
+     * Save a batch of reference copies in a single graph transaction.  The entities are saved first so that the
+     * relationships in the same batch can link to them rather than creating proxies.
+     *
+     * Unlike createInstancesInStore, one rejected reference copy must not stop the others from being saved.  If the
+     * batch transaction fails it is rolled back and each instance is saved in its own transaction.  The first error is
+     * returned to the caller once all of the instances have been tried.
+     */
+    void saveReferenceCopiesToStore(List<EntityDetail> entities, List<Relationship> relationships)
             throws
+            InvalidParameterException,
             RepositoryErrorException
     {
+        final String methodName = "saveReferenceCopiesToStore";
 
-        String methodName = "updateEntityInStore";
-
-        // Look in the graph
-        String guid = entity.getGUID();
         GraphTraversalSource g = instanceGraph.traversal();
 
-        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
+        String lastGUID = null;
 
-        // Only looking for non-proxy entities:
-        gt = gt.has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
+        try {
+            if (entities != null) {
+                for (EntityDetail entity : entities) {
+                    addEntityReferenceCopyToGraph(g, entity);
+                    lastGUID = entity.getGUID();
+                }
+            }
 
-        if (gt.hasNext()) {
+            if (relationships != null) {
+                for (Relationship relationship : relationships) {
+                    addRelationshipReferenceCopyToGraph(g, relationship);
+                    lastGUID = relationship.getGUID();
+                }
+            }
 
-            Vertex vertex = gt.next();
-           log.debug("{} found entity vertex {}", methodName, vertex);
+            log.debug("{} Commit tx containing batch of reference copies", methodName);
+            commitTransaction(g, lastGUID, methodName);
+            return;
+        }
+        catch (InvalidParameterException | RepositoryErrorException e) {
+            // The transaction has already been rolled back
+            log.debug("{} batch of reference copies rejected, saving them one at a time: {}", methodName, e.getMessage());
+        }
 
-            try {
+        InvalidParameterException firstInvalidParameter = null;
+        RepositoryErrorException  firstRepositoryError  = null;
 
-                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
-                Boolean isProxy = entityMapper.isProxy(vertex);
-                if (!isProxy) {
+        if (entities != null) {
+            for (EntityDetail entity : entities) {
+                try {
+                    saveEntityReferenceCopyToStore(entity);
+                }
+                catch (InvalidParameterException e) {
+                    if (firstInvalidParameter == null && firstRepositoryError == null) {
+                        firstInvalidParameter = e;
+                    }
+                }
+                catch (RepositoryErrorException e) {
+                    if (firstInvalidParameter == null && firstRepositoryError == null) {
+                        firstRepositoryError = e;
+                    }
+                }
+            }
+        }
+
+        if (relationships != null) {
+            for (Relationship relationship : relationships) {
+                try {
+                    saveRelationshipReferenceCopyToStore(relationship);
+                }
+                catch (InvalidParameterException e) {
+                    if (firstInvalidParameter == null && firstRepositoryError == null) {
+                        firstInvalidParameter = e;
+                    }
+                }
+                catch (RepositoryErrorException e) {
+                    if (firstInvalidParameter == null && firstRepositoryError == null) {
+                        firstRepositoryError = e;
+                    }
+                }
+            }
+        }
+
+        if (firstInvalidParameter != null) {
+            throw firstInvalidParameter;
+        }
+        if (firstRepositoryError != null) {
+            throw firstRepositoryError;
+        }
+    }
+
+
+    /*
+     * Check the version of an instance that is about to be overwritten in the current transaction.
+     *
+     * Each update of an instance writes the next version number, so an update that finds the same (or a later)
+     * version already stored was made from a stale copy of the instance - another request has updated it since it was
+     * read.  A reference copy may be saved again at the version that is stored.  On a conflict the transaction is
+     * rolled back and the caller is told to re-read the instance and retry.
+     */
+    private void checkInstanceVersion(GraphTraversalSource g,
+                                      String               guid,
+                                      Long                 storedVersion,
+                                      long                 newVersion,
+                                      boolean              sameVersionAllowed,
+                                      String               methodName)
+            throws
+            RepositoryErrorException
+    {
+        if (storedVersion == null) {
+            return;
+        }
+
+        if (storedVersion > newVersion || (storedVersion == newVersion && !sameVersionAllowed)) {
+
+            log.error("{} instance {} is already stored at version {}, rejecting version {}", methodName, guid, storedVersion, newVersion);
+            g.tx().rollback();
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.VERSION_CONFLICT;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(guid, methodName,
+                    this.getClass().getName(),
+                    repositoryName,
+                    Long.toString(storedVersion),
+                    Long.toString(newVersion));
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+    }
+
+
+    /*
+     * Commit the thread's current transaction.
+     *
+     * The store does not serialize its callers - each thread works in its own JanusGraph transaction and the
+     * transactions are isolated from one another.  Conflicts are detected in two ways.  An update made from a stale
+     * copy of an instance is rejected by checkInstanceVersion before the commit.  Concurrent transactions that change
+     * the same instance, or create a vertex for the same entity GUID, are rejected by the storage backend when the second
+     * one commits because the GUID indexes and the version property keys are locked (see GraphOMRSGraphFactory).  In
+     * either case the transaction is rolled back and the caller is told that the update conflicted so that it can
+     * re-read the instance and retry.
+     */
+    private void commitTransaction(GraphTraversalSource g, String guid, String methodName)
+            throws
+            RepositoryErrorException
+    {
+        try {
+            g.tx().commit();
+        }
+        catch (Exception e) {
+            log.error("{} Commit of transaction for instance {} failed with exception {}", methodName, guid, e.getMessage());
+
+            try {
+                g.tx().rollback();
+            }
+            catch (Exception rollbackException) {
+                log.debug("{} Rollback after failed commit also failed: {}", methodName, rollbackException.getMessage());
+            }
+
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.TRANSACTION_CONFLICT;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(guid, methodName,
+                    this.getClass().getName(),
+                    repositoryName,
+                    e.getMessage());
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+    }
+
+
+
+
+    protected Relationship getRelationshipFromStore(String guid)
+            throws RepositoryErrorException
+    {
+        String methodName = "getRelationshipFromStore";
+
+        Relationship relationship = null;
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, guid);
+        if (edgeIt.hasNext()) {
+            Edge edge = edgeIt.next();
+            log.debug("{} found existing edge {}", methodName, edge);
+
+            relationship = mapEdgeToRelationshipWithEnds(g, edge, methodName);
+        }
+
+        g.tx().commit();
+
+        return relationship;
+
+    }
+
+
+    // getRelationshipsFromStore
+    /*
+     * Retrieve the relationships with the supplied GUIDs in one traversal. The result is in the order of the
+     * supplied GUIDs and has no entry for a GUID that has no relationship in the graph.
+     */
+    List<Relationship> getRelationshipsFromStore(List<String> guids)
+            throws RepositoryErrorException
+    {
+        String methodName = "getRelationshipsFromStore";
+
+        Map<String, Relationship> relationshipsByGUID = new HashMap<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(guids));
+        while (edgeIt.hasNext()) {
+            Edge edge = edgeIt.next();
+            log.debug("{} found existing edge {}", methodName, edge);
+
+            Relationship relationship = mapEdgeToRelationshipWithEnds(g, edge, methodName);
+            relationshipsByGUID.put(relationship.getGUID(), relationship);
+        }
+
+        g.tx().commit();
+
+        List<Relationship> relationships = new ArrayList<>();
+        for (String guid : guids) {
+            Relationship relationship = relationshipsByGUID.get(guid);
+            if (relationship != null) {
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
+    // getRelationshipGUIDsFromStore
+    /*
+     * Retrieve, in GUID order, up to maxGUIDs of the GUIDs of the relationships of the supplied types that follow
+     * afterGUID, optionally limited to a home metadata collection.  Null type names means relationships of any type
+     * and a null afterGUID starts from the first GUID.  Only the GUIDs are read from the edges and no more than
+     * maxGUIDs of them are kept.
+     */
+    List<String> getRelationshipGUIDsFromStore(List<String> typeDefNames, String homeMetadataCollectionId, String afterGUID, int maxGUIDs)
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Edge, Edge> gt = g.E().hasLabel("Relationship");
+        if (typeDefNames != null) {
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, within(typeDefNames));
+        }
+        if (homeMetadataCollectionId != null) {
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_ID, homeMetadataCollectionId);
+        }
+        if (afterGUID != null) {
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_GUID, P.gt(afterGUID));
+        }
+
+        List<String> guids = selectFirstGUIDs(gt.values(PROPERTY_KEY_RELATIONSHIP_GUID), maxGUIDs);
+
+        g.tx().commit();
+
+        return guids;
+    }
+
+
+    /*
+     * Map an edge to a relationship, including the proxies for the entities at each end. The caller's
+     * transaction is rolled back if the ends can not be mapped.
+     */
+    private Relationship mapEdgeToRelationshipWithEnds(GraphTraversalSource g, Edge edge, String methodName)
+            throws RepositoryErrorException
+    {
+        Relationship relationship = new Relationship();
+
+        // Map the properties
+        relationshipMapper.mapEdgeToRelationship(edge, relationship);
+
+        // Set the relationship ends...
+        Vertex vertex = null;
+        try {
+
+            vertex = edge.outVertex();
+
+            // Could test here whether each vertex is for a proxy, but it doesn't matter whether the vertex represents a full entity
+            // (i.e. EntityDetail of a local/reference copy) as opposed to an EntityProxy. It can be retrieved as a proxy anyway...
+
+            if (vertex != null) {
+                log.debug("{} entity vertex {}", methodName, vertex);
+                EntityProxy entityOneProxy = new EntityProxy();
+                entityMapper.mapVertexToEntityProxy(vertex, entityOneProxy);
+                log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
+                relationship.setEntityOneProxy(entityOneProxy);
+            }
+
+            vertex = edge.inVertex();
+
+            if (vertex != null) {
+                log.debug("{} entity vertex {}", methodName, vertex);
+                EntityProxy entityTwoProxy = new EntityProxy();
+                entityMapper.mapVertexToEntityProxy(vertex, entityTwoProxy);
+                log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
+                relationship.setEntityTwoProxy(entityTwoProxy);
+            }
+
+        } catch (Exception e) {
+            log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
+            g.tx().rollback();
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityMapper.getEntityGUID(vertex), methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        return relationship;
+    }
+
+
+    void updateEntityInStore(EntityDetail entity)
+            throws
+            RepositoryErrorException
+    {
+
+        String methodName = "updateEntityInStore";
+
+        // Look in the graph
+        String guid = entity.getGUID();
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
+
+        // Only looking for non-proxy entities:
+        gt = gt.has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
+
+        if (gt.hasNext()) {
+
+            Vertex vertex = gt.next();
+           log.debug("{} found entity vertex {}", methodName, vertex);
+
+            checkInstanceVersion(g, guid, entityMapper.getEntityVersion(vertex), entity.getVersion(), false, methodName);
+
+            try {
+
+                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
+                Boolean isProxy = entityMapper.isProxy(vertex);
+                if (!isProxy) {
 
                     entityMapper.mapEntityDetailToVertex(entity, vertex);
 
@@ -1174,11 +1675,11 @@ class GraphOMRSMetadataStore {
         }
 
        log.debug("{} commit entity update tx: ", methodName);
-        g.tx().commit();
+        commitTransaction(g, guid, methodName);
 
     }
 
-    synchronized void updateEntityProxyInStore(EntityProxy entityProxy)
+    void updateEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException
     {
@@ -1233,7 +1734,7 @@ class GraphOMRSMetadataStore {
         }
 
          log.debug("{} commit entity proxy update tx: ", methodName);
-        g.tx().commit();
+        commitTransaction(g, entityProxy.getGUID(), methodName);
 
     }
 
@@ -1315,7 +1816,7 @@ class GraphOMRSMetadataStore {
 
 
     // updateRelationshipInStore
-    synchronized void updateRelationshipInStore(Relationship relationship)
+    void updateRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException
     {
@@ -1331,6 +1832,8 @@ class GraphOMRSMetadataStore {
             Edge edge = edgeIt.next();
             log.debug("{} found existing edge {}", methodName, edge);
 
+            checkInstanceVersion(g, guid, relationshipMapper.getRelationshipVersion(edge), relationship.getVersion(), false, methodName);
+
             try {
 
                 relationshipMapper.mapRelationshipToEdge(relationship, edge);
@@ -1354,7 +1857,7 @@ class GraphOMRSMetadataStore {
             }
         }
 
-        g.tx().commit();
+        commitTransaction(g, guid, methodName);
 
     }
 
@@ -1362,7 +1865,9 @@ class GraphOMRSMetadataStore {
     //
     // This method will remove the entity vertex and any classifier edges and classification vertices linked off it
 
-    synchronized void removeEntityFromStore(String entityGUID)
+    void removeEntityFromStore(String entityGUID)
+            throws
+            RepositoryErrorException
     {
         final String methodName = "removeEntityFromStore";
 
@@ -1407,12 +1912,14 @@ class GraphOMRSMetadataStore {
                 log.debug("{} removed entity vertex with guid {}", methodName, entityGUID);
             }
         }
-        g.tx().commit();
+        commitTransaction(g, entityGUID, methodName);
 
     }
 
     // removeEntityProxyFromStore
-    synchronized void removeEntityProxyFromStore(String entityGUID)
+    void removeEntityProxyFromStore(String entityGUID)
+            throws
+            RepositoryErrorException
     {
         final String methodName = "removeEntityProxyFromStore";
         // TODO - could capture existing entity and move it to 'history'
@@ -1459,12 +1966,14 @@ class GraphOMRSMetadataStore {
                 log.debug("{} removed entity proxy vertex with guid {}", methodName, entityGUID);
             }
         }
-        g.tx().commit();
+        commitTransaction(g, entityGUID, methodName);
 
     }
 
     // removeRelationshipFromStore
-    synchronized void removeRelationshipFromStore(String relationshipGUID)
+    void removeRelationshipFromStore(String relationshipGUID)
+            throws
+            RepositoryErrorException
     {
         final String methodName = "removeRelationshipFromStore";
         // TODO - could capture existing relationship and move it to 'history'
@@ -1479,12 +1988,12 @@ class GraphOMRSMetadataStore {
             edge.remove();
             log.debug("{} removed relationship edge with guid {}", methodName, relationshipGUID);
         }
-        g.tx().commit();
+        commitTransaction(g, relationshipGUID, methodName);
 
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
             throws
             TypeErrorException,
@@ -1563,6 +2072,68 @@ class GraphOMRSMetadataStore {
     }
 
 
+    // countRelationshipsForEntity
+    /*
+     * Count the relationships for an entity in the graph - the edges are counted by the traversal so no
+     * relationships are mapped. A null relationshipTypeName means any type and a null limitResultsByStatus
+     * means any status. DELETED relationships are never counted.
+     */
+    int countRelationshipsForEntity(String               entityGUID,
+                                    String               relationshipTypeName,
+                                    List<InstanceStatus> limitResultsByStatus)
+
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "countRelationshipsForEntity";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Edge> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID)
+                                           .bothE("Relationship")
+                                           .has(PROPERTY_KEY_RELATIONSHIP_STATUS, P.neq(InstanceStatus.DELETED.getOrdinal()));
+
+        if (relationshipTypeName != null) {
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, relationshipTypeName);
+        }
+
+        if (limitResultsByStatus != null) {
+            List<Integer> statusOrdinals = new ArrayList<>();
+            for (InstanceStatus status : limitResultsByStatus) {
+                if (status != null) {
+                    statusOrdinals.add(status.getOrdinal());
+                }
+            }
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_STATUS, within(statusOrdinals));
+        }
+
+        long count;
+        try {
+            count = gt.dedup().count().next();
+        } catch (Exception e) {
+            log.error("{} Caught exception counting relationships for entity {}: {}", methodName, entityGUID, e.getMessage());
+            g.tx().rollback();
+
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(entityGUID, methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        g.tx().commit();
+
+        return (int) count;
+    }
+
+
     // findEntitiesByProperty
     List<EntityDetail> findEntitiesByProperty(String             typeDefName,
                                               InstanceProperties matchProperties,
@@ -1580,6 +2151,211 @@ class GraphOMRSMetadataStore {
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        GraphTraversal<Vertex, Vertex> gt = buildEntityPropertyTraversal(g, typeDefName, matchProperties, matchCriteria, fullMatch, methodName);
+        if (gt == null) {
+            // No entity of this type can match - the transaction has already been rolled back
+            return null;
+        }
+
+
+        while (gt.hasNext()) {
+            Vertex vertex = gt.next();
+            log.debug("{} found vertex {}", methodName, vertex);
+
+            EntityDetail entityDetail = new EntityDetail();
+            try {
+                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
+                Boolean isProxy = entityMapper.isProxy(vertex);
+                if (!isProxy) {
+                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                    entities.add(entityDetail);
+                }
+            } catch (Exception e) {
+                log.error("{} caught exception from entity mapper, entity being ignored, {}", methodName, e.getMessage());
+                continue;
+            }
+        }
+
+        g.tx().commit();
+
+        return entities;
+
+    }
+
+    // countEntitiesByProperty
+    /*
+     * Count the entities of one type that match the properties - the vertices are counted by the traversal so no
+     * entities are mapped. DELETED entities are never counted and a null limitResultsByStatus means any other status.
+     * If limitResultsByClassification is not null an entity is only counted if it has one of the named classifications,
+     * as for the classification filter on findEntitiesByProperty.
+     */
+    int countEntitiesByProperty(String               typeDefName,
+                                InstanceProperties   matchProperties,
+                                MatchCriteria        matchCriteria,
+                                Boolean              fullMatch,
+                                List<InstanceStatus> limitResultsByStatus,
+                                List<String>         limitResultsByClassification)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        final String methodName = "countEntitiesByProperty";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = buildEntityPropertyTraversal(g, typeDefName, matchProperties, matchCriteria, fullMatch, methodName);
+        if (gt == null) {
+            // No entity of this type can match - the transaction has already been rolled back
+            return 0;
+        }
+
+        gt = limitEntitiesByClassification(gt, limitResultsByClassification);
+
+        return countEntityVertices(g, gt, typeDefName, limitResultsByStatus, methodName);
+    }
+
+
+    // findEntityGUIDsByProperty
+    /*
+     * Retrieve, in GUID order, up to maxGUIDs of the GUIDs of the entities of one type that match the properties and
+     * follow afterGUID (null means from the first GUID). The status and classification filters are applied by the
+     * traversal, as for countEntitiesByProperty, so only the GUIDs of entities that will be returned are selected and
+     * only the GUIDs are read from the vertices. Null is returned if no entity of the type can match.
+     */
+    List<String> findEntityGUIDsByProperty(String               typeDefName,
+                                           InstanceProperties   matchProperties,
+                                           MatchCriteria        matchCriteria,
+                                           Boolean              fullMatch,
+                                           List<InstanceStatus> limitResultsByStatus,
+                                           List<String>         limitResultsByClassification,
+                                           String               afterGUID,
+                                           int                  maxGUIDs)
+            throws
+            InvalidParameterException
+    {
+        final String methodName = "findEntityGUIDsByProperty";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = buildEntityPropertyTraversal(g, typeDefName, matchProperties, matchCriteria, fullMatch, methodName);
+        if (gt == null) {
+            // No entity of this type can match - the transaction has already been rolled back
+            return null;
+        }
+
+        gt = limitEntitiesByClassification(gt, limitResultsByClassification);
+        gt = limitEntitiesByStatus(gt, limitResultsByStatus);
+
+        if (afterGUID != null) {
+            gt = gt.has(PROPERTY_KEY_ENTITY_GUID, P.gt(afterGUID));
+        }
+
+        List<String> guids = selectFirstGUIDs(gt.dedup().values(PROPERTY_KEY_ENTITY_GUID), maxGUIDs);
+
+        g.tx().commit();
+
+        return guids;
+    }
+
+
+    /*
+     * Limit an entity traversal to the entities that have one of the named classifications. A null list means no limit.
+     */
+    private GraphTraversal<Vertex, Vertex> limitEntitiesByClassification(GraphTraversal<Vertex, Vertex> gt,
+                                                                         List<String>                   limitResultsByClassification)
+    {
+        if (limitResultsByClassification != null) {
+            List<String> classificationNames = new ArrayList<>();
+            for (String classificationName : limitResultsByClassification) {
+                if (classificationName != null) {
+                    classificationNames.add(classificationName);
+                }
+            }
+            gt = gt.where(out("Classifier").has(PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME, within(classificationNames)));
+        }
+
+        return gt;
+    }
+
+
+    /*
+     * Limit an entity traversal to the entities that are not DELETED and, if limitResultsByStatus is not null, have
+     * one of the listed statuses.
+     */
+    private GraphTraversal<Vertex, Vertex> limitEntitiesByStatus(GraphTraversal<Vertex, Vertex> gt,
+                                                                 List<InstanceStatus>           limitResultsByStatus)
+    {
+        gt = gt.has(PROPERTY_KEY_ENTITY_STATUS, P.neq(InstanceStatus.DELETED.getOrdinal()));
+
+        if (limitResultsByStatus != null) {
+            List<Integer> statusOrdinals = new ArrayList<>();
+            for (InstanceStatus status : limitResultsByStatus) {
+                if (status != null) {
+                    statusOrdinals.add(status.getOrdinal());
+                }
+            }
+            gt = gt.has(PROPERTY_KEY_ENTITY_STATUS, within(statusOrdinals));
+        }
+
+        return gt;
+    }
+
+
+    /*
+     * Finish an entity traversal with the status filter and count the vertices it reaches. The transaction is
+     * committed after the count, or rolled back if the graph could not perform the count.
+     */
+    private int countEntityVertices(GraphTraversalSource           g,
+                                    GraphTraversal<Vertex, Vertex> gt,
+                                    String                         typeDefName,
+                                    List<InstanceStatus>           limitResultsByStatus,
+                                    String                         methodName)
+            throws
+            RepositoryErrorException
+    {
+        gt = limitEntitiesByStatus(gt, limitResultsByStatus);
+
+        long count;
+        try {
+            count = gt.dedup().count().next();
+        } catch (Exception e) {
+            log.error("{} Caught exception counting entities of type {}: {}", methodName, typeDefName, e.getMessage());
+            g.tx().rollback();
+
+            GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.ENTITIES_NOT_COUNTED;
+
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(typeDefName, methodName,
+                    this.getClass().getName(),
+                    repositoryName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+
+        g.tx().commit();
+
+        return (int) count;
+    }
+
+
+    /*
+     * Build the traversal that finds the (non-proxy) entity vertices of one type that match the properties. The
+     * traversal is shared by the find and count requests. Null is returned if no entity of the type can match, in
+     * which case the transaction has been rolled back.
+     */
+    private GraphTraversal<Vertex, Vertex> buildEntityPropertyTraversal(GraphTraversalSource g,
+                                                                        String               typeDefName,
+                                                                        InstanceProperties   matchProperties,
+                                                                        MatchCriteria        matchCriteria,
+                                                                        Boolean              fullMatch,
+                                                                        String               methodName)
+            throws
+            InvalidParameterException
+    {
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity");
         if (typeDefName != null) {
             gt = gt.has(PROPERTY_KEY_ENTITY_TYPE_NAME, typeDefName);
@@ -1774,24 +2550,7 @@ class GraphOMRSMetadataStore {
 
                             case OM_PRIMITIVE_TYPE_STRING:
 
-                                // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
-
-                                String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                log.debug("{} primitive match property search string ", methodName, searchString);
-
-                                // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text) {
-                                    t = (DefaultGraphTraversal) t.has(propNameToSearch, Text.textContainsRegex(searchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
-                                } else {
-                                    if (!fullMatch) {
-                                        // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                        String ANYCHARS = ".*";
-                                        t = (DefaultGraphTraversal) t.has(propNameToSearch, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                    } else {
-                                        // Must be a full match...
-                                        t = (DefaultGraphTraversal) t.has(propNameToSearch, Text.textRegex(searchString));
-                                    }
-                                }
+                                t = buildStringPropertyCriterion(propNameToSearch, (String) primValue, mapping, fullMatch);
                                 break;
 
                             default:
@@ -1840,29 +2599,92 @@ class GraphOMRSMetadataStore {
 
         }
 
+        return gt;
+    }
 
-        while (gt.hasNext()) {
-            Vertex vertex = gt.next();
-            log.debug("{} found vertex {}", methodName, vertex);
+    /*
+     * Build the traversal step that matches a string property against a search string that uses Egeria's regex convention.
+     *
+     * The search strings built by the OMRSRepositoryHelper (getExactMatchRegex, getStartsWithRegex, getContainsRegex) are
+     * recognised and turned into predicates that the mixed index can answer directly, rather than being passed to the
+     * index as a regex:
+     *   - for a field indexed with String mapping an exact match becomes an equality test and a "starts with" becomes
+     *     textPrefix. Both are served by simple term and prefix lookups in the index.
+     *   - for a field indexed with Text mapping an exact match or "contains" of a single token becomes textContains.
+     *
+     * Anything else (including "contains" and "ends with" on a String mapped field, which the index can only answer by
+     * scanning its terms) falls back to the regex predicates.
+     */
+    private DefaultGraphTraversal buildStringPropertyCriterion(String                                  propertyName,
+                                                               String                                  searchString,
+                                                               GraphOMRSGraphFactory.MixedIndexMapping mapping,
+                                                               boolean                                 fullMatch)
+    {
+        final String methodName = "buildStringPropertyCriterion";
 
-            EntityDetail entityDetail = new EntityDetail();
-            try {
-                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
-                Boolean isProxy = entityMapper.isProxy(vertex);
-                if (!isProxy) {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
-                    entities.add(entityDetail);
+        DefaultGraphTraversal t = new DefaultGraphTraversal();
+
+        if (fullMatch && searchString != null) {
+
+            String literal = null;
+            if (repositoryHelper.isExactMatchRegex(searchString)
+                    || repositoryHelper.isStartsWithRegex(searchString)
+                    || repositoryHelper.isContainsRegex(searchString)) {
+                literal = repositoryHelper.getUnqualifiedLiteralString(searchString);
+            }
+
+            if (literal != null && !literal.isEmpty()) {
+
+                if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text) {
+                    if (!repositoryHelper.isStartsWithRegex(searchString) && isSingleToken(literal)) {
+                        log.debug("{} property {} matched using textContains {}", methodName, propertyName, literal);
+                        return (DefaultGraphTraversal) t.has(propertyName, Text.textContains(literal));
+                    }
+                } else {
+                    if (repositoryHelper.isExactMatchRegex(searchString)) {
+                        log.debug("{} property {} matched using equality {}", methodName, propertyName, literal);
+                        return (DefaultGraphTraversal) t.has(propertyName, literal);
+                    }
+                    if (repositoryHelper.isStartsWithRegex(searchString)) {
+                        log.debug("{} property {} matched using textPrefix {}", methodName, propertyName, literal);
+                        return (DefaultGraphTraversal) t.has(propertyName, Text.textPrefix(literal));
+                    }
                 }
-            } catch (Exception e) {
-                log.error("{} caught exception from entity mapper, entity being ignored, {}", methodName, e.getMessage());
-                continue;
             }
         }
 
-        g.tx().commit();
+        // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-        return entities;
+        String janusSearchString = convertSearchStringToJanusRegex(searchString);
+        log.debug("{} property {} matched using regex {}", methodName, propertyName, janusSearchString);
+
+        // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
+        if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text) {
+            t = (DefaultGraphTraversal) t.has(propertyName, Text.textContainsRegex(janusSearchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
+        } else {
+            if (!fullMatch) {
+                // A partial match is sufficient...i.e. a value containing the search value as a substring will match
+                String ANYCHARS = ".*";
+                t = (DefaultGraphTraversal) t.has(propertyName, Text.textRegex(ANYCHARS + janusSearchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
+            } else {
+                // Must be a full match...
+                t = (DefaultGraphTraversal) t.has(propertyName, Text.textRegex(janusSearchString));
+            }
+        }
+        return t;
+    }
 
+    /*
+     * A literal can only be matched with textContains if the index tokenizer would keep it as a single token.
+     */
+    private boolean isSingleToken(String literal) {
+
+        for (int i = 0; i < literal.length(); i++) {
+            if (!Character.isLetterOrDigit(literal.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private String convertSearchStringToJanusRegex(String str) {
@@ -1976,6 +2798,132 @@ class GraphOMRSMetadataStore {
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        GraphTraversal<Edge, Edge> gt = buildRelationshipPropertyTraversal(g, typeDefName, matchProperties, matchCriteria, fullMatch, methodName);
+        if (gt == null) {
+            // No relationship of this type can match - the transaction has already been rolled back
+            return null;
+        }
+
+
+        while (gt.hasNext()) {
+            Edge edge = gt.next();
+            log.debug("{} found edge {}", methodName, edge);
+            Relationship relationship = new Relationship();
+            relationshipMapper.mapEdgeToRelationship(edge, relationship);
+
+            // Set the relationship ends...
+            try {
+                Vertex vertexOne = edge.outVertex();
+                Vertex vertexTwo = edge.inVertex();
+
+                // Doesn't matter whether vertices represent proxy entities or full entities - retrieve the entities as proxies
+                if (vertexOne != null) {
+                    log.debug("{} entity vertex {}", methodName, vertexOne);
+                    EntityProxy entityOneProxy = new EntityProxy();
+                    entityMapper.mapVertexToEntityProxy(vertexOne, entityOneProxy);
+                    log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
+                    relationship.setEntityOneProxy(entityOneProxy);
+                }
+                if (vertexTwo != null) {
+                    log.debug("{} entity vertex {}", methodName, vertexTwo);
+                    EntityProxy entityTwoProxy = new EntityProxy();
+                    entityMapper.mapVertexToEntityProxy(vertexTwo, entityTwoProxy);
+                    log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
+                    relationship.setEntityTwoProxy(entityTwoProxy);
+                }
+
+            } catch (Exception e) {
+                log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
+                g.tx().rollback();
+                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_PROPERTIES_ERROR;
+
+                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
+                        this.getClass().getName(),
+                        repositoryName);
+
+                throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                        this.getClass().getName(),
+                        methodName,
+                        errorMessage,
+                        errorCode.getSystemAction(),
+                        errorCode.getUserAction());
+            }
+
+            relationships.add(relationship);
+        }
+
+        g.tx().commit();
+
+        return relationships;
+
+    }
+
+
+    // findRelationshipGUIDsByProperty
+    /*
+     * Retrieve, in GUID order, up to maxGUIDs of the GUIDs of the relationships of one type that match the properties
+     * and follow afterGUID (null means from the first GUID). DELETED relationships are never selected and a null
+     * limitResultsByStatus means any other status. Only the GUIDs are read from the edges. Null is returned if no
+     * relationship of the type can match.
+     */
+    List<String> findRelationshipGUIDsByProperty(String               typeDefName,
+                                                 InstanceProperties   matchProperties,
+                                                 MatchCriteria        matchCriteria,
+                                                 Boolean              fullMatch,
+                                                 List<InstanceStatus> limitResultsByStatus,
+                                                 String               afterGUID,
+                                                 int                  maxGUIDs)
+            throws
+            InvalidParameterException
+    {
+        final String methodName = "findRelationshipGUIDsByProperty";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Edge, Edge> gt = buildRelationshipPropertyTraversal(g, typeDefName, matchProperties, matchCriteria, fullMatch, methodName);
+        if (gt == null) {
+            // No relationship of this type can match - the transaction has already been rolled back
+            return null;
+        }
+
+        gt = gt.has(PROPERTY_KEY_RELATIONSHIP_STATUS, P.neq(InstanceStatus.DELETED.getOrdinal()));
+
+        if (limitResultsByStatus != null) {
+            List<Integer> statusOrdinals = new ArrayList<>();
+            for (InstanceStatus status : limitResultsByStatus) {
+                if (status != null) {
+                    statusOrdinals.add(status.getOrdinal());
+                }
+            }
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_STATUS, within(statusOrdinals));
+        }
+
+        if (afterGUID != null) {
+            gt = gt.has(PROPERTY_KEY_RELATIONSHIP_GUID, P.gt(afterGUID));
+        }
+
+        List<String> guids = selectFirstGUIDs(gt.values(PROPERTY_KEY_RELATIONSHIP_GUID), maxGUIDs);
+
+        g.tx().commit();
+
+        return guids;
+    }
+
+
+    /*
+     * Build the traversal that finds the relationship edges of one type that match the properties. The traversal
+     * is shared by the find requests. Null is returned if no relationship of the type can match, in which case the
+     * transaction has been rolled back.
+     */
+    private GraphTraversal<Edge, Edge> buildRelationshipPropertyTraversal(GraphTraversalSource g,
+                                                                      String               typeDefName,
+                                                                      InstanceProperties   matchProperties,
+                                                                      MatchCriteria        matchCriteria,
+                                                                      Boolean              fullMatch,
+                                                                      String               methodName)
+            throws
+            InvalidParameterException
+    {
         GraphTraversal<Edge, Edge> gt = g.E().hasLabel("Relationship");
         if (typeDefName != null) {
             gt = gt.has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, typeDefName);
@@ -2167,24 +3115,7 @@ class GraphOMRSMetadataStore {
 
                             case OM_PRIMITIVE_TYPE_STRING:
 
-                                // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
-
-                                String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                log.debug("{} primitive match property search string ", methodName, searchString);
-
-                                // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text) {
-                                    t = (DefaultGraphTraversal) t.has(propNameToSearch, Text.textContainsRegex(searchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
-                                } else {
-                                    if (!fullMatch) {
-                                        // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                        String ANYCHARS = ".*";
-                                        t = (DefaultGraphTraversal) t.has(propNameToSearch, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                    } else {
-                                        // Must be a full match...
-                                        t = (DefaultGraphTraversal) t.has(propNameToSearch, Text.textRegex(searchString));
-                                    }
-                                }
+                                t = buildStringPropertyCriterion(propNameToSearch, (String) primValue, mapping, fullMatch);
                                 break;
 
                             default:
@@ -2232,58 +3163,7 @@ class GraphOMRSMetadataStore {
             }
         }
 
-
-        while (gt.hasNext()) {
-            Edge edge = gt.next();
-            log.debug("{} found edge {}", methodName, edge);
-            Relationship relationship = new Relationship();
-            relationshipMapper.mapEdgeToRelationship(edge, relationship);
-
-            // Set the relationship ends...
-            try {
-                Vertex vertexOne = edge.outVertex();
-                Vertex vertexTwo = edge.inVertex();
-
-                // Doesn't matter whether vertices represent proxy entities or full entities - retrieve the entities as proxies
-                if (vertexOne != null) {
-                    log.debug("{} entity vertex {}", methodName, vertexOne);
-                    EntityProxy entityOneProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertexOne, entityOneProxy);
-                    log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
-                    relationship.setEntityOneProxy(entityOneProxy);
-                }
-                if (vertexTwo != null) {
-                    log.debug("{} entity vertex {}", methodName, vertexTwo);
-                    EntityProxy entityTwoProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertexTwo, entityTwoProxy);
-                    log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
-                    relationship.setEntityTwoProxy(entityTwoProxy);
-                }
-
-            } catch (Exception e) {
-                log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-                g.tx().rollback();
-                GraphOMRSErrorCode errorCode = GraphOMRSErrorCode.RELATIONSHIP_PROPERTIES_ERROR;
-
-                String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(relationship.getGUID(), methodName,
-                        this.getClass().getName(),
-                        repositoryName);
-
-                throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
-                        this.getClass().getName(),
-                        methodName,
-                        errorMessage,
-                        errorCode.getSystemAction(),
-                        errorCode.getUserAction());
-            }
-
-            relationships.add(relationship);
-        }
-
-        g.tx().commit();
-
-        return relationships;
-
+        return gt;
     }
 
 
@@ -2562,6 +3442,71 @@ class GraphOMRSMetadataStore {
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        GraphTraversal<Vertex, Vertex> gt = buildEntityClassificationTraversal(g, classificationName, classificationProperties, matchCriteria, entityTypeName, methodName);
+
+
+        while (gt.hasNext()) {
+            Vertex entityVertex = gt.next();
+            log.debug("{} found entity vertex {}", methodName, entityVertex);
+
+            EntityDetail entityDetail = new EntityDetail();
+            try {
+                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
+                Boolean isProxy = entityMapper.isProxy(entityVertex);
+                if (!isProxy) {
+                    entityMapper.mapVertexToEntityDetail(entityVertex, entityDetail);
+                    entities.add(entityDetail);
+                }
+            } catch (Exception e) {
+                log.error("{} caught exception from entity mapper - entity will be ignored, {}", methodName, e.getMessage());
+                continue; // process the next vertex
+            }
+        }
+
+        g.tx().commit();
+
+        return entities;
+
+    }
+
+
+    // countEntitiesByClassification
+    /*
+     * Count the entities of one type that have the classification - the vertices are counted by the traversal so no
+     * entities are mapped. DELETED entities are never counted and a null limitResultsByStatus means any other status.
+     */
+    int countEntitiesByClassification(String               classificationName,
+                                      InstanceProperties   classificationProperties,
+                                      MatchCriteria        matchCriteria,
+                                      String               entityTypeName,
+                                      List<InstanceStatus> limitResultsByStatus)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "countEntitiesByClassification";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = buildEntityClassificationTraversal(g, classificationName, classificationProperties, matchCriteria, entityTypeName, methodName);
+
+        return countEntityVertices(g, gt, entityTypeName, limitResultsByStatus, methodName);
+    }
+
+
+    /*
+     * Build the traversal that starts from the matching classification vertices and reaches the (non-proxy) entity
+     * vertices of one type that they are attached to. The traversal is shared by the find and count requests.
+     */
+    private GraphTraversal<Vertex, Vertex> buildEntityClassificationTraversal(GraphTraversalSource g,
+                                                                              String               classificationName,
+                                                                              InstanceProperties   classificationProperties,
+                                                                              MatchCriteria        matchCriteria,
+                                                                              String               entityTypeName,
+                                                                              String               methodName)
+            throws
+            InvalidParameterException
+    {
         // classificationName has already been validated and is known not to be null
         // entity typeName has already been validated and is known to be valid the classification type
 
@@ -2610,18 +3555,8 @@ class GraphOMRSMetadataStore {
                     DefaultGraphTraversal t = new DefaultGraphTraversal();
                     switch (pCat) {
                         case OM_PRIMITIVE_TYPE_STRING:
-                            // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
-                            String searchString = convertSearchStringToJanusRegex((String) primValue);
-                            log.debug("{} primitive match property search string ", methodName, searchString);
-
-                            // NB This is using a JG specific approach to text predicates - see the static import above.
-                            // From TP 3.4.0 try to use the TP text predicates.
-                            if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text) {
-                                t = (DefaultGraphTraversal) t.has(qualifiedPropertyName, Text.textContainsRegex(searchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
-                            } else {
-                                // Pattern given for classification name is assumed to be a full match
-                                t = (DefaultGraphTraversal) t.has(qualifiedPropertyName, Text.textRegex(searchString));         // for a field indexed using String mapping use textRegex
-                            }
+                            // Pattern given for classification name is assumed to be a full match
+                            t = buildStringPropertyCriterion(qualifiedPropertyName, (String) primValue, mapping, true);
                             break;
                         default:
                             t = (DefaultGraphTraversal) t.has(qualifiedPropertyName, primValue);
@@ -2668,31 +3603,9 @@ class GraphOMRSMetadataStore {
 
 
         // Cannot return EntityProxy objects, so ensure that only traverse to a non-proxy entity vertex...
-        gt.in("Classifier").has(PROPERTY_KEY_ENTITY_IS_PROXY, false).has(PROPERTY_KEY_ENTITY_TYPE_NAME, entityTypeName);
-
-
-        while (gt.hasNext()) {
-            Vertex entityVertex = gt.next();
-            log.debug("{} found entity vertex {}", methodName, entityVertex);
-
-            EntityDetail entityDetail = new EntityDetail();
-            try {
-                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
-                Boolean isProxy = entityMapper.isProxy(entityVertex);
-                if (!isProxy) {
-                    entityMapper.mapVertexToEntityDetail(entityVertex, entityDetail);
-                    entities.add(entityDetail);
-                }
-            } catch (Exception e) {
-                log.error("{} caught exception from entity mapper - entity will be ignored, {}", methodName, e.getMessage());
-                continue; // process the next vertex
-            }
-        }
-
-        g.tx().commit();
-
-        return entities;
+        gt = gt.in("Classifier").has(PROPERTY_KEY_ENTITY_IS_PROXY, false).has(PROPERTY_KEY_ENTITY_TYPE_NAME, entityTypeName);
 
+        return gt;
     }
 
 
@@ -9,10 +9,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSMatchPropertiesMatcher;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSPageTokenFilter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSSearchCriteriaMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * The InMemoryOMRSMetadataCollection represents a metadata repository that supports an in-memory repository.
@@ -20,6 +24,22 @@ import java.util.*;
  */
 public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
 {
+    /*
+     * Match properties with these names are also matched against the instance header (see
+     * OMRSRepositoryContentValidator.countMatchingHeaderPropertyValues).  They are not in the property value
+     * index so they are never used to narrow down a search.
+     */
+    private static final Set<String> headerPropertyNames = new HashSet<>(Arrays.asList("metadataCollectionId",
+                                                                                       "metadataCollectionName",
+                                                                                       "typeName",
+                                                                                       "typeGUID",
+                                                                                       "createdBy",
+                                                                                       "updatedBy",
+                                                                                       "createTime",
+                                                                                       "updateTime",
+                                                                                       "effectiveFrom",
+                                                                                       "effectiveTo"));
+
     private InMemoryOMRSMetadataStore         repositoryStore = new InMemoryOMRSMetadataStore();
 
 
@@ -38,6 +58,29 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                    OMRSRepositoryHelper            repositoryHelper,
                                    OMRSRepositoryValidator         repositoryValidator,
                                    String                          metadataCollectionId)
+    {
+        this(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId, false);
+    }
+
+
+    /**
+     * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection Id.
+     *
+     * @param parentConnector connector that this metadata collection supports.  The connector has the information
+     *                        to call the metadata repository.
+     * @param repositoryName name of the repository - used for logging.
+     * @param repositoryHelper class used to build type definitions and instances.
+     * @param repositoryValidator class used to validate type definitions and instances.
+     * @param metadataCollectionId unique Identifier of the metadata collection Id.
+     * @param indexPropertyValues should the string property values of the instances be indexed to speed up
+     *                            exact match searches.
+     */
+    InMemoryOMRSMetadataCollection(InMemoryOMRSRepositoryConnector parentConnector,
+                                   String                          repositoryName,
+                                   OMRSRepositoryHelper            repositoryHelper,
+                                   OMRSRepositoryValidator         repositoryValidator,
+                                   String                          metadataCollectionId,
+                                   boolean                         indexPropertyValues)
     {
         /*
          * The metadata collection Id is the unique identifier for the metadata collection.  It is managed by the super class.
@@ -48,6 +91,18 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * Set up the repository name in the repository store
          */
         this.repositoryStore.setRepositoryName(repositoryName);
+        this.repositoryStore.setPropertyValueIndexEnabled(indexPropertyValues);
+    }
+
+
+    /**
+     * Set up how long the previous versions of instances are kept for historical queries.
+     *
+     * @param historyRetentionPeriod time in milliseconds - zero means keep forever.
+     */
+    void setHistoryRetentionPeriod(long   historyRetentionPeriod)
+    {
+        this.repositoryStore.setHistoryRetentionPeriod(historyRetentionPeriod);
     }
 
 
@@ -210,7 +265,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.timeWarpEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -228,6 +283,60 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  The entities are
+     * looked up directly in the store rather than through getEntityDetail so the request is validated once.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order of the requested guids.  Null means none of the
+     * entities are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String  methodName         = "getEntitiesByGUIDs";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateGUIDList(guidsParameterName, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = repositoryStore.getEntity(guid);
+
+            if ((entity != null)
+                    && (entity.getStatus() != InstanceStatus.DELETED)
+                    && (repositoryValidator.validEntity(repositoryName, entity)))
+            {
+                entities.add(entity);
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -291,39 +400,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntitySummary  entity = this.getEntitySummary(userId, entityGUID);
-
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
-
-        List<Relationship> entityRelationships = new ArrayList<>();
-
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  storedRelationship : relationshipStore.values())
-        {
-            if (storedRelationship != null)
-            {
-                if (storedRelationship.getStatus() != InstanceStatus.DELETED)
-                {
-                    repositoryValidator.validRelationship(repositoryName, storedRelationship);
-
-                    if (repositoryHelper.relatedEntity(repositoryName,
-                                                       entityGUID,
-                                                       storedRelationship))
-                    {
-                        if (relationshipTypeGUID == null)
-                        {
-                            entityRelationships.add(storedRelationship);
-                        }
-                        else if (relationshipTypeGUID.equals(storedRelationship.getType().getTypeDefGUID()))
-                        {
-                            entityRelationships.add(storedRelationship);
-                        }
-                    }
-                }
-            }
-        }
+        List<Relationship> entityRelationships = this.getMatchingRelationshipsForEntity(userId,
+                                                                                        entityGUID,
+                                                                                        relationshipTypeGUID,
+                                                                                        asOfTime,
+                                                                                        methodName);
 
         if (entityRelationships.isEmpty())
         {
@@ -408,32 +489,176 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The indexes narrow down the entities to test using the type, classifications and, when all of the
+         * properties must match, an exact match property value.  Each candidate is then tested against the
+         * full search criteria.
+         */
+        List<EntityDetail>  foundEntities = this.getMatchingEntitiesByProperty(entityTypeGUID,
+                                                                               matchProperties,
+                                                                               matchCriteria,
+                                                                               limitResultsByStatus,
+                                                                               limitResultsByClassification,
+                                                                               asOfTime,
+                                                                               null);
+
+        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * Each page resumes after the last entity returned on the previous page (in sequencing property and guid
+     * order).  The entities returned on the earlier pages are skipped as the store is searched so only the
+     * entities for this page and the ones that follow it are matched and sorted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        matchProperties,
+                                                        matchCriteria,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        asOfTime,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        pageSize);
 
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if ((entity.getStatus() != InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
-                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
-                    (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity)) &&
-                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
-                                                                              entity,
-                                                                              entity.getProperties(),
-                                                                              matchCriteria
-                                                                              )))
-                {
-                    foundEntities.add(entity);
-                }
-            }
-        }
+        /*
+         * Perform operation
+         *
+         * The entities up to the page token are dropped before they are matched, so the results that are
+         * formatted are already the ones that follow the token.
+         */
+        OMRSPageTokenFilter pageTokenFilter = repositoryHelper.getPageTokenFilter(pageToken,
+                                                                                   sequencingProperty,
+                                                                                   sequencingOrder);
+
+        List<EntityDetail>  foundEntities = this.getMatchingEntitiesByProperty(entityTypeGUID,
+                                                                               matchProperties,
+                                                                               matchCriteria,
+                                                                               limitResultsByStatus,
+                                                                               limitResultsByClassification,
+                                                                               asOfTime,
+                                                                               pageTokenFilter);
+
+        return repositoryHelper.formatEntityPage(foundEntities, null, sequencingProperty, sequencingOrder, pageSize);
+    }
 
-        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+
+    /**
+     * Return an iterator that steps through all of the entities in the metadata collection, optionally limited
+     * to a type (and its subtypes), a home metadata collection and a list of statuses.  The classifications of
+     * each entity are returned with it.  The store is read in place as the iterator is used so the whole
+     * metadata collection can be exported without copying it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the entities to return.
+     *                                 Null means entities from any metadata collection.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param pageSize not used since the store is read in place.
+     * @return iterator over the entities
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the entities.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support the scan.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Iterator<EntityDetail> scanEntities(String                    userId,
+                                               String                    entityTypeGUID,
+                                               String                    homeMetadataCollectionId,
+                                               List<InstanceStatus>      limitResultsByStatus,
+                                               int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        null,
+                                                        null,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        pageSize);
+
+        /*
+         * Perform operation
+         *
+         * The store is read in place, one entity at a time, rather than being copied for each page.
+         */
+        return repositoryStore.scanEntities(this.getStoredEntityTypeGUIDs(entityTypeGUID),
+                                            (entity) -> (entity.getStatus() != InstanceStatus.DELETED) &&
+                                                        (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                                                        (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
+                                                        ((homeMetadataCollectionId == null) ||
+                                                         (homeMetadataCollectionId.equals(entity.getMetadataCollectionId()))));
     }
 
 
@@ -511,85 +736,244 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The indexes narrow down the entities to test to those of the right type that have the classification.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-        List<EntityDetail>          foundEntities = new ArrayList<>();
-
-        List<String>                classificationList = new ArrayList<>();
-        classificationList.add(classificationName);
-
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if ((entity.getStatus() != InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
-                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
-                    (repositoryValidator.verifyEntityIsClassified(classificationList, entity)))
-                {
-                    List<Classification>   entityClassifications = entity.getClassifications();
-
-                    if (entityClassifications != null)
-                    {
-                        /*
-                         * Locate the matching classification and validate its properties
-                         */
-                        for (Classification entityClassification : entityClassifications)
-                        {
-                            if (entityClassification != null)
-                            {
-                                if (classificationName.equals(entityClassification.getName()))
-                                {
-                                    if (repositoryValidator.verifyMatchingInstancePropertyValues(
-                                            matchClassificationProperties,
-                                            entityClassification,
-                                            entityClassification.getProperties(),
-                                            matchCriteria
-                                            ))
-
-                                    {
-                                        foundEntities.add(entity);
-                                    }
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        List<EntityDetail>  foundEntities = this.getMatchingEntitiesByClassification(entityTypeGUID,
+                                                                                     classificationName,
+                                                                                     matchClassificationProperties,
+                                                                                     matchCriteria,
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime);
 
         return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
     }
 
 
     /**
-     * Return a list of entities whose string based property values match the search criteria.  The
-     * search criteria may include regex style wild cards.
+     * Return the number of relationships for a specific entity.  The relationships are counted in the
+     * repository store rather than returned to the caller.
      *
-     * @param userId  unique identifier for requesting user.
-     * @param entityTypeGUID  GUID of the type of entity to search for. Null means all types will
-     *                       be searched (could be slow so not recommended).
-     * @param searchCriteria String Java regular expression used to match against any of the String property values
-     *                       within the entities of the supplied type, even if it should be an exact match.
-     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
-     * @param fromEntityElement  the starting element number of the entities to return.
-     *                                This is used when retrieving elements
-     *                                beyond the first page of results. Zero means start from the first element.
-     * @param limitResultsByStatus  By default, entities in all statuses are returned.  However, it is possible
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are counted.  However, it is possible
      *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                             status values.
-     * @param limitResultsByClassification  List of classifications that must be present on all returned entities.
-     * @param asOfTime  Requests a historical query of the entity.  Null means return the present values.
-     * @param sequencingProperty  String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder  Enum defining how the results should be ordered.
-     * @param pageSize  the maximum number of result entities that can be returned on this request.  Zero means
-     *                 unrestricted return results size.
-     * @return a list of entities matching the supplied criteria - null means no matching entities in the metadata
-     * collection.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means count the
+     *                 present values.
+     * @return count of the relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public int countRelationshipsForEntity(String                     userId,
+                                           String                     entityGUID,
+                                           String                     relationshipTypeGUID,
+                                           List<InstanceStatus>       limitResultsByStatus,
+                                           Date                       asOfTime) throws InvalidParameterException,
+                                                                                       TypeErrorException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       PagingErrorException,
+                                                                                       UserNotAuthorizedException
+    {
+        final String  methodName = "countRelationshipsForEntity";
+
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                                                           entityGUID,
+                                                           relationshipTypeGUID,
+                                                           0,
+                                                           limitResultsByStatus,
+                                                           asOfTime,
+                                                           null,
+                                                           null,
+                                                           0);
+
+        /*
+         * Perform operation
+         */
+        return this.getMatchingRelationshipsForEntity(userId,
+                                                      entityGUID,
+                                                      relationshipTypeGUID,
+                                                      asOfTime,
+                                                      methodName).size();
+    }
+
+
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     * The entities are counted in the repository store rather than returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the match properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all counted entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public int countEntitiesByProperty(String                    userId,
+                                       String                    entityTypeGUID,
+                                       InstanceProperties        matchProperties,
+                                       MatchCriteria             matchCriteria,
+                                       List<InstanceStatus>      limitResultsByStatus,
+                                       List<String>              limitResultsByClassification,
+                                       Date                      asOfTime) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  PropertyErrorException,
+                                                                                  PagingErrorException,
+                                                                                  UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        matchProperties,
+                                                        matchCriteria,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        asOfTime,
+                                                        null,
+                                                        null,
+                                                        0);
+
+        /*
+         * Perform operation
+         */
+        return this.getMatchingEntitiesByProperty(entityTypeGUID,
+                                                  matchProperties,
+                                                  matchCriteria,
+                                                  limitResultsByStatus,
+                                                  limitResultsByClassification,
+                                                  asOfTime,
+                                                  null).size();
+    }
+
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     * The entities are counted in the repository store rather than returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the match properties should be matched to the classifications in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public int countEntitiesByClassification(String                    userId,
+                                             String                    entityTypeGUID,
+                                             String                    classificationName,
+                                             InstanceProperties        matchClassificationProperties,
+                                             MatchCriteria             matchCriteria,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             Date                      asOfTime) throws InvalidParameterException,
+                                                                                        TypeErrorException,
+                                                                                        RepositoryErrorException,
+                                                                                        ClassificationErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByClassificationParameterValidation(userId,
+                                                              entityTypeGUID,
+                                                              classificationName,
+                                                              matchClassificationProperties,
+                                                              matchCriteria,
+                                                              0,
+                                                              limitResultsByStatus,
+                                                              asOfTime,
+                                                              null,
+                                                              null,
+                                                              0);
+
+        /*
+         * Perform operation
+         */
+        return this.getMatchingEntitiesByClassification(entityTypeGUID,
+                                                        classificationName,
+                                                        matchClassificationProperties,
+                                                        matchCriteria,
+                                                        limitResultsByStatus,
+                                                        asOfTime).size();
+    }
+
+
+    /**
+     * Return a list of entities whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param entityTypeGUID  GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param fromEntityElement  the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus  By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification  List of classifications that must be present on all returned entities.
+     * @param asOfTime  Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty  String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder  Enum defining how the results should be ordered.
+     * @param pageSize  the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria - null means no matching entities in the metadata
+     * collection.
      * @throws InvalidParameterException a parameter is invalid or null.
      * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
      * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
@@ -636,12 +1020,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The indexes narrow down the entities to test using the type and, for an exact match search,
+         * the value being searched for.  Each candidate is then tested against the search criteria.
          */
-        List<EntityDetail>   foundEntities = new ArrayList<>();
+        List<EntityDetail>        foundEntities         = new ArrayList<>();
+        OMRSSearchCriteriaMatcher searchCriteriaMatcher = this.getSearchCriteriaMatcher(searchCriteria, methodName);
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        for (EntityDetail  entity : this.getEntitiesToSearch(entityTypeGUID,
+                                                             null,
+                                                             null,
+                                                             this.getExactMatchSearchValue(searchCriteria),
+                                                             asOfTime))
         {
             if (entity != null)
             {
@@ -649,7 +1038,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
                     (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
                                                                                     entity.getProperties(),
-                                                                                    searchCriteria,
+                                                                                    searchCriteriaMatcher,
                                                                                     methodName)))
                 {
                     foundEntities.add(entity);
@@ -761,7 +1150,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.timeWarpRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -770,6 +1159,60 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return each of the requested relationships.  The relationships are looked up directly in the store rather
+     * than through getRelationship so the request is validated once.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order of the requested guids.  Null means none of the relationships
+     * are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName         = "getRelationshipsByGUIDs";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateGUIDList(guidsParameterName, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = repositoryStore.getRelationship(guid);
+
+            if ((relationship != null)
+                    && (relationship.getStatus() != InstanceStatus.DELETED)
+                    && (repositoryValidator.validRelationship(repositoryName, relationship)))
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -844,28 +1287,16 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The indexes narrow down the relationships to test using the type and, when all of the
+         * properties must match, an exact match property value.  Each candidate is then tested against the
+         * full search criteria.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  relationship : relationshipStore.values())
-        {
-            if (relationship != null)
-            {
-                if ((relationship.getStatus() != InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship)) &&
-                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
-                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
-                                                                              relationship,
-                                                                              relationship.getProperties(),
-                                                                              matchCriteria)))
-                {
-                    foundRelationships.add(relationship);
-                }
-            }
-        }
+        List<Relationship>  foundRelationships = this.getMatchingRelationshipsByProperty(relationshipTypeGUID,
+                                                                                         matchProperties,
+                                                                                         matchCriteria,
+                                                                                         limitResultsByStatus,
+                                                                                         asOfTime,
+                                                                                         null);
 
         return repositoryHelper.formatRelationshipResults(foundRelationships,
                                          fromRelationshipElement,
@@ -876,89 +1307,246 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
 
     /**
-     * Return a list of relationships whose string based property values match the search criteria.  The
-     * search criteria may include regex style wild cards.
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * Each page resumes after the last relationship returned on the previous page (in sequencing property and
+     * guid order).  The relationships returned on the earlier pages are skipped as the store is searched so only
+     * the relationships for this page and the ones that follow it are matched and sorted.
      *
      * @param userId unique identifier for requesting user.
-     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
-     *                       be searched (could be slow so not recommended).
-     * @param searchCriteria String Java regular expression used to match against any of the String property values
-     *                       within the relationships of the supplied type, even if it should be an exact match.
-     * @param fromRelationshipElement Element number of the results to skip to when building the results list
-     *                                to return.  Zero means begin at the start of the results.  This is used
-     *                                to retrieve the results over a number of pages.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param matchProperties Optional list of relationship properties to match (where any String property's value
+     *                        should be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
      * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
      *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                             status values.
      * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
      *                 present values.
      * @param sequencingProperty String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
+     *                           Null means sequence on guid alone.
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return a list of relationships.  Null means no matching relationships.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
      * @throws InvalidParameterException one of the parameters is invalid or null.
-     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
      * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
-     *                                  the metadata collection is stored.
-     * @throws PropertyErrorException there is a problem with one of the other parameters.
-     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
      * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
      * @see OMRSRepositoryHelper#getExactMatchRegex(String)
-     * @see OMRSRepositoryHelper#getContainsRegex(String)
      */
-    public  List<Relationship> findRelationshipsByPropertyValue(String                    userId,
-                                                                String                    relationshipTypeGUID,
-                                                                String                    searchCriteria,
-                                                                int                       fromRelationshipElement,
-                                                                List<InstanceStatus>      limitResultsByStatus,
-                                                                Date                      asOfTime,
-                                                                String                    sequencingProperty,
-                                                                SequencingOrder           sequencingOrder,
-                                                                int                       pageSize) throws InvalidParameterException,
-                                                                                                           TypeErrorException,
-                                                                                                           RepositoryErrorException,
-                                                                                                           PropertyErrorException,
-                                                                                                           PagingErrorException,
-                                                                                                           UserNotAuthorizedException
+    @Override
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                UserNotAuthorizedException
     {
-        final String  methodName = "findRelationshipsByPropertyValue";
-
-
         /*
          * Validate parameters
          */
-        super.findRelationshipsByPropertyValueParameterValidation(userId,
-                                                                  relationshipTypeGUID,
-                                                                  searchCriteria,
-                                                                  fromRelationshipElement,
-                                                                  limitResultsByStatus,
-                                                                  asOfTime,
-                                                                  sequencingProperty,
-                                                                  sequencingOrder,
-                                                                  pageSize);
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                                                             relationshipTypeGUID,
+                                                             matchProperties,
+                                                             matchCriteria,
+                                                             0,
+                                                             limitResultsByStatus,
+                                                             asOfTime,
+                                                             sequencingProperty,
+                                                             sequencingOrder,
+                                                             pageSize);
 
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored relationships.
+         * The relationships up to the page token are dropped before they are matched, so the results that are
+         * formatted are already the ones that follow the token.
          */
-        List<Relationship>  foundRelationships = new ArrayList<>();
+        OMRSPageTokenFilter pageTokenFilter = repositoryHelper.getPageTokenFilter(pageToken,
+                                                                                   sequencingProperty,
+                                                                                   sequencingOrder);
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
-        {
-            if (relationship != null)
-            {
-                if ((relationship.getStatus() != InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship)) &&
-                    (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
-                                                                                     relationship.getProperties(),
-                                                                                     searchCriteria,
-                                                                                     methodName)))
-                {
-                    foundRelationships.add(relationship);
+        List<Relationship>  foundRelationships = this.getMatchingRelationshipsByProperty(relationshipTypeGUID,
+                                                                                         matchProperties,
+                                                                                         matchCriteria,
+                                                                                         limitResultsByStatus,
+                                                                                         asOfTime,
+                                                                                         pageTokenFilter);
+
+        return repositoryHelper.formatRelationshipPage(foundRelationships, null, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Return an iterator that steps through all of the relationships in the metadata collection, optionally
+     * limited to a type (and its subtypes), a home metadata collection and a list of statuses.  The store is
+     * read in place as the iterator is used so the whole metadata collection can be exported without copying it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship type of interest (null means any
+     *                             relationship type).
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the relationships to
+     *                                 return.  Null means relationships from any metadata collection.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param pageSize not used since the store is read in place.
+     * @return iterator over the relationships
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support the scan.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Iterator<Relationship> scanRelationships(String                    userId,
+                                                    String                    relationshipTypeGUID,
+                                                    String                    homeMetadataCollectionId,
+                                                    List<InstanceStatus>      limitResultsByStatus,
+                                                    int                       pageSize) throws InvalidParameterException,
+                                                                                               TypeErrorException,
+                                                                                               RepositoryErrorException,
+                                                                                               PropertyErrorException,
+                                                                                               PagingErrorException,
+                                                                                               FunctionNotSupportedException,
+                                                                                               UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                                                             relationshipTypeGUID,
+                                                             null,
+                                                             null,
+                                                             0,
+                                                             limitResultsByStatus,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             pageSize);
+
+        /*
+         * Perform operation
+         *
+         * The store is read in place, one relationship at a time, rather than being copied for each page.
+         */
+        return repositoryStore.scanRelationships(this.getStoredRelationshipTypeGUIDs(relationshipTypeGUID),
+                                                 (relationship) -> (relationship.getStatus() != InstanceStatus.DELETED) &&
+                                                                   (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship)) &&
+                                                                   (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
+                                                                   ((homeMetadataCollectionId == null) ||
+                                                                    (homeMetadataCollectionId.equals(relationship.getMetadataCollectionId()))));
+    }
+
+
+    /**
+     * Return a list of relationships whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param fromRelationshipElement Element number of the results to skip to when building the results list
+     *                                to return.  Zero means begin at the start of the results.  This is used
+     *                                to retrieve the results over a number of pages.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public  List<Relationship> findRelationshipsByPropertyValue(String                    userId,
+                                                                String                    relationshipTypeGUID,
+                                                                String                    searchCriteria,
+                                                                int                       fromRelationshipElement,
+                                                                List<InstanceStatus>      limitResultsByStatus,
+                                                                Date                      asOfTime,
+                                                                String                    sequencingProperty,
+                                                                SequencingOrder           sequencingOrder,
+                                                                int                       pageSize) throws InvalidParameterException,
+                                                                                                           TypeErrorException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           PropertyErrorException,
+                                                                                                           PagingErrorException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipsByPropertyValue";
+
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyValueParameterValidation(userId,
+                                                                  relationshipTypeGUID,
+                                                                  searchCriteria,
+                                                                  fromRelationshipElement,
+                                                                  limitResultsByStatus,
+                                                                  asOfTime,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize);
+
+        /*
+         * Perform operation
+         *
+         * The indexes narrow down the relationships to test using the type and, for an exact match search,
+         * the value being searched for.  Each candidate is then tested against the search criteria.
+         */
+        List<Relationship>        foundRelationships    = new ArrayList<>();
+        OMRSSearchCriteriaMatcher searchCriteriaMatcher = this.getSearchCriteriaMatcher(searchCriteria, methodName);
+
+        for (Relationship  relationship : this.getRelationshipsToSearch(relationshipTypeGUID,
+                                                                        null,
+                                                                        null,
+                                                                        this.getExactMatchSearchValue(searchCriteria),
+                                                                        asOfTime))
+        {
+            if (relationship != null)
+            {
+                if ((relationship.getStatus() != InstanceStatus.DELETED) &&
+                    (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship)) &&
+                    (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
+                                                                                     relationship.getProperties(),
+                                                                                     searchCriteriaMatcher,
+                                                                                     methodName)))
+                {
+                    foundRelationships.add(relationship);
                 }
             }
         }
@@ -2220,6 +2808,278 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Save a set of new entities and relationships in a single request.  All of the instances are built and
+     * the ends of the relationships are resolved before any of them are stored so that a batch that fails
+     * leaves nothing in the repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and relationships.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addInstances(String         userId,
+                                      InstanceGraph  instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeErrorException,
+                                                                       PropertyErrorException,
+                                                                       ClassificationErrorException,
+                                                                       EntityNotKnownException,
+                                                                       StatusNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "addInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addInstancesParameterValidation(userId, instances, methodName);
+
+        return this.addInstanceBatch(userId, null, null, instances, methodName);
+    }
+
+
+    /**
+     * Save a set of new entities and relationships that are sourced from an external technology in a single
+     * request.  All of the instances are built and the ends of the relationships are resolved before any of
+     * them are stored so that a batch that fails leaves nothing in the repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addExternalInstances(String         userId,
+                                              String         externalSourceGUID,
+                                              String         externalSourceName,
+                                              InstanceGraph  instances) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               ClassificationErrorException,
+                                                                               EntityNotKnownException,
+                                                                               StatusNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        final String methodName = "addExternalInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addExternalInstancesParameterValidation(userId, externalSourceGUID, instances, methodName);
+
+        return this.addInstanceBatch(userId, externalSourceGUID, externalSourceName, instances, methodName);
+    }
+
+
+    /**
+     * Build the instances of a validated batch, resolve the ends of its relationships and then store them.
+     * Relationship ends that refer to an entity in the batch are linked to the new entity.  Other ends must
+     * refer to an existing entity that is not deleted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source; null for local instances.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.
+     * @param methodName calling method
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws TypeErrorException one of the requested types is not known.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known.
+     */
+    private InstanceGraph addInstanceBatch(String         userId,
+                                           String         externalSourceGUID,
+                                           String         externalSourceName,
+                                           InstanceGraph  instances,
+                                           String         methodName) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             TypeErrorException,
+                                                                             EntityNotKnownException
+    {
+        final String typeGUIDParameterName = "instances.type.typeDefGUID";
+
+        InstanceProvenanceType    provenanceType   = InstanceProvenanceType.LOCAL_COHORT;
+        Map<String, EntityProxy>  batchProxies     = new HashMap<>();
+        List<EntityDetail>        newEntities      = new ArrayList<>();
+        List<Relationship>        newRelationships = new ArrayList<>();
+
+        if (externalSourceGUID != null)
+        {
+            provenanceType = InstanceProvenanceType.EXTERNAL_SOURCE;
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                              typeGUIDParameterName,
+                                                              entity.getType().getTypeDefGUID(),
+                                                              methodName);
+
+                EntityDetail newEntity = repositoryHelper.getNewEntity(repositoryName,
+                                                                       externalSourceGUID,
+                                                                       provenanceType,
+                                                                       userId,
+                                                                       typeDef.getName(),
+                                                                       entity.getProperties(),
+                                                                       entity.getClassifications());
+
+                if (externalSourceGUID != null)
+                {
+                    newEntity.setMetadataCollectionName(externalSourceName);
+                    newEntity.setReplicatedBy(metadataCollectionId);
+                }
+
+                if (entity.getStatus() != null)
+                {
+                    newEntity.setStatus(entity.getStatus());
+                }
+
+                if (entity.getGUID() != null)
+                {
+                    batchProxies.put(entity.getGUID(), repositoryHelper.getNewEntityProxy(repositoryName, newEntity));
+                }
+
+                newEntities.add(newEntity);
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                              typeGUIDParameterName,
+                                                              relationship.getType().getTypeDefGUID(),
+                                                              methodName);
+
+                Relationship newRelationship = repositoryHelper.getNewRelationship(repositoryName,
+                                                                                   externalSourceGUID,
+                                                                                   provenanceType,
+                                                                                   userId,
+                                                                                   typeDef.getName(),
+                                                                                   relationship.getProperties());
+
+                if (externalSourceGUID != null)
+                {
+                    newRelationship.setMetadataCollectionName(externalSourceName);
+                    newRelationship.setReplicatedBy(metadataCollectionId);
+                }
+
+                EntityProxy entityOneProxy = this.getBatchEntityProxy(batchProxies,
+                                                                      relationship.getEntityOneProxy().getGUID(),
+                                                                      methodName);
+                EntityProxy entityTwoProxy = this.getBatchEntityProxy(batchProxies,
+                                                                      relationship.getEntityTwoProxy().getGUID(),
+                                                                      methodName);
+
+                repositoryValidator.validateRelationshipEnds(repositoryName, entityOneProxy, entityTwoProxy, typeDef,
+                                                             methodName);
+
+                newRelationship.setEntityOneProxy(entityOneProxy);
+                newRelationship.setEntityTwoProxy(entityTwoProxy);
+
+                if (relationship.getStatus() != null)
+                {
+                    newRelationship.setStatus(relationship.getStatus());
+                }
+
+                newRelationships.add(newRelationship);
+            }
+        }
+
+        /*
+         * Validation complete - ok to store the new instances
+         */
+        for (EntityDetail newEntity : newEntities)
+        {
+            repositoryStore.createEntityInStore(newEntity);
+            repositoryStore.addEntityProxyToStore(repositoryHelper.getNewEntityProxy(repositoryName, newEntity));
+        }
+
+        for (Relationship newRelationship : newRelationships)
+        {
+            repositoryStore.createRelationshipInStore(newRelationship);
+        }
+
+        return new InstanceGraph(newEntities, newRelationships);
+    }
+
+
+    /**
+     * Return the proxy for one end of a relationship in a batch.  If the guid refers to an entity in the batch,
+     * its proxy is returned.  Otherwise the entity must already be stored and not deleted.
+     *
+     * @param batchProxies proxies for the new entities in the batch, keyed by the guid used in the request
+     * @param entityGUID guid of the end
+     * @param methodName calling method
+     * @return entity proxy
+     * @throws RepositoryErrorException there is a problem with the stored entity.
+     * @throws EntityNotKnownException the entity is not in the batch or the repository, or is deleted.
+     */
+    private EntityProxy getBatchEntityProxy(Map<String, EntityProxy>  batchProxies,
+                                            String                    entityGUID,
+                                            String                    methodName) throws RepositoryErrorException,
+                                                                                         EntityNotKnownException
+    {
+        EntityProxy entityProxy = batchProxies.get(entityGUID);
+
+        if (entityProxy != null)
+        {
+            return entityProxy;
+        }
+
+        entityProxy = repositoryStore.getEntityProxy(entityGUID);
+
+        if (entityProxy == null)
+        {
+            EntityDetail entityDetail = repositoryStore.getEntity(entityGUID);
+
+            if (entityDetail != null)
+            {
+                entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, entityDetail);
+            }
+        }
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entityProxy, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityProxy, methodName);
+
+        return entityProxy;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -3271,4 +4131,495 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             super.reportRelationshipNotKnown(relationshipGUID, methodName);
         }
     }
+
+
+    /* ======================================================================
+     * Private methods for selecting the instances to test in a query
+     */
+
+
+    /**
+     * Return the relationships for a specific entity in the order they are found in the repository store.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param asOfTime time of a historical query (null means the current relationships).
+     * @param methodName calling method
+     * @return list of relationships (may be empty)
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws RepositoryErrorException there is a problem with one of the stored instances.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<Relationship> getMatchingRelationshipsForEntity(String    userId,
+                                                                 String    entityGUID,
+                                                                 String    relationshipTypeGUID,
+                                                                 Date      asOfTime,
+                                                                 String    methodName) throws InvalidParameterException,
+                                                                                              RepositoryErrorException,
+                                                                                              EntityNotKnownException,
+                                                                                              UserNotAuthorizedException
+    {
+        EntitySummary  entity = this.getEntitySummary(userId, entityGUID);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+
+        List<Relationship> entityRelationships = new ArrayList<>();
+
+        for (Relationship  storedRelationship : this.getRelationshipsToSearch(relationshipTypeGUID,
+                                                                              entityGUID,
+                                                                              null,
+                                                                              null,
+                                                                              asOfTime))
+        {
+            if (storedRelationship != null)
+            {
+                if (storedRelationship.getStatus() != InstanceStatus.DELETED)
+                {
+                    repositoryValidator.validRelationship(repositoryName, storedRelationship);
+
+                    if (repositoryHelper.relatedEntity(repositoryName,
+                                                       entityGUID,
+                                                       storedRelationship))
+                    {
+                        if (relationshipTypeGUID == null)
+                        {
+                            entityRelationships.add(storedRelationship);
+                        }
+                        else if (relationshipTypeGUID.equals(storedRelationship.getType().getTypeDefGUID()))
+                        {
+                            entityRelationships.add(storedRelationship);
+                        }
+                    }
+                }
+            }
+        }
+
+        return entityRelationships;
+    }
+
+
+    /**
+     * Return the entities that match the supplied properties in the order they are found in the repository store.
+     *
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match.
+     * @param matchCriteria Enum defining how the match properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime time of a historical query (null means the current entities).
+     * @param pageTokenFilter skips the entities returned on the earlier pages (null means test all of the entities).
+     * @return list of entities (may be empty)
+     * @throws InvalidParameterException a parameter is invalid.
+     * @throws RepositoryErrorException there is a problem with one of the stored instances.
+     */
+    private List<EntityDetail> getMatchingEntitiesByProperty(String                    entityTypeGUID,
+                                                             InstanceProperties        matchProperties,
+                                                             MatchCriteria             matchCriteria,
+                                                             List<InstanceStatus>      limitResultsByStatus,
+                                                             List<String>              limitResultsByClassification,
+                                                             Date                      asOfTime,
+                                                             OMRSPageTokenFilter       pageTokenFilter) throws InvalidParameterException,
+                                                                                                                 RepositoryErrorException
+    {
+        List<EntityDetail>          foundEntities = new ArrayList<>();
+        String                      indexedPropertyName = null;
+        String                      indexedPropertyValue = null;
+        OMRSMatchPropertiesMatcher  matchPropertiesMatcher = repositoryValidator.compileMatchProperties(matchProperties);
+
+        if (matchCriteria == MatchCriteria.ALL)
+        {
+            indexedPropertyName = this.getExactMatchPropertyName(matchProperties);
+
+            if (indexedPropertyName != null)
+            {
+                indexedPropertyValue = this.getExactMatchPropertyValue(matchProperties, indexedPropertyName);
+            }
+        }
+
+        for (EntityDetail  entity : this.getEntitiesToSearch(entityTypeGUID,
+                                                             limitResultsByClassification,
+                                                             indexedPropertyName,
+                                                             indexedPropertyValue,
+                                                             asOfTime))
+        {
+            if (entity != null)
+            {
+                if ((entity.getStatus() != InstanceStatus.DELETED) &&
+                    ((pageTokenFilter == null) || (pageTokenFilter.isAfterPageToken(entity.getGUID(), entity.getProperties()))) &&
+                    (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
+                    (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity)) &&
+                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchPropertiesMatcher,
+                                                                              entity,
+                                                                              entity.getProperties(),
+                                                                              matchCriteria
+                                                                              )))
+                {
+                    foundEntities.add(entity);
+                }
+            }
+        }
+
+        return foundEntities;
+    }
+
+
+    /**
+     * Return the relationships that match the supplied properties in the order they are found in the repository store.
+     *
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship type of interest (null means any
+     *                             relationship type).
+     * @param matchProperties Optional list of relationship properties to match.
+     * @param matchCriteria Enum defining how the match properties should be matched to the relationships in the repository.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all status values.
+     * @param asOfTime time of a historical query (null means the current relationships).
+     * @param pageTokenFilter skips the relationships returned on the earlier pages (null means test all of the
+     *                        relationships).
+     * @return list of relationships (may be empty)
+     * @throws InvalidParameterException a parameter is invalid.
+     * @throws RepositoryErrorException there is a problem with one of the stored instances.
+     */
+    private List<Relationship> getMatchingRelationshipsByProperty(String                    relationshipTypeGUID,
+                                                                  InstanceProperties        matchProperties,
+                                                                  MatchCriteria             matchCriteria,
+                                                                  List<InstanceStatus>      limitResultsByStatus,
+                                                                  Date                      asOfTime,
+                                                                  OMRSPageTokenFilter       pageTokenFilter) throws InvalidParameterException,
+                                                                                                                      RepositoryErrorException
+    {
+        List<Relationship>          foundRelationships = new ArrayList<>();
+        String                      indexedPropertyName = null;
+        String                      indexedPropertyValue = null;
+        OMRSMatchPropertiesMatcher  matchPropertiesMatcher = repositoryValidator.compileMatchProperties(matchProperties);
+
+        if (matchCriteria == MatchCriteria.ALL)
+        {
+            indexedPropertyName = this.getExactMatchPropertyName(matchProperties);
+
+            if (indexedPropertyName != null)
+            {
+                indexedPropertyValue = this.getExactMatchPropertyValue(matchProperties, indexedPropertyName);
+            }
+        }
+
+        for (Relationship  relationship : this.getRelationshipsToSearch(relationshipTypeGUID,
+                                                                        null,
+                                                                        indexedPropertyName,
+                                                                        indexedPropertyValue,
+                                                                        asOfTime))
+        {
+            if (relationship != null)
+            {
+                if ((relationship.getStatus() != InstanceStatus.DELETED) &&
+                    ((pageTokenFilter == null) || (pageTokenFilter.isAfterPageToken(relationship.getGUID(), relationship.getProperties()))) &&
+                    (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship)) &&
+                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
+                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchPropertiesMatcher,
+                                                                              relationship,
+                                                                              relationship.getProperties(),
+                                                                              matchCriteria)))
+                {
+                    foundRelationships.add(relationship);
+                }
+            }
+        }
+
+        return foundRelationships;
+    }
+
+
+    /**
+     * Return the entities that have the requested classification attached in the order they are found in
+     * the repository store.
+     *
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search.
+     * @param matchCriteria Enum defining how the match properties should be matched to the classifications.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all status values.
+     * @param asOfTime time of a historical query (null means the current entities).
+     * @return list of entities (may be empty)
+     * @throws InvalidParameterException a parameter is invalid.
+     * @throws RepositoryErrorException there is a problem with one of the stored instances.
+     */
+    private List<EntityDetail> getMatchingEntitiesByClassification(String                    entityTypeGUID,
+                                                                   String                    classificationName,
+                                                                   InstanceProperties        matchClassificationProperties,
+                                                                   MatchCriteria             matchCriteria,
+                                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                                   Date                      asOfTime) throws InvalidParameterException,
+                                                                                                              RepositoryErrorException
+    {
+        List<EntityDetail>          foundEntities = new ArrayList<>();
+        OMRSMatchPropertiesMatcher  matchPropertiesMatcher = repositoryValidator.compileMatchProperties(matchClassificationProperties);
+
+        List<String>                classificationList = new ArrayList<>();
+        classificationList.add(classificationName);
+
+        for (EntityDetail  entity : this.getEntitiesToSearch(entityTypeGUID, classificationList, null, null, asOfTime))
+        {
+            if (entity != null)
+            {
+                if ((entity.getStatus() != InstanceStatus.DELETED) &&
+                    (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
+                    (repositoryValidator.verifyEntityIsClassified(classificationList, entity)))
+                {
+                    List<Classification>   entityClassifications = entity.getClassifications();
+
+                    if (entityClassifications != null)
+                    {
+                        /*
+                         * Locate the matching classification and validate its properties
+                         */
+                        for (Classification entityClassification : entityClassifications)
+                        {
+                            if (entityClassification != null)
+                            {
+                                if (classificationName.equals(entityClassification.getName()))
+                                {
+                                    if (repositoryValidator.verifyMatchingInstancePropertyValues(
+                                            matchPropertiesMatcher,
+                                            entityClassification,
+                                            entityClassification.getProperties(),
+                                            matchCriteria
+                                            ))
+
+                                    {
+                                        foundEntities.add(entity);
+                                    }
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return foundEntities;
+    }
+
+
+    /**
+     * Return the entities that need to be tested against the rest of a query's search criteria.  Current entities are
+     * selected using the repository store's indexes.  Historical queries (asOfTime not null) test every entity in
+     * the time warped store.
+     *
+     * @param entityTypeGUID unique identifier of the requested type of entity (null means any type).
+     * @param classificationNames names of the classifications that must all be attached (null means no restriction).
+     * @param propertyName name of the property that must have the property value (null means any property).
+     * @param propertyValue exact string value that must be stored in the entity's properties (null means
+     *                      no restriction).
+     * @param asOfTime time of a historical query (null means the current entities).
+     * @return entities to test
+     */
+    private Collection<EntityDetail> getEntitiesToSearch(String        entityTypeGUID,
+                                                         List<String>  classificationNames,
+                                                         String        propertyName,
+                                                         String        propertyValue,
+                                                         Date          asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        return repositoryStore.getCandidateEntities(this.getStoredEntityTypeGUIDs(entityTypeGUID),
+                                                    classificationNames,
+                                                    propertyName,
+                                                    propertyValue);
+    }
+
+
+    /**
+     * Return the relationships that need to be tested against the rest of a query's search criteria.  Current
+     * relationships are selected using the repository store's indexes.  Historical queries (asOfTime not null) test
+     * every relationship in the time warped store.
+     *
+     * @param relationshipTypeGUID unique identifier of the requested type of relationship (null means any type).
+     * @param entityGUID unique identifier of an entity at one end of the relationship (null means any entity).
+     * @param propertyName name of the property that must have the property value (null means any property).
+     * @param propertyValue exact string value that must be stored in the relationship's properties (null means
+     *                      no restriction).
+     * @param asOfTime time of a historical query (null means the current relationships).
+     * @return relationships to test
+     */
+    private Collection<Relationship> getRelationshipsToSearch(String   relationshipTypeGUID,
+                                                              String   entityGUID,
+                                                              String   propertyName,
+                                                              String   propertyValue,
+                                                              Date     asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        return repositoryStore.getCandidateRelationships(this.getStoredRelationshipTypeGUIDs(relationshipTypeGUID),
+                                                         entityGUID,
+                                                         propertyName,
+                                                         propertyValue);
+    }
+
+
+    /**
+     * Return the stored entity types that are the requested type or one of its subtypes.
+     *
+     * @param entityTypeGUID unique identifier of the requested type of entity (null means any type).
+     * @return list of type GUIDs (null means any type)
+     */
+    private List<String> getStoredEntityTypeGUIDs(String   entityTypeGUID)
+    {
+        List<String>  entityTypeGUIDs = null;
+
+        if (entityTypeGUID != null)
+        {
+            entityTypeGUIDs = new ArrayList<>();
+
+            for (EntityDetail representative : repositoryStore.getEntityTypeRepresentatives())
+            {
+                if (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, representative))
+                {
+                    entityTypeGUIDs.add(representative.getType().getTypeDefGUID());
+                }
+            }
+        }
+
+        return entityTypeGUIDs;
+    }
+
+
+    /**
+     * Return the stored relationship types that are the requested type or one of its subtypes.
+     *
+     * @param relationshipTypeGUID unique identifier of the requested type of relationship (null means any type).
+     * @return list of type GUIDs (null means any type)
+     */
+    private List<String> getStoredRelationshipTypeGUIDs(String   relationshipTypeGUID)
+    {
+        List<String>  relationshipTypeGUIDs = null;
+
+        if (relationshipTypeGUID != null)
+        {
+            relationshipTypeGUIDs = new ArrayList<>();
+
+            for (Relationship representative : repositoryStore.getRelationshipTypeRepresentatives())
+            {
+                if (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, representative))
+                {
+                    relationshipTypeGUIDs.add(representative.getType().getTypeDefGUID());
+                }
+            }
+        }
+
+        return relationshipTypeGUIDs;
+    }
+
+
+    /**
+     * Compile the search criteria so it can be tested against each of the candidate instances.
+     *
+     * @param searchCriteria regular expression
+     * @param methodName calling method
+     * @return compiled search criteria
+     * @throws InvalidParameterException the search criteria is not a valid regular expression
+     */
+    private OMRSSearchCriteriaMatcher getSearchCriteriaMatcher(String   searchCriteria,
+                                                               String   methodName) throws InvalidParameterException
+    {
+        try
+        {
+            return OMRSSearchCriteriaMatcher.compile(searchCriteria);
+        }
+        catch (PatternSyntaxException error)
+        {
+            OMRSErrorCode errorCode = OMRSErrorCode.INVALID_SEARCH_CRITERIA_REGEX;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(searchCriteria,
+                                                                            methodName,
+                                                                            repositoryName,
+                                                                            error.getMessage());
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Return the literal value of a search string if it is an exact match regular expression.
+     *
+     * @param searchCriteria regular expression to test.
+     * @return literal string or null if the search criteria is not an exact match
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    private String getExactMatchSearchValue(String   searchCriteria)
+    {
+        if ((searchCriteria != null) && (repositoryHelper.isExactMatchRegex(searchCriteria)))
+        {
+            return repositoryHelper.getUnqualifiedLiteralString(searchCriteria);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the name of the first match property that has a string value that is an exact match regular expression.
+     * Properties that may be matched against the instance header are skipped because the index only holds the
+     * instance properties.
+     *
+     * @param matchProperties properties to match
+     * @return property name or null if none of the properties is an exact match
+     */
+    private String getExactMatchPropertyName(InstanceProperties   matchProperties)
+    {
+        if (matchProperties != null)
+        {
+            Iterator<String>  propertyNames = matchProperties.getPropertyNames();
+
+            while (propertyNames.hasNext())
+            {
+                String  propertyName = propertyNames.next();
+
+                if ((! headerPropertyNames.contains(propertyName)) &&
+                    (this.getExactMatchPropertyValue(matchProperties, propertyName) != null))
+                {
+                    return propertyName;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the literal value of a string match property if it is an exact match regular expression.
+     *
+     * @param matchProperties properties to match
+     * @param propertyName name of the property to test
+     * @return literal string or null if the property is not an exact match string
+     */
+    private String getExactMatchPropertyValue(InstanceProperties   matchProperties,
+                                              String               propertyName)
+    {
+        InstancePropertyValue  propertyValue = matchProperties.getPropertyValue(propertyName);
+
+        if ((propertyValue instanceof PrimitivePropertyValue) &&
+            (((PrimitivePropertyValue)propertyValue).getPrimitiveValue() instanceof String))
+        {
+            return this.getExactMatchSearchValue((String)((PrimitivePropertyValue)propertyValue).getPrimitiveValue());
+        }
+
+        return null;
+    }
 }
@@ -3,43 +3,1052 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ *
+ * Alongside the stores of current instances it maintains secondary indexes that map a key to the GUIDs of the
+ * instances that have that key.  These are the type GUID of each entity and relationship, the names of the
+ * classifications attached to each entity, the GUIDs of the entities at each end of a relationship and,
+ * optionally, the string and enum values stored in the properties of each instance.  The indexes only
+ * cover the current instances - historical (asOfTime) queries use the time warped stores.
+ *
+ * The stores and indexes are concurrent maps so that readers never block.  Updates to an instance are
+ * applied inside the compute method of its store, which serializes the changes made to a single GUID
+ * (including the maintenance of its index entries and history) while updates to different GUIDs proceed
+ * in parallel.  Readers may briefly see an index entry that is ahead of, or behind, the store.  This is
+ * safe because the index queries only return candidates that the caller validates.
+ *
+ * The previous versions of each instance are kept in a version chain for its GUID, ordered by the time that
+ * each version became current (its update time, or create time if it has not been updated).  A historical
+ * (asOfTime) lookup of an instance is a floor lookup in its chain.  Versions that were superseded before the
+ * optional retention period are pruned from the chains as the store is updated.
  */
 class InMemoryOMRSMetadataStore
 {
     private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private final Map<String, EntityDetail>        entityStore              = new ConcurrentHashMap<>();
+    private final Map<String, EntityProxy>         entityProxyStore         = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<Long, EntityDetail>> entityHistoryStore = new ConcurrentHashMap<>();
+    private final Map<String, Relationship>        relationshipStore        = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<Long, Relationship>> relationshipHistoryStore = new ConcurrentHashMap<>();
+
+    /*
+     * Versions that were superseded longer ago than the retention period (in milliseconds) are removed
+     * from the history.  Zero means keep the history forever.
+     */
+    private volatile long                          historyRetentionPeriod   = 0;
+    private volatile long                          lastHistoryPruneTime     = 0;
+
+    /*
+     * Key used in the version chains for versions that have no create or update time.
+     */
+    private static final long                      UNKNOWN_VERSION_TIME     = Long.MIN_VALUE;
+
+    /*
+     * Secondary indexes over the current instances.
+     */
+    private final Map<String, Set<String>>         entityTypeIndex             = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>         classificationIndex         = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<String>>      entityPropertyValueIndex    = new ConcurrentHashMap<>();
+    private volatile Set<String>                   entityCompositePropertyNames = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<String>>         relationshipTypeIndex       = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>         relationshipsForEntityIndex = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<String>>      relationshipPropertyValueIndex    = new ConcurrentHashMap<>();
+    private volatile Set<String>                   relationshipCompositePropertyNames = ConcurrentHashMap.newKeySet();
+    private volatile boolean                       propertyValueIndexEnabled   = false;
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryOMRSMetadataStore()
+    {
+    }
+
+
+    /**
+     * Set up the name of the repository for logging.
+     *
+     * @param repositoryName - String name
+     */
+    protected void  setRepositoryName(String    repositoryName)
+    {
+        this.repositoryName = repositoryName;
+    }
+
+
+    /**
+     * Set up how long the previous versions of instances are kept after they are superseded.
+     *
+     * @param historyRetentionPeriod - time in milliseconds - zero means keep forever
+     */
+    void  setHistoryRetentionPeriod(long   historyRetentionPeriod)
+    {
+        this.historyRetentionPeriod = historyRetentionPeriod;
+    }
+
+
+    /**
+     * Turn on the index of string and enum property values.  This index speeds up exact match searches at the
+     * cost of extra memory for each instance.  It is built from the instances already in the store.
+     * It is set up as the repository connector starts, before the store is shared with other threads.
+     *
+     * @param propertyValueIndexEnabled - boolean flag
+     */
+    void  setPropertyValueIndexEnabled(boolean   propertyValueIndexEnabled)
+    {
+        if (propertyValueIndexEnabled != this.propertyValueIndexEnabled)
+        {
+            this.propertyValueIndexEnabled = propertyValueIndexEnabled;
+
+            entityPropertyValueIndex = new ConcurrentHashMap<>();
+            entityCompositePropertyNames = ConcurrentHashMap.newKeySet();
+            relationshipPropertyValueIndex = new ConcurrentHashMap<>();
+            relationshipCompositePropertyNames = ConcurrentHashMap.newKeySet();
+
+            if (propertyValueIndexEnabled)
+            {
+                for (EntityDetail entity : entityStore.values())
+                {
+                    this.indexPropertyValues(entityPropertyValueIndex,
+                                             entityCompositePropertyNames,
+                                             entity.getGUID(),
+                                             entity.getProperties());
+                }
+
+                for (Relationship relationship : relationshipStore.values())
+                {
+                    this.indexPropertyValues(relationshipPropertyValueIndex,
+                                             relationshipCompositePropertyNames,
+                                             relationship.getGUID(),
+                                             relationship.getProperties());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return one entity of each of the entity types stored in the repository.  These can be tested
+     * to determine which of the stored types are subtypes of a requested type.
+     *
+     * @return list of entities, one per type
+     */
+    List<EntityDetail>  getEntityTypeRepresentatives()
+    {
+        return this.getTypeRepresentatives(entityTypeIndex, entityStore);
+    }
+
+
+    /**
+     * Return one relationship of each of the relationship types stored in the repository.  These can be tested
+     * to determine which of the stored types are subtypes of a requested type.
+     *
+     * @return list of relationships, one per type
+     */
+    List<Relationship>  getRelationshipTypeRepresentatives()
+    {
+        return this.getTypeRepresentatives(relationshipTypeIndex, relationshipStore);
+    }
+
+
+    /**
+     * Return the current entities that may satisfy a query.  The result is selected using the indexes so it
+     * contains every entity that matches the supplied values, but it may also contain entities that do not.
+     * The caller must therefore still validate each returned entity against the full search criteria.
+     *
+     * @param entityTypeGUIDs - the exact types that the entities must have - null means any type
+     * @param classificationNames - names of the classifications that must all be attached - null means no restriction
+     * @param propertyName - name of the property that must have the property value - null means any property
+     * @param propertyValue - string or enum value that must be stored in the entity's properties - null means
+     *                      no restriction
+     * @return list of candidate entities
+     */
+    List<EntityDetail>  getCandidateEntities(List<String>   entityTypeGUIDs,
+                                                          List<String>   classificationNames,
+                                                          String         propertyName,
+                                                          String         propertyValue)
+    {
+        List<Set<String>>  keySets = new ArrayList<>();
+
+        if (classificationNames != null)
+        {
+            for (String classificationName : classificationNames)
+            {
+                keySets.add(this.getIndexEntry(classificationIndex, classificationName));
+            }
+        }
+
+        if (this.propertyValueIndexUsable(entityCompositePropertyNames, propertyName, propertyValue))
+        {
+            keySets.add(this.getIndexEntry(entityPropertyValueIndex, propertyValue));
+        }
+
+        return this.selectCandidates(entityStore, entityTypeIndex, entityTypeGUIDs, keySets);
+    }
+
+
+    /**
+     * Return the current relationships that may satisfy a query.  The result is selected using the indexes so it
+     * contains every relationship that matches the supplied values, but it may also contain relationships that
+     * do not.  The caller must therefore still validate each returned relationship against the full search criteria.
+     *
+     * @param relationshipTypeGUIDs - the exact types that the relationships must have - null means any type
+     * @param entityGUID - unique identifier of an entity that must be at one end of the relationship - null means
+     *                   any entity
+     * @param propertyName - name of the property that must have the property value - null means any property
+     * @param propertyValue - string or enum value that must be stored in the relationship's properties - null means
+     *                      no restriction
+     * @return list of candidate relationships
+     */
+    List<Relationship>  getCandidateRelationships(List<String>   relationshipTypeGUIDs,
+                                                               String         entityGUID,
+                                                               String         propertyName,
+                                                               String         propertyValue)
+    {
+        List<Set<String>>  keySets = new ArrayList<>();
+
+        if (entityGUID != null)
+        {
+            keySets.add(this.getIndexEntry(relationshipsForEntityIndex, entityGUID));
+        }
+
+        if (this.propertyValueIndexUsable(relationshipCompositePropertyNames, propertyName, propertyValue))
+        {
+            keySets.add(this.getIndexEntry(relationshipPropertyValueIndex, propertyValue));
+        }
+
+        return this.selectCandidates(relationshipStore, relationshipTypeIndex, relationshipTypeGUIDs, keySets);
+    }
+
+
+    /**
+     * Return an iterator over the current entities of the requested types that pass a filter.  The iterator
+     * steps through the store (or the type index) in place rather than copying it, so a scan of the whole
+     * store uses a fixed amount of memory.  Like the other readers it may or may not see the updates made while
+     * it is in use.
+     *
+     * @param entityTypeGUIDs - the exact types that the entities must have - null means any type
+     * @param filter - test that each returned entity must pass
+     * @return iterator over the entities
+     */
+    Iterator<EntityDetail>  scanEntities(List<String>             entityTypeGUIDs,
+                                         Predicate<EntityDetail>  filter)
+    {
+        return new StoreScanIterator<>(entityStore, entityTypeIndex, entityTypeGUIDs, filter);
+    }
+
+
+    /**
+     * Return an iterator over the current relationships of the requested types that pass a filter.  The iterator
+     * steps through the store (or the type index) in place rather than copying it, so a scan of the whole
+     * store uses a fixed amount of memory.  Like the other readers it may or may not see the updates made while
+     * it is in use.
+     *
+     * @param relationshipTypeGUIDs - the exact types that the relationships must have - null means any type
+     * @param filter - test that each returned relationship must pass
+     * @return iterator over the relationships
+     */
+    Iterator<Relationship>  scanRelationships(List<String>             relationshipTypeGUIDs,
+                                              Predicate<Relationship>  filter)
+    {
+        return new StoreScanIterator<>(relationshipStore, relationshipTypeIndex, relationshipTypeGUIDs, filter);
+    }
+
+
+    /**
+     * Return whether the property value index can be used to select candidates.  If the search is restricted
+     * to a named property it is only possible if that property never holds a struct, array or map value,
+     * since these are matched against their string form rather than their individual values.
+     *
+     * @param compositePropertyNames - names of properties that have held struct, array or map values
+     * @param propertyName - name of the property being searched - null means any property
+     * @param propertyValue - value searched for
+     * @return boolean flag
+     */
+    private boolean propertyValueIndexUsable(Set<String>   compositePropertyNames,
+                                             String        propertyName,
+                                             String        propertyValue)
+    {
+        if ((! propertyValueIndexEnabled) || (propertyValue == null))
+        {
+            return false;
+        }
+
+        return (propertyName == null) || (! compositePropertyNames.contains(propertyName));
+    }
+
+
+    /**
+     * Return one instance for each of the keys of a type index.
+     *
+     * @param typeIndex - index of instance GUIDs by type GUID
+     * @param instanceStore - store of current instances
+     * @param <T> - type of instance
+     * @return list of instances, one per type
+     */
+    private <T> List<T>  getTypeRepresentatives(Map<String, Set<String>>  typeIndex,
+                                                Map<String, T>            instanceStore)
+    {
+        List<T>  representatives = new ArrayList<>();
+
+        for (Set<String> instanceGUIDs : typeIndex.values())
+        {
+            Iterator<String> iterator = instanceGUIDs.iterator();
+
+            if (iterator.hasNext())
+            {
+                T instance = instanceStore.get(iterator.next());
+
+                if (instance != null)
+                {
+                    representatives.add(instance);
+                }
+            }
+        }
+
+        return representatives;
+    }
+
+
+    /**
+     * Return the set of GUIDs stored under a key in an index.
+     *
+     * @param index - index to query
+     * @param key - key value
+     * @return set of GUIDs - empty if the key is not known
+     */
+    private Set<String> getIndexEntry(Map<String, Set<String>>  index,
+                                      String                    key)
+    {
+        Set<String> instanceGUIDs = index.get(key);
+
+        if (instanceGUIDs == null)
+        {
+            return Collections.emptySet();
+        }
+
+        return instanceGUIDs;
+    }
+
+
+    /**
+     * Select the instances that are one of the requested types and are listed in each of the supplied sets of GUIDs.
+     * The smallest of these sets drives the selection and the others are used to filter it.
+     *
+     * @param instanceStore - store of current instances
+     * @param typeIndex - index of instance GUIDs by type GUID
+     * @param typeGUIDs - list of permitted types - null means any type
+     * @param keySets - sets of GUIDs that the selected instances must appear in
+     * @param <T> - type of instance
+     * @return list of instances
+     */
+    private <T extends InstanceHeader> List<T> selectCandidates(Map<String, T>            instanceStore,
+                                                                Map<String, Set<String>>  typeIndex,
+                                                                List<String>              typeGUIDs,
+                                                                List<Set<String>>         keySets)
+    {
+        Collection<String> driver = null;
+        Set<String>        permittedTypes = null;
+
+        if (typeGUIDs != null)
+        {
+            List<String> typeMatches = new ArrayList<>();
+
+            for (String typeGUID : typeGUIDs)
+            {
+                typeMatches.addAll(this.getIndexEntry(typeIndex, typeGUID));
+            }
+
+            driver = typeMatches;
+            permittedTypes = new HashSet<>(typeGUIDs);
+        }
+
+        Set<String> driverKeySet = null;
+
+        for (Set<String> keySet : keySets)
+        {
+            if ((driver == null) || (keySet.size() < driver.size()))
+            {
+                driver = keySet;
+                driverKeySet = keySet;
+            }
+        }
+
+        if (driver == null)
+        {
+            return new ArrayList<>(instanceStore.values());
+        }
+
+        List<T>  candidates = new ArrayList<>();
+
+        for (String instanceGUID : driver)
+        {
+            T instance = instanceStore.get(instanceGUID);
+
+            if (instance == null)
+            {
+                continue;
+            }
+
+            if ((permittedTypes != null) &&
+                ((instance.getType() == null) || (! permittedTypes.contains(instance.getType().getTypeDefGUID()))))
+            {
+                continue;
+            }
+
+            boolean inAllKeySets = true;
+
+            for (Set<String> keySet : keySets)
+            {
+                if ((keySet != driverKeySet) && (! keySet.contains(instanceGUID)))
+                {
+                    inAllKeySets = false;
+                    break;
+                }
+            }
+
+            if (inAllKeySets)
+            {
+                candidates.add(instance);
+            }
+        }
+
+        return candidates;
+    }
+
+
+    /**
+     * Add an instance GUID to an index.
+     *
+     * @param index - index to update
+     * @param key - key value
+     * @param instanceGUID - unique identifier of the instance
+     */
+    private void addToIndex(Map<String, Set<String>>  index,
+                            String                    key,
+                            String                    instanceGUID)
+    {
+        if ((key != null) && (instanceGUID != null))
+        {
+            index.compute(key, (indexKey, instanceGUIDs) ->
+            {
+                if (instanceGUIDs == null)
+                {
+                    instanceGUIDs = ConcurrentHashMap.newKeySet();
+                }
+
+                instanceGUIDs.add(instanceGUID);
+
+                return instanceGUIDs;
+            });
+        }
+    }
+
+
+    /**
+     * Remove an instance GUID from an index.  The key is removed once it has no instances.
+     *
+     * @param index - index to update
+     * @param key - key value
+     * @param instanceGUID - unique identifier of the instance
+     */
+    private void removeFromIndex(Map<String, Set<String>>  index,
+                                 String                    key,
+                                 String                    instanceGUID)
+    {
+        if ((key != null) && (instanceGUID != null))
+        {
+            index.computeIfPresent(key, (indexKey, instanceGUIDs) ->
+            {
+                instanceGUIDs.remove(instanceGUID);
+
+                return instanceGUIDs.isEmpty() ? null : instanceGUIDs;
+            });
+        }
+    }
+
+
+    /**
+     * Extract the string and enum values stored in a set of properties.  Struct, array and map values are
+     * searched recursively.
+     *
+     * @param properties - properties to search
+     * @param compositePropertyNames - set to add the names of struct, array and map properties to - may be null
+     * @param propertyValues - set to add the values to
+     */
+    private void extractPropertyValues(InstanceProperties  properties,
+                                       Set<String>         compositePropertyNames,
+                                       Set<String>         propertyValues)
+    {
+        if (properties == null)
+        {
+            return;
+        }
+
+        Iterator<String> propertyNames = properties.getPropertyNames();
+
+        while (propertyNames.hasNext())
+        {
+            String                propertyName  = propertyNames.next();
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if ((propertyValue == null) || (propertyValue.getInstancePropertyCategory() == null))
+            {
+                continue;
+            }
+
+            switch (propertyValue.getInstancePropertyCategory())
+            {
+                case PRIMITIVE:
+                    Object primitiveValue = ((PrimitivePropertyValue)propertyValue).getPrimitiveValue();
+
+                    if (primitiveValue instanceof String)
+                    {
+                        propertyValues.add((String)primitiveValue);
+                    }
+                    break;
+
+                case ENUM:
+                    String symbolicName = ((EnumPropertyValue)propertyValue).getSymbolicName();
+
+                    if (symbolicName != null)
+                    {
+                        propertyValues.add(symbolicName);
+                    }
+                    break;
+
+                case STRUCT:
+                    this.addCompositePropertyName(compositePropertyNames, propertyName);
+                    this.extractPropertyValues(((StructPropertyValue)propertyValue).getAttributes(), null, propertyValues);
+                    break;
+
+                case ARRAY:
+                    this.addCompositePropertyName(compositePropertyNames, propertyName);
+                    this.extractPropertyValues(((ArrayPropertyValue)propertyValue).getArrayValues(), null, propertyValues);
+                    break;
+
+                case MAP:
+                    this.addCompositePropertyName(compositePropertyNames, propertyName);
+                    this.extractPropertyValues(((MapPropertyValue)propertyValue).getMapValues(), null, propertyValues);
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Record the name of a property that holds a struct, array or map value.
+     *
+     * @param compositePropertyNames - set of property names - may be null
+     * @param propertyName - name of the property
+     */
+    private void addCompositePropertyName(Set<String>   compositePropertyNames,
+                                          String        propertyName)
+    {
+        if (compositePropertyNames != null)
+        {
+            compositePropertyNames.add(propertyName);
+        }
+    }
+
+
+    /**
+     * Add the property values of an instance to a property value index.
+     *
+     * @param index - property value index
+     * @param compositePropertyNames - names of properties that have held struct, array or map values
+     * @param instanceGUID - unique identifier of the instance
+     * @param properties - properties of the instance
+     */
+    private void indexPropertyValues(Map<String, Set<String>>  index,
+                                     Set<String>               compositePropertyNames,
+                                     String                    instanceGUID,
+                                     InstanceProperties        properties)
+    {
+        Set<String> propertyValues = new HashSet<>();
+
+        this.extractPropertyValues(properties, compositePropertyNames, propertyValues);
+
+        for (String propertyValue : propertyValues)
+        {
+            this.addToIndex(index, propertyValue, instanceGUID);
+        }
+    }
+
+
+    /**
+     * Remove the property values of an instance from a property value index.
+     *
+     * @param index - property value index
+     * @param instanceGUID - unique identifier of the instance
+     * @param properties - properties of the instance
+     */
+    private void unindexPropertyValues(Map<String, Set<String>>  index,
+                                       String                    instanceGUID,
+                                       InstanceProperties        properties)
+    {
+        Set<String> propertyValues = new HashSet<>();
+
+        this.extractPropertyValues(properties, null, propertyValues);
+
+        for (String propertyValue : propertyValues)
+        {
+            this.removeFromIndex(index, propertyValue, instanceGUID);
+        }
+    }
+
+
+    /**
+     * Add an entity to the secondary indexes.
+     *
+     * @param entity - entity to index
+     */
+    private void indexEntity(EntityDetail   entity)
+    {
+        String entityGUID = entity.getGUID();
+
+        if (entity.getType() != null)
+        {
+            this.addToIndex(entityTypeIndex, entity.getType().getTypeDefGUID(), entityGUID);
+        }
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if (classification != null)
+                {
+                    this.addToIndex(classificationIndex, classification.getName(), entityGUID);
+                }
+            }
+        }
+
+        if (propertyValueIndexEnabled)
+        {
+            this.indexPropertyValues(entityPropertyValueIndex, entityCompositePropertyNames, entityGUID, entity.getProperties());
+        }
+    }
+
+
+    /**
+     * Remove an entity from the secondary indexes.
+     *
+     * @param entity - entity to remove
+     */
+    private void unindexEntity(EntityDetail   entity)
+    {
+        String entityGUID = entity.getGUID();
+
+        if (entity.getType() != null)
+        {
+            this.removeFromIndex(entityTypeIndex, entity.getType().getTypeDefGUID(), entityGUID);
+        }
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if (classification != null)
+                {
+                    this.removeFromIndex(classificationIndex, classification.getName(), entityGUID);
+                }
+            }
+        }
+
+        if (propertyValueIndexEnabled)
+        {
+            this.unindexPropertyValues(entityPropertyValueIndex, entityGUID, entity.getProperties());
+        }
+    }
+
+
+    /**
+     * Add a relationship to the secondary indexes.
+     *
+     * @param relationship - relationship to index
+     */
+    private void indexRelationship(Relationship   relationship)
+    {
+        String relationshipGUID = relationship.getGUID();
+
+        if (relationship.getType() != null)
+        {
+            this.addToIndex(relationshipTypeIndex, relationship.getType().getTypeDefGUID(), relationshipGUID);
+        }
+
+        if (relationship.getEntityOneProxy() != null)
+        {
+            this.addToIndex(relationshipsForEntityIndex, relationship.getEntityOneProxy().getGUID(), relationshipGUID);
+        }
+
+        if (relationship.getEntityTwoProxy() != null)
+        {
+            this.addToIndex(relationshipsForEntityIndex, relationship.getEntityTwoProxy().getGUID(), relationshipGUID);
+        }
+
+        if (propertyValueIndexEnabled)
+        {
+            this.indexPropertyValues(relationshipPropertyValueIndex,
+                                     relationshipCompositePropertyNames,
+                                     relationshipGUID,
+                                     relationship.getProperties());
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the secondary indexes.
+     *
+     * @param relationship - relationship to remove
+     */
+    private void unindexRelationship(Relationship   relationship)
+    {
+        String relationshipGUID = relationship.getGUID();
+
+        if (relationship.getType() != null)
+        {
+            this.removeFromIndex(relationshipTypeIndex, relationship.getType().getTypeDefGUID(), relationshipGUID);
+        }
+
+        if (relationship.getEntityOneProxy() != null)
+        {
+            this.removeFromIndex(relationshipsForEntityIndex, relationship.getEntityOneProxy().getGUID(), relationshipGUID);
+        }
+
+        if (relationship.getEntityTwoProxy() != null)
+        {
+            this.removeFromIndex(relationshipsForEntityIndex, relationship.getEntityTwoProxy().getGUID(), relationshipGUID);
+        }
+
+        if (propertyValueIndexEnabled)
+        {
+            this.unindexPropertyValues(relationshipPropertyValueIndex, relationshipGUID, relationship.getProperties());
+        }
+    }
+
+
+    /**
+     * Store the current version of an entity and update the indexes.  The version it replaces is optionally
+     * added to the history.
+     *
+     * @param entity - entity to store
+     * @param saveHistory - should the replaced version be added to the history
+     */
+    private void putEntity(EntityDetail   entity,
+                           boolean        saveHistory)
+    {
+        entityStore.compute(entity.getGUID(), (guid, oldEntity) ->
+        {
+            if (oldEntity != null)
+            {
+                this.unindexEntity(oldEntity);
+
+                if (saveHistory)
+                {
+                    this.addToHistory(entityHistoryStore, oldEntity);
+                }
+            }
+
+            this.indexEntity(entity);
+
+            return entity;
+        });
+
+        this.pruneHistoryIfDue();
+    }
+
+
+    /**
+     * Remove the current version of an entity, update the indexes and add the removed version to the history.
+     *
+     * @param guid - unique identifier of the entity
+     * @return the removed entity (or null)
+     */
+    private EntityDetail deleteEntity(String   guid)
+    {
+        AtomicReference<EntityDetail> removedEntity = new AtomicReference<>();
+
+        entityStore.computeIfPresent(guid, (entityGUID, oldEntity) ->
+        {
+            this.unindexEntity(oldEntity);
+            this.addToHistory(entityHistoryStore, oldEntity);
+            removedEntity.set(oldEntity);
+
+            return null;
+        });
+
+        this.pruneHistoryIfDue();
+
+        return removedEntity.get();
+    }
+
+
+    /**
+     * Store the current version of a relationship and update the indexes.  The version it replaces is optionally
+     * added to the history.
+     *
+     * @param relationship - relationship to store
+     * @param saveHistory - should the replaced version be added to the history
+     */
+    private void putRelationship(Relationship   relationship,
+                                 boolean        saveHistory)
+    {
+        relationshipStore.compute(relationship.getGUID(), (guid, oldRelationship) ->
+        {
+            if (oldRelationship != null)
+            {
+                this.unindexRelationship(oldRelationship);
+
+                if (saveHistory)
+                {
+                    this.addToHistory(relationshipHistoryStore, oldRelationship);
+                }
+            }
+
+            this.indexRelationship(relationship);
+
+            return relationship;
+        });
+
+        this.pruneHistoryIfDue();
+    }
+
+
+    /**
+     * Remove the current version of a relationship, update the indexes and add the removed version to the history.
+     *
+     * @param guid - unique identifier of the relationship
+     * @return the removed relationship (or null)
+     */
+    private Relationship deleteRelationship(String   guid)
+    {
+        AtomicReference<Relationship> removedRelationship = new AtomicReference<>();
+
+        relationshipStore.computeIfPresent(guid, (relationshipGUID, oldRelationship) ->
+        {
+            this.unindexRelationship(oldRelationship);
+            this.addToHistory(relationshipHistoryStore, oldRelationship);
+            removedRelationship.set(oldRelationship);
+
+            return null;
+        });
+
+        this.pruneHistoryIfDue();
+
+        return removedRelationship.get();
+    }
+
+
+    /**
+     * Return the time that a version of an instance became current.
+     *
+     * @param instance - version of an instance
+     * @return update time, or create time if not updated - null if neither is set
+     */
+    private Date getVersionTime(InstanceAuditHeader   instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime();
+        }
+
+        return instance.getCreateTime();
+    }
+
+
+    /**
+     * Add a superseded version of an instance to its version chain in the history.  This is called from within
+     * the compute method of the instance's store so changes to the chain for a GUID are serialized.  The chain's
+     * versions that are older than the retention period are removed at the same time.
+     *
+     * @param historyStore - history to update
+     * @param instance - superseded version
+     * @param <T> - type of instance
+     */
+    private <T extends InstanceHeader> void addToHistory(Map<String, NavigableMap<Long, T>>  historyStore,
+                                                         T                                   instance)
+    {
+        Date versionTime = this.getVersionTime(instance);
+        long versionKey  = (versionTime == null) ? UNKNOWN_VERSION_TIME : versionTime.getTime();
+
+        historyStore.compute(instance.getGUID(), (guid, versionChain) ->
+        {
+            if (versionChain == null)
+            {
+                versionChain = new ConcurrentSkipListMap<>();
+            }
+
+            versionChain.put(versionKey, instance);
+
+            if (historyRetentionPeriod > 0)
+            {
+                this.pruneVersionChain(versionChain, System.currentTimeMillis() - historyRetentionPeriod);
+            }
+
+            return versionChain;
+        });
+    }
+
+
+    /**
+     * Remove the versions from a version chain that were superseded before the cutoff time.  The version that
+     * was current at the cutoff time is kept so that queries for later times still see it.
+     *
+     * @param versionChain - chain of versions for an instance
+     * @param cutoffTime - time in milliseconds
+     * @param <T> - type of instance
+     */
+    private <T> void pruneVersionChain(NavigableMap<Long, T>   versionChain,
+                                       long                    cutoffTime)
+    {
+        Long versionAtCutoff = versionChain.floorKey(cutoffTime);
+
+        if (versionAtCutoff != null)
+        {
+            versionChain.headMap(versionAtCutoff, false).clear();
+        }
+    }
 
 
     /**
-     * Default constructor
+     * Prune the whole history once per retention period.  Version chains for instances that are no longer in the
+     * store are removed once their last version is older than the retention period.
      */
-    InMemoryOMRSMetadataStore()
+    private void pruneHistoryIfDue()
     {
+        long now = System.currentTimeMillis();
+
+        if ((historyRetentionPeriod > 0) && (now - lastHistoryPruneTime > historyRetentionPeriod))
+        {
+            lastHistoryPruneTime = now;
+
+            this.pruneHistory(entityHistoryStore, entityStore, now - historyRetentionPeriod);
+            this.pruneHistory(relationshipHistoryStore, relationshipStore, now - historyRetentionPeriod);
+        }
     }
 
 
     /**
-     * Set up the name of the repository for logging.
+     * Remove the versions in the history that were superseded before the cutoff time.
      *
-     * @param repositoryName - String name
+     * @param historyStore - history to prune
+     * @param instanceStore - store of current instances
+     * @param cutoffTime - time in milliseconds
+     * @param <T> - type of instance
      */
-    protected void  setRepositoryName(String    repositoryName)
+    private <T> void pruneHistory(Map<String, NavigableMap<Long, T>>  historyStore,
+                                  Map<String, T>                      instanceStore,
+                                  long                                cutoffTime)
     {
-        this.repositoryName = repositoryName;
+        for (String guid : historyStore.keySet())
+        {
+            historyStore.computeIfPresent(guid, (instanceGUID, versionChain) ->
+            {
+                this.pruneVersionChain(versionChain, cutoffTime);
+
+                if ((! instanceStore.containsKey(instanceGUID)) &&
+                    ((versionChain.isEmpty()) || (versionChain.lastKey() < cutoffTime)))
+                {
+                    return null;
+                }
+
+                return versionChain;
+            });
+        }
+    }
+
+
+    /**
+     * Return the version of an instance that was current at the requested time.
+     *
+     * @param currentVersion - current version of the instance (or null if removed)
+     * @param versionChain - previous versions of the instance (or null if none)
+     * @param asOfTime - time of interest
+     * @param <T> - type of instance
+     * @return version of the instance or null if it did not exist at the time
+     */
+    private <T extends InstanceAuditHeader> T getVersionAsOf(T                       currentVersion,
+                                                             NavigableMap<Long, T>   versionChain,
+                                                             Date                    asOfTime)
+    {
+        if (currentVersion != null)
+        {
+            Date versionTime = this.getVersionTime(currentVersion);
+
+            if ((versionTime != null) && (! versionTime.after(asOfTime)))
+            {
+                return currentVersion;
+            }
+        }
+
+        if (versionChain != null)
+        {
+            Map.Entry<Long, T> previousVersion = versionChain.floorEntry(asOfTime.getTime());
+
+            if ((previousVersion != null) && (previousVersion.getKey() != UNKNOWN_VERSION_TIME))
+            {
+                return previousVersion.getValue();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Build a map of the instances as they were at the requested time.
+     *
+     * @param instanceStore - store of current instances
+     * @param historyStore - previous versions of the instances
+     * @param asOfTime - time of interest
+     * @param <T> - type of instance
+     * @return map of instance GUID to version of the instance
+     */
+    private <T extends InstanceAuditHeader> Map<String, T> timeWarpStore(Map<String, T>                      instanceStore,
+                                                                         Map<String, NavigableMap<Long, T>>  historyStore,
+                                                                         Date                                asOfTime)
+    {
+        Map<String, T>  timeWarpedStore = new HashMap<>();
+
+        for (Map.Entry<String, T> currentInstance : instanceStore.entrySet())
+        {
+            String guid     = currentInstance.getKey();
+            T      instance = this.getVersionAsOf(currentInstance.getValue(), historyStore.get(guid), asOfTime);
+
+            if (instance != null)
+            {
+                timeWarpedStore.put(guid, instance);
+            }
+        }
+
+        /*
+         * Now pick up the instances that have been removed from the store since.
+         */
+        for (Map.Entry<String, NavigableMap<Long, T>> versionChain : historyStore.entrySet())
+        {
+            String guid = versionChain.getKey();
+
+            if (! instanceStore.containsKey(guid))
+            {
+                T instance = this.getVersionAsOf(null, versionChain.getValue(), asOfTime);
+
+                if (instance != null)
+                {
+                    timeWarpedStore.put(guid, instance);
+                }
+            }
+        }
+
+        return timeWarpedStore;
     }
 
 
@@ -48,7 +1057,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of EntityDetail objects
      */
-    synchronized List<EntityDetail>   getEntities()
+    List<EntityDetail>   getEntities()
     {
         return new ArrayList<>(entityStore.values());
     }
@@ -60,7 +1069,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
         return entityStore.get(guid);
     }
@@ -72,7 +1081,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
         return entityProxyStore.get(guid);
     }
@@ -85,80 +1094,36 @@ class InMemoryOMRSMetadataStore
      * @param asOfTime - time for the store (or null means now)
      * @return entity store for the requested time
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(entityStore);
+            /*
+             * The current store is returned as a read only view rather than a copy.
+             */
+            return Collections.unmodifiableMap(entityStore);
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
+        return this.timeWarpStore(entityStore, entityHistoryStore, asOfTime);
+    }
 
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
-            }
-        }
 
-        /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
-         */
-        for (EntityDetail oldEntity : entityHistoryStore)
+    /**
+     * Return the version of an entity that was current at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the entity (or null means now)
+     * @return entity object or null if it did not exist at the time
+     */
+    EntityDetail  timeWarpEntity(String   guid,
+                                 Date     asOfTime)
+    {
+        if (asOfTime == null)
         {
-            if (oldEntity != null)
-            {
-                String entityGUID = oldEntity.getGUID();
-
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
-
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
-                {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
-                }
-            }
+            return entityStore.get(guid);
         }
 
-        return timeWarpedEntityStore;
+        return this.getVersionAsOf(entityStore.get(guid), entityHistoryStore.get(guid), asOfTime);
     }
 
 
@@ -167,7 +1132,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of relationships
      */
-    synchronized List<Relationship>   getRelationships()
+    List<Relationship>   getRelationships()
     {
         return new ArrayList<>(relationshipStore.values());
     }
@@ -179,7 +1144,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    protected Relationship  getRelationship(String   guid)
     {
         return relationshipStore.get(guid);
     }
@@ -191,137 +1156,112 @@ class InMemoryOMRSMetadataStore
      * @param asOfTime - time for the store (or null means now)
      * @return relationship store for the requested time
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(relationshipStore);
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
-
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
-        {
-            if (relationship != null)
-            {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
+        return this.timeWarpStore(relationshipStore, relationshipHistoryStore, asOfTime);
+    }
 
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
-            }
-        }
 
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
+    /**
+     * Return the version of a relationship that was current at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the relationship (or null means now)
+     * @return relationship object or null if it did not exist at the time
+     */
+    Relationship  timeWarpRelationship(String   guid,
+                                       Date     asOfTime)
+    {
+        if (asOfTime == null)
         {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
-
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
-            }
+            return relationshipStore.get(guid);
         }
 
-        return timeWarpedRelationshipStore;
+        return this.getVersionAsOf(relationshipStore.get(guid), relationshipHistoryStore.get(guid), asOfTime);
     }
 
+
     /**
      * Create a new entity in the entity store.
      *
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    synchronized EntityDetail createEntityInStore(EntityDetail    entity)
+    EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (entityStore.computeIfAbsent(entity.getGUID(), guid -> this.indexNewEntity(entity)) != entity)
         {
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
 
         return entity;
     }
 
 
+    /**
+     * Add a new entity to the indexes as it is added to the entity store.
+     *
+     * @param entity - new entity
+     * @return the entity
+     */
+    private EntityDetail indexNewEntity(EntityDetail    entity)
+    {
+        this.indexEntity(entity);
+
+        return entity;
+    }
+
+
     /**
      * Create a new relationship in the relationship store.
      *
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    synchronized Relationship createRelationshipInStore(Relationship    relationship)
+    Relationship createRelationshipInStore(Relationship    relationship)
     {
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (relationshipStore.computeIfAbsent(relationship.getGUID(), guid -> this.indexNewRelationship(relationship)) != relationship)
         {
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
         return relationship;
     }
 
 
+    /**
+     * Add a new relationship to the indexes as it is added to the relationship store.
+     *
+     * @param relationship - new relationship
+     * @return the relationship
+     */
+    private Relationship indexNewRelationship(Relationship    relationship)
+    {
+        this.indexRelationship(relationship);
+
+        return relationship;
+    }
+
+
     /**
      * Save an entity proxy to the entity store.
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
+    void addEntityProxyToStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -333,14 +1273,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - new version of the entity
      */
-    synchronized void updateEntityInStore(EntityDetail    entity)
+    void updateEntityInStore(EntityDetail    entity)
     {
-        EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
-
-        if (oldEntity != null)
-        {
-            entityHistoryStore.add(0, oldEntity);
-        }
+        this.putEntity(entity, true);
     }
 
 
@@ -349,7 +1284,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void updateEntityProxyInStore(EntityProxy    entityProxy)
+    void updateEntityProxyInStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -361,15 +1296,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - new version of the relationship
      */
-    synchronized void updateRelationshipInStore(Relationship    relationship)
+    void updateRelationshipInStore(Relationship    relationship)
     {
-
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        if (oldRelationship != null)
-        {
-            relationshipHistoryStore.add(0, oldRelationship);
-        }
+        this.putRelationship(relationship, true);
     }
 
 
@@ -379,9 +1308,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    synchronized void saveReferenceEntityToStore(EntityDetail    entity)
+    void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        this.putEntity(entity, false);
     }
 
 
@@ -391,25 +1320,30 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
+    void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        this.putRelationship(relationship, false);
     }
 
 
     /**
-     * Retrieve the previous version of a Relationship.  This is the first instance of this element that
-     * appears in the history.
+     * Retrieve the previous version of a Relationship.  This is the latest version of this element in its
+     * version chain.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
-        if (guid != null)
+        if (guid == null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
+            return null;
+        }
+
+        AtomicReference<Relationship> restoredRelationship = new AtomicReference<>();
 
+        relationshipStore.compute(guid, (relationshipGUID, currentVersionOfRelationship) ->
+        {
             long versionNumber = 0;
 
             if (currentVersionOfRelationship != null)
@@ -417,54 +1351,68 @@ class InMemoryOMRSMetadataStore
                 versionNumber = currentVersionOfRelationship.getVersion() + 1;
             }
 
+            NavigableMap<Long, Relationship> versionChain = relationshipHistoryStore.get(guid);
 
-            for (Relationship relationship : relationshipHistoryStore)
+            if ((versionChain != null) && (! versionChain.isEmpty()))
             {
-                if (relationship != null)
+                Relationship relationship = versionChain.lastEntry().getValue();
+
+                if (versionNumber == 0)
                 {
-                    if (guid.equals(relationship.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         */
-                        Relationship newRelationship = new Relationship(relationship);
-                        newRelationship.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newRelationship.setUpdateTime(restoreTime);
-                        relationshipStore.put(guid, newRelationship);
-                        relationshipHistoryStore.add(0, currentVersionOfRelationship);
-                        return newRelationship;
+                    versionNumber = relationship.getVersion() + 1;
+                }
 
-                    }
+                /*
+                 * Clone the head (most recent) version in the history, set its version number to the next version
+                 * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                 * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                 * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                 * updated longer ago than was really the case.
+                 */
+                Relationship newRelationship = new Relationship(relationship);
+                newRelationship.setVersion(versionNumber);
+                Date restoreTime = new Date();
+                newRelationship.setUpdateTime(restoreTime);
+
+                if (currentVersionOfRelationship != null)
+                {
+                    this.unindexRelationship(currentVersionOfRelationship);
+                    this.addToHistory(relationshipHistoryStore, currentVersionOfRelationship);
                 }
+
+                this.indexRelationship(newRelationship);
+                restoredRelationship.set(newRelationship);
+
+                return newRelationship;
             }
-        }
 
-        return null;
+            return currentVersionOfRelationship;
+        });
+
+        this.pruneHistoryIfDue();
+
+        return restoredRelationship.get();
     }
 
 
     /**
      * Retrieve the previous version of an Entity from the history store and restore it in the entity store.
-     * This is the first instance of this element that appears in the history.
+     * This is the latest version of this element in its version chain.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
-        if (guid != null)
+        if (guid == null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
+            return null;
+        }
+
+        AtomicReference<EntityDetail> restoredEntity = new AtomicReference<>();
 
+        entityStore.compute(guid, (entityGUID, currentVersionOfEntity) ->
+        {
             long versionNumber = 0;
 
             if (currentVersionOfEntity != null)
@@ -472,39 +1420,47 @@ class InMemoryOMRSMetadataStore
                 versionNumber = currentVersionOfEntity.getVersion() + 1;
             }
 
-            for (EntityDetail entity : entityHistoryStore)
+            NavigableMap<Long, EntityDetail> versionChain = entityHistoryStore.get(guid);
+
+            if ((versionChain != null) && (! versionChain.isEmpty()))
             {
-                if (entity != null)
+                EntityDetail entity = versionChain.lastEntry().getValue();
+
+                if (versionNumber == 0)
                 {
-                    if (guid.equals(entity.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         *
-                         */
-                        EntityDetail newEntity = new EntityDetail(entity);
-                        newEntity.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
-                        entityHistoryStore.add(0, currentVersionOfEntity);
-                        return newEntity;
+                    versionNumber = entity.getVersion() + 1;
+                }
 
-                    }
+                /*
+                 * Clone the head (most recent) version in the history, set its version number to the next version
+                 * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                 * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                 * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                 * updated longer ago than was really the case.
+                 */
+                EntityDetail newEntity = new EntityDetail(entity);
+                newEntity.setVersion(versionNumber);
+                Date restoreTime = new Date();
+                newEntity.setUpdateTime(restoreTime);
+
+                if (currentVersionOfEntity != null)
+                {
+                    this.unindexEntity(currentVersionOfEntity);
+                    this.addToHistory(entityHistoryStore, currentVersionOfEntity);
                 }
+
+                this.indexEntity(newEntity);
+                restoredEntity.set(newEntity);
+
+                return newEntity;
             }
-        }
 
-        return null;
+            return currentVersionOfEntity;
+        });
+
+        this.pruneHistoryIfDue();
+
+        return restoredEntity.get();
     }
 
 
@@ -513,10 +1469,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    synchronized void removeEntityFromStore(EntityDetail     entity)
+    void removeEntityFromStore(EntityDetail     entity)
     {
-        entityStore.remove(entity.getGUID());
-        entityHistoryStore.add(0, entity);
+        this.deleteEntity(entity.getGUID());
     }
 
 
@@ -525,14 +1480,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    synchronized void removeReferenceEntityFromStore(String     guid)
+    void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
-
-        if (entity != null)
-        {
-            entityHistoryStore.add(0, entity);
-        }
+        this.deleteEntity(guid);
     }
 
 
@@ -541,7 +1491,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    synchronized void removeEntityProxyFromStore(String     guid)
+    void removeEntityProxyFromStore(String     guid)
     {
         entityProxyStore.remove(guid);
     }
@@ -552,10 +1502,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    synchronized void removeRelationshipFromStore(Relationship     relationship)
+    void removeRelationshipFromStore(Relationship     relationship)
     {
-        relationshipStore.remove(relationship.getGUID());
-        relationshipHistoryStore.add(0, relationship);
+        this.deleteRelationship(relationship.getGUID());
     }
 
 
@@ -564,14 +1513,141 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    synchronized void removeReferenceRelationshipFromStore(String     guid)
+    void removeReferenceRelationshipFromStore(String     guid)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        this.deleteRelationship(guid);
+    }
+
 
-        if (relationship != null)
+    /**
+     * StoreScanIterator steps through the instances in a store, or the instances of the requested types using
+     * the type index, and returns those that pass the filter.
+     *
+     * @param <T> - type of instance
+     */
+    private static class StoreScanIterator<T> implements Iterator<T>
+    {
+        private final Map<String, T>            instanceStore;
+        private final Map<String, Set<String>>  typeIndex;
+        private final Predicate<T>              filter;
+        private Iterator<T>                     storeInstances = null;
+        private Iterator<String>                typeGUIDs      = null;
+        private Iterator<String>                instanceGUIDs  = null;
+        private T                               nextInstance   = null;
+
+
+        /**
+         * Constructor takes the store to scan.
+         *
+         * @param instanceStore - store of current instances
+         * @param typeIndex - index of instance GUIDs by type GUID
+         * @param typeGUIDs - list of permitted types - null means any type
+         * @param filter - test that each returned instance must pass
+         */
+        StoreScanIterator(Map<String, T>            instanceStore,
+                          Map<String, Set<String>>  typeIndex,
+                          List<String>              typeGUIDs,
+                          Predicate<T>              filter)
         {
-            relationshipHistoryStore.add(0, relationship);
+            this.instanceStore = instanceStore;
+            this.typeIndex = typeIndex;
+            this.filter = filter;
+
+            if (typeGUIDs == null)
+            {
+                this.storeInstances = instanceStore.values().iterator();
+            }
+            else
+            {
+                this.typeGUIDs = new ArrayList<>(typeGUIDs).iterator();
+            }
         }
-    }
 
+
+        /**
+         * Return whether there are more instances that pass the filter.
+         *
+         * @return boolean indicating whether there are more instances
+         */
+        @Override
+        public boolean hasNext()
+        {
+            while (nextInstance == null)
+            {
+                T instance = this.getNextInstance();
+
+                if (instance == null)
+                {
+                    return false;
+                }
+
+                if ((filter == null) || (filter.test(instance)))
+                {
+                    nextInstance = instance;
+                }
+            }
+
+            return true;
+        }
+
+
+        /**
+         * Return the next instance that passes the filter.
+         *
+         * @return instance
+         * @throws NoSuchElementException there are no more instances
+         */
+        @Override
+        public T next()
+        {
+            if (this.hasNext())
+            {
+                T instance = nextInstance;
+
+                nextInstance = null;
+
+                return instance;
+            }
+
+            throw new NoSuchElementException();
+        }
+
+
+        /**
+         * Return the next instance in the store, or of the requested types.
+         *
+         * @return instance or null if the scan is complete
+         */
+        private T getNextInstance()
+        {
+            if (storeInstances != null)
+            {
+                return storeInstances.hasNext() ? storeInstances.next() : null;
+            }
+
+            while (((instanceGUIDs != null) && (instanceGUIDs.hasNext())) || (typeGUIDs.hasNext()))
+            {
+                if ((instanceGUIDs == null) || (! instanceGUIDs.hasNext()))
+                {
+                    Set<String> typeInstanceGUIDs = typeIndex.get(typeGUIDs.next());
+
+                    instanceGUIDs = (typeInstanceGUIDs == null) ? null : typeInstanceGUIDs.iterator();
+                }
+                else
+                {
+                    /*
+                     * The instance may have been removed since the scan started.
+                     */
+                    T instance = instanceStore.get(instanceGUIDs.next());
+
+                    if (instance != null)
+                    {
+                        return instance;
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
 }
@@ -5,6 +5,8 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
@@ -37,11 +39,87 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
             /*
              * Initialize the metadata collection only once the connector is properly set up.
              */
-            super.metadataCollection = new InMemoryOMRSMetadataCollection(this,
-                                                                          super.serverName,
-                                                                          repositoryHelper,
-                                                                          repositoryValidator,
-                                                                          metadataCollectionId);
+            InMemoryOMRSMetadataCollection inMemoryMetadataCollection
+                    = new InMemoryOMRSMetadataCollection(this,
+                                                         super.serverName,
+                                                         repositoryHelper,
+                                                         repositoryValidator,
+                                                         metadataCollectionId,
+                                                         this.isPropertyValueIndexRequested());
+
+            inMemoryMetadataCollection.setHistoryRetentionPeriod(this.getHistoryRetentionPeriod());
+
+            super.metadataCollection = inMemoryMetadataCollection;
+        }
+    }
+
+
+    /**
+     * Return whether the connection's configuration properties request that the string property values
+     * of the stored instances are indexed.
+     *
+     * @return boolean flag
+     */
+    private boolean isPropertyValueIndexRequested()
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object indexPropertyValues = configurationProperties.get(InMemoryOMRSRepositoryConnectorProvider.indexPropertyValuesProperty);
+
+                if (indexPropertyValues instanceof Boolean)
+                {
+                    return (Boolean)indexPropertyValues;
+                }
+                else if (indexPropertyValues != null)
+                {
+                    return Boolean.parseBoolean(indexPropertyValues.toString());
+                }
+            }
         }
+
+        return false;
+    }
+
+
+    /**
+     * Return the history retention period from the connection's configuration properties.
+     *
+     * @return time in milliseconds - zero means keep the history forever
+     */
+    private long getHistoryRetentionPeriod()
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object historyRetentionPeriod = configurationProperties.get(InMemoryOMRSRepositoryConnectorProvider.historyRetentionPeriodProperty);
+
+                if (historyRetentionPeriod instanceof Number)
+                {
+                    return ((Number)historyRetentionPeriod).longValue();
+                }
+                else if (historyRetentionPeriod != null)
+                {
+                    try
+                    {
+                        return Long.parseLong(historyRetentionPeriod.toString());
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        /*
+                         * An invalid value is ignored and the history is kept.
+                         */
+                    }
+                }
+            }
+        }
+
+        return 0;
     }
-}
\ No newline at end of file
+}
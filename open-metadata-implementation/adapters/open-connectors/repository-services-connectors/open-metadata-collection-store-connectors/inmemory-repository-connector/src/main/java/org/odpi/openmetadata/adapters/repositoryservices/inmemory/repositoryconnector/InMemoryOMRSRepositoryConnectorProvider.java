@@ -6,6 +6,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The InMemoryOMRSRepositoryConnectorProvider is the connector provider for the InMemoryOMRSRepositoryConnector.
@@ -22,6 +25,18 @@ public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConne
     static final String  connectorTypeName = "OMRS In Memory Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses an in-memory store.";
 
+    /*
+     * Set to true to index the string property values of the stored instances.  This speeds up exact match
+     * searches at the cost of extra memory.
+     */
+    public static final String  indexPropertyValuesProperty = "indexPropertyValues";
+
+    /*
+     * Time in milliseconds that previous versions of instances are kept for historical (asOfTime) queries
+     * after they are superseded.  The default is to keep them forever.
+     */
+    public static final String  historyRetentionPeriodProperty = "historyRetentionPeriod";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -41,6 +56,12 @@ public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConne
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(indexPropertyValuesProperty);
+        recognizedConfigurationProperties.add(historyRetentionPeriodProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
\ No newline at end of file
@@ -0,0 +1,286 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class InMemoryOMRSMetadataStoreTest
+{
+    private InMemoryOMRSMetadataStore store;
+
+    @BeforeMethod
+    public void setup()
+    {
+        store = new InMemoryOMRSMetadataStore();
+        store.setRepositoryName("TestRepository");
+    }
+
+    @Test
+    void testEntityIndexes()
+    {
+        store.createEntityInStore(getEntity("1111", "typeA", "Confidential", "name", "alpha"));
+        store.createEntityInStore(getEntity("2222", "typeA", null, "name", "beta"));
+        store.createEntityInStore(getEntity("3333", "typeB", "Confidential", "name", "alpha"));
+
+        assertEquals(getGUIDs(store.getCandidateEntities(null, null, null, null)).size(), 3);
+        assertEquals(getGUIDs(store.getCandidateEntities(Collections.singletonList("typeA"), null, null, null)).size(), 2);
+        assertEquals(getGUIDs(store.getCandidateEntities(Collections.singletonList("typeA"),
+                                                         Collections.singletonList("Confidential"),
+                                                         null,
+                                                         null)),
+                     Collections.singletonList("1111"));
+        assertEquals(store.getEntityTypeRepresentatives().size(), 2);
+
+        /*
+         * The property value restriction is ignored until the value index is turned on.
+         */
+        assertEquals(getGUIDs(store.getCandidateEntities(null, null, "name", "alpha")).size(), 3);
+
+        store.setPropertyValueIndexEnabled(true);
+        assertEquals(getGUIDs(store.getCandidateEntities(null, null, "name", "alpha")).size(), 2);
+        assertEquals(getGUIDs(store.getCandidateEntities(null, null, "name", "gamma")).size(), 0);
+
+        /*
+         * Updates and removals maintain the indexes.
+         */
+        store.updateEntityInStore(getEntity("2222", "typeB", "Confidential", "name", "alpha"));
+        assertEquals(getGUIDs(store.getCandidateEntities(Collections.singletonList("typeA"), null, null, null)),
+                     Collections.singletonList("1111"));
+        assertEquals(getGUIDs(store.getCandidateEntities(null, null, "name", "alpha")).size(), 3);
+
+        store.removeReferenceEntityFromStore("3333");
+        assertEquals(getGUIDs(store.getCandidateEntities(Collections.singletonList("typeB"),
+                                                         Collections.singletonList("Confidential"),
+                                                         "name",
+                                                         "alpha")),
+                     Collections.singletonList("2222"));
+    }
+
+    @Test
+    void testRelationshipIndexes()
+    {
+        store.createRelationshipInStore(getRelationship("5555", "typeR", "1111", "2222"));
+        store.createRelationshipInStore(getRelationship("6666", "typeR", "2222", "3333"));
+        store.createRelationshipInStore(getRelationship("7777", "typeS", "3333", "4444"));
+
+        assertEquals(getGUIDs(store.getCandidateRelationships(null, "2222", null, null)).size(), 2);
+        assertEquals(getGUIDs(store.getCandidateRelationships(Collections.singletonList("typeS"), "3333", null, null)),
+                     Collections.singletonList("7777"));
+
+        store.removeReferenceRelationshipFromStore("6666");
+        assertEquals(getGUIDs(store.getCandidateRelationships(null, "2222", null, null)),
+                     Collections.singletonList("5555"));
+        assertTrue(store.getCandidateRelationships(Collections.singletonList("typeX"), null, null, null).isEmpty());
+    }
+
+    @Test
+    void testScans()
+    {
+        store.createEntityInStore(getEntity("1111", "typeA", null, "name", "alpha"));
+        store.createEntityInStore(getEntity("2222", "typeA", null, "name", "beta"));
+        store.createEntityInStore(getEntity("3333", "typeB", null, "name", "alpha"));
+        store.createRelationshipInStore(getRelationship("5555", "typeR", "1111", "2222"));
+        store.createRelationshipInStore(getRelationship("6666", "typeS", "2222", "3333"));
+
+        assertEquals(getGUIDs(store.scanEntities(null, null)).size(), 3);
+        assertEquals(getGUIDs(store.scanEntities(Collections.singletonList("typeA"), null)).size(), 2);
+        assertEquals(getGUIDs(store.scanEntities(Arrays.asList("typeA", "typeB", "typeX"),
+                                                 (entity) -> ! entity.getGUID().equals("2222"))).size(), 2);
+        assertEquals(getGUIDs(store.scanRelationships(Collections.singletonList("typeS"), null)),
+                     Collections.singletonList("6666"));
+        assertFalse(store.scanRelationships(Collections.singletonList("typeX"), null).hasNext());
+
+        /*
+         * Instances removed after the scan starts are skipped.
+         */
+        Iterator<EntityDetail> scan = store.scanEntities(Collections.singletonList("typeA"), null);
+        store.removeReferenceEntityFromStore("2222");
+        assertEquals(getGUIDs(scan), Collections.singletonList("1111"));
+    }
+
+    @Test
+    void testVersionHistory()
+    {
+        store.createEntityInStore(getVersion("1111", "v1", 1, 1000));
+        store.updateEntityInStore(getVersion("1111", "v2", 2, 2000));
+        store.updateEntityInStore(getVersion("1111", "v3", 3, 3000));
+        store.createEntityInStore(getVersion("2222", "other", 1, 2500));
+        store.removeReferenceEntityFromStore("2222");
+
+        assertNull(store.timeWarpEntity("1111", new Date(500)));
+        assertEquals(store.timeWarpEntity("1111", new Date(1500)).getVersion(), 1);
+        assertEquals(store.timeWarpEntity("1111", new Date(2000)).getVersion(), 2);
+        assertEquals(store.timeWarpEntity("1111", new Date(5000)).getVersion(), 3);
+        assertEquals(store.timeWarpEntity("1111", null).getVersion(), 3);
+
+        assertEquals(store.timeWarpEntityStore(new Date(1500)).size(), 1);
+        assertEquals(store.timeWarpEntityStore(new Date(2600)).get("2222").getVersion(), 1);
+
+        EntityDetail restoredEntity = store.retrievePreviousVersionOfEntity("1111");
+        assertEquals(restoredEntity.getVersion(), 4);
+        assertEquals(getGUIDs(store.getCandidateEntities(null, null, null, null)).size(), 1);
+
+        /*
+         * The retention period removes versions superseded long ago but keeps the version that was current
+         * at the cutoff time.
+         */
+        store.setHistoryRetentionPeriod(System.currentTimeMillis() - 2700);
+        store.updateEntityInStore(getVersion("1111", "v5", 5, System.currentTimeMillis()));
+
+        assertNull(store.timeWarpEntity("1111", new Date(1500)));
+        assertEquals(store.timeWarpEntity("1111", new Date(3500)).getVersion(), 3);
+        assertNull(store.timeWarpEntityStore(new Date(2600)).get("2222"));
+    }
+
+    @Test
+    void testConcurrentReadAndWrite() throws Exception
+    {
+        final int threads = 8;
+        final int updates = 500;
+
+        for (int i = 0; i < threads; i++)
+        {
+            store.createEntityInStore(getEntity("guid" + i, "typeA", null, "name", "v0"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        List<Future<?>> tasks    = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++)
+        {
+            final String guid = "guid" + i;
+
+            tasks.add(executor.submit(() ->
+            {
+                for (int update = 1; update <= updates; update++)
+                {
+                    String typeGUID = (update % 2 == 0) ? "typeA" : "typeB";
+                    store.updateEntityInStore(getEntity(guid, typeGUID, null, "name", "v" + update));
+                }
+            }));
+
+            tasks.add(executor.submit(() ->
+            {
+                for (int read = 0; read < updates; read++)
+                {
+                    assertTrue(store.getEntity(guid) != null);
+                    store.getCandidateEntities(Collections.singletonList("typeA"), null, null, null);
+                    store.timeWarpEntityStore(null).get(guid);
+                }
+            }));
+        }
+
+        for (Future<?> task : tasks)
+        {
+            task.get();
+        }
+
+        executor.shutdown();
+
+        /*
+         * Every entity finishes on an even update so the type index must list them all under typeA.
+         */
+        assertEquals(getGUIDs(store.getCandidateEntities(Collections.singletonList("typeA"), null, null, null)).size(), threads);
+        assertTrue(store.getCandidateEntities(Collections.singletonList("typeB"), null, null, null).isEmpty());
+    }
+
+    private EntityDetail getEntity(String guid, String typeGUID, String classificationName, String propertyName, String propertyValue)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(getType(typeGUID));
+
+        if (classificationName != null)
+        {
+            Classification classification = new Classification();
+            classification.setName(classificationName);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+
+        PrimitivePropertyValue value = new PrimitivePropertyValue();
+        value.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        value.setPrimitiveValue(propertyValue);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(propertyName, value);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+    private EntityDetail getVersion(String guid, String propertyValue, long version, long updateTime)
+    {
+        EntityDetail entity = getEntity(guid, "typeA", null, "name", propertyValue);
+        entity.setVersion(version);
+        entity.setUpdateTime(new Date(updateTime));
+        return entity;
+    }
+
+    private Relationship getRelationship(String guid, String typeGUID, String entityOneGUID, String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setType(getType(typeGUID));
+
+        EntityProxy entityOneProxy = new EntityProxy();
+        entityOneProxy.setGUID(entityOneGUID);
+        relationship.setEntityOneProxy(entityOneProxy);
+
+        EntityProxy entityTwoProxy = new EntityProxy();
+        entityTwoProxy.setGUID(entityTwoGUID);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        return relationship;
+    }
+
+    private InstanceType getType(String typeGUID)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefGUID(typeGUID);
+        type.setTypeDefName(typeGUID);
+        return type;
+    }
+
+    private List<String> getGUIDs(Iterator<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        while (instances.hasNext())
+        {
+            guids.add(instances.next().getGUID());
+        }
+
+        return guids;
+    }
+
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+}
@@ -30,6 +30,14 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     private String                        errorMessage = null;
     private LocalRepositoryServicesClient omrsClient;   /* Initialized in constructor */
 
+    /*
+     * Servers from before the count and by-guids operations were added reject them.  Once this is detected,
+     * the counts are worked out from the results of the find operations and the instances are retrieved
+     * one at a time instead.
+     */
+    private volatile boolean              countOperationsSupported   = true;
+    private volatile boolean              byGUIDsOperationsSupported = true;
+
     /**
      * Default constructor.
      *
@@ -139,6 +147,34 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Determine whether a request failed because the remote server does not offer the requested operation.
+     * This happens when the remote server is from an earlier release.  The HTTP client puts the status code at
+     * the start of the message of its exception, which is passed back as the cause of the REST client's exception.
+     *
+     * @param error exception from the REST client
+     * @return boolean flag
+     */
+    private boolean isOperationNotKnown(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            String message = cause.getMessage();
+
+            if ((message != null) && ((message.startsWith("404")) || (message.startsWith("405"))))
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     /**
      * Validate that the metadata collection id from the remote server matches the one expected
      * locally.
@@ -941,6 +977,50 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  The entities are
+     * retrieved from the remote repository in a single call.  If the remote server does not support this call,
+     * the entities are retrieved one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order of the requested guids.  Null means none were found.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitiesByGUIDs";
+
+        validateClient(methodName);
+
+        if (byGUIDsOperationsSupported)
+        {
+            try
+            {
+                return omrsClient.getEntitiesByGUIDs(userId, guids);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isOperationNotKnown(error))
+                {
+                    throw error;
+                }
+
+                byGUIDsOperationsSupported = false;
+            }
+        }
+
+        return super.getEntitiesByGUIDs(userId, guids);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1004,6 +1084,76 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the number of relationships for a specific entity.  If the remote server does not support
+     * the count operation, the relationships are retrieved and counted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means count the
+     *                 present values.
+     * @return count of the relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public int countRelationshipsForEntity(String               userId,
+                                           String               entityGUID,
+                                           String               relationshipTypeGUID,
+                                           List<InstanceStatus> limitResultsByStatus,
+                                           Date                 asOfTime) throws InvalidParameterException,
+                                                                                 TypeErrorException,
+                                                                                 RepositoryErrorException,
+                                                                                 EntityNotKnownException,
+                                                                                 PropertyErrorException,
+                                                                                 PagingErrorException,
+                                                                                 FunctionNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String             methodName = "countRelationshipsForEntity";
+
+        validateClient(methodName);
+
+        if (countOperationsSupported)
+        {
+            try
+            {
+                return omrsClient.countRelationshipsForEntity(userId,
+                                                              entityGUID,
+                                                              relationshipTypeGUID,
+                                                              limitResultsByStatus,
+                                                              asOfTime);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isOperationNotKnown(error))
+                {
+                    throw error;
+                }
+
+                countOperationsSupported = false;
+            }
+        }
+
+        return super.countRelationshipsForEntity(userId,
+                                                 entityGUID,
+                                                 relationshipTypeGUID,
+                                                 limitResultsByStatus,
+                                                 asOfTime);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1075,6 +1225,157 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        final String       methodName = "findEntityPageByProperty";
+
+        validateClient(methodName);
+        return omrsClient.findEntityPageByProperty(userId,
+                                                   entityTypeGUID,
+                                                   matchProperties,
+                                                   matchCriteria,
+                                                   pageToken,
+                                                   limitResultsByStatus,
+                                                   limitResultsByClassification,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+    }
+
+
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     * If the remote server does not support the count operation, the entities are retrieved and counted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all counted entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public int countEntitiesByProperty(String                    userId,
+                                       String                    entityTypeGUID,
+                                       InstanceProperties        matchProperties,
+                                       MatchCriteria             matchCriteria,
+                                       List<InstanceStatus>      limitResultsByStatus,
+                                       List<String>              limitResultsByClassification,
+                                       Date                      asOfTime) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  PropertyErrorException,
+                                                                                  PagingErrorException,
+                                                                                  FunctionNotSupportedException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String       methodName = "countEntitiesByProperty";
+
+        validateClient(methodName);
+
+        if (countOperationsSupported)
+        {
+            try
+            {
+                return omrsClient.countEntitiesByProperty(userId,
+                                                          entityTypeGUID,
+                                                          matchProperties,
+                                                          matchCriteria,
+                                                          limitResultsByStatus,
+                                                          limitResultsByClassification,
+                                                          asOfTime);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isOperationNotKnown(error))
+                {
+                    throw error;
+                }
+
+                countOperationsSupported = false;
+            }
+        }
+
+        return super.countEntitiesByProperty(userId,
+                                             entityTypeGUID,
+                                             matchProperties,
+                                             matchCriteria,
+                                             limitResultsByStatus,
+                                             limitResultsByClassification,
+                                             asOfTime);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1149,6 +1450,164 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByClassification(String                    userId,
+                                                       String                    entityTypeGUID,
+                                                       String                    classificationName,
+                                                       InstanceProperties        matchClassificationProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                ClassificationErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String       methodName = "findEntityPageByClassification";
+
+        validateClient(methodName);
+        return omrsClient.findEntityPageByClassification(userId,
+                                                         entityTypeGUID,
+                                                         classificationName,
+                                                         matchClassificationProperties,
+                                                         matchCriteria,
+                                                         pageToken,
+                                                         limitResultsByStatus,
+                                                         asOfTime,
+                                                         sequencingProperty,
+                                                         sequencingOrder,
+                                                         pageSize);
+    }
+
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     * If the remote server does not support the count operation, the entities are retrieved and counted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public int countEntitiesByClassification(String                    userId,
+                                             String                    entityTypeGUID,
+                                             String                    classificationName,
+                                             InstanceProperties        matchClassificationProperties,
+                                             MatchCriteria             matchCriteria,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             Date                      asOfTime) throws InvalidParameterException,
+                                                                                        TypeErrorException,
+                                                                                        RepositoryErrorException,
+                                                                                        ClassificationErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String       methodName  = "countEntitiesByClassification";
+
+        validateClient(methodName);
+
+        if (countOperationsSupported)
+        {
+            try
+            {
+                return omrsClient.countEntitiesByClassification(userId,
+                                                                entityTypeGUID,
+                                                                classificationName,
+                                                                matchClassificationProperties,
+                                                                matchCriteria,
+                                                                limitResultsByStatus,
+                                                                asOfTime);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isOperationNotKnown(error))
+                {
+                    throw error;
+                }
+
+                countOperationsSupported = false;
+            }
+        }
+
+        return super.countEntitiesByClassification(userId,
+                                                   entityTypeGUID,
+                                                   classificationName,
+                                                   matchClassificationProperties,
+                                                   matchCriteria,
+                                                   limitResultsByStatus,
+                                                   asOfTime);
+    }
+
 
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
@@ -1220,6 +1679,78 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByPropertyValue(String                userId,
+                                                      String                entityTypeGUID,
+                                                      String                searchCriteria,
+                                                      String                pageToken,
+                                                      List<InstanceStatus>  limitResultsByStatus,
+                                                      List<String>          limitResultsByClassification,
+                                                      Date                  asOfTime,
+                                                      String                sequencingProperty,
+                                                      SequencingOrder       sequencingOrder,
+                                                      int                   pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String       methodName = "findEntityPageByPropertyValue";
+
+        validateClient(methodName);
+        return omrsClient.findEntityPageByPropertyValue(userId,
+                                                        entityTypeGUID,
+                                                        searchCriteria,
+                                                        pageToken,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        asOfTime,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        pageSize);
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
@@ -1299,6 +1830,50 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return each of the requested relationships.  The relationships are retrieved from the remote repository
+     * in a single call.  If the remote server does not support this call, the relationships are retrieved
+     * one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order of the requested guids.  Null means none were found.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String methodName  = "getRelationshipsByGUIDs";
+
+        validateClient(methodName);
+
+        if (byGUIDsOperationsSupported)
+        {
+            try
+            {
+                return omrsClient.getRelationshipsByGUIDs(userId, guids);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isOperationNotKnown(error))
+                {
+                    throw error;
+                }
+
+                byGUIDsOperationsSupported = false;
+            }
+        }
+
+        return super.getRelationshipsByGUIDs(userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -1368,6 +1943,75 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * Rather than skipping to a starting element, each page resumes after the last relationship returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param matchProperties Optional list of relationship properties to match (where any String property's value
+     *                        should be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String methodName  = "findRelationshipPageByProperty";
+
+        validateClient(methodName);
+        return omrsClient.findRelationshipPageByProperty(userId,
+                                                         relationshipTypeGUID,
+                                                         matchProperties,
+                                                         matchCriteria,
+                                                         pageToken,
+                                                         limitResultsByStatus,
+                                                         asOfTime,
+                                                         sequencingProperty,
+                                                         sequencingOrder,
+                                                         pageSize);
+    }
+
+
     /**
      * Return a list of relationships whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1433,6 +2077,73 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * Rather than skipping to a starting element, each page resumes after the last relationship returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    @Override
+    public InstancePage findRelationshipPageByPropertyValue(String                    userId,
+                                                            String                    relationshipTypeGUID,
+                                                            String                    searchCriteria,
+                                                            String                    pageToken,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        final String       methodName = "findRelationshipPageByPropertyValue";
+
+        validateClient(methodName);
+        return omrsClient.findRelationshipPageByPropertyValue(userId,
+                                                              relationshipTypeGUID,
+                                                              searchCriteria,
+                                                              pageToken,
+                                                              limitResultsByStatus,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              pageSize);
+    }
+
+
     /**
      * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
      *
@@ -2124,6 +2835,95 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a set of new entities and the relationships between them in the remote repository in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and the relationships between them.
+     * @return the new entities and relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                      not defined for an entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addInstances(String        userId,
+                                      InstanceGraph instances) throws InvalidParameterException,
+                                                                      RepositoryErrorException,
+                                                                      TypeErrorException,
+                                                                      PropertyErrorException,
+                                                                      ClassificationErrorException,
+                                                                      EntityNotKnownException,
+                                                                      StatusNotSupportedException,
+                                                                      FunctionNotSupportedException,
+                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "addInstances";
+
+        validateClient(methodName);
+        return omrsClient.addInstances(userId, instances);
+    }
+
+
+    /**
+     * Create a set of new entities and the relationships between them in the remote repository in a single call.
+     * The instances are homed in the metadata collection of the external source.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and the relationships between them.
+     * @return the new entities and relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                      not defined for an entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addExternalInstances(String        userId,
+                                              String        externalSourceGUID,
+                                              String        externalSourceName,
+                                              InstanceGraph instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              ClassificationErrorException,
+                                                                              EntityNotKnownException,
+                                                                              StatusNotSupportedException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "addExternalInstances";
+
+        validateClient(methodName);
+        return omrsClient.addExternalInstances(userId, externalSourceGUID, externalSourceName, instances);
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
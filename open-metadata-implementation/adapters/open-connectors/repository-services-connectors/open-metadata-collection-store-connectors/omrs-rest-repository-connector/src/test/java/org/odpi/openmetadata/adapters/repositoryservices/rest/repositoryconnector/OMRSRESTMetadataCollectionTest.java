@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the REST metadata collection against a remote server that does not offer the count and by-guids operations.
+ */
+public class OMRSRESTMetadataCollectionTest
+{
+    private static final String userId               = "testUser";
+    private static final String metadataCollectionId = "testMetadataCollectionId";
+
+    private static final String relationshipList = "{\"class\":\"RelationshipListResponse\",\"relatedHTTPCode\":200," +
+                                                   "\"relationships\":[{\"class\":\"Relationship\",\"guid\":\"relationship-1\"}," +
+                                                   "{\"class\":\"Relationship\",\"guid\":\"relationship-2\"}]}";
+
+    private HttpServer remoteServer;
+    private int        countStatus     = 404;
+    private int        countRequests   = 0;
+    private int        byGUIDsRequests = 0;
+
+
+    /**
+     * The remote server rejects the count requests with the configured status and the by-guids requests as not
+     * found.  It returns the requested entity for a single entity request and two relationships for any other request.
+     */
+    @BeforeClass
+    public void startRemoteServer() throws IOException
+    {
+        remoteServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        remoteServer.createContext("/", this::handleRequest);
+        remoteServer.start();
+    }
+
+
+    @AfterClass
+    public void stopRemoteServer()
+    {
+        remoteServer.stop(0);
+    }
+
+
+    @BeforeMethod
+    public void resetRemoteServer()
+    {
+        countStatus = 404;
+        countRequests = 0;
+        byGUIDsRequests = 0;
+    }
+
+
+    private void handleRequest(HttpExchange exchange) throws IOException
+    {
+        /*
+         * The request body is read so the client can reuse the connection.
+         */
+        try (InputStream requestBody = exchange.getRequestBody())
+        {
+            while (requestBody.read() != -1)
+            {
+                /* skip */
+            }
+        }
+
+        String path = exchange.getRequestURI().getPath();
+
+        if (path.endsWith("/count"))
+        {
+            countRequests ++;
+            exchange.sendResponseHeaders(countStatus, -1);
+        }
+        else if (path.endsWith("/by-guids"))
+        {
+            byGUIDsRequests ++;
+            exchange.sendResponseHeaders(404, -1);
+        }
+        else
+        {
+            String responseJSON = relationshipList;
+
+            if (path.matches(".*/instances/entity/[^/]+"))
+            {
+                responseJSON = "{\"class\":\"EntityDetailResponse\",\"relatedHTTPCode\":200," +
+                               "\"entity\":{\"class\":\"EntityDetail\",\"guid\":\"" +
+                               path.substring(path.lastIndexOf('/') + 1) + "\"}}";
+            }
+
+            byte[] response = responseJSON.getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+
+            try (OutputStream responseBody = exchange.getResponseBody())
+            {
+                responseBody.write(response);
+            }
+        }
+
+        exchange.close();
+    }
+
+
+    private OMRSMetadataCollection getMetadataCollection() throws RepositoryErrorException
+    {
+        Endpoint   endpoint   = new Endpoint();
+        Connection connection = new Connection();
+
+        endpoint.setAddress("http://localhost:" + remoteServer.getAddress().getPort() + "/servers/testServer");
+        connection.setEndpoint(endpoint);
+
+        OMRSRESTRepositoryConnector connector = new OMRSRESTRepositoryConnector();
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setRepositoryName("testServer");
+        connector.setMetadataCollectionId(metadataCollectionId);
+
+        return connector.getMetadataCollection();
+    }
+
+
+    @Test
+    public void testCountFallsBackToRelationships() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection();
+
+        assertEquals(metadataCollection.countRelationshipsForEntity(userId, "entity-1", null, null, null), 2);
+        assertEquals(countRequests, 1);
+
+        /*
+         * Once the remote server has rejected a count it is not asked again.
+         */
+        assertEquals(metadataCollection.countRelationshipsForEntity(userId, "entity-1", null, null, null), 2);
+        assertEquals(countRequests, 1);
+    }
+
+
+    @Test
+    public void testCountErrorIsReturned() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection();
+
+        countStatus = 500;
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                metadataCollection.countRelationshipsForEntity(userId, "entity-1", null, null, null);
+                fail("Count returned after the remote server failed");
+            }
+            catch (RepositoryErrorException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+        }
+
+        assertEquals(countRequests, 2);
+    }
+
+
+    @Test
+    public void testEntitiesByGUIDsFallBackToSingleRetrieval() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection();
+
+        for (int i = 0; i < 2; i++)
+        {
+            List<EntityDetail> entities = metadataCollection.getEntitiesByGUIDs(userId, Arrays.asList("entity-2", "entity-1"));
+            List<String>       guids    = new ArrayList<>();
+
+            for (EntityDetail entity : entities)
+            {
+                guids.add(entity.getGUID());
+            }
+
+            assertEquals(guids, Arrays.asList("entity-2", "entity-1"));
+        }
+
+        /*
+         * Once the remote server has rejected the by-guids request it is not asked again.
+         */
+        assertEquals(byGUIDsRequests, 1);
+    }
+}
@@ -2,10 +2,19 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.restclients.spring;
 
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.codehaus.plexus.util.Base64;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.RESTClientConnectorErrorCode;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
@@ -15,20 +24,38 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import javax.net.ssl.HttpsURLConnection;
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * RESTClient is responsible for issuing calls to the server's REST APIs.
+ *
+ * Each connector has its own pool of keep-alive HTTP connections so that repeated calls to its platform do not
+ * pay for a new connection (and TLS handshake) each time.  The connect and read timeouts, and the maximum number
+ * of pooled connections, can be set through the configuration properties of the connection.  The pool is closed
+ * when the connector is disconnected.
  */
 public class SpringRESTClientConnector extends RESTClientConnector
 {
-    private RestTemplate restTemplate;
+    private static final int  defaultMaxConnections       = 20;
+    private static final int  validateAfterInactivityMs   = 2000;
+    private static final long connectionTimeToLiveSeconds = 60;
+
+    private PoolingHttpClientConnectionManager     connectionManager;
+    private CloseableHttpClient                    httpClient;
+    private HttpComponentsClientHttpRequestFactory requestFactory;
+    private RestTemplate                           restTemplate;
+
     private String       serverName               = null;
     private String       serverPlatformURLRoot    = null;
     private HttpHeaders  basicAuthorizationHeader = null;
@@ -41,7 +68,43 @@ public class SpringRESTClientConnector extends RESTClientConnector
     public SpringRESTClientConnector()
     {
         super();
-        restTemplate = new RestTemplate();
+
+        /*
+         * The socket factories are taken from the JDK defaults when the connector is created so that they pick up
+         * the SSL set up that the platform does at start up (for example when strict.ssl is false).
+         */
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory(),
+                                                                  HttpsURLConnection.getDefaultHostnameVerifier()))
+                .build();
+
+        /*
+         * Stale connections are checked when they are leased rather than by a background eviction thread so that
+         * a connector that is never disconnected does not leave a thread behind.
+         */
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry,
+                                                                   null,
+                                                                   null,
+                                                                   null,
+                                                                   connectionTimeToLiveSeconds,
+                                                                   TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(defaultMaxConnections);
+        connectionManager.setDefaultMaxPerRoute(defaultMaxConnections);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMs);
+
+        /*
+         * The client may be called on behalf of many users so it must not keep cookies.
+         */
+        httpClient = HttpClients.custom()
+                                .useSystemProperties()
+                                .setConnectionManager(connectionManager)
+                                .disableCookieManagement()
+                                .build();
+
+        requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        restTemplate = new RestTemplate(requestFactory);
+
         // Ensure that the REST template always uses UTF-8
         List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
@@ -49,6 +112,43 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Return the integer value of a configuration property, or the default if it is not set or is not a number.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private int getIntProperty(Map<String, Object>  configurationProperties,
+                               String               propertyName,
+                               int                  defaultValue)
+    {
+        if (configurationProperties != null)
+        {
+            Object propertyValue = configurationProperties.get(propertyName);
+
+            if (propertyValue instanceof Number)
+            {
+                return ((Number) propertyValue).intValue();
+            }
+            else if (propertyValue != null)
+            {
+                try
+                {
+                    return Integer.parseInt(propertyValue.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    log.error("Ignoring invalid value " + propertyValue + " for configuration property " + propertyName + ".");
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Initialize the connector.
      *
@@ -75,6 +175,35 @@ public class SpringRESTClientConnector extends RESTClientConnector
             this.serverName = null;
         }
 
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            int connectTimeout = getIntProperty(configurationProperties, SpringRESTClientConnectorProvider.connectTimeoutProperty, 0);
+            int readTimeout    = getIntProperty(configurationProperties, SpringRESTClientConnectorProvider.readTimeoutProperty, 0);
+            int maxConnections = getIntProperty(configurationProperties, SpringRESTClientConnectorProvider.maxConnectionsPerRouteProperty, 0);
+
+            if (connectTimeout > 0)
+            {
+                requestFactory.setConnectTimeout(connectTimeout);
+            }
+
+            if (readTimeout > 0)
+            {
+                requestFactory.setReadTimeout(readTimeout);
+            }
+
+            /*
+             * The pool belongs to this connector, which only calls its own platform, so the limit applies to
+             * the pool as a whole as well as to the platform's route.
+             */
+            if (maxConnections > 0)
+            {
+                connectionManager.setMaxTotal(maxConnections);
+                connectionManager.setDefaultMaxPerRoute(maxConnections);
+            }
+        }
+
         String     userId = connectionProperties.getUserId();
         String     password = connectionProperties.getClearPassword();
 
@@ -92,6 +221,39 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Free up any resources held since the connector is no longer needed.  This closes the connector's
+     * pool of HTTP connections.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        super.disconnect();
+
+        try
+        {
+            httpClient.close();
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to close the HTTP connections to platform " + serverPlatformURLRoot + ": " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Return the pool of HTTP connections used by this connector.
+     *
+     * @return connection manager
+     */
+    PoolingHttpClientConnectionManager getConnectionManager()
+    {
+        return connectionManager;
+    }
+
+
     /**
      * Create the HTTP header for basic authorization.
      *
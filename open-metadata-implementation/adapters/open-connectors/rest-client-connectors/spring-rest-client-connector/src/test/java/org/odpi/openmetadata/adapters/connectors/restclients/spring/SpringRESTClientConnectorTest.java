@@ -0,0 +1,193 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the SpringRESTClientConnector calls its platform over its own pool of keep-alive connections, and
+ * that the configuration properties are applied to that pool only.
+ */
+public class SpringRESTClientConnectorTest
+{
+    private HttpServer  server;
+    private String      platformURLRoot;
+    private Set<String> clientAddresses = ConcurrentHashMap.newKeySet();
+
+
+    @BeforeClass
+    public void startServer() throws Exception
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+
+        server.createContext("/echo", exchange ->
+        {
+            clientAddresses.add(exchange.getRemoteAddress().toString());
+
+            byte[] response = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, response.length);
+
+            try (OutputStream responseBody = exchange.getResponseBody())
+            {
+                responseBody.write(response);
+            }
+        });
+
+        server.createContext("/slow", exchange ->
+        {
+            try
+            {
+                Thread.sleep(2000);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+
+        server.start();
+
+        platformURLRoot = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+
+    @AfterClass
+    public void stopServer()
+    {
+        server.stop(0);
+    }
+
+
+    private SpringRESTClientConnector getConnector(Map<String, Object> configurationProperties)
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress(platformURLRoot);
+        endpoint.setDisplayName("TestServer");
+
+        Connection connection = new Connection();
+
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        SpringRESTClientConnector connector = new SpringRESTClientConnector();
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    @Test
+    public void testCallsReuseConnections() throws Exception
+    {
+        SpringRESTClientConnector connector = getConnector(null);
+
+        clientAddresses.clear();
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals(connector.callGetRESTCall("testCallsReuseConnections",
+                                                   String.class,
+                                                   platformURLRoot + "/echo/{0}",
+                                                   i), "/echo/" + i);
+        }
+
+        assertEquals(clientAddresses.size(), 1);
+
+        connector.disconnect();
+    }
+
+
+    @Test
+    public void testEachConnectorHasItsOwnPool() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SpringRESTClientConnectorProvider.maxConnectionsPerRouteProperty, "5");
+
+        SpringRESTClientConnector limitedConnector = getConnector(configurationProperties);
+        SpringRESTClientConnector defaultConnector = getConnector(null);
+
+        assertNotSame(limitedConnector.getConnectionManager(), defaultConnector.getConnectionManager());
+
+        assertEquals(limitedConnector.getConnectionManager().getDefaultMaxPerRoute(), 5);
+        assertEquals(limitedConnector.getConnectionManager().getMaxTotal(), 5);
+        assertEquals(defaultConnector.getConnectionManager().getDefaultMaxPerRoute(), 20);
+
+        limitedConnector.disconnect();
+        defaultConnector.disconnect();
+    }
+
+
+    @Test
+    public void testReadTimeout() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SpringRESTClientConnectorProvider.readTimeoutProperty, 200);
+
+        SpringRESTClientConnector connector = getConnector(configurationProperties);
+
+        try
+        {
+            connector.callGetRESTCallNoParams("testReadTimeout", String.class, platformURLRoot + "/slow");
+            fail("Call should have timed out");
+        }
+        catch (RESTServerException error)
+        {
+            assertTrue(error.getErrorMessage().contains("SocketTimeoutException"));
+        }
+
+        connector.disconnect();
+    }
+
+
+    @Test
+    public void testDisconnectClosesPool() throws Exception
+    {
+        SpringRESTClientConnector connector = getConnector(null);
+
+        assertEquals(connector.callGetRESTCallNoParams("testDisconnectClosesPool",
+                                                       String.class,
+                                                       platformURLRoot + "/echo/before"), "/echo/before");
+
+        connector.disconnect();
+
+        try
+        {
+            connector.callGetRESTCallNoParams("testDisconnectClosesPool", String.class, platformURLRoot + "/echo/after");
+            fail("Call should fail once the connector is disconnected");
+        }
+        catch (RESTServerException error)
+        {
+            /* expected */
+        }
+    }
+}
@@ -49,6 +49,16 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         selectedTypesToProcess - list of TypeDefs used if the eventsToProcess rule (above) says
  *         "SELECTED_TYPES" - otherwise it is set to null.
  *     </li>
+ *     <li>
+ *         eventDeliveryQueueSize - the number of inbound events that can be waiting for each registered consumer
+ *         when the events are delivered asynchronously.  The default value of 0 means that the events are delivered
+ *         to each consumer in turn on the thread that produced the event.
+ *     </li>
+ *     <li>
+ *         eventDeliveryThreads - the number of threads delivering events to each registered consumer when
+ *         eventDeliveryQueueSize is set.  The events for a metadata instance are always delivered in order by the
+ *         same thread.  The default is 1.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -62,6 +72,8 @@ public class CohortConfig extends AdminServicesConfigHeader
     private OpenMetadataEventProtocolVersion cohortOMRSTopicProtocolVersion = null;
     private OpenMetadataExchangeRule         eventsToProcessRule            = null;
     private List<TypeDefSummary>             selectedTypesToProcess         = null;
+    private int                              eventDeliveryQueueSize         = 0;
+    private int                              eventDeliveryThreads           = 1;
 
 
 
@@ -90,6 +102,8 @@ public class CohortConfig extends AdminServicesConfigHeader
             cohortOMRSTopicProtocolVersion = template.getCohortOMRSTopicProtocolVersion();
             eventsToProcessRule = template.getEventsToProcessRule();
             selectedTypesToProcess = template.getSelectedTypesToProcess();
+            eventDeliveryQueueSize = template.getEventDeliveryQueueSize();
+            eventDeliveryThreads = template.getEventDeliveryThreads();
         }
     }
 
@@ -249,6 +263,54 @@ public class CohortConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the number of inbound events that can be waiting for each registered consumer.  Zero means the events are
+     * delivered synchronously on the thread that produced them.
+     *
+     * @return int queue size
+     */
+    public int getEventDeliveryQueueSize()
+    {
+        return eventDeliveryQueueSize;
+    }
+
+
+    /**
+     * Set up the number of inbound events that can be waiting for each registered consumer.  Zero means the events are
+     * delivered synchronously on the thread that produced them.
+     *
+     * @param eventDeliveryQueueSize int queue size
+     */
+    public void setEventDeliveryQueueSize(int eventDeliveryQueueSize)
+    {
+        this.eventDeliveryQueueSize = eventDeliveryQueueSize;
+    }
+
+
+    /**
+     * Return the number of threads delivering events to each registered consumer when the events are
+     * delivered asynchronously.
+     *
+     * @return int thread count
+     */
+    public int getEventDeliveryThreads()
+    {
+        return eventDeliveryThreads;
+    }
+
+
+    /**
+     * Set up the number of threads delivering events to each registered consumer when the events are
+     * delivered asynchronously.
+     *
+     * @param eventDeliveryThreads int thread count
+     */
+    public void setEventDeliveryThreads(int eventDeliveryThreads)
+    {
+        this.eventDeliveryThreads = eventDeliveryThreads;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -264,6 +326,8 @@ public class CohortConfig extends AdminServicesConfigHeader
                 ", cohortOMRSTopicProtocolVersion=" + cohortOMRSTopicProtocolVersion +
                 ", eventsToProcessRule=" + eventsToProcessRule +
                 ", selectedTypesToProcess=" + selectedTypesToProcess +
+                ", eventDeliveryQueueSize=" + eventDeliveryQueueSize +
+                ", eventDeliveryThreads=" + eventDeliveryThreads +
                 '}';
     }
 
@@ -291,7 +355,9 @@ public class CohortConfig extends AdminServicesConfigHeader
                 Objects.equals(getCohortOMRSTopicConnection(), that.getCohortOMRSTopicConnection()) &&
                 getCohortOMRSTopicProtocolVersion() == that.getCohortOMRSTopicProtocolVersion() &&
                 getEventsToProcessRule() == that.getEventsToProcessRule() &&
-                Objects.equals(getSelectedTypesToProcess(), that.getSelectedTypesToProcess());
+                Objects.equals(getSelectedTypesToProcess(), that.getSelectedTypesToProcess()) &&
+                getEventDeliveryQueueSize() == that.getEventDeliveryQueueSize() &&
+                getEventDeliveryThreads() == that.getEventDeliveryThreads();
     }
 
 
@@ -305,6 +371,7 @@ public class CohortConfig extends AdminServicesConfigHeader
     public int hashCode()
     {
         return Objects.hash(getCohortName(), getCohortRegistryConnection(), getCohortOMRSTopicConnection(),
-                            getCohortOMRSTopicProtocolVersion(), getEventsToProcessRule(), getSelectedTypesToProcess());
+                            getCohortOMRSTopicProtocolVersion(), getEventsToProcessRule(), getSelectedTypesToProcess(),
+                            getEventDeliveryQueueSize(), getEventDeliveryThreads());
     }
 }
@@ -8,6 +8,8 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.Map;
+
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
@@ -30,6 +32,11 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         enterpriseOMRSTopicProtocolVersion - the protocol version for the events passed on the
  *                                            enterprise OMRS topic.
  *     </li>
+ *     <li>
+ *         enterpriseConnectorConfigurationProperties - configuration properties for the enterprise repository
+ *                                                    connectors, such as the number of threads and the request
+ *                                                    timeout used to call the cohort members in parallel.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -41,6 +48,7 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private String                           enterpriseMetadataCollectionId     = null;
     private Connection                       enterpriseOMRSTopicConnection      = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion = null;
+    private Map<String, Object>              enterpriseConnectorConfigurationProperties = null;
 
 
     /**
@@ -177,6 +185,28 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the configuration properties passed to each enterprise repository connector.
+     *
+     * @return map of property names to values - null means use the defaults
+     */
+    public Map<String, Object> getEnterpriseConnectorConfigurationProperties()
+    {
+        return enterpriseConnectorConfigurationProperties;
+    }
+
+
+    /**
+     * Set up the configuration properties passed to each enterprise repository connector.
+     *
+     * @param enterpriseConnectorConfigurationProperties map of property names to values
+     */
+    public void setEnterpriseConnectorConfigurationProperties(Map<String, Object> enterpriseConnectorConfigurationProperties)
+    {
+        this.enterpriseConnectorConfigurationProperties = enterpriseConnectorConfigurationProperties;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -57,6 +57,16 @@ import java.util.Objects;
  *         APIs that can change metadata in the repository without going through the OMRS interfaces.
  *         It maps the proprietary events from the local repository to the OMRS Events.
  *     </li>
+ *     <li>
+ *         eventDeliveryQueueSize - the number of outbound events that can be waiting for each registered consumer
+ *         when the events are delivered asynchronously.  The default value of 0 means that the events are delivered
+ *         to each consumer in turn on the thread that produced the event.
+ *     </li>
+ *     <li>
+ *         eventDeliveryThreads - the number of threads delivering events to each registered consumer when
+ *         eventDeliveryQueueSize is set.  The events for a metadata instance are always delivered in order by the
+ *         same thread.  The default is 1.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -73,6 +83,8 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
     private OpenMetadataExchangeRule eventsToSendRule                = null;
     private List<TypeDefSummary>     selectedTypesToSend             = null;
     private Connection               eventMapperConnection           = null;
+    private int                      eventDeliveryQueueSize          = 0;
+    private int                      eventDeliveryThreads            = 1;
 
 
     /**
@@ -105,6 +117,8 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
             this.eventsToSendRule = template.getEventsToSendRule();
             this.selectedTypesToSend = template.getSelectedTypesToSend();
             this.eventMapperConnection = template.getEventMapperConnection();
+            this.eventDeliveryQueueSize = template.getEventDeliveryQueueSize();
+            this.eventDeliveryThreads = template.getEventDeliveryThreads();
         }
     }
 
@@ -363,6 +377,54 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the number of outbound events that can be waiting for each registered consumer.  Zero means the events are
+     * delivered synchronously on the thread that produced them.
+     *
+     * @return int queue size
+     */
+    public int getEventDeliveryQueueSize()
+    {
+        return eventDeliveryQueueSize;
+    }
+
+
+    /**
+     * Set up the number of outbound events that can be waiting for each registered consumer.  Zero means the events are
+     * delivered synchronously on the thread that produced them.
+     *
+     * @param eventDeliveryQueueSize int queue size
+     */
+    public void setEventDeliveryQueueSize(int eventDeliveryQueueSize)
+    {
+        this.eventDeliveryQueueSize = eventDeliveryQueueSize;
+    }
+
+
+    /**
+     * Return the number of threads delivering events to each registered consumer when the events are
+     * delivered asynchronously.
+     *
+     * @return int thread count
+     */
+    public int getEventDeliveryThreads()
+    {
+        return eventDeliveryThreads;
+    }
+
+
+    /**
+     * Set up the number of threads delivering events to each registered consumer when the events are
+     * delivered asynchronously.
+     *
+     * @param eventDeliveryThreads int thread count
+     */
+    public void setEventDeliveryThreads(int eventDeliveryThreads)
+    {
+        this.eventDeliveryThreads = eventDeliveryThreads;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -381,6 +443,8 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
                 ", eventsToSendRule=" + eventsToSendRule +
                 ", selectedTypesToSend=" + selectedTypesToSend +
                 ", eventMapperConnection=" + eventMapperConnection +
+                ", eventDeliveryQueueSize=" + eventDeliveryQueueSize +
+                ", eventDeliveryThreads=" + eventDeliveryThreads +
                 '}';
     }
 
@@ -411,7 +475,9 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
                 Objects.equals(getSelectedTypesToSave(), that.getSelectedTypesToSave()) &&
                 getEventsToSendRule() == that.getEventsToSendRule() &&
                 Objects.equals(getSelectedTypesToSend(), that.getSelectedTypesToSend()) &&
-                Objects.equals(getEventMapperConnection(), that.getEventMapperConnection());
+                Objects.equals(getEventMapperConnection(), that.getEventMapperConnection()) &&
+                getEventDeliveryQueueSize() == that.getEventDeliveryQueueSize() &&
+                getEventDeliveryThreads() == that.getEventDeliveryThreads();
     }
 
 
@@ -425,6 +491,7 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
     {
         return Objects.hash(getMetadataCollectionId(), getMetadataCollectionName(), getLocalRepositoryLocalConnection(),
                             getLocalRepositoryRemoteConnection(), getEventsToSaveRule(), getSelectedTypesToSave(),
-                            getEventsToSendRule(), getSelectedTypesToSend(), getEventMapperConnection());
+                            getEventsToSendRule(), getSelectedTypesToSend(), getEventMapperConnection(),
+                            getEventDeliveryQueueSize(), getEventDeliveryThreads());
     }
 }
@@ -36,7 +36,7 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                            OpenMetadataConnectionSecurity,
                                                            OpenMetadataAssetSecurity
 {
-    private OpenMetadataServerSecurityConnector connector   = null;
+    private volatile OpenMetadataServerSecurityConnector connector = null;
 
     // Todo remove - temporary workaround to being connectors into class path
     private CocoPharmaServerSecurityConnector   demoObject1 = null;
@@ -12,18 +12,22 @@ import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHisto
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ *
+ * The methods that look up the registered services are called on every REST request so they do not lock.
+ * The methods that change the registered services or the server's history are synchronized on the instance.
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final String                                    serverName;
+    private final List<OMAGServerInstanceHistory>           serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private volatile Date                                   serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier        securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -62,7 +66,7 @@ class OMAGServerInstance
      *
      * @return list of service names
      */
-    synchronized List<String>  getRegisteredServices()
+    List<String>  getRegisteredServices()
     {
         Set<String>  keySet = serviceInstanceMap.keySet();
 
@@ -82,7 +86,7 @@ class OMAGServerInstance
      *
      * @return start time
      */
-    synchronized Date getServerStartTime()
+    Date getServerStartTime()
     {
         return serverStartTime;
     }
@@ -158,7 +162,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -173,7 +177,7 @@ class OMAGServerInstance
     synchronized  void registerService(String                    serviceName,
                                        OMAGServerServiceInstance serviceInstance)
     {
-        if (serviceInstance != null)
+        if ((serviceName != null) && (serviceInstance != null))
         {
             serviceInstanceMap.put(serviceName, serviceInstance);
             serviceInstance.setSecurityVerifier(securityVerifier);
@@ -192,10 +196,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -207,7 +211,12 @@ class OMAGServerInstance
             throw new UserNotAuthorizedException(error);
         }
 
-        OMAGServerServiceInstance serverServiceInstance = serviceInstanceMap.get(serviceName);
+        OMAGServerServiceInstance serverServiceInstance = null;
+
+        if (serviceName != null)
+        {
+            serverServiceInstance = serviceInstanceMap.get(serviceName);
+        }
 
         if (serverServiceInstance == null)
         {
@@ -236,7 +245,10 @@ class OMAGServerInstance
      */
     synchronized  void unRegisterService(String   serviceName)
     {
-        serviceInstanceMap.remove(serviceName);
+        if (serviceName != null)
+        {
+            serviceInstanceMap.remove(serviceName);
+        }
     }
 
 
@@ -258,7 +270,7 @@ class OMAGServerInstance
                                                      + errorCode.getFormattedErrorMessage(serverName,
                                                                                           serviceInstanceMap.keySet().toString());
 
-            this.serviceInstanceMap = new HashMap<>();
+            this.serviceInstanceMap = new ConcurrentHashMap<>();
             throw new PropertyServerException(errorCode.getHTTPErrorCode(),
                                               this.getClass().getName(),
                                               methodName,
@@ -19,18 +19,23 @@ import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHisto
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerPlatformInstanceMap provides part of the mapping for inbound REST requests to the appropriate
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The maps are concurrent so that the
+ * lookups made on every REST request do not take a lock.  Only the methods that change the state of a server
+ * (start up, service registration and shutdown) are synchronized, so that a server moves between the active and
+ * inactive maps atomically with respect to other state changes.  A server that is moving is always added to its
+ * new map before it is removed from the old one so a lookup never sees a known server as unknown.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new ConcurrentHashMap<>();
+    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new ConcurrentHashMap<>();
 
 
     /**
@@ -254,6 +259,40 @@ public class OMAGServerPlatformInstanceMap
     }
 
 
+    /**
+     * Return the active server instance for the server name, or null if the server is not active.
+     *
+     * @param serverName name of the server
+     * @return OMAGServerInstance object or null
+     */
+    private static OMAGServerInstance getActiveServer(String serverName)
+    {
+        if (serverName == null)
+        {
+            return null;
+        }
+
+        return activeServerInstanceMap.get(serverName);
+    }
+
+
+    /**
+     * Return the inactive server instance for the server name, or null if the server is not known or is active.
+     *
+     * @param serverName name of the server
+     * @return OMAGServerInstance object or null
+     */
+    private static OMAGServerInstance getInactiveServer(String serverName)
+    {
+        if (serverName == null)
+        {
+            return null;
+        }
+
+        return inActiveServerInstanceMap.get(serverName);
+    }
+
+
     /**
      * Return an active server instance object for the requested service.  The server instance
      * may be new, already active, or known but inactive.
@@ -266,14 +305,14 @@ public class OMAGServerPlatformInstanceMap
         /*
          * Is this a server that is currently running?
          */
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance == null)
         {
             /*
              * Is this a known server that is currently inactive?
              */
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = getInactiveServer(serverName);
 
             if (serverInstance == null)
             {
@@ -346,12 +385,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return (activeServerInstanceMap.get(serverName) != null);
+        return (getActiveServer(serverName) != null);
     }
 
 
@@ -366,13 +405,13 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return ((activeServerInstanceMap.get(serverName) != null) ||
-                (inActiveServerInstanceMap.get(serverName) != null));
+        return ((getActiveServer(serverName) != null) ||
+                (getInactiveServer(serverName) != null));
     }
 
 
@@ -389,14 +428,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -431,7 +470,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -462,7 +501,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -473,16 +512,19 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        /*
+         * A server that is starting or stopping may briefly be in both maps.
+         */
+        Set<String> knownServerSet = new HashSet<>(activeServerInstanceMap.keySet());
+        knownServerSet.addAll(inActiveServerInstanceMap.keySet());
 
-        if (knownServerList.isEmpty())
+        if (knownServerSet.isEmpty())
         {
             return null;
         }
         else
         {
-            return knownServerList;
+            return new ArrayList<>(knownServerSet);
         }
     }
 
@@ -494,8 +536,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -523,17 +565,17 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static  Date getServerStartTimeFromPlatform(String  userId,
+                                                        String  serverName) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = getInactiveServer(serverName);
         }
 
         if (serverInstance != null)
@@ -560,17 +602,17 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static  Date getServerEndTimeFromPlatform(String  userId,
+                                                      String  serverName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = getInactiveServer(serverName);
         }
 
         if (serverInstance != null)
@@ -597,17 +639,17 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                 String  serverName) throws InvalidParameterException,
+                                                                                                            UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = getInactiveServer(serverName);
         }
 
         if (serverInstance != null)
@@ -633,13 +675,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -649,7 +691,7 @@ public class OMAGServerPlatformInstanceMap
         }
         else /* server is not active */
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = getInactiveServer(serverName);
 
             if (serverInstance != null)
             {
@@ -674,7 +716,7 @@ public class OMAGServerPlatformInstanceMap
     private static synchronized void removeInstanceForPlatform(String   serverName,
                                                                String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -697,7 +739,7 @@ public class OMAGServerPlatformInstanceMap
                                                        String   methodName) throws InvalidParameterException,
                                                                                    PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance == null)
         {
@@ -721,12 +763,12 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = getActiveServer(serverName);
 
         if (serverInstance != null)
         {
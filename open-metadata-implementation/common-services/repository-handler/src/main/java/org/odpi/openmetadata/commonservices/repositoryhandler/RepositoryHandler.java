@@ -13,7 +13,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -1124,6 +1126,8 @@ public class RepositoryHandler
 
             if (relationships != null)
             {
+                List<String> requiredEndGUIDs = new ArrayList<>();
+
                 for (Relationship relationship : relationships)
                 {
                     EntityProxy requiredEnd = relationship.getEntityOneProxy();
@@ -1132,8 +1136,10 @@ public class RepositoryHandler
                         requiredEnd = relationship.getEntityTwoProxy();
                     }
 
-                    results.add(metadataCollection.getEntityDetail(userId, requiredEnd.getGUID()));
+                    requiredEndGUIDs.add(requiredEnd.getGUID());
                 }
+
+                this.addEntitiesByGUIDs(userId, requiredEndGUIDs, results);
             }
             else
             {
@@ -1207,6 +1213,8 @@ public class RepositoryHandler
 
             if (relationships != null)
             {
+                List<String> requiredEndGUIDs = new ArrayList<>();
+
                 for (Relationship relationship : relationships)
                 {
                     EntityProxy anchorEndProxy = relationship.getEntityOneProxy();
@@ -1220,9 +1228,11 @@ public class RepositoryHandler
 
                     if (anchorEntityGUID.equals(anchorEndProxy.getGUID()))
                     {
-                        results.add(metadataCollection.getEntityDetail(userId, requiredEndProxy.getGUID()));
+                        requiredEndGUIDs.add(requiredEndProxy.getGUID());
                     }
                 }
+
+                this.addEntitiesByGUIDs(userId, requiredEndGUIDs, results);
             }
             else
             {
@@ -1253,6 +1263,57 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Retrieve the entities at the other end of a set of relationships with a single request to the
+     * metadata collection and add them to the results in the order of the guids.  Any entity that the
+     * single request does not return (because it is not known, only a proxy or deleted) is requested on
+     * its own so the caller receives the same error that it would have received from getEntityDetail.
+     *
+     * @param userId  user making the request
+     * @param guids  unique identifiers of the required entities
+     * @param results  list to add the retrieved entities to
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException one of the guids is null
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException problem accessing the metadata collection
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException one of the entities is not known
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException only a proxy is stored for one of the entities
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException security access problem
+     */
+    private void addEntitiesByGUIDs(String             userId,
+                                    List<String>       guids,
+                                    List<EntityDetail> results) throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+                                                                       org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException,
+                                                                       org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException,
+                                                                       org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException,
+                                                                       org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException
+    {
+        if (! guids.isEmpty())
+        {
+            Map<String, EntityDetail> retrievedEntities = new HashMap<>();
+            List<EntityDetail>        entities          = metadataCollection.getEntitiesByGUIDs(userId, guids);
+
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    retrievedEntities.put(entity.getGUID(), entity);
+                }
+            }
+
+            for (String guid : guids)
+            {
+                EntityDetail entity = retrievedEntities.get(guid);
+
+                if (entity == null)
+                {
+                    entity = metadataCollection.getEntityDetail(userId, guid);
+                }
+
+                results.add(entity);
+            }
+        }
+    }
+
+
     /**
      * Return the list of entities at the other end of the requested relationship type that were created or edited by
      * the requesting user.
@@ -1664,6 +1725,53 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the requested entities with a single request to the metadata collection, converting any errors
+     * from the repository services into the local OMAS exceptions.  Unlike getEntityByGUID, no error is returned
+     * for an entity that is not known, is only stored as a proxy or is deleted - it is simply left out of the
+     * results.  The caller must compare the results with the requested guids if it needs all of the entities.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers for the entities
+     * @param methodName calling method name
+     *
+     * @return list of entity detail objects in the order of the requested guids (empty if none are known)
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entities.
+     */
+    public List<EntityDetail> getEntitiesByGUIDs(String                 userId,
+                                                 List<String>           guids,
+                                                 String                 methodName) throws UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        List<EntityDetail> results = new ArrayList<>();
+
+        try
+        {
+            if (! guids.isEmpty())
+            {
+                List<EntityDetail> entities = metadataCollection.getEntitiesByGUIDs(userId, guids);
+
+                if (entities != null)
+                {
+                    results = entities;
+                }
+            }
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
+        }
+
+        return results;
+    }
+
+
     /**
      * Test whether an entity is of a particular type or not.
      *
@@ -2135,7 +2243,8 @@ public class RepositoryHandler
 
 
     /**
-     * Count the number of relationships of a specific type attached to an anchor entity.
+     * Count the number of relationships of a specific type attached to an anchor entity.  The relationships
+     * are counted by the repository rather than being retrieved.
      *
      * @param userId  user making the request
      * @param anchorEntityGUID  starting entity's GUID
@@ -2157,27 +2266,32 @@ public class RepositoryHandler
                                                 String                 methodName) throws PropertyServerException,
                                                                                           UserNotAuthorizedException
     {
-        List<Relationship> relationships = this.getRelationshipsByType(userId,
+        try
+        {
+            int count = metadataCollection.countRelationshipsForEntity(userId,
                                                                        anchorEntityGUID,
-                                                                       anchorEntityTypeName,
                                                                        relationshipTypeGUID,
-                                                                       relationshipTypeName,
-                                                                       methodName);
-
-        int count = 0;
+                                                                       null,
+                                                                       null);
 
-        if (relationships != null)
-        {
-            for (Relationship relationship : relationships)
+            if ((count == 0) && (log.isDebugEnabled()))
             {
-                if (relationship != null)
-                {
-                    count ++;
-                }
+                log.debug("No relationships of type " + relationshipTypeName +
+                          " found for " + anchorEntityTypeName + " entity " + anchorEntityGUID);
             }
+
+            return count;
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
         }
 
-        return count;
+        return 0;
     }
 
 
@@ -2451,6 +2565,87 @@ public class RepositoryHandler
         }
     }
 
+    /**
+     * Create a set of new entities and the relationships between them from an external source in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request that refer to it.
+     *
+     * @param userId calling user
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships
+     * @param methodName name of calling method
+     *
+     * @return the new entities and relationships in the order of the request
+     * @throws PropertyServerException problem accessing property server
+     * @throws UserNotAuthorizedException security access problem
+     */
+    public InstanceGraph createExternalInstances(String                  userId,
+                                                 String                  externalSourceGUID,
+                                                 String                  externalSourceName,
+                                                 InstanceGraph           instances,
+                                                 String                  methodName) throws UserNotAuthorizedException,
+            PropertyServerException
+    {
+        try
+        {
+            return metadataCollection.addExternalInstances(userId,
+                                                           externalSourceGUID,
+                                                           externalSourceName,
+                                                           instances);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
+        }
+
+        return null;
+    }
+
+    /**
+     * Return a new relationship between two existing entities that can be passed to createExternalInstances.
+     * Only the type, the ends, the properties and the status are filled out since the repository
+     * sets up the rest of the header when the relationship is stored.
+     *
+     * @param relationshipTypeGUID unique identifier of the relationship's type
+     * @param relationshipTypeName unique name of the relationship's type
+     * @param end1GUID entity to store at end 1
+     * @param end2GUID entity to store at end 2
+     * @param relationshipProperties properties for the relationship
+     *
+     * @return new relationship
+     */
+    public Relationship getNewRelationship(String                  relationshipTypeGUID,
+                                           String                  relationshipTypeName,
+                                           String                  end1GUID,
+                                           String                  end2GUID,
+                                           InstanceProperties      relationshipProperties)
+    {
+        InstanceType relationshipType = new InstanceType();
+
+        relationshipType.setTypeDefGUID(relationshipTypeGUID);
+        relationshipType.setTypeDefName(relationshipTypeName);
+
+        EntityProxy end1 = new EntityProxy();
+        end1.setGUID(end1GUID);
+
+        EntityProxy end2 = new EntityProxy();
+        end2.setGUID(end2GUID);
+
+        Relationship relationship = new Relationship();
+
+        relationship.setType(relationshipType);
+        relationship.setEntityOneProxy(end1);
+        relationship.setEntityTwoProxy(end2);
+        relationship.setProperties(relationshipProperties);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+
+        return relationship;
+    }
+
     /**
      * Delete a relationship between two entities.  If delete is not supported, purge is used.
      *
@@ -7,4 +7,6 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 public interface OpenLineageGraphStore {
 
     void start() throws ConnectorCheckedException;
+
+    void disconnect() throws ConnectorCheckedException;
 }
@@ -4,6 +4,8 @@ package org.odpi.openmetadata.governanceservers.openlineage.buffergraphstore;
 
 import org.odpi.openmetadata.accessservices.assetlineage.model.event.LineageEvent;
 import org.odpi.openmetadata.governanceservers.openlineage.OpenLineageGraphStore;
+import org.odpi.openmetadata.governanceservers.openlineage.maingraphstore.MainGraph;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 public interface BufferGraph extends OpenLineageGraphStore {
 
@@ -22,4 +24,18 @@ public interface BufferGraph extends OpenLineageGraphStore {
 
     void setMainGraph(Object mainGraph);
 
+    /**
+     * Set the connector of the main graph, which is told when new lineage is committed to the main graph.
+     *
+     * @param mainGraphConnector main graph connector
+     */
+    void setMainGraphConnector(MainGraph mainGraphConnector);
+
+    /**
+     * Set the audit log for the lineage events that could not be stored.
+     *
+     * @param auditLog audit log of the open lineage server
+     */
+    void setAuditLog(OMRSAuditLog auditLog);
+
 }
@@ -6,9 +6,14 @@ import org.odpi.openmetadata.accessservices.assetlineage.model.event.LineageEven
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.governanceservers.openlineage.maingraphstore.MainGraph;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 public class BufferGraphConnectorBase extends ConnectorBase implements BufferGraph {
 
+    protected OMRSAuditLog auditLog = null;
+    protected MainGraph mainGraphConnector = null;
+
     /**
      * Initialize the connector.
      *
@@ -44,4 +49,14 @@ public class BufferGraphConnectorBase extends ConnectorBase implements BufferGra
     public void setMainGraph(Object mainGraph) {
 
     }
+
+    @Override
+    public void setMainGraphConnector(MainGraph mainGraphConnector) {
+        this.mainGraphConnector = mainGraphConnector;
+    }
+
+    @Override
+    public void setAuditLog(OMRSAuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
 }
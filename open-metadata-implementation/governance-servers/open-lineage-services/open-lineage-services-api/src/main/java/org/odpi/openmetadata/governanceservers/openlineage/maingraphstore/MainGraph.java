@@ -45,5 +45,10 @@ public interface MainGraph extends OpenLineageGraphStore {
     String exportGraph(String graphName);
 
     Object getMainGraph();
+
+    /**
+     * Called after the buffer graph has committed new lineage to the main graph.
+     */
+    void mainGraphChanged();
 }
 
@@ -57,4 +57,9 @@ public class MainGraphConnectorBase extends ConnectorBase implements MainGraph {
     public Object getMainGraph() {
         return null;
     }
+
+    @Override
+    public void mainGraphChanged() {
+
+    }
 }
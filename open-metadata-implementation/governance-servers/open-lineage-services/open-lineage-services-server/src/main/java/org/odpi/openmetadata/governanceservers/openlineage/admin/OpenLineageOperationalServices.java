@@ -46,6 +46,7 @@ public class OpenLineageOperationalServices {
     private OpenMetadataTopicConnector inTopicConnector;
     private OpenLineageConfig openLineageConfig;
     private OpenLineageServicesInstance instance;
+    private BufferGraph bufferGraphConnector;
 
     /**
      * Constructor used at server startup.
@@ -82,11 +83,13 @@ public class OpenLineageOperationalServices {
         Connection bufferGraphConnection = openLineageConfig.getOpenLineageBufferGraphConnection();
         Connection mainGraphConnection = openLineageConfig.getOpenLineageMainGraphConnection();
 
-        BufferGraph bufferGraphConnector = (BufferGraph) getGraphConnector(bufferGraphConnection);
+        bufferGraphConnector = (BufferGraph) getGraphConnector(bufferGraphConnection);
         MainGraph mainGraphConnector = (MainGraph) getGraphConnector(mainGraphConnection);
 
         Object mainGraph = mainGraphConnector.getMainGraph();
         bufferGraphConnector.setMainGraph(mainGraph);
+        bufferGraphConnector.setMainGraphConnector(mainGraphConnector);
+        bufferGraphConnector.setAuditLog(auditLog);
 
         try {
             bufferGraphConnector.start();
@@ -99,7 +102,7 @@ public class OpenLineageOperationalServices {
             log.error("Could not start the main graph connector.");
         }
         //TODO check for null
-        GraphStoringServices graphStoringServices = new GraphStoringServices(bufferGraphConnector);
+        GraphStoringServices graphStoringServices = new GraphStoringServices(bufferGraphConnector, mainGraphConnector);
         GraphQueryingServices graphServices = new GraphQueryingServices(mainGraphConnector);
 
         this.instance = new OpenLineageServicesInstance(graphServices, localServerName);
@@ -204,6 +207,15 @@ public class OpenLineageOperationalServices {
             return false;
         }
 
+        try {
+            if (bufferGraphConnector != null) {
+                bufferGraphConnector.disconnect();
+            }
+        } catch (ConnectorCheckedException e) {
+            log.error("Error disconnecting the buffer graph connector");
+            return false;
+        }
+
         if (instance != null) {
             instance.shutdown();
         }
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.governanceservers.openlineage.services;
 
 import org.odpi.openmetadata.accessservices.assetlineage.model.event.LineageEvent;
 import org.odpi.openmetadata.governanceservers.openlineage.buffergraphstore.BufferGraph;
+import org.odpi.openmetadata.governanceservers.openlineage.maingraphstore.MainGraph;
 import org.odpi.openmetadata.governanceservers.openlineage.scheduler.JobConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,16 +14,25 @@ public class GraphStoringServices {
     private static final Logger log = LoggerFactory.getLogger(GraphStoringServices.class);
 
     private BufferGraph bufferGraph;
+    private MainGraph mainGraph;
     private JobConfiguration jobConfiguration;
 
-    public GraphStoringServices(BufferGraph graphStore) {
+    public GraphStoringServices(BufferGraph graphStore, MainGraph mainGraph) {
         this.bufferGraph = graphStore;
+        this.mainGraph = mainGraph;
         this.jobConfiguration = new JobConfiguration(graphStore);
 
     }
 
+    /**
+     * Add the lineage event to the buffer graph and tell the main graph about it, so that it can drop
+     * the cached lineage of the nodes it changes.
+     *
+     * @param lineageEvent event from the Asset Lineage OMAS.
+     */
     public void addEntity(LineageEvent lineageEvent){
         bufferGraph.addEntity(lineageEvent);
+        mainGraph.addEntity(lineageEvent);
     }
 
 }
@@ -196,6 +196,18 @@ public enum OMRSAuditCode
                                 "open metadata repository cohort.",
                       "No action is required.  This is part of the normal operation of the server."),
 
+    ASYNCHRONOUS_EVENT_DELIVERY("OMRS-AUDIT-0027",
+                               OMRSAuditLogRecordSeverity.INFO,
+                               "The {0} event manager is delivering events asynchronously with a queue of {1} events and {2} delivery thread(s) for each event consumer",
+                               "Events are queued for each event consumer and delivered by the consumer's delivery threads.  The events for a metadata instance are delivered in order.",
+                               "No action is required.  This is part of the normal operation of the server."),
+
+    EVENT_DELIVERY_ERROR("OMRS-AUDIT-0028",
+                               OMRSAuditLogRecordSeverity.EXCEPTION,
+                               "The {0} event manager received a {1} exception when delivering an event to the {2} event consumer.  The error message was: {3}",
+                               "The event consumer has not processed the event.  The event manager continues to deliver later events to the consumer.",
+                               "Review the error message and any other messages from the event consumer to determine the cause of the error."),
+
     INITIALIZING_EVENT_MANAGER("OMRS-AUDIT-0029",
                                OMRSAuditLogRecordSeverity.INFO,
                                "The {0} event manager is initializing",
@@ -306,6 +318,18 @@ public enum OMRSAuditCode
                        "The local server has completed the processing of the open metadata archive.",
                        "No action is required.  This is part of the normal operation of the server."),
 
+    ARCHIVE_PROGRESS("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) has loaded {0} instances from open metadata archive {1} so far",
+                       "The local server is loading the instances from a large open metadata archive in batches.",
+                       "No action is required.  This is part of the normal operation of the server."),
+
+    INCOMPLETE_ARCHIVE("OMRS-AUDIT-0055",
+                       OMRSAuditLogRecordSeverity.ERROR,
+                       "The Open Metadata Repository Services (OMRS) was unable to finish reading open metadata archive {0}: {1}",
+                       "The local server has loaded the contents of the archive that were read before the error and skipped the rest.",
+                       "Check that the archive file is complete and readable and then load the archive again."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.INFO,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
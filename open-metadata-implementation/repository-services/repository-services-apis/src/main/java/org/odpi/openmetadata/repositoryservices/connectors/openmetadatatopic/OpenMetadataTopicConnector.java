@@ -2,11 +2,23 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
@@ -16,6 +28,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.auditable.AuditableCo
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +38,9 @@ import org.slf4j.LoggerFactory;
  * extend this class to include the interaction with the eventing/messaging layer.
  * <ul>
  *     <li>
- *         For inbound events it should call the protected distributeEvents() method.
+ *         For inbound events it should call the protected receiveEvent() method as each event arrives.
+ *         The listener thread is woken immediately to pass the event to the listeners.  (Implementations
+ *         may instead override checkForIncomingEvents(), which is polled every sleepTime milliseconds.)
  *     </li>
  *     <li>
  *         For outbound events, callers will invoke the sendEvent() method.
@@ -34,6 +49,14 @@ import org.slf4j.LoggerFactory;
  *         When the server no longer needs the topic, it will call disconnect().
  *     </li>
  * </ul>
+ * By default the events are passed to the listeners one at a time on the listener thread.  If the listenerThreads
+ * configuration property is set, the events are passed to the listeners on a pool of that many worker threads.
+ * Events about the same instance (identified by its GUID) are always processed by the same worker so they are
+ * processed in the order they were received.  A relationship event is about the relationship and the entities
+ * at each end.  If these instances belong to different workers, or the instances of an event can not be
+ * identified, the event acts as a barrier: the listener thread waits for the workers to finish the earlier
+ * events and then processes it before passing on any later events.  Each worker has a queue of at most
+ * listenerQueueSize events.  The listener thread waits when a worker's queue is full.
  */
 public abstract class OpenMetadataTopicConnector extends ConnectorBase implements OpenMetadataTopic,
                                                                                   Runnable,
@@ -50,6 +73,11 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     private String                          listenerThreadName = defaultThreadName;
     private String                          topicName          = defaultTopicName;
     private int                             sleepTime          = 100;
+    private int                             listenerThreads    = 0;
+    private int                             listenerQueueSize  = 1000;
+
+    private final BlockingQueue<IncomingEvent> incomingEventQueue = new LinkedBlockingQueue<>();
+    private List<ExecutorService>              eventDispatchers   = null;
 
     protected OMRSAuditLog auditLog = null;
 
@@ -101,7 +129,7 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                         {
                             if (event != null)
                             {
-                                this.distributeEvent(event);
+                                this.dispatchEvent(event);
                             }
                         }
                     }
@@ -111,7 +139,17 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                     log.error("Bad exception from checkForEvents", error);
                 }
 
-                Thread.sleep(sleepTime);
+                /*
+                 * Wait for events passed to receiveEvent().  The timeout controls how often
+                 * checkForIncomingEvents() is called.
+                 */
+                IncomingEvent event = incomingEventQueue.poll(sleepTime, TimeUnit.MILLISECONDS);
+
+                while (event != null)
+                {
+                    this.dispatchEvent(event);
+                    event = incomingEventQueue.poll();
+                }
             }
             catch (InterruptedException   wakeUp)
             {
@@ -119,6 +157,8 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
             }
         }
 
+        this.shutdownEventDispatchers();
+
         auditCode = OMRSAuditCode.OPEN_METADATA_TOPIC_LISTENER_SHUTDOWN;
         auditLog.logRecord(listenerThreadName,
                            auditCode.getLogMessageId(),
@@ -130,6 +170,265 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Queue an event that has been received on the topic.  This wakes the listener thread to pass it
+     * to the registered listeners.  This method does not block.
+     *
+     * @param event event received from the event bus
+     */
+    protected void receiveEvent(IncomingEvent event)
+    {
+        if (event != null)
+        {
+            incomingEventQueue.add(event);
+        }
+    }
+
+
+    /**
+     * Return the number of events passed to receiveEvent() that the listener thread has not yet
+     * passed on for processing.
+     *
+     * @return count of events
+     */
+    protected int getIncomingEventQueueSize()
+    {
+        return incomingEventQueue.size();
+    }
+
+
+    /**
+     * Pass an event to the listeners - either directly on the listener thread or through the worker
+     * responsible for the instances that the event is about.
+     *
+     * @param event event to distribute
+     */
+    private void dispatchEvent(IncomingEvent event)
+    {
+        if (eventDispatchers == null)
+        {
+            this.distributeEvent(event);
+        }
+        else
+        {
+            Set<Integer> dispatcherIndexes = new HashSet<>();
+
+            for (String orderingKey : getOrderingKeys(event))
+            {
+                dispatcherIndexes.add(Math.floorMod(orderingKey.hashCode(), eventDispatchers.size()));
+            }
+
+            if (dispatcherIndexes.size() == 1)
+            {
+                try
+                {
+                    eventDispatchers.get(dispatcherIndexes.iterator().next()).execute(() -> distributeEvent(event));
+                }
+                catch (RejectedExecutionException error)
+                {
+                    /*
+                     * The dispatchers are shutting down.
+                     */
+                    log.debug("Event not dispatched", error);
+                }
+            }
+            else
+            {
+                this.distributeEventAfterBarrier(event);
+            }
+        }
+    }
+
+
+    /**
+     * Wait for all of the workers to finish the events already passed to them and then pass the event to the
+     * listeners on the listener thread.  Later events are not dispatched until this event has been processed.
+     *
+     * @param event event to distribute
+     */
+    private void distributeEventAfterBarrier(IncomingEvent event)
+    {
+        List<Future<?>> barriers = new ArrayList<>();
+
+        try
+        {
+            for (ExecutorService dispatcher : eventDispatchers)
+            {
+                barriers.add(dispatcher.submit(() -> {}));
+            }
+
+            for (Future<?> barrier : barriers)
+            {
+                barrier.get();
+            }
+        }
+        catch (RejectedExecutionException error)
+        {
+            /*
+             * The dispatchers are shutting down.
+             */
+            log.debug("Event not dispatched", error);
+            return;
+        }
+        catch (InterruptedException error)
+        {
+            /*
+             * The event is still processed rather than lost, although it may overtake earlier events.
+             */
+            log.info("Interrupted waiting for listener workers");
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException error)
+        {
+            log.debug("Listener worker barrier failed", error);
+        }
+
+        this.distributeEvent(event);
+    }
+
+
+    /**
+     * Return the GUIDs of the instances that an event is about.  These are used to choose the worker for the
+     * event.  For an OMRS instance event they are the GUIDs of the entity or relationship in the event, along
+     * with the entities at each end of a relationship.  For other types of event it is the first GUID found
+     * in the event.  An empty list means the event must be processed in order with all other events.  This
+     * is returned for OMRS events that are not about a single instance (such as type and registry events and
+     * batches of instances), and events that can not be parsed or have no GUID.
+     *
+     * @param event event to distribute
+     * @return list of GUIDs
+     */
+    protected List<String> getOrderingKeys(IncomingEvent event)
+    {
+        List<String> orderingKeys = new ArrayList<>();
+
+        if (event.getJson() != null)
+        {
+            try
+            {
+                JsonNode eventNode = OMRSJSONMapper.getObjectMapper().readTree(event.getJson());
+
+                if ((eventNode != null) && (eventNode.isObject()))
+                {
+                    JsonNode instanceSection = eventNode.get("instanceEventSection");
+
+                    if ((instanceSection != null) && (instanceSection.isObject()))
+                    {
+                        if (! instanceSection.hasNonNull("instanceBatch"))
+                        {
+                            this.addGUID(orderingKeys, instanceSection.path("instanceGUID"));
+                            this.addGUID(orderingKeys, instanceSection.path("originalInstanceGUID"));
+                            this.addGUID(orderingKeys, instanceSection.path("entity").path("guid"));
+                            this.addGUID(orderingKeys, instanceSection.path("originalEntity").path("guid"));
+
+                            for (String relationshipField : new String[]{"relationship", "originalRelationship"})
+                            {
+                                JsonNode relationshipNode = instanceSection.path(relationshipField);
+
+                                this.addGUID(orderingKeys, relationshipNode.path("guid"));
+                                this.addGUID(orderingKeys, relationshipNode.path("entityOneProxy").path("guid"));
+                                this.addGUID(orderingKeys, relationshipNode.path("entityTwoProxy").path("guid"));
+                            }
+                        }
+                    }
+                    else if (! eventNode.has("eventCategory"))
+                    {
+                        this.addGUID(orderingKeys, eventNode.findValue("guid"));
+                    }
+                }
+            }
+            catch (IOException error)
+            {
+                log.debug("Unable to parse event to find its instances", error);
+            }
+        }
+
+        return orderingKeys;
+    }
+
+
+    /**
+     * Add a GUID from the event to the list of ordering keys if it is present.
+     *
+     * @param orderingKeys list of GUIDs
+     * @param guidNode node from the event
+     */
+    private void addGUID(List<String> orderingKeys,
+                         JsonNode     guidNode)
+    {
+        if ((guidNode != null) && (guidNode.isTextual()))
+        {
+            orderingKeys.add(guidNode.asText());
+        }
+    }
+
+
+    /**
+     * Create a single threaded executor for each of the requested listener threads.  Each has a bounded queue
+     * and the caller waits for space on the queue when it is full.
+     */
+    private void createEventDispatchers()
+    {
+        eventDispatchers = new ArrayList<>();
+
+        for (int i = 0; i < listenerThreads; i++)
+        {
+            final String dispatcherThreadName = listenerThreadName + " worker " + i;
+
+            ThreadPoolExecutor dispatcher = new ThreadPoolExecutor(1,
+                                                                   1,
+                                                                   0L,
+                                                                   TimeUnit.MILLISECONDS,
+                                                                   new LinkedBlockingQueue<>(listenerQueueSize),
+                                                                   (runnable) -> new Thread(runnable, dispatcherThreadName),
+                                                                   (runnable, executor) -> waitForSpace(runnable, executor));
+            eventDispatchers.add(dispatcher);
+        }
+    }
+
+
+    /**
+     * Rejected execution handler that waits for space on the worker's queue rather than running the
+     * event on the caller's thread, which would break the ordering of the events.
+     *
+     * @param runnable event processing
+     * @param executor worker that rejected it
+     */
+    private static void waitForSpace(Runnable           runnable,
+                                     ThreadPoolExecutor executor)
+    {
+        if (executor.isShutdown())
+        {
+            throw new RejectedExecutionException("Listener worker is shut down");
+        }
+
+        try
+        {
+            executor.getQueue().put(runnable);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for listener worker", error);
+        }
+    }
+
+
+    /**
+     * Stop the workers once they have processed the events already passed to them.
+     */
+    private void shutdownEventDispatchers()
+    {
+        if (eventDispatchers != null)
+        {
+            for (ExecutorService dispatcher : eventDispatchers)
+            {
+                dispatcher.shutdown();
+            }
+        }
+    }
+
+
     /**
      * Pass an event that has been received on the topic to each of the registered listeners.
      *
@@ -178,7 +477,8 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * Look to see if there is one of more new events to process.  This is called by the listener thread
+     * every sleepTime milliseconds.  Implementations that call receiveEvent() do not need to override it.
      *
      * @return a list of received events or null
      */
@@ -277,14 +577,52 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                 {
                     this.sleepTime = (Integer)sleepTime;
                 }
+
+                this.listenerThreads = getIntProperty(configurationProperties.get("listenerThreads"), listenerThreads);
+                this.listenerQueueSize = getIntProperty(configurationProperties.get("listenerQueueSize"), listenerQueueSize);
             }
         }
 
+        if (listenerThreads > 0)
+        {
+            this.createEventDispatchers();
+        }
+
         Thread listenerThread = new Thread(this, listenerThreadName);
         listenerThread.start();
     }
 
 
+    /**
+     * Return the integer value of a configuration property that may be supplied as a number or a string.
+     *
+     * @param propertyValue value from the configuration properties
+     * @param defaultValue value to use if the property is not set or not valid
+     * @return int
+     */
+    private int getIntProperty(Object propertyValue,
+                               int    defaultValue)
+    {
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).intValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Integer.parseInt((String)propertyValue);
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Invalid integer configuration property value " + propertyValue);
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
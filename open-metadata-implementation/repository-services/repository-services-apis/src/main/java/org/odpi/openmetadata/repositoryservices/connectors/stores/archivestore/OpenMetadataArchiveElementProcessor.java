@@ -0,0 +1,78 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+/**
+ * OpenMetadataArchiveElementProcessor receives the contents of an open metadata archive one element at a time.
+ * It is passed to OpenMetadataArchiveStoreConnector.processArchiveContents() so that an archive can be loaded
+ * without holding all of its contents in memory.
+ *
+ * The archive properties are passed first, followed by the type store (TypeDef patches, then AttributeTypeDefs,
+ * then new TypeDefs) and finally the instance store (entities, relationships and classifications).
+ */
+public interface OpenMetadataArchiveElementProcessor
+{
+    /**
+     * Process the header of the archive.
+     *
+     * @param archiveProperties properties of the archive (may be null if the archive has no header)
+     * @return boolean flag indicating whether the rest of the archive should be processed
+     */
+    boolean processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Process a patch to an existing TypeDef.
+     *
+     * @param typeDefPatch patch from the type store
+     */
+    void processTypeDefPatch(TypeDefPatch typeDefPatch);
+
+
+    /**
+     * Process a new AttributeTypeDef.
+     *
+     * @param attributeTypeDef AttributeTypeDef from the type store
+     */
+    void processAttributeTypeDef(AttributeTypeDef attributeTypeDef);
+
+
+    /**
+     * Process a new TypeDef.
+     *
+     * @param typeDef TypeDef from the type store
+     */
+    void processTypeDef(TypeDef typeDef);
+
+
+    /**
+     * Process an entity from the instance store.
+     *
+     * @param entity entity from the archive
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Process a relationship from the instance store.
+     *
+     * @param relationship relationship from the archive
+     */
+    void processRelationship(Relationship relationship);
+
+
+    /**
+     * Process a classification from the instance store.
+     *
+     * @param classification classification and the entity it is attached to
+     */
+    void processClassification(ClassificationEntityExtension classification);
+}
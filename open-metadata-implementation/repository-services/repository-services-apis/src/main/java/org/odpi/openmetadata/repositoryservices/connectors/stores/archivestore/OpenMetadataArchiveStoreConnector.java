@@ -5,6 +5,16 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.auditable.AuditableConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 
 /**
  * OpenMetadataArchiveStoreConnector is the base class for connectors that support the OpenMetadataArchiveStore
@@ -25,4 +35,141 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
     {
         this.auditLog = auditLog;
     }
+
+
+    /**
+     * Pass the contents of the archive to the processor one element at a time.  This implementation
+     * retrieves the whole archive using getArchiveContents().  Connectors to large archives should override
+     * this method to read the archive incrementally.  A connector that fails part way through the archive
+     * throws an OMRSRuntimeException so that the archive is not reported as loaded.
+     *
+     * @param processor receiver of the archive's contents
+     * @return boolean flag indicating whether the archive had any content
+     * @throws OMRSRuntimeException the archive could not be read to the end
+     */
+    public boolean processArchiveContents(OpenMetadataArchiveElementProcessor processor) throws OMRSRuntimeException
+    {
+        return processArchiveContents(this.getArchiveContents(), processor);
+    }
+
+
+    /**
+     * Pass the contents of an archive that is already in memory to the processor one element at a time.
+     *
+     * @param archiveContents contents of an archive
+     * @param processor receiver of the archive's contents
+     * @return boolean flag indicating whether the archive had any content
+     */
+    public static boolean processArchiveContents(OpenMetadataArchive                 archiveContents,
+                                                 OpenMetadataArchiveElementProcessor processor)
+    {
+        if (archiveContents == null)
+        {
+            return false;
+        }
+
+        if (processor.processArchiveProperties(archiveContents.getArchiveProperties()))
+        {
+            processTypeStore(archiveContents.getArchiveTypeStore(), processor);
+            processInstanceStore(archiveContents.getArchiveInstanceStore(), processor);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Pass the contents of a type store to the processor.  The patches are passed first, then the
+     * AttributeTypeDefs and finally the new TypeDefs.
+     *
+     * @param archiveTypeStore type store from the archive (may be null)
+     * @param processor receiver of the types
+     */
+    protected static void processTypeStore(OpenMetadataArchiveTypeStore        archiveTypeStore,
+                                           OpenMetadataArchiveElementProcessor processor)
+    {
+        if (archiveTypeStore != null)
+        {
+            if (archiveTypeStore.getTypeDefPatches() != null)
+            {
+                for (TypeDefPatch typeDefPatch : archiveTypeStore.getTypeDefPatches())
+                {
+                    if (typeDefPatch != null)
+                    {
+                        processor.processTypeDefPatch(typeDefPatch);
+                    }
+                }
+            }
+
+            if (archiveTypeStore.getAttributeTypeDefs() != null)
+            {
+                for (AttributeTypeDef attributeTypeDef : archiveTypeStore.getAttributeTypeDefs())
+                {
+                    if (attributeTypeDef != null)
+                    {
+                        processor.processAttributeTypeDef(attributeTypeDef);
+                    }
+                }
+            }
+
+            if (archiveTypeStore.getNewTypeDefs() != null)
+            {
+                for (TypeDef typeDef : archiveTypeStore.getNewTypeDefs())
+                {
+                    if (typeDef != null)
+                    {
+                        processor.processTypeDef(typeDef);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Pass the contents of an instance store to the processor.  The entities are passed first, then the
+     * relationships and finally the classifications.
+     *
+     * @param archiveInstanceStore instance store from the archive (may be null)
+     * @param processor receiver of the instances
+     */
+    private static void processInstanceStore(OpenMetadataArchiveInstanceStore    archiveInstanceStore,
+                                             OpenMetadataArchiveElementProcessor processor)
+    {
+        if (archiveInstanceStore != null)
+        {
+            if (archiveInstanceStore.getEntities() != null)
+            {
+                for (EntityDetail entity : archiveInstanceStore.getEntities())
+                {
+                    if (entity != null)
+                    {
+                        processor.processEntity(entity);
+                    }
+                }
+            }
+
+            if (archiveInstanceStore.getRelationships() != null)
+            {
+                for (Relationship relationship : archiveInstanceStore.getRelationships())
+                {
+                    if (relationship != null)
+                    {
+                        processor.processRelationship(relationship);
+                    }
+                }
+            }
+
+            if (archiveInstanceStore.getClassifications() != null)
+            {
+                for (ClassificationEntityExtension classification : archiveInstanceStore.getClassifications())
+                {
+                    if (classification != null)
+                    {
+                        processor.processClassification(classification);
+                    }
+                }
+            }
+        }
+    }
 }
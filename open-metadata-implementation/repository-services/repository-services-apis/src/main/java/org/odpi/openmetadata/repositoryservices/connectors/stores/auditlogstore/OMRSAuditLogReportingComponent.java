@@ -3,8 +3,10 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
 
@@ -26,17 +28,19 @@ public class OMRSAuditLogReportingComponent
 
 
     /**
-     * Construct the description of the reporting component.
+     * Construct the description of the reporting component.  This constructor is also used when
+     * an audit log record is read back from an audit log store.
      *
      * @param componentId  numerical identifier for the component.
      * @param componentName  display name for the component.
      * @param componentDescription  description of the component.
      * @param componentWikiURL  link to more information.
      */
-    public OMRSAuditLogReportingComponent(int componentId,
-                                          String componentName,
-                                          String componentDescription,
-                                          String componentWikiURL)
+    @JsonCreator
+    public OMRSAuditLogReportingComponent(@JsonProperty("componentId")          int    componentId,
+                                          @JsonProperty("componentName")        String componentName,
+                                          @JsonProperty("componentDescription") String componentDescription,
+                                          @JsonProperty("componentWikiURL")     String componentWikiURL)
     {
         this.componentId = componentId;
         this.componentName = componentName;
@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePage;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * InstanceScanIterator steps through the instances returned by a sequence of page token find requests.
+ * Only one page of instances is held at a time, so a scan of the whole metadata collection uses a fixed amount
+ * of memory.  The next page is retrieved when the instances from the current page have all been returned.
+ * Instances that do not belong to the requested home metadata collection are skipped.
+ *
+ * Problems retrieving a page are reported through an OMRSRuntimeException since the Iterator interface does not
+ * allow checked exceptions.  The original exception is available as the cause.
+ *
+ * @param <T> type of instance returned by the scan
+ */
+public abstract class InstanceScanIterator<T extends InstanceHeader> implements Iterator<T>
+{
+    private String   repositoryName;
+    private String   homeMetadataCollectionId;
+    private String   scanName;
+    private List<T>  cachedInstances       = new ArrayList<>();
+    private int      cachedInstancePointer = 0;
+    private String   nextPageToken;
+
+
+    /**
+     * Constructor is passed the first page of the scan.  This means that problems with the scan parameters are
+     * reported by the call that starts the scan.
+     *
+     * @param repositoryName name of the repository being scanned
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the instances to
+     *                                 return.  Null means instances from any metadata collection.
+     * @param firstPage first page of instances
+     * @param scanName name of the method that started the scan
+     */
+    protected InstanceScanIterator(String       repositoryName,
+                                   String       homeMetadataCollectionId,
+                                   InstancePage firstPage,
+                                   String       scanName)
+    {
+        this.repositoryName = repositoryName;
+        this.homeMetadataCollectionId = homeMetadataCollectionId;
+        this.scanName = scanName;
+
+        this.cachePage(firstPage);
+    }
+
+
+    /**
+     * Method implemented by the subclass to retrieve the next page of instances.
+     *
+     * @param pageToken token returned with the previous page
+     * @return page of instances
+     * @throws OMRSCheckedExceptionBase there is a problem retrieving the page
+     */
+    protected abstract InstancePage getNextPage(String pageToken) throws OMRSCheckedExceptionBase;
+
+
+    /**
+     * Method implemented by the subclass to extract the instances from a page.
+     *
+     * @param page page of instances
+     * @return list of instances - may be null
+     */
+    protected abstract List<T> getPageInstances(InstancePage page);
+
+
+    /**
+     * Return whether there are more instances in the scan.  This may retrieve the next page from the repository.
+     *
+     * @return boolean indicating whether there are more instances
+     * @throws OMRSRuntimeException there is a problem retrieving the next page of instances
+     */
+    @Override
+    public boolean hasNext()
+    {
+        while ((cachedInstancePointer == cachedInstances.size()) && (nextPageToken != null))
+        {
+            try
+            {
+                this.cachePage(this.getNextPage(nextPageToken));
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                nextPageToken = null;
+
+                OMRSErrorCode errorCode    = OMRSErrorCode.INSTANCE_SCAN_FAILED;
+                String        errorMessage = errorCode.getErrorMessageId()
+                                           + errorCode.getFormattedErrorMessage(scanName,
+                                                                                repositoryName,
+                                                                                error.getErrorMessage());
+
+                throw new OMRSRuntimeException(errorCode.getHTTPErrorCode(),
+                                               this.getClass().getName(),
+                                               "hasNext",
+                                               errorMessage,
+                                               errorCode.getSystemAction(),
+                                               errorCode.getUserAction(),
+                                               error);
+            }
+        }
+
+        return (cachedInstancePointer < cachedInstances.size());
+    }
+
+
+    /**
+     * Return the next instance in the scan.
+     *
+     * @return next instance
+     * @throws NoSuchElementException the scan has returned all of the instances
+     * @throws OMRSRuntimeException there is a problem retrieving the next page of instances
+     */
+    @Override
+    public T next()
+    {
+        if (this.hasNext())
+        {
+            T instance = cachedInstances.get(cachedInstancePointer);
+
+            /*
+             * Release each instance as it is returned so it can be garbage collected.
+             */
+            cachedInstances.set(cachedInstancePointer, null);
+            cachedInstancePointer++;
+
+            return instance;
+        }
+
+        throw new NoSuchElementException(scanName);
+    }
+
+
+    /**
+     * Save the instances from a new page that come from the requested home metadata collection, along with the
+     * token for the following page.
+     *
+     * @param page page of instances
+     */
+    private void cachePage(InstancePage page)
+    {
+        cachedInstances = new ArrayList<>();
+        cachedInstancePointer = 0;
+        nextPageToken = null;
+
+        if (page != null)
+        {
+            List<T> pageInstances = this.getPageInstances(page);
+
+            if (pageInstances != null)
+            {
+                for (T instance : pageInstances)
+                {
+                    if ((instance != null) &&
+                        ((homeMetadataCollectionId == null) ||
+                         (homeMetadataCollectionId.equals(instance.getMetadataCollectionId()))))
+                    {
+                        cachedInstances.add(instance);
+                    }
+                }
+            }
+
+            nextPageToken = page.getNextPageToken();
+        }
+    }
+}
@@ -2,8 +2,14 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Future;
 
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventProcessingContext;
@@ -34,6 +40,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityExce
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidTypeDefException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PatchErrorException;
@@ -107,6 +114,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorized
 public abstract class OMRSMetadataCollection
 {
     static final private String       defaultRepositoryName = "Open Metadata Repository";
+    static final private int          defaultScanPageSize   = 100;
 
     protected String                  metadataCollectionId;                            /* Initialized in constructor */
     protected String                  metadataCollectionName = null;                   /* Initialized in constructor */
@@ -283,6 +291,131 @@ public abstract class OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate that a list of instance identifiers, and each identifier in it, is not null.
+     *
+     * @param guidsParameterName name of the parameter that passed the guids.
+     * @param guids list of unique identifiers passed on the request
+     * @param methodName method receiving the call
+     * @throws InvalidParameterException the list or one of its guids is null
+     */
+    protected void validateGUIDList(String       guidsParameterName,
+                                    List<String> guids,
+                                    String       methodName) throws InvalidParameterException
+    {
+        boolean nullGUID = (guids == null);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                if (guid == null)
+                {
+                    nullGUID = true;
+                }
+            }
+        }
+
+        if (nullGUID)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NO_GUID;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(guidsParameterName,
+                                                                            methodName,
+                                                                            repositoryName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Validate a batch of new instances.  The batch must contain at least one instance, each instance must have a
+     * type, each relationship must have both of its ends and no two entities may use the same guid.  The guids of
+     * the entities are only used to match them with the ends of the relationships in the batch.
+     *
+     * @param instancesParameterName name of the parameter that passed the instances.
+     * @param instances entities and relationships passed on the request
+     * @param methodName method receiving the call
+     * @throws InvalidParameterException the batch is empty, includes an invalid instance or reuses a guid
+     */
+    protected void validateInstanceBatch(String        instancesParameterName,
+                                         InstanceGraph instances,
+                                         String        methodName) throws InvalidParameterException
+    {
+        boolean invalidInstance = (instances == null) ||
+                                  ((instances.getEntities() == null) && (instances.getRelationships() == null));
+
+        if (! invalidInstance)
+        {
+            Set<String> entityGUIDs = new HashSet<>();
+
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    if ((entity == null) || (entity.getType() == null) || (entity.getType().getTypeDefGUID() == null))
+                    {
+                        invalidInstance = true;
+                    }
+                    else if ((entity.getGUID() != null) && (! entityGUIDs.add(entity.getGUID())))
+                    {
+                        OMRSErrorCode errorCode    = OMRSErrorCode.DUPLICATE_BATCH_GUID;
+                        String        errorMessage = errorCode.getErrorMessageId()
+                                                   + errorCode.getFormattedErrorMessage(entity.getGUID(),
+                                                                                        instancesParameterName,
+                                                                                        methodName,
+                                                                                        repositoryName);
+
+                        throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                            this.getClass().getName(),
+                                                            methodName,
+                                                            errorMessage,
+                                                            errorCode.getSystemAction(),
+                                                            errorCode.getUserAction());
+                    }
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    if ((relationship == null) ||
+                        (relationship.getType() == null) ||
+                        (relationship.getType().getTypeDefGUID() == null) ||
+                        (relationship.getEntityOneProxy() == null) ||
+                        (relationship.getEntityTwoProxy() == null))
+                    {
+                        invalidInstance = true;
+                    }
+                }
+            }
+        }
+
+        if (invalidInstance)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NO_NEW_INSTANCES;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(instancesParameterName,
+                                                                            methodName,
+                                                                            repositoryName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+    }
+
+
     /* ======================================================================
      * Group 1: Confirm the identity of the metadata repository being called.
      */
@@ -871,6 +1004,60 @@ public abstract class OMRSMetadataCollection
                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are not
+     * known, are only proxies or are deleted are left out of the result.  The default implementation retrieves
+     * the entities one at a time.  Repositories that are able to retrieve a set of entities in a single
+     * request should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order of the requested guids.  Null means none of the
+     * entities are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitiesByGUIDs";
+        final String  guidsParameterName = "guids";
+
+        this.validateGUIDList(guidsParameterName, guids, methodName);
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            try
+            {
+                EntityDetail entity = this.getEntityDetail(userId, guid);
+
+                if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+                {
+                    entities.add(entity);
+                }
+            }
+            catch (EntityNotKnownException | EntityProxyOnlyException error)
+            {
+                /*
+                 * Left out of the result
+                 */
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
 
     /**
      * Return the relationships for a specific entity.
@@ -976,6 +1163,165 @@ public abstract class OMRSMetadataCollection
                                                                                                           UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order) so pages stay consistent as the walk goes deeper.
+     * The default implementation still retrieves all of the matching entities for every page and keeps the
+     * ones that follow the token, so each page costs a full read of the matching entities.  It avoids
+     * sorting the results and holding the earlier pages, but not the read.  Repositories that are able to
+     * resume a query from a sequencing key should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = this.findEntitiesByProperty(userId,
+                                                                  entityTypeGUID,
+                                                                  matchProperties,
+                                                                  matchCriteria,
+                                                                  0,
+                                                                  limitResultsByStatus,
+                                                                  limitResultsByClassification,
+                                                                  asOfTime,
+                                                                  null,
+                                                                  null,
+                                                                  0);
+
+        return repositoryHelper.formatEntityPage(entities, pageToken, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Return an iterator that steps through all of the entities in the metadata collection, optionally limited
+     * to a type (and its subtypes), a home metadata collection and a list of statuses.  The classifications of
+     * each entity are returned with it.  The entities are retrieved from the repository a page at a time as the
+     * iterator is used so the whole metadata collection can be exported without holding it in memory.
+     * Problems retrieving the later pages are reported by the iterator as an OMRSRuntimeException.
+     * The default implementation steps through the pages of findEntityPageByProperty, so each page costs as much
+     * as one call to that method.  Where that method is not overridden either, every page reads all of the
+     * matching entities.  The enterprise and REST connectors use this default, so their scans are only as
+     * efficient as the paging of the repositories behind them.  Repositories that are able to step through their
+     * stores directly should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the entities to return.
+     *                                 Null means entities from any metadata collection.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param pageSize the number of entities to retrieve from the repository at a time.  Zero means use the default.
+     * @return iterator over the entities
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the entities.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support the scan.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Iterator<EntityDetail> scanEntities(String                    userId,
+                                               String                    entityTypeGUID,
+                                               String                    homeMetadataCollectionId,
+                                               List<InstanceStatus>      limitResultsByStatus,
+                                               int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        final String methodName   = "scanEntities";
+        final int    scanPageSize = (pageSize > 0) ? pageSize : defaultScanPageSize;
+
+        InstancePage firstPage = this.findEntityPageByProperty(userId,
+                                                               entityTypeGUID,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               limitResultsByStatus,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               scanPageSize);
+
+        return new InstanceScanIterator<EntityDetail>(repositoryName, homeMetadataCollectionId, firstPage, methodName)
+        {
+            @Override
+            protected InstancePage getNextPage(String pageToken) throws OMRSCheckedExceptionBase
+            {
+                return findEntityPageByProperty(userId,
+                                                entityTypeGUID,
+                                                null,
+                                                null,
+                                                pageToken,
+                                                limitResultsByStatus,
+                                                null,
+                                                null,
+                                                null,
+                                                null,
+                                                scanPageSize);
+            }
+
+
+            @Override
+            protected List<EntityDetail> getPageInstances(InstancePage page)
+            {
+                return page.getEntities();
+            }
+        };
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1034,6 +1380,268 @@ public abstract class OMRSMetadataCollection
                                                                                                                 UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order), as for findEntityPageByProperty.
+     * The default implementation retrieves all of the matching entities for every page and keeps the
+     * ones that follow the token.  Repositories that are able to resume a query from a sequencing key
+     * should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public InstancePage findEntityPageByClassification(String                    userId,
+                                                       String                    entityTypeGUID,
+                                                       String                    classificationName,
+                                                       InstanceProperties        matchClassificationProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                ClassificationErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = this.findEntitiesByClassification(userId,
+                                                                        entityTypeGUID,
+                                                                        classificationName,
+                                                                        matchClassificationProperties,
+                                                                        matchCriteria,
+                                                                        0,
+                                                                        limitResultsByStatus,
+                                                                        asOfTime,
+                                                                        null,
+                                                                        null,
+                                                                        0);
+
+        return repositoryHelper.formatEntityPage(entities, pageToken, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Return the number of relationships for a specific entity.  The default implementation retrieves all
+     * of the relationships and counts them.  Repositories that are able to count the relationships without
+     * retrieving them should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means count the
+     *                 present values.
+     * @return count of the relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public int countRelationshipsForEntity(String                     userId,
+                                           String                     entityGUID,
+                                           String                     relationshipTypeGUID,
+                                           List<InstanceStatus>       limitResultsByStatus,
+                                           Date                       asOfTime) throws InvalidParameterException,
+                                                                                       TypeErrorException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       PagingErrorException,
+                                                                                       FunctionNotSupportedException,
+                                                                                       UserNotAuthorizedException
+    {
+        List<Relationship> relationships = this.getRelationshipsForEntity(userId,
+                                                                          entityGUID,
+                                                                          relationshipTypeGUID,
+                                                                          0,
+                                                                          limitResultsByStatus,
+                                                                          asOfTime,
+                                                                          null,
+                                                                          null,
+                                                                          0);
+
+        if (relationships == null)
+        {
+            return 0;
+        }
+
+        return relationships.size();
+    }
+
+
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     * The default implementation retrieves all of the matching entities and counts them.  Repositories that
+     * are able to count the entities without retrieving them should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all counted entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public int countEntitiesByProperty(String                    userId,
+                                       String                    entityTypeGUID,
+                                       InstanceProperties        matchProperties,
+                                       MatchCriteria             matchCriteria,
+                                       List<InstanceStatus>      limitResultsByStatus,
+                                       List<String>              limitResultsByClassification,
+                                       Date                      asOfTime) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  PropertyErrorException,
+                                                                                  PagingErrorException,
+                                                                                  FunctionNotSupportedException,
+                                                                                  UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = this.findEntitiesByProperty(userId,
+                                                                  entityTypeGUID,
+                                                                  matchProperties,
+                                                                  matchCriteria,
+                                                                  0,
+                                                                  limitResultsByStatus,
+                                                                  limitResultsByClassification,
+                                                                  asOfTime,
+                                                                  null,
+                                                                  null,
+                                                                  0);
+
+        if (entities == null)
+        {
+            return 0;
+        }
+
+        return entities.size();
+    }
+
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     * The default implementation retrieves all of the matching entities and counts them.  Repositories that
+     * are able to count the entities without retrieving them should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public int countEntitiesByClassification(String                    userId,
+                                             String                    entityTypeGUID,
+                                             String                    classificationName,
+                                             InstanceProperties        matchClassificationProperties,
+                                             MatchCriteria             matchCriteria,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             Date                      asOfTime) throws InvalidParameterException,
+                                                                                        TypeErrorException,
+                                                                                        RepositoryErrorException,
+                                                                                        ClassificationErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = this.findEntitiesByClassification(userId,
+                                                                        entityTypeGUID,
+                                                                        classificationName,
+                                                                        matchClassificationProperties,
+                                                                        matchCriteria,
+                                                                        0,
+                                                                        limitResultsByStatus,
+                                                                        asOfTime,
+                                                                        null,
+                                                                        null,
+                                                                        0);
+
+        if (entities == null)
+        {
+            return 0;
+        }
+
+        return entities.size();
+    }
+
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1090,6 +1698,78 @@ public abstract class OMRSMetadataCollection
                                                                                                           UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order), as for findEntityPageByProperty.
+     * The default implementation retrieves all of the matching entities for every page and keeps the
+     * ones that follow the token.  Repositories that are able to resume a query from a sequencing key
+     * should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public InstancePage findEntityPageByPropertyValue(String                userId,
+                                                      String                entityTypeGUID,
+                                                      String                searchCriteria,
+                                                      String                pageToken,
+                                                      List<InstanceStatus>  limitResultsByStatus,
+                                                      List<String>          limitResultsByClassification,
+                                                      Date                  asOfTime,
+                                                      String                sequencingProperty,
+                                                      SequencingOrder       sequencingOrder,
+                                                      int                   pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = this.findEntitiesByPropertyValue(userId,
+                                                                       entityTypeGUID,
+                                                                       searchCriteria,
+                                                                       0,
+                                                                       limitResultsByStatus,
+                                                                       limitResultsByClassification,
+                                                                       asOfTime,
+                                                                       null,
+                                                                       null,
+                                                                       0);
+
+        return repositoryHelper.formatEntityPage(entities, pageToken, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
@@ -1150,6 +1830,61 @@ public abstract class OMRSMetadataCollection
                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Return each of the requested relationships.  Relationships that are not known or are deleted are left out of
+     * the result.  The default implementation retrieves the relationships one at a time.  Repositories that are
+     * able to retrieve a set of relationships in a single request should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order of the requested guids.  Null means none of the relationships
+     * are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsByGUIDs";
+        final String  guidsParameterName = "guids";
+
+        this.validateGUIDList(guidsParameterName, guids, methodName);
+
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            try
+            {
+                Relationship relationship = this.getRelationship(userId, guid);
+
+                if ((relationship != null) && (relationship.getStatus() != InstanceStatus.DELETED))
+                {
+                    relationships.add(relationship);
+                }
+            }
+            catch (RelationshipNotKnownException error)
+            {
+                /*
+                 * Left out of the result
+                 */
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -1166,42 +1901,198 @@ public abstract class OMRSMetadataCollection
      * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
      *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                             status values.
-     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
-     *                 present values.
-     * @param sequencingProperty String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder Enum defining how the results should be ordered.
-     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
-     *                 unrestricted return results size.
-     * @return a list of relationships.  Null means no matching relationships.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public  abstract List<Relationship> findRelationshipsByProperty(String                    userId,
+                                                                    String                    relationshipTypeGUID,
+                                                                    InstanceProperties        matchProperties,
+                                                                    MatchCriteria             matchCriteria,
+                                                                    int                       fromRelationshipElement,
+                                                                    List<InstanceStatus>      limitResultsByStatus,
+                                                                    Date                      asOfTime,
+                                                                    String                    sequencingProperty,
+                                                                    SequencingOrder           sequencingOrder,
+                                                                    int                       pageSize) throws InvalidParameterException,
+                                                                                                               TypeErrorException,
+                                                                                                               RepositoryErrorException,
+                                                                                                               PropertyErrorException,
+                                                                                                               PagingErrorException,
+                                                                                                               FunctionNotSupportedException,
+                                                                                                               UserNotAuthorizedException;
+
+
+    /**
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * Rather than skipping to a starting element, each page resumes after the last relationship returned on the
+     * previous page (in sequencing property and guid order) so pages stay consistent as the walk goes deeper.
+     * The default implementation still retrieves all of the matching relationships for every page and keeps the
+     * ones that follow the token, so each page costs a full read of the matching relationships.  It avoids
+     * sorting the results and holding the earlier pages, but not the read.  Repositories that are able to
+     * resume a query from a sequencing key should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param matchProperties Optional list of relationship properties to match (where any String property's value
+     *                        should be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        List<Relationship> relationships = this.findRelationshipsByProperty(userId,
+                                                                            relationshipTypeGUID,
+                                                                            matchProperties,
+                                                                            matchCriteria,
+                                                                            0,
+                                                                            limitResultsByStatus,
+                                                                            asOfTime,
+                                                                            null,
+                                                                            null,
+                                                                            0);
+
+        return repositoryHelper.formatRelationshipPage(relationships, pageToken, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Return an iterator that steps through all of the relationships in the metadata collection, optionally
+     * limited to a type (and its subtypes), a home metadata collection and a list of statuses.  The relationships
+     * are retrieved from the repository a page at a time as the iterator is used so the whole metadata collection
+     * can be exported without holding it in memory.  Problems retrieving the later pages are reported by the
+     * iterator as an OMRSRuntimeException.
+     * The default implementation steps through the pages of findRelationshipPageByProperty, so each page costs as
+     * much as one call to that method.  Where that method is not overridden either, every page reads all of the
+     * matching relationships.  The enterprise and REST connectors use this default, so their scans are only as
+     * efficient as the paging of the repositories behind them.  Repositories that are able to step through their
+     * stores directly should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship type of interest (null means any
+     *                             relationship type).
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the relationships to
+     *                                 return.  Null means relationships from any metadata collection.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param pageSize the number of relationships to retrieve from the repository at a time.  Zero means use the
+     *                 default.
+     * @return iterator over the relationships
      * @throws InvalidParameterException one of the parameters is invalid or null.
      * @throws TypeErrorException the type guid passed on the request is not known by the
      *                              metadata collection.
      * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
      *                                    the metadata collection is stored.
-     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
-     *                                  relationships.
-     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
-     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support the scan.
      * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
-     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
      */
-    public  abstract List<Relationship> findRelationshipsByProperty(String                    userId,
-                                                                    String                    relationshipTypeGUID,
-                                                                    InstanceProperties        matchProperties,
-                                                                    MatchCriteria             matchCriteria,
-                                                                    int                       fromRelationshipElement,
-                                                                    List<InstanceStatus>      limitResultsByStatus,
-                                                                    Date                      asOfTime,
-                                                                    String                    sequencingProperty,
-                                                                    SequencingOrder           sequencingOrder,
-                                                                    int                       pageSize) throws InvalidParameterException,
-                                                                                                               TypeErrorException,
-                                                                                                               RepositoryErrorException,
-                                                                                                               PropertyErrorException,
-                                                                                                               PagingErrorException,
-                                                                                                               FunctionNotSupportedException,
-                                                                                                               UserNotAuthorizedException;
+    public Iterator<Relationship> scanRelationships(String                    userId,
+                                                    String                    relationshipTypeGUID,
+                                                    String                    homeMetadataCollectionId,
+                                                    List<InstanceStatus>      limitResultsByStatus,
+                                                    int                       pageSize) throws InvalidParameterException,
+                                                                                               TypeErrorException,
+                                                                                               RepositoryErrorException,
+                                                                                               PropertyErrorException,
+                                                                                               PagingErrorException,
+                                                                                               FunctionNotSupportedException,
+                                                                                               UserNotAuthorizedException
+    {
+        final String methodName   = "scanRelationships";
+        final int    scanPageSize = (pageSize > 0) ? pageSize : defaultScanPageSize;
+
+        InstancePage firstPage = this.findRelationshipPageByProperty(userId,
+                                                                     relationshipTypeGUID,
+                                                                     null,
+                                                                     null,
+                                                                     null,
+                                                                     limitResultsByStatus,
+                                                                     null,
+                                                                     null,
+                                                                     null,
+                                                                     scanPageSize);
+
+        return new InstanceScanIterator<Relationship>(repositoryName, homeMetadataCollectionId, firstPage, methodName)
+        {
+            @Override
+            protected InstancePage getNextPage(String pageToken) throws OMRSCheckedExceptionBase
+            {
+                return findRelationshipPageByProperty(userId,
+                                                      relationshipTypeGUID,
+                                                      null,
+                                                      null,
+                                                      pageToken,
+                                                      limitResultsByStatus,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      scanPageSize);
+            }
+
+
+            @Override
+            protected List<Relationship> getPageInstances(InstancePage page)
+            {
+                return page.getRelationships();
+            }
+        };
+    }
 
 
     /**
@@ -1256,6 +2147,73 @@ public abstract class OMRSMetadataCollection
                                                                                                                    UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * Rather than skipping to a starting element, each page resumes after the last relationship returned on the
+     * previous page (in sequencing property and guid order), as for findRelationshipPageByProperty.
+     * The default implementation retrieves all of the matching relationships for every page and keeps the
+     * ones that follow the token.  Repositories that are able to resume a query from a sequencing key
+     * should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public InstancePage findRelationshipPageByPropertyValue(String                    userId,
+                                                            String                    relationshipTypeGUID,
+                                                            String                    searchCriteria,
+                                                            String                    pageToken,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        List<Relationship> relationships = this.findRelationshipsByPropertyValue(userId,
+                                                                                 relationshipTypeGUID,
+                                                                                 searchCriteria,
+                                                                                 0,
+                                                                                 limitResultsByStatus,
+                                                                                 asOfTime,
+                                                                                 null,
+                                                                                 null,
+                                                                                 0);
+
+        return repositoryHelper.formatRelationshipPage(relationships, pageToken, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
     /**
      * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
      *
@@ -1847,6 +2805,325 @@ public abstract class OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a set of new entities and relationships in a single request.  The relationships may link the new
+     * entities to each other and to existing entities.  The guid of each new entity in the request is only used to
+     * match it with the ends of the relationships in the request that refer to it, and may be null for entities
+     * that are not referred to.  Each relationship end that does not match a new entity is the guid of an existing
+     * entity.  The classifications of each new entity are added with it.
+     * The default implementation adds the instances one at a time with addEntity and addRelationship.
+     * If one of the instances fails, the instances added before it are removed again before the exception is
+     * returned so that none of the batch is left in the repository.  Repositories that are able to add a set of
+     * instances in a single request should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and relationships.  Their types, properties, classifications and status are
+     *                  used to create the new instances.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph addInstances(String         userId,
+                                      InstanceGraph  instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeErrorException,
+                                                                       PropertyErrorException,
+                                                                       ClassificationErrorException,
+                                                                       EntityNotKnownException,
+                                                                       StatusNotSupportedException,
+                                                                       FunctionNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String  methodName = "addInstances";
+        final String  instancesParameterName = "instances";
+
+        this.validateInstanceBatch(instancesParameterName, instances, methodName);
+
+        return this.addInstanceBatch(userId, null, null, instances);
+    }
+
+
+    /**
+     * Save a set of new entities and relationships that are sourced from an external technology in a single
+     * request.  The external technology is identified by a GUID and a name.  The relationships may link the new
+     * entities to each other and to existing entities.  The guid of each new entity in the request is only used to
+     * match it with the ends of the relationships in the request that refer to it, and may be null for entities
+     * that are not referred to.  Each relationship end that does not match a new entity is the guid of an existing
+     * entity.  The classifications of each new entity are added with it.
+     * The default implementation adds the instances one at a time with addExternalEntity and
+     * addExternalRelationship.  If one of the instances fails, the instances added before it are removed again
+     * before the exception is returned so that none of the batch is left in the repository.  Repositories that are
+     * able to add a set of instances in a single request should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.  Their types, properties, classifications and status are
+     *                  used to create the new instances.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph addExternalInstances(String         userId,
+                                              String         externalSourceGUID,
+                                              String         externalSourceName,
+                                              InstanceGraph  instances) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               ClassificationErrorException,
+                                                                               EntityNotKnownException,
+                                                                               StatusNotSupportedException,
+                                                                               FunctionNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        final String  methodName = "addExternalInstances";
+        final String  instancesParameterName = "instances";
+
+        this.validateInstanceBatch(instancesParameterName, instances, methodName);
+
+        return this.addInstanceBatch(userId, externalSourceGUID, externalSourceName, instances);
+    }
+
+
+    /**
+     * Add the instances of a validated batch one at a time, entities first so that the ends of the relationships
+     * can be mapped to the guids of the new entities.  If an instance fails, the instances already added are
+     * removed before the exception is rethrown.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source; null for local instances.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws TypeErrorException one of the requested types is not known.
+     * @throws PropertyErrorException one or more of the requested properties are not valid.
+     * @throws ClassificationErrorException one or more of the requested classifications are not valid.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known.
+     * @throws StatusNotSupportedException one of the requested statuses is not supported.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private InstanceGraph addInstanceBatch(String         userId,
+                                           String         externalSourceGUID,
+                                           String         externalSourceName,
+                                           InstanceGraph  instances) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            TypeErrorException,
+                                                                            PropertyErrorException,
+                                                                            ClassificationErrorException,
+                                                                            EntityNotKnownException,
+                                                                            StatusNotSupportedException,
+                                                                            FunctionNotSupportedException,
+                                                                            UserNotAuthorizedException
+    {
+        Map<String, String> newEntityGUIDs   = new HashMap<>();
+        List<EntityDetail>  newEntities      = new ArrayList<>();
+        List<Relationship>  newRelationships = new ArrayList<>();
+
+        try
+        {
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    EntityDetail newEntity;
+
+                    if (externalSourceGUID == null)
+                    {
+                        newEntity = this.addEntity(userId,
+                                                   entity.getType().getTypeDefGUID(),
+                                                   entity.getProperties(),
+                                                   entity.getClassifications(),
+                                                   entity.getStatus());
+                    }
+                    else
+                    {
+                        newEntity = this.addExternalEntity(userId,
+                                                           entity.getType().getTypeDefGUID(),
+                                                           externalSourceGUID,
+                                                           externalSourceName,
+                                                           entity.getProperties(),
+                                                           entity.getClassifications(),
+                                                           entity.getStatus());
+                    }
+
+                    if ((newEntity != null) && (entity.getGUID() != null))
+                    {
+                        newEntityGUIDs.put(entity.getGUID(), newEntity.getGUID());
+                    }
+
+                    newEntities.add(newEntity);
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    String  entityOneGUID = this.getBatchEntityGUID(newEntityGUIDs, relationship.getEntityOneProxy());
+                    String  entityTwoGUID = this.getBatchEntityGUID(newEntityGUIDs, relationship.getEntityTwoProxy());
+
+                    if (externalSourceGUID == null)
+                    {
+                        newRelationships.add(this.addRelationship(userId,
+                                                                  relationship.getType().getTypeDefGUID(),
+                                                                  relationship.getProperties(),
+                                                                  entityOneGUID,
+                                                                  entityTwoGUID,
+                                                                  relationship.getStatus()));
+                    }
+                    else
+                    {
+                        newRelationships.add(this.addExternalRelationship(userId,
+                                                                          relationship.getType().getTypeDefGUID(),
+                                                                          externalSourceGUID,
+                                                                          externalSourceName,
+                                                                          relationship.getProperties(),
+                                                                          entityOneGUID,
+                                                                          entityTwoGUID,
+                                                                          relationship.getStatus()));
+                    }
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            this.removeInstanceBatch(userId, newEntities, newRelationships);
+
+            throw error;
+        }
+
+        return new InstanceGraph(newEntities, newRelationships);
+    }
+
+
+    /**
+     * Remove the instances that were added from a batch before one of its instances failed.  The relationships
+     * are removed before the entities that they link.  Each instance is soft-deleted and then purged.  If the
+     * repository does not support soft-delete, the instance is purged directly.  A failure to remove one
+     * instance does not stop the others from being removed.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities entities added from the batch
+     * @param newRelationships relationships added from the batch
+     */
+    private void removeInstanceBatch(String             userId,
+                                     List<EntityDetail> newEntities,
+                                     List<Relationship> newRelationships)
+    {
+        for (Relationship relationship : newRelationships)
+        {
+            if (relationship != null)
+            {
+                InstanceType type = relationship.getType();
+
+                try
+                {
+                    try
+                    {
+                        this.deleteRelationship(userId, type.getTypeDefGUID(), type.getTypeDefName(), relationship.getGUID());
+                    }
+                    catch (FunctionNotSupportedException error)
+                    {
+                        /*
+                         * Soft-delete is not supported so the relationship can be purged directly.
+                         */
+                    }
+
+                    this.purgeRelationship(userId, type.getTypeDefGUID(), type.getTypeDefName(), relationship.getGUID());
+                }
+                catch (Exception error)
+                {
+                    /*
+                     * Carry on removing the rest of the batch.
+                     */
+                }
+            }
+        }
+
+        for (EntityDetail entity : newEntities)
+        {
+            if (entity != null)
+            {
+                InstanceType type = entity.getType();
+
+                try
+                {
+                    try
+                    {
+                        this.deleteEntity(userId, type.getTypeDefGUID(), type.getTypeDefName(), entity.getGUID());
+                    }
+                    catch (FunctionNotSupportedException error)
+                    {
+                        /*
+                         * Soft-delete is not supported so the entity can be purged directly.
+                         */
+                    }
+
+                    this.purgeEntity(userId, type.getTypeDefGUID(), type.getTypeDefName(), entity.getGUID());
+                }
+                catch (Exception error)
+                {
+                    /*
+                     * Carry on removing the rest of the batch.
+                     */
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the guid of the entity at one end of a relationship in a batch.  This is the guid of the new
+     * entity if the end refers to an entity in the batch, otherwise it is the guid of an existing entity.
+     *
+     * @param newEntityGUIDs map from the guids of the entities in the batch to the guids of the new entities
+     * @param entityProxy end of the relationship
+     * @return entity guid
+     */
+    protected String getBatchEntityGUID(Map<String, String> newEntityGUIDs,
+                                        EntityProxy         entityProxy)
+    {
+        String newEntityGUID = newEntityGUIDs.get(entityProxy.getGUID());
+
+        if (newEntityGUID != null)
+        {
+            return newEntityGUID;
+        }
+
+        return entityProxy.getGUID();
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -2749,6 +4026,9 @@ public abstract class OMRSMetadataCollection
      * Save the entities and relationships supplied in the instance graph as a reference copies.
      * The id of the home metadata collection is already set up in the instances.
      * Any instances from the home metadata collection are ignored.
+     * Each instance is saved on its own so an instance that is rejected does not stop the rest of the batch
+     * being saved.  Once the whole batch has been processed, the exception from the first instance that was
+     * rejected is returned.
      *
      * @param userId unique identifier for requesting server.
      * @param instances instances to save.
@@ -2781,44 +4061,151 @@ public abstract class OMRSMetadataCollection
                                                                               FunctionNotSupportedException,
                                                                               UserNotAuthorizedException
     {
+        OMRSCheckedExceptionBase firstError = null;
+
         /*
          * Work through the entities and then the relationships, skipping any instance that has the
          * local home metadata collection id.
          */
         if (instances != null)
         {
-            try
+            if (instances.getEntities() != null)
             {
-                if (instances.getEntities() != null)
+                for (EntityDetail entity : instances.getEntities())
                 {
-                    for (EntityDetail entity : instances.getEntities())
+                    if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
                     {
-                        if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                        try
                         {
                             saveEntityReferenceCopy(userId, entity);
                         }
+                        catch (HomeEntityException  exception)
+                        {
+                            /*
+                             * The entity is homed in this repository so there is no reference copy to save.
+                             */
+                        }
+                        catch (FunctionNotSupportedException | UserNotAuthorizedException exception)
+                        {
+                            /*
+                             * These apply to every instance in the batch.
+                             */
+                            throw exception;
+                        }
+                        catch (OMRSCheckedExceptionBase exception)
+                        {
+                            if (firstError == null)
+                            {
+                                firstError = exception;
+                            }
+                        }
                     }
                 }
+            }
 
-                if (instances.getRelationships() != null)
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
                 {
-                    for (Relationship relationship : instances.getRelationships())
+                    if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
                     {
-                        if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                        try
                         {
                             saveRelationshipReferenceCopy(userId, relationship);
                         }
+                        catch (HomeRelationshipException exception)
+                        {
+                            /*
+                             * The relationship is homed in this repository so there is no reference copy to save.
+                             */
+                        }
+                        catch (FunctionNotSupportedException | UserNotAuthorizedException exception)
+                        {
+                            /*
+                             * These apply to every instance in the batch.
+                             */
+                            throw exception;
+                        }
+                        catch (OMRSCheckedExceptionBase exception)
+                        {
+                            if (firstError == null)
+                            {
+                                firstError = exception;
+                            }
+                        }
                     }
                 }
             }
-            catch (HomeEntityException  exception)
-            {
+        }
 
-            }
-            catch (HomeRelationshipException exception)
-            {
+        if (firstError != null)
+        {
+            this.throwReferenceCopyError(firstError);
+        }
+    }
 
-            }
+
+    /**
+     * Return the exception from the first reference copy in a batch that was rejected.
+     *
+     * @param error exception from saveEntityReferenceCopy or saveRelationshipReferenceCopy
+     * @throws InvalidParameterException the instance is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws TypeErrorException the type of the instance is not known.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found.
+     * @throws PropertyErrorException the properties of the instance are not valid for its type.
+     * @throws EntityConflictException the entity conflicts with an existing entity.
+     * @throws InvalidEntityException the entity has invalid contents.
+     * @throws RelationshipConflictException the relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the relationship has invalid contents.
+     */
+    private void throwReferenceCopyError(OMRSCheckedExceptionBase error) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 TypeErrorException,
+                                                                                 EntityNotKnownException,
+                                                                                 PropertyErrorException,
+                                                                                 EntityConflictException,
+                                                                                 RelationshipConflictException,
+                                                                                 InvalidEntityException,
+                                                                                 InvalidRelationshipException
+    {
+        if (error instanceof InvalidParameterException)
+        {
+            throw (InvalidParameterException) error;
+        }
+        else if (error instanceof TypeErrorException)
+        {
+            throw (TypeErrorException) error;
+        }
+        else if (error instanceof EntityNotKnownException)
+        {
+            throw (EntityNotKnownException) error;
+        }
+        else if (error instanceof PropertyErrorException)
+        {
+            throw (PropertyErrorException) error;
+        }
+        else if (error instanceof EntityConflictException)
+        {
+            throw (EntityConflictException) error;
+        }
+        else if (error instanceof RelationshipConflictException)
+        {
+            throw (RelationshipConflictException) error;
+        }
+        else if (error instanceof InvalidEntityException)
+        {
+            throw (InvalidEntityException) error;
+        }
+        else if (error instanceof InvalidRelationshipException)
+        {
+            throw (InvalidRelationshipException) error;
+        }
+        else if (error instanceof RepositoryErrorException)
+        {
+            throw (RepositoryErrorException) error;
         }
+
+        throw new RepositoryErrorException(error);
     }
 }
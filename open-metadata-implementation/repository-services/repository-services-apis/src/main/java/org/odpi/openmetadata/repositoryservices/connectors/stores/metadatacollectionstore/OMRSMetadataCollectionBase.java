@@ -4079,6 +4079,110 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for adding a set of new entities and relationships to the metadata collection.
+     * Each instance is validated in the same way as a single new entity or relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and relationships.
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    protected void addInstancesParameterValidation(String         userId,
+                                                   InstanceGraph  instances,
+                                                   String         methodName) throws InvalidParameterException,
+                                                                                     RepositoryErrorException,
+                                                                                     TypeErrorException,
+                                                                                     PropertyErrorException,
+                                                                                     ClassificationErrorException,
+                                                                                     StatusNotSupportedException,
+                                                                                     UserNotAuthorizedException
+    {
+        final String instancesParameterName = "instances";
+
+        super.basicRequestValidation(userId, methodName);
+        super.validateInstanceBatch(instancesParameterName, instances, methodName);
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                this.addEntityParameterValidation(userId,
+                                                  entity.getType().getTypeDefGUID(),
+                                                  entity.getProperties(),
+                                                  entity.getClassifications(),
+                                                  entity.getStatus(),
+                                                  methodName);
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                this.addRelationshipParameterValidation(userId,
+                                                        relationship.getType().getTypeDefGUID(),
+                                                        relationship.getProperties(),
+                                                        relationship.getEntityOneProxy().getGUID(),
+                                                        relationship.getEntityTwoProxy().getGUID(),
+                                                        relationship.getStatus(),
+                                                        methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Validate the parameters for saving a set of new entities and relationships that are sourced from an
+     * external technology.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param instances new entities and relationships.
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    protected void addExternalInstancesParameterValidation(String         userId,
+                                                           String         externalSourceGUID,
+                                                           InstanceGraph  instances,
+                                                           String         methodName) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             TypeErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             ClassificationErrorException,
+                                                                                             StatusNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String guidParameterName = "externalSourceGUID";
+
+        repositoryValidator.validateGUID(repositoryName, guidParameterName, externalSourceGUID, methodName);
+
+        this.addInstancesParameterValidation(userId, instances, methodName);
+    }
+
+
     /**
      * Create a new entity and put it in the requested state.  The new entity is returned.
      *
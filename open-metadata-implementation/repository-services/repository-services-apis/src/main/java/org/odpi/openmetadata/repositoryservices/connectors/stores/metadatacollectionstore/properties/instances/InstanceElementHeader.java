@@ -24,6 +24,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         @JsonSubTypes.Type(value = ClassificationEntityExtension.class, name = "ClassificationEntityExtension"),
         @JsonSubTypes.Type(value = InstanceAuditHeader.class, name = "InstanceAuditHeader"),
         @JsonSubTypes.Type(value = InstanceGraph.class, name = "InstanceGraph"),
+        @JsonSubTypes.Type(value = InstancePage.class, name = "InstancePage"),
         @JsonSubTypes.Type(value = InstanceType.class, name = "InstanceType"),
         @JsonSubTypes.Type(value = InstancePropertyValue.class, name = "InstancePropertyValue")
 })
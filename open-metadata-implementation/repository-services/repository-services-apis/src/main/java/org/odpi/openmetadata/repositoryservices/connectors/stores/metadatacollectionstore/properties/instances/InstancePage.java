@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstancePage stores one page of the results of a find request that pages with continuation tokens.
+ * The page holds either entities or relationships, depending on the request, along with the token
+ * that is passed on the next request to retrieve the following page.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstancePage extends InstanceElementHeader
+{
+    private List<EntityDetail> entities      = null;
+    private List<Relationship> relationships = null;
+    private String             nextPageToken = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstancePage()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template page to copy; null to create an empty page
+     */
+    public InstancePage(InstancePage template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            setEntities(template.getEntities());
+            setRelationships(template.getRelationships());
+            setNextPageToken(template.getNextPageToken());
+        }
+    }
+
+
+    /**
+     * Return the entities on this page.  Null means no entities.
+     *
+     * @return list of entities
+     */
+    public List<EntityDetail> getEntities()
+    {
+        if (entities == null)
+        {
+            return null;
+        }
+        else if (entities.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(entities);
+        }
+    }
+
+
+    /**
+     * Set up the entities on this page.
+     *
+     * @param entities list of entities
+     */
+    public void setEntities(List<EntityDetail> entities)
+    {
+        this.entities = entities;
+    }
+
+
+    /**
+     * Return the relationships on this page.  Null means no relationships.
+     *
+     * @return list of relationships
+     */
+    public List<Relationship> getRelationships()
+    {
+        if (relationships == null)
+        {
+            return null;
+        }
+        else if (relationships.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(relationships);
+        }
+    }
+
+
+    /**
+     * Set up the relationships on this page.
+     *
+     * @param relationships list of relationships
+     */
+    public void setRelationships(List<Relationship> relationships)
+    {
+        this.relationships = relationships;
+    }
+
+
+    /**
+     * Return the token to pass on the next request to retrieve the following page.  Null means this is the
+     * last page.
+     *
+     * @return opaque token
+     */
+    public String getNextPageToken()
+    {
+        return nextPageToken;
+    }
+
+
+    /**
+     * Set up the token to pass on the next request to retrieve the following page.
+     *
+     * @param nextPageToken opaque token
+     */
+    public void setNextPageToken(String nextPageToken)
+    {
+        this.nextPageToken = nextPageToken;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "InstancePage{" +
+                "entities=" + entities +
+                ", relationships=" + relationships +
+                ", nextPageToken='" + nextPageToken + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        InstancePage that = (InstancePage) objectToCompare;
+        return Objects.equals(getEntities(), that.getEntities()) &&
+                Objects.equals(getRelationships(), that.getRelationships()) &&
+                Objects.equals(getNextPageToken(), that.getNextPageToken());
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getEntities(), getRelationships(), getNextPageToken());
+    }
+}
@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OMRSMatchPropertiesMatcher is the compiled form of the match properties passed on the find by property
+ * requests.  It is created once for a request by OMRSRepositoryValidator.compileMatchProperties() and then
+ * used to test each of the candidate instances.
+ *
+ * The string form of each match property value is worked out when the matcher is created.  The regular
+ * expressions are compiled the first time they are needed, so an invalid regular expression is only reported
+ * if it is used, as it is when the match properties are passed to the validator directly.
+ *
+ * A matcher belongs to a single request and is not thread-safe.
+ */
+public class OMRSMatchPropertiesMatcher
+{
+    private static final String anyString = ".*";
+
+    private final InstanceProperties                     matchProperties;
+    private final Map<String, String>                    matchPropertyStrings;
+    private final Map<String, OMRSSearchCriteriaMatcher> fullMatchers     = new HashMap<>();
+    private final Map<String, OMRSSearchCriteriaMatcher> containsMatchers = new HashMap<>();
+
+
+    /**
+     * Constructor is passed the match properties and the string form of each of their values.
+     *
+     * @param matchProperties properties to match
+     * @param matchPropertyStrings map of property name to the string form of the match property value
+     */
+    public OMRSMatchPropertiesMatcher(InstanceProperties  matchProperties,
+                                      Map<String, String> matchPropertyStrings)
+    {
+        this.matchProperties = matchProperties;
+        this.matchPropertyStrings = matchPropertyStrings;
+    }
+
+
+    /**
+     * Return the match properties that this matcher was compiled from.
+     *
+     * @return instance properties
+     */
+    public InstanceProperties getMatchProperties()
+    {
+        return matchProperties;
+    }
+
+
+    /**
+     * Return the string form of the value of a match property.
+     *
+     * @param propertyName name of the match property
+     * @return string value (may be null)
+     */
+    public String getMatchPropertyString(String propertyName)
+    {
+        return matchPropertyStrings.get(propertyName);
+    }
+
+
+    /**
+     * Return the matcher that tests whether the whole of a value matches the match property.  The string
+     * form of the match property value is the regular expression.
+     *
+     * @param propertyName name of the match property
+     * @return matcher
+     * @throws RuntimeException the string form of the match property value is not a valid regular expression
+     */
+    public OMRSSearchCriteriaMatcher getFullMatcher(String propertyName)
+    {
+        OMRSSearchCriteriaMatcher matcher = fullMatchers.get(propertyName);
+
+        if (matcher == null)
+        {
+            matcher = OMRSSearchCriteriaMatcher.compile(matchPropertyStrings.get(propertyName));
+            fullMatchers.put(propertyName, matcher);
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Return the matcher that tests whether a value contains a match for the match property.
+     *
+     * @param propertyName name of the match property
+     * @return matcher
+     * @throws RuntimeException the string form of the match property value is not a valid regular expression
+     */
+    public OMRSSearchCriteriaMatcher getContainsMatcher(String propertyName)
+    {
+        OMRSSearchCriteriaMatcher matcher = containsMatchers.get(propertyName);
+
+        if (matcher == null)
+        {
+            matcher = OMRSSearchCriteriaMatcher.compile(anyString + matchPropertyStrings.get(propertyName) + anyString);
+            containsMatchers.put(propertyName, matcher);
+        }
+
+        return matcher;
+    }
+}
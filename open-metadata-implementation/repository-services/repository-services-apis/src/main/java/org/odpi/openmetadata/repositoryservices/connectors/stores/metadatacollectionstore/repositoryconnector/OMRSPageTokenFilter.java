@@ -0,0 +1,36 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+
+/**
+ * OMRSPageTokenFilter is the decoded form of the page token passed on the find page requests.  It is created
+ * once for a request by OMRSRepositoryHelper.getPageTokenFilter() and then used to skip the candidate instances
+ * that were returned on the earlier pages, before any further matching is done.  This means a repository only
+ * needs to keep the instances for the requested page and the ones that follow it.
+ *
+ * The instances are ordered by the sequencing property and then by guid, in the same way as
+ * OMRSRepositoryHelper.formatEntityPage() and formatRelationshipPage().
+ */
+public interface OMRSPageTokenFilter
+{
+    /**
+     * Return the guid of the last instance returned on the previous page.  When the results are sequenced
+     * by guid alone, a repository can use this to start its search after this guid.
+     *
+     * @return guid or null if this is the first page
+     */
+    String getLastGUID();
+
+
+    /**
+     * Test whether an instance sorts after the last instance returned on the previous page.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param instanceProperties properties of the instance
+     * @return true if the instance belongs on this page or a later one
+     */
+    boolean isAfterPageToken(String             instanceGUID,
+                             InstanceProperties instanceProperties);
+}
@@ -1103,6 +1103,80 @@ public interface OMRSRepositoryHelper
                                                                                        PropertyErrorException;
 
 
+    /**
+     * Use the sequencing parameters and page token to select the next page of results for a repository call that
+     * returns a list of entity instances.  The results are ordered by the sequencing property and then by guid so
+     * the page token only needs to hold the sequencing property value and guid of the last entity returned.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities along with the token for the next page (null if this is the last page)
+     * @throws PagingErrorException the page token is not valid.
+     */
+    InstancePage formatEntityPage(List<EntityDetail> fullResults,
+                                  String             pageToken,
+                                  String             sequencingProperty,
+                                  SequencingOrder    sequencingOrder,
+                                  int                pageSize) throws PagingErrorException;
+
+
+    /**
+     * Use the sequencing parameters and page token to select the next page of results for a repository call that
+     * returns a list of relationship instances.  The results are ordered by the sequencing property and then by guid
+     * so the page token only needs to hold the sequencing property value and guid of the last relationship returned.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page)
+     * @throws PagingErrorException the page token is not valid.
+     */
+    InstancePage formatRelationshipPage(List<Relationship> fullResults,
+                                        String             pageToken,
+                                        String             sequencingProperty,
+                                        SequencingOrder    sequencingOrder,
+                                        int                pageSize) throws PagingErrorException;
+
+
+    /**
+     * Return the page token that resumes a find request after the supplied instance.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param instanceProperties properties of the instance
+     * @param sequencingProperty String name of the property that is used to sequence the results.
+     * @return opaque token
+     */
+    String getPageToken(String             instanceGUID,
+                        InstanceProperties instanceProperties,
+                        String             sequencingProperty);
+
+
+    /**
+     * Decode a page token into a filter that skips the instances returned on the earlier pages.  The filter
+     * lets a repository drop these instances while it is searching rather than after all of the matching
+     * instances have been retrieved.
+     *
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty String name of the property that is used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @return filter
+     * @throws PagingErrorException the page token is not valid.
+     */
+    OMRSPageTokenFilter getPageTokenFilter(String          pageToken,
+                                           String          sequencingProperty,
+                                           SequencingOrder sequencingOrder) throws PagingErrorException;
+
+
     /**
      * Retrieve an escaped version of the provided string that can be passed to methods that expect regular expressions,
      * without being interpreted as a regular expression (i.e. the returned string will be interpreted as a literal --
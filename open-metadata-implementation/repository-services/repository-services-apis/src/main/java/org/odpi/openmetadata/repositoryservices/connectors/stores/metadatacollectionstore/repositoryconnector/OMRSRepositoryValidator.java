@@ -1246,6 +1246,58 @@ public interface OMRSRepositoryValidator
                                                  MatchCriteria       matchCriteria) throws InvalidParameterException;
 
 
+    /**
+     * Return the compiled form of the match properties.  This is used when the same match properties are
+     * tested against many instances.
+     *
+     * @param matchProperties  the properties to match.
+     * @return compiled match properties (null if the match properties are null)
+     */
+    OMRSMatchPropertiesMatcher compileMatchProperties(InstanceProperties matchProperties);
+
+
+    /**
+     * Count the number of matching property values that an instance has using the compiled match properties.
+     *
+     * @param matchProperties  compiled properties to match.
+     * @param instanceProperties  the properties from the instance.
+     * @return integer count of the matching properties.
+     * @throws InvalidParameterException invalid search criteria
+     */
+    int countMatchingPropertyValues(OMRSMatchPropertiesMatcher matchProperties,
+                                    InstanceProperties         instanceProperties) throws InvalidParameterException;
+
+
+    /**
+     * Count the number of matching header property values that an instance has using the compiled match
+     * properties.
+     *
+     * @param matchProperties  compiled properties to match.
+     * @param instanceHeader  the header properties from the instance.
+     * @param instanceProperties  the effectivity dates.
+     * @return integer count of the matching properties.
+     */
+    int countMatchingHeaderPropertyValues(OMRSMatchPropertiesMatcher matchProperties,
+                                          InstanceAuditHeader        instanceHeader,
+                                          InstanceProperties         instanceProperties);
+
+
+    /**
+     * Determine if the instance properties match the compiled match properties.
+     *
+     * @param matchProperties  compiled properties to match.
+     * @param instanceHeader the header of the instance.
+     * @param instanceProperties  the properties from the instance.
+     * @param matchCriteria  rule on how the match should occur.
+     * @return boolean flag indicating whether the two sets of properties match
+     * @throws InvalidParameterException invalid search criteria
+     */
+    boolean verifyMatchingInstancePropertyValues(OMRSMatchPropertiesMatcher matchProperties,
+                                                 InstanceAuditHeader        instanceHeader,
+                                                 InstanceProperties         instanceProperties,
+                                                 MatchCriteria              matchCriteria) throws InvalidParameterException;
+
+
     /**
      * Validates that an instance has the correct header for it to be a reference copy.
      *
@@ -1298,6 +1350,23 @@ public interface OMRSRepositoryValidator
                                                         String             methodName) throws RepositoryErrorException;
 
 
+    /**
+     * Search for property values matching the compiled search criteria.  This is used when the same search
+     * criteria is tested against many instances.
+     *
+     * @param sourceName  source of the request (used for logging)
+     * @param properties  list of properties associated with the in instance
+     * @param searchCriteria  compiled regular expression for testing the property values
+     * @param methodName  name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException  the properties are not properly set up in the instance
+     */
+    boolean verifyInstancePropertiesMatchSearchCriteria(String                    sourceName,
+                                                        InstanceProperties        properties,
+                                                        OMRSSearchCriteriaMatcher searchCriteria,
+                                                        String                    methodName) throws RepositoryErrorException;
+
+
     /**
      * Search for property values matching the supplied property value
      *
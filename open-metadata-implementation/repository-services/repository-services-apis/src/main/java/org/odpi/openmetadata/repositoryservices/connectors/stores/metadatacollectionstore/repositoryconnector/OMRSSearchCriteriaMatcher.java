@@ -0,0 +1,220 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSSearchCriteriaMatcher is the compiled form of the search criteria (a regular expression) passed on the
+ * find requests.  A matcher is created once for a query and then used to test each of the property values of
+ * the candidate instances.
+ *
+ * The exact match, contains, starts with and ends with regular expressions created by the OMRSRepositoryHelper
+ * (for example getExactMatchRegex()) are recognized and matched with simple string comparisons rather than the
+ * regular expression engine.  Any other search criteria is compiled into a Pattern.
+ *
+ * The matchers are immutable and so they are cached and shared between threads.  The cache is kept in
+ * access order so when it is full, the search criteria that have not been used for the longest time are removed.
+ * The lock on the cache is only held for the look up; the regular expressions are compiled outside of it.
+ */
+public class OMRSSearchCriteriaMatcher
+{
+    private static final int    maxCachedMatchers = 500;
+
+    private static final String literalStart = "\\Q";
+    private static final String literalEnd   = "\\E";
+    private static final String anyString    = ".*";
+
+    private static final Map<String, OMRSSearchCriteriaMatcher> matcherCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, OMRSSearchCriteriaMatcher>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OMRSSearchCriteriaMatcher> eldest)
+                {
+                    return size() > maxCachedMatchers;
+                }
+            });
+
+    private enum MatchType
+    {
+        EXACT,
+        CONTAINS,
+        STARTS_WITH,
+        ENDS_WITH,
+        REGEX
+    }
+
+    private final String    searchCriteria;
+    private final MatchType matchType;
+    private final String    literal;
+    private final Pattern   pattern;
+
+
+    /**
+     * Return the matcher for the search criteria.  It is taken from the cache if the search criteria
+     * has been used recently.  Two threads may compile the same search criteria at the same time, but only
+     * the first matcher is cached.
+     *
+     * @param searchCriteria regular expression
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException the search criteria is not a valid regular expression
+     */
+    public static OMRSSearchCriteriaMatcher compile(String searchCriteria)
+    {
+        OMRSSearchCriteriaMatcher matcher = matcherCache.get(searchCriteria);
+
+        if (matcher == null)
+        {
+            matcher = new OMRSSearchCriteriaMatcher(searchCriteria);
+
+            OMRSSearchCriteriaMatcher cachedMatcher = matcherCache.putIfAbsent(searchCriteria, matcher);
+
+            if (cachedMatcher != null)
+            {
+                return cachedMatcher;
+            }
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Constructor works out which type of match is needed.
+     *
+     * @param searchCriteria regular expression
+     */
+    private OMRSSearchCriteriaMatcher(String searchCriteria)
+    {
+        this.searchCriteria = searchCriteria;
+
+        boolean leadingAnyString  = searchCriteria.startsWith(anyString);
+        boolean trailingAnyString = searchCriteria.endsWith(anyString);
+
+        int literalStartIndex = leadingAnyString ? anyString.length() : 0;
+        int literalEndIndex   = trailingAnyString ? searchCriteria.length() - anyString.length() : searchCriteria.length();
+
+        if ((literalEndIndex >= literalStartIndex) &&
+            isQuotedLiteral(searchCriteria.substring(literalStartIndex, literalEndIndex)))
+        {
+            this.literal = searchCriteria.substring(literalStartIndex + literalStart.length(),
+                                                    literalEndIndex - literalEnd.length());
+            this.pattern = null;
+
+            if (leadingAnyString && trailingAnyString)
+            {
+                this.matchType = MatchType.CONTAINS;
+            }
+            else if (leadingAnyString)
+            {
+                this.matchType = MatchType.ENDS_WITH;
+            }
+            else if (trailingAnyString)
+            {
+                this.matchType = MatchType.STARTS_WITH;
+            }
+            else
+            {
+                this.matchType = MatchType.EXACT;
+            }
+        }
+        else
+        {
+            this.matchType = MatchType.REGEX;
+            this.literal = null;
+            this.pattern = Pattern.compile(searchCriteria);
+        }
+    }
+
+
+    /**
+     * Return true if the string is a single literal quoted using Pattern.quote().
+     *
+     * @param regex regular expression
+     * @return boolean
+     */
+    private static boolean isQuotedLiteral(String regex)
+    {
+        return regex.startsWith(literalStart)
+                && regex.endsWith(literalEnd)
+                && regex.length() >= literalStart.length() + literalEnd.length()
+                && regex.indexOf(literalEnd) == regex.length() - literalEnd.length();
+    }
+
+
+    /**
+     * Return true if the value includes a line terminator.  The "." in a regular expression does not
+     * match line terminators so these values are passed to the regular expression engine.
+     *
+     * @param value string to test
+     * @return boolean
+     */
+    private static boolean containsLineTerminator(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char character = value.charAt(i);
+
+            if ((character == '\n') || (character == '\r') ||
+                (character == '\u0085') || (character == 0x2028) || (character == 0x2029))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the search criteria that this matcher was compiled from.
+     *
+     * @return regular expression
+     */
+    public String getSearchCriteria()
+    {
+        return searchCriteria;
+    }
+
+
+    /**
+     * Test whether the whole of the value matches the search criteria.  This gives the same result as
+     * value.matches(searchCriteria).
+     *
+     * @param value string to test
+     * @return boolean
+     */
+    public boolean matches(String value)
+    {
+        if (value == null)
+        {
+            return false;
+        }
+
+        if ((matchType != MatchType.EXACT) && (matchType != MatchType.REGEX) && (containsLineTerminator(value)))
+        {
+            return Pattern.matches(searchCriteria, value);
+        }
+
+        switch (matchType)
+        {
+            case EXACT:
+                return value.equals(literal);
+
+            case CONTAINS:
+                return value.contains(literal);
+
+            case STARTS_WITH:
+                return value.startsWith(literal);
+
+            case ENDS_WITH:
+                return value.endsWith(literal);
+
+            default:
+                return pattern.matcher(value).matches();
+        }
+    }
+}
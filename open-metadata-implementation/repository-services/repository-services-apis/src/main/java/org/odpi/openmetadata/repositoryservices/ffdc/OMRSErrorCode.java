@@ -303,6 +303,22 @@ public enum OMRSErrorCode
             "Method {0} is unable to accept the new {1} instance from {2} with guid {3} and type {4} because it has a header version of {5} which is greater than this repository can support ({6})",
             "The system is unable to process the request.",
             "The repository is sharing metadata with a repository of greater capability and the local repository is unable to work with its types.  It may be time to upgrade the local repository."),
+    INVALID_SEARCH_CRITERIA_REGEX(400, "OMRS-REPOSITORY-400-066 ",
+            "The search criteria {0} passed on a {1} request to open metadata repository {2} is not a valid regular expression.  The error message was: {3}",
+            "The system is unable to perform the request because the search criteria can not be compiled.",
+            "Correct the search criteria and retry the request."),
+    NO_NEW_INSTANCES(400, "OMRS-REPOSITORY-400-067 ",
+            "The instances passed as the {0} parameter on a {1} request to open metadata repository {2} are missing, or include a null instance or an instance without a type",
+            "The system is unable to perform the request because it needs the type of each new instance.",
+            "Correct the caller's code and retry the request."),
+    DUPLICATE_BATCH_GUID(400, "OMRS-REPOSITORY-400-068 ",
+            "The unique identifier (guid) {0} is used by more than one entity in the {1} parameter on a {2} request to open metadata repository {3}",
+            "The system is unable to perform the request because relationships in the request can not be matched to their entities.",
+            "Give each entity in the request a different guid and retry the request."),
+    INVALID_PAGE_TOKEN(400, "OMRS-REPOSITORY-400-069 ",
+            "The page token {0} passed on a {1} request is not valid",
+            "The system is unable to perform the request because it can not work out where the previous page ended.",
+            "Pass the token returned with the previous page of results, or null to start from the first page, and retry the request."),
     NULL_USER_NAME(400, "OMRS-REST-API-400-001 ",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
             "The system is unable to access the local metadata repository.",
@@ -469,6 +485,18 @@ public enum OMRSErrorCode
             "A null log record originator has been passed by the audit log to the audit log store.",
             "The audit log store throws an exception and the log record is not written to the audit log store.",
             "This is probably an internal error in the audit log.  Raise a Github issue to get this fixed."),
+    NULL_AUDIT_LOG_QUERY_PARAMETER(400, "OMRS-AUDIT-LOG-400-003 ",
+            "A null {0} parameter has been passed on a {1} request to the audit log store.",
+            "The audit log store is unable to process the request.",
+            "Correct the caller's code and retry the request."),
+    INVALID_AUDIT_LOG_TIME_PERIOD(400, "OMRS-AUDIT-LOG-400-004 ",
+            "The start date {0} is after the end date {1} on a {2} request to the audit log store.",
+            "The audit log store is unable to process the request.",
+            "Correct the time period passed by the caller and retry the request."),
+    NEGATIVE_AUDIT_LOG_PAGING_PARAMETER(400, "OMRS-AUDIT-LOG-400-005 ",
+            "A negative value of {0} has been passed on the {1} parameter of a {2} request to the audit log store.",
+            "The audit log store is unable to process the request.",
+            "The offset and maximumRecords parameters must be zero or greater.  Correct the caller's code and retry the request."),
     REPOSITORY_NOT_AVAILABLE(404, "OMRS-REPOSITORY-404-001 ",
             "The open metadata repository connector for server {0} is not active and is unable to service the {1} request",
             "The system is unable to retrieve any metadata properties from this repository.",
@@ -606,6 +634,14 @@ public enum OMRSErrorCode
             "The home metadata collection identifier {0} found by method {1} for instance with GUID {2} is not the metadata collection identifier {3} for the local metadata repository {4}",
             "A request to update a metadata instance (entity or relationship) has been encountered on a reference copy metadata instance.",
             "Locate the open metadata repository that has the home instance and perform the update at that repository."),
+    INSTANCE_SCAN_FAILED(500, "OMRS-METADATA-COLLECTION-500-017 ",
+            "The {0} scan of open metadata repository {1} failed while retrieving the next page of instances.  The message was {2}",
+            "The scan stops and the instances that have not already been returned are not available.",
+            "Use the message from the repository to correct the problem and then restart the scan."),
+    AUDIT_LOG_DIRECTORY_NOT_AVAILABLE(500, "OMRS-AUDIT-LOG-500-001 ",
+            "The file based audit log store is unable to use directory {0}.  The error returned was {1}",
+            "The audit log store does not start and audit log records are not written to this destination.",
+            "Check that the directory named in the endpoint of the audit log store connection can be created and written to by the server."),
     NULL_COHORT_NAME(500, "OMRS-COHORT-MANAGER-500-001 ",
             "OMRSCohortManager has been initialized with a null cohort name",
             "There is an internal error in the OMRS initialization.",
@@ -642,6 +678,10 @@ public enum OMRSErrorCode
             "The archive builder failed to initialize.",
             "There is an internal error in the archive building process.",
             "Raise a Github issue to get this fixed."),
+    ARCHIVE_READ_ERROR(500, "OMRS-ARCHIVE-MANAGER-500-001 ",
+            "Open metadata archive {0} could not be read part way through its contents.  The error was: {1}",
+            "The contents of the archive that were read before the error have been loaded.  The rest of the archive is skipped.",
+            "Check that the archive file is complete and readable and then load the archive again."),
     NULL_EXCHANGE_RULE(500, "OMRS-EVENT-MANAGEMENT-500-001 ",
             "A null exchange rule has been passed to one of the event management components on method {0}.",
             "There is an internal error in the OMRS initialization.",
@@ -706,6 +746,10 @@ public enum OMRSErrorCode
             "The enterprise repository services has detected a repository connector from cohort {0} for metadata collection identifier {1} that has a null metadata collection API object.",
             "There is an internal error in the OMRS Repository Connector implementation.",
             "Raise a Github issue to get this fixed."),
+    INCOMPLETE_ENTERPRISE_COUNT(503, "OMRS-ENTERPRISE-REPOSITORY-503-004 ",
+            "The {0} request is unable to count the unique matching instances because the open metadata repository with metadata collection identifier {1} could not list its matching instances.  The error was: {2}",
+            "The system does not return a count because it would leave out or double count some of the matching instances.",
+            "Use the error from the repository to correct the problem and then retry the request."),
     NULL_CONTENT_MANAGER(503, "OMRS-LOCAL-REPOSITORY-503-001 ",
             "A null repository content manager has been passed to one of the local repository's components on method {0}.",
             "There is an internal error in the OMRS Local Repository Connector implementation, or the way it has been initialized.",
@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSJSONMapper provides a single, shared Jackson configuration for converting the OMRS beans to and from JSON.
+ * Creating an ObjectMapper is expensive because it builds up caches of serializers and deserializers as it is used.
+ * The ObjectReader and ObjectWriter instances returned by this class are immutable and thread-safe so they can be
+ * used concurrently by all of the event and repository threads in the server.
+ */
+public class OMRSJSONMapper
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final ObjectWriter objectWriter             = objectMapper.writer();
+    private static final ObjectReader eventBeanReader          = objectMapper.readerFor(OMRSEventBean.class);
+    private static final ObjectReader instancePropertiesReader = objectMapper.readerFor(InstanceProperties.class);
+    private static final ObjectReader stringListReader         = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor since all of the methods are static.
+     */
+    private OMRSJSONMapper()
+    {
+    }
+
+
+    /**
+     * Return the shared object mapper.  It must not be reconfigured by the caller since this would affect
+     * all other users.
+     *
+     * @return object mapper
+     */
+    public static ObjectMapper getObjectMapper()
+    {
+        return objectMapper;
+    }
+
+
+    /**
+     * Return a reader for the requested class.  The readers are cached.
+     *
+     * @param beanClass class of bean to read
+     * @return object reader
+     */
+    public static ObjectReader getReader(Class<?>  beanClass)
+    {
+        return readers.computeIfAbsent(beanClass, objectMapper::readerFor);
+    }
+
+
+    /**
+     * Return the writer for any of the OMRS beans.
+     *
+     * @return object writer
+     */
+    public static ObjectWriter getWriter()
+    {
+        return objectWriter;
+    }
+
+
+    /**
+     * Convert a bean into a JSON string.
+     *
+     * @param bean object to convert
+     * @return JSON string
+     * @throws IOException the bean can not be serialized
+     */
+    public static String writeValueAsString(Object  bean) throws IOException
+    {
+        return objectWriter.writeValueAsString(bean);
+    }
+
+
+    /**
+     * Parse an OMRS event.
+     *
+     * @param json JSON string from the event bus
+     * @return event bean
+     * @throws IOException the JSON is not a valid event
+     */
+    public static OMRSEventBean readEventBean(String  json) throws IOException
+    {
+        return eventBeanReader.readValue(json);
+    }
+
+
+    /**
+     * Parse a set of instance properties.
+     *
+     * @param json JSON string
+     * @return instance properties
+     * @throws IOException the JSON is not valid instance properties
+     */
+    public static InstanceProperties readInstanceProperties(String  json) throws IOException
+    {
+        return instancePropertiesReader.readValue(json);
+    }
+
+
+    /**
+     * Parse a list of strings.
+     *
+     * @param json JSON string
+     * @return list of strings
+     * @throws IOException the JSON is not a valid list of strings
+     */
+    public static List<String> readStringList(String  json) throws IOException
+    {
+        return stringListReader.readValue(json);
+    }
+
+
+    /**
+     * Parse any bean using a cached reader.
+     *
+     * @param json JSON string
+     * @param beanClass class of bean to return
+     * @param <T> type of bean
+     * @return bean
+     * @throws IOException the JSON is not valid for the bean class
+     */
+    public static <T> T readValue(String    json,
+                                  Class<T>  beanClass) throws IOException
+    {
+        return getReader(beanClass).readValue(json);
+    }
+}
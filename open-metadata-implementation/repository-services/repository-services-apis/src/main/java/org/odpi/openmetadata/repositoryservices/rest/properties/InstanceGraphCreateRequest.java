@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceGraphCreateRequest carries a set of new entities and relationships to create in a single call.
+ * The guid of each entity is only used to match it with the ends of the relationships that refer to it.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceGraphCreateRequest extends OMRSAPIRequest
+{
+    private List<EntityDetail> entityElementList       = null;
+    private List<Relationship> relationshipElementList = null;
+    private String             metadataCollectionId    = null;
+    private String             metadataCollectionName  = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceGraphCreateRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InstanceGraphCreateRequest(InstanceGraphCreateRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.entityElementList = template.getEntityElementList();
+            this.relationshipElementList = template.getRelationshipElementList();
+            this.metadataCollectionId = template.getMetadataCollectionId();
+            this.metadataCollectionName = template.getMetadataCollectionName();
+        }
+    }
+
+
+    /**
+     * Return the list of new entities.
+     *
+     * @return list of entities
+     */
+    public List<EntityDetail> getEntityElementList()
+    {
+        return entityElementList;
+    }
+
+
+    /**
+     * Set up the list of new entities.
+     *
+     * @param entityElementList list of entities
+     */
+    public void setEntityElementList(List<EntityDetail> entityElementList)
+    {
+        this.entityElementList = entityElementList;
+    }
+
+
+    /**
+     * Return the list of new relationships.
+     *
+     * @return list of relationships
+     */
+    public List<Relationship> getRelationshipElementList()
+    {
+        return relationshipElementList;
+    }
+
+
+    /**
+     * Set up the list of new relationships.
+     *
+     * @param relationshipElementList list of relationships
+     */
+    public void setRelationshipElementList(List<Relationship> relationshipElementList)
+    {
+        this.relationshipElementList = relationshipElementList;
+    }
+
+
+    /**
+     * Return the metadata collection id for the new instances.
+     *
+     * @return guid
+     */
+    public String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Set up the metadata collection id for the new instances.
+     * This field is optional for addInstances and mandatory for addExternalInstances.
+     *
+     * @param metadataCollectionId guid
+     */
+    public void setMetadataCollectionId(String metadataCollectionId)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+    }
+
+
+    /**
+     * Return the name of the metadata collection for the new instances.
+     *
+     * @return name
+     */
+    public String getMetadataCollectionName()
+    {
+        return metadataCollectionName;
+    }
+
+
+    /**
+     * Set up the name of the metadata collection for the new instances.
+     *
+     * @param metadataCollectionName name
+     */
+    public void setMetadataCollectionName(String metadataCollectionName)
+    {
+        this.metadataCollectionName = metadataCollectionName;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceGraphCreateRequest{" +
+                "entityElementList=" + entityElementList +
+                ", relationshipElementList=" + relationshipElementList +
+                ", metadataCollectionId='" + metadataCollectionId + '\'' +
+                ", metadataCollectionName='" + metadataCollectionName + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceGraphCreateRequest))
+        {
+            return false;
+        }
+        InstanceGraphCreateRequest that = (InstanceGraphCreateRequest) objectToCompare;
+        return Objects.equals(getEntityElementList(), that.getEntityElementList()) &&
+                Objects.equals(getRelationshipElementList(), that.getRelationshipElementList()) &&
+                Objects.equals(getMetadataCollectionId(), that.getMetadataCollectionId()) &&
+                Objects.equals(getMetadataCollectionName(), that.getMetadataCollectionName());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getEntityElementList(),
+                            getRelationshipElementList(),
+                            getMetadataCollectionId(),
+                            getMetadataCollectionName());
+    }
+}
@@ -0,0 +1,130 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceScanRequest carries the parameters of a scan through all of the entities or relationships of a
+ * metadata collection.  The results can be limited to a type (and its subtypes), a home metadata collection and
+ * a list of statuses.  The page size sets the number of instances that are retrieved from the repository at a
+ * time.  The sequencing properties, offset and page token are ignored.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceScanRequest extends TypeLimitedFindRequest
+{
+    private String homeMetadataCollectionId = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceScanRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    public InstanceScanRequest(InstanceScanRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.homeMetadataCollectionId = template.getHomeMetadataCollectionId();
+        }
+    }
+
+
+    /**
+     * Return the identifier of the home metadata collection of the instances to return.
+     * Null means instances from any home metadata collection.
+     *
+     * @return String guid
+     */
+    public String getHomeMetadataCollectionId()
+    {
+        return homeMetadataCollectionId;
+    }
+
+
+    /**
+     * Set up the identifier of the home metadata collection of the instances to return.
+     *
+     * @param homeMetadataCollectionId String guid
+     */
+    public void setHomeMetadataCollectionId(String homeMetadataCollectionId)
+    {
+        this.homeMetadataCollectionId = homeMetadataCollectionId;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceScanRequest{" +
+                "homeMetadataCollectionId='" + homeMetadataCollectionId + '\'' +
+                ", typeGUID='" + getTypeGUID() + '\'' +
+                ", pageSize=" + getPageSize() +
+                ", limitResultsByStatus=" + getLimitResultsByStatus() +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceScanRequest))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        InstanceScanRequest that = (InstanceScanRequest) objectToCompare;
+        return Objects.equals(getHomeMetadataCollectionId(), that.getHomeMetadataCollectionId());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getHomeMetadataCollectionId());
+    }
+}
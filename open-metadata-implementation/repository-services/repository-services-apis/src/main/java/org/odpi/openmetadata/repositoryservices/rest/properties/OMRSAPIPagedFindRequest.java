@@ -30,6 +30,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
     private String               sequencingProperty   = null;
     private SequencingOrder      sequencingOrder      = null;
     private int                  offset               = 0;
+    private String               pageToken            = null;
     private int                  pageSize             = 0;
 
     /**
@@ -55,7 +56,8 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
             this.sequencingProperty = template.getSequencingProperty();
             this.sequencingOrder = template.getSequencingOrder();
             this.offset = template.getOffset();
-            this.pageSize = getPageSize();
+            this.pageToken = template.getPageToken();
+            this.pageSize = template.getPageSize();
         }
     }
 
@@ -128,6 +130,30 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
     }
 
 
+    /**
+     * Return the continuation token returned with the previous page of results.  It is used in place of the
+     * offset by the requests that page with tokens.  Null means start from the first element.
+     *
+     * @return opaque token
+     */
+    public String getPageToken()
+    {
+        return pageToken;
+    }
+
+
+    /**
+     * Set up the continuation token returned with the previous page of results.  It is used in place of the
+     * offset by the requests that page with tokens.  Null means start from the first element.
+     *
+     * @param pageToken opaque token
+     */
+    public void setPageToken(String pageToken)
+    {
+        this.pageToken = pageToken;
+    }
+
+
     /**
      * Return the maximum number of elements that can be returned on this request.
      *
@@ -163,6 +189,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
                 "sequencingProperty='" + sequencingProperty + '\'' +
                 ", sequencingOrder=" + sequencingOrder +
                 ", offset=" + offset +
+                ", pageToken='" + pageToken + '\'' +
                 ", pageSize=" + pageSize +
                 ", limitResultsByStatus=" + getLimitResultsByStatus() +
                 '}';
@@ -194,6 +221,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
                 that = (OMRSAPIPagedFindRequest) objectToCompare;
         return getOffset() == that.getOffset() &&
                 getPageSize() == that.getPageSize() &&
+                Objects.equals(getPageToken(), that.getPageToken()) &&
                 Objects.equals(getSequencingProperty(), that.getSequencingProperty()) &&
                 getSequencingOrder() == that.getSequencingOrder();
     }
@@ -212,6 +240,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
                             getSequencingProperty(),
                             getSequencingOrder(),
                             getOffset(),
+                            getPageToken(),
                             getPageSize());
     }
 }
@@ -27,9 +27,10 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         })
 public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
 {
-    protected String  nextPageURL = null;
-    protected int     offset      = 0;
-    protected int     pageSize    = 0;
+    protected String  nextPageURL   = null;
+    protected String  nextPageToken = null;
+    protected int     offset        = 0;
+    protected int     pageSize      = 0;
 
 
     /**
@@ -53,6 +54,7 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
         if (template != null)
         {
             nextPageURL = template.getNextPageURL();
+            nextPageToken = template.getNextPageToken();
             offset = template.getOffset();
             pageSize = template.getPageSize();
         }
@@ -81,6 +83,29 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
     }
 
 
+    /**
+     * Return the continuation token that can be passed on the next request to retrieve the next page.
+     * Null means there are no more results.
+     *
+     * @return opaque token
+     */
+    public String getNextPageToken()
+    {
+        return nextPageToken;
+    }
+
+
+    /**
+     * Set up the continuation token that can be passed on the next request to retrieve the next page.
+     *
+     * @param nextPageToken opaque token
+     */
+    public void setNextPageToken(String nextPageToken)
+    {
+        this.nextPageToken = nextPageToken;
+    }
+
+
     /**
      * Return the starting element number for this set of results.  This is used when retrieving elements
      * beyond the first page of results. Zero means the results start from the first element.
@@ -137,6 +162,7 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
     {
         return "OMRSRESTAPIPagedResponse{" +
                 "nextPageURL='" + nextPageURL + '\'' +
+                ", nextPageToken='" + nextPageToken + '\'' +
                 ", offset=" + offset +
                 ", pageSize=" + pageSize +
                 ", relatedHTTPCode=" + relatedHTTPCode +
@@ -174,7 +200,8 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
                 that = (OMRSAPIPagedResponse) objectToCompare;
         return getOffset() == that.getOffset() &&
                 getPageSize() == that.getPageSize() &&
-                Objects.equals(getNextPageURL(), that.getNextPageURL());
+                Objects.equals(getNextPageURL(), that.getNextPageURL()) &&
+                Objects.equals(getNextPageToken(), that.getNextPageToken());
     }
 
 
@@ -186,6 +213,6 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getNextPageURL(), getOffset(), getPageSize());
+        return Objects.hash(super.hashCode(), getNextPageURL(), getNextPageToken(), getOffset(), getPageSize());
     }
 }
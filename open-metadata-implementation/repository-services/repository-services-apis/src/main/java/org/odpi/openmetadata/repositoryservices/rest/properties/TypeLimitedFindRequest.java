@@ -23,6 +23,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 @JsonSubTypes(
         {
                 @JsonSubTypes.Type(value = PropertyMatchFindRequest.class, name = "PropertyMatchFindRequest"),
+                @JsonSubTypes.Type(value = InstanceScanRequest.class, name = "InstanceScanRequest"),
                 @JsonSubTypes.Type(value = TypeLimitedHistoricalFindRequest.class, name = "TypeLimitedHistoricalFindRequest")
         })
 public class TypeLimitedFindRequest extends OMRSAPIPagedFindRequest
@@ -0,0 +1,270 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OpenMetadataTopicConnectorTest checks that events passed to receiveEvent() are delivered to the listeners,
+ * and that the events for each instance stay in order when they are processed by a pool of workers.  This
+ * includes relationship events, which must stay in order with the events for the entities at each end.
+ */
+public class OpenMetadataTopicConnectorTest
+{
+    private static final int numberOfInstances = 5;
+    private static final int eventsPerInstance = 100;
+
+
+    /**
+     * Simple topic connector that passes sent events straight to the listener thread.
+     */
+    private class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        public void sendEvent(String event)
+        {
+            super.receiveEvent(new IncomingEvent(event, String.valueOf(event.hashCode())));
+        }
+    }
+
+
+    /**
+     * Listener that records the sequence numbers of the events received for each instance.
+     */
+    private class TestTopicListener implements OpenMetadataTopicListener
+    {
+        Map<String, List<Integer>> receivedEvents = new ConcurrentHashMap<>();
+        CountDownLatch             latch          = new CountDownLatch(numberOfInstances * eventsPerInstance);
+
+        public void processEvent(String event)
+        {
+            String   guid     = event.substring(event.indexOf(":\"") + 2, event.indexOf("\","));
+            int      sequence = Integer.parseInt(event.substring(event.lastIndexOf(':') + 1, event.indexOf('}')));
+
+            receivedEvents.computeIfAbsent(guid, (key) -> new ArrayList<>()).add(sequence);
+            latch.countDown();
+        }
+    }
+
+
+    /**
+     * Listener that records the labels of the events in the order they are processed.
+     */
+    private class OrderRecordingListener implements OpenMetadataTopicListener
+    {
+        List<String>   processedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch;
+
+        OrderRecordingListener(int expectedEvents)
+        {
+            latch = new CountDownLatch(expectedEvents);
+        }
+
+        public void processEvent(String event)
+        {
+            try
+            {
+                processedEvents.add(OMRSJSONMapper.getObjectMapper().readTree(event).get("label").asText());
+            }
+            catch (Exception error)
+            {
+                processedEvents.add(error.getMessage());
+            }
+
+            latch.countDown();
+        }
+    }
+
+
+    /**
+     * Create and start a connector with the supplied listener.
+     *
+     * @param configurationProperties properties for the connector
+     * @param listener listener to register
+     * @return started connector
+     * @throws Exception unexpected error
+     */
+    private TestTopicConnector getConnector(Map<String, Object>       configurationProperties,
+                                            OpenMetadataTopicListener listener) throws Exception
+    {
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+
+        TestTopicConnector connector = new TestTopicConnector();
+
+        connector.initialize("TestTopicConnector", new ConnectionProperties(connection));
+        connector.setAuditLog(new OMRSAuditLog(new OMRSAuditLogDestination(null), 0, "Test", "Test", null));
+        connector.registerListener(listener);
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Return an OMRS style instance event about an entity.
+     *
+     * @param label label for the listener to record
+     * @param entityGUID unique identifier of the entity
+     * @return JSON event
+     */
+    private String getEntityEvent(String label,
+                                  String entityGUID)
+    {
+        return "{\"label\":\"" + label + "\",\"eventCategory\":\"INSTANCE\",\"instanceEventSection\":" +
+               "{\"eventType\":\"UPDATED_ENTITY_EVENT\",\"entity\":{\"guid\":\"" + entityGUID + "\"}}}";
+    }
+
+
+    /**
+     * Return an OMRS style instance event about a relationship.
+     *
+     * @param label label for the listener to record
+     * @param relationshipGUID unique identifier of the relationship
+     * @param entityOneGUID unique identifier of the entity at end one
+     * @param entityTwoGUID unique identifier of the entity at end two
+     * @return JSON event
+     */
+    private String getRelationshipEvent(String label,
+                                        String relationshipGUID,
+                                        String entityOneGUID,
+                                        String entityTwoGUID)
+    {
+        return "{\"label\":\"" + label + "\",\"eventCategory\":\"INSTANCE\",\"instanceEventSection\":" +
+               "{\"eventType\":\"NEW_RELATIONSHIP_EVENT\",\"relationship\":{\"guid\":\"" + relationshipGUID + "\"," +
+               "\"entityOneProxy\":{\"guid\":\"" + entityOneGUID + "\"}," +
+               "\"entityTwoProxy\":{\"guid\":\"" + entityTwoGUID + "\"}}}}";
+    }
+
+
+    /**
+     * Send events about several instances through the connector and check they arrive in order.
+     *
+     * @param configurationProperties properties for the connector
+     * @throws Exception unexpected error
+     */
+    private void validateEventDelivery(Map<String, Object> configurationProperties) throws Exception
+    {
+        TestTopicListener  listener  = new TestTopicListener();
+        TestTopicConnector connector = getConnector(configurationProperties, listener);
+
+        for (int sequence = 0; sequence < eventsPerInstance; sequence++)
+        {
+            for (int instance = 0; instance < numberOfInstances; instance++)
+            {
+                connector.sendEvent("{\"guid\":\"instance-" + instance + "\",\"sequence\":" + sequence + "}");
+            }
+        }
+
+        assertTrue(listener.latch.await(10, TimeUnit.SECONDS));
+        connector.disconnect();
+
+        assertEquals(listener.receivedEvents.size(), numberOfInstances);
+
+        for (List<Integer> sequences : listener.receivedEvents.values())
+        {
+            assertEquals(sequences.size(), eventsPerInstance);
+
+            for (int sequence = 0; sequence < eventsPerInstance; sequence++)
+            {
+                assertEquals(sequences.get(sequence).intValue(), sequence);
+            }
+        }
+    }
+
+
+    @Test public void testListenerThreadDelivery() throws Exception
+    {
+        validateEventDelivery(null);
+    }
+
+
+    @Test public void testWorkerPoolDelivery() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put("listenerThreads", 3);
+        configurationProperties.put("listenerQueueSize", "10");
+
+        validateEventDelivery(configurationProperties);
+    }
+
+
+    @Test public void testOrderingKeys()
+    {
+        TestTopicConnector connector = new TestTopicConnector();
+
+        assertEquals(connector.getOrderingKeys(new IncomingEvent(getEntityEvent("E", "entity-1"), "1")),
+                     Collections.singletonList("entity-1"));
+        assertEquals(connector.getOrderingKeys(new IncomingEvent(getRelationshipEvent("R", "relationship-1", "entity-1", "entity-2"), "2")),
+                     Arrays.asList("relationship-1", "entity-1", "entity-2"));
+        assertEquals(connector.getOrderingKeys(new IncomingEvent("{\"other\":{\"guid\":\"element-1\"},\"guid\":\"element-2\"}", "3")),
+                     Collections.singletonList("element-1"));
+
+        /*
+         * Events that are not about a single set of instances have no ordering keys.
+         */
+        assertTrue(connector.getOrderingKeys(new IncomingEvent("{\"eventCategory\":\"TYPEDEF\",\"typeDefEventSection\":{\"typeDef\":{\"guid\":\"type-1\"}}}", "4")).isEmpty());
+        assertTrue(connector.getOrderingKeys(new IncomingEvent("{\"eventCategory\":\"INSTANCE\",\"instanceEventSection\":{\"instanceBatch\":{\"entities\":[{\"guid\":\"entity-1\"}]}}}", "5")).isEmpty());
+        assertTrue(connector.getOrderingKeys(new IncomingEvent("not json", "6")).isEmpty());
+    }
+
+
+    @Test public void testRelationshipEventsStayInOrderWithTheirEntities() throws Exception
+    {
+        final int numberOfRounds = 50;
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put("listenerThreads", 3);
+
+        /*
+         * The hash codes of the two entity GUIDs differ by one so their events go to different workers.
+         */
+        OrderRecordingListener listener  = new OrderRecordingListener(numberOfRounds * 3);
+        TestTopicConnector     connector = getConnector(configurationProperties, listener);
+
+        for (int round = 0; round < numberOfRounds; round++)
+        {
+            connector.sendEvent(getEntityEvent("A-" + round, "entity-a"));
+            connector.sendEvent(getEntityEvent("B-" + round, "entity-b"));
+            connector.sendEvent(getRelationshipEvent("R-" + round, "relationship-1", "entity-a", "entity-b"));
+        }
+
+        assertTrue(listener.latch.await(10, TimeUnit.SECONDS));
+        connector.disconnect();
+
+        List<String> processedEvents = new ArrayList<>(listener.processedEvents);
+
+        for (int round = 0; round < numberOfRounds; round++)
+        {
+            int relationshipPosition = processedEvents.indexOf("R-" + round);
+
+            assertTrue(relationshipPosition > processedEvents.indexOf("A-" + round));
+            assertTrue(relationshipPosition > processedEvents.indexOf("B-" + round));
+
+            if (round + 1 < numberOfRounds)
+            {
+                assertTrue(relationshipPosition < processedEvents.indexOf("A-" + (round + 1)));
+                assertTrue(relationshipPosition < processedEvents.indexOf("B-" + (round + 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePage;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the stepping of InstanceScanIterator through a sequence of pages.
+ */
+public class InstanceScanIteratorTest
+{
+    /**
+     * Scan over a fixed list of pages.  The page token is the index of the next page.  A page given as null
+     * fails when it is requested.
+     */
+    private static class TestScanIterator extends InstanceScanIterator<EntityDetail>
+    {
+        private List<InstancePage> pages;
+        private List<String>       requestedTokens = new ArrayList<>();
+
+        TestScanIterator(String homeMetadataCollectionId, List<InstancePage> pages)
+        {
+            super("testRepository", homeMetadataCollectionId, pages.get(0), "testScan");
+
+            this.pages = pages;
+        }
+
+        @Override
+        protected InstancePage getNextPage(String pageToken) throws OMRSCheckedExceptionBase
+        {
+            requestedTokens.add(pageToken);
+
+            InstancePage page = pages.get(Integer.parseInt(pageToken));
+
+            if (page == null)
+            {
+                throw new RepositoryErrorException(500,
+                                                   this.getClass().getName(),
+                                                   "getNextPage",
+                                                   "Test failure",
+                                                   "None",
+                                                   "None");
+            }
+
+            return page;
+        }
+
+        @Override
+        protected List<EntityDetail> getPageInstances(InstancePage page)
+        {
+            return page.getEntities();
+        }
+    }
+
+
+    private InstancePage getPage(String nextPageToken, String ... guids)
+    {
+        InstancePage       page     = new InstancePage();
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setMetadataCollectionId(guid.startsWith("local") ? "localCollection" : "remoteCollection");
+            entities.add(entity);
+        }
+
+        page.setEntities(entities);
+        page.setNextPageToken(nextPageToken);
+
+        return page;
+    }
+
+
+    private List<String> getGUIDs(TestScanIterator iterator)
+    {
+        List<String> guids = new ArrayList<>();
+
+        while (iterator.hasNext())
+        {
+            guids.add(iterator.next().getGUID());
+        }
+
+        return guids;
+    }
+
+
+    @Test
+    public void testScanStepsThroughPages()
+    {
+        TestScanIterator iterator = new TestScanIterator(null,
+                                                         Arrays.asList(getPage("1", "local-1", "local-2"),
+                                                                       getPage("2"),
+                                                                       getPage(null, "remote-1")));
+
+        /*
+         * The next page is only retrieved once the current page has been returned.
+         */
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.requestedTokens.isEmpty());
+
+        assertEquals(getGUIDs(iterator), Arrays.asList("local-1", "local-2", "remote-1"));
+        assertEquals(iterator.requestedTokens, Arrays.asList("1", "2"));
+
+        try
+        {
+            iterator.next();
+            fail("Instance returned after the end of the scan");
+        }
+        catch (NoSuchElementException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    @Test
+    public void testScanSkipsOtherHomeCollections()
+    {
+        TestScanIterator iterator = new TestScanIterator("localCollection",
+                                                         Arrays.asList(getPage("1", "remote-1", "local-1"),
+                                                                       getPage(null, "remote-2", "local-2")));
+
+        assertEquals(getGUIDs(iterator), Arrays.asList("local-1", "local-2"));
+    }
+
+
+    @Test
+    public void testPageErrorIsReported()
+    {
+        TestScanIterator iterator = new TestScanIterator(null,
+                                                         Arrays.asList(getPage("1", "local-1"),
+                                                                       null));
+
+        assertEquals(iterator.next().getGUID(), "local-1");
+
+        try
+        {
+            iterator.hasNext();
+            fail("Failed page was not reported");
+        }
+        catch (OMRSRuntimeException error)
+        {
+            assertTrue(error.getCause() instanceof RepositoryErrorException);
+        }
+
+        /*
+         * The scan ends after the error.
+         */
+        assertFalse(iterator.hasNext());
+    }
+}
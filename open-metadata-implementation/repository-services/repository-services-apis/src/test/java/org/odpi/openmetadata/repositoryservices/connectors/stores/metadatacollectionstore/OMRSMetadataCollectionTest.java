@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the default implementations of the retrieval of a list of instances by their unique identifiers.
+ */
+public class OMRSMetadataCollectionTest
+{
+    private static final String userId = "testUser";
+
+
+    /**
+     * Metadata collection that only supports the retrieval of single instances from fixed maps.
+     * An entity GUID that starts with "proxy" is stored as a proxy.
+     */
+    private static class SingleGetCollection extends OMRSMetadataCollectionBase
+    {
+        Map<String, EntityDetail> entities      = new HashMap<>();
+        Map<String, Relationship> relationships = new HashMap<>();
+
+        SingleGetCollection()
+        {
+            super(null, "testRepository", null, null, "testMetadataCollectionId");
+        }
+
+        @Override
+        public EntityDetail getEntityDetail(String userId,
+                                            String guid) throws EntityNotKnownException,
+                                                                EntityProxyOnlyException
+        {
+            if (guid.startsWith("proxy"))
+            {
+                throw new EntityProxyOnlyException(404,
+                                                   this.getClass().getName(),
+                                                   "getEntityDetail",
+                                                   "Proxy only",
+                                                   "None",
+                                                   "None");
+            }
+
+            EntityDetail entity = entities.get(guid);
+
+            if (entity == null)
+            {
+                throw new EntityNotKnownException(404,
+                                                  this.getClass().getName(),
+                                                  "getEntityDetail",
+                                                  "Not known",
+                                                  "None",
+                                                  "None");
+            }
+
+            return entity;
+        }
+
+        @Override
+        public Relationship getRelationship(String userId,
+                                            String guid) throws RelationshipNotKnownException
+        {
+            Relationship relationship = relationships.get(guid);
+
+            if (relationship == null)
+            {
+                throw new RelationshipNotKnownException(404,
+                                                        this.getClass().getName(),
+                                                        "getRelationship",
+                                                        "Not known",
+                                                        "None",
+                                                        "None");
+            }
+
+            return relationship;
+        }
+    }
+
+
+    private SingleGetCollection getCollection()
+    {
+        SingleGetCollection collection = new SingleGetCollection();
+
+        for (String guid : Arrays.asList("instance-1", "instance-2", "instance-3", "deleted-1"))
+        {
+            InstanceStatus status = guid.startsWith("deleted") ? InstanceStatus.DELETED : InstanceStatus.ACTIVE;
+
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setStatus(status);
+            collection.entities.put(guid, entity);
+
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID(guid);
+            relationship.setStatus(status);
+            collection.relationships.put(guid, relationship);
+        }
+
+        return collection;
+    }
+
+
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    @Test
+    public void testEntitiesAreReturnedInRequestOrder() throws Exception
+    {
+        SingleGetCollection collection = getCollection();
+
+        List<EntityDetail> entities = collection.getEntitiesByGUIDs(userId,
+                                                                    Arrays.asList("instance-3",
+                                                                                  "unknown-1",
+                                                                                  "instance-1",
+                                                                                  "proxy-1",
+                                                                                  "deleted-1",
+                                                                                  "instance-2"));
+
+        assertEquals(getGUIDs(entities), Arrays.asList("instance-3", "instance-1", "instance-2"));
+    }
+
+
+    @Test
+    public void testRelationshipsAreReturnedInRequestOrder() throws Exception
+    {
+        SingleGetCollection collection = getCollection();
+
+        List<Relationship> relationships = collection.getRelationshipsByGUIDs(userId,
+                                                                              Arrays.asList("instance-2",
+                                                                                            "deleted-1",
+                                                                                            "unknown-1",
+                                                                                            "instance-1"));
+
+        assertEquals(getGUIDs(relationships), Arrays.asList("instance-2", "instance-1"));
+    }
+
+
+    @Test
+    public void testNoKnownInstancesReturnsNull() throws Exception
+    {
+        SingleGetCollection collection = getCollection();
+
+        assertNull(collection.getEntitiesByGUIDs(userId, Arrays.asList("unknown-1", "deleted-1")));
+        assertNull(collection.getRelationshipsByGUIDs(userId, Collections.emptyList()));
+    }
+
+
+    @Test
+    public void testNullGUIDIsRejected() throws Exception
+    {
+        SingleGetCollection collection = getCollection();
+
+        try
+        {
+            collection.getEntitiesByGUIDs(userId, Arrays.asList("instance-1", null));
+            fail("Null guid accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Verify that OMRSSearchCriteriaMatcher gives the same results as String.matches() for both the
+ * literal fast paths and general regular expressions.
+ */
+public class OMRSSearchCriteriaMatcherTest
+{
+    private static final String literal = "Sales.Data (2019)";
+
+    private String[] searchCriteria = {
+            Pattern.quote(literal),
+            ".*" + Pattern.quote(literal) + ".*",
+            Pattern.quote(literal) + ".*",
+            ".*" + Pattern.quote(literal),
+            Pattern.quote(""),
+            ".*",
+            "Sales.*",
+            "[A-Z].*\\)",
+            Pattern.quote("a\\Eb"),
+    };
+
+    private String[] values = {
+            literal,
+            "Old " + literal,
+            literal + " copy",
+            "Old " + literal + " copy",
+            "SalesXData (2019)",
+            "First line\n" + literal,
+            literal + "\r\nSecond line",
+            "",
+            "a\\Eb",
+    };
+
+
+    @Test public void testMatchesSameAsRegex()
+    {
+        for (String criteria : searchCriteria)
+        {
+            OMRSSearchCriteriaMatcher matcher = OMRSSearchCriteriaMatcher.compile(criteria);
+
+            for (String value : values)
+            {
+                assertEquals(matcher.matches(value), value.matches(criteria), criteria + " against " + value);
+            }
+        }
+    }
+
+
+    @Test public void testNullValue()
+    {
+        assertFalse(OMRSSearchCriteriaMatcher.compile(".*").matches(null));
+    }
+
+
+    @Test public void testCache()
+    {
+        assertSame(OMRSSearchCriteriaMatcher.compile("Test.*"), OMRSSearchCriteriaMatcher.compile("Test.*"));
+    }
+
+
+    @Test public void testCacheIsBounded()
+    {
+        OMRSSearchCriteriaMatcher firstMatcher = OMRSSearchCriteriaMatcher.compile("Bounded-0.*");
+
+        for (int i = 1; i <= 500; i++)
+        {
+            OMRSSearchCriteriaMatcher.compile("Bounded-" + i + ".*");
+        }
+
+        assertNotSame(OMRSSearchCriteriaMatcher.compile("Bounded-0.*"), firstMatcher);
+    }
+
+
+    @Test public void testRecentlyUsedMatcherIsKept()
+    {
+        OMRSSearchCriteriaMatcher frequentMatcher = OMRSSearchCriteriaMatcher.compile("Frequent.*");
+
+        for (int i = 0; i <= 1000; i++)
+        {
+            OMRSSearchCriteriaMatcher.compile("Churn-" + i + ".*");
+
+            assertSame(OMRSSearchCriteriaMatcher.compile("Frequent.*"), frequentMatcher);
+        }
+    }
+
+
+    @Test public void testConcurrentCompile() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try
+        {
+            List<Callable<OMRSSearchCriteriaMatcher>> compiles = new ArrayList<>();
+
+            for (int i = 0; i < 8; i++)
+            {
+                compiles.add(() -> OMRSSearchCriteriaMatcher.compile("Concurrent [0-9]+"));
+            }
+
+            OMRSSearchCriteriaMatcher matcher = OMRSSearchCriteriaMatcher.compile("Concurrent [0-9]+");
+
+            for (Future<OMRSSearchCriteriaMatcher> result : executor.invokeAll(compiles))
+            {
+                assertSame(result.get(), matcher);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
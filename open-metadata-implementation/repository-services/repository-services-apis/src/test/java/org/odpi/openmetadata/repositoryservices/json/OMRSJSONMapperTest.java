@@ -0,0 +1,51 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.json;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Verify that the shared mapper converts the OMRS beans to JSON and back.
+ */
+public class OMRSJSONMapperTest
+{
+    @Test public void testInstancePropertiesRoundTrip() throws Exception
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setInstancePropertyCategory(InstancePropertyCategory.PRIMITIVE);
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue("TestValue");
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("name", propertyValue);
+
+        String json = OMRSJSONMapper.writeValueAsString(properties);
+
+        assertEquals(OMRSJSONMapper.readInstanceProperties(json), properties);
+        assertEquals(OMRSJSONMapper.readValue(json, InstanceProperties.class), properties);
+    }
+
+
+    @Test public void testStringListRoundTrip() throws Exception
+    {
+        List<String> maintainers = Arrays.asList("userOne", "userTwo");
+
+        assertEquals(OMRSJSONMapper.readStringList(OMRSJSONMapper.writeValueAsString(maintainers)), maintainers);
+    }
+
+
+    @Test public void testReaderCache()
+    {
+        assertSame(OMRSJSONMapper.getReader(InstanceProperties.class), OMRSJSONMapper.getReader(InstanceProperties.class));
+    }
+}
@@ -247,7 +247,11 @@ public class OMRSArchiveBuilder
 
         if (primitiveDef != null)
         {
-            log.debug("Adding PrimitiveDef: " + primitiveDef.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding PrimitiveDef: " + primitiveDef.toString());
+            }
+
             this.checkForBlanksInTypeName(primitiveDef.getName());
 
             PrimitiveDef duplicateElement = primitiveDefMap.put(primitiveDef.getName(), primitiveDef);
@@ -370,7 +374,11 @@ public class OMRSArchiveBuilder
 
         if (collectionDef != null)
         {
-            log.debug("Adding CollectionDef: " + collectionDef.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding CollectionDef: " + collectionDef.toString());
+            }
+
             
             this.checkForBlanksInTypeName(collectionDef.getName());
 
@@ -494,7 +502,11 @@ public class OMRSArchiveBuilder
 
         if (enumDef != null)
         {
-            log.debug("Adding EnumDef: " + enumDef.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding EnumDef: " + enumDef.toString());
+            }
+
 
             this.checkForBlanksInTypeName(enumDef.getName());
 
@@ -618,7 +630,11 @@ public class OMRSArchiveBuilder
 
         if (classificationDef != null)
         {
-            log.debug("Adding ClassificationDef: " + classificationDef.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding ClassificationDef: " + classificationDef.toString());
+            }
+
             
             this.checkForBlanksInTypeName(classificationDef.getName());
 
@@ -720,7 +736,11 @@ public class OMRSArchiveBuilder
 
         if (entityDef != null)
         {
-            log.debug("Adding EntityDef: " + entityDef.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding EntityDef: " + entityDef.toString());
+            }
+
             
             this.checkForBlanksInTypeName(entityDef.getName());
 
@@ -870,7 +890,11 @@ public class OMRSArchiveBuilder
 
         if (relationshipDef != null)
         {
-            log.debug("Adding RelationshipDef: " + relationshipDef.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding RelationshipDef: " + relationshipDef.toString());
+            }
+
             
             this.checkForBlanksInTypeName(relationshipDef.getName());
             RelationshipDef duplicateElement = relationshipDefMap.put(relationshipDef.getName(), relationshipDef);
@@ -1185,7 +1209,11 @@ public class OMRSArchiveBuilder
 
         if (entity != null)
         {
-            log.debug("Adding Entity: " + entity.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding Entity: " + entity.toString());
+            }
+
 
             EntityDetail   duplicateElement = entityDetailMap.put(entity.getGUID(), entity);
 
@@ -1269,7 +1297,11 @@ public class OMRSArchiveBuilder
 
         if (relationship != null)
         {
-            log.debug("Adding Relationship: " + relationship.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding Relationship: " + relationship.toString());
+            }
+
 
             Relationship   duplicateElement = relationshipMap.put(relationship.getGUID(), relationship);
 
@@ -1353,7 +1385,11 @@ public class OMRSArchiveBuilder
 
         if (classification != null)
         {
-            log.debug("Adding Classification: " + classification.toString());
+            if (log.isDebugEnabled())
+            {
+                log.debug("Adding Classification: " + classification.toString());
+            }
+
 
             String classificationId = classification.getEntityToClassify().getGUID() + ":" + classification.getClassification().getName();
 
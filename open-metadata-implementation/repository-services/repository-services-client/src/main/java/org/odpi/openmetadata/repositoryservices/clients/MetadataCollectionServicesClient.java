@@ -1215,6 +1215,42 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities in a single call.
+     * Entities that are not known, are only proxies or are deleted are left out of the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order of the requested guids.  Null means none were found.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitiesByGUIDs";
+        final String operationSpecificURL = "instances/entities/by-guids";
+
+        GUIDListRequest requestBody = new GUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        requestBody,
+                                                                        userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1317,6 +1353,68 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return the number of relationships for a specific entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means count the
+     *                 present values.
+     * @return count of the relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public int countRelationshipsForEntity(String               userId,
+                                           String               entityGUID,
+                                           String               relationshipTypeGUID,
+                                           List<InstanceStatus> limitResultsByStatus,
+                                           Date                 asOfTime) throws InvalidParameterException,
+                                                                                 TypeErrorException,
+                                                                                 RepositoryErrorException,
+                                                                                 EntityNotKnownException,
+                                                                                 PropertyErrorException,
+                                                                                 PagingErrorException,
+                                                                                 FunctionNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String                     methodName           = "countRelationshipsForEntity";
+        final String                     operationSpecificURL = "instances/entity/{1}/relationships/count";
+        TypeLimitedHistoricalFindRequest findRequestParameters = new TypeLimitedHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setAsOfTime(asOfTime);
+
+        CountResponse restResult = this.callCountPostRESTCall(methodName,
+                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                              findRequestParameters,
+                                                              userId,
+                                                              entityGUID);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getCount();
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1428,6 +1526,165 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        final String                        methodName            = "findEntityPageByProperty";
+        final String                        operationSpecificURL  = "instances/entities/by-property/page";
+        EntityPropertyHistoricalFindRequest findRequestParameters = new EntityPropertyHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setPageToken(pageToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        findRequestParameters,
+                                                                        userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        InstancePage page = new InstancePage();
+
+        page.setEntities(restResult.getEntities());
+        page.setNextPageToken(restResult.getNextPageToken());
+
+        return page;
+    }
+
+
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all counted entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public int countEntitiesByProperty(String                    userId,
+                                       String                    entityTypeGUID,
+                                       InstanceProperties        matchProperties,
+                                       MatchCriteria             matchCriteria,
+                                       List<InstanceStatus>      limitResultsByStatus,
+                                       List<String>              limitResultsByClassification,
+                                       Date                      asOfTime) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  PropertyErrorException,
+                                                                                  PagingErrorException,
+                                                                                  FunctionNotSupportedException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String                        methodName            = "countEntitiesByProperty";
+        final String                        operationSpecificURL  = "instances/entities/by-property/count";
+        EntityPropertyHistoricalFindRequest findRequestParameters = new EntityPropertyHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setAsOfTime(asOfTime);
+
+        CountResponse restResult = this.callCountPostRESTCall(methodName,
+                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                              findRequestParameters,
+                                                              userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getCount();
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1542,6 +1799,174 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public InstancePage findEntityPageByClassification(String                    userId,
+                                                       String                    entityTypeGUID,
+                                                       String                    classificationName,
+                                                       InstanceProperties        matchClassificationProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                ClassificationErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String                       methodName            = "findEntityPageByClassification";
+        final String                       operationSpecificURL  = "instances/entities/by-classification/{1}/page";
+        PropertyMatchHistoricalFindRequest findRequestParameters = new PropertyMatchHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setMatchProperties(matchClassificationProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setPageToken(pageToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        findRequestParameters,
+                                                                        userId,
+                                                                        classificationName);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowClassificationErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        InstancePage page = new InstancePage();
+
+        page.setEntities(restResult.getEntities());
+        page.setNextPageToken(restResult.getNextPageToken());
+
+        return page;
+    }
+
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public int countEntitiesByClassification(String                    userId,
+                                             String                    entityTypeGUID,
+                                             String                    classificationName,
+                                             InstanceProperties        matchClassificationProperties,
+                                             MatchCriteria             matchCriteria,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             Date                      asOfTime) throws InvalidParameterException,
+                                                                                        TypeErrorException,
+                                                                                        RepositoryErrorException,
+                                                                                        ClassificationErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String                       methodName            = "countEntitiesByClassification";
+        final String                       operationSpecificURL  = "instances/entities/by-classification/{1}/count";
+        PropertyMatchHistoricalFindRequest findRequestParameters = new PropertyMatchHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setMatchProperties(matchClassificationProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setAsOfTime(asOfTime);
+
+        CountResponse restResult = this.callCountPostRESTCall(methodName,
+                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                              findRequestParameters,
+                                                              userId,
+                                                              classificationName);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowClassificationErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getCount();
+    }
+
 
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
@@ -1650,6 +2075,97 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * Rather than skipping to a starting element, each page resumes after the last entity returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public InstancePage findEntityPageByPropertyValue(String                userId,
+                                                      String                entityTypeGUID,
+                                                      String                searchCriteria,
+                                                      String                pageToken,
+                                                      List<InstanceStatus>  limitResultsByStatus,
+                                                      List<String>          limitResultsByClassification,
+                                                      Date                  asOfTime,
+                                                      String                sequencingProperty,
+                                                      SequencingOrder       sequencingOrder,
+                                                      int                   pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String                        methodName            = "findEntityPageByPropertyValue";
+        final String                        operationSpecificURL  = "instances/entities/by-property-value/page?searchCriteria={1}";
+        EntityPropertyHistoricalFindRequest findRequestParameters = new EntityPropertyHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setPageToken(pageToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        findRequestParameters,
+                                                                        userId,
+                                                                        searchCriteria);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        InstancePage page = new InstancePage();
+
+        page.setEntities(restResult.getEntities());
+        page.setNextPageToken(restResult.getNextPageToken());
+
+        return page;
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
@@ -1763,6 +2279,42 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return each of the requested relationships in a single call.  Relationships that are not known or are
+     * deleted are left out of the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order of the requested guids.  Null means none were found.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String methodName  = "getRelationshipsByGUIDs";
+        final String operationSpecificURL = "instances/relationships/by-guids";
+
+        GUIDListRequest requestBody = new GUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                    requestBody,
+                                                                                    userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -1872,6 +2424,94 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * Rather than skipping to a starting element, each page resumes after the last relationship returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param matchProperties Optional list of relationship properties to match (where any String property's value
+     *                        should be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String                       methodName            = "findRelationshipPageByProperty";
+        final String                       operationSpecificURL  = "instances/relationships/by-property/page";
+        PropertyMatchHistoricalFindRequest findRequestParameters = new PropertyMatchHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setPageToken(pageToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                    findRequestParameters,
+                                                                                    userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        InstancePage page = new InstancePage();
+
+        page.setRelationships(restResult.getRelationships());
+        page.setNextPageToken(restResult.getNextPageToken());
+
+        return page;
+    }
+
+
     /**
      * Return a list of relationships whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1973,6 +2613,92 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * Rather than skipping to a starting element, each page resumes after the last relationship returned on the
+     * previous page (in sequencing property and guid order).  How much of the result set the server reads for
+     * each page depends on the repository behind it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public InstancePage findRelationshipPageByPropertyValue(String                    userId,
+                                                            String                    relationshipTypeGUID,
+                                                            String                    searchCriteria,
+                                                            String                    pageToken,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        final String                     methodName            = "findRelationshipPageByPropertyValue";
+        final String                     operationSpecificURL  = "instances/relationships/by-property-value/page?searchCriteria={1}";
+        TypeLimitedHistoricalFindRequest findRequestParameters = new TypeLimitedHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setPageToken(pageToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                    findRequestParameters,
+                                                                                    userId,
+                                                                                    searchCriteria);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        InstancePage page = new InstancePage();
+
+        page.setRelationships(restResult.getRelationships());
+        page.setNextPageToken(restResult.getNextPageToken());
+
+        return page;
+    }
+
+
     /**
      * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
      *
@@ -2997,6 +3723,145 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Create a set of new entities and the relationships between them in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.  The new instances are assigned new GUIDs and are returned in the order of the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and the relationships between them.
+     * @return the new entities and relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                      not defined for an entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph addInstances(String        userId,
+                                      InstanceGraph instances) throws InvalidParameterException,
+                                                                      RepositoryErrorException,
+                                                                      TypeErrorException,
+                                                                      PropertyErrorException,
+                                                                      ClassificationErrorException,
+                                                                      EntityNotKnownException,
+                                                                      StatusNotSupportedException,
+                                                                      FunctionNotSupportedException,
+                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "addInstances";
+
+        final String operationSpecificURL = "instances/batch";
+
+        InstanceGraphCreateRequest request = new InstanceGraphCreateRequest();
+
+        if (instances != null)
+        {
+            request.setEntityElementList(instances.getEntities());
+            request.setRelationshipElementList(instances.getRelationships());
+        }
+
+        InstanceGraphResponse restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              request,
+                                                                              userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowClassificationErrorException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowStatusNotSupportedException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
+    /**
+     * Create a set of new entities and the relationships between them in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.  The new instances are assigned new GUIDs and are returned in the order of the request.
+     * The instances are homed in the metadata collection of the external source.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and the relationships between them.
+     * @return the new entities and relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                      not defined for an entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph addExternalInstances(String        userId,
+                                              String        externalSourceGUID,
+                                              String        externalSourceName,
+                                              InstanceGraph instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              ClassificationErrorException,
+                                                                              EntityNotKnownException,
+                                                                              StatusNotSupportedException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "addExternalInstances";
+
+        final String operationSpecificURL = "instances/batch/external";
+
+        InstanceGraphCreateRequest request = new InstanceGraphCreateRequest();
+        request.setMetadataCollectionId(externalSourceGUID);
+        request.setMetadataCollectionName(externalSourceName);
+
+        if (instances != null)
+        {
+            request.setEntityElementList(instances.getEntities());
+            request.setRelationshipElementList(instances.getRelationships());
+        }
+
+        InstanceGraphResponse restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              request,
+                                                                              userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowClassificationErrorException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowStatusNotSupportedException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -4416,6 +5281,29 @@ abstract class MetadataCollectionServicesClient
     }
 
 
+    /**
+     * Issue a POST REST call that returns a CountResponse object.
+     *
+     * @param methodName name of the method being called
+     * @param operationSpecificURL template of the URL for the REST API call with place-holders for the parameters
+     * @param requestBody request body object
+     * @param params a list of parameters that are slotted into the url template
+     * @return CountResponse
+     * @throws RepositoryErrorException something went wrong with the REST call stack.
+     */
+    private CountResponse callCountPostRESTCall(String    methodName,
+                                                String    operationSpecificURL,
+                                                Object    requestBody,
+                                                Object... params) throws RepositoryErrorException
+    {
+        return this.callPostRESTCall(methodName,
+                                     CountResponse.class,
+                                     operationSpecificURL,
+                                     requestBody,
+                                     params);
+    }
+
+
     /**
      * Issue a GET REST call that returns a EntityDetailResponse object.
      *
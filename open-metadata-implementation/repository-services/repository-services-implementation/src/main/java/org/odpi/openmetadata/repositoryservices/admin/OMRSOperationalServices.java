@@ -43,6 +43,7 @@ import org.odpi.openmetadata.repositoryservices.rest.server.OMRSRepositoryRESTSe
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -86,6 +87,7 @@ public class OMRSOperationalServices
     private OMRSEnterpriseConnectorManager enterpriseConnectorManager       = null;
     private String                         enterpriseMetadataCollectionId   = null;
     private String                         enterpriseMetadataCollectionName = null;
+    private Map<String, Object>            enterpriseConnectorProperties    = null;
     private OMRSTopicConnector             enterpriseOMRSTopicConnector     = null;
     private LocalOMRSRepositoryConnector   localRepositoryConnector         = null;
     private OMRSArchiveManager             archiveManager                   = null;
@@ -163,7 +165,7 @@ public class OMRSOperationalServices
 
             try
             {
-                Connector connector = connectorProvider.getConnector(new EnterpriseOMRSConnection());
+                Connector connector = connectorProvider.getConnector(new EnterpriseOMRSConnection(enterpriseConnectorProperties));
 
                 EnterpriseOMRSRepositoryConnector omrsRepositoryConnector = (EnterpriseOMRSRepositoryConnector) connector;
 
@@ -355,17 +357,21 @@ public class OMRSOperationalServices
                                                                                        localRepositoryConfig.getSelectedTypesToSend()),
                                                    new OMRSRepositoryContentValidator(localRepositoryContentManager),
                                                    new OMRSAuditLog(auditLogDestination, OMRSAuditingComponent.REPOSITORY_EVENT_MANAGER));
+            localRepositoryEventManager.setAsynchronousDelivery(localRepositoryConfig.getEventDeliveryQueueSize(),
+                                                                localRepositoryConfig.getEventDeliveryThreads());
 
             /*
              * If the enterprise repositoryservices topic is active, then register an event publisher for it.
-             * This topic is active if the Open Metadata Access Services (OMASs) are active.
+             * This topic is active if the Open Metadata Access Services (OMASs) are active.  The OMASs react to
+             * the events about individual instances so each batch of instances is sent as new instance events.
              */
             if (enterpriseOMRSTopicConnector != null)
             {
                 OMRSRepositoryEventPublisher
                         enterpriseEventPublisher = new OMRSRepositoryEventPublisher("Local Repository to Enterprise",
                                                                                     enterpriseOMRSTopicConnector,
-                                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
+                                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER),
+                                                                                    true);
 
                 this.localRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
             }
@@ -577,6 +583,7 @@ public class OMRSOperationalServices
              */
             enterpriseMetadataCollectionId = enterpriseAccessConfig.getEnterpriseMetadataCollectionId();
             enterpriseMetadataCollectionName = enterpriseAccessConfig.getEnterpriseMetadataCollectionName();
+            enterpriseConnectorProperties = enterpriseAccessConfig.getEnterpriseConnectorConfigurationProperties();
         }
 
         return enterpriseConnectorManager;
@@ -784,6 +791,11 @@ public class OMRSOperationalServices
             metadataHighwayManager.disconnect(permanent);
         }
 
+        if (localRepositoryEventManager != null)
+        {
+            localRepositoryEventManager.stop();
+        }
+
         if (enterpriseOMRSTopicConnector != null)
         {
             try
@@ -11,11 +11,13 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveElementProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 
 import java.util.ArrayList;
@@ -140,7 +142,8 @@ public class OMRSArchiveManager
 
     /**
      * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The archive store passes its contents to the archive loader one element
+     * at a time so that large archives do not need to be held in memory.
      *
      * @param archiveStore open metadata archive  to process
      * @param typeDefProcessor receiver of new TypeDefs
@@ -156,9 +159,24 @@ public class OMRSArchiveManager
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
              * metadata instances.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
+            ArchiveLoader archiveLoader = new ArchiveLoader(typeDefProcessor, instanceProcessor);
+            boolean       archiveHasContent;
 
-            if (archiveContent == null)
+            try
+            {
+                archiveHasContent = archiveStore.processArchiveContents(archiveLoader);
+            }
+            catch (OMRSRuntimeException error)
+            {
+                archiveLoader.abandonArchive(error.getMessage());
+                return;
+            }
+
+            if (archiveHasContent)
+            {
+                archiveLoader.completeArchive();
+            }
+            else
             {
                 final String     actionDescription = "Process Open Metadata Archive";
 
@@ -171,10 +189,6 @@ public class OMRSArchiveManager
                                    auditCode.getSystemAction(),
                                    auditCode.getUserAction());
             }
-            else
-            {
-                processOpenMetadataArchive(archiveContent, typeDefProcessor, instanceProcessor);
-            }
         }
     }
 
@@ -191,296 +205,371 @@ public class OMRSArchiveManager
                                             OMRSTypeDefEventProcessorInterface    typeDefProcessor,
                                             OMRSInstanceEventProcessorInterface   instanceProcessor)
     {
-        OMRSAuditCode    auditCode;
-        final String     actionDescription = "Process Open Metadata Archive";
+        ArchiveLoader archiveLoader = new ArchiveLoader(typeDefProcessor, instanceProcessor);
+
+        OpenMetadataArchiveStoreConnector.processArchiveContents(archiveContent, archiveLoader);
+        archiveLoader.completeArchive();
+    }
 
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
 
-        if (archiveProperties != null)
+    /**
+     * ArchiveLoader receives the elements of an open metadata archive and passes them to the local repository.
+     * The TypeDefs are passed one at a time.  Entities and relationships are collected into batches of
+     * instanceBatchSize and passed as a single batch event.  The number of instances loaded is recorded
+     * in the audit log every progressReportInterval instances.
+     *
+     * It is possible that this archive has been processed before and so any duplicates detected are ignored.
+     * However, conflicting types and instances are detected.  Any problems found in applying the archive contents
+     * are recorded on the audit log.
+     */
+    private class ArchiveLoader implements OpenMetadataArchiveElementProcessor
+    {
+        private static final int instanceBatchSize      = 500;
+        private static final int progressReportInterval = 10000;
+
+        private final String actionDescription = "Process Open Metadata Archive";
+        private final String sourceName        = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
+
+        private OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private OMRSInstanceEventProcessorInterface instanceProcessor;
+
+        private OpenMetadataArchiveProperties archiveProperties          = null;
+        private String                        archiveGUID                = null;
+        private String                        archiveName                = null;
+        private String                        archiveType                = null;
+        private String                        originatorName             = null;
+        private String                        originatorOrganizationName = null;
+        private String                        originatorLicense          = null;
+        private String                        instanceServerType         = OpenMetadataArchiveType.CONTENT_PACK.getName();
+        private InstanceProvenanceType        provenanceType             = InstanceProvenanceType.CONTENT_PACK;
+        private Date                          archiveCreationTime        = null;
+
+        private List<EntityDetail>            entityBatch                = new ArrayList<>();
+        private List<Relationship>            relationshipBatch          = new ArrayList<>();
+        private int                           typeCount                  = 0;
+        private int                           instanceCount              = 0;
+        private int                           nextProgressReport         = progressReportInterval;
+
+
+        /**
+         * Constructor supplies the destinations for the archive's contents.
+         *
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor processor of instances found in the archive.  It may be null
+         *                          if there is no local repository configured for this server.
+         */
+        ArchiveLoader(OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                      OMRSInstanceEventProcessorInterface instanceProcessor)
         {
-            auditCode = OMRSAuditCode.PROCESSING_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(archiveProperties.getArchiveName()),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
+            this.typeDefProcessor = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+        }
+
 
+        /**
+         * Process the header of the archive.  The archive is only processed if it has properties.
+         *
+         * @param archiveProperties properties of the archive (may be null if the archive has no header)
+         * @return boolean flag indicating whether the rest of the archive should be processed
+         */
+        public boolean processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            OMRSAuditCode auditCode;
 
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
+            if (archiveProperties == null)
+            {
+                auditCode = OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
 
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
+                return false;
+            }
 
+            this.archiveProperties = archiveProperties;
+            this.archiveGUID = archiveProperties.getArchiveGUID();
+            this.archiveName = archiveProperties.getArchiveName();
+            this.originatorName = archiveProperties.getOriginatorName();
+            this.originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+            this.originatorLicense = archiveProperties.getOriginatorLicense();
+            this.archiveCreationTime = archiveProperties.getCreationDate();
 
-            if (archiveTypeStore != null)
+            if (archiveProperties.getArchiveType() != null)
             {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+                this.archiveType = archiveProperties.getArchiveType().getName();
             }
 
-            if (archiveInstanceStore != null)
+            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
             {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                this.provenanceType = InstanceProvenanceType.EXPORT_ARCHIVE;
+                this.instanceServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
             }
 
-            auditCode = OMRSAuditCode.COMPLETED_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(Integer.toString(typeCount),
-                                                                Integer.toString(instanceCount),
-                                                                archiveProperties.getArchiveName()),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
-        }
-        else
-        {
-            auditCode = OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE;
+            auditCode = OMRSAuditCode.PROCESSING_ARCHIVE;
             auditLog.logRecord(actionDescription,
                                auditCode.getLogMessageId(),
                                auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(),
+                               auditCode.getFormattedLogMessage(archiveName),
                                null,
                                auditCode.getSystemAction(),
                                auditCode.getUserAction());
-        }
-    }
 
+            return true;
+        }
 
-    /**
-     * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
-     * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting TypeDefs are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties of the archive used for logging
-     * @param archiveTypeStore TypeStore from the archive
-     * @param typeDefProcessor processor of type definitions found in the archive
-     * @return type count
-     */
-    private int  processTypeDefStore(OpenMetadataArchiveProperties          archiveProperties,
-                                     OpenMetadataArchiveTypeStore           archiveTypeStore,
-                                     OMRSTypeDefEventProcessorInterface     typeDefProcessor)
-    {
-        List<TypeDefPatch>     typeDefPatches       = archiveTypeStore.getTypeDefPatches();
-        List<AttributeTypeDef> newAttributeTypeDefs = archiveTypeStore.getAttributeTypeDefs();
-        List<TypeDef>          newTypeDefs          = archiveTypeStore.getNewTypeDefs();
-        int                    typeCount            = 0;
 
-        if (typeDefProcessor != null)
+        /**
+         * Return the name used as the userId for the type calls to the repository.
+         * Originator name can not be null since it is used as the userId for calls to the repository.
+         *
+         * @return name
+         */
+        private String getTypeOriginatorName()
         {
-            String       sourceName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String       originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
-            String       originatorServerName = archiveProperties.getArchiveName();
-            String       originatorServerType = null;
-            String       originatorName = archiveProperties.getOriginatorName();
-            String       originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-
-            /*
-             * Originator name can not be null since it is used as the userId for calls to the repository
-             */
             if (originatorName == null)
             {
-                originatorName = sourceName;
+                return sourceName;
             }
 
-            if (archiveProperties.getArchiveType() != null)
+            return originatorName;
+        }
+
+
+        /**
+         * Process a patch to an existing TypeDef.
+         *
+         * @param typeDefPatch patch from the type store
+         */
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            if (typeDefProcessor != null)
             {
-                originatorServerType = archiveProperties.getArchiveType().getName();
+                typeDefProcessor.processUpdatedTypeDefEvent(getTypeOriginatorName(),
+                                                            archiveGUID,
+                                                            archiveName,
+                                                            archiveType,
+                                                            originatorOrganizationName,
+                                                            typeDefPatch);
+                typeCount ++;
             }
+        }
+
 
-            if (typeDefPatches != null)
+        /**
+         * Process a new AttributeTypeDef.
+         *
+         * @param attributeTypeDef AttributeTypeDef from the type store
+         */
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            if (typeDefProcessor != null)
             {
-                for (TypeDefPatch typeDefPatch : typeDefPatches)
-                {
-                    if (typeDefPatch != null)
-                    {
-                        typeDefProcessor.processUpdatedTypeDefEvent(originatorName,
-                                                                    originatorMetadataCollectionId,
-                                                                    originatorServerName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    typeDefPatch);
-                        typeCount ++;
-                    }
-                }
+                typeDefProcessor.processNewAttributeTypeDefEvent(getTypeOriginatorName(),
+                                                                 archiveGUID,
+                                                                 archiveName,
+                                                                 archiveType,
+                                                                 originatorOrganizationName,
+                                                                 attributeTypeDef);
+                typeCount ++;
             }
+        }
 
-            if (newAttributeTypeDefs != null)
-            {
-                for (AttributeTypeDef newAttributeTypeDef : newAttributeTypeDefs)
-                {
-                    if (newAttributeTypeDef != null)
-                    {
-                        typeDefProcessor.processNewAttributeTypeDefEvent(originatorName,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                newAttributeTypeDef);
 
-                        typeCount ++;
-                    }
-                }
+        /**
+         * Process a new TypeDef.
+         *
+         * @param typeDef TypeDef from the type store
+         */
+        public void processTypeDef(TypeDef typeDef)
+        {
+            if (typeDefProcessor != null)
+            {
+                typeDefProcessor.processNewTypeDefEvent(getTypeOriginatorName(),
+                                                        archiveGUID,
+                                                        archiveName,
+                                                        archiveType,
+                                                        originatorOrganizationName,
+                                                        typeDef);
+                typeCount ++;
             }
+        }
 
-            if (newTypeDefs != null)
+
+        /**
+         * Add an entity to the current batch.
+         *
+         * @param entity entity from the archive
+         */
+        public void processEntity(EntityDetail entity)
+        {
+            if (instanceProcessor != null)
             {
-                for (TypeDef newTypeDef : newTypeDefs)
+                setInstanceAuditHeader(archiveGUID,
+                                       archiveName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       entity);
+
+                entityBatch.add(entity);
+
+                if (entityBatch.size() + relationshipBatch.size() >= instanceBatchSize)
                 {
-                    if (newTypeDef != null)
-                    {
-                        typeDefProcessor.processNewTypeDefEvent(originatorName,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                newTypeDef);
-                        typeCount ++;
-                    }
+                    flushInstanceBatch();
                 }
             }
         }
 
-        return typeCount;
-    }
 
-
-    /**
-     * The InstanceStore is in three parts: an optional list of entities followed by an optional list
-     * of relationships followed by an optional list of classifications.
-     *
-     * It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting instances are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
-     * @return instance count
-     */
-    private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
-                                      OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
-    {
-        List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
-        List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
-        List<ClassificationEntityExtension> classifications = archiveInstanceStore.getClassifications();
-        int                                 instanceCount   = 0;
-
-        if (instanceProcessor != null)
+        /**
+         * Add a relationship to the current batch.
+         *
+         * @param relationship relationship from the archive
+         */
+        public void processRelationship(Relationship relationship)
         {
-            String                 sourceName                 = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
-            String                 archiveName                = archiveProperties.getArchiveName();
-            String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
-            InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
-            Date                   archiveCreationTime        = archiveProperties.getCreationDate();
-            String                 originatorName             = archiveProperties.getOriginatorName();
-            String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-            String                 originatorLicense          = archiveProperties.getOriginatorLicense();
+            if (instanceProcessor != null)
+            {
+                setInstanceAuditHeader(archiveGUID,
+                                       archiveName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       relationship);
 
+                relationshipBatch.add(relationship);
 
-            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
-            {
-                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
-                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+                if (entityBatch.size() + relationshipBatch.size() >= instanceBatchSize)
+                {
+                    flushInstanceBatch();
+                }
             }
+        }
 
 
-            if (entities != null)
+        /**
+         * Process a classification from the instance store.
+         *
+         * @param classificationEntityExtension classification and the entity it is attached to
+         */
+        public void processClassification(ClassificationEntityExtension classificationEntityExtension)
+        {
+            if (instanceProcessor != null)
             {
-                for (EntityDetail entity : entities)
-                {
-                    if (entity != null)
-                    {
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        instanceProcessor.processNewEntityEvent(sourceName,
-                                                                homeMetadataCollectionId,
+                Classification classification = classificationEntityExtension.getClassification();
+
+                setInstanceAuditHeader(archiveGUID,
+                                       archiveName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       classification);
+
+                classificationEntityExtension.setClassification(classification);
+
+                // Todo
+                /* new method required
+                instanceProcessor.processNewClassificationEvent(sourceName,
+                                                                archiveGUID,
                                                                 archiveName,
-                                                                originatorServerType,
+                                                                instanceServerType,
                                                                 originatorOrganizationName,
-                                                                entity);
+                                                                classificationEntityExtension);
 
-                        instanceCount++;
-                    }
-                }
+                instanceCount ++;
+                */
             }
+        }
 
 
-            if (relationships != null)
+        /**
+         * Pass the current batch of instances to the local repository.  The entities in a batch are saved
+         * before the relationships.
+         */
+        private void flushInstanceBatch()
+        {
+            int batchSize = entityBatch.size() + relationshipBatch.size();
+
+            if (batchSize > 0)
             {
-                for (Relationship relationship : relationships)
+                instanceProcessor.processInstanceBatchEvent(sourceName,
+                                                            archiveGUID,
+                                                            archiveName,
+                                                            instanceServerType,
+                                                            originatorOrganizationName,
+                                                            new InstanceGraph(entityBatch, relationshipBatch));
+
+                entityBatch = new ArrayList<>();
+                relationshipBatch = new ArrayList<>();
+                instanceCount = instanceCount + batchSize;
+
+                if (instanceCount >= nextProgressReport)
                 {
-                    if (relationship != null)
-                    {
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        instanceProcessor.processNewRelationshipEvent(sourceName,
-                                                                      homeMetadataCollectionId,
-                                                                      archiveName,
-                                                                      originatorServerType,
-                                                                      originatorOrganizationName,
-                                                                      relationship);
-
-                        instanceCount ++;
-                    }
+                    OMRSAuditCode auditCode = OMRSAuditCode.ARCHIVE_PROGRESS;
+                    auditLog.logRecord(actionDescription,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(Integer.toString(instanceCount),
+                                                                        archiveName),
+                                       null,
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
+
+                    nextProgressReport = instanceCount + progressReportInterval;
                 }
             }
+        }
 
 
-            if (classifications != null)
+        /**
+         * Pass any remaining instances to the local repository and record the completion of the archive.
+         */
+        void completeArchive()
+        {
+            if (archiveProperties != null)
             {
-                for (ClassificationEntityExtension classificationEntityExtension : classifications)
-                {
-                    if (classificationEntityExtension != null)
-                    {
-                        Classification classification = classificationEntityExtension.getClassification();
-
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    classification);
-
-                        classificationEntityExtension.setClassification(classification);
-
-                        // Todo
-                        /* new method required
-                        instanceProcessor.processNewClassificationEvent(sourceName,
-                                                                        homeMetadataCollectionId,
-                                                                        originatorServerName,
-                                                                        originatorServerType,
-                                                                        originatorOrganizationName,
-                                                                        classificationEntityExtension);
-
-                        instanceCount ++;
-                        */
-                    }
-                }
+                flushInstanceBatch();
+
+                OMRSAuditCode auditCode = OMRSAuditCode.COMPLETED_ARCHIVE;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(Integer.toString(typeCount),
+                                                                    Integer.toString(instanceCount),
+                                                                    archiveName),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
             }
         }
 
-        return instanceCount;
+
+        /**
+         * Pass the instances read before the archive store failed to the local repository and record that
+         * the rest of the archive was skipped.
+         *
+         * @param errorMessage description of the failure from the archive store
+         */
+        void abandonArchive(String errorMessage)
+        {
+            flushInstanceBatch();
+
+            OMRSAuditCode auditCode = OMRSAuditCode.INCOMPLETE_ARCHIVE;
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(archiveName, errorMessage),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
     }
 
 
@@ -6,6 +6,10 @@ import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperti
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * EnterpriseOMRSConnection provides a valid connection for the EnterpriseOMRSConnector.
  */
@@ -15,6 +19,19 @@ public class EnterpriseOMRSConnection extends ConnectionProperties
      * Default Constructor that sets up the connector
      */
     public EnterpriseOMRSConnection()
+    {
+        this(null);
+    }
+
+
+    /**
+     * Constructor that sets up the connector with the configuration properties from the enterprise access
+     * configuration.
+     *
+     * @param configurationProperties properties such as the number of threads and the request timeout used to
+     *                                call the cohort members - null means use the defaults
+     */
+    public EnterpriseOMRSConnection(Map<String, Object> configurationProperties)
     {
         super(new Connection());
 
@@ -22,6 +39,13 @@ public class EnterpriseOMRSConnection extends ConnectionProperties
         ConnectorType connectorType = new ConnectorType();
 
         connectorType.setConnectorProviderClassName(EnterpriseOMRSConnectorProvider.class.getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(EnterpriseOMRSConnectorProvider.maxFederationThreadsProperty);
+        recognizedConfigurationProperties.add(EnterpriseOMRSConnectorProvider.federationRequestTimeoutProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectionBean.setConnectorType(connectorType);
+        connectionBean.setConfigurationProperties(configurationProperties);
     }
 }
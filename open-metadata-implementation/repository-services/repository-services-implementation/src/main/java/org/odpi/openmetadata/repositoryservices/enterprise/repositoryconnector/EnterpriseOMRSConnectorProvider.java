@@ -32,6 +32,17 @@ import java.util.UUID;
  */
 public class EnterpriseOMRSConnectorProvider extends OMRSRepositoryConnectorProviderBase
 {
+    /*
+     * Maximum number of requests to the cohort members that each enterprise connector runs at the same time.
+     */
+    public static final String  maxFederationThreadsProperty = "maxFederationThreads";
+
+    /*
+     * Time in milliseconds that a federated request waits for each cohort member to respond.  The members that
+     * do not respond in time are left out of the results.  Zero means wait until every member has responded.
+     */
+    public static final String  federationRequestTimeoutProperty = "federationRequestTimeout";
+
     private        final int hashCode = UUID.randomUUID().hashCode();
 
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSConnectorProvider.class);
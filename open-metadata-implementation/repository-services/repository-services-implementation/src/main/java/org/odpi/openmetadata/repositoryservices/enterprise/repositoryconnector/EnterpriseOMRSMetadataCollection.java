@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
 
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.CountAccumulator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.SequentialFederationControl;
@@ -20,6 +21,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
@@ -134,7 +137,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -1038,6 +1041,60 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Each repository in
+     * the cohorts is asked for the whole list in parallel and the latest version of each entity is returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order of the requested guids.  Null means none of the
+     * entities are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String  methodName         = "getEntitiesByGUIDs";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateGUIDList(guidsParameterName, guids, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl   federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        GetEntitiesExecutor executor          = new GetEntitiesExecutor(userId,
+                                                                        guids,
+                                                                        localMetadataCollectionId,
+                                                                        auditLog,
+                                                                        repositoryValidator,
+                                                                        methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and will be returned if there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1109,7 +1166,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1214,7 +1271,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByPropertyExecutor    executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                                  entityTypeGUID,
                                                                                                  matchProperties,
@@ -1242,6 +1299,111 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * Each repository in the cohort(s) resumes from its own page token, which is carried inside the page
+     * token returned to the caller, so repositories that have returned all of their results are not called again.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        final String  methodName                   = "findEntityPageByProperty";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        matchProperties,
+                                                        matchCriteria,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        asOfTime,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                 federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        FindEntityPageByPropertyExecutor  executor          = new FindEntityPageByPropertyExecutor(userId,
+                                                                                                   entityTypeGUID,
+                                                                                                   matchProperties,
+                                                                                                   matchCriteria,
+                                                                                                   pageToken,
+                                                                                                   limitResultsByStatus,
+                                                                                                   limitResultsByClassification,
+                                                                                                   asOfTime,
+                                                                                                   sequencingProperty,
+                                                                                                   sequencingOrder,
+                                                                                                   pageSize,
+                                                                                                   localMetadataCollectionId,
+                                                                                                   auditLog,
+                                                                                                   repositoryValidator,
+                                                                                                   methodName);
+
+        /*
+         * Ready to process the request.  Each repository returns its next page and the page for the caller
+         * is selected from the combined results.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector, repositoryHelper);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1326,7 +1488,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                       federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                       federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByClassificationExecutor    executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                              entityTypeGUID,
                                                                                                              classificationName,
@@ -1354,6 +1516,432 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * Each repository in the cohort(s) resumes from its own page token, which is carried inside the page
+     * token returned to the caller, so repositories that have returned all of their results are not called again.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the match properties should be matched to the classifications in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstancePage findEntityPageByClassification(String                    userId,
+                                                       String                    entityTypeGUID,
+                                                       String                    classificationName,
+                                                       InstanceProperties        matchClassificationProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  ClassificationErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "findEntityPageByClassification";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByClassificationParameterValidation(userId,
+                                                              entityTypeGUID,
+                                                              classificationName,
+                                                              matchClassificationProperties,
+                                                              matchCriteria,
+                                                              0,
+                                                              limitResultsByStatus,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                      federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        FindEntityPageByClassificationExecutor executor          = new FindEntityPageByClassificationExecutor(userId,
+                                                                                                              entityTypeGUID,
+                                                                                                              classificationName,
+                                                                                                              matchClassificationProperties,
+                                                                                                              matchCriteria,
+                                                                                                              pageToken,
+                                                                                                              limitResultsByStatus,
+                                                                                                              asOfTime,
+                                                                                                              sequencingProperty,
+                                                                                                              sequencingOrder,
+                                                                                                              pageSize,
+                                                                                                              localMetadataCollectionId,
+                                                                                                              auditLog,
+                                                                                                              repositoryValidator,
+                                                                                                              methodName);
+
+        /*
+         * Ready to process the request.  Each repository returns its next page and the page for the caller
+         * is selected from the combined results.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector, repositoryHelper);
+    }
+
+
+    /**
+     * Return the number of relationships for a specific entity.
+     *
+     * Each repository is asked for its count.  The same relationship may be stored in several repositories as
+     * reference copies, so if more than one repository has matching relationships, the relationships are listed
+     * from those repositories a page at a time and the unique relationships are counted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means count the
+     *                 present values.
+     * @return count of the relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public int countRelationshipsForEntity(String                     userId,
+                                           String                     entityGUID,
+                                           String                     relationshipTypeGUID,
+                                           List<InstanceStatus>       limitResultsByStatus,
+                                           Date                       asOfTime) throws InvalidParameterException,
+                                                                                       TypeErrorException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       PagingErrorException,
+                                                                                       FunctionNotSupportedException,
+                                                                                       UserNotAuthorizedException
+    {
+        final String  methodName = "countRelationshipsForEntity";
+
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                                                           entityGUID,
+                                                           relationshipTypeGUID,
+                                                           0,
+                                                           limitResultsByStatus,
+                                                           asOfTime,
+                                                           null,
+                                                           null,
+                                                           0);
+
+        /*
+         * Validation complete, ok to continue with request
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        CountAccumulator                    accumulator = new CountAccumulator(localMetadataCollectionId,
+                                                                               auditLog,
+                                                                               repositoryValidator);
+        CountRelationshipsForEntityExecutor executor    = new CountRelationshipsForEntityExecutor(userId,
+                                                                                                  entityGUID,
+                                                                                                  relationshipTypeGUID,
+                                                                                                  limitResultsByStatus,
+                                                                                                  asOfTime,
+                                                                                                  false,
+                                                                                                  accumulator,
+                                                                                                  methodName);
+
+        FederationControl federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+
+        federationControl.executeCommand(executor);
+
+        List<OMRSRepositoryConnector> connectorsToList = this.getConnectorsToList(cohortConnectors, accumulator);
+
+        if (connectorsToList != null)
+        {
+            FederationControl                   listControl  = getParallelFederationControl(userId, connectorsToList, methodName);
+            CountRelationshipsForEntityExecutor listExecutor = new CountRelationshipsForEntityExecutor(userId,
+                                                                                                       entityGUID,
+                                                                                                       relationshipTypeGUID,
+                                                                                                       limitResultsByStatus,
+                                                                                                       asOfTime,
+                                                                                                       true,
+                                                                                                       accumulator,
+                                                                                                       methodName);
+
+            listControl.executeCommand(listExecutor);
+        }
+
+        return executor.getResults();
+    }
+
+
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     *
+     * Each repository is asked for its count.  The same entity may be stored in several repositories as
+     * reference copies, so if more than one repository has matching entities, the entities are listed
+     * from those repositories a page at a time and the unique entities are counted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all counted entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public int countEntitiesByProperty(String                    userId,
+                                       String                    entityTypeGUID,
+                                       InstanceProperties        matchProperties,
+                                       MatchCriteria             matchCriteria,
+                                       List<InstanceStatus>      limitResultsByStatus,
+                                       List<String>              limitResultsByClassification,
+                                       Date                      asOfTime) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  PropertyErrorException,
+                                                                                  PagingErrorException,
+                                                                                  FunctionNotSupportedException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "countEntitiesByProperty";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        matchProperties,
+                                                        matchCriteria,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        asOfTime,
+                                                        null,
+                                                        null,
+                                                        0);
+
+        /*
+         * Validation complete, ok to continue with request
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        CountAccumulator                accumulator = new CountAccumulator(localMetadataCollectionId,
+                                                                           auditLog,
+                                                                           repositoryValidator);
+        CountEntitiesByPropertyExecutor executor    = new CountEntitiesByPropertyExecutor(userId,
+                                                                                          entityTypeGUID,
+                                                                                          matchProperties,
+                                                                                          matchCriteria,
+                                                                                          limitResultsByStatus,
+                                                                                          limitResultsByClassification,
+                                                                                          asOfTime,
+                                                                                          false,
+                                                                                          accumulator,
+                                                                                          methodName);
+
+        FederationControl federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+
+        federationControl.executeCommand(executor);
+
+        List<OMRSRepositoryConnector> connectorsToList = this.getConnectorsToList(cohortConnectors, accumulator);
+
+        if (connectorsToList != null)
+        {
+            FederationControl               listControl  = getParallelFederationControl(userId, connectorsToList, methodName);
+            CountEntitiesByPropertyExecutor listExecutor = new CountEntitiesByPropertyExecutor(userId,
+                                                                                               entityTypeGUID,
+                                                                                               matchProperties,
+                                                                                               matchCriteria,
+                                                                                               limitResultsByStatus,
+                                                                                               limitResultsByClassification,
+                                                                                               asOfTime,
+                                                                                               true,
+                                                                                               accumulator,
+                                                                                               methodName);
+
+            listControl.executeCommand(listExecutor);
+        }
+
+        return executor.getResults();
+    }
+
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     *
+     * Each repository is asked for its count.  The same entity may be stored in several repositories as
+     * reference copies, so if more than one repository has matching entities, the entities are listed
+     * from those repositories a page at a time and the unique entities are counted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @return count of the entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public int countEntitiesByClassification(String                    userId,
+                                             String                    entityTypeGUID,
+                                             String                    classificationName,
+                                             InstanceProperties        matchClassificationProperties,
+                                             MatchCriteria             matchCriteria,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             Date                      asOfTime) throws InvalidParameterException,
+                                                                                        TypeErrorException,
+                                                                                        RepositoryErrorException,
+                                                                                        ClassificationErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String  methodName = "countEntitiesByClassification";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByClassificationParameterValidation(userId,
+                                                              entityTypeGUID,
+                                                              classificationName,
+                                                              matchClassificationProperties,
+                                                              matchCriteria,
+                                                              0,
+                                                              limitResultsByStatus,
+                                                              asOfTime,
+                                                              null,
+                                                              null,
+                                                              0);
+
+        /*
+         * Validation complete, ok to continue with request
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        CountAccumulator                      accumulator = new CountAccumulator(localMetadataCollectionId,
+                                                                                 auditLog,
+                                                                                 repositoryValidator);
+        CountEntitiesByClassificationExecutor executor    = new CountEntitiesByClassificationExecutor(userId,
+                                                                                                      entityTypeGUID,
+                                                                                                      classificationName,
+                                                                                                      matchClassificationProperties,
+                                                                                                      matchCriteria,
+                                                                                                      limitResultsByStatus,
+                                                                                                      asOfTime,
+                                                                                                      false,
+                                                                                                      accumulator,
+                                                                                                      methodName);
+
+        FederationControl federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+
+        federationControl.executeCommand(executor);
+
+        List<OMRSRepositoryConnector> connectorsToList = this.getConnectorsToList(cohortConnectors, accumulator);
+
+        if (connectorsToList != null)
+        {
+            FederationControl                     listControl  = getParallelFederationControl(userId, connectorsToList, methodName);
+            CountEntitiesByClassificationExecutor listExecutor = new CountEntitiesByClassificationExecutor(userId,
+                                                                                                           entityTypeGUID,
+                                                                                                           classificationName,
+                                                                                                           matchClassificationProperties,
+                                                                                                           matchCriteria,
+                                                                                                           limitResultsByStatus,
+                                                                                                           asOfTime,
+                                                                                                           true,
+                                                                                                           accumulator,
+                                                                                                           methodName);
+
+            listControl.executeCommand(listExecutor);
+        }
+
+        return executor.getResults();
+    }
+
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1433,7 +2021,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1460,6 +2048,109 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * Each repository in the cohort(s) resumes from its own page token, which is carried inside the page
+     * token returned to the caller, so repositories that have returned all of their results are not called again.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstancePage findEntityPageByPropertyValue(String                userId,
+                                                      String                entityTypeGUID,
+                                                      String                searchCriteria,
+                                                      String                pageToken,
+                                                      List<InstanceStatus>  limitResultsByStatus,
+                                                      List<String>          limitResultsByClassification,
+                                                      Date                  asOfTime,
+                                                      String                sequencingProperty,
+                                                      SequencingOrder       sequencingOrder,
+                                                      int                   pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "findEntityPageByPropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyValueParameterValidation(userId,
+                                                             entityTypeGUID,
+                                                             searchCriteria,
+                                                             0,
+                                                             limitResultsByStatus,
+                                                             limitResultsByClassification,
+                                                             asOfTime,
+                                                             sequencingProperty,
+                                                             sequencingOrder,
+                                                             pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                     federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        FindEntityPageByPropertyValueExecutor executor          = new FindEntityPageByPropertyValueExecutor(userId,
+                                                                                                            entityTypeGUID,
+                                                                                                            searchCriteria,
+                                                                                                            pageToken,
+                                                                                                            limitResultsByStatus,
+                                                                                                            limitResultsByClassification,
+                                                                                                            asOfTime,
+                                                                                                            sequencingProperty,
+                                                                                                            sequencingOrder,
+                                                                                                            pageSize,
+                                                                                                            localMetadataCollectionId,
+                                                                                                            auditLog,
+                                                                                                            repositoryValidator,
+                                                                                                            methodName);
+
+        /*
+         * Ready to process the request.  Each repository returns its next page and the page for the caller
+         * is selected from the combined results.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector, repositoryHelper);
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
@@ -1601,13 +2292,172 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRelationshipHistory();
+        return executor.getRelationshipHistory();
+    }
+
+
+    /**
+     * Return each of the requested relationships.  Each repository in the cohorts is asked for the whole list
+     * in parallel and the latest version of each relationship is returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order of the requested guids.  Null means none of the relationships
+     * are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName         = "getRelationshipsByGUIDs";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateGUIDList(guidsParameterName, guids, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl        federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        GetRelationshipsExecutor executor          = new GetRelationshipsExecutor(userId,
+                                                                                  guids,
+                                                                                  localMetadataCollectionId,
+                                                                                  auditLog,
+                                                                                  repositoryValidator,
+                                                                                  methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and will be returned if there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector);
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested properties by the matching criteria.   The results
+     * can be received as a series of pages.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param matchProperties Optional list of relationship properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param fromRelationshipElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public  List<Relationship> findRelationshipsByProperty(String                    userId,
+                                                           String                    relationshipTypeGUID,
+                                                           InstanceProperties        matchProperties,
+                                                           MatchCriteria             matchCriteria,
+                                                           int                       fromRelationshipElement,
+                                                           List<InstanceStatus>      limitResultsByStatus,
+                                                           Date                      asOfTime,
+                                                           String                    sequencingProperty,
+                                                           SequencingOrder           sequencingOrder,
+                                                           int                       pageSize) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipsByProperty";
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                                                             relationshipTypeGUID,
+                                                             matchProperties,
+                                                             matchCriteria,
+                                                             fromRelationshipElement,
+                                                             limitResultsByStatus,
+                                                             asOfTime,
+                                                             sequencingProperty,
+                                                             sequencingOrder,
+                                                             pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                   federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
+                                                                                                        relationshipTypeGUID,
+                                                                                                        matchProperties,
+                                                                                                        matchCriteria,
+                                                                                                        fromRelationshipElement,
+                                                                                                        limitResultsByStatus,
+                                                                                                        asOfTime,
+                                                                                                        sequencingProperty,
+                                                                                                        sequencingOrder,
+                                                                                                        pageSize,
+                                                                                                        localMetadataCollectionId,
+                                                                                                        auditLog,
+                                                                                                        repositoryValidator,
+                                                                                                        methodName);
+
+        /*
+         * Ready to process the request.  Create requests occur in the first repository that accepts the call.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector);
     }
 
 
     /**
-     * Return a list of relationships that match the requested properties by the matching criteria.   The results
-     * can be received as a series of pages.
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * Each repository in the cohort(s) resumes from its own page token, which is carried inside the page
+     * token returned to the caller, so repositories that have returned all of their results are not called again.
      *
      * @param userId unique identifier for requesting user.
      * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
@@ -1615,20 +2465,18 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
      * @param matchProperties Optional list of relationship properties to match (where any String property's value should
      *                        be defined as a Java regular expression, even if it should be an exact match).
      * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
-     * @param fromRelationshipElement the starting element number of the entities to return.
-     *                                This is used when retrieving elements
-     *                                beyond the first page of results. Zero means start from the first element.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
      * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
      *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                             status values.
      * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
      *                 present values.
      * @param sequencingProperty String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
+     *                           Null means sequence on guid alone.
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return a list of relationships.  Null means no matching relationships.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
      * @throws InvalidParameterException one of the parameters is invalid or null.
      * @throws TypeErrorException the type guid passed on the request is not known by the
      *                              metadata collection.
@@ -1636,29 +2484,29 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
      *                                    the metadata collection is stored.
      * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
      *                                  relationships.
-     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
      * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
      * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
-     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
      */
-    public  List<Relationship> findRelationshipsByProperty(String                    userId,
-                                                           String                    relationshipTypeGUID,
-                                                           InstanceProperties        matchProperties,
-                                                           MatchCriteria             matchCriteria,
-                                                           int                       fromRelationshipElement,
-                                                           List<InstanceStatus>      limitResultsByStatus,
-                                                           Date                      asOfTime,
-                                                           String                    sequencingProperty,
-                                                           SequencingOrder           sequencingOrder,
-                                                           int                       pageSize) throws InvalidParameterException,
-                                                                                                      TypeErrorException,
-                                                                                                      RepositoryErrorException,
-                                                                                                      PropertyErrorException,
-                                                                                                      PagingErrorException,
-                                                                                                      FunctionNotSupportedException,
-                                                                                                      UserNotAuthorizedException
+    @Override
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
     {
-        final String  methodName = "findRelationshipsByProperty";
+        final String  methodName = "findRelationshipPageByProperty";
 
         /*
          * Validate parameters
@@ -1667,7 +2515,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                              relationshipTypeGUID,
                                                              matchProperties,
                                                              matchCriteria,
-                                                             fromRelationshipElement,
+                                                             0,
                                                              limitResultsByStatus,
                                                              asOfTime,
                                                              sequencingProperty,
@@ -1682,30 +2530,29 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
-        FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
-                                                                                                        relationshipTypeGUID,
-                                                                                                        matchProperties,
-                                                                                                        matchCriteria,
-                                                                                                        fromRelationshipElement,
-                                                                                                        limitResultsByStatus,
-                                                                                                        asOfTime,
-                                                                                                        sequencingProperty,
-                                                                                                        sequencingOrder,
-                                                                                                        pageSize,
-                                                                                                        localMetadataCollectionId,
-                                                                                                        auditLog,
-                                                                                                        repositoryValidator,
-                                                                                                        methodName);
-
-        /*
-         * Ready to process the request.  Create requests occur in the first repository that accepts the call.
-         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
-         * there are no positive results from any repository.
+        FederationControl                      federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        FindRelationshipPageByPropertyExecutor executor          = new FindRelationshipPageByPropertyExecutor(userId,
+                                                                                                              relationshipTypeGUID,
+                                                                                                              matchProperties,
+                                                                                                              matchCriteria,
+                                                                                                              pageToken,
+                                                                                                              limitResultsByStatus,
+                                                                                                              asOfTime,
+                                                                                                              sequencingProperty,
+                                                                                                              sequencingOrder,
+                                                                                                              pageSize,
+                                                                                                              localMetadataCollectionId,
+                                                                                                              auditLog,
+                                                                                                              repositoryValidator,
+                                                                                                              methodName);
+
+        /*
+         * Ready to process the request.  Each repository returns its next page and the page for the caller
+         * is selected from the combined results.
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector);
+        return executor.getResults(enterpriseParentConnector, repositoryHelper);
     }
 
 
@@ -1784,7 +2631,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                        federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
@@ -1810,6 +2657,103 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * Each repository in the cohort(s) resumes from its own page token, which is carried inside the page
+     * token returned to the caller, so repositories that have returned all of their results are not called again.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstancePage findRelationshipPageByPropertyValue(String                    userId,
+                                                            String                    relationshipTypeGUID,
+                                                            String                    searchCriteria,
+                                                            String                    pageToken,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipPageByPropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        this.findRelationshipsByPropertyValueParameterValidation(userId,
+                                                                 relationshipTypeGUID,
+                                                                 searchCriteria,
+                                                                 0,
+                                                                 limitResultsByStatus,
+                                                                 asOfTime,
+                                                                 sequencingProperty,
+                                                                 sequencingOrder,
+                                                                 pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                           federationControl = getParallelFederationControl(userId, cohortConnectors, methodName);
+        FindRelationshipPageByPropertyValueExecutor executor          = new FindRelationshipPageByPropertyValueExecutor(userId,
+                                                                                                                        relationshipTypeGUID,
+                                                                                                                        searchCriteria,
+                                                                                                                        pageToken,
+                                                                                                                        limitResultsByStatus,
+                                                                                                                        asOfTime,
+                                                                                                                        sequencingProperty,
+                                                                                                                        sequencingOrder,
+                                                                                                                        pageSize,
+                                                                                                                        localMetadataCollectionId,
+                                                                                                                        auditLog,
+                                                                                                                        repositoryValidator,
+                                                                                                                        methodName);
+
+        /*
+         * Ready to process the request.  Each repository returns its next page and the page for the caller
+         * is selected from the combined results.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector, repositoryHelper);
+    }
+
+
     /**
      * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
      *
@@ -3174,6 +4118,225 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
 
 
+    /**
+     * Create a set of new entities and relationships in a single request.  The relationships may link the new
+     * entities to each other and to existing entities.  The guid of each new entity in the request is only used to
+     * match it with the ends of the relationships in the request that refer to it.  Each relationship end that
+     * does not match a new entity is the guid of an existing entity.  The instances are created in the first
+     * repository that accepts the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and relationships.  Their types, properties, classifications and status are
+     *                  used to create the new instances.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addInstances(String         userId,
+                                      InstanceGraph  instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeErrorException,
+                                                                       PropertyErrorException,
+                                                                       ClassificationErrorException,
+                                                                       EntityNotKnownException,
+                                                                       StatusNotSupportedException,
+                                                                       FunctionNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String  methodName = "addInstances";
+
+        this.addInstancesParameterValidation(userId, instances, methodName);
+
+        return this.addInstanceBatch(userId, null, null, instances, methodName);
+    }
+
+
+    /**
+     * Save a set of new entities and relationships that are sourced from an external technology in a single
+     * request.  The external technology is identified by a GUID and a name.  The relationships may link the new
+     * entities to each other and to existing entities.  The guid of each new entity in the request is only used to
+     * match it with the ends of the relationships in the request that refer to it.  Each relationship end that
+     * does not match a new entity is the guid of an existing entity.  The instances are created in the first
+     * repository that accepts the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.  Their types, properties, classifications and status are
+     *                  used to create the new instances.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addExternalInstances(String         userId,
+                                              String         externalSourceGUID,
+                                              String         externalSourceName,
+                                              InstanceGraph  instances) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               ClassificationErrorException,
+                                                                               EntityNotKnownException,
+                                                                               StatusNotSupportedException,
+                                                                               FunctionNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        final String  methodName = "addExternalInstances";
+
+        this.addExternalInstancesParameterValidation(userId, externalSourceGUID, instances, methodName);
+
+        return this.addInstanceBatch(userId, externalSourceGUID, externalSourceName, instances, methodName);
+    }
+
+
+    /**
+     * Issue a validated batch of new instances to the first repository that accepts it.  The existing entities at
+     * the ends of the new relationships are retrieved from the cohort in one request first so that the repository
+     * can be given their proxies.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source - null for local instances.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.
+     * @param methodName calling method
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws TypeErrorException one of the requested types is not known.
+     * @throws PropertyErrorException one or more of the requested properties are not valid.
+     * @throws ClassificationErrorException one or more of the requested classifications are not valid.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known.
+     * @throws StatusNotSupportedException one of the requested statuses is not supported.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private InstanceGraph addInstanceBatch(String         userId,
+                                           String         externalSourceGUID,
+                                           String         externalSourceName,
+                                           InstanceGraph  instances,
+                                           String         methodName) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            TypeErrorException,
+                                                                            PropertyErrorException,
+                                                                            ClassificationErrorException,
+                                                                            EntityNotKnownException,
+                                                                            StatusNotSupportedException,
+                                                                            FunctionNotSupportedException,
+                                                                            UserNotAuthorizedException
+    {
+        List<EntityProxy>        existingEntityProxies = new ArrayList<>();
+        Set<String>              batchEntityGUIDs      = new HashSet<>();
+        Set<String>              existingEntityGUIDs   = new HashSet<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if (entity.getGUID() != null)
+                {
+                    batchEntityGUIDs.add(entity.getGUID());
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                String entityOneGUID = relationship.getEntityOneProxy().getGUID();
+                String entityTwoGUID = relationship.getEntityTwoProxy().getGUID();
+
+                if (! batchEntityGUIDs.contains(entityOneGUID))
+                {
+                    existingEntityGUIDs.add(entityOneGUID);
+                }
+
+                if (! batchEntityGUIDs.contains(entityTwoGUID))
+                {
+                    existingEntityGUIDs.add(entityTwoGUID);
+                }
+            }
+        }
+
+        /*
+         * The existing entities are retrieved from the cohort in a single request.
+         */
+        if (! existingEntityGUIDs.isEmpty())
+        {
+            List<EntityDetail> existingEntities = this.getEntitiesByGUIDs(userId, new ArrayList<>(existingEntityGUIDs));
+
+            if (existingEntities != null)
+            {
+                for (EntityDetail existingEntity : existingEntities)
+                {
+                    if ((existingEntity != null) && (existingEntityGUIDs.remove(existingEntity.getGUID())))
+                    {
+                        existingEntityProxies.add(repositoryHelper.getNewEntityProxy(repositoryName, existingEntity));
+                    }
+                }
+            }
+
+            for (String unknownEntityGUID : existingEntityGUIDs)
+            {
+                super.reportEntityNotKnown(unknownEntityGUID, methodName);
+            }
+        }
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, methodName);
+        AddInstancesExecutor executor = new AddInstancesExecutor(userId,
+                                                                 externalSourceGUID,
+                                                                 externalSourceName,
+                                                                 instances,
+                                                                 existingEntityProxies,
+                                                                 methodName);
+
+        /*
+         * Ready to process the request.  Create requests occur in the first repository that accepts the call.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getNewInstances();
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -4028,6 +5191,60 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the federation control for a request that calls the cohort members in parallel.  It uses the
+     * worker pool and request timeout set up from the enterprise connector's configuration.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param methodName calling method
+     * @return federation control
+     */
+    private FederationControl getParallelFederationControl(String                        userId,
+                                                           List<OMRSRepositoryConnector> cohortConnectors,
+                                                           String                        methodName)
+    {
+        return new ParallelFederationControl(userId,
+                                             cohortConnectors,
+                                             methodName,
+                                             enterpriseParentConnector.getFederationWorkerPool(),
+                                             enterpriseParentConnector.getFederationRequestTimeout());
+    }
+
+
+    /**
+     * Return the connectors of the repositories whose matching instances must be listed to count the unique
+     * instances.  Null is returned if fewer than two repositories returned a non-zero count since their counts
+     * can not include the same instance.
+     *
+     * @param cohortConnectors connectors of the cohort members
+     * @param accumulator accumulator holding the count from each repository
+     * @return list of connectors or null
+     */
+    private List<OMRSRepositoryConnector> getConnectorsToList(List<OMRSRepositoryConnector> cohortConnectors,
+                                                              CountAccumulator              accumulator)
+    {
+        Set<String> membersToList = accumulator.getMembersToList();
+
+        if ((membersToList == null) || (cohortConnectors == null))
+        {
+            return null;
+        }
+
+        List<OMRSRepositoryConnector> connectorsToList = new ArrayList<>();
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if ((cohortConnector != null) && (membersToList.contains(cohortConnector.getMetadataCollectionId())))
+            {
+                connectorsToList.add(cohortConnector);
+            }
+        }
+
+        return connectorsToList;
+    }
+
+
     /**
      * Verify that a cohort member's metadata collection is not null.
      *
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
@@ -22,6 +23,8 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -47,7 +50,9 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     private String                              localMetadataCollectionId = null;
     private List<FederatedConnector>            remoteCohortConnectors    = new ArrayList<>();
 
-    private String callingServiceName = null;
+    private String          callingServiceName       = null;
+    private ExecutorService federationWorkerPool     = null;
+    private long            federationRequestTimeout = ParallelFederationControl.DEFAULT_REQUEST_TIMEOUT;
 
     private static final Logger       log      = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
@@ -128,6 +133,28 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Return the worker pool used to call the cohort members in parallel.
+     *
+     * @return executor service - null until the connector is started
+     */
+    public ExecutorService getFederationWorkerPool()
+    {
+        return federationWorkerPool;
+    }
+
+
+    /**
+     * Return the time that a federated request waits for each cohort member to respond.
+     *
+     * @return time in milliseconds - zero means wait until every member has responded
+     */
+    public long getFederationRequestTimeout()
+    {
+        return federationRequestTimeout;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -137,6 +164,18 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     {
         super.start();
 
+        long maxFederationThreads = this.getConfigurationProperty(EnterpriseOMRSConnectorProvider.maxFederationThreadsProperty,
+                                                                  ParallelFederationControl.DEFAULT_MAX_WORKER_THREADS);
+
+        if (maxFederationThreads <= 0)
+        {
+            maxFederationThreads = ParallelFederationControl.DEFAULT_MAX_WORKER_THREADS;
+        }
+
+        federationWorkerPool = ParallelFederationControl.createWorkerPool((int)maxFederationThreads);
+        federationRequestTimeout = this.getConfigurationProperty(EnterpriseOMRSConnectorProvider.federationRequestTimeoutProperty,
+                                                                 ParallelFederationControl.DEFAULT_REQUEST_TIMEOUT);
+
         if (auditLog != null)
         {
             final String actionDescription = "start";
@@ -183,6 +222,54 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
+
+        if (federationWorkerPool != null)
+        {
+            federationWorkerPool.shutdown();
+            federationWorkerPool = null;
+        }
+    }
+
+
+    /**
+     * Return a numeric value from the connection's configuration properties.
+     *
+     * @param propertyName name of the configuration property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return property value
+     */
+    private long getConfigurationProperty(String propertyName,
+                                          long   defaultValue)
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object propertyValue = configurationProperties.get(propertyName);
+
+                if (propertyValue instanceof Number)
+                {
+                    return ((Number)propertyValue).longValue();
+                }
+                else if (propertyValue != null)
+                {
+                    try
+                    {
+                        return Long.parseLong(propertyValue.toString());
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        /*
+                         * An invalid value is ignored and the default is used.
+                         */
+                    }
+                }
+            }
+        }
+
+        return defaultValue;
     }
 
 
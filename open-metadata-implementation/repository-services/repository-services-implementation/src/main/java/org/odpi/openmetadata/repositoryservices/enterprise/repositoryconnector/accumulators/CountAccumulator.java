@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CountAccumulator accumulates the counts of instances received from a collection of open metadata repositories.
+ * The count from each repository is kept separately because the same instance may be stored in several
+ * repositories as reference copies.  If more than one repository has matching instances, the unique identifiers
+ * of these instances are listed from those repositories so each instance is only counted once.  If one of these
+ * repositories can not list its instances, the unique instances can not be counted and an error is returned
+ * rather than a count that may be too low.
+ *
+ * This class may be called simultaneously from many different threads so it must be thread-safe.
+ */
+public class CountAccumulator extends QueryAccumulatorBase
+{
+    private Map<String, Integer> memberCounts                      = new HashMap<>();
+    private Set<String>          instanceGUIDs                     = new HashSet<>();
+    private boolean              instancesListed                   = false;
+    private String               failedListingMetadataCollectionId = null;
+    private String               failedListingMessage              = null;
+
+
+    /**
+     * Construct a count accumulator.  Its base class manages the common variables needed to
+     * control the execution of requests across all members of the cohort(s).
+     *
+     * @param localMetadataCollectionId collection Id of local repository - null means no local repository
+     * @param auditLog audit log provides destination for log messages
+     * @param repositoryValidator validator provides common validation routines
+     */
+    public CountAccumulator(String                            localMetadataCollectionId,
+                            OMRSAuditLog                      auditLog,
+                            OMRSRepositoryValidator           repositoryValidator)
+    {
+        super(localMetadataCollectionId, auditLog, repositoryValidator);
+    }
+
+
+    /**
+     * Provide the count of matching instances from an open metadata repository.
+     *
+     * @param count number of matching instances
+     * @param metadataCollectionId unique identifier for the collection of metadata stored in this repository
+     */
+    public synchronized void addCount(int      count,
+                                      String   metadataCollectionId)
+    {
+        if (! isClosed())
+        {
+            memberCounts.put(metadataCollectionId, count);
+
+            super.setResultsReturned(metadataCollectionId, count);
+        }
+    }
+
+
+    /**
+     * Provide a page of the matching instances from an open metadata repository.  Only the unique identifiers
+     * of the instances are kept.
+     *
+     * @param instances page of matching instances
+     * @param metadataCollectionId unique identifier for the collection of metadata stored in this repository
+     */
+    public synchronized void addInstances(List<? extends InstanceHeader> instances,
+                                          String                         metadataCollectionId)
+    {
+        if (! isClosed())
+        {
+            instancesListed = true;
+
+            if (instances != null)
+            {
+                for (InstanceHeader instance : instances)
+                {
+                    if ((instance != null) && (instance.getGUID() != null))
+                    {
+                        instanceGUIDs.add(instance.getGUID());
+                    }
+                }
+
+                super.setResultsReturned(metadataCollectionId, instances.size());
+            }
+        }
+    }
+
+
+    /**
+     * Record that a repository failed part way through listing its matching instances.
+     *
+     * @param metadataCollectionId unique identifier for the collection of metadata stored in this repository
+     * @param error exception from the repository
+     */
+    public synchronized void captureListingFailure(String    metadataCollectionId,
+                                                   Throwable error)
+    {
+        if (! isClosed())
+        {
+            if (failedListingMetadataCollectionId == null)
+            {
+                failedListingMetadataCollectionId = metadataCollectionId;
+                failedListingMessage = error.getMessage();
+            }
+        }
+    }
+
+
+    /**
+     * Return the metadata collection ids of the repositories whose matching instances need to be listed to remove
+     * the duplicates.  This is null if fewer than two repositories have matching instances since there can not
+     * be any duplicates.
+     *
+     * @return set of metadata collection ids or null
+     */
+    public synchronized Set<String> getMembersToList()
+    {
+        Set<String> membersWithResults = new HashSet<>();
+
+        for (String metadataCollectionId : memberCounts.keySet())
+        {
+            if (memberCounts.get(metadataCollectionId) > 0)
+            {
+                membersWithResults.add(metadataCollectionId);
+            }
+        }
+
+        if (membersWithResults.size() < 2)
+        {
+            return null;
+        }
+
+        return membersWithResults;
+    }
+
+
+    /**
+     * Return the number of unique matching instances.  If the instances have been listed it is the number of
+     * unique instances listed.
+     *
+     * @param methodName calling method
+     * @return count
+     * @throws RepositoryErrorException one of the repositories could not list its instances so the unique
+     *                                  instances can not be counted
+     */
+    public synchronized int getCount(String  methodName) throws RepositoryErrorException
+    {
+        if (failedListingMetadataCollectionId != null)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.INCOMPLETE_ENTERPRISE_COUNT;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(methodName,
+                                                                            failedListingMetadataCollectionId,
+                                                                            failedListingMessage);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               errorMessage,
+                                               errorCode.getSystemAction(),
+                                               errorCode.getUserAction());
+        }
+
+        if (instancesListed)
+        {
+            return instanceGUIDs.size();
+        }
+
+        int count = 0;
+
+        for (Integer memberCount : memberCounts.values())
+        {
+            count = count + memberCount;
+        }
+
+        return count;
+    }
+}
@@ -86,28 +86,42 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addEntities(List<EntityDetail>   entities,
                                          String               metadataCollectionId)
     {
-        if (entities != null)
+        if (! isClosed())
         {
-            for (EntityDetail entity : entities)
+            if (entities != null)
             {
-                this.addEntity(entity, metadataCollectionId);
-            }
+                for (EntityDetail entity : entities)
+                {
+                    this.addEntity(entity, metadataCollectionId);
+                }
 
-            /*
-             * Record that this repository has returned results from the request.
-             */
-            super.setResultsReturned(metadataCollectionId, entities.size());
-        }
-        else
-        {
-            /*
-             * Even though results were not found it was still a successful request.
-             */
-            super.setResultsReturned(metadataCollectionId, 0);
+                /*
+                 * Record that this repository has returned results from the request.
+                 */
+                super.setResultsReturned(metadataCollectionId, entities.size());
+            }
+            else
+            {
+                /*
+                 * Even though results were not found it was still a successful request.
+                 */
+                super.setResultsReturned(metadataCollectionId, 0);
+            }
         }
     }
 
 
+    /**
+     * Return the number of unique instances accumulated so far.
+     *
+     * @return count of instances
+     */
+    public synchronized int getNumberOfResults()
+    {
+        return accumulatedEntities.size();
+    }
+
+
     /**
      * Extract the results - this will the a unique list of entities selected from the instances
      * supplied to this accumulator.  It should be called once all of the executors have completed processing
@@ -23,6 +23,7 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     private int                  responsesRequired  = 0;
     private Map<String, Integer> resultsContributed = new HashMap<>();
     private boolean              resultsReturned = false;
+    private boolean              closed = false;
 
 
     /**
@@ -69,6 +70,27 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     }
 
 
+    /**
+     * Stop recording results.  This is called when the federation control stops waiting for the
+     * requests that are still running so that their late results do not change what the caller sees.
+     */
+    public synchronized void close()
+    {
+        closed = true;
+    }
+
+
+    /**
+     * Return whether the accumulator has stopped recording results.
+     *
+     * @return true if results are ignored
+     */
+    synchronized boolean isClosed()
+    {
+        return closed;
+    }
+
+
     /**
      * An executor is created for each repository that needs to be called.  Each executor should provide either an
      * exception response or a set of the desired elements.
@@ -89,8 +111,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     synchronized void setResultsReturned(String      metadataCollectionId,
                                          int         numberOfElements)
     {
-        setRequestReturned(metadataCollectionId, numberOfElements);
-        resultsReturned = true;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, numberOfElements);
+            resultsReturned = true;
+        }
     }
 
 
@@ -118,8 +143,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                          metadataCollectionId,
                                               ClassificationErrorException    exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        classificationErrorException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            classificationErrorException = exception;
+        }
     }
 
 
@@ -132,8 +160,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               EntityNotKnownException    exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        entityNotKnownException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            entityNotKnownException = exception;
+        }
     }
 
 
@@ -147,8 +178,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                           metadataCollectionId,
                                               FunctionNotSupportedException    exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        functionNotSupportedException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            functionNotSupportedException = exception;
+        }
     }
 
 
@@ -161,8 +195,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               InvalidParameterException  exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        invalidParameterException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            invalidParameterException = exception;
+        }
     }
 
 
@@ -175,8 +212,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PagingErrorException     exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        pagingErrorException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            pagingErrorException = exception;
+        }
     }
 
 
@@ -189,8 +229,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PropertyErrorException     exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        propertyErrorException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            propertyErrorException = exception;
+        }
     }
 
 
@@ -203,8 +246,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               RelationshipNotKnownException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        relationshipNotKnownException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            relationshipNotKnownException = exception;
+        }
     }
 
 
@@ -217,8 +263,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               RepositoryErrorException   exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        repositoryErrorException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            repositoryErrorException = exception;
+        }
     }
 
 
@@ -231,8 +280,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String               metadataCollectionId,
                                               TypeErrorException   exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        typeErrorException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            typeErrorException = exception;
+        }
     }
 
 
@@ -245,8 +297,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               UserNotAuthorizedException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        userNotAuthorizedException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            userNotAuthorizedException = exception;
+        }
     }
 
 
@@ -259,7 +314,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureGenericException(String     metadataCollectionId,
                                                      Throwable  exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        anotherException = exception;
+        if (! closed)
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            anotherException = exception;
+        }
     }
 }
@@ -14,7 +14,7 @@ import java.util.List;
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and
  * combine results.
  */
-public class QueryInstanceAccumulatorBase extends QueryAccumulatorBase
+public abstract class QueryInstanceAccumulatorBase extends QueryAccumulatorBase
 {
     protected List<String>            locallyStoredInstancesGUIDs = new ArrayList<>();
 
@@ -34,6 +34,14 @@ public class QueryInstanceAccumulatorBase extends QueryAccumulatorBase
     }
 
 
+    /**
+     * Return the number of unique instances accumulated so far.
+     *
+     * @return count of instances
+     */
+    public abstract int getNumberOfResults();
+
+
     /**
      * Return a flag indicating whether the incoming entity should be preferred over the current saved entity.
      *
@@ -85,28 +85,42 @@ public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addRelationships(List<Relationship>   relationships,
                                               String               metadataCollectionId)
     {
-        if (relationships != null)
+        if (! isClosed())
         {
-            for (Relationship relationship : relationships)
+            if (relationships != null)
             {
-                this.addRelationship(relationship, metadataCollectionId);
-            }
+                for (Relationship relationship : relationships)
+                {
+                    this.addRelationship(relationship, metadataCollectionId);
+                }
 
-            /*
-             * Record that this repository has returned results from the request.
-             */
-            super.setResultsReturned(metadataCollectionId, relationships.size());
-        }
-        else
-        {
-            /*
-             * Even though results were not found it was still a successful request.
-             */
-            super.setResultsReturned(metadataCollectionId, 0);
+                /*
+                 * Record that this repository has returned results from the request.
+                 */
+                super.setResultsReturned(metadataCollectionId, relationships.size());
+            }
+            else
+            {
+                /*
+                 * Even though results were not found it was still a successful request.
+                 */
+                super.setResultsReturned(metadataCollectionId, 0);
+            }
         }
     }
 
 
+    /**
+     * Return the number of unique instances accumulated so far.
+     *
+     * @return count of instances
+     */
+    public synchronized int getNumberOfResults()
+    {
+        return accumulatedRelationships.size();
+    }
+
+
     /**
      * Extract the results - this will the a unique list of relationships selected from the instances
      * supplied to this accumulator.  It should be called once all of the executors have completed processing
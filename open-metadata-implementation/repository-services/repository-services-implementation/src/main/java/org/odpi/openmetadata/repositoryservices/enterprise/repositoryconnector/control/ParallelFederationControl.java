@@ -4,22 +4,63 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ *
+ * The executor passed to executeCommand is cloned for each additional cohort member so that each clone
+ * issues the request to a single repository.  The clones share the executor's accumulator so the results
+ * are combined as they arrive.  The federation control waits for all of the repositories to respond,
+ * or for one of the executors to report that the accumulator has all of the results it needs.  Each
+ * repository has its own request timeout that starts when its request starts to run.  The federation
+ * control stops waiting for a repository that does not respond in time and the caller receives the results
+ * from the other repositories.  Once the federation control stops waiting, the executor is closed so that
+ * the results from any requests still running are ignored, and then these requests are cancelled.
+ *
+ * Executors that can not be cloned are run sequentially on the caller's thread.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses a sequential since the
-    // todo worker threads are not implemented.
+    /*
+     * Default settings for the worker pool and request timeout.  They are used by the parallel federated
+     * queries that are not given a worker pool and timeout from the enterprise connector's configuration.
+     */
+    public  static final int    DEFAULT_MAX_WORKER_THREADS  = 20;
+    public  static final int    DEFAULT_MAX_QUEUED_REQUESTS = 200;
+    public  static final long   DEFAULT_REQUEST_TIMEOUT     = 30000;
+
+    private static final long   WORKER_KEEP_ALIVE_TIME      = 60;
+    private static final String WORKER_THREAD_NAME_PREFIX   = "OMRSFederationWorker-";
+
+    private static ExecutorService sharedWorkerPool = null;
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelFederationControl.class);
+
+    private ExecutorService workerPool;
+    private long            requestTimeout;
 
 
     /**
-     * Constructor for a federated query
+     * Constructor for a federated query that uses the shared worker pool and the default request timeout.
      *
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
@@ -28,9 +69,82 @@ public class ParallelFederationControl extends FederationControlBase
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
                                      String                        methodName)
+    {
+        this(userId, cohortConnectors, methodName, getSharedWorkerPool(), DEFAULT_REQUEST_TIMEOUT);
+    }
+
+
+    /**
+     * Constructor for a federated query that supplies its own worker pool and request timeout.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param methodName calling method
+     * @param workerPool executor service that runs the request to each repository - null means use the
+     *                   shared worker pool
+     * @param requestTimeout maximum time (in milliseconds) to wait for each repository to respond - zero or
+     *                       less means wait until all of the repositories have responded
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     String                        methodName,
+                                     ExecutorService               workerPool,
+                                     long                          requestTimeout)
     {
         super(userId, cohortConnectors, methodName);
 
+        if (workerPool == null)
+        {
+            this.workerPool = getSharedWorkerPool();
+        }
+        else
+        {
+            this.workerPool = workerPool;
+        }
+
+        this.requestTimeout = requestTimeout;
+    }
+
+
+    /**
+     * Create a worker pool for the parallel federated queries.  The number of threads and queued requests
+     * are bounded.  When the queue is full the request runs on the caller's thread so that the caller slows
+     * down rather than fails.  The threads time out when they are idle and do not prevent the JVM from
+     * shutting down.
+     *
+     * @param maxWorkerThreads maximum number of requests to run at the same time
+     * @return executor service
+     */
+    public static ExecutorService createWorkerPool(int maxWorkerThreads)
+    {
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxWorkerThreads,
+                                                               maxWorkerThreads,
+                                                               WORKER_KEEP_ALIVE_TIME,
+                                                               TimeUnit.SECONDS,
+                                                               new LinkedBlockingQueue<>(DEFAULT_MAX_QUEUED_REQUESTS),
+                                                               new FederationWorkerThreadFactory(),
+                                                               new ThreadPoolExecutor.CallerRunsPolicy());
+
+        threadPool.allowCoreThreadTimeOut(true);
+
+        return threadPool;
+    }
+
+
+    /**
+     * Return the worker pool that is shared by the parallel federation controls that do not supply their own.
+     * It is created on first use with the default number of threads.
+     *
+     * @return executor service
+     */
+    private static synchronized ExecutorService getSharedWorkerPool()
+    {
+        if (sharedWorkerPool == null)
+        {
+            sharedWorkerPool = createWorkerPool(DEFAULT_MAX_WORKER_THREADS);
+        }
+
+        return sharedWorkerPool;
     }
 
 
@@ -45,17 +159,406 @@ public class ParallelFederationControl extends FederationControlBase
     {
         if (super.cohortConnectors != null)
         {
-            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            if (executor instanceof CloneableRepositoryExecutor)
+            {
+                this.executeInParallel(executor);
+            }
+            else
+            {
+                this.executeSequentially(executor);
+            }
+        }
+    }
+
+
+    /**
+     * Issue the command to each repository in turn on the caller's thread.  This is used for executors
+     * that can not be cloned.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    private void executeSequentially(RepositoryExecutor executor) throws RepositoryErrorException
+    {
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
             {
-                if (cohortConnector != null)
+                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+
+                executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+            }
+        }
+    }
+
+
+    /**
+     * Issue the command to all of the repositories at once using the worker pool.  The supplied executor is
+     * used for the first repository and clones of it for the rest.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    private void executeInParallel(RepositoryExecutor executor) throws RepositoryErrorException
+    {
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(workerPool);
+        List<RepositoryRequest>    requests          = new ArrayList<>();
+        boolean                    firstRequest      = true;
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                RepositoryExecutor requestExecutor;
+
+                if (firstRequest)
+                {
+                    requestExecutor = executor;
+                    firstRequest = false;
+                }
+                else
+                {
+                    requestExecutor = (RepositoryExecutor)((CloneableRepositoryExecutor)executor).getClone();
+                }
+
+                RepositoryRequest request = new RepositoryRequest(cohortConnector, requestExecutor);
+
+                requests.add(request);
+                request.setFuture(completionService.submit(request));
+            }
+        }
+
+        try
+        {
+            this.waitForResponses(completionService, requests);
+        }
+        finally
+        {
+            /*
+             * Any request that has not completed by now is either late or no longer needed.  The executor is
+             * closed before these requests are cancelled so that it and its clones stop recording results.
+             * This means anything a cancelled request delivers after it is interrupted is ignored rather
+             * than changing the accumulator while the caller reads it.
+             */
+            List<Future<Boolean>> outstandingRequests = new ArrayList<>();
+
+            for (RepositoryRequest request : requests)
+            {
+                if (! request.getFuture().isDone())
+                {
+                    outstandingRequests.add(request.getFuture());
+                }
+            }
+
+            if (! outstandingRequests.isEmpty())
+            {
+                ((CloneableRepositoryExecutor)executor).close();
+
+                for (Future<Boolean> outstandingRequest : outstandingRequests)
+                {
+                    outstandingRequest.cancel(true);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Wait for the requests to complete.  Return when all of the requests are done or have timed out, or
+     * one of the executors has the results it needs.  Each request has its own timeout so a slow repository
+     * does not hold up the results from the others.  A request that times out is no longer waited for.
+     * It is left running until the wait is over so any results it delivers before then are kept.
+     *
+     * @param completionService service returning the completed requests
+     * @param requests requests issued
+     * @throws RepositoryErrorException one of the metadata collections is null
+     */
+    private void waitForResponses(CompletionService<Boolean> completionService,
+                                  List<RepositoryRequest>    requests) throws RepositoryErrorException
+    {
+        int responses = 0;
+
+        while (responses < requests.size())
+        {
+            try
+            {
+                Future<Boolean> completedRequest;
+
+                if (requestTimeout > 0)
+                {
+                    completedRequest = completionService.poll(this.getTimeToNextDeadline(requests), TimeUnit.MILLISECONDS);
+                }
+                else
+                {
+                    completedRequest = completionService.take();
+                }
+
+                if (completedRequest == null)
                 {
-                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+                    responses = responses + this.expireRequests(requests);
+                    continue;
+                }
 
-                    String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+                if (this.isExpired(completedRequest, requests))
+                {
+                    /*
+                     * This request was counted when it timed out.
+                     */
+                    continue;
+                }
 
-                    executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                responses++;
+
+                if (completedRequest.get())
+                {
+                    /*
+                     * The executor returns true if it has all of the results it needs.
+                     */
+                    return;
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException error)
+            {
+                if (error.getCause() instanceof RepositoryErrorException)
+                {
+                    throw (RepositoryErrorException)error.getCause();
                 }
+
+                /*
+                 * The executors capture the exceptions from the repositories in their accumulator so
+                 * anything that gets here is unexpected.
+                 */
+                log.error(methodName + " federated request failed", error.getCause());
+            }
+        }
+    }
+
+
+    /**
+     * Return the time until the first of the requests still being waited for reaches its timeout.
+     *
+     * @param requests requests issued
+     * @return time in milliseconds - zero if a request has already timed out
+     */
+    private long getTimeToNextDeadline(List<RepositoryRequest> requests)
+    {
+        long now          = System.currentTimeMillis();
+        long nextDeadline = now + requestTimeout;
+
+        for (RepositoryRequest request : requests)
+        {
+            if ((! request.isExpired()) && (! request.getFuture().isDone()))
+            {
+                nextDeadline = Math.min(nextDeadline, request.getDeadline());
+            }
+        }
+
+        return Math.max(nextDeadline - now, 0);
+    }
+
+
+    /**
+     * Stop waiting for the requests that have reached their timeout.
+     *
+     * @param requests requests issued
+     * @return number of requests that have timed out on this call
+     */
+    private int expireRequests(List<RepositoryRequest> requests)
+    {
+        long now             = System.currentTimeMillis();
+        int  expiredRequests = 0;
+
+        for (RepositoryRequest request : requests)
+        {
+            if ((! request.isExpired()) && (! request.getFuture().isDone()) && (request.getDeadline() <= now))
+            {
+                log.warn(methodName + " timed out after " + requestTimeout + "ms waiting for repository " +
+                         request.getMetadataCollectionId() + "; returning results from the other repositories");
+
+                request.setExpired();
+                expiredRequests++;
+            }
+        }
+
+        return expiredRequests;
+    }
+
+
+    /**
+     * Return whether a completed request had already timed out.
+     *
+     * @param completedRequest request returned by the completion service
+     * @param requests requests issued
+     * @return boolean true if the request has already been counted
+     */
+    private boolean isExpired(Future<Boolean>         completedRequest,
+                              List<RepositoryRequest> requests)
+    {
+        for (RepositoryRequest request : requests)
+        {
+            if (request.getFuture() == completedRequest)
+            {
+                return request.isExpired();
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * RepositoryRequest issues the command to a single repository on a worker thread.
+     */
+    private class RepositoryRequest implements Callable<Boolean>
+    {
+        private OMRSRepositoryConnector cohortConnector;
+        private RepositoryExecutor      executor;
+        private Future<Boolean>         future               = null;
+        private boolean                 expired              = false;
+        private long                    submitTime           = System.currentTimeMillis();
+        private volatile long           startTime            = 0;
+        private volatile String         metadataCollectionId = null;
+
+
+        /**
+         * Constructor supplies the repository to call and the executor to call it with.
+         *
+         * @param cohortConnector connector to the repository
+         * @param executor command to execute
+         */
+        RepositoryRequest(OMRSRepositoryConnector cohortConnector,
+                          RepositoryExecutor      executor)
+        {
+            this.cohortConnector = cohortConnector;
+            this.executor = executor;
+        }
+
+
+        /**
+         * Set up the future returned when the request was submitted to the worker pool.
+         *
+         * @param future result of the request
+         */
+        void setFuture(Future<Boolean> future)
+        {
+            this.future = future;
+        }
+
+
+        /**
+         * Return the future returned when the request was submitted to the worker pool.
+         *
+         * @return result of the request
+         */
+        Future<Boolean> getFuture()
+        {
+            return future;
+        }
+
+
+        /**
+         * Record that the federation control has stopped waiting for this request.
+         */
+        void setExpired()
+        {
+            this.expired = true;
+        }
+
+
+        /**
+         * Return whether the federation control has stopped waiting for this request.
+         *
+         * @return boolean true if the request has timed out
+         */
+        boolean isExpired()
+        {
+            return expired;
+        }
+
+
+        /**
+         * Return the time that the request times out.  The timeout starts when the request starts to run,
+         * or when it was submitted if it is still queued.
+         *
+         * @return time in milliseconds
+         */
+        long getDeadline()
+        {
+            long requestStartTime = startTime;
+
+            if (requestStartTime == 0)
+            {
+                requestStartTime = submitTime;
+            }
+
+            return requestStartTime + requestTimeout;
+        }
+
+
+        /**
+         * Return the identifier of the repository for messages.
+         *
+         * @return metadata collection id or the repository name if the request has not started
+         */
+        String getMetadataCollectionId()
+        {
+            if (metadataCollectionId == null)
+            {
+                return cohortConnector.getRepositoryName();
             }
+
+            return metadataCollectionId;
+        }
+
+
+        /**
+         * Issue the request to the repository.
+         *
+         * @return boolean true means that the required results have been achieved
+         * @throws RepositoryErrorException null metadata collection
+         */
+        public Boolean call() throws RepositoryErrorException
+        {
+            startTime = System.currentTimeMillis();
+
+            OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+            metadataCollectionId = validateMetadataCollection(metadataCollection, methodName);
+
+            return executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+    }
+
+
+    /**
+     * FederationWorkerThreadFactory creates named daemon threads for the worker pools so that
+     * they do not prevent the JVM from shutting down.
+     */
+    private static class FederationWorkerThreadFactory implements ThreadFactory
+    {
+        private AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
         }
     }
 }
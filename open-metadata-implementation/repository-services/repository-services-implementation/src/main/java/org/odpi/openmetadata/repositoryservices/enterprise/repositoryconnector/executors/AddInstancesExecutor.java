@@ -0,0 +1,238 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MaintenanceAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+
+/**
+ * AddInstancesExecutor provides the executor for the addInstances and addExternalInstances methods.
+ */
+public class AddInstancesExecutor extends RepositoryExecutorBase
+{
+    private InstanceGraph          instances;
+    private List<EntityProxy>      existingEntityProxies;
+    private String                 externalSourceGUID;
+    private String                 externalSourceName;
+    private InstanceGraph          newInstances = null;
+    private MaintenanceAccumulator accumulator  = new MaintenanceAccumulator();
+
+    private static final Logger log = LoggerFactory.getLogger(AddInstancesExecutor.class);
+
+
+    /**
+     * Constructor takes the parameters for the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source - null for local instances.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.
+     * @param existingEntityProxies proxies for the entities at the ends of the new relationships that are not
+     *                              part of the request.
+     * @param methodName calling method
+     */
+    public AddInstancesExecutor(String            userId,
+                                String            externalSourceGUID,
+                                String            externalSourceName,
+                                InstanceGraph     instances,
+                                List<EntityProxy> existingEntityProxies,
+                                String            methodName)
+    {
+        super(userId, methodName);
+
+        this.externalSourceGUID = externalSourceGUID;
+        this.externalSourceName = externalSourceName;
+        this.instances = instances;
+        this.existingEntityProxies = existingEntityProxies;
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     * Create requests occur in the first repository that accepts the call.
+     * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+     * there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        boolean result = false;
+
+        try
+        {
+            /*
+             * The existing entities at the ends of the new relationships must be known to the repository.
+             */
+            if (existingEntityProxies != null)
+            {
+                for (EntityProxy entityProxy : existingEntityProxies)
+                {
+                    if (! this.ensureEntityEndKnown(userId, entityProxy, metadataCollection))
+                    {
+                        return false;
+                    }
+                }
+            }
+
+            /*
+             * Issue the request and return if it succeeds
+             */
+            if (externalSourceGUID == null)
+            {
+                newInstances = metadataCollection.addInstances(userId, instances);
+            }
+            else
+            {
+                newInstances = metadataCollection.addExternalInstances(userId,
+                                                                       externalSourceGUID,
+                                                                       externalSourceName,
+                                                                       instances);
+            }
+
+            if (newInstances != null)
+            {
+                result = true;
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (TypeErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (StatusNotSupportedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (PropertyErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(error);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Return the result of the execution.  Hopefully this is a result - but may be an exception
+     *
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getNewInstances() throws InvalidParameterException,
+                                                  RepositoryErrorException,
+                                                  TypeErrorException,
+                                                  PropertyErrorException,
+                                                  ClassificationErrorException,
+                                                  EntityNotKnownException,
+                                                  StatusNotSupportedException,
+                                                  FunctionNotSupportedException,
+                                                  UserNotAuthorizedException
+    {
+        if (newInstances != null)
+        {
+            return newInstances;
+        }
+
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedThrowableException(super.methodName);
+        accumulator.throwCapturedEntityNotKnownException();
+        accumulator.throwCapturedTypeErrorException();
+        accumulator.throwCapturedClassificationErrorException();
+        accumulator.throwCapturedPropertyErrorException();
+        accumulator.throwCapturedStatusNotSupportedException();
+        accumulator.throwCapturedInvalidParameterException();
+        accumulator.throwCapturedFunctionNotSupportedException();
+
+        return null;
+    }
+
+
+    /**
+     * Validate that the metadata collection supports an existing entity at the end of a new relationship
+     * (and add its proxy if it can).
+     *
+     * @param userId calling user
+     * @param entityProxy proxy to add if missing.
+     * @param metadataCollection current repository.
+     * @return boolean - true if entity is known.
+     */
+    private boolean ensureEntityEndKnown(String                 userId,
+                                         EntityProxy            entityProxy,
+                                         OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            metadataCollection.getEntitySummary(userId, entityProxy.getGUID());
+            return true;
+        }
+        catch (EntityNotKnownException error)
+        {
+            try
+            {
+                metadataCollection.addEntityProxy(userId, entityProxy);
+                return true;
+            }
+            catch (Throwable proxyError)
+            {
+                log.debug("Error from adding proxy: " + proxyError.getMessage());
+            }
+        }
+        catch (Throwable error)
+        {
+            log.debug("Error from querying entity: " + error.getMessage());
+        }
+
+        return false;
+    }
+}
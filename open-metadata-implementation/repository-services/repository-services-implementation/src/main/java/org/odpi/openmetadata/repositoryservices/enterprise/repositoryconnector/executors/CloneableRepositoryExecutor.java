@@ -14,4 +14,11 @@ public interface CloneableRepositoryExecutor
      * @return clone of this executor
      */
     CloneableRepositoryExecutor getClone();
+
+
+    /**
+     * Stop this executor and its clones recording results.  This is called when the federation control
+     * stops waiting for the requests that are still running.
+     */
+    void close();
 }
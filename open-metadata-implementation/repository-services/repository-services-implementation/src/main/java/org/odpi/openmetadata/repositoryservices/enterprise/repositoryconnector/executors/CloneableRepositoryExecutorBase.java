@@ -12,12 +12,26 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.a
  */
 abstract class CloneableRepositoryExecutorBase extends RepositoryExecutorBase implements CloneableRepositoryExecutor
 {
+    private QueryAccumulatorBase accumulator;
+
+
     CloneableRepositoryExecutorBase(String               userId,
                                     String               methodName,
                                     QueryAccumulatorBase accumulator)
     {
         super(userId, methodName);
 
+        this.accumulator = accumulator;
         accumulator.registerExecutor();
     }
+
+
+    /**
+     * Stop this executor and its clones recording results.  The clones share the accumulator so
+     * closing it closes them all.
+     */
+    public void close()
+    {
+        accumulator.close();
+    }
 }
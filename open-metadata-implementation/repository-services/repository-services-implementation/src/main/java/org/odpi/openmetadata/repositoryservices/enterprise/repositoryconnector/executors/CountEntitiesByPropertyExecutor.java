@@ -0,0 +1,191 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.CountAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * CountEntitiesByPropertyExecutor is the executor for the countEntitiesByProperty request.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ */
+public class CountEntitiesByPropertyExecutor extends CountInstancesExecutorBase
+{
+    private InstanceProperties matchProperties;
+    private MatchCriteria      matchCriteria;
+    private List<String>       limitResultsByClassification;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all counted entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means count the present values.
+     * @param listInstances list the matching entities rather than asking for the count
+     * @param accumulator captures results and exceptions
+     * @param methodName calling method
+     */
+    public CountEntitiesByPropertyExecutor(String               userId,
+                                           String               entityTypeGUID,
+                                           InstanceProperties   matchProperties,
+                                           MatchCriteria        matchCriteria,
+                                           List<InstanceStatus> limitResultsByStatus,
+                                           List<String>         limitResultsByClassification,
+                                           Date                 asOfTime,
+                                           boolean              listInstances,
+                                           CountAccumulator     accumulator,
+                                           String               methodName)
+    {
+        super(userId, entityTypeGUID, limitResultsByStatus, asOfTime, listInstances, accumulator, methodName);
+
+        this.matchProperties = matchProperties;
+        this.matchCriteria = matchCriteria;
+        this.limitResultsByClassification = limitResultsByClassification;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instance.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new CountEntitiesByPropertyExecutor(userId,
+                                                   instanceTypeGUID,
+                                                   matchProperties,
+                                                   matchCriteria,
+                                                   limitResultsByStatus,
+                                                   limitResultsByClassification,
+                                                   asOfTime,
+                                                   listInstances,
+                                                   accumulator,
+                                                   methodName);
+    }
+
+
+    /**
+     * Issue the count request to a repository.
+     *
+     * @param metadataCollection metadata collection object for the repository
+     * @return count of matching entities
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    int countInstances(OMRSMetadataCollection metadataCollection) throws InvalidParameterException,
+                                                                          TypeErrorException,
+                                                                          RepositoryErrorException,
+                                                                          PropertyErrorException,
+                                                                          PagingErrorException,
+                                                                          FunctionNotSupportedException,
+                                                                          UserNotAuthorizedException
+    {
+        return metadataCollection.countEntitiesByProperty(userId,
+                                                          instanceTypeGUID,
+                                                          matchProperties,
+                                                          matchCriteria,
+                                                          limitResultsByStatus,
+                                                          limitResultsByClassification,
+                                                          asOfTime);
+    }
+
+
+    /**
+     * Retrieve a page of the matching entities from a repository.
+     *
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element of the page
+     * @param pageSize maximum number of entities to return
+     * @return list of entities or null
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    List<EntityDetail> getInstances(OMRSMetadataCollection metadataCollection,
+                                    int                    fromElement,
+                                    int                    pageSize) throws InvalidParameterException,
+                                                                            TypeErrorException,
+                                                                            RepositoryErrorException,
+                                                                            PropertyErrorException,
+                                                                            PagingErrorException,
+                                                                            FunctionNotSupportedException,
+                                                                            UserNotAuthorizedException
+    {
+        return metadataCollection.findEntitiesByProperty(userId,
+                                                         instanceTypeGUID,
+                                                         matchProperties,
+                                                         matchCriteria,
+                                                         fromElement,
+                                                         limitResultsByStatus,
+                                                         limitResultsByClassification,
+                                                         asOfTime,
+                                                         null,
+                                                         null,
+                                                         pageSize);
+    }
+
+
+    /**
+     * Return the results of the combined requests.
+     *
+     * @return count of the unique entities matching the supplied criteria.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public int getResults() throws InvalidParameterException,
+                                   TypeErrorException,
+                                   RepositoryErrorException,
+                                   PropertyErrorException,
+                                   PagingErrorException,
+                                   FunctionNotSupportedException,
+                                   UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            return accumulator.getCount(methodName);
+        }
+
+        handleCommonCountRequestExceptions();
+
+        return 0;
+    }
+}
@@ -0,0 +1,235 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.CountAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * CountInstancesExecutorBase provides the base class for the executors of the count requests.  The executor
+ * either asks each repository for its count of matching instances, or lists the matching instances from each
+ * repository a page at a time so the accumulator can remove the reference copies that are counted by several
+ * repositories.  Only the unique identifiers of the listed instances are kept.
+ */
+abstract class CountInstancesExecutorBase extends CloneableRepositoryExecutorBase
+{
+    static final int listPageSize = 500;
+
+    String               instanceTypeGUID;
+    List<InstanceStatus> limitResultsByStatus;
+    Date                 asOfTime;
+    boolean              listInstances;
+    CountAccumulator     accumulator;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId calling user
+     * @param instanceTypeGUID unique identifier of type that all counted instances must be
+     * @param limitResultsByStatus status that the counted instances must be in.
+     * @param asOfTime historical query
+     * @param listInstances list the matching instances rather than asking for the count
+     * @param accumulator location for results
+     * @param methodName calling method
+     */
+    CountInstancesExecutorBase(String               userId,
+                               String               instanceTypeGUID,
+                               List<InstanceStatus> limitResultsByStatus,
+                               Date                 asOfTime,
+                               boolean              listInstances,
+                               CountAccumulator     accumulator,
+                               String               methodName)
+    {
+        super(userId, methodName, accumulator);
+
+        this.instanceTypeGUID = instanceTypeGUID;
+        this.limitResultsByStatus = limitResultsByStatus;
+        this.asOfTime = asOfTime;
+        this.listInstances = listInstances;
+        this.accumulator = accumulator;
+    }
+
+
+    /**
+     * Issue the count request to a repository.
+     *
+     * @param metadataCollection metadata collection object for the repository
+     * @return count of matching instances
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    abstract int countInstances(OMRSMetadataCollection metadataCollection) throws InvalidParameterException,
+                                                                                   TypeErrorException,
+                                                                                   RepositoryErrorException,
+                                                                                   EntityNotKnownException,
+                                                                                   ClassificationErrorException,
+                                                                                   PropertyErrorException,
+                                                                                   PagingErrorException,
+                                                                                   FunctionNotSupportedException,
+                                                                                   UserNotAuthorizedException;
+
+
+    /**
+     * Retrieve a page of the matching instances from a repository.
+     *
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element of the page
+     * @param pageSize maximum number of instances to return
+     * @return list of instances or null
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    abstract List<? extends InstanceHeader> getInstances(OMRSMetadataCollection metadataCollection,
+                                                         int                    fromElement,
+                                                         int                    pageSize) throws InvalidParameterException,
+                                                                                                 TypeErrorException,
+                                                                                                 RepositoryErrorException,
+                                                                                                 EntityNotKnownException,
+                                                                                                 ClassificationErrorException,
+                                                                                                 PropertyErrorException,
+                                                                                                 PagingErrorException,
+                                                                                                 FunctionNotSupportedException,
+                                                                                                 UserNotAuthorizedException;
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            if (listInstances)
+            {
+                int                            fromElement = 0;
+                List<? extends InstanceHeader> instances;
+
+                try
+                {
+                    do
+                    {
+                        instances = this.getInstances(metadataCollection, fromElement, listPageSize);
+
+                        accumulator.addInstances(instances, metadataCollectionId);
+                        fromElement = fromElement + listPageSize;
+                    }
+                    while ((instances != null) && (instances.size() == listPageSize));
+                }
+                catch (Throwable error)
+                {
+                    /*
+                     * The unique instances can not be counted without the full list from this repository.
+                     */
+                    accumulator.captureListingFailure(metadataCollectionId, error);
+                    throw error;
+                }
+            }
+            else
+            {
+                accumulator.addCount(this.countInstances(metadataCollection), metadataCollectionId);
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (TypeErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PagingErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(metadataCollectionId, error);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return any of the exceptions that are common to the count requests.  This is only called if none of
+     * the repositories returned a count.
+     *
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    void handleCommonCountRequestExceptions() throws InvalidParameterException,
+                                                     TypeErrorException,
+                                                     RepositoryErrorException,
+                                                     PropertyErrorException,
+                                                     PagingErrorException,
+                                                     FunctionNotSupportedException,
+                                                     UserNotAuthorizedException
+    {
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedThrowableException(methodName);
+        accumulator.throwCapturedPropertyErrorException();
+        accumulator.throwCapturedInvalidParameterException();
+        accumulator.throwCapturedFunctionNotSupportedException();
+        accumulator.throwCapturedTypeErrorException();
+        accumulator.throwCapturedPagingErrorException();
+    }
+}
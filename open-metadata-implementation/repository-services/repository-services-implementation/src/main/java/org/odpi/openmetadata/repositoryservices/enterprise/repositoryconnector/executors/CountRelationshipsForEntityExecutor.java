@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.CountAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * CountRelationshipsForEntityExecutor is the executor for the countRelationshipsForEntity request.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ */
+public class CountRelationshipsForEntityExecutor extends CountInstancesExecutorBase
+{
+    private String entityGUID;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are counted.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means count the
+     *                 present values.
+     * @param listInstances list the matching relationships rather than asking for the count
+     * @param accumulator captures results and exceptions
+     * @param methodName calling method
+     */
+    public CountRelationshipsForEntityExecutor(String               userId,
+                                               String               entityGUID,
+                                               String               relationshipTypeGUID,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               Date                 asOfTime,
+                                               boolean              listInstances,
+                                               CountAccumulator     accumulator,
+                                               String               methodName)
+    {
+        super(userId, relationshipTypeGUID, limitResultsByStatus, asOfTime, listInstances, accumulator, methodName);
+
+        this.entityGUID = entityGUID;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instance.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new CountRelationshipsForEntityExecutor(userId,
+                                                       entityGUID,
+                                                       instanceTypeGUID,
+                                                       limitResultsByStatus,
+                                                       asOfTime,
+                                                       listInstances,
+                                                       accumulator,
+                                                       methodName);
+    }
+
+
+    /**
+     * Issue the count request to a repository.
+     *
+     * @param metadataCollection metadata collection object for the repository
+     * @return count of matching relationships
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    int countInstances(OMRSMetadataCollection metadataCollection) throws InvalidParameterException,
+                                                                          TypeErrorException,
+                                                                          RepositoryErrorException,
+                                                                          EntityNotKnownException,
+                                                                          PropertyErrorException,
+                                                                          PagingErrorException,
+                                                                          FunctionNotSupportedException,
+                                                                          UserNotAuthorizedException
+    {
+        return metadataCollection.countRelationshipsForEntity(userId,
+                                                              entityGUID,
+                                                              instanceTypeGUID,
+                                                              limitResultsByStatus,
+                                                              asOfTime);
+    }
+
+
+    /**
+     * Retrieve a page of the matching relationships from a repository.
+     *
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element of the page
+     * @param pageSize maximum number of relationships to return
+     * @return list of relationships or null
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    List<Relationship> getInstances(OMRSMetadataCollection metadataCollection,
+                                    int                    fromElement,
+                                    int                    pageSize) throws InvalidParameterException,
+                                                                            TypeErrorException,
+                                                                            RepositoryErrorException,
+                                                                            EntityNotKnownException,
+                                                                            PropertyErrorException,
+                                                                            PagingErrorException,
+                                                                            FunctionNotSupportedException,
+                                                                            UserNotAuthorizedException
+    {
+        return metadataCollection.getRelationshipsForEntity(userId,
+                                                            entityGUID,
+                                                            instanceTypeGUID,
+                                                            fromElement,
+                                                            limitResultsByStatus,
+                                                            asOfTime,
+                                                            null,
+                                                            null,
+                                                            pageSize);
+    }
+
+
+    /**
+     * Return the results of the combined requests.
+     *
+     * @return count of the unique relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public int getResults() throws InvalidParameterException,
+                                   TypeErrorException,
+                                   RepositoryErrorException,
+                                   EntityNotKnownException,
+                                   PropertyErrorException,
+                                   PagingErrorException,
+                                   FunctionNotSupportedException,
+                                   UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            return accumulator.getCount(methodName);
+        }
+
+        handleCommonCountRequestExceptions();
+
+        accumulator.throwCapturedEntityNotKnownException();
+
+        return 0;
+    }
+}
@@ -238,7 +238,7 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return super.isPageFilled();
     }
 
 
@@ -231,7 +231,7 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return super.isPageFilled();
     }
 
 
@@ -224,7 +224,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableRepositoryExecu
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return super.isPageFilled();
     }
 
 
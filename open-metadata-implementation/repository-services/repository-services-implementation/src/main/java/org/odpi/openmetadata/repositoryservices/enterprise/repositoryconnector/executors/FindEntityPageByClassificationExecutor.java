@@ -0,0 +1,360 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FindEntityPageByClassificationExecutor is the executor for the findEntityPageByClassification request.
+ * Each repository is asked for its next page of results from its own page token and the page returned to the
+ * caller is selected from the combined results.  The page token returned to the caller holds the new page token
+ * of each repository.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ */
+public class FindEntityPageByClassificationExecutor extends PageableRepositoryExecutorBase
+{
+    private String             classificationName;
+    private InstanceProperties matchClassificationProperties;
+    private MatchCriteria      matchCriteria;
+
+    private EntityAccumulator  accumulator;
+    private MemberPageTokens   memberPageTokens;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (contains wildcards).
+     * @param matchCriteria Enum defining how the match properties should be matched to the classifications in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
+     * @param auditLog logging destination
+     * @param repositoryValidator validator for resulting entities
+     * @param methodName calling method
+     * @throws PagingErrorException the page token is not valid.
+     */
+    public FindEntityPageByClassificationExecutor(String                    userId,
+                                                  String                    entityTypeGUID,
+                                                  String                    classificationName,
+                                                  InstanceProperties        matchClassificationProperties,
+                                                  MatchCriteria             matchCriteria,
+                                                  String                    pageToken,
+                                                  List<InstanceStatus>      limitResultsByStatus,
+                                                  Date                      asOfTime,
+                                                  String                    sequencingProperty,
+                                                  SequencingOrder           sequencingOrder,
+                                                  int                       pageSize,
+                                                  String                    localMetadataCollectionId,
+                                                  OMRSAuditLog              auditLog,
+                                                  OMRSRepositoryValidator   repositoryValidator,
+                                                  String                    methodName) throws PagingErrorException
+    {
+        this(userId,
+             entityTypeGUID,
+             classificationName,
+             matchClassificationProperties,
+             matchCriteria,
+             limitResultsByStatus,
+             asOfTime,
+             sequencingProperty,
+             sequencingOrder,
+             pageSize,
+             new EntityAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new MemberPageTokens(pageToken, methodName),
+             methodName);
+    }
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (contains wildcards).
+     * @param matchCriteria Enum defining how the match properties should be matched to the classifications in the repository.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param accumulator location for results and returned exceptions
+     * @param memberPageTokens page tokens for each repository
+     * @param methodName calling method
+     */
+    private FindEntityPageByClassificationExecutor(String                    userId,
+                                                   String                    entityTypeGUID,
+                                                   String                    classificationName,
+                                                   InstanceProperties        matchClassificationProperties,
+                                                   MatchCriteria             matchCriteria,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   Date                      asOfTime,
+                                                   String                    sequencingProperty,
+                                                   SequencingOrder           sequencingOrder,
+                                                   int                       pageSize,
+                                                   EntityAccumulator         accumulator,
+                                                   MemberPageTokens          memberPageTokens,
+                                                   String                    methodName)
+    {
+        super(userId,
+              entityTypeGUID,
+              0,
+              limitResultsByStatus,
+              sequencingProperty,
+              sequencingOrder,
+              pageSize,
+              asOfTime,
+              accumulator,
+              methodName);
+
+        this.classificationName = classificationName;
+        this.matchClassificationProperties = matchClassificationProperties;
+        this.matchCriteria = matchCriteria;
+        this.accumulator = accumulator;
+        this.memberPageTokens = memberPageTokens;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instance.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new FindEntityPageByClassificationExecutor(userId,
+                                                          instanceTypeGUID,
+                                                          classificationName,
+                                                          matchClassificationProperties,
+                                                          matchCriteria,
+                                                          limitResultsByStatus,
+                                                          asOfTime,
+                                                          sequencingProperty,
+                                                          sequencingOrder,
+                                                          pageSize,
+                                                          accumulator,
+                                                          memberPageTokens,
+                                                          methodName);
+    }
+
+
+    /**
+     * Stop this executor and its clones recording results.  The members that have not responded keep
+     * their page tokens so that they are called again for the next page.
+     */
+    public void close()
+    {
+        super.close();
+        memberPageTokens.close();
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.  Repositories that have already returned
+     * all of their results are skipped.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        if (memberPageTokens.isComplete(metadataCollectionId))
+        {
+            return false;
+        }
+
+        boolean requestFailed = true;
+
+        try
+        {
+            /*
+             * Issue the request
+             */
+            InstancePage results = metadataCollection.findEntityPageByClassification(userId,
+                                                                                     instanceTypeGUID,
+                                                                                     classificationName,
+                                                                                     matchClassificationProperties,
+                                                                                     matchCriteria,
+                                                                                     memberPageTokens.getPageToken(metadataCollectionId),
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+
+            List<EntityDetail> entities    = null;
+            List<String>       entityGUIDs = new ArrayList<>();
+            boolean            morePages   = false;
+
+            if (results != null)
+            {
+                entities = results.getEntities();
+                morePages = (results.getNextPageToken() != null);
+
+                if (entities != null)
+                {
+                    for (EntityDetail entity : entities)
+                    {
+                        if (entity != null)
+                        {
+                            entityGUIDs.add(entity.getGUID());
+                        }
+                    }
+                }
+            }
+
+            memberPageTokens.addMemberResults(metadataCollectionId, entityGUIDs, morePages);
+            accumulator.addEntities(entities, metadataCollectionId);
+            requestFailed = false;
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (TypeErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PagingErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(metadataCollectionId, error);
+        }
+
+        if (requestFailed)
+        {
+            memberPageTokens.addMemberFailure(metadataCollectionId);
+        }
+
+        /*
+         * Any repository could supply instances that sort ahead of those already received so always wait for
+         * all of them.
+         */
+        return false;
+    }
+
+
+    /**
+     * Return the results or exception.
+     *
+     * @param repositoryConnector enterprise connector
+     * @param repositoryHelper helper used to select the page from the combined results
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstancePage getResults(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                   OMRSRepositoryHelper              repositoryHelper) throws InvalidParameterException,
+                                                                                              RepositoryErrorException,
+                                                                                              TypeErrorException,
+                                                                                              PropertyErrorException,
+                                                                                              PagingErrorException,
+                                                                                              FunctionNotSupportedException,
+                                                                                              UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            InstancePage page = repositoryHelper.formatEntityPage(accumulator.getResults(repositoryConnector),
+                                                                  null,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize);
+
+            Map<String, String> entityPageTokens = new LinkedHashMap<>();
+            List<EntityDetail>  entities         = page.getEntities();
+
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    entityPageTokens.put(entity.getGUID(),
+                                         repositoryHelper.getPageToken(entity.getGUID(),
+                                                                       entity.getProperties(),
+                                                                       sequencingProperty));
+                }
+            }
+
+            page.setNextPageToken(memberPageTokens.getNextPageToken(entityPageTokens));
+
+            return page;
+        }
+
+        handleCommonPagingRequestExceptions();
+
+        return new InstancePage();
+    }
+}
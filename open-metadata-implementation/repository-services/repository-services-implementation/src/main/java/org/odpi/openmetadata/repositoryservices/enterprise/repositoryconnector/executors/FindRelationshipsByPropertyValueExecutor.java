@@ -218,7 +218,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return super.isPageFilled();
     }
 
 
@@ -100,7 +100,10 @@ public class GetAllTypesExecutor extends CloneableRepositoryExecutorBase
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        /*
+         * The types from every repository are needed to build the combined gallery.
+         */
+        return false;
     }
 
 
@@ -0,0 +1,183 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * GetEntitiesExecutor is the executor for the getEntitiesByGUIDs request.  Each repository is asked for the
+ * complete list of entities and the accumulator keeps the latest version of each entity returned.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ */
+public class GetEntitiesExecutor extends CloneableRepositoryExecutorBase
+{
+    private List<String>      guids;
+    private EntityAccumulator accumulator;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
+     * @param auditLog logging destination
+     * @param repositoryValidator validator for resulting entities
+     * @param methodName calling method
+     */
+    public GetEntitiesExecutor(String                  userId,
+                               List<String>            guids,
+                               String                  localMetadataCollectionId,
+                               OMRSAuditLog            auditLog,
+                               OMRSRepositoryValidator repositoryValidator,
+                               String                  methodName)
+    {
+        this(userId,
+             guids,
+             new EntityAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             methodName);
+    }
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @param accumulator captures results and exceptions
+     * @param methodName calling method
+     */
+    private GetEntitiesExecutor(String            userId,
+                                List<String>      guids,
+                                EntityAccumulator accumulator,
+                                String            methodName)
+    {
+        super(userId, methodName, accumulator);
+
+        this.guids = guids;
+        this.accumulator = accumulator;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instance.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new GetEntitiesExecutor(userId, guids, accumulator, methodName);
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            /*
+             * Issue the request
+             */
+            List<EntityDetail> results = metadataCollection.getEntitiesByGUIDs(userId, guids);
+
+            accumulator.addEntities(results, metadataCollectionId);
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(metadataCollectionId, error);
+        }
+
+        /*
+         * Another repository may hold a later version of one of the entities so always wait for all of them.
+         */
+        return false;
+    }
+
+
+    /**
+     * Return the results of the combined requests in the order of the requested guids.
+     *
+     * @param repositoryConnector enterprise connector
+     * @return list of entities.  Null means none of the entities are known.
+     * @throws InvalidParameterException the guid list or one of its guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getResults(EnterpriseOMRSRepositoryConnector repositoryConnector) throws InvalidParameterException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            List<EntityDetail> results = accumulator.getResults(repositoryConnector);
+
+            if (results == null)
+            {
+                return null;
+            }
+
+            Map<String, EntityDetail> resultsByGUID = new HashMap<>();
+
+            for (EntityDetail entity : results)
+            {
+                resultsByGUID.put(entity.getGUID(), entity);
+            }
+
+            List<EntityDetail> orderedResults = new ArrayList<>();
+
+            for (String guid : guids)
+            {
+                EntityDetail entity = resultsByGUID.remove(guid);
+
+                if (entity != null)
+                {
+                    orderedResults.add(entity);
+                }
+            }
+
+            return orderedResults;
+        }
+
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedInvalidParameterException();
+
+        return null;
+    }
+}
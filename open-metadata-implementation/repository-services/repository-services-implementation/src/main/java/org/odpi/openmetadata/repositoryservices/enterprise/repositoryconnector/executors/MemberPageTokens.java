@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * MemberPageTokens manages the page tokens of the individual members of the cohort(s) for the enterprise
+ * find requests that page with page tokens.  The enterprise page token holds a page token for each member
+ * that records the last instance from that member that was returned to the caller, along with the list of
+ * members that have no more results.  Members that are not mentioned start from their first result.
+ *
+ * It is shared by the clones of an executor so it must be thread-safe.
+ */
+class MemberPageTokens
+{
+    private static final String MEMBER_SEPARATOR = "\n";
+    private static final String TOKEN_SEPARATOR  = "\t";
+
+    private Map<String, String>      memberPageTokens  = new HashMap<>();
+    private Set<String>              completedMembers  = new HashSet<>();
+    private Map<String, Set<String>> memberResultGUIDs = new HashMap<>();
+    private Set<String>              membersWithMore   = new HashSet<>();
+    private Set<String>              failedMembers     = new HashSet<>();
+    private boolean                  closed            = false;
+
+
+    /**
+     * Decode the enterprise page token.
+     *
+     * @param pageToken token returned with the previous page - null for the first page
+     * @param methodName calling method
+     * @throws PagingErrorException the page token is not valid
+     */
+    MemberPageTokens(String pageToken,
+                     String methodName) throws PagingErrorException
+    {
+        if (pageToken != null)
+        {
+            try
+            {
+                String tokenText = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+
+                for (String memberText : tokenText.split(MEMBER_SEPARATOR))
+                {
+                    if (memberText.isEmpty())
+                    {
+                        continue;
+                    }
+
+                    String[] memberParts = memberText.split(TOKEN_SEPARATOR, 2);
+
+                    if ((memberParts.length != 2) || (memberParts[0].isEmpty()))
+                    {
+                        throw new IllegalArgumentException(memberText);
+                    }
+
+                    if (memberParts[1].isEmpty())
+                    {
+                        completedMembers.add(memberParts[0]);
+                    }
+                    else
+                    {
+                        memberPageTokens.put(memberParts[0], memberParts[1]);
+                    }
+                }
+            }
+            catch (IllegalArgumentException error)
+            {
+                OMRSErrorCode errorCode = OMRSErrorCode.INVALID_PAGE_TOKEN;
+                String errorMessage = errorCode.getErrorMessageId()
+                                    + errorCode.getFormattedErrorMessage(pageToken, methodName);
+
+                throw new PagingErrorException(errorCode.getHTTPErrorCode(),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               errorMessage,
+                                               errorCode.getSystemAction(),
+                                               errorCode.getUserAction());
+            }
+        }
+    }
+
+
+    /**
+     * Return whether a member has already returned all of its results.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @return boolean true means there is no need to call the member
+     */
+    synchronized boolean isComplete(String metadataCollectionId)
+    {
+        return completedMembers.contains(metadataCollectionId);
+    }
+
+
+    /**
+     * Return the page token to pass to a member.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @return page token - null means start from the member's first result
+     */
+    synchronized String getPageToken(String metadataCollectionId)
+    {
+        return memberPageTokens.get(metadataCollectionId);
+    }
+
+
+    /**
+     * Record the instances returned by a member.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @param resultGUIDs unique identifiers of the returned instances
+     * @param morePages whether the member has results beyond the ones returned
+     */
+    synchronized void addMemberResults(String       metadataCollectionId,
+                                       List<String> resultGUIDs,
+                                       boolean      morePages)
+    {
+        if (! closed)
+        {
+            memberResultGUIDs.put(metadataCollectionId, new HashSet<>(resultGUIDs));
+
+            if (morePages)
+            {
+                membersWithMore.add(metadataCollectionId);
+            }
+        }
+    }
+
+
+    /**
+     * Record that a member could not be called.  The member keeps its page token and the enterprise page token
+     * is not allowed to end the paging, so the member is called again on the next request rather than its remaining
+     * results being lost.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     */
+    synchronized void addMemberFailure(String metadataCollectionId)
+    {
+        if (! closed)
+        {
+            failedMembers.add(metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Record that the federation control has stopped waiting for the members that have not responded.
+     * Anything they return later is ignored.  As with a failed member, they keep their page tokens and the
+     * enterprise page token is not allowed to end the paging.
+     */
+    synchronized void close()
+    {
+        closed = true;
+    }
+
+
+    /**
+     * Work out the enterprise page token for the next page.  Each member's page token is moved on to the last
+     * instance on this page that the member returned.  A member is complete once all of its results are on this
+     * page and it has no more pages.  Members that failed keep their page token (or, if they have not returned
+     * anything yet, start from their first result) and there is always a next page while a member has failed
+     * or has not responded.
+     * If the members that failed keep failing, the request fails once they are the only members left to call.
+     *
+     * @param instancePageTokens page token of each instance on this page, in page order
+     * @return token for the next page, or null if every member is complete
+     */
+    synchronized String getNextPageToken(Map<String, String> instancePageTokens)
+    {
+        boolean moreResults = (! failedMembers.isEmpty()) || (closed);
+
+        for (String metadataCollectionId : memberResultGUIDs.keySet())
+        {
+            Set<String> resultGUIDs   = memberResultGUIDs.get(metadataCollectionId);
+            String      lastPageToken = null;
+            boolean     allReturned   = true;
+
+            for (String instanceGUID : instancePageTokens.keySet())
+            {
+                if (resultGUIDs.contains(instanceGUID))
+                {
+                    lastPageToken = instancePageTokens.get(instanceGUID);
+                }
+            }
+
+            for (String resultGUID : resultGUIDs)
+            {
+                if (! instancePageTokens.containsKey(resultGUID))
+                {
+                    allReturned = false;
+                    break;
+                }
+            }
+
+            if (allReturned && (! membersWithMore.contains(metadataCollectionId)))
+            {
+                memberPageTokens.remove(metadataCollectionId);
+                completedMembers.add(metadataCollectionId);
+            }
+            else
+            {
+                moreResults = true;
+
+                if (lastPageToken != null)
+                {
+                    memberPageTokens.put(metadataCollectionId, lastPageToken);
+                }
+            }
+        }
+
+        if (! moreResults)
+        {
+            return null;
+        }
+
+        List<String> memberTexts = new ArrayList<>();
+
+        for (String metadataCollectionId : memberPageTokens.keySet())
+        {
+            memberTexts.add(metadataCollectionId + TOKEN_SEPARATOR + memberPageTokens.get(metadataCollectionId));
+        }
+
+        for (String metadataCollectionId : completedMembers)
+        {
+            memberTexts.add(metadataCollectionId + TOKEN_SEPARATOR);
+        }
+
+        String tokenText = String.join(MEMBER_SEPARATOR, memberTexts);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenText.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -68,6 +68,24 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
     }
 
 
+    /**
+     * Return whether the accumulator already holds enough instances to fill the requested page.
+     * This is only the case if the results are not sequenced, since otherwise a repository that has
+     * not yet responded could supply instances that sort ahead of those already received.
+     *
+     * @return boolean true means the page is full
+     */
+    boolean isPageFilled()
+    {
+        if ((pageSize > 0) && ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY)))
+        {
+            return (queryInstanceAccumulator.getNumberOfResults() >= pageSize);
+        }
+
+        return false;
+    }
+
+
     /**
      * Return any of the exceptions that are common to paging requests.
      *
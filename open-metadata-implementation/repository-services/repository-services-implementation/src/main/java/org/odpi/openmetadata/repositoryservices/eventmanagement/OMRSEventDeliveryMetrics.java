@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+/**
+ * OMRSEventDeliveryMetrics describes the state of the asynchronous delivery of events to one of the
+ * consumers registered with an OMRSRepositoryEventManager.  The delivery lag is the time between the event being
+ * queued for the consumer and the consumer returning from processing it.
+ */
+public class OMRSEventDeliveryMetrics
+{
+    private String consumerName       = null;
+    private int    queueCapacity      = 0;
+    private int    queueDepth         = 0;
+    private int    maximumQueueDepth  = 0;
+    private long   eventsDelivered    = 0;
+    private long   deliveryErrors     = 0;
+    private long   lastDeliveryLag    = 0;
+    private long   averageDeliveryLag = 0;
+    private long   maximumDeliveryLag = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSEventDeliveryMetrics()
+    {
+    }
+
+
+    /**
+     * Return the name of the event consumer.
+     *
+     * @return String name
+     */
+    public String getConsumerName()
+    {
+        return consumerName;
+    }
+
+
+    /**
+     * Set up the name of the event consumer.
+     *
+     * @param consumerName String name
+     */
+    public void setConsumerName(String consumerName)
+    {
+        this.consumerName = consumerName;
+    }
+
+
+    /**
+     * Return the number of events that can be waiting for the consumer on each delivery thread.
+     *
+     * @return int
+     */
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Set up the number of events that can be waiting for the consumer on each delivery thread.
+     *
+     * @param queueCapacity int
+     */
+    public void setQueueCapacity(int queueCapacity)
+    {
+        this.queueCapacity = queueCapacity;
+    }
+
+
+    /**
+     * Return the number of events waiting to be delivered to the consumer.
+     *
+     * @return int
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Set up the number of events waiting to be delivered to the consumer.
+     *
+     * @param queueDepth int
+     */
+    public void setQueueDepth(int queueDepth)
+    {
+        this.queueDepth = queueDepth;
+    }
+
+
+    /**
+     * Return the largest number of events that have been waiting to be delivered to the consumer.
+     *
+     * @return int
+     */
+    public int getMaximumQueueDepth()
+    {
+        return maximumQueueDepth;
+    }
+
+
+    /**
+     * Set up the largest number of events that have been waiting to be delivered to the consumer.
+     *
+     * @param maximumQueueDepth int
+     */
+    public void setMaximumQueueDepth(int maximumQueueDepth)
+    {
+        this.maximumQueueDepth = maximumQueueDepth;
+    }
+
+
+    /**
+     * Return the number of events delivered to the consumer.
+     *
+     * @return long
+     */
+    public long getEventsDelivered()
+    {
+        return eventsDelivered;
+    }
+
+
+    /**
+     * Set up the number of events delivered to the consumer.
+     *
+     * @param eventsDelivered long
+     */
+    public void setEventsDelivered(long eventsDelivered)
+    {
+        this.eventsDelivered = eventsDelivered;
+    }
+
+
+    /**
+     * Return the number of events that the consumer failed to process with an exception.
+     *
+     * @return long
+     */
+    public long getDeliveryErrors()
+    {
+        return deliveryErrors;
+    }
+
+
+    /**
+     * Set up the number of events that the consumer failed to process with an exception.
+     *
+     * @param deliveryErrors long
+     */
+    public void setDeliveryErrors(long deliveryErrors)
+    {
+        this.deliveryErrors = deliveryErrors;
+    }
+
+
+    /**
+     * Return the delivery lag of the most recently delivered event in milliseconds.
+     *
+     * @return long
+     */
+    public long getLastDeliveryLag()
+    {
+        return lastDeliveryLag;
+    }
+
+
+    /**
+     * Set up the delivery lag of the most recently delivered event in milliseconds.
+     *
+     * @param lastDeliveryLag long
+     */
+    public void setLastDeliveryLag(long lastDeliveryLag)
+    {
+        this.lastDeliveryLag = lastDeliveryLag;
+    }
+
+
+    /**
+     * Return the average delivery lag in milliseconds.
+     *
+     * @return long
+     */
+    public long getAverageDeliveryLag()
+    {
+        return averageDeliveryLag;
+    }
+
+
+    /**
+     * Set up the average delivery lag in milliseconds.
+     *
+     * @param averageDeliveryLag long
+     */
+    public void setAverageDeliveryLag(long averageDeliveryLag)
+    {
+        this.averageDeliveryLag = averageDeliveryLag;
+    }
+
+
+    /**
+     * Return the largest delivery lag in milliseconds.
+     *
+     * @return long
+     */
+    public long getMaximumDeliveryLag()
+    {
+        return maximumDeliveryLag;
+    }
+
+
+    /**
+     * Set up the largest delivery lag in milliseconds.
+     *
+     * @param maximumDeliveryLag long
+     */
+    public void setMaximumDeliveryLag(long maximumDeliveryLag)
+    {
+        this.maximumDeliveryLag = maximumDeliveryLag;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventDeliveryMetrics{" +
+                "consumerName='" + consumerName + '\'' +
+                ", queueCapacity=" + queueCapacity +
+                ", queueDepth=" + queueDepth +
+                ", maximumQueueDepth=" + maximumQueueDepth +
+                ", eventsDelivered=" + eventsDelivered +
+                ", deliveryErrors=" + deliveryErrors +
+                ", lastDeliveryLag=" + lastDeliveryLag +
+                ", averageDeliveryLag=" + averageDeliveryLag +
+                ", maximumDeliveryLag=" + maximumDeliveryLag +
+                '}';
+    }
+}
@@ -0,0 +1,536 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSEventDeliveryQueue delivers events to one of the consumers registered with an OMRSRepositoryEventManager
+ * on the consumer's own delivery threads.  Each delivery thread has a bounded queue (called a lane).  When a lane
+ * is full, the thread producing the event waits for space.
+ * <p>
+ * An instance event is always placed in the lane selected from its instance GUID so the events for an instance are
+ * delivered in the order they were produced.  Events that are not about a single instance (TypeDef events,
+ * batch events and re-identify events) are delivered once every lane has delivered the events queued before them,
+ * and the lanes do not deliver later events until they have been processed.
+ * <p>
+ * A consumer may produce new events while it is processing an event (for example a repository that saves a
+ * reference copy).  These events are queued on the delivery thread of the consumer, which may be the only thread
+ * that can make space in the lane.  So a delivery thread never waits for space: its events are added to the end
+ * of the lane even when the lane is full, and are delivered in order after the events already queued.
+ */
+class OMRSEventDeliveryQueue
+{
+    private static final int  maxEventsPerPoll = 100;
+    private static final long pollInterval     = 1000;
+
+    private final String                              sourceName;
+    private final String                              consumerName;
+    private final OMRSTypeDefEventProcessorInterface  typeDefConsumer;
+    private final OMRSInstanceEventProcessorInterface instanceConsumer;
+    private final OMRSAuditLog                        auditLog;
+    private final int                                 laneCapacity;
+    private final List<Lane>                          lanes        = new ArrayList<>();
+    private final List<Thread>                        laneThreads  = new ArrayList<>();
+    private final Object                              barrierLock  = new Object();
+
+    private final AtomicInteger                       queueDepth         = new AtomicInteger(0);
+    private final AtomicInteger                       maximumQueueDepth  = new AtomicInteger(0);
+    private final AtomicLong                          eventsDelivered    = new AtomicLong(0);
+    private final AtomicLong                          deliveryErrors     = new AtomicLong(0);
+    private final AtomicLong                          totalDeliveryLag   = new AtomicLong(0);
+    private final AtomicLong                          maximumDeliveryLag = new AtomicLong(0);
+    private volatile long                             lastDeliveryLag    = 0;
+
+    private volatile boolean                          running      = false;
+
+    /*
+     * Set on the delivery threads of every queue so an event produced by a consumer is not left waiting
+     * for space in a lane that can only be emptied by the thread producing it.
+     */
+    private static final ThreadLocal<Boolean>         onDeliveryThread = ThreadLocal.withInitial(() -> false);
+
+    private static final Logger log = LoggerFactory.getLogger(OMRSEventDeliveryQueue.class);
+
+
+    /**
+     * An event waiting for delivery.  The barrier is set for the events that are not about a single instance.
+     * The event is placed on lane 0 and a marker that shares the barrier is placed on each of the other lanes.
+     */
+    private static class DeliveryItem
+    {
+        private final OMRSTypeDefEvent  typeDefEvent;
+        private final OMRSInstanceEvent instanceEvent;
+        private final String            messageId;
+        private final DelegatableFuture future;
+        private final long              queueTime = System.currentTimeMillis();
+        private final Barrier           barrier;
+        private final boolean           isMarker;
+
+        DeliveryItem(OMRSTypeDefEvent  typeDefEvent,
+                     OMRSInstanceEvent instanceEvent,
+                     String            messageId,
+                     DelegatableFuture future,
+                     Barrier           barrier,
+                     boolean           isMarker)
+        {
+            this.typeDefEvent = typeDefEvent;
+            this.instanceEvent = instanceEvent;
+            this.messageId = messageId;
+            this.future = future;
+            this.barrier = barrier;
+            this.isMarker = isMarker;
+        }
+    }
+
+
+    /**
+     * Coordinates the lanes around an event that is not about a single instance.  The lane delivering the event
+     * waits for the other lanes to arrive at their markers, and they wait for the event to be delivered.
+     */
+    private static class Barrier
+    {
+        private final CountDownLatch arrived;
+        private final CountDownLatch delivered = new CountDownLatch(1);
+
+        Barrier(int otherLanes)
+        {
+            arrived = new CountDownLatch(otherLanes);
+        }
+    }
+
+
+    /**
+     * The events waiting for a delivery thread.  A producer that is not a delivery thread waits while the lane
+     * is full.  A delivery thread adds its events to the end of the lane whatever its size.
+     */
+    private class Lane
+    {
+        private final Deque<DeliveryItem> items = new ArrayDeque<>();
+
+
+        /**
+         * Add an event to the end of the lane.
+         *
+         * @param item event to deliver
+         * @param waitForSpace wait while the lane is full
+         * @throws InterruptedException interrupted while waiting for space
+         */
+        synchronized void add(DeliveryItem item,
+                              boolean      waitForSpace) throws InterruptedException
+        {
+            if (waitForSpace)
+            {
+                waitForSpace();
+            }
+
+            items.add(item);
+            notifyAll();
+        }
+
+
+        /**
+         * Wait while the lane is full.
+         *
+         * @throws InterruptedException interrupted while waiting for space
+         */
+        synchronized void waitForSpace() throws InterruptedException
+        {
+            while (items.size() >= laneCapacity)
+            {
+                wait();
+            }
+        }
+
+
+        /**
+         * Move the waiting events to the list, waiting for the poll interval if there are none.
+         *
+         * @param batch list to add the events to
+         * @throws InterruptedException interrupted while waiting for events
+         */
+        synchronized void take(List<DeliveryItem> batch) throws InterruptedException
+        {
+            if (items.isEmpty())
+            {
+                wait(pollInterval);
+            }
+
+            while ((! items.isEmpty()) && (batch.size() < maxEventsPerPoll))
+            {
+                batch.add(items.poll());
+            }
+
+            notifyAll();
+        }
+    }
+
+
+    /**
+     * Constructor sets up the lanes.  The delivery threads are started by start().
+     *
+     * @param sourceName name of the event manager passed to the consumer
+     * @param consumerName name of the consumer for messages and metrics
+     * @param typeDefConsumer consumer of TypeDef events (or null)
+     * @param instanceConsumer consumer of instance events (or null)
+     * @param laneCapacity number of events that can wait on each lane
+     * @param laneCount number of delivery threads
+     * @param auditLog audit log for delivery errors
+     */
+    OMRSEventDeliveryQueue(String                              sourceName,
+                           String                              consumerName,
+                           OMRSTypeDefEventProcessorInterface  typeDefConsumer,
+                           OMRSInstanceEventProcessorInterface instanceConsumer,
+                           int                                 laneCapacity,
+                           int                                 laneCount,
+                           OMRSAuditLog                        auditLog)
+    {
+        this.sourceName = sourceName;
+        this.consumerName = consumerName;
+        this.typeDefConsumer = typeDefConsumer;
+        this.instanceConsumer = instanceConsumer;
+        this.laneCapacity = laneCapacity;
+        this.auditLog = auditLog;
+
+        for (int lane = 0; lane < Math.max(laneCount, 1); lane++)
+        {
+            lanes.add(new Lane());
+        }
+    }
+
+
+    /**
+     * Start the delivery threads.
+     */
+    synchronized void start()
+    {
+        if (! running)
+        {
+            running = true;
+
+            for (int lane = 0; lane < lanes.size(); lane++)
+            {
+                final Lane laneQueue = lanes.get(lane);
+
+                Thread laneThread = new Thread(() -> deliverEvents(laneQueue),
+                                               sourceName + " delivery to " + consumerName + " (" + lane + ")");
+                laneThread.setDaemon(true);
+                laneThread.start();
+                laneThreads.add(laneThread);
+            }
+        }
+    }
+
+
+    /**
+     * Stop the delivery threads once the events already queued, and any events the consumer queues while
+     * processing them, have been delivered.
+     *
+     * @param maxWait maximum time to wait for each thread in milliseconds
+     */
+    synchronized void stop(long maxWait)
+    {
+        running = false;
+
+        for (Thread laneThread : laneThreads)
+        {
+            try
+            {
+                laneThread.join(maxWait);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        laneThreads.clear();
+    }
+
+
+    /**
+     * Queue a TypeDef event for delivery.
+     *
+     * @param event event to deliver
+     * @param messageId id of the inbound message that produced the event (or null)
+     * @param future future that is completed when the consumer has processed the event
+     * @throws InterruptedException interrupted while waiting for space in a lane
+     */
+    void queueTypeDefEvent(OMRSTypeDefEvent  event,
+                           String            messageId,
+                           DelegatableFuture future) throws InterruptedException
+    {
+        queueAcrossLanes(event, null, messageId, future);
+    }
+
+
+    /**
+     * Queue an instance event for delivery.
+     *
+     * @param event event to deliver
+     * @param messageId id of the inbound message that produced the event (or null)
+     * @param future future that is completed when the consumer has processed the event
+     * @throws InterruptedException interrupted while waiting for space in a lane
+     */
+    void queueInstanceEvent(OMRSInstanceEvent event,
+                            String            messageId,
+                            DelegatableFuture future) throws InterruptedException
+    {
+        String instanceGUID = event.getInstanceGUID();
+
+        if ((lanes.size() == 1) ||
+            ((instanceGUID != null) &&
+             (event.getInstanceEventType() != OMRSInstanceEventType.BATCH_INSTANCES_EVENT) &&
+             (event.getInstanceEventType() != OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT) &&
+             (event.getInstanceEventType() != OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT)))
+        {
+            int lane = (instanceGUID == null) ? 0 : Math.floorMod(instanceGUID.hashCode(), lanes.size());
+
+            queueItem(lanes.get(lane), new DeliveryItem(null, event, messageId, future, null, false));
+        }
+        else
+        {
+            queueAcrossLanes(null, event, messageId, future);
+        }
+    }
+
+
+    /**
+     * Queue an event that must be delivered after all of the events already queued, and before any
+     * later events.  The lock ensures all lanes see the barriers in the same order.  The events are added to
+     * the lanes without waiting while the lock is held, so a delivery thread that queues an event is never
+     * blocked by a producer waiting for space.
+     *
+     * @param typeDefEvent TypeDef event or null
+     * @param instanceEvent instance event or null
+     * @param messageId id of the inbound message that produced the event (or null)
+     * @param future future that is completed when the consumer has processed the event
+     * @throws InterruptedException interrupted while waiting for space in a lane
+     */
+    private void queueAcrossLanes(OMRSTypeDefEvent  typeDefEvent,
+                                  OMRSInstanceEvent instanceEvent,
+                                  String            messageId,
+                                  DelegatableFuture future) throws InterruptedException
+    {
+        if (lanes.size() == 1)
+        {
+            queueItem(lanes.get(0), new DeliveryItem(typeDefEvent, instanceEvent, messageId, future, null, false));
+            return;
+        }
+
+        if (! onDeliveryThread.get())
+        {
+            lanes.get(0).waitForSpace();
+        }
+
+        synchronized (barrierLock)
+        {
+            Barrier barrier = new Barrier(lanes.size() - 1);
+
+            maximumQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+            lanes.get(0).add(new DeliveryItem(typeDefEvent, instanceEvent, messageId, future, barrier, false), false);
+
+            for (int lane = 1; lane < lanes.size(); lane++)
+            {
+                lanes.get(lane).add(new DeliveryItem(null, null, null, null, barrier, true), false);
+            }
+        }
+    }
+
+
+    /**
+     * Add an event to a lane and update the queue depth.  Only the producers that are not delivery threads
+     * wait for space in the lane.  The queue depth is updated first so it is never zero while an event that
+     * is being delivered queues new events.
+     *
+     * @param lane lane to use
+     * @param item event to deliver
+     * @throws InterruptedException interrupted while waiting for space in the lane
+     */
+    private void queueItem(Lane         lane,
+                           DeliveryItem item) throws InterruptedException
+    {
+        maximumQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+
+        try
+        {
+            lane.add(item, ! onDeliveryThread.get());
+        }
+        catch (InterruptedException error)
+        {
+            queueDepth.decrementAndGet();
+            throw error;
+        }
+    }
+
+
+    /**
+     * The body of a delivery thread.  It takes the waiting events from its lane and delivers them in order.
+     * Once the queue is stopped, the thread keeps running while any lane has events to deliver, because
+     * they may queue events across all of the lanes.
+     *
+     * @param lane queue of events for this thread
+     */
+    private void deliverEvents(Lane lane)
+    {
+        List<DeliveryItem> items = new ArrayList<>();
+
+        onDeliveryThread.set(true);
+
+        while (running || (queueDepth.get() > 0))
+        {
+            try
+            {
+                lane.take(items);
+
+                for (DeliveryItem item : items)
+                {
+                    if (item.isMarker)
+                    {
+                        item.barrier.arrived.countDown();
+                        item.barrier.delivered.await();
+                    }
+                    else if (item.barrier != null)
+                    {
+                        item.barrier.arrived.await();
+                        deliver(item);
+                        item.barrier.delivered.countDown();
+                    }
+                    else
+                    {
+                        deliver(item);
+                    }
+                }
+
+                items.clear();
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Event delivery to " + consumerName + " interrupted");
+                break;
+            }
+        }
+    }
+
+
+    /**
+     * Deliver a single event to the consumer and complete its delivery.
+     *
+     * @param item event to deliver
+     */
+    private void deliver(DeliveryItem item)
+    {
+        InternalOMRSEventProcessingContext.clear();
+        InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(item.messageId);
+
+        try
+        {
+            if (item.typeDefEvent != null)
+            {
+                typeDefConsumer.sendTypeDefEvent(sourceName, item.typeDefEvent);
+            }
+            else
+            {
+                instanceConsumer.sendInstanceEvent(sourceName, item.instanceEvent);
+            }
+        }
+        catch (Throwable error)
+        {
+            logDeliveryError(error);
+        }
+
+        completeDelivery(item);
+    }
+
+
+    /**
+     * Update the metrics and the event's future once the consumer has processed an event.  The future then
+     * tracks any asynchronous processing the consumer started for the event.
+     *
+     * @param item delivered event
+     */
+    private void completeDelivery(DeliveryItem item)
+    {
+        long deliveryLag = System.currentTimeMillis() - item.queueTime;
+
+        lastDeliveryLag = deliveryLag;
+        totalDeliveryLag.addAndGet(deliveryLag);
+        maximumDeliveryLag.accumulateAndGet(deliveryLag, Math::max);
+        eventsDelivered.incrementAndGet();
+        queueDepth.decrementAndGet();
+
+        if (item.future != null)
+        {
+            item.future.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+        }
+    }
+
+
+    /**
+     * Log an exception returned by the consumer.
+     *
+     * @param error exception
+     */
+    private void logDeliveryError(Throwable error)
+    {
+        final String actionDescription = "Deliver Event";
+
+        deliveryErrors.incrementAndGet();
+
+        OMRSAuditCode auditCode = OMRSAuditCode.EVENT_DELIVERY_ERROR;
+
+        auditLog.logException(actionDescription,
+                              auditCode.getLogMessageId(),
+                              auditCode.getSeverity(),
+                              auditCode.getFormattedLogMessage(sourceName,
+                                                               error.getClass().getName(),
+                                                               consumerName,
+                                                               error.getMessage()),
+                              null,
+                              auditCode.getSystemAction(),
+                              auditCode.getUserAction(),
+                              error);
+    }
+
+
+    /**
+     * Return the current metrics for this consumer.
+     *
+     * @return metrics
+     */
+    OMRSEventDeliveryMetrics getMetrics()
+    {
+        OMRSEventDeliveryMetrics metrics   = new OMRSEventDeliveryMetrics();
+        long                     delivered = eventsDelivered.get();
+
+        metrics.setConsumerName(consumerName);
+        metrics.setQueueCapacity(laneCapacity);
+        metrics.setQueueDepth(queueDepth.get());
+        metrics.setMaximumQueueDepth(maximumQueueDepth.get());
+        metrics.setEventsDelivered(delivered);
+        metrics.setDeliveryErrors(deliveryErrors.get());
+        metrics.setLastDeliveryLag(lastDeliveryLag);
+        metrics.setAverageDeliveryLag(delivered == 0 ? 0 : totalDeliveryLag.get() / delivered);
+        metrics.setMaximumDeliveryLag(maximumDeliveryLag.get());
+
+        return metrics;
+    }
+}
@@ -3,7 +3,9 @@
 package org.odpi.openmetadata.repositoryservices.eventmanagement;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -22,6 +24,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessor;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
 import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
@@ -47,6 +50,11 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     private List<OMRSInstanceEventProcessorInterface> instanceEventConsumers = new ArrayList<>();
     private OMRSRepositoryContentValidator            repositoryValidator;   /* set in constructor */
     private OMRSRepositoryEventExchangeRule           exchangeRule;          /* set in constructor */
+    private int                                       deliveryQueueSize      = 0;
+    private int                                       deliveryThreads        = 1;
+    private Map<Object, OMRSEventDeliveryQueue>       deliveryQueues         = new IdentityHashMap<>();
+
+    private static final long                         deliveryStopWait       = 30000;
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -203,6 +211,24 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Request that events are delivered to each of the registered consumers on the consumer's own delivery
+     * threads rather than on the thread that produced the event.  This must be called before start().
+     * Each delivery thread has a bounded queue.  The events for an instance are always delivered by
+     * the same thread so they are processed in the order they were produced.
+     *
+     * @param queueSize number of events that can wait for each delivery thread.  Zero means the events are
+     *                  delivered on the thread that produced them.
+     * @param deliveryThreads number of delivery threads for each consumer
+     */
+    public void setAsynchronousDelivery(int queueSize,
+                                        int deliveryThreads)
+    {
+        this.deliveryQueueSize = queueSize;
+        this.deliveryThreads = Math.max(deliveryThreads, 1);
+    }
+
+
     /**
      * Indicate that all of the event processors are registered and it is ready to
      * process events.
@@ -224,6 +250,11 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
                            auditCode.getUserAction());
 
 
+        if (deliveryQueueSize > 0)
+        {
+            this.startDeliveryQueues();
+        }
+
         /*
          * Updating this flag will allow new events to flow directly.
          */
@@ -241,6 +272,150 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Create a delivery queue for each consumer.  A consumer that is registered for both TypeDef and
+     * instance events has a single queue so the two types of event stay in order.
+     */
+    private void startDeliveryQueues()
+    {
+        final String actionDescription = "Start OMRS Event Manager";
+
+        List<Object> consumers = new ArrayList<>(typeDefEventConsumers);
+
+        for (OMRSInstanceEventProcessorInterface instanceEventConsumer : instanceEventConsumers)
+        {
+            if (! isRegistered(consumers, instanceEventConsumer))
+            {
+                consumers.add(instanceEventConsumer);
+            }
+        }
+
+        for (Object consumer : consumers)
+        {
+            if (! deliveryQueues.containsKey(consumer))
+            {
+                OMRSTypeDefEventProcessorInterface  typeDefEventConsumer  = null;
+                OMRSInstanceEventProcessorInterface instanceEventConsumer = null;
+
+                if (isRegistered(typeDefEventConsumers, consumer))
+                {
+                    typeDefEventConsumer = (OMRSTypeDefEventProcessorInterface)consumer;
+                }
+
+                if (isRegistered(instanceEventConsumers, consumer))
+                {
+                    instanceEventConsumer = (OMRSInstanceEventProcessorInterface)consumer;
+                }
+
+                OMRSEventDeliveryQueue deliveryQueue = new OMRSEventDeliveryQueue(super.eventProcessorName,
+                                                                                  getConsumerName(consumer),
+                                                                                  typeDefEventConsumer,
+                                                                                  instanceEventConsumer,
+                                                                                  deliveryQueueSize,
+                                                                                  deliveryThreads,
+                                                                                  auditLog);
+                deliveryQueue.start();
+                deliveryQueues.put(consumer, deliveryQueue);
+            }
+        }
+
+        OMRSAuditCode auditCode = OMRSAuditCode.ASYNCHRONOUS_EVENT_DELIVERY;
+
+        auditLog.logRecord(actionDescription,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(super.eventProcessorName,
+                                                            Integer.toString(deliveryQueueSize),
+                                                            Integer.toString(deliveryThreads)),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * Return whether the consumer object is in the list.  The consumers are compared by identity.
+     *
+     * @param consumers list of consumers
+     * @param consumer consumer to look for
+     * @return boolean
+     */
+    private boolean isRegistered(List<?> consumers,
+                                 Object  consumer)
+    {
+        for (Object listedConsumer : consumers)
+        {
+            if (listedConsumer == consumer)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the name of a consumer for messages and metrics.
+     *
+     * @param consumer registered consumer
+     * @return name
+     */
+    private String getConsumerName(Object consumer)
+    {
+        if (consumer instanceof OMRSRepositoryEventProcessor)
+        {
+            return ((OMRSRepositoryEventProcessor)consumer).getEventProcessorName();
+        }
+        else if (consumer instanceof OMRSInstanceEventProcessor)
+        {
+            return ((OMRSInstanceEventProcessor)consumer).getEventProcessorName();
+        }
+        else if (consumer instanceof OMRSTypeDefEventProcessor)
+        {
+            return ((OMRSTypeDefEventProcessor)consumer).getEventProcessorName();
+        }
+
+        return consumer.getClass().getName();
+    }
+
+
+    /**
+     * Return the delivery metrics for each consumer.  The list is empty when events are delivered on the
+     * thread that produced them.
+     *
+     * @return list of metrics
+     */
+    public List<OMRSEventDeliveryMetrics> getEventDeliveryMetrics()
+    {
+        List<OMRSEventDeliveryMetrics> metrics = new ArrayList<>();
+
+        for (OMRSEventDeliveryQueue deliveryQueue : deliveryQueues.values())
+        {
+            metrics.add(deliveryQueue.getMetrics());
+        }
+
+        return metrics;
+    }
+
+
+    /**
+     * Stop delivering events.  Any events waiting on the delivery queues are delivered before the delivery
+     * threads end.
+     */
+    public void stop()
+    {
+        this.isActive = false;
+
+        for (OMRSEventDeliveryQueue deliveryQueue : deliveryQueues.values())
+        {
+            deliveryQueue.stop(deliveryStopWait);
+        }
+
+        deliveryQueues.clear();
+    }
+
+
     /**
      * Send out all of the buffered events, beginning with the TypeDef events and
      * then the instance events.  Typically the TypeDef events should cover all of the
@@ -332,7 +507,27 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         {
             for (OMRSTypeDefEventProcessorInterface consumer : typeDefEventConsumers)
             {
-                consumer.sendTypeDefEvent(super.eventProcessorName, event);
+                OMRSEventDeliveryQueue deliveryQueue = deliveryQueues.get(consumer);
+
+                if (deliveryQueue == null)
+                {
+                    consumer.sendTypeDefEvent(super.eventProcessorName, event);
+                }
+                else
+                {
+                    DelegatableFuture future = this.getDeliveryFuture();
+
+                    try
+                    {
+                        deliveryQueue.queueTypeDefEvent(event, getCurrentMessageId(), future);
+                    }
+                    catch (InterruptedException error)
+                    {
+                        Thread.currentThread().interrupt();
+                        consumer.sendTypeDefEvent(super.eventProcessorName, event);
+                        future.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+                    }
+                }
             }
         }
     }
@@ -403,13 +598,65 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     	{
             for (OMRSInstanceEventProcessorInterface consumer : instanceEventConsumers)
             {
-                consumer.sendInstanceEvent(super.eventProcessorName, event);
+                OMRSEventDeliveryQueue deliveryQueue = deliveryQueues.get(consumer);
+
+                if (deliveryQueue == null)
+                {
+                    consumer.sendInstanceEvent(super.eventProcessorName, event);
+                }
+                else
+                {
+                    DelegatableFuture future = this.getDeliveryFuture();
+
+                    try
+                    {
+                        deliveryQueue.queueInstanceEvent(event, getCurrentMessageId(), future);
+                    }
+                    catch (InterruptedException error)
+                    {
+                        Thread.currentThread().interrupt();
+                        consumer.sendInstanceEvent(super.eventProcessorName, event);
+                        future.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+                    }
+                }
             }
 
     	}
     }
 
 
+    /**
+     * Return the id of the inbound message being processed on this thread (or null if the event did not come
+     * from the event bus).
+     *
+     * @return message id
+     */
+    private String getCurrentMessageId()
+    {
+        return InternalOMRSEventProcessingContext.getInstance().getCurrentMessageId();
+    }
+
+
+    /**
+     * Create the future that tracks the delivery of an event to a consumer's delivery queue.  When the event
+     * came from the event bus, the future is added to the processing context so the inbound message is not
+     * treated as consumed until the consumer has processed the event.
+     *
+     * @return future that is completed by the delivery queue
+     */
+    private DelegatableFuture getDeliveryFuture()
+    {
+        DelegatableFuture future = new DelegatableFuture();
+
+        if (getCurrentMessageId() != null)
+        {
+            InternalOMRSEventProcessingContext.getInstance().addAsyncProcessingResult(future);
+        }
+
+        return future;
+    }
+
+
     /**
      * Send the TypeDef event to the OMRS Topic connector (providing TypeDef Events are enabled).
      *
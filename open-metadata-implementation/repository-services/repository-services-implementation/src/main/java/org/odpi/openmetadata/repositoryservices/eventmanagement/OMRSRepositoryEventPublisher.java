@@ -5,6 +5,9 @@ package org.odpi.openmetadata.repositoryservices.eventmanagement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.auditlog.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.events.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
@@ -14,6 +17,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicCo
 
 /**
  * OMRSRepositoryEventPublisher publishes TypeDef and Instance OMRS Events to the supplied OMRSTopicConnector.
+ * A publisher for the enterprise OMRS topic can be set up to expand each batch of instances into a new entity
+ * event for each entity followed by a new relationship event for each relationship.  This is because the
+ * access services listening on the enterprise topic react to the events about individual instances.
  */
 public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 {
@@ -22,6 +28,7 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     private static final Logger log = LoggerFactory.getLogger(OMRSRepositoryEventPublisher.class);
 
     private OMRSTopicConnector omrsTopicConnector;
+    private boolean            expandInstanceBatches;
 
 
     /**
@@ -35,6 +42,26 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     public OMRSRepositoryEventPublisher(String             publisherName,
                                         OMRSTopicConnector topicConnector,
                                         OMRSAuditLog       auditLog)
+    {
+        this(publisherName, topicConnector, auditLog, false);
+    }
+
+
+    /**
+     * Constructor for a publisher that may expand the batches of instances into the events for the
+     * individual instances.
+     *
+     * @param publisherName  name of the cohort (or enterprise virtual repository) that this event publisher
+     *                       is sending events to.
+     * @param topicConnector OMRS Topic to send requests on
+     * @param auditLog audit log for this component.
+     * @param expandInstanceBatches send a new instance event for each instance in a batch rather than
+     *                              a single batch event
+     */
+    public OMRSRepositoryEventPublisher(String             publisherName,
+                                        OMRSTopicConnector topicConnector,
+                                        OMRSAuditLog       auditLog,
+                                        boolean            expandInstanceBatches)
     {
         super(publisherName);
 
@@ -62,6 +89,7 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
         }
 
         this.omrsTopicConnector = topicConnector;
+        this.expandInstanceBatches = expandInstanceBatches;
 
         log.debug("New Event Publisher: " + publisherName);
     }
@@ -142,4 +170,76 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
             log.debug("Exception: ", error);
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Send a batch of instances to the OMRS Topic connector.  If the publisher expands the batches, a new entity
+     * event is sent for each entity and then a new relationship event for each relationship, so the ends of
+     * the relationships are sent before the relationships.  Otherwise a single batch event is sent.
+     *
+     * @param sourceName name of the source of the event.  It may be the cohort name for incoming events or the
+     *                   local repository, or event mapper name.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName name of the server that the event came from.
+     * @param originatorServerType type of server that the event came from.
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event.
+     * @param instances multiple entities and relationships for sharing.
+     */
+    @Override
+    public void processInstanceBatchEvent(String         sourceName,
+                                          String         originatorMetadataCollectionId,
+                                          String         originatorServerName,
+                                          String         originatorServerType,
+                                          String         originatorOrganizationName,
+                                          InstanceGraph  instances)
+    {
+        if (! expandInstanceBatches)
+        {
+            super.processInstanceBatchEvent(sourceName,
+                                            originatorMetadataCollectionId,
+                                            originatorServerName,
+                                            originatorServerType,
+                                            originatorOrganizationName,
+                                            instances);
+            return;
+        }
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if (entity != null)
+                {
+                    this.processNewEntityEvent(sourceName,
+                                               originatorMetadataCollectionId,
+                                               originatorServerName,
+                                               originatorServerType,
+                                               originatorOrganizationName,
+                                               entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if (relationship != null)
+                {
+                    this.processNewRelationshipEvent(sourceName,
+                                                     originatorMetadataCollectionId,
+                                                     originatorServerName,
+                                                     originatorServerType,
+                                                     originatorOrganizationName,
+                                                     relationship);
+                }
+            }
+        }
+    }
+}
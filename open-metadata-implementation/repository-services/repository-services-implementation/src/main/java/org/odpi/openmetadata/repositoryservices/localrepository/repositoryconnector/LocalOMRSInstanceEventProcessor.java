@@ -21,6 +21,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -1689,8 +1691,117 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
-            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
-                                                                instances);
+            if (instances != null)
+            {
+                /*
+                 * The instances in the batch are subject to the same validation and save exchange rule
+                 * as instances received in individual events.  Instances that fail are skipped so that the
+                 * rest of the batch is still saved.
+                 */
+                List<EntityDetail> entities      = new ArrayList<>();
+                List<Relationship> relationships = new ArrayList<>();
+
+                if (instances.getEntities() != null)
+                {
+                    for (EntityDetail entity : instances.getEntities())
+                    {
+                        if (isReferenceCopyToSave(sourceName,
+                                                  "entity",
+                                                  entity,
+                                                  originatorMetadataCollectionId,
+                                                  originatorServerName,
+                                                  methodName))
+                        {
+                            entities.add(entity);
+                        }
+                    }
+                }
+
+                if (instances.getRelationships() != null)
+                {
+                    for (Relationship relationship : instances.getRelationships())
+                    {
+                        if (isReferenceCopyToSave(sourceName,
+                                                  "relationship",
+                                                  relationship,
+                                                  originatorMetadataCollectionId,
+                                                  originatorServerName,
+                                                  methodName))
+                        {
+                            relationships.add(relationship);
+                        }
+                    }
+                }
+
+                if ((! entities.isEmpty()) || (! relationships.isEmpty()))
+                {
+                    localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                        new InstanceGraph(entities, relationships));
+                }
+            }
+        }
+        catch (Throwable error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Validate an instance from a batch event and determine whether the save exchange rule allows it to
+     * be saved as a reference copy.  An entity is also compared with the version already stored in the same
+     * way as an entity received in its own event, so older versions are skipped and conflicting guids or types
+     * are reported to the cohort.  Any validation error is logged and the instance is skipped.
+     *
+     * @param sourceName name of the source of the event
+     * @param instanceParameterName name of the instance parameter for error messages
+     * @param instance instance from the batch
+     * @param originatorMetadataCollectionId metadata collection id of the originator of the event
+     * @param originatorServerName name of the server that sent the event
+     * @param methodName calling method
+     * @return boolean flag indicating whether the instance should be saved
+     */
+    private boolean isReferenceCopyToSave(String         sourceName,
+                                          String         instanceParameterName,
+                                          InstanceHeader instance,
+                                          String         originatorMetadataCollectionId,
+                                          String         originatorServerName,
+                                          String         methodName)
+    {
+        if (instance == null)
+        {
+            return false;
+        }
+
+        try
+        {
+            repositoryValidator.validateReferenceInstanceHeader(sourceName,
+                                                                localMetadataCollectionId,
+                                                                instanceParameterName,
+                                                                instance,
+                                                                methodName);
+
+            if (instance instanceof EntityDetail)
+            {
+                EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
+                                                                                  instance.getGUID());
+
+                /*
+                 * Verify that the incoming instance is compatible with the stored instance.
+                 */
+                if (! compareAndValidateReferenceInstance(originatorServerName,
+                                                          instance,
+                                                          storedEntity,
+                                                          methodName))
+                {
+                    return false;
+                }
+            }
+
+            return verifyEventToSave(sourceName, instance);
         }
         catch (Throwable error)
         {
@@ -1698,6 +1809,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            methodName,
                                            originatorServerName,
                                            originatorMetadataCollectionId);
+            return false;
         }
     }
 
@@ -17,8 +17,10 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Date;
+import java.util.NoSuchElementException;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
@@ -1475,6 +1477,164 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * Each page resumes after the last entity returned on the previous page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByProperty(String                    userId,
+                                                 String                    entityTypeGUID,
+                                                 InstanceProperties        matchProperties,
+                                                 MatchCriteria             matchCriteria,
+                                                 String                    pageToken,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        matchProperties,
+                                                        matchCriteria,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        asOfTime,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        pageSize);
+
+        /*
+         * Perform operation
+         */
+        InstancePage page = realMetadataCollection.findEntityPageByProperty(userId,
+                                                                            entityTypeGUID,
+                                                                            matchProperties,
+                                                                            matchCriteria,
+                                                                            pageToken,
+                                                                            limitResultsByStatus,
+                                                                            limitResultsByClassification,
+                                                                            asOfTime,
+                                                                            sequencingProperty,
+                                                                            sequencingOrder,
+                                                                            pageSize);
+
+        if (page != null)
+        {
+            page.setEntities(setLocalProvenanceInEntityList(page.getEntities()));
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return an iterator that steps through all of the entities in the metadata collection, optionally limited
+     * to a type (and its subtypes), a home metadata collection and a list of statuses.  The classifications of
+     * each entity are returned with it.  The entities are retrieved from the repository a page at a time as the
+     * iterator is used so the whole metadata collection can be exported without holding it in memory.
+     * Problems retrieving the later pages are reported by the iterator as an OMRSRuntimeException.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the entities to return.
+     *                                 Null means entities from any metadata collection.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param pageSize the number of entities to retrieve from the repository at a time.  Zero means use the default.
+     * @return iterator over the entities
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the entities.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support the scan.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Iterator<EntityDetail> scanEntities(String                    userId,
+                                               String                    entityTypeGUID,
+                                               String                    homeMetadataCollectionId,
+                                               List<InstanceStatus>      limitResultsByStatus,
+                                               int                       pageSize) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          PropertyErrorException,
+                                                                                          PagingErrorException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyParameterValidation(userId,
+                                                        entityTypeGUID,
+                                                        null,
+                                                        null,
+                                                        0,
+                                                        limitResultsByStatus,
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        pageSize);
+
+        /*
+         * Perform operation - the home metadata collection is checked once the provenance is set up.
+         */
+        return new LocalScanIterator<>(realMetadataCollection.scanEntities(userId,
+                                                                           entityTypeGUID,
+                                                                           null,
+                                                                           limitResultsByStatus,
+                                                                           pageSize),
+                                       homeMetadataCollectionId);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1568,6 +1728,102 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * Each page resumes after the last entity returned on the previous page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search (where any String
+     *                                      property's value should be defined as a Java regular expression, even if it
+     *                                      should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByClassification(String                    userId,
+                                                       String                    entityTypeGUID,
+                                                       String                    classificationName,
+                                                       InstanceProperties        matchClassificationProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                ClassificationErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByClassificationParameterValidation(userId,
+                                                              entityTypeGUID,
+                                                              classificationName,
+                                                              matchClassificationProperties,
+                                                              matchCriteria,
+                                                              0,
+                                                              limitResultsByStatus,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              pageSize);
+
+        /*
+         * Perform operation
+         */
+        InstancePage page = realMetadataCollection.findEntityPageByClassification(userId,
+                                                                                  entityTypeGUID,
+                                                                                  classificationName,
+                                                                                  matchClassificationProperties,
+                                                                                  matchCriteria,
+                                                                                  pageToken,
+                                                                                  limitResultsByStatus,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  pageSize);
+
+        if (page != null)
+        {
+            page.setEntities(setLocalProvenanceInEntityList(page.getEntities()));
+        }
+
+        return page;
+    }
+
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1655,6 +1911,97 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * Each page resumes after the last entity returned on the previous page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities matching the supplied criteria along with the token for the next page (null if
+     * this is the last page).
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    @Override
+    public InstancePage findEntityPageByPropertyValue(String                userId,
+                                                      String                entityTypeGUID,
+                                                      String                searchCriteria,
+                                                      String                pageToken,
+                                                      List<InstanceStatus>  limitResultsByStatus,
+                                                      List<String>          limitResultsByClassification,
+                                                      Date                  asOfTime,
+                                                      String                sequencingProperty,
+                                                      SequencingOrder       sequencingOrder,
+                                                      int                   pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByPropertyValueParameterValidation(userId,
+                                                             entityTypeGUID,
+                                                             searchCriteria,
+                                                             0,
+                                                             limitResultsByStatus,
+                                                             limitResultsByClassification,
+                                                             asOfTime,
+                                                             sequencingProperty,
+                                                             sequencingOrder,
+                                                             pageSize);
+
+        /*
+         * Perform operation
+         */
+        InstancePage page = realMetadataCollection.findEntityPageByPropertyValue(userId,
+                                                                                 entityTypeGUID,
+                                                                                 searchCriteria,
+                                                                                 pageToken,
+                                                                                 limitResultsByStatus,
+                                                                                 limitResultsByClassification,
+                                                                                 asOfTime,
+                                                                                 sequencingProperty,
+                                                                                 sequencingOrder,
+                                                                                 pageSize);
+
+        if (page != null)
+        {
+            page.setEntities(setLocalProvenanceInEntityList(page.getEntities()));
+        }
+
+        return page;
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
@@ -1857,6 +2204,162 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * Each page resumes after the last relationship returned on the previous page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param matchProperties Optional list of relationship properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public InstancePage findRelationshipPageByProperty(String                    userId,
+                                                       String                    relationshipTypeGUID,
+                                                       InstanceProperties        matchProperties,
+                                                       MatchCriteria             matchCriteria,
+                                                       String                    pageToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                                                             relationshipTypeGUID,
+                                                             matchProperties,
+                                                             matchCriteria,
+                                                             0,
+                                                             limitResultsByStatus,
+                                                             asOfTime,
+                                                             sequencingProperty,
+                                                             sequencingOrder,
+                                                             pageSize);
+
+        /*
+         * Perform operation
+         */
+        InstancePage page = realMetadataCollection.findRelationshipPageByProperty(userId,
+                                                                                  relationshipTypeGUID,
+                                                                                  matchProperties,
+                                                                                  matchCriteria,
+                                                                                  pageToken,
+                                                                                  limitResultsByStatus,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  pageSize);
+
+        if (page != null)
+        {
+            page.setRelationships(setLocalProvenanceInRelationshipList(page.getRelationships()));
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return an iterator that steps through all of the relationships in the metadata collection, optionally
+     * limited to a type (and its subtypes), a home metadata collection and a list of statuses.  The relationships
+     * are retrieved from the repository a page at a time as the iterator is used so the whole metadata collection
+     * can be exported without holding it in memory.  Problems retrieving the later pages are reported by the
+     * iterator as an OMRSRuntimeException.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship type of interest (null means any
+     *                             relationship type).
+     * @param homeMetadataCollectionId unique identifier of the home metadata collection of the relationships to
+     *                                 return.  Null means relationships from any metadata collection.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param pageSize the number of relationships to retrieve from the repository at a time.  Zero means use the
+     *                 default.
+     * @return iterator over the relationships
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the page size is invalid.
+     * @throws FunctionNotSupportedException the repository does not support the scan.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Iterator<Relationship> scanRelationships(String                    userId,
+                                                    String                    relationshipTypeGUID,
+                                                    String                    homeMetadataCollectionId,
+                                                    List<InstanceStatus>      limitResultsByStatus,
+                                                    int                       pageSize) throws InvalidParameterException,
+                                                                                               TypeErrorException,
+                                                                                               RepositoryErrorException,
+                                                                                               PropertyErrorException,
+                                                                                               PagingErrorException,
+                                                                                               FunctionNotSupportedException,
+                                                                                               UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyParameterValidation(userId,
+                                                             relationshipTypeGUID,
+                                                             null,
+                                                             null,
+                                                             0,
+                                                             limitResultsByStatus,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             pageSize);
+
+        /*
+         * Perform operation - the home metadata collection is checked once the provenance is set up.
+         */
+        return new LocalScanIterator<>(realMetadataCollection.scanRelationships(userId,
+                                                                                relationshipTypeGUID,
+                                                                                null,
+                                                                                limitResultsByStatus,
+                                                                                pageSize),
+                                       homeMetadataCollectionId);
+    }
+
+
     /**
      * Return a list of relationships whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1938,6 +2441,91 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * Each page resumes after the last relationship returned on the previous page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page).
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the page token or paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    @Override
+    public InstancePage findRelationshipPageByPropertyValue(String                    userId,
+                                                            String                    relationshipTypeGUID,
+                                                            String                    searchCriteria,
+                                                            String                    pageToken,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsByPropertyValueParameterValidation(userId,
+                                                                  relationshipTypeGUID,
+                                                                  searchCriteria,
+                                                                  0,
+                                                                  limitResultsByStatus,
+                                                                  asOfTime,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize);
+
+        /*
+         * Perform operation
+         */
+        InstancePage page = realMetadataCollection.findRelationshipPageByPropertyValue(userId,
+                                                                                       relationshipTypeGUID,
+                                                                                       searchCriteria,
+                                                                                       pageToken,
+                                                                                       limitResultsByStatus,
+                                                                                       asOfTime,
+                                                                                       sequencingProperty,
+                                                                                       sequencingOrder,
+                                                                                       pageSize);
+
+        if (page != null)
+        {
+            page.setRelationships(setLocalProvenanceInRelationshipList(page.getRelationships()));
+        }
+
+        return page;
+    }
+
+
     /**
      * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
      *
@@ -3226,6 +3814,231 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create a set of new entities and relationships in a single request.  The relationships may link the new
+     * entities to each other and to existing entities.  The guid of each new entity in the request is only used to
+     * match it with the ends of the relationships in the request that refer to it.  Each relationship end that
+     * does not match a new entity is the guid of an existing entity.  The real repository stores the batch as a
+     * unit - if any instance fails, none of the batch is stored and no event is sent.  Once the batch is stored,
+     * the new instances are sent to the cohort in a single batch event.  The access services receive a new
+     * instance event for each of the new instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances new entities and relationships.  Their types, properties, classifications and status are
+     *                  used to create the new instances.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addInstances(String         userId,
+                                      InstanceGraph  instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeErrorException,
+                                                                       PropertyErrorException,
+                                                                       ClassificationErrorException,
+                                                                       EntityNotKnownException,
+                                                                       StatusNotSupportedException,
+                                                                       FunctionNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String  methodName = "addInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addInstancesParameterValidation(userId, instances, methodName);
+
+        /*
+         * Validation complete, ok to create new instances
+         */
+        InstanceGraph newInstances = realMetadataCollection.addInstances(userId, instances);
+
+        this.processNewInstances(newInstances, false);
+
+        return newInstances;
+    }
+
+
+    /**
+     * Save a set of new entities and relationships that are sourced from an external technology in a single
+     * request.  The external technology is identified by a GUID and a name.  The relationships may link the new
+     * entities to each other and to existing entities.  The guid of each new entity in the request is only used to
+     * match it with the ends of the relationships in the request that refer to it.  Each relationship end that
+     * does not match a new entity is the guid of an existing entity.  The real repository stores the batch as a
+     * unit - if any instance fails, none of the batch is stored and no event is sent.  Once the batch is stored,
+     * the new instances are sent to the cohort in a single batch event.  The access services receive a new
+     * instance event for each of the new instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param externalSourceGUID unique identifier (guid) for the external source.
+     * @param externalSourceName unique name for the external source.
+     * @param instances new entities and relationships.  Their types, properties, classifications and status are
+     *                  used to create the new instances.
+     * @return the new entities and relationships in the order of the request.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata
+     *                            repository hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws EntityNotKnownException one of the entities at the end of a relationship is not known in the
+     *                                 metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addExternalInstances(String         userId,
+                                              String         externalSourceGUID,
+                                              String         externalSourceName,
+                                              InstanceGraph  instances) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               ClassificationErrorException,
+                                                                               EntityNotKnownException,
+                                                                               StatusNotSupportedException,
+                                                                               FunctionNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        final String  methodName = "addExternalInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addExternalInstancesParameterValidation(userId, externalSourceGUID, instances, methodName);
+
+        /*
+         * Validation complete, ok to create new instances
+         */
+        InstanceGraph newInstances = realMetadataCollection.addExternalInstances(userId,
+                                                                                 externalSourceGUID,
+                                                                                 externalSourceName,
+                                                                                 instances);
+
+        this.processNewInstances(newInstances, true);
+
+        return newInstances;
+    }
+
+
+    /**
+     * Set up the provenance of a set of new instances and send them out in a single batch event.  The publisher
+     * for the enterprise topic expands the batch into the new instance events that the access services expect.
+     *
+     * @param newInstances new entities and relationships returned by the real repository
+     * @param external true if the instances are sourced from an external technology
+     */
+    private void processNewInstances(InstanceGraph newInstances,
+                                     boolean       external)
+    {
+        if (newInstances == null)
+        {
+            return;
+        }
+
+        List<EntityDetail> entities      = newInstances.getEntities();
+        List<Relationship> relationships = newInstances.getRelationships();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if (entity != null)
+                {
+                    setLocalProvenance(entity);
+
+                    if (external)
+                    {
+                        entity.setReplicatedBy(metadataCollectionId);
+                    }
+                }
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if (relationship != null)
+                {
+                    setLocalProvenance(relationship);
+
+                    if (external)
+                    {
+                        relationship.setReplicatedBy(metadataCollectionId);
+                    }
+
+                    /*
+                     * Ensure that for each EntityProxy, the home metadataCollectionID and metadataCollectionName
+                     * are set.  The proxies are clones so they are set back into the relationship.
+                     */
+                    relationship.setEntityOneProxy(this.setProxyHome(relationship.getEntityOneProxy()));
+                    relationship.setEntityTwoProxy(this.setProxyHome(relationship.getEntityTwoProxy()));
+                }
+            }
+        }
+
+        newInstances.setEntities(entities);
+        newInstances.setRelationships(relationships);
+
+        /*
+         * OK to send out
+         */
+        if (produceEventsForRealConnector)
+        {
+            outboundRepositoryEventProcessor.processInstanceBatchEvent(repositoryName,
+                                                                       metadataCollectionId,
+                                                                       localServerName,
+                                                                       localServerType,
+                                                                       localOrganizationName,
+                                                                       newInstances);
+        }
+    }
+
+
+    /**
+     * Default the home metadata collection of an entity proxy to the local metadata collection.
+     *
+     * @param entityProxy proxy from a new relationship
+     * @return updated proxy
+     */
+    private EntityProxy setProxyHome(EntityProxy entityProxy)
+    {
+        if (entityProxy != null)
+        {
+            if (entityProxy.getMetadataCollectionId() == null)
+            {
+                entityProxy.setMetadataCollectionId(metadataCollectionId);
+            }
+            if (entityProxy.getMetadataCollectionName() == null)
+            {
+                entityProxy.setMetadataCollectionName(repositoryName);
+            }
+        }
+
+        return entityProxy;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -4678,4 +5491,83 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                            homeMetadataCollectionId);
 
     }
+
+
+    /**
+     * LocalScanIterator wraps the iterator returned by a scan of the real repository.  It sets up the local
+     * provenance of each instance and skips the instances that are not from the requested home metadata collection.
+     *
+     * @param <T> type of instance
+     */
+    private class LocalScanIterator<T extends InstanceHeader> implements Iterator<T>
+    {
+        private Iterator<T> realIterator;
+        private String      homeMetadataCollectionId;
+        private T           nextInstance = null;
+
+
+        /**
+         * Constructor takes the iterator from the real repository.
+         *
+         * @param realIterator iterator over the instances in the real repository
+         * @param homeMetadataCollectionId unique identifier of the home metadata collection of the instances to
+         *                                 return.  Null means instances from any metadata collection.
+         */
+        LocalScanIterator(Iterator<T> realIterator,
+                          String      homeMetadataCollectionId)
+        {
+            this.realIterator = realIterator;
+            this.homeMetadataCollectionId = homeMetadataCollectionId;
+        }
+
+
+        /**
+         * Return whether there are more instances in the scan.
+         *
+         * @return boolean indicating whether there are more instances
+         */
+        @Override
+        public boolean hasNext()
+        {
+            while ((nextInstance == null) && (realIterator != null) && (realIterator.hasNext()))
+            {
+                T instance = realIterator.next();
+
+                if (instance != null)
+                {
+                    setLocalProvenance(instance);
+
+                    if ((homeMetadataCollectionId == null) ||
+                        (homeMetadataCollectionId.equals(instance.getMetadataCollectionId())))
+                    {
+                        nextInstance = instance;
+                    }
+                }
+            }
+
+            return (nextInstance != null);
+        }
+
+
+        /**
+         * Return the next instance in the scan.
+         *
+         * @return next instance
+         * @throws NoSuchElementException the scan has returned all of the instances
+         */
+        @Override
+        public T next()
+        {
+            if (this.hasNext())
+            {
+                T instance = nextInstance;
+
+                nextInstance = null;
+
+                return instance;
+            }
+
+            throw new NoSuchElementException();
+        }
+    }
 }
@@ -7,12 +7,14 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSPageTokenFilter;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -3263,28 +3265,21 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
             return fullResults;
         }
 
-        int fullResultsSize = fullResults.size();
+        List<SequencingKey<EntityDetail>> sequencingKeys = new ArrayList<>(fullResults.size());
 
-        Collections.sort(fullResults,
-                         new java.util.Comparator<EntityDetail>()
-                         {
-                             @Override
-                             public int compare(final EntityDetail object1, final EntityDetail object2)
-                             {
-                                 return OMRSRepositoryContentHelper.compareProperties(object1.getProperties(),
-                                                                                      object2.getProperties(),
-                                                                                      sequencingProperty,
-                                                                                      sequencingOrder);
-                             }
-                         });
-
-        if ((fromElement == 0) && (pageSize > fullResults.size()))
+        if (sequencingProperty != null)
         {
-            return fullResults;
+            for (EntityDetail entity : fullResults)
+            {
+                sequencingKeys.add(new SequencingKey<>(sequencingKeys.size(),
+                                                       entity,
+                                                       entity.getGUID(),
+                                                       entity.getProperties(),
+                                                       sequencingProperty));
+            }
         }
 
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        return this.getPageOfResults(fullResults, sequencingKeys, fromElement, sequencingOrder, pageSize);
     }
 
 
@@ -3327,6 +3322,321 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
             return fullResults;
         }
 
+        List<SequencingKey<Relationship>> sequencingKeys = new ArrayList<>(fullResults.size());
+
+        if (sequencingProperty != null)
+        {
+            for (Relationship relationship : fullResults)
+            {
+                sequencingKeys.add(new SequencingKey<>(sequencingKeys.size(),
+                                                       relationship,
+                                                       relationship.getGUID(),
+                                                       relationship.getProperties(),
+                                                       sequencingProperty));
+            }
+        }
+
+        return this.getPageOfResults(fullResults, sequencingKeys, fromElement, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Use the sequencing parameters and page token to select the next page of results for a repository call that
+     * returns a list of entity instances.  The results are ordered by the sequencing property and then by guid so
+     * the page token only needs to hold the sequencing property value and guid of the last entity returned.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities along with the token for the next page (null if this is the last page)
+     * @throws PagingErrorException the page token is not valid.
+     */
+    public InstancePage formatEntityPage(List<EntityDetail> fullResults,
+                                         String             pageToken,
+                                         String             sequencingProperty,
+                                         SequencingOrder    sequencingOrder,
+                                         int                pageSize) throws PagingErrorException
+    {
+        final String methodName = "formatEntityPage";
+
+        SequencingKey<EntityDetail> lastKey = this.getPageTokenKey(pageToken, methodName);
+        InstancePage                page    = new InstancePage();
+
+        if (fullResults != null)
+        {
+            List<SequencingKey<EntityDetail>> sequencingKeys = new ArrayList<>(fullResults.size());
+
+            for (EntityDetail entity : fullResults)
+            {
+                if (entity != null)
+                {
+                    sequencingKeys.add(new SequencingKey<>(sequencingKeys.size(),
+                                                           entity,
+                                                           entity.getGUID(),
+                                                           entity.getProperties(),
+                                                           sequencingProperty));
+                }
+            }
+
+            List<EntityDetail> entities = new ArrayList<>();
+
+            page.setNextPageToken(this.getPageAfterKey(sequencingKeys, lastKey, sequencingOrder, pageSize, entities));
+            page.setEntities(entities);
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Use the sequencing parameters and page token to select the next page of results for a repository call that
+     * returns a list of relationship instances.  The results are ordered by the sequencing property and then by guid
+     * so the page token only needs to hold the sequencing property value and guid of the last relationship returned.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships along with the token for the next page (null if this is the last page)
+     * @throws PagingErrorException the page token is not valid.
+     */
+    public InstancePage formatRelationshipPage(List<Relationship> fullResults,
+                                               String             pageToken,
+                                               String             sequencingProperty,
+                                               SequencingOrder    sequencingOrder,
+                                               int                pageSize) throws PagingErrorException
+    {
+        final String methodName = "formatRelationshipPage";
+
+        SequencingKey<Relationship> lastKey = this.getPageTokenKey(pageToken, methodName);
+        InstancePage                page    = new InstancePage();
+
+        if (fullResults != null)
+        {
+            List<SequencingKey<Relationship>> sequencingKeys = new ArrayList<>(fullResults.size());
+
+            for (Relationship relationship : fullResults)
+            {
+                if (relationship != null)
+                {
+                    sequencingKeys.add(new SequencingKey<>(sequencingKeys.size(),
+                                                           relationship,
+                                                           relationship.getGUID(),
+                                                           relationship.getProperties(),
+                                                           sequencingProperty));
+                }
+            }
+
+            List<Relationship> relationships = new ArrayList<>();
+
+            page.setNextPageToken(this.getPageAfterKey(sequencingKeys, lastKey, sequencingOrder, pageSize, relationships));
+            page.setRelationships(relationships);
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return the page token that resumes a find request after the supplied instance.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param instanceProperties properties of the instance
+     * @param sequencingProperty String name of the property that is used to sequence the results.
+     * @return opaque token
+     */
+    public String getPageToken(String             instanceGUID,
+                               InstanceProperties instanceProperties,
+                               String             sequencingProperty)
+    {
+        return new SequencingKey<>(0, null, instanceGUID, instanceProperties, sequencingProperty).getPageToken();
+    }
+
+
+    /**
+     * Decode a page token into a filter that skips the instances returned on the earlier pages.  The filter
+     * lets a repository drop these instances while it is searching rather than after all of the matching
+     * instances have been retrieved.
+     *
+     * @param pageToken token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty String name of the property that is used to sequence the results.
+     *                           Null means sequence on guid alone.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @return filter
+     * @throws PagingErrorException the page token is not valid.
+     */
+    public OMRSPageTokenFilter getPageTokenFilter(String          pageToken,
+                                                  String          sequencingProperty,
+                                                  SequencingOrder sequencingOrder) throws PagingErrorException
+    {
+        final String methodName = "getPageTokenFilter";
+
+        final SequencingKey<Object>             lastKey    = this.getPageTokenKey(pageToken, methodName);
+        final Comparator<SequencingKey<Object>> comparator = SequencingKey.getPageTokenComparator(sequencingOrder);
+
+        return new OMRSPageTokenFilter()
+        {
+            public String getLastGUID()
+            {
+                return (lastKey == null) ? null : lastKey.guid;
+            }
+
+            public boolean isAfterPageToken(String             instanceGUID,
+                                            InstanceProperties instanceProperties)
+            {
+                return (lastKey == null) ||
+                       (comparator.compare(new SequencingKey<>(0,
+                                                               null,
+                                                               instanceGUID,
+                                                               instanceProperties,
+                                                               sequencingProperty),
+                                           lastKey) > 0);
+            }
+        };
+    }
+
+
+    /**
+     * Decode a page token into the sequencing key of the last instance of the previous page.
+     *
+     * @param pageToken token returned with the previous page - may be null
+     * @param methodName calling method
+     * @param <T> type of instance
+     * @return sequencing key or null if this is the first page
+     * @throws PagingErrorException the page token is not valid.
+     */
+    private <T> SequencingKey<T> getPageTokenKey(String pageToken,
+                                                 String methodName) throws PagingErrorException
+    {
+        if (pageToken == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return SequencingKey.fromPageToken(pageToken);
+        }
+        catch (RuntimeException error)
+        {
+            OMRSErrorCode errorCode = OMRSErrorCode.INVALID_PAGE_TOKEN;
+            String errorMessage = errorCode.getErrorMessageId()
+                                + errorCode.getFormattedErrorMessage(pageToken, methodName);
+
+            throw new PagingErrorException(errorCode.getHTTPErrorCode(),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           errorMessage,
+                                           errorCode.getSystemAction(),
+                                           errorCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Select the instances that follow the last key of the previous page.  Only pageSize + 1 keys are kept
+     * while scanning the results, the extra one showing whether there is another page to come.
+     *
+     * @param sequencingKeys sort key for each of the results
+     * @param lastKey key of the last instance of the previous page - null for the first page
+     * @param sequencingOrder ascending or descending order
+     * @param pageSize the maximum number of instances to return - zero means unrestricted
+     * @param page list to add the selected instances to
+     * @param <T> type of instance
+     * @return token for the next page or null if this is the last page
+     */
+    private <T> String getPageAfterKey(List<SequencingKey<T>> sequencingKeys,
+                                       SequencingKey<T>       lastKey,
+                                       SequencingOrder        sequencingOrder,
+                                       int                    pageSize,
+                                       List<T>                page)
+    {
+        Comparator<SequencingKey<T>> comparator   = SequencingKey.getPageTokenComparator(sequencingOrder);
+        int                          maxKeys      = (pageSize > 0) ? pageSize + 1 : 0;
+        List<SequencingKey<T>>       selectedKeys;
+
+        if (maxKeys > 0)
+        {
+            PriorityQueue<SequencingKey<T>> topKeys = new PriorityQueue<>(Math.min(maxKeys, sequencingKeys.size() + 1),
+                                                                          comparator.reversed());
+
+            for (SequencingKey<T> sequencingKey : sequencingKeys)
+            {
+                if ((lastKey == null) || (comparator.compare(sequencingKey, lastKey) > 0))
+                {
+                    if (topKeys.size() < maxKeys)
+                    {
+                        topKeys.add(sequencingKey);
+                    }
+                    else if (comparator.compare(sequencingKey, topKeys.peek()) < 0)
+                    {
+                        topKeys.poll();
+                        topKeys.add(sequencingKey);
+                    }
+                }
+            }
+
+            selectedKeys = new ArrayList<>(topKeys);
+        }
+        else
+        {
+            selectedKeys = new ArrayList<>();
+
+            for (SequencingKey<T> sequencingKey : sequencingKeys)
+            {
+                if ((lastKey == null) || (comparator.compare(sequencingKey, lastKey) > 0))
+                {
+                    selectedKeys.add(sequencingKey);
+                }
+            }
+        }
+
+        selectedKeys.sort(comparator);
+
+        String nextPageToken = null;
+
+        if ((maxKeys > 0) && (selectedKeys.size() > pageSize))
+        {
+            selectedKeys = selectedKeys.subList(0, pageSize);
+            nextPageToken = selectedKeys.get(pageSize - 1).getPageToken();
+        }
+
+        for (SequencingKey<T> sequencingKey : selectedKeys)
+        {
+            page.add(sequencingKey.instance);
+        }
+
+        return nextPageToken;
+    }
+
+
+    /**
+     * Extract the requested page from the full results.  When there is no sequencing property (empty list of keys)
+     * the results keep their original order and no sort is done.  Otherwise only the first fromElement + pageSize
+     * instances are needed so, when this is a small part of the results, they are selected with a bounded heap
+     * rather than by sorting all of the results.  The order matches a stable sort of the full results.
+     *
+     * @param fullResults the full list of results in an arbitrary order - not empty
+     * @param sequencingKeys sort key for each of the results, in the same order as the results - or empty
+     * @param fromElement the starting element number of the instances to return
+     * @param sequencingOrder ascending or descending order
+     * @param pageSize the maximum number of instances to return - greater than zero
+     * @param <T> type of instance
+     * @return requested page of results or null if fromElement is beyond the end of the results
+     */
+    private <T> List<T> getPageOfResults(List<T>                fullResults,
+                                         List<SequencingKey<T>> sequencingKeys,
+                                         int                    fromElement,
+                                         SequencingOrder        sequencingOrder,
+                                         int                    pageSize)
+    {
         int fullResultsSize = fullResults.size();
 
         if (fromElement > fullResultsSize)
@@ -3334,125 +3644,328 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
             return null;
         }
 
-        Collections.sort(fullResults,
-                         new java.util.Comparator<Relationship>()
-                        {
-                            @Override
-                            public int compare(final Relationship object1, final Relationship object2)
-                            {
-                                return OMRSRepositoryContentHelper.compareProperties(object1.getProperties(),
-                                                                                     object2.getProperties(),
-                                                                                     sequencingProperty,
-                                                                                     sequencingOrder);
-                            }
-                        });
+        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
 
-        if ((fromElement == 0) && (pageSize > fullResults.size()))
+        if (toIndex <= fromElement)
         {
-            return fullResults;
+            return new ArrayList<>();
         }
 
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
+        if (sequencingKeys.isEmpty())
+        {
+            if ((fromElement == 0) && (toIndex == fullResultsSize))
+            {
+                return fullResults;
+            }
+
+            return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        }
+
+        Comparator<SequencingKey<T>> comparator = SequencingKey.getComparator(sequencingOrder);
+        List<SequencingKey<T>>       sortedKeys;
+
+        if (toIndex < fullResultsSize / 2)
+        {
+            PriorityQueue<SequencingKey<T>> topKeys = new PriorityQueue<>(toIndex, comparator.reversed());
+
+            for (SequencingKey<T> sequencingKey : sequencingKeys)
+            {
+                if (topKeys.size() < toIndex)
+                {
+                    topKeys.add(sequencingKey);
+                }
+                else if (comparator.compare(sequencingKey, topKeys.peek()) < 0)
+                {
+                    topKeys.poll();
+                    topKeys.add(sequencingKey);
+                }
+            }
+
+            sortedKeys = new ArrayList<>(topKeys);
+        }
+        else
+        {
+            sortedKeys = sequencingKeys;
+        }
 
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        sortedKeys.sort(comparator);
+
+        List<T> results = new ArrayList<>(toIndex - fromElement);
+
+        for (int index = fromElement; index < toIndex; index++)
+        {
+            results.add(sortedKeys.get(index).instance);
+        }
+
+        return results;
     }
 
 
     /**
-     * Compare the properties of two instances and determine the sort order based on the nominated property value and
-     * sort order.
+     * SequencingKey holds the value of the sequencing property of an instance so that it is only extracted once
+     * per instance rather than on every comparison.  The position of the instance in the full results is used to
+     * keep the order of instances with equal keys stable.  When paging with page tokens, the guid is used instead
+     * since positions change between requests.  The page token is the guid, property type name and property value
+     * of the last instance returned, encoded in base64.
      *
-     * @param instance1Properties properties from first instance
-     * @param instance2Properties properties from second instance
-     * @param propertyName name of property to compare
-     * @param sequencingOrder ascending or descending order
-     * @return sort result
-     */
-    private static int  compareProperties(InstanceProperties     instance1Properties,
-                                          InstanceProperties     instance2Properties,
-                                          String                 propertyName,
-                                          SequencingOrder        sequencingOrder)
-    {
-
-        // todo need to add support for properties in the instance header eg createdBy
-         /*
-          * Ideally we would not include all this type inspection in the comparison
-          * function - but we do not know the types until we are comparing the
-          * pair of instances. There is no guarantee the list is homogeneous or that
-          * the objects to be compared are of the same type.
-          */
-
-         int    sortResult;
-         String o1PropertyTypeName = null;
-         String o2PropertyTypeName = null;
-         Object o1PropertyValue    = null;
-         Object o2PropertyValue    = null;
-
-         /*
-          * If instance1 has the named property, retrieve its value. Same for instance2.
-          * If neither object has the property return 0
-          * If one object has the property sort that higher: +1 if instance1, -1 if instance2
-          * If both have a value for the property, of different types, return 0.
-          * If both have a value for the property, of the same type, compare them...
-          * This is only performed for primitives, anything else is treated as ignored
-          */
-         if (instance1Properties != null)
-         {
-             InstancePropertyValue o1PropValue = instance1Properties.getPropertyValue(propertyName);
-             if (o1PropValue != null)
-             {
-                 InstancePropertyCategory o1PropCat = o1PropValue.getInstancePropertyCategory();
-                 if (o1PropCat == InstancePropertyCategory.PRIMITIVE)
-                 {
-                     o1PropertyTypeName = o1PropValue.getTypeName();
-                     o1PropertyValue = ((PrimitivePropertyValue) o1PropValue).getPrimitiveValue();
-                 }
-             }
-         }
-
-         if (instance2Properties != null)
-         {
-             InstancePropertyValue o2PropValue = instance2Properties.getPropertyValue(propertyName);
-             if (o2PropValue != null)
-             {
-                 InstancePropertyCategory o2PropCat = o2PropValue.getInstancePropertyCategory();
-                 if (o2PropCat == InstancePropertyCategory.PRIMITIVE)
-                 {
-                     o2PropertyTypeName = o2PropValue.getTypeName();
-                     o2PropertyValue = ((PrimitivePropertyValue) o2PropValue).getPrimitiveValue();
-                 }
-             }
-         }
-
-         if (o1PropertyTypeName == null && o2PropertyTypeName == null)
-         {
-             sortResult = 0;
-         }
-         else if (o1PropertyTypeName != null && o2PropertyTypeName == null)
-         {
-             sortResult = 1;
-         }
-         else if (o1PropertyTypeName == null) // implicit: o2PropertyTypeName != null
-         {
-             sortResult = -1;
-         }
-         else if (!o1PropertyTypeName.equals(o2PropertyTypeName))
-         {
-             sortResult = 0;
-         }
-         else
-         {
-             // Both objects have values, of the same type for the named property - compare...
-             sortResult = typeSpecificCompare(o1PropertyTypeName, o1PropertyValue, o2PropertyValue);
-
-         }
-         if (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING)
-         {
-             sortResult = sortResult * (-1);
-         }
-
-         return sortResult;
+     * @param <T> type of instance
+     */
+    private static class SequencingKey<T>
+    {
+        private static final String PAGE_TOKEN_SEPARATOR = "\n";
+
+        private final int    position;
+        private final T      instance;
+        private final String guid;
+        private       String propertyTypeName = null;
+        private       Object propertyValue    = null;
+
+
+        /**
+         * Extract the sequencing property value from the properties of the instance.
+         * Only primitive values are used for sequencing - anything else is treated as if it was missing.
+         *
+         * @param position position of the instance in the full results
+         * @param instance instance to sort
+         * @param guid unique identifier of the instance
+         * @param instanceProperties properties of the instance
+         * @param propertyName name of the sequencing property
+         */
+        SequencingKey(int                position,
+                      T                  instance,
+                      String             guid,
+                      InstanceProperties instanceProperties,
+                      String             propertyName)
+        {
+            this.position = position;
+            this.instance = instance;
+            this.guid = guid;
+
+            // todo need to add support for properties in the instance header eg createdBy
+            if ((instanceProperties != null) && (propertyName != null))
+            {
+                InstancePropertyValue propertyValue = instanceProperties.getPropertyValue(propertyName);
+
+                if ((propertyValue != null) &&
+                    (propertyValue.getInstancePropertyCategory() == InstancePropertyCategory.PRIMITIVE) &&
+                    (((PrimitivePropertyValue) propertyValue).getPrimitiveValue() != null))
+                {
+                    this.propertyTypeName = propertyValue.getTypeName();
+                    this.propertyValue = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+                }
+            }
+        }
+
+
+        /**
+         * Set up the key of the last instance of the previous page from a page token.
+         *
+         * @param guid unique identifier of the instance
+         * @param propertyTypeName type of the sequencing property value - null if the instance had no value
+         * @param propertyValue sequencing property value
+         */
+        private SequencingKey(String guid,
+                              String propertyTypeName,
+                              Object propertyValue)
+        {
+            this.position = -1;
+            this.instance = null;
+            this.guid = guid;
+            this.propertyTypeName = propertyTypeName;
+            this.propertyValue = propertyValue;
+        }
+
+
+        /**
+         * Return the page token that resumes a find request after this instance.
+         *
+         * @return opaque token
+         */
+        String getPageToken()
+        {
+            String tokenValue = "";
+
+            if (propertyValue instanceof Date)
+            {
+                tokenValue = Long.toString(((Date) propertyValue).getTime());
+            }
+            else if (propertyValue != null)
+            {
+                tokenValue = propertyValue.toString();
+            }
+
+            String tokenText = guid + PAGE_TOKEN_SEPARATOR
+                             + ((propertyTypeName == null) ? "" : propertyTypeName) + PAGE_TOKEN_SEPARATOR
+                             + tokenValue;
 
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenText.getBytes(StandardCharsets.UTF_8));
+        }
+
+
+        /**
+         * Decode a page token into the key of the last instance of the previous page.
+         *
+         * @param pageToken opaque token
+         * @param <T> type of instance
+         * @return sequencing key
+         * @throws IllegalArgumentException the token is not valid
+         */
+        static <T> SequencingKey<T> fromPageToken(String pageToken) throws IllegalArgumentException
+        {
+            String   tokenText  = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            String[] tokenParts = tokenText.split(PAGE_TOKEN_SEPARATOR, 3);
+
+            if ((tokenParts.length != 3) || (tokenParts[0].isEmpty()))
+            {
+                throw new IllegalArgumentException(pageToken);
+            }
+
+            if (tokenParts[1].isEmpty())
+            {
+                return new SequencingKey<>(tokenParts[0], null, null);
+            }
+
+            return new SequencingKey<>(tokenParts[0], tokenParts[1], getTypedValue(tokenParts[1], tokenParts[2]));
+        }
+
+
+        /**
+         * Convert the text form of a sequencing property value from a page token back to its type.
+         *
+         * @param typeName name of the primitive type
+         * @param value text form of the value
+         * @return typed value
+         */
+        private static Object getTypedValue(String typeName,
+                                            String value)
+        {
+            switch (typeName)
+            {
+                case "boolean":
+                    return Boolean.valueOf(value);
+                case "byte":
+                    return Byte.valueOf(value);
+                case "char":
+                    if (value.length() != 1)
+                    {
+                        throw new IllegalArgumentException(value);
+                    }
+                    return value.charAt(0);
+                case "short":
+                    return Short.valueOf(value);
+                case "integer":
+                    return Integer.valueOf(value);
+                case "long":
+                    return Long.valueOf(value);
+                case "float":
+                    return Float.valueOf(value);
+                case "double":
+                    return Double.valueOf(value);
+                case "biginteger":
+                    return new BigInteger(value);
+                case "bigdecimal":
+                    return new BigDecimal(value);
+                case "date":
+                    return new Date(Long.parseLong(value));
+                default:
+                    return value;
+            }
+        }
+
+
+        /**
+         * Return the comparator for the requested order.  Instances with the sequencing property sort after
+         * instances without it, values of different types are treated as equal and values of the same type are
+         * compared.  Descending order reverses the result of comparing the keys but not the position tie-break.
+         *
+         * @param sequencingOrder ascending or descending order
+         * @param <T> type of instance
+         * @return comparator
+         */
+        static <T> Comparator<SequencingKey<T>> getComparator(SequencingOrder sequencingOrder)
+        {
+            final boolean descending = (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING);
+
+            return (key1, key2) ->
+            {
+                int sortResult = compareKeys(key1, key2);
+
+                if (descending)
+                {
+                    sortResult = sortResult * (-1);
+                }
+
+                if (sortResult == 0)
+                {
+                    sortResult = Integer.compare(key1.position, key2.position);
+                }
+
+                return sortResult;
+            };
+        }
+
+
+        /**
+         * Return the comparator used when paging with page tokens.  It matches the comparator above except that
+         * instances with equal keys are ordered by guid.
+         *
+         * @param sequencingOrder ascending or descending order
+         * @param <T> type of instance
+         * @return comparator
+         */
+        static <T> Comparator<SequencingKey<T>> getPageTokenComparator(SequencingOrder sequencingOrder)
+        {
+            final boolean descending = (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING);
+
+            return (key1, key2) ->
+            {
+                int sortResult = compareKeys(key1, key2);
+
+                if (descending)
+                {
+                    sortResult = sortResult * (-1);
+                }
+
+                if (sortResult == 0)
+                {
+                    sortResult = Objects.compare(key1.guid, key2.guid, Comparator.nullsFirst(Comparator.naturalOrder()));
+                }
+
+                return sortResult;
+            };
+        }
+
+
+        /**
+         * Compare the sequencing property values of two instances.
+         *
+         * @param key1 key of first instance
+         * @param key2 key of second instance
+         * @return sort result
+         */
+        private static int compareKeys(SequencingKey<?> key1,
+                                       SequencingKey<?> key2)
+        {
+            if (key1.propertyTypeName == null && key2.propertyTypeName == null)
+            {
+                return 0;
+            }
+            else if (key1.propertyTypeName != null && key2.propertyTypeName == null)
+            {
+                return 1;
+            }
+            else if (key1.propertyTypeName == null) // implicit: key2.propertyTypeName != null
+            {
+                return -1;
+            }
+            else if (!key1.propertyTypeName.equals(key2.propertyTypeName))
+            {
+                return 0;
+            }
+
+            // Both instances have values, of the same type for the named property - compare...
+            return typeSpecificCompare(key1.propertyTypeName, key1.propertyValue, key2.propertyValue);
+        }
     }
 
 
@@ -150,9 +150,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 activeTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
                 activeTypeDefNames.put(newTypeDef.getName(), newTypeDef);
 
-                log.debug("New Active Type " + newTypeDef.getName() + " from " + sourceName + ". Full TypeDef: " + newTypeDef);
+                if (log.isDebugEnabled())
+                {
+                    log.debug("New Active Type " + newTypeDef.getName() + " from " + sourceName + ". Full TypeDef: " + newTypeDef);
+                }
             }
-            else
+            else if (log.isDebugEnabled())
             {
                 log.debug("New Known Type " + newTypeDef.getName() + " from " + sourceName + ". Full TypeDef: " + newTypeDef);
             }
@@ -197,10 +200,10 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 {
                     log.debug("New Active Attribute Type " + newAttributeTypeDef.getName() + " from " + sourceName+ ". Full AttributeTypeDef: " + newAttributeTypeDef);
                 }
-                else
-                {
-                    log.debug("New Known Attribute Type " + newAttributeTypeDef.getName() + " from " + sourceName+ ". Full AttributeTypeDef: " + newAttributeTypeDef);
-                }
+            }
+            else if (log.isDebugEnabled())
+            {
+                log.debug("New Known Attribute Type " + newAttributeTypeDef.getName() + " from " + sourceName+ ". Full AttributeTypeDef: " + newAttributeTypeDef);
             }
         }
     }
@@ -225,7 +228,10 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 activeTypeDefGUIDs.put(typeDef.getGUID(), typeDef);
                 activeTypeDefNames.put(typeDef.getName(), typeDef);
 
-                log.debug("Updated Active Type " + typeDef.getName() + " from " + sourceName + ". Full TypeDef: " + typeDef);
+                if (log.isDebugEnabled())
+                {
+                    log.debug("Updated Active Type " + typeDef.getName() + " from " + sourceName + ". Full TypeDef: " + typeDef);
+                }
             }
         }
     }
@@ -2276,8 +2282,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                auditCode.getSystemAction(),
                                auditCode.getUserAction());
 
-            log.debug("TypeDef not added because repository does not support dynamic type definitions: " + typeDef);
-            log.debug("TypeDefNotSupportedException:", fixedTypeSystemResponse);
+            if (log.isDebugEnabled())
+            {
+                log.debug("TypeDef not added because repository does not support dynamic type definitions: " + typeDef);
+                log.debug("TypeDefNotSupportedException:", fixedTypeSystemResponse);
+            }
         }
         catch (RepositoryErrorException error)
         {
@@ -2424,8 +2433,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                auditCode.getSystemAction(),
                                auditCode.getUserAction());
 
-            log.debug("TypeDef not added because repository does not support dynamic type definitions: " + attributeTypeDef);
-            log.debug("TypeDefNotSupportedException:", fixedTypeSystemResponse);
+            if (log.isDebugEnabled())
+            {
+                log.debug("TypeDef not added because repository does not support dynamic type definitions: " + attributeTypeDef);
+                log.debug("TypeDefNotSupportedException:", fixedTypeSystemResponse);
+            }
         }
         catch (RepositoryErrorException error)
         {
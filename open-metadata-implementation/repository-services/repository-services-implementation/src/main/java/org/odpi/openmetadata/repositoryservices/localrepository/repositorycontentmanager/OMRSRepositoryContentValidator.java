@@ -8,7 +8,9 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSMatchPropertiesMatcher;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSSearchCriteriaMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
@@ -3514,13 +3516,64 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
      */
     public int countMatchingPropertyValues(InstanceProperties       matchProperties,
                                            InstanceProperties       instanceProperties) throws InvalidParameterException
+    {
+        return this.countMatchingPropertyValues(this.compileMatchProperties(matchProperties), instanceProperties);
+    }
+
+
+    /**
+     * Return the compiled form of the match properties.  The string form of each match property value is
+     * worked out once, and each regular expression is compiled once, for all of the instances tested.
+     *
+     * @param matchProperties the properties to match.
+     * @return compiled match properties (null if the match properties are null)
+     */
+    public OMRSMatchPropertiesMatcher compileMatchProperties(InstanceProperties matchProperties)
+    {
+        if (matchProperties == null)
+        {
+            return null;
+        }
+
+        Map<String, String> matchPropertyStrings = new HashMap<>();
+        Iterator<String>    matchPropertyNames   = matchProperties.getPropertyNames();
+
+        while (matchPropertyNames.hasNext())
+        {
+            String matchPropertyName = matchPropertyNames.next();
+
+            if (matchPropertyName != null)
+            {
+                InstancePropertyValue matchPropertyValue = matchProperties.getPropertyValue(matchPropertyName);
+
+                if (matchPropertyValue != null)
+                {
+                    matchPropertyStrings.put(matchPropertyName, this.getStringFromPropertyValue(matchPropertyValue));
+                }
+            }
+        }
+
+        return new OMRSMatchPropertiesMatcher(matchProperties, matchPropertyStrings);
+    }
+
+
+    /**
+     * Count the number of matching property values that an instance has using the compiled match properties.
+     *
+     * @param matchProperties compiled properties to match.
+     * @param instanceProperties the properties from the instance.
+     * @return integer count of the matching properties.
+     * @throws InvalidParameterException invalid search criteria
+     */
+    public int countMatchingPropertyValues(OMRSMatchPropertiesMatcher matchProperties,
+                                           InstanceProperties         instanceProperties) throws InvalidParameterException
     {
         final String  methodName = "countMatchingPropertyValues";
         int       matchingProperties = 0;
 
         if ((matchProperties != null) && (instanceProperties != null))
         {
-            Iterator<String> matchPropertyNames = matchProperties.getPropertyNames();
+            Iterator<String> matchPropertyNames = matchProperties.getMatchProperties().getPropertyNames();
 
             while (matchPropertyNames.hasNext())
             {
@@ -3528,11 +3581,11 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                 if (matchPropertyName != null)
                 {
-                    InstancePropertyValue matchPropertyValue = matchProperties.getPropertyValue(matchPropertyName);
+                    InstancePropertyValue matchPropertyValue = matchProperties.getMatchProperties().getPropertyValue(matchPropertyName);
 
                     if (matchPropertyValue != null)
                     {
-                        String           matchPropertyValueString = this.getStringFromPropertyValue(matchPropertyValue);
+                        String           matchPropertyValueString = matchProperties.getMatchPropertyString(matchPropertyName);
                         Iterator<String> instancePropertyNames    = instanceProperties.getPropertyNames();
 
                         while (instancePropertyNames.hasNext())
@@ -3636,7 +3689,18 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                 {
                                                     try
                                                     {
-                                                        if (instancePropertyValueString.matches(matchPropertyValueString))
+                                                        OMRSSearchCriteriaMatcher matcher;
+
+                                                        if (matchOption == MatchOption.RegexContainsMatch)
+                                                        {
+                                                            matcher = matchProperties.getContainsMatcher(matchPropertyName);
+                                                        }
+                                                        else
+                                                        {
+                                                            matcher = matchProperties.getFullMatcher(matchPropertyName);
+                                                        }
+
+                                                        if (matcher.matches(instancePropertyValueString))
                                                         {
                                                             matchingProperties++;
                                                         }
@@ -3674,14 +3738,16 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
 
     /**
-     * Return true if the expected value is in the property map.
+     * Return true if the expected value matches the search criteria (a regular expression) in the property map.
      *
+     * @param matchProperties compiled form of the property map
      * @param propertyMap map with the properties
      * @param propertyName name of the property to test
      * @param expectedValue expected value
      * @return boolean result
      */
-    private  boolean  checkStringPropertyValue(Map<String, InstancePropertyValue>   propertyMap,
+    private  boolean  checkStringPropertyValue(OMRSMatchPropertiesMatcher           matchProperties,
+                                               Map<String, InstancePropertyValue>   propertyMap,
                                                String                               propertyName,
                                                String                               expectedValue)
     {
@@ -3697,9 +3763,9 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                     PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue)instancePropertyValue;
                     String                 matchValue = (String)primitivePropertyValue.getPrimitiveValue();
 
-                    if (matchValue != null)
+                    if ((matchValue != null) && (expectedValue != null))
                     {
-                        if (matchValue.matches(expectedValue))
+                        if (matchProperties.getFullMatcher(propertyName).matches(expectedValue))
                         {
                             result = true;
                         }
@@ -3775,6 +3841,25 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     public int countMatchingHeaderPropertyValues(InstanceProperties       matchProperties,
                                                  InstanceAuditHeader      instanceHeader,
                                                  InstanceProperties       instanceProperties)
+    {
+        return this.countMatchingHeaderPropertyValues(this.compileMatchProperties(matchProperties),
+                                                      instanceHeader,
+                                                      instanceProperties);
+    }
+
+
+    /**
+     * Count the number of matching header property values that an instance has using the compiled match
+     * properties.
+     *
+     * @param matchProperties  compiled properties to match.
+     * @param instanceHeader  the header properties from the instance.
+     * @param instanceProperties  the effectivity dates.
+     * @return integer count of the matching properties.
+     */
+    public int countMatchingHeaderPropertyValues(OMRSMatchPropertiesMatcher matchProperties,
+                                                 InstanceAuditHeader        instanceHeader,
+                                                 InstanceProperties         instanceProperties)
     {
         final String metadataCollectionIdPropertyName = "metadataCollectionId";
         final String metadataCollectionNamePropertyName = "metadataCollectionName";
@@ -3791,31 +3876,31 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if ((matchProperties != null) && (instanceHeader != null))
         {
-            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getMatchProperties().getInstanceProperties();
 
             if (propertyMap != null)
             {
-                if (this.checkStringPropertyValue(propertyMap, metadataCollectionIdPropertyName, instanceHeader.getMetadataCollectionId()))
+                if (this.checkStringPropertyValue(matchProperties, propertyMap, metadataCollectionIdPropertyName, instanceHeader.getMetadataCollectionId()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, metadataCollectionNamePropertyName, instanceHeader.getMetadataCollectionName()))
+                if (this.checkStringPropertyValue(matchProperties, propertyMap, metadataCollectionNamePropertyName, instanceHeader.getMetadataCollectionName()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, typeNamePropertyName, instanceHeader.getType().getTypeDefName()))
+                if (this.checkStringPropertyValue(matchProperties, propertyMap, typeNamePropertyName, instanceHeader.getType().getTypeDefName()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, typeGUIDPropertyName, instanceHeader.getType().getTypeDefGUID()))
+                if (this.checkStringPropertyValue(matchProperties, propertyMap, typeGUIDPropertyName, instanceHeader.getType().getTypeDefGUID()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, createdByPropertyName, instanceHeader.getCreatedBy()))
+                if (this.checkStringPropertyValue(matchProperties, propertyMap, createdByPropertyName, instanceHeader.getCreatedBy()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, updatedByPropertyName, instanceHeader.getUpdatedBy()))
+                if (this.checkStringPropertyValue(matchProperties, propertyMap, updatedByPropertyName, instanceHeader.getUpdatedBy()))
                 {
                     matchingProperties ++;
                 }
@@ -3859,7 +3944,29 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                         InstanceProperties   instanceProperties,
                                                         MatchCriteria        matchCriteria) throws InvalidParameterException
     {
-        if (matchProperties != null && matchProperties.getInstanceProperties() != null)
+        return this.verifyMatchingInstancePropertyValues(this.compileMatchProperties(matchProperties),
+                                                         instanceHeader,
+                                                         instanceProperties,
+                                                         matchCriteria);
+    }
+
+
+    /**
+     * Determine if the instance properties match the compiled match properties.
+     *
+     * @param matchProperties  compiled properties to match.
+     * @param instanceHeader the header of the instance.
+     * @param instanceProperties  the properties from the instance.
+     * @param matchCriteria  rule on how the match should occur.
+     * @return boolean flag indicating whether the two sets of properties match
+     * @throws InvalidParameterException invalid search criteria
+     */
+    public boolean verifyMatchingInstancePropertyValues(OMRSMatchPropertiesMatcher matchProperties,
+                                                        InstanceAuditHeader        instanceHeader,
+                                                        InstanceProperties         instanceProperties,
+                                                        MatchCriteria              matchCriteria) throws InvalidParameterException
+    {
+        if (matchProperties != null && matchProperties.getMatchProperties().getInstanceProperties() != null)
         {
             int matchingProperties = this.countMatchingPropertyValues(matchProperties, instanceProperties) +
                                      this.countMatchingHeaderPropertyValues(matchProperties, instanceHeader, instanceProperties);
@@ -3867,7 +3974,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             switch (matchCriteria)
             {
                 case ALL:
-                    if (matchingProperties == matchProperties.getPropertyCount())
+                    if (matchingProperties == matchProperties.getMatchProperties().getPropertyCount())
                     {
                         return true;
                     }
@@ -4037,6 +4144,51 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             return false;
         }
 
+        OMRSSearchCriteriaMatcher searchCriteriaMatcher;
+
+        try
+        {
+            searchCriteriaMatcher = OMRSSearchCriteriaMatcher.compile(searchCriteria);
+        }
+        catch (Throwable   error)
+        {
+            OMRSErrorCode errorCode = OMRSErrorCode.BAD_PROPERTY_FOR_INSTANCE;
+            String errorMessage = errorCode.getErrorMessageId()
+                                + errorCode.getFormattedErrorMessage(sourceName, methodName);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               errorMessage,
+                                               errorCode.getSystemAction(),
+                                               errorCode.getUserAction(),
+                                               error);
+        }
+
+        return this.verifyInstancePropertiesMatchSearchCriteria(sourceName, properties, searchCriteriaMatcher, methodName);
+    }
+
+
+    /**
+     * Search for property values matching the compiled search criteria.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param properties list of properties associated with the in instance
+     * @param searchCriteria compiled regular expression for testing the property values
+     * @param methodName name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException the properties are not properly set up in the instance
+     */
+    public boolean verifyInstancePropertiesMatchSearchCriteria(String                    sourceName,
+                                                               InstanceProperties        properties,
+                                                               OMRSSearchCriteriaMatcher searchCriteria,
+                                                               String                    methodName) throws RepositoryErrorException
+    {
+        if (properties == null)
+        {
+            return false;
+        }
+
         Iterator<String>  propertyNames = properties.getPropertyNames();
 
         try
@@ -4055,7 +4207,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (searchCriteria.matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -4069,7 +4221,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (searchCriteria.matches(enumValue))
                             {
                                 return true;
                             }
@@ -80,6 +80,9 @@ public class OMRSCohortManager
      * @param cohortTopicConnection Connection to the cohort's OMRS Topic.
      * @param enterpriseTopicConnector Connector to the federated OMRS Topic.
      * @param inboundEventExchangeRule rule for processing inbound events.
+     * @param eventDeliveryQueueSize number of inbound events that can wait for each delivery thread
+     *                               (zero means events are delivered on the thread that received them).
+     * @param eventDeliveryThreads number of delivery threads for each consumer of inbound events.
      */
     public void initialize(String                           cohortName,
                            String                           localMetadataCollectionId,
@@ -94,7 +97,9 @@ public class OMRSCohortManager
                            OMRSCohortRegistryStore          cohortRegistryStore,
                            Connection                       cohortTopicConnection,
                            OMRSTopicConnector               cohortTopicConnector,
-                           OMRSRepositoryEventExchangeRule  inboundEventExchangeRule)
+                           OMRSRepositoryEventExchangeRule  inboundEventExchangeRule,
+                           int                              eventDeliveryQueueSize,
+                           int                              eventDeliveryThreads)
     {
         final String   actionDescription = "Initialize Cohort Manager";
 
@@ -129,6 +134,7 @@ public class OMRSCohortManager
                                                                                inboundEventExchangeRule,
                                                                                new OMRSRepositoryContentValidator(localRepositoryContentManager),
                                                                                auditLog.createNewAuditLog(OMRSAuditingComponent.REPOSITORY_EVENT_MANAGER));
+            this.cohortRepositoryEventManager.setAsynchronousDelivery(eventDeliveryQueueSize, eventDeliveryThreads);
 
             /*
              * Create an event publisher for the cohort registry to use to send registration requests.
@@ -209,13 +215,15 @@ public class OMRSCohortManager
 
             /*
              * If the enterprise repositoryservices topic is active, then register an event publisher for it.
-             * This topic is active if the Open Metadata Access Services (OMASs) are active.
+             * This topic is active if the Open Metadata Access Services (OMASs) are active.  The OMASs react to
+             * the events about individual instances so each batch of instances is sent as new instance events.
              */
             if (enterpriseTopicConnector != null)
             {
                 OMRSRepositoryEventPublisher enterpriseEventPublisher = new OMRSRepositoryEventPublisher("Cohort to Enterprise",
                                                                                                          enterpriseTopicConnector,
-                                                                                                         auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
+                                                                                                         auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER),
+                                                                                                         true);
 
                 this.cohortRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
             }
@@ -375,6 +383,11 @@ public class OMRSCohortManager
                 cohortTopicConnector.disconnect();
             }
 
+            if (cohortRepositoryEventManager != null)
+            {
+                cohortRepositoryEventManager.stop();
+            }
+
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTED;
         }
         catch (ConnectorCheckedException   error)
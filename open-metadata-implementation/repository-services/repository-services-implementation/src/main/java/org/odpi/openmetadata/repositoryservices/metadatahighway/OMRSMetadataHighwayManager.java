@@ -195,7 +195,9 @@ public class OMRSMetadataHighwayManager
                                      cohortRegistryStore,
                                      cohortConfig.getCohortOMRSTopicConnection(),
                                      cohortTopicConnector,
-                                     inboundEventExchangeRule);
+                                     inboundEventExchangeRule,
+                                     cohortConfig.getEventDeliveryQueueSize(),
+                                     cohortConfig.getEventDeliveryThreads());
 
             /*
              * The cohort manager is only added to the list if it initializes successfully.
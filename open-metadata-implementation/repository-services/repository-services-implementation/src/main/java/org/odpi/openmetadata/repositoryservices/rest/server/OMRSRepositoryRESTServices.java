@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.rest.server;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.adminservices.configuration.registration.CommonServicesDescription;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -14,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
@@ -23,11 +23,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -1978,6 +1985,65 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are
+     * not known, are only proxies or are deleted are left out of the result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures in the order of the requested guids or
+     * InvalidParameterException the guid list or one of its guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntitiesByGUIDs(String          serverName,
+                                                 String          userId,
+                                                 GUIDListRequest guidListRequest)
+    {
+        final  String   methodName = "getEntitiesByGUIDs";
+
+        log.debug("Calling method: " + methodName);
+
+        EntityListResponse response = new EntityListResponse();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<String> guids = null;
+            if (guidListRequest != null)
+            {
+                guids = guidListRequest.getGUIDs();
+            }
+
+            response.setEntities(metadataCollection.getEntitiesByGUIDs(userId, guids));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -2231,6 +2297,101 @@ public class OMRSRepositoryRESTServices
         return response;
     }
 
+    /**
+     * Return the number of relationships for a specific entity.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the counted results.  The paging and
+     *                              sequencing parameters are ignored.
+     * @return CountResponse:
+     * count of the relationships associated with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException there is a problem with one of the other parameters or
+     * PagingErrorException there is a problem with one of the other parameters or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public CountResponse countRelationshipsForEntity(String                               serverName,
+                                                     String                               userId,
+                                                     String                               entityGUID,
+                                                     TypeLimitedHistoricalFindRequest     findRequestParameters)
+    {
+        final  String   methodName = "countRelationshipsForEntity";
+
+        log.debug("Calling method: " + methodName);
+
+        String               relationshipTypeGUID    = null;
+        List<InstanceStatus> limitResultsByStatus    = null;
+        Date                 asOfTime                = null;
+
+        CountResponse response = new CountResponse();
+
+        if (findRequestParameters != null)
+        {
+            relationshipTypeGUID    = findRequestParameters.getTypeGUID();
+            limitResultsByStatus    = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                = findRequestParameters.getAsOfTime();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setCount(metadataCollection.countRelationshipsForEntity(userId,
+                                                                             entityGUID,
+                                                                             relationshipTypeGUID,
+                                                                             limitResultsByStatus,
+                                                                             asOfTime));
+        }
+        catch (RepositoryErrorException error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
 
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
@@ -2493,93 +2654,82 @@ public class OMRSRepositoryRESTServices
 
 
     /**
-     * Return a list of entities that have the requested type of classification attached.
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
      *
      * @param serverName unique identifier for requested server.
      * @param userId unique identifier for requesting user.
-     * @param classificationName name of the classification a null is not valid.
      * @param findRequestParameters find parameters used to limit the returned results.
      * @return EntityListResponse:
-     * a list of entities matching the supplied criteria where null means no matching entities in the metadata
-     * collection or
+     * a list of entities matching the supplied criteria along with the token for the next page (null if this is the
+     * last page) or
      * InvalidParameterException a parameter is invalid or null or
      * TypeErrorException the type guid passed on the request is not known by the metadata collection or
      * RepositoryErrorException there is a problem communicating with the metadata repository where
      *                                    the metadata collection is stored or
-     * ClassificationErrorException the classification request is not known to the metadata collection.
-     * PropertyErrorException the properties specified are not valid for the requested type of
-     *                                  classification or
-     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  EntityListResponse findEntitiesByClassification(String                   serverName,
-                                                            String                   userId,
-                                                            String                   classificationName,
-                                                            PropertyMatchFindRequest findRequestParameters)
+    public  EntityListResponse findEntityPageByProperty(String                              serverName,
+                                                        String                              userId,
+                                                        EntityPropertyHistoricalFindRequest findRequestParameters)
     {
-        final  String   methodName = "findEntitiesByClassification";
+        final  String   methodName = "findEntityPageByProperty";
 
         log.debug("Calling method: " + methodName);
 
-        String               entityTypeGUID                     = null;
-        InstanceProperties   matchClassificationProperties      = null;
-        MatchCriteria        matchCriteria                      = null;
-        int                  fromEntityElement                  = 0;
-        List<InstanceStatus> limitResultsByStatus               = null;
-        String               sequencingProperty                 = null;
-        SequencingOrder      sequencingOrder                    = null;
-        int                  pageSize                           = 0;
+        String                    entityTypeGUID                    = null;
+        InstanceProperties        matchProperties                   = null;
+        MatchCriteria             matchCriteria                     = null;
+        String                    pageToken                         = null;
+        List<InstanceStatus>      limitResultsByStatus              = null;
+        List<String>              limitResultsByClassification      = null;
+        Date                      asOfTime                          = null;
+        String                    sequencingProperty                = null;
+        SequencingOrder           sequencingOrder                   = null;
+        int                       pageSize                          = 0;
 
         EntityListResponse response = new EntityListResponse();
 
         if (findRequestParameters != null)
         {
-            entityTypeGUID                     = findRequestParameters.getTypeGUID();
-            matchClassificationProperties      = findRequestParameters.getMatchProperties();
-            matchCriteria                      = findRequestParameters.getMatchCriteria();
-            fromEntityElement                  = findRequestParameters.getOffset();
-            limitResultsByStatus               = findRequestParameters.getLimitResultsByStatus();
-            sequencingProperty                 = findRequestParameters.getSequencingProperty();
-            sequencingOrder                    = findRequestParameters.getSequencingOrder();
-            pageSize                           = findRequestParameters.getPageSize();
+            entityTypeGUID                    = findRequestParameters.getTypeGUID();
+            matchProperties                   = findRequestParameters.getMatchProperties();
+            matchCriteria                     = findRequestParameters.getMatchCriteria();
+            pageToken                         = findRequestParameters.getPageToken();
+            limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            limitResultsByClassification      = findRequestParameters.getLimitResultsByClassification();
+            asOfTime                          = findRequestParameters.getAsOfTime();
+            sequencingProperty                = findRequestParameters.getSequencingProperty();
+            sequencingOrder                   = findRequestParameters.getSequencingOrder();
+            pageSize                          = findRequestParameters.getPageSize();
         }
 
         try
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            List<EntityDetail>  entities = metadataCollection.findEntitiesByClassification(userId,
-                                                                                           entityTypeGUID,
-                                                                                           classificationName,
-                                                                                           matchClassificationProperties,
-                                                                                           matchCriteria,
-                                                                                           fromEntityElement,
-                                                                                           limitResultsByStatus,
-                                                                                           null,
-                                                                                           sequencingProperty,
-                                                                                           sequencingOrder,
-                                                                                           pageSize);
-            response.setEntities(entities);
-            if (entities != null)
+            InstancePage  page = metadataCollection.findEntityPageByProperty(userId,
+                                                                             entityTypeGUID,
+                                                                             matchProperties,
+                                                                             matchCriteria,
+                                                                             pageToken,
+                                                                             limitResultsByStatus,
+                                                                             limitResultsByClassification,
+                                                                             asOfTime,
+                                                                             sequencingProperty,
+                                                                             sequencingOrder,
+                                                                             pageSize);
+            if (page != null)
             {
-                response.setOffset(fromEntityElement);
-                response.setPageSize(pageSize);
-                if (entities.size() == pageSize)
-                {
-                    final String urlTemplate = "{0}/instances/entities/by-classification/{1}";
-
-                    PropertyMatchFindRequest nextFindRequestParameters = new PropertyMatchFindRequest(findRequestParameters);
-                    nextFindRequestParameters.setOffset(fromEntityElement + pageSize);
-                    response.setNextPageURL(formatNextPageURL(methodName,
-                                                              serverName,
-                                                              userId,
-                                                              urlTemplate,
-                                                              nextFindRequestParameters,
-                                                              userId,
-                                                              classificationName));
-                }
+                response.setEntities(page.getEntities());
+                response.setNextPageToken(page.getNextPageToken());
             }
+            response.setPageSize(pageSize);
         }
         catch (RepositoryErrorException  error)
         {
@@ -2609,10 +2759,6 @@ public class OMRSRepositoryRESTServices
         {
             capturePagingErrorException(response, error);
         }
-        catch (ClassificationErrorException error)
-        {
-            captureClassificationErrorException(response, error);
-        }
         catch (Throwable error)
         {
             captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
@@ -2625,67 +2771,395 @@ public class OMRSRepositoryRESTServices
 
 
     /**
-     * Return a list of entities that have the requested type of classification attached.
-     *
-     * @param serverName unique identifier for requested server.
-     * @param userId unique identifier for requesting user.
-     * @param classificationName name of the classification a null is not valid.
-     * @param findRequestParameters find parameters used to limit the returned results.
-     * @return EntityListResponse:
-     * a list of entities matching the supplied criteria where null means no matching entities in the metadata
-     * collection or
-     * InvalidParameterException a parameter is invalid or null or
+     * Write all of the entities in the metadata collection, optionally limited to a type (and its subtypes),
+     * a home metadata collection and a list of statuses, to the response stream as newline delimited JSON (one
+     * entity per line).  The entities are retrieved from the repository and written a page at a time so
+     * the whole metadata collection can be exported in a fixed amount of memory.  If the scan fails, the
+     * last line is a VoidResponse that describes the exception:
+     * InvalidParameterException one of the parameters is invalid or null or
      * TypeErrorException the type guid passed on the request is not known by the metadata collection or
      * RepositoryErrorException there is a problem communicating with the metadata repository where
      *                                    the metadata collection is stored or
-     * ClassificationErrorException the classification request is not known to the metadata collection.
-     * PropertyErrorException the properties specified are not valid for the requested type of
-     *                                  classification or
-     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
-     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * PagingErrorException the page size is invalid or
+     * FunctionNotSupportedException the repository does not support the scan or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param scanRequestParameters scan parameters used to limit the returned results.
+     * @param responseStream stream to write the entities to.
      */
-    public  EntityListResponse findEntitiesByClassificationHistory(String                              serverName,
-                                                                   String                              userId,
-                                                                   String                              classificationName,
-                                                                   PropertyMatchHistoricalFindRequest  findRequestParameters)
+    public  void scanEntities(String              serverName,
+                              String              userId,
+                              InstanceScanRequest scanRequestParameters,
+                              OutputStream        responseStream)
     {
-        final  String   methodName = "findEntitiesByClassificationHistory";
+        final  String   methodName = "scanEntities";
 
         log.debug("Calling method: " + methodName);
 
-        String               entityTypeGUID                     = null;
-        InstanceProperties   matchClassificationProperties      = null;
-        MatchCriteria        matchCriteria                      = null;
-        int                  fromEntityElement                  = 0;
-        List<InstanceStatus> limitResultsByStatus               = null;
-        Date                 asOfTime                           = null;
-        String               sequencingProperty                 = null;
-        SequencingOrder      sequencingOrder                    = null;
-        int                  pageSize                           = 0;
+        String                    entityTypeGUID = null;
+        String                    homeMetadataCollectionId = null;
+        List<InstanceStatus>      limitResultsByStatus = null;
+        int                       pageSize = 0;
 
-        EntityListResponse response = new EntityListResponse();
+        VoidResponse response = new VoidResponse();
 
-        if (findRequestParameters != null)
+        if (scanRequestParameters != null)
         {
-            entityTypeGUID                     = findRequestParameters.getTypeGUID();
-            matchClassificationProperties      = findRequestParameters.getMatchProperties();
-            matchCriteria                      = findRequestParameters.getMatchCriteria();
-            fromEntityElement                  = findRequestParameters.getOffset();
-            limitResultsByStatus               = findRequestParameters.getLimitResultsByStatus();
-            sequencingProperty                 = findRequestParameters.getSequencingProperty();
-            sequencingOrder                    = findRequestParameters.getSequencingOrder();
-            pageSize                           = findRequestParameters.getPageSize();
-            asOfTime                           = findRequestParameters.getAsOfTime();
+            entityTypeGUID = scanRequestParameters.getTypeGUID();
+            homeMetadataCollectionId = scanRequestParameters.getHomeMetadataCollectionId();
+            limitResultsByStatus = scanRequestParameters.getLimitResultsByStatus();
+            pageSize = scanRequestParameters.getPageSize();
         }
 
         try
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            List<EntityDetail>  entities = metadataCollection.findEntitiesByClassification(userId,
-                                                                                           entityTypeGUID,
-                                                                                           classificationName,
+            Iterator<EntityDetail> entities = metadataCollection.scanEntities(userId,
+                                                                              entityTypeGUID,
+                                                                              homeMetadataCollectionId,
+                                                                              limitResultsByStatus,
+                                                                              pageSize);
+
+            this.writeScanResults(entities, pageSize, responseStream);
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (OMRSRuntimeException error)
+        {
+            captureOMRSRuntimeException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        this.writeScanError(response, responseStream, methodName);
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+    }
+
+
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters find parameters used to limit the counted results.  The paging and
+     *                              sequencing parameters are ignored.
+     * @return CountResponse:
+     * count of the entities matching the supplied criteria or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException there is a problem with one of the other parameters or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  CountResponse countEntitiesByProperty(String                              serverName,
+                                                  String                              userId,
+                                                  EntityPropertyHistoricalFindRequest findRequestParameters)
+    {
+        final  String   methodName = "countEntitiesByProperty";
+
+        log.debug("Calling method: " + methodName);
+
+        String               entityTypeGUID               = null;
+        InstanceProperties   matchProperties              = null;
+        MatchCriteria        matchCriteria                = null;
+        List<InstanceStatus> limitResultsByStatus         = null;
+        List<String>         limitResultsByClassification = null;
+        Date                 asOfTime                     = null;
+
+        CountResponse response = new CountResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID               = findRequestParameters.getTypeGUID();
+            matchProperties              = findRequestParameters.getMatchProperties();
+            matchCriteria                = findRequestParameters.getMatchCriteria();
+            limitResultsByStatus         = findRequestParameters.getLimitResultsByStatus();
+            limitResultsByClassification = findRequestParameters.getLimitResultsByClassification();
+            asOfTime                     = findRequestParameters.getAsOfTime();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setCount(metadataCollection.countEntitiesByProperty(userId,
+                                                                         entityTypeGUID,
+                                                                         matchProperties,
+                                                                         matchCriteria,
+                                                                         limitResultsByStatus,
+                                                                         limitResultsByClassification,
+                                                                         asOfTime));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+
+    /**
+     * Return a list of entities that have the requested type of classification attached.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName name of the classification a null is not valid.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria where null means no matching entities in the metadata
+     * collection or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * ClassificationErrorException the classification request is not known to the metadata collection.
+     * PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  EntityListResponse findEntitiesByClassification(String                   serverName,
+                                                            String                   userId,
+                                                            String                   classificationName,
+                                                            PropertyMatchFindRequest findRequestParameters)
+    {
+        final  String   methodName = "findEntitiesByClassification";
+
+        log.debug("Calling method: " + methodName);
+
+        String               entityTypeGUID                     = null;
+        InstanceProperties   matchClassificationProperties      = null;
+        MatchCriteria        matchCriteria                      = null;
+        int                  fromEntityElement                  = 0;
+        List<InstanceStatus> limitResultsByStatus               = null;
+        String               sequencingProperty                 = null;
+        SequencingOrder      sequencingOrder                    = null;
+        int                  pageSize                           = 0;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID                     = findRequestParameters.getTypeGUID();
+            matchClassificationProperties      = findRequestParameters.getMatchProperties();
+            matchCriteria                      = findRequestParameters.getMatchCriteria();
+            fromEntityElement                  = findRequestParameters.getOffset();
+            limitResultsByStatus               = findRequestParameters.getLimitResultsByStatus();
+            sequencingProperty                 = findRequestParameters.getSequencingProperty();
+            sequencingOrder                    = findRequestParameters.getSequencingOrder();
+            pageSize                           = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<EntityDetail>  entities = metadataCollection.findEntitiesByClassification(userId,
+                                                                                           entityTypeGUID,
+                                                                                           classificationName,
+                                                                                           matchClassificationProperties,
+                                                                                           matchCriteria,
+                                                                                           fromEntityElement,
+                                                                                           limitResultsByStatus,
+                                                                                           null,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder,
+                                                                                           pageSize);
+            response.setEntities(entities);
+            if (entities != null)
+            {
+                response.setOffset(fromEntityElement);
+                response.setPageSize(pageSize);
+                if (entities.size() == pageSize)
+                {
+                    final String urlTemplate = "{0}/instances/entities/by-classification/{1}";
+
+                    PropertyMatchFindRequest nextFindRequestParameters = new PropertyMatchFindRequest(findRequestParameters);
+                    nextFindRequestParameters.setOffset(fromEntityElement + pageSize);
+                    response.setNextPageURL(formatNextPageURL(methodName,
+                                                              serverName,
+                                                              userId,
+                                                              urlTemplate,
+                                                              nextFindRequestParameters,
+                                                              userId,
+                                                              classificationName));
+                }
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return a list of entities that have the requested type of classification attached.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName name of the classification a null is not valid.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria where null means no matching entities in the metadata
+     * collection or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * ClassificationErrorException the classification request is not known to the metadata collection.
+     * PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  EntityListResponse findEntitiesByClassificationHistory(String                              serverName,
+                                                                   String                              userId,
+                                                                   String                              classificationName,
+                                                                   PropertyMatchHistoricalFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "findEntitiesByClassificationHistory";
+
+        log.debug("Calling method: " + methodName);
+
+        String               entityTypeGUID                     = null;
+        InstanceProperties   matchClassificationProperties      = null;
+        MatchCriteria        matchCriteria                      = null;
+        int                  fromEntityElement                  = 0;
+        List<InstanceStatus> limitResultsByStatus               = null;
+        Date                 asOfTime                           = null;
+        String               sequencingProperty                 = null;
+        SequencingOrder      sequencingOrder                    = null;
+        int                  pageSize                           = 0;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID                     = findRequestParameters.getTypeGUID();
+            matchClassificationProperties      = findRequestParameters.getMatchProperties();
+            matchCriteria                      = findRequestParameters.getMatchCriteria();
+            fromEntityElement                  = findRequestParameters.getOffset();
+            limitResultsByStatus               = findRequestParameters.getLimitResultsByStatus();
+            sequencingProperty                 = findRequestParameters.getSequencingProperty();
+            sequencingOrder                    = findRequestParameters.getSequencingOrder();
+            pageSize                           = findRequestParameters.getPageSize();
+            asOfTime                           = findRequestParameters.getAsOfTime();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<EntityDetail>  entities = metadataCollection.findEntitiesByClassification(userId,
+                                                                                           entityTypeGUID,
+                                                                                           classificationName,
                                                                                            matchClassificationProperties,
                                                                                            matchCriteria,
                                                                                            fromEntityElement,
@@ -2703,17 +3177,239 @@ public class OMRSRepositoryRESTServices
                 {
                     final String urlTemplate = "{0}/instances/entities/by-classification/{1}/history";
 
-                    PropertyMatchHistoricalFindRequest nextFindRequestParameters = new PropertyMatchHistoricalFindRequest(findRequestParameters);
-                    nextFindRequestParameters.setOffset(fromEntityElement + pageSize);
-                    response.setNextPageURL(formatNextPageURL(methodName,
-                                                              serverName,
-                                                              userId,
-                                                              urlTemplate,
-                                                              nextFindRequestParameters,
-                                                              userId,
-                                                              classificationName));
-                }
-            }
+                    PropertyMatchHistoricalFindRequest nextFindRequestParameters = new PropertyMatchHistoricalFindRequest(findRequestParameters);
+                    nextFindRequestParameters.setOffset(fromEntityElement + pageSize);
+                    response.setNextPageURL(formatNextPageURL(methodName,
+                                                              serverName,
+                                                              userId,
+                                                              urlTemplate,
+                                                              nextFindRequestParameters,
+                                                              userId,
+                                                              classificationName));
+                }
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName name of the classification a null is not valid.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria along with the token for the next page (null if this is the
+     * last page) or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * ClassificationErrorException the classification request is not known to the metadata collection.
+     * PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  EntityListResponse findEntityPageByClassification(String                              serverName,
+                                                              String                              userId,
+                                                              String                              classificationName,
+                                                              PropertyMatchHistoricalFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "findEntityPageByClassification";
+
+        log.debug("Calling method: " + methodName);
+
+        String               entityTypeGUID                     = null;
+        InstanceProperties   matchClassificationProperties      = null;
+        MatchCriteria        matchCriteria                      = null;
+        String               pageToken                          = null;
+        List<InstanceStatus> limitResultsByStatus               = null;
+        Date                 asOfTime                           = null;
+        String               sequencingProperty                 = null;
+        SequencingOrder      sequencingOrder                    = null;
+        int                  pageSize                           = 0;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID                     = findRequestParameters.getTypeGUID();
+            matchClassificationProperties      = findRequestParameters.getMatchProperties();
+            matchCriteria                      = findRequestParameters.getMatchCriteria();
+            pageToken                          = findRequestParameters.getPageToken();
+            limitResultsByStatus               = findRequestParameters.getLimitResultsByStatus();
+            sequencingProperty                 = findRequestParameters.getSequencingProperty();
+            sequencingOrder                    = findRequestParameters.getSequencingOrder();
+            pageSize                           = findRequestParameters.getPageSize();
+            asOfTime                           = findRequestParameters.getAsOfTime();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstancePage  page = metadataCollection.findEntityPageByClassification(userId,
+                                                                                   entityTypeGUID,
+                                                                                   classificationName,
+                                                                                   matchClassificationProperties,
+                                                                                   matchCriteria,
+                                                                                   pageToken,
+                                                                                   limitResultsByStatus,
+                                                                                   asOfTime,
+                                                                                   sequencingProperty,
+                                                                                   sequencingOrder,
+                                                                                   pageSize);
+            if (page != null)
+            {
+                response.setEntities(page.getEntities());
+                response.setNextPageToken(page.getNextPageToken());
+            }
+            response.setPageSize(pageSize);
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName name of the classification a null is not valid.
+     * @param findRequestParameters find parameters used to limit the counted results.  The paging and
+     *                              sequencing parameters are ignored.
+     * @return CountResponse:
+     * count of the entities matching the supplied criteria or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * ClassificationErrorException the classification request is not known to the metadata collection.
+     * PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification or
+     * PagingErrorException there is a problem with one of the other parameters or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  CountResponse countEntitiesByClassification(String                              serverName,
+                                                        String                              userId,
+                                                        String                              classificationName,
+                                                        PropertyMatchHistoricalFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "countEntitiesByClassification";
+
+        log.debug("Calling method: " + methodName);
+
+        String               entityTypeGUID                     = null;
+        InstanceProperties   matchClassificationProperties      = null;
+        MatchCriteria        matchCriteria                      = null;
+        List<InstanceStatus> limitResultsByStatus               = null;
+        Date                 asOfTime                           = null;
+
+        CountResponse response = new CountResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID                     = findRequestParameters.getTypeGUID();
+            matchClassificationProperties      = findRequestParameters.getMatchProperties();
+            matchCriteria                      = findRequestParameters.getMatchCriteria();
+            limitResultsByStatus               = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                           = findRequestParameters.getAsOfTime();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setCount(metadataCollection.countEntitiesByClassification(userId,
+                                                                               entityTypeGUID,
+                                                                               classificationName,
+                                                                               matchClassificationProperties,
+                                                                               matchCriteria,
+                                                                               limitResultsByStatus,
+                                                                               asOfTime));
         }
         catch (RepositoryErrorException  error)
         {
@@ -2758,6 +3454,7 @@ public class OMRSRepositoryRESTServices
     }
 
 
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -3010,6 +3707,119 @@ public class OMRSRepositoryRESTServices
         return response;
     }
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param searchCriteria String expression of the characteristics of the required entities.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria along with the token for the next page (null if this is the
+     * last page) or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  EntityListResponse findEntityPageByPropertyValue(String                              serverName,
+                                                             String                              userId,
+                                                             String                              searchCriteria,
+                                                             EntityPropertyHistoricalFindRequest findRequestParameters)
+    {
+        final  String   methodName = "findEntityPageByPropertyValue";
+
+        log.debug("Calling method: " + methodName);
+
+        String                  entityTypeGUID                    = null;
+        String                  pageToken                         = null;
+        List<InstanceStatus>    limitResultsByStatus              = null;
+        List<String>            limitResultsByClassification      = null;
+        Date                    asOfTime                          = null;
+        String                  sequencingProperty                = null;
+        SequencingOrder         sequencingOrder                   = null;
+        int                     pageSize                          = 0;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID                    = findRequestParameters.getTypeGUID();
+            pageToken                         = findRequestParameters.getPageToken();
+            limitResultsByClassification      = findRequestParameters.getLimitResultsByClassification();
+            limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                          = findRequestParameters.getAsOfTime();
+            sequencingProperty                = findRequestParameters.getSequencingProperty();
+            sequencingOrder                   = findRequestParameters.getSequencingOrder();
+            pageSize                          = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstancePage  page = metadataCollection.findEntityPageByPropertyValue(userId,
+                                                                                  entityTypeGUID,
+                                                                                  searchCriteria,
+                                                                                  pageToken,
+                                                                                  limitResultsByStatus,
+                                                                                  limitResultsByClassification,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  pageSize);
+            if (page != null)
+            {
+                response.setEntities(page.getEntities());
+                response.setNextPageToken(page.getNextPageToken());
+            }
+            response.setPageSize(pageSize);
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
 
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
@@ -3200,9 +4010,193 @@ public class OMRSRepositoryRESTServices
         {
             captureInvalidParameterException(response, error);
         }
-        catch (RelationshipNotKnownException error)
+        catch (RelationshipNotKnownException error)
+        {
+            captureRelationshipNotKnownException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return each of the requested relationships.  Relationships that are not known or are deleted are left out of
+     * the result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships in the order of the requested guids or
+     * InvalidParameterException the guid list or one of its guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipListResponse getRelationshipsByGUIDs(String          serverName,
+                                                           String          userId,
+                                                           GUIDListRequest guidListRequest)
+    {
+        final  String   methodName = "getRelationshipsByGUIDs";
+
+        log.debug("Calling method: " + methodName);
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<String> guids = null;
+            if (guidListRequest != null)
+            {
+                guids = guidListRequest.getGUIDs();
+            }
+
+            response.setRelationships(metadataCollection.getRelationshipsByGUIDs(userId, guids));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested properties by the matching criteria.   The results
+     * can be broken into pages.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * a list of relationships.  Null means no matching relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  RelationshipListResponse findRelationshipsByProperty(String                    serverName,
+                                                                 String                    userId,
+                                                                 PropertyMatchFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "findRelationshipsByProperty";
+
+        log.debug("Calling method: " + methodName);
+
+        String                    relationshipTypeGUID     = null;
+        InstanceProperties        matchProperties          = null;
+        MatchCriteria             matchCriteria            = null;
+        int                       fromRelationshipElement  = 0;
+        List<InstanceStatus>      limitResultsByStatus     = null;
+        String                    sequencingProperty       = null;
+        SequencingOrder           sequencingOrder          = null;
+        int                       pageSize                 = 0;
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        if (findRequestParameters != null)
+        {
+            relationshipTypeGUID              = findRequestParameters.getTypeGUID();
+            matchProperties                   = findRequestParameters.getMatchProperties();
+            matchCriteria                     = findRequestParameters.getMatchCriteria();
+            fromRelationshipElement           = findRequestParameters.getOffset();
+            limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            sequencingProperty                = findRequestParameters.getSequencingProperty();
+            sequencingOrder                   = findRequestParameters.getSequencingOrder();
+            pageSize                          = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<Relationship>  relationships = metadataCollection.findRelationshipsByProperty(userId,
+                                                                                               relationshipTypeGUID,
+                                                                                               matchProperties,
+                                                                                               matchCriteria,
+                                                                                               fromRelationshipElement,
+                                                                                               limitResultsByStatus,
+                                                                                               null,
+                                                                                               sequencingProperty,
+                                                                                               sequencingOrder,
+                                                                                               pageSize);
+            response.setRelationships(relationships);
+            if (relationships != null)
+            {
+                response.setOffset(fromRelationshipElement);
+                response.setPageSize(pageSize);
+                if (response.getRelationships().size() == pageSize)
+                {
+                    final String urlTemplate = "{0}/instances/relationships/by-property";
+
+                    PropertyMatchFindRequest nextFindRequestParameters = new PropertyMatchFindRequest(findRequestParameters);
+                    nextFindRequestParameters.setOffset(fromRelationshipElement + pageSize);
+
+                    response.setNextPageURL(formatNextPageURL(methodName,
+                                                              serverName,
+                                                              userId,
+                                                              urlTemplate,
+                                                              nextFindRequestParameters,
+                                                              userId));
+                }
+            }
+
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
         {
-            captureRelationshipNotKnownException(response, error);
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
         }
         catch (Throwable error)
         {
@@ -3234,11 +4228,11 @@ public class OMRSRepositoryRESTServices
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  RelationshipListResponse findRelationshipsByProperty(String                    serverName,
-                                                                 String                    userId,
-                                                                 PropertyMatchFindRequest  findRequestParameters)
+    public  RelationshipListResponse findRelationshipsByPropertyHistory(String                              serverName,
+                                                                        String                              userId,
+                                                                        PropertyMatchHistoricalFindRequest  findRequestParameters)
     {
-        final  String   methodName = "findRelationshipsByProperty";
+        final  String   methodName = "findRelationshipsByPropertyHistory";
 
         log.debug("Calling method: " + methodName);
 
@@ -3247,6 +4241,7 @@ public class OMRSRepositoryRESTServices
         MatchCriteria             matchCriteria            = null;
         int                       fromRelationshipElement  = 0;
         List<InstanceStatus>      limitResultsByStatus     = null;
+        Date                      asOfTime                 = null;
         String                    sequencingProperty       = null;
         SequencingOrder           sequencingOrder          = null;
         int                       pageSize                 = 0;
@@ -3260,6 +4255,7 @@ public class OMRSRepositoryRESTServices
             matchCriteria                     = findRequestParameters.getMatchCriteria();
             fromRelationshipElement           = findRequestParameters.getOffset();
             limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                          = findRequestParameters.getAsOfTime();
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
@@ -3275,7 +4271,7 @@ public class OMRSRepositoryRESTServices
                                                                                                matchCriteria,
                                                                                                fromRelationshipElement,
                                                                                                limitResultsByStatus,
-                                                                                               null,
+                                                                                               asOfTime,
                                                                                                sequencingProperty,
                                                                                                sequencingOrder,
                                                                                                pageSize);
@@ -3286,9 +4282,9 @@ public class OMRSRepositoryRESTServices
                 response.setPageSize(pageSize);
                 if (response.getRelationships().size() == pageSize)
                 {
-                    final String urlTemplate = "{0}/instances/relationships/by-property";
+                    final String urlTemplate = "{0}/instances/relationships/by-property/history";
 
-                    PropertyMatchFindRequest nextFindRequestParameters = new PropertyMatchFindRequest(findRequestParameters);
+                    PropertyMatchHistoricalFindRequest nextFindRequestParameters = new PropertyMatchHistoricalFindRequest(findRequestParameters);
                     nextFindRequestParameters.setOffset(fromRelationshipElement + pageSize);
 
                     response.setNextPageURL(formatNextPageURL(methodName,
@@ -3341,36 +4337,37 @@ public class OMRSRepositoryRESTServices
 
 
     /**
-     * Return a list of relationships that match the requested properties by the matching criteria.   The results
-     * can be broken into pages.
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
      *
      * @param serverName unique identifier for requested server.
-     * @param userId unique identifier for requesting user
+     * @param userId unique identifier for requesting user.
      * @param findRequestParameters find parameters used to limit the returned results.
      * @return RelationshipListResponse:
-     * a list of relationships.  Null means no matching relationships or
+     * a list of relationships along with the token for the next page (null if this is the last page) or
      * InvalidParameterException one of the parameters is invalid or null or
      * TypeErrorException the type guid passed on the request is not known by the metadata collection or
      * RepositoryErrorException there is a problem communicating with the metadata repository where
      *                                    the metadata collection is stored or
      * PropertyErrorException the properties specified are not valid for any of the requested types of
      *                                  relationships or
-     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  RelationshipListResponse findRelationshipsByPropertyHistory(String                              serverName,
-                                                                        String                              userId,
-                                                                        PropertyMatchHistoricalFindRequest  findRequestParameters)
+    public  RelationshipListResponse findRelationshipPageByProperty(String                              serverName,
+                                                                    String                              userId,
+                                                                    PropertyMatchHistoricalFindRequest  findRequestParameters)
     {
-        final  String   methodName = "findRelationshipsByPropertyHistory";
+        final  String   methodName = "findRelationshipPageByProperty";
 
         log.debug("Calling method: " + methodName);
 
         String                    relationshipTypeGUID     = null;
         InstanceProperties        matchProperties          = null;
         MatchCriteria             matchCriteria            = null;
-        int                       fromRelationshipElement  = 0;
+        String                    pageToken                = null;
         List<InstanceStatus>      limitResultsByStatus     = null;
         Date                      asOfTime                 = null;
         String                    sequencingProperty       = null;
@@ -3384,7 +4381,7 @@ public class OMRSRepositoryRESTServices
             relationshipTypeGUID              = findRequestParameters.getTypeGUID();
             matchProperties                   = findRequestParameters.getMatchProperties();
             matchCriteria                     = findRequestParameters.getMatchCriteria();
-            fromRelationshipElement           = findRequestParameters.getOffset();
+            pageToken                         = findRequestParameters.getPageToken();
             limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
             asOfTime                          = findRequestParameters.getAsOfTime();
             sequencingProperty                = findRequestParameters.getSequencingProperty();
@@ -3396,16 +4393,219 @@ public class OMRSRepositoryRESTServices
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            List<Relationship>  relationships = metadataCollection.findRelationshipsByProperty(userId,
-                                                                                               relationshipTypeGUID,
-                                                                                               matchProperties,
-                                                                                               matchCriteria,
-                                                                                               fromRelationshipElement,
-                                                                                               limitResultsByStatus,
-                                                                                               asOfTime,
-                                                                                               sequencingProperty,
-                                                                                               sequencingOrder,
-                                                                                               pageSize);
+            InstancePage  page = metadataCollection.findRelationshipPageByProperty(userId,
+                                                                                   relationshipTypeGUID,
+                                                                                   matchProperties,
+                                                                                   matchCriteria,
+                                                                                   pageToken,
+                                                                                   limitResultsByStatus,
+                                                                                   asOfTime,
+                                                                                   sequencingProperty,
+                                                                                   sequencingOrder,
+                                                                                   pageSize);
+            if (page != null)
+            {
+                response.setRelationships(page.getRelationships());
+                response.setNextPageToken(page.getNextPageToken());
+            }
+            response.setPageSize(pageSize);
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Write all of the relationships in the metadata collection, optionally limited to a type (and its subtypes),
+     * a home metadata collection and a list of statuses, to the response stream as newline delimited JSON (one
+     * relationship per line).  The relationships are retrieved from the repository and written a page at a time so
+     * the whole metadata collection can be exported in a fixed amount of memory.  If the scan fails, the
+     * last line is a VoidResponse that describes the exception:
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PagingErrorException the page size is invalid or
+     * FunctionNotSupportedException the repository does not support the scan or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param scanRequestParameters scan parameters used to limit the returned results.
+     * @param responseStream stream to write the relationships to.
+     */
+    public  void scanRelationships(String              serverName,
+                                   String              userId,
+                                   InstanceScanRequest scanRequestParameters,
+                                   OutputStream        responseStream)
+    {
+        final  String   methodName = "scanRelationships";
+
+        log.debug("Calling method: " + methodName);
+
+        String                    relationshipTypeGUID = null;
+        String                    homeMetadataCollectionId = null;
+        List<InstanceStatus>      limitResultsByStatus = null;
+        int                       pageSize = 0;
+
+        VoidResponse response = new VoidResponse();
+
+        if (scanRequestParameters != null)
+        {
+            relationshipTypeGUID = scanRequestParameters.getTypeGUID();
+            homeMetadataCollectionId = scanRequestParameters.getHomeMetadataCollectionId();
+            limitResultsByStatus = scanRequestParameters.getLimitResultsByStatus();
+            pageSize = scanRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            Iterator<Relationship> relationships = metadataCollection.scanRelationships(userId,
+                                                                                        relationshipTypeGUID,
+                                                                                        homeMetadataCollectionId,
+                                                                                        limitResultsByStatus,
+                                                                                        pageSize);
+
+            this.writeScanResults(relationships, pageSize, responseStream);
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (OMRSRuntimeException error)
+        {
+            captureOMRSRuntimeException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        this.writeScanError(response, responseStream, methodName);
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+    }
+
+
+    /**
+     * Return a list of relationships that match the search criteria.  The results can be paged.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param searchCriteria String expression of the characteristics of the required relationships.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * a list of relationships.  Null means no matching relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * PropertyErrorException there is a problem with one of the other parameters  or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  RelationshipListResponse findRelationshipsByPropertyValue(String                    serverName,
+                                                                      String                    userId,
+                                                                      String                    searchCriteria,
+                                                                      TypeLimitedFindRequest    findRequestParameters)
+    {
+        final  String   methodName = "findRelationshipsByPropertyValue";
+
+        log.debug("Calling method: " + methodName);
+
+        String                    relationshipTypeGUID     = null;
+        int                       fromRelationshipElement  = 0;
+        List<InstanceStatus>      limitResultsByStatus     = null;
+        String                    sequencingProperty       = null;
+        SequencingOrder           sequencingOrder          = null;
+        int                       pageSize                 = 0;
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        if (findRequestParameters != null)
+        {
+            relationshipTypeGUID              = findRequestParameters.getTypeGUID();
+            fromRelationshipElement           = findRequestParameters.getOffset();
+            limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            sequencingProperty                = findRequestParameters.getSequencingProperty();
+            sequencingOrder                   = findRequestParameters.getSequencingOrder();
+            pageSize                          = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<Relationship>  relationships = metadataCollection.findRelationshipsByPropertyValue(userId,
+                                                                                                    relationshipTypeGUID,
+                                                                                                    searchCriteria,
+                                                                                                    fromRelationshipElement,
+                                                                                                    limitResultsByStatus,
+                                                                                                    null,
+                                                                                                    sequencingProperty,
+                                                                                                    sequencingOrder,
+                                                                                                    pageSize);
             response.setRelationships(relationships);
             if (relationships != null)
             {
@@ -3413,9 +4613,9 @@ public class OMRSRepositoryRESTServices
                 response.setPageSize(pageSize);
                 if (response.getRelationships().size() == pageSize)
                 {
-                    final String urlTemplate = "{0}/instances/relationships/by-property/history";
+                    final String urlTemplate = "{0}/instances/relationships/by-property-value?searchCriteria={1}";
 
-                    PropertyMatchHistoricalFindRequest nextFindRequestParameters = new PropertyMatchHistoricalFindRequest(findRequestParameters);
+                    TypeLimitedFindRequest nextFindRequestParameters = new TypeLimitedFindRequest(findRequestParameters);
                     nextFindRequestParameters.setOffset(fromRelationshipElement + pageSize);
 
                     response.setNextPageURL(formatNextPageURL(methodName,
@@ -3423,7 +4623,8 @@ public class OMRSRepositoryRESTServices
                                                               userId,
                                                               urlTemplate,
                                                               nextFindRequestParameters,
-                                                              userId));
+                                                              userId,
+                                                              searchCriteria));
                 }
             }
 
@@ -3444,14 +4645,14 @@ public class OMRSRepositoryRESTServices
         {
             captureInvalidParameterException(response, error);
         }
-        catch (TypeErrorException error)
-        {
-            captureTypeErrorException(response, error);
-        }
         catch (PropertyErrorException error)
         {
             capturePropertyErrorException(response, error);
         }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
         catch (PagingErrorException error)
         {
             capturePagingErrorException(response, error);
@@ -3485,18 +4686,19 @@ public class OMRSRepositoryRESTServices
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  RelationshipListResponse findRelationshipsByPropertyValue(String                    serverName,
-                                                                      String                    userId,
-                                                                      String                    searchCriteria,
-                                                                      TypeLimitedFindRequest    findRequestParameters)
+    public  RelationshipListResponse findRelationshipsByPropertyValueHistory(String                              serverName,
+                                                                             String                              userId,
+                                                                             String                              searchCriteria,
+                                                                             TypeLimitedHistoricalFindRequest    findRequestParameters)
     {
-        final  String   methodName = "findRelationshipsByPropertyValue";
+        final  String   methodName = "findRelationshipsByPropertyValueHistory";
 
         log.debug("Calling method: " + methodName);
 
         String                    relationshipTypeGUID     = null;
         int                       fromRelationshipElement  = 0;
         List<InstanceStatus>      limitResultsByStatus     = null;
+        Date                      asOfTime                 = null;
         String                    sequencingProperty       = null;
         SequencingOrder           sequencingOrder          = null;
         int                       pageSize                 = 0;
@@ -3508,6 +4710,7 @@ public class OMRSRepositoryRESTServices
             relationshipTypeGUID              = findRequestParameters.getTypeGUID();
             fromRelationshipElement           = findRequestParameters.getOffset();
             limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                          = findRequestParameters.getAsOfTime();
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
@@ -3522,7 +4725,7 @@ public class OMRSRepositoryRESTServices
                                                                                                     searchCriteria,
                                                                                                     fromRelationshipElement,
                                                                                                     limitResultsByStatus,
-                                                                                                    null,
+                                                                                                    asOfTime,
                                                                                                     sequencingProperty,
                                                                                                     sequencingOrder,
                                                                                                     pageSize);
@@ -3533,9 +4736,9 @@ public class OMRSRepositoryRESTServices
                 response.setPageSize(pageSize);
                 if (response.getRelationships().size() == pageSize)
                 {
-                    final String urlTemplate = "{0}/instances/relationships/by-property-value?searchCriteria={1}";
+                    final String urlTemplate = "{0}/instances/relationships/by-property-value/history?searchCriteria={1}";
 
-                    TypeLimitedFindRequest nextFindRequestParameters = new TypeLimitedFindRequest(findRequestParameters);
+                    TypeLimitedHistoricalFindRequest nextFindRequestParameters = new TypeLimitedHistoricalFindRequest(findRequestParameters);
                     nextFindRequestParameters.setOffset(fromRelationshipElement + pageSize);
 
                     response.setNextPageURL(formatNextPageURL(methodName,
@@ -3587,36 +4790,37 @@ public class OMRSRepositoryRESTServices
         return response;
     }
 
-
     /**
-     * Return a list of relationships that match the search criteria.  The results can be paged.
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
      *
      * @param serverName unique identifier for requested server.
      * @param userId unique identifier for requesting user.
      * @param searchCriteria String expression of the characteristics of the required relationships.
      * @param findRequestParameters find parameters used to limit the returned results.
      * @return RelationshipListResponse:
-     * a list of relationships.  Null means no matching relationships or
+     * a list of relationships along with the token for the next page (null if this is the last page) or
      * InvalidParameterException one of the parameters is invalid or null or
      * TypeErrorException the type guid passed on the request is not known by the metadata collection or
      * RepositoryErrorException there is a problem communicating with the metadata repository where
      *                                  the metadata collection is stored or
      * PropertyErrorException there is a problem with one of the other parameters  or
-     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  RelationshipListResponse findRelationshipsByPropertyValueHistory(String                              serverName,
-                                                                             String                              userId,
-                                                                             String                              searchCriteria,
-                                                                             TypeLimitedHistoricalFindRequest    findRequestParameters)
+    public  RelationshipListResponse findRelationshipPageByPropertyValue(String                              serverName,
+                                                                         String                              userId,
+                                                                         String                              searchCriteria,
+                                                                         TypeLimitedHistoricalFindRequest    findRequestParameters)
     {
-        final  String   methodName = "findRelationshipsByPropertyValueHistory";
+        final  String   methodName = "findRelationshipPageByPropertyValue";
 
         log.debug("Calling method: " + methodName);
 
         String                    relationshipTypeGUID     = null;
-        int                       fromRelationshipElement  = 0;
+        String                    pageToken                = null;
         List<InstanceStatus>      limitResultsByStatus     = null;
         Date                      asOfTime                 = null;
         String                    sequencingProperty       = null;
@@ -3628,7 +4832,7 @@ public class OMRSRepositoryRESTServices
         if (findRequestParameters != null)
         {
             relationshipTypeGUID              = findRequestParameters.getTypeGUID();
-            fromRelationshipElement           = findRequestParameters.getOffset();
+            pageToken                         = findRequestParameters.getPageToken();
             limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
             asOfTime                          = findRequestParameters.getAsOfTime();
             sequencingProperty                = findRequestParameters.getSequencingProperty();
@@ -3640,37 +4844,21 @@ public class OMRSRepositoryRESTServices
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            List<Relationship>  relationships = metadataCollection.findRelationshipsByPropertyValue(userId,
-                                                                                                    relationshipTypeGUID,
-                                                                                                    searchCriteria,
-                                                                                                    fromRelationshipElement,
-                                                                                                    limitResultsByStatus,
-                                                                                                    asOfTime,
-                                                                                                    sequencingProperty,
-                                                                                                    sequencingOrder,
-                                                                                                    pageSize);
-            response.setRelationships(relationships);
-            if (relationships != null)
+            InstancePage  page = metadataCollection.findRelationshipPageByPropertyValue(userId,
+                                                                                        relationshipTypeGUID,
+                                                                                        searchCriteria,
+                                                                                        pageToken,
+                                                                                        limitResultsByStatus,
+                                                                                        asOfTime,
+                                                                                        sequencingProperty,
+                                                                                        sequencingOrder,
+                                                                                        pageSize);
+            if (page != null)
             {
-                response.setOffset(fromRelationshipElement);
-                response.setPageSize(pageSize);
-                if (response.getRelationships().size() == pageSize)
-                {
-                    final String urlTemplate = "{0}/instances/relationships/by-property-value/history?searchCriteria={1}";
-
-                    TypeLimitedHistoricalFindRequest nextFindRequestParameters = new TypeLimitedHistoricalFindRequest(findRequestParameters);
-                    nextFindRequestParameters.setOffset(fromRelationshipElement + pageSize);
-
-                    response.setNextPageURL(formatNextPageURL(methodName,
-                                                              serverName,
-                                                              userId,
-                                                              urlTemplate,
-                                                              nextFindRequestParameters,
-                                                              userId,
-                                                              searchCriteria));
-                }
+                response.setRelationships(page.getRelationships());
+                response.setNextPageToken(page.getNextPageToken());
             }
-
+            response.setPageSize(pageSize);
         }
         catch (RepositoryErrorException  error)
         {
@@ -5512,6 +6700,218 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create a set of new entities and the relationships between them in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.  The new instances are assigned new GUIDs and are returned in the order of the request.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param createRequestParameters the new entities and relationships
+     * @return InstanceGraphResponse:
+     * the new entities and relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for an entity's type or
+     * EntityNotKnownException one of the entities at the end of a relationship is not known in the metadata collection or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraphResponse addInstances(String                     serverName,
+                                              String                     userId,
+                                              InstanceGraphCreateRequest createRequestParameters)
+    {
+        final  String   methodName = "addInstances";
+
+        log.debug("Calling method: " + methodName);
+
+        InstanceGraph instances = null;
+
+        InstanceGraphResponse response = new InstanceGraphResponse();
+
+        if (createRequestParameters != null)
+        {
+            instances = new InstanceGraph(createRequestParameters.getEntityElementList(),
+                                          createRequestParameters.getRelationshipElementList());
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstanceGraph newInstances = metadataCollection.addInstances(userId, instances);
+
+            if (newInstances != null)
+            {
+                response.setEntityElementList(newInstances.getEntities());
+                response.setRelationshipElementList(newInstances.getRelationships());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (StatusNotSupportedException error)
+        {
+            captureStatusNotSupportedException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Create a set of new entities and the relationships between them in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.  The new instances are assigned new GUIDs and are returned in the order of the request.
+     * The instances are homed in the metadata collection of the external source identified in the request.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param createRequestParameters the new entities and relationships
+     * @return InstanceGraphResponse:
+     * the new entities and relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for an entity's type or
+     * EntityNotKnownException one of the entities at the end of a relationship is not known in the metadata collection or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraphResponse addExternalInstances(String                     serverName,
+                                                      String                     userId,
+                                                      InstanceGraphCreateRequest createRequestParameters)
+    {
+        final  String   methodName = "addExternalInstances";
+
+        log.debug("Calling method: " + methodName);
+
+        String        externalSourceGUID = null;
+        String        externalSourceName = null;
+        InstanceGraph instances = null;
+
+        InstanceGraphResponse response = new InstanceGraphResponse();
+
+        if (createRequestParameters != null)
+        {
+            externalSourceGUID = createRequestParameters.getMetadataCollectionId();
+            externalSourceName = createRequestParameters.getMetadataCollectionName();
+            instances = new InstanceGraph(createRequestParameters.getEntityElementList(),
+                                          createRequestParameters.getRelationshipElementList());
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstanceGraph newInstances = metadataCollection.addExternalInstances(userId,
+                                                                                 externalSourceGUID,
+                                                                                 externalSourceName,
+                                                                                 instances);
+
+            if (newInstances != null)
+            {
+                response.setEntityElementList(newInstances.getEntities());
+                response.setRelationshipElementList(newInstances.getRelationships());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (StatusNotSupportedException error)
+        {
+            captureStatusNotSupportedException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, methodName, instanceHandler.getAuditLog(userId, serverName, methodName));
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -7958,6 +9358,23 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response REST Response
+     * @param error returned response.
+     */
+    private void captureOMRSRuntimeException(OMRSAPIResponse response, OMRSRuntimeException error)
+    {
+        response.setRelatedHTTPCode(error.getReportedHTTPCode());
+        response.setExceptionClassName(error.getClass().getName());
+        response.setExceptionErrorMessage(error.getErrorMessage());
+        response.setExceptionSystemAction(error.getReportedSystemAction());
+        response.setExceptionUserAction(error.getReportedUserAction());
+        response.setExceptionProperties(null);
+    }
+
+
     /**
      * Set the exception information into the response.
      *
@@ -7994,6 +9411,73 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Write the instances returned by a scan to the response stream as newline delimited JSON.  The stream
+     * is flushed after each page of instances so the caller receives them as they are retrieved.
+     *
+     * @param instances iterator over the instances
+     * @param pageSize number of instances in each page - zero means flush only at the end
+     * @param responseStream stream to write to
+     * @throws IOException the stream is not writable, for example because the caller has disconnected
+     */
+    private void writeScanResults(Iterator<? extends InstanceHeader> instances,
+                                  int                                pageSize,
+                                  OutputStream                       responseStream) throws IOException
+    {
+        Writer writer    = new BufferedWriter(new OutputStreamWriter(responseStream, StandardCharsets.UTF_8));
+        int    lineCount = 0;
+
+        try
+        {
+            while (instances.hasNext())
+            {
+                writer.write(OMRSJSONMapper.writeValueAsString(instances.next()));
+                writer.write('\n');
+                lineCount++;
+
+                if ((pageSize > 0) && (lineCount % pageSize == 0))
+                {
+                    writer.flush();
+                }
+            }
+        }
+        finally
+        {
+            writer.flush();
+        }
+    }
+
+
+    /**
+     * Write the response describing a failed scan as the last line of the response stream.  Nothing is written
+     * if the scan was successful.
+     *
+     * @param response response from the scan
+     * @param responseStream stream to write to
+     * @param methodName calling method
+     */
+    private void writeScanError(OMRSAPIResponse response,
+                                OutputStream    responseStream,
+                                String          methodName)
+    {
+        if (response.getExceptionClassName() != null)
+        {
+            try
+            {
+                Writer writer = new OutputStreamWriter(responseStream, StandardCharsets.UTF_8);
+
+                writer.write(OMRSJSONMapper.writeValueAsString(response));
+                writer.write('\n');
+                writer.flush();
+            }
+            catch (IOException error)
+            {
+                log.debug("Unable to return error from " + methodName + "; exception is: " + error.getMessage());
+            }
+        }
+    }
+
+
     /**
      * Format the url for the next page of a request that includes paging.
      *
@@ -8025,8 +9509,7 @@ public class OMRSRepositoryRESTServices
             {
                 try
                 {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    String       jsonString = objectMapper.writeValueAsString(requestBody);
+                    String jsonString = OMRSJSONMapper.writeValueAsString(requestBody);
 
                     String serverURLRoot = instance.getLocalServerURL();
 
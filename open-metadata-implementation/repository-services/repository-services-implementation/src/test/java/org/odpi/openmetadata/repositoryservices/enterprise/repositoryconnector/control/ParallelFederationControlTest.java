@@ -0,0 +1,454 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.GetEntitiesExecutor;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests that the parallel federation control returns as soon as one of the members has the results needed,
+ * that each member has its own timeout, that results delivered after the control stops waiting are ignored,
+ * that the exceptions from the members are captured by the executors and that an error is returned when
+ * all of the members fail.
+ */
+public class ParallelFederationControlTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "ParallelFederationControlTest";
+
+    private OMRSAuditLog                   auditLog;
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private ExecutorService                workerPool;
+    private CountDownLatch                 slowMemberReleased;
+
+
+    /**
+     * Cohort member that stores a single entity.  It can be set up to fail, to be slow or to report that
+     * the request has all of the results it needs.
+     */
+    private class TestMemberCollection extends OMRSMetadataCollectionBase
+    {
+        String         entityGUID;
+        boolean        failRequests    = false;
+        boolean        slow            = false;
+        boolean        completeRequest = false;
+        long           delay           = 0;
+        CountDownLatch interrupted     = new CountDownLatch(1);
+
+        TestMemberCollection(String metadataCollectionId,
+                             String entityGUID)
+        {
+            super(null, metadataCollectionId, null, null, metadataCollectionId);
+
+            this.entityGUID = entityGUID;
+        }
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return metadataCollectionId;
+        }
+
+        /**
+         * Wait for the member's delay and then until the test releases the slow members.
+         */
+        void waitIfSlow()
+        {
+            if (delay > 0)
+            {
+                try
+                {
+                    Thread.sleep(delay);
+                }
+                catch (InterruptedException error)
+                {
+                    interrupted.countDown();
+                }
+            }
+
+            if (slow)
+            {
+                try
+                {
+                    slowMemberReleased.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    interrupted.countDown();
+                }
+            }
+        }
+
+        @Override
+        public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                     List<String> guids) throws RepositoryErrorException
+        {
+            waitIfSlow();
+
+            if (failRequests)
+            {
+                throw new RepositoryErrorException(500,
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   "Test failure",
+                                                   "None",
+                                                   "None");
+            }
+
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(entityGUID);
+            entity.setVersion(1);
+            entity.setMetadataCollectionId(metadataCollectionId);
+
+            return Collections.singletonList(entity);
+        }
+    }
+
+
+    /**
+     * Connector for a cohort member.
+     */
+    private static class TestMemberConnector extends OMRSRepositoryConnector
+    {
+        TestMemberConnector(OMRSMetadataCollection metadataCollection)
+        {
+            super.metadataCollection = metadataCollection;
+        }
+    }
+
+
+    /**
+     * Executor that records the members it has called.  It reports that it has all of the results it needs
+     * when a member is set up to complete the request.  Once closed, it and its clones stop recording.
+     */
+    private static class RecordingExecutor implements RepositoryExecutor, CloneableRepositoryExecutor
+    {
+        private final List<String>  calledMembers;
+        private final AtomicBoolean closed;
+
+        RecordingExecutor(List<String> calledMembers)
+        {
+            this(calledMembers, new AtomicBoolean(false));
+        }
+
+        private RecordingExecutor(List<String>  calledMembers,
+                                  AtomicBoolean closed)
+        {
+            this.calledMembers = calledMembers;
+            this.closed = closed;
+        }
+
+        public CloneableRepositoryExecutor getClone()
+        {
+            return new RecordingExecutor(calledMembers, closed);
+        }
+
+        public void close()
+        {
+            synchronized (calledMembers)
+            {
+                closed.set(true);
+            }
+        }
+
+        public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                                OMRSMetadataCollection metadataCollection)
+        {
+            TestMemberCollection member = (TestMemberCollection)metadataCollection;
+
+            member.waitIfSlow();
+
+            if (member.failRequests)
+            {
+                throw new IllegalStateException("Unexpected test failure");
+            }
+
+            synchronized (calledMembers)
+            {
+                if (! closed.get())
+                {
+                    calledMembers.add(metadataCollectionId);
+                }
+            }
+
+            return member.completeRequest;
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer",
+                                                                "testServerType",
+                                                                "testOrganization",
+                                                                new ArrayList<>()),
+                                    OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR);
+
+        repositoryValidator = new OMRSRepositoryContentValidator(new OMRSRepositoryContentManager(auditLog));
+        workerPool = Executors.newFixedThreadPool(4);
+        slowMemberReleased = new CountDownLatch(1);
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        slowMemberReleased.countDown();
+        workerPool.shutdownNow();
+    }
+
+
+    private ParallelFederationControl getFederationControl(long                    requestTimeout,
+                                                           TestMemberCollection... members)
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        for (TestMemberCollection member : members)
+        {
+            cohortConnectors.add(new TestMemberConnector(member));
+        }
+
+        return new ParallelFederationControl(userId, cohortConnectors, methodName, workerPool, requestTimeout);
+    }
+
+
+    private GetEntitiesExecutor getEntitiesExecutor()
+    {
+        return new GetEntitiesExecutor(userId,
+                                       Arrays.asList("entity-1", "entity-2"),
+                                       null,
+                                       auditLog,
+                                       repositoryValidator,
+                                       methodName);
+    }
+
+
+    private List<String> getEntities(TestMemberCollection... members) throws Exception
+    {
+        GetEntitiesExecutor executor = getEntitiesExecutor();
+
+        getFederationControl(0, members).executeCommand(executor);
+
+        return getResults(executor);
+    }
+
+
+    private List<String> getResults(GetEntitiesExecutor executor) throws Exception
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : executor.getResults(null))
+        {
+            guids.add(entity.getGUID() + ":" + entity.getMetadataCollectionId());
+        }
+
+        return guids;
+    }
+
+
+    @Test
+    public void testEarlyExitCancelsSlowMembers() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-1");
+
+        member1.slow = true;
+        member2.completeRequest = true;
+
+        List<String> calledMembers = Collections.synchronizedList(new ArrayList<>());
+
+        getFederationControl(0, member1, member2).executeCommand(new RecordingExecutor(calledMembers));
+
+        assertEquals(calledMembers, Collections.singletonList("member2"));
+        assertTrue(member1.interrupted.await(10, TimeUnit.SECONDS), "Slow member was not cancelled");
+    }
+
+
+    @Test
+    public void testTimeoutReturnsPartialResults() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-1");
+
+        member1.slow = true;
+
+        List<String> calledMembers = Collections.synchronizedList(new ArrayList<>());
+
+        getFederationControl(200, member1, member2).executeCommand(new RecordingExecutor(calledMembers));
+
+        assertEquals(calledMembers, Collections.singletonList("member2"));
+    }
+
+
+    @Test
+    public void testLateResultsAreIgnored() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-2");
+
+        member1.slow = true;
+
+        GetEntitiesExecutor executor = getEntitiesExecutor();
+
+        getFederationControl(200, member1, member2).executeCommand(executor);
+
+        assertEquals(getResults(executor), Collections.singletonList("entity-2:member2"));
+
+        /*
+         * The cancelled member still returns its entity once it is interrupted.
+         */
+        assertTrue(member1.interrupted.await(10, TimeUnit.SECONDS), "Slow member was not cancelled");
+        workerPool.shutdown();
+        assertTrue(workerPool.awaitTermination(10, TimeUnit.SECONDS), "Slow member did not finish");
+
+        assertEquals(getResults(executor), Collections.singletonList("entity-2:member2"));
+    }
+
+
+    @Test
+    public void testTimeoutStartsWhenRequestRuns() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-1");
+
+        member1.delay = 300;
+        member2.delay = 300;
+
+        /*
+         * With one worker thread member2 waits for member1, so together they take longer than the timeout.
+         */
+        ExecutorService singleWorker = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+            cohortConnectors.add(new TestMemberConnector(member1));
+            cohortConnectors.add(new TestMemberConnector(member2));
+
+            List<String> calledMembers = Collections.synchronizedList(new ArrayList<>());
+
+            new ParallelFederationControl(userId,
+                                          cohortConnectors,
+                                          methodName,
+                                          singleWorker,
+                                          500).executeCommand(new RecordingExecutor(calledMembers));
+
+            assertEquals(calledMembers, Arrays.asList("member1", "member2"));
+        }
+        finally
+        {
+            singleWorker.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testUnexpectedExceptionDoesNotStopOtherMembers() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-1");
+
+        member1.failRequests = true;
+
+        List<String> calledMembers = Collections.synchronizedList(new ArrayList<>());
+
+        getFederationControl(0, member1, member2).executeCommand(new RecordingExecutor(calledMembers));
+
+        assertEquals(calledMembers, Collections.singletonList("member2"));
+    }
+
+
+    @Test
+    public void testMemberExceptionsAreCaptured() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-2");
+        TestMemberCollection member3 = new TestMemberCollection("member3", "entity-3");
+
+        member1.failRequests = true;
+
+        assertEquals(getEntities(member1, member2, member3), Collections.singletonList("entity-2:member2"));
+    }
+
+
+    @Test
+    public void testAllMembersFailing() throws Exception
+    {
+        TestMemberCollection member1 = new TestMemberCollection("member1", "entity-1");
+        TestMemberCollection member2 = new TestMemberCollection("member2", "entity-2");
+
+        member1.failRequests = true;
+        member2.failRequests = true;
+
+        try
+        {
+            getEntities(member1, member2);
+            fail("Entities returned when no member could be called");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    @Test
+    public void testNullMetadataCollectionIsReported() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        cohortConnectors.add(new TestMemberConnector(new TestMemberCollection("member1", "entity-1")));
+        cohortConnectors.add(new TestMemberConnector(null));
+
+        ParallelFederationControl federationControl = new ParallelFederationControl(userId,
+                                                                                    cohortConnectors,
+                                                                                    methodName,
+                                                                                    workerPool,
+                                                                                    0);
+        try
+        {
+            federationControl.executeCommand(new RecordingExecutor(Collections.synchronizedList(new ArrayList<>())));
+            fail("Member without a metadata collection was not reported");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
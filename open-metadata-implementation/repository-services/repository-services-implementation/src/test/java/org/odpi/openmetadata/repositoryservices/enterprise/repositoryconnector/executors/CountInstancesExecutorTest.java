@@ -0,0 +1,297 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.CountAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the combining of the counts from the cohort members by the enterprise count executors.
+ */
+public class CountInstancesExecutorTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "CountInstancesExecutorTest";
+
+    private OMRSAuditLog                   auditLog;
+    private OMRSRepositoryContentHelper    repositoryHelper;
+    private OMRSRepositoryContentValidator repositoryValidator;
+
+
+    /**
+     * Cohort member that counts and lists a fixed list of entities.  Either request can be set up to fail.
+     */
+    private static class CountingMemberCollection extends OMRSMetadataCollectionBase
+    {
+        List<EntityDetail> entities  = new ArrayList<>();
+        int                listCalls = 0;
+        boolean            failCount = false;
+        boolean            failList  = false;
+
+        CountingMemberCollection(String                         metadataCollectionId,
+                                 OMRSRepositoryContentHelper    repositoryHelper,
+                                 OMRSRepositoryContentValidator repositoryValidator)
+        {
+            super(null, metadataCollectionId, repositoryHelper, repositoryValidator, metadataCollectionId);
+        }
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return metadataCollectionId;
+        }
+
+        private RepositoryErrorException getFailure()
+        {
+            return new RepositoryErrorException(500,
+                                                this.getClass().getName(),
+                                                methodName,
+                                                "Test failure",
+                                                "None",
+                                                "None");
+        }
+
+        @Override
+        public int countEntitiesByProperty(String               userId,
+                                           String               entityTypeGUID,
+                                           InstanceProperties   matchProperties,
+                                           MatchCriteria        matchCriteria,
+                                           List<InstanceStatus> limitResultsByStatus,
+                                           List<String>         limitResultsByClassification,
+                                           Date                 asOfTime) throws RepositoryErrorException
+        {
+            if (failCount)
+            {
+                throw getFailure();
+            }
+
+            return entities.size();
+        }
+
+        @Override
+        public List<EntityDetail> findEntitiesByProperty(String               userId,
+                                                         String               entityTypeGUID,
+                                                         InstanceProperties   matchProperties,
+                                                         MatchCriteria        matchCriteria,
+                                                         int                  fromEntityElement,
+                                                         List<InstanceStatus> limitResultsByStatus,
+                                                         List<String>         limitResultsByClassification,
+                                                         Date                 asOfTime,
+                                                         String               sequencingProperty,
+                                                         SequencingOrder      sequencingOrder,
+                                                         int                  pageSize) throws RepositoryErrorException
+        {
+            listCalls ++;
+
+            if (failList)
+            {
+                throw getFailure();
+            }
+
+            if (fromEntityElement >= entities.size())
+            {
+                return null;
+            }
+
+            return new ArrayList<>(entities.subList(fromEntityElement,
+                                                    Math.min(fromEntityElement + pageSize, entities.size())));
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer",
+                                                                "testServerType",
+                                                                "testOrganization",
+                                                                new ArrayList<>()),
+                                    OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(auditLog);
+
+        repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+    }
+
+
+    private CountingMemberCollection getMember(String metadataCollectionId, int firstEntity, int entityCount)
+    {
+        CountingMemberCollection member = new CountingMemberCollection(metadataCollectionId,
+                                                                       repositoryHelper,
+                                                                       repositoryValidator);
+
+        for (int i = firstEntity; i < firstEntity + entityCount; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("entity-" + i);
+            member.entities.add(entity);
+        }
+
+        return member;
+    }
+
+
+    private CountEntitiesByPropertyExecutor getExecutor(boolean listInstances, CountAccumulator accumulator)
+    {
+        return new CountEntitiesByPropertyExecutor(userId,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   listInstances,
+                                                   accumulator,
+                                                   methodName);
+    }
+
+
+    /**
+     * Count in the same way as the enterprise connector: a clone of the count executor calls each member and
+     * then, if more than one member has matching entities, a clone of the list executor calls those members.
+     */
+    private int getCount(CountingMemberCollection ... members) throws Exception
+    {
+        CountAccumulator                accumulator = new CountAccumulator(null, auditLog, repositoryValidator);
+        CountEntitiesByPropertyExecutor executor    = getExecutor(false, accumulator);
+
+        for (CountingMemberCollection member : members)
+        {
+            CountEntitiesByPropertyExecutor clone = (CountEntitiesByPropertyExecutor) executor.getClone();
+
+            clone.issueRequestToRepository(member.getMetadataCollectionId(userId), member);
+        }
+
+        Set<String> membersToList = accumulator.getMembersToList();
+
+        if (membersToList != null)
+        {
+            CountEntitiesByPropertyExecutor listExecutor = getExecutor(true, accumulator);
+
+            for (CountingMemberCollection member : members)
+            {
+                if (membersToList.contains(member.getMetadataCollectionId(userId)))
+                {
+                    CountEntitiesByPropertyExecutor clone = (CountEntitiesByPropertyExecutor) listExecutor.getClone();
+
+                    clone.issueRequestToRepository(member.getMetadataCollectionId(userId), member);
+                }
+            }
+        }
+
+        return executor.getResults();
+    }
+
+
+    @Test
+    public void testSingleMemberCountIsNotListed() throws Exception
+    {
+        CountingMemberCollection member1 = getMember("member1", 0, 5);
+        CountingMemberCollection member2 = getMember("member2", 0, 0);
+
+        assertEquals(getCount(member1, member2), 5);
+        assertEquals(member1.listCalls, 0);
+        assertEquals(member2.listCalls, 0);
+    }
+
+
+    @Test
+    public void testReferenceCopiesAreCountedOnce() throws Exception
+    {
+        /*
+         * The first member needs two pages to list its entities.  The last 100 are also stored by the
+         * second member.
+         */
+        CountingMemberCollection member1 = getMember("member1", 0, 600);
+        CountingMemberCollection member2 = getMember("member2", 500, 150);
+        CountingMemberCollection member3 = getMember("member3", 0, 0);
+
+        assertEquals(getCount(member1, member2, member3), 650);
+        assertEquals(member1.listCalls, 2);
+        assertEquals(member2.listCalls, 1);
+        assertEquals(member3.listCalls, 0);
+    }
+
+
+    @Test
+    public void testFailedListingIsReported() throws Exception
+    {
+        CountingMemberCollection member1 = getMember("member1", 0, 4);
+        CountingMemberCollection member2 = getMember("member2", 2, 7);
+
+        member2.failList = true;
+
+        try
+        {
+            getCount(member1, member2);
+            fail("Count returned when a member could not list its entities");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    @Test
+    public void testFailedMemberIsIgnored() throws Exception
+    {
+        CountingMemberCollection member1 = getMember("member1", 0, 4);
+        CountingMemberCollection member2 = getMember("member2", 0, 3);
+
+        member2.failCount = true;
+
+        assertEquals(getCount(member1, member2), 4);
+        assertEquals(member1.listCalls, 0);
+    }
+
+
+    @Test
+    public void testAllMembersFailing() throws Exception
+    {
+        CountingMemberCollection member1 = getMember("member1", 0, 4);
+        CountingMemberCollection member2 = getMember("member2", 0, 3);
+
+        member1.failCount = true;
+        member2.failCount = true;
+
+        try
+        {
+            getCount(member1, member2);
+            fail("Count returned when no member could count");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the combining of the instances retrieved by guid from each cohort member by the enterprise executors.
+ */
+public class GetInstancesByGUIDsExecutorTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "GetInstancesByGUIDsExecutorTest";
+
+    private OMRSAuditLog                   auditLog;
+    private OMRSRepositoryContentHelper    repositoryHelper;
+    private OMRSRepositoryContentValidator repositoryValidator;
+
+
+    /**
+     * Cohort member that returns the stored versions of the requested instances.  It can be set up to fail.
+     */
+    private static class VersionedMemberCollection extends OMRSMetadataCollectionBase
+    {
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+        boolean            failRequests  = false;
+
+        VersionedMemberCollection(String                         metadataCollectionId,
+                                  OMRSRepositoryContentHelper    repositoryHelper,
+                                  OMRSRepositoryContentValidator repositoryValidator)
+        {
+            super(null, metadataCollectionId, repositoryHelper, repositoryValidator, metadataCollectionId);
+        }
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return metadataCollectionId;
+        }
+
+        private void checkFailure() throws RepositoryErrorException
+        {
+            if (failRequests)
+            {
+                throw new RepositoryErrorException(500,
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   "Test failure",
+                                                   "None",
+                                                   "None");
+            }
+        }
+
+        private <T extends InstanceHeader> List<T> getRequested(List<T> instances, List<String> guids)
+        {
+            List<T> results = new ArrayList<>();
+
+            for (T instance : instances)
+            {
+                if (guids.contains(instance.getGUID()))
+                {
+                    results.add(instance);
+                }
+            }
+
+            return results.isEmpty() ? null : results;
+        }
+
+        @Override
+        public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                     List<String> guids) throws RepositoryErrorException
+        {
+            checkFailure();
+
+            return getRequested(entities, guids);
+        }
+
+        @Override
+        public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                          List<String> guids) throws RepositoryErrorException
+        {
+            checkFailure();
+
+            return getRequested(relationships, guids);
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer",
+                                                                "testServerType",
+                                                                "testOrganization",
+                                                                new ArrayList<>()),
+                                    OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(auditLog);
+
+        repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+    }
+
+
+    /**
+     * Create a member that stores the same version of an entity and a relationship for each of the supplied guids.
+     * Each guid is followed by the version stored in this member.
+     */
+    private VersionedMemberCollection getMember(String metadataCollectionId, Object ... guidsAndVersions)
+    {
+        VersionedMemberCollection member = new VersionedMemberCollection(metadataCollectionId,
+                                                                         repositoryHelper,
+                                                                         repositoryValidator);
+
+        for (int i = 0; i < guidsAndVersions.length; i = i + 2)
+        {
+            EntityDetail entity       = new EntityDetail();
+            Relationship relationship = new Relationship();
+
+            entity.setGUID((String)guidsAndVersions[i]);
+            entity.setVersion((Integer)guidsAndVersions[i + 1]);
+            entity.setMetadataCollectionId(metadataCollectionId);
+            member.entities.add(entity);
+
+            relationship.setGUID((String)guidsAndVersions[i]);
+            relationship.setVersion((Integer)guidsAndVersions[i + 1]);
+            relationship.setMetadataCollectionId(metadataCollectionId);
+            member.relationships.add(relationship);
+        }
+
+        return member;
+    }
+
+
+    /**
+     * Retrieve the entities in the same way as the enterprise connector: a clone of the executor calls each
+     * member and the results are then combined.
+     */
+    private List<EntityDetail> getEntities(List<String> guids, VersionedMemberCollection ... members) throws Exception
+    {
+        GetEntitiesExecutor executor = new GetEntitiesExecutor(userId, guids, null, auditLog, repositoryValidator, methodName);
+
+        for (VersionedMemberCollection member : members)
+        {
+            GetEntitiesExecutor clone = (GetEntitiesExecutor) executor.getClone();
+
+            clone.issueRequestToRepository(member.getMetadataCollectionId(userId), member);
+        }
+
+        return executor.getResults(null);
+    }
+
+
+    private List<Relationship> getRelationships(List<String> guids, VersionedMemberCollection ... members) throws Exception
+    {
+        GetRelationshipsExecutor executor = new GetRelationshipsExecutor(userId, guids, null, auditLog, repositoryValidator, methodName);
+
+        for (VersionedMemberCollection member : members)
+        {
+            GetRelationshipsExecutor clone = (GetRelationshipsExecutor) executor.getClone();
+
+            clone.issueRequestToRepository(member.getMetadataCollectionId(userId), member);
+        }
+
+        return executor.getResults(null);
+    }
+
+
+    /**
+     * Return each instance as its guid and version.
+     */
+    private List<String> getGUIDsAndVersions(List<? extends InstanceHeader> instances)
+    {
+        List<String> guidsAndVersions = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            guidsAndVersions.add(instance.getGUID() + ":" + instance.getVersion() + ":" + instance.getMetadataCollectionId());
+        }
+
+        return guidsAndVersions;
+    }
+
+
+    @Test
+    public void testLatestEntityVersionsInRequestOrder() throws Exception
+    {
+        VersionedMemberCollection member1 = getMember("member1", "guid-1", 1, "guid-2", 3);
+        VersionedMemberCollection member2 = getMember("member2", "guid-2", 5, "guid-3", 1);
+
+        List<EntityDetail> entities = getEntities(Arrays.asList("guid-3", "guid-2", "guid-4", "guid-1"), member1, member2);
+
+        assertEquals(getGUIDsAndVersions(entities), Arrays.asList("guid-3:1:member2", "guid-2:5:member2", "guid-1:1:member1"));
+    }
+
+
+    @Test
+    public void testLatestRelationshipVersionsInRequestOrder() throws Exception
+    {
+        VersionedMemberCollection member1 = getMember("member1", "guid-1", 4, "guid-2", 3);
+        VersionedMemberCollection member2 = getMember("member2", "guid-1", 2, "guid-2", 3);
+
+        List<Relationship> relationships = getRelationships(Arrays.asList("guid-2", "guid-1"), member2, member1);
+
+        /*
+         * When the versions are the same the first one received is kept.
+         */
+        assertEquals(getGUIDsAndVersions(relationships), Arrays.asList("guid-2:3:member2", "guid-1:4:member1"));
+    }
+
+
+    @Test
+    public void testFailedMemberIsIgnored() throws Exception
+    {
+        VersionedMemberCollection member1 = getMember("member1", "guid-1", 1);
+        VersionedMemberCollection member2 = getMember("member2", "guid-1", 2);
+
+        member2.failRequests = true;
+
+        assertEquals(getGUIDsAndVersions(getEntities(Arrays.asList("guid-1"), member1, member2)),
+                     Arrays.asList("guid-1:1:member1"));
+        assertNull(getEntities(Arrays.asList("guid-2"), member1, member2));
+    }
+
+
+    @Test
+    public void testAllMembersFailing() throws Exception
+    {
+        VersionedMemberCollection member1 = getMember("member1", "guid-1", 1);
+        VersionedMemberCollection member2 = getMember("member2", "guid-1", 2);
+
+        member1.failRequests = true;
+        member2.failRequests = true;
+
+        try
+        {
+            getRelationships(Arrays.asList("guid-1"), member1, member2);
+            fail("Relationships returned when no member could be called");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
@@ -0,0 +1,485 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the page tokens kept for each cohort member by the enterprise find executors that page with page tokens.
+ */
+public class MemberPageTokensTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "MemberPageTokensTest";
+    private static final int    pageSize   = 3;
+
+    private OMRSAuditLog                   auditLog;
+    private OMRSRepositoryContentHelper    repositoryHelper;
+    private OMRSRepositoryContentValidator repositoryValidator;
+
+
+    /**
+     * Cohort member that pages through a fixed list of instances.  It can be set up to fail its next request.
+     */
+    private static class PagedMemberCollection extends OMRSMetadataCollectionBase
+    {
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+        int                calls         = 0;
+        boolean            failNextCall  = false;
+
+        PagedMemberCollection(String                         metadataCollectionId,
+                              OMRSRepositoryContentHelper    repositoryHelper,
+                              OMRSRepositoryContentValidator repositoryValidator)
+        {
+            super(null, metadataCollectionId, repositoryHelper, repositoryValidator, metadataCollectionId);
+        }
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return metadataCollectionId;
+        }
+
+        private void checkFailure() throws RepositoryErrorException
+        {
+            calls ++;
+
+            if (failNextCall)
+            {
+                failNextCall = false;
+                throw new RepositoryErrorException(500,
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   "Test failure",
+                                                   "None",
+                                                   "None");
+            }
+        }
+
+        @Override
+        public InstancePage findEntityPageByProperty(String               userId,
+                                                     String               entityTypeGUID,
+                                                     InstanceProperties   matchProperties,
+                                                     MatchCriteria        matchCriteria,
+                                                     String               pageToken,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     List<String>         limitResultsByClassification,
+                                                     Date                 asOfTime,
+                                                     String               sequencingProperty,
+                                                     SequencingOrder      sequencingOrder,
+                                                     int                  pageSize) throws RepositoryErrorException,
+                                                                                           PagingErrorException
+        {
+            checkFailure();
+
+            return repositoryHelper.formatEntityPage(entities, pageToken, sequencingProperty, sequencingOrder, pageSize);
+        }
+
+        @Override
+        public InstancePage findRelationshipPageByProperty(String               userId,
+                                                           String               relationshipTypeGUID,
+                                                           InstanceProperties   matchProperties,
+                                                           MatchCriteria        matchCriteria,
+                                                           String               pageToken,
+                                                           List<InstanceStatus> limitResultsByStatus,
+                                                           Date                 asOfTime,
+                                                           String               sequencingProperty,
+                                                           SequencingOrder      sequencingOrder,
+                                                           int                  pageSize) throws RepositoryErrorException,
+                                                                                                 PagingErrorException
+        {
+            checkFailure();
+
+            return repositoryHelper.formatRelationshipPage(relationships, pageToken, sequencingProperty, sequencingOrder, pageSize);
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer",
+                                                                "testServerType",
+                                                                "testOrganization",
+                                                                new ArrayList<>()),
+                                    OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(auditLog);
+
+        repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+    }
+
+
+    private PagedMemberCollection getEntityMember(String metadataCollectionId, String ... guids)
+    {
+        PagedMemberCollection member = new PagedMemberCollection(metadataCollectionId, repositoryHelper, repositoryValidator);
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setMetadataCollectionId(metadataCollectionId);
+            member.entities.add(entity);
+        }
+
+        return member;
+    }
+
+
+    /**
+     * Request one enterprise page in the same way as the enterprise connector: a clone of the executor
+     * calls each member in turn and the page is then selected from the combined results.
+     */
+    private InstancePage getEntityPage(String pageToken, PagedMemberCollection ... members) throws Exception
+    {
+        FindEntityPageByPropertyExecutor executor = new FindEntityPageByPropertyExecutor(userId,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         pageToken,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         SequencingOrder.GUID,
+                                                                                         pageSize,
+                                                                                         null,
+                                                                                         auditLog,
+                                                                                         repositoryValidator,
+                                                                                         methodName);
+
+        for (PagedMemberCollection member : members)
+        {
+            FindEntityPageByPropertyExecutor clone = (FindEntityPageByPropertyExecutor) executor.getClone();
+
+            clone.issueRequestToRepository(member.getMetadataCollectionId(userId), member);
+        }
+
+        return executor.getResults(null, repositoryHelper);
+    }
+
+
+    private List<String> getGUIDs(InstancePage page)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (page.getEntities() != null)
+        {
+            for (EntityDetail entity : page.getEntities())
+            {
+                guids.add(entity.getGUID());
+            }
+        }
+
+        if (page.getRelationships() != null)
+        {
+            for (Relationship relationship : page.getRelationships())
+            {
+                guids.add(relationship.getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    @Test
+    public void testInvalidTokenIsRejected()
+    {
+        try
+        {
+            new MemberPageTokens("not a page token!", methodName);
+            fail("Invalid page token was accepted");
+        }
+        catch (PagingErrorException error)
+        {
+            assertTrue(error.getMessage().contains("not a page token!"));
+        }
+    }
+
+
+    @Test
+    public void testMemberCursorsAdvanceIndependently() throws Exception
+    {
+        PagedMemberCollection memberA = getEntityMember("memberA", "a-1", "a-2", "a-3", "a-4");
+        PagedMemberCollection memberB = getEntityMember("memberB", "b-1", "b-2", "b-3");
+
+        /*
+         * Member B returns a full page but none of it sorts ahead of member A's results, so B's cursor
+         * does not move.
+         */
+        InstancePage page = getEntityPage(null, memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("a-1", "a-2", "a-3"));
+        assertNotNull(page.getNextPageToken());
+
+        MemberPageTokens pageTokens = new MemberPageTokens(page.getNextPageToken(), methodName);
+
+        assertNotNull(pageTokens.getPageToken("memberA"));
+        assertNull(pageTokens.getPageToken("memberB"));
+
+        /*
+         * Member A runs out on this page so it is recorded as complete.
+         */
+        page = getEntityPage(page.getNextPageToken(), memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("a-4", "b-1", "b-2"));
+        assertNotNull(page.getNextPageToken());
+
+        pageTokens = new MemberPageTokens(page.getNextPageToken(), methodName);
+
+        assertTrue(pageTokens.isComplete("memberA"));
+        assertFalse(pageTokens.isComplete("memberB"));
+        assertNotNull(pageTokens.getPageToken("memberB"));
+
+        /*
+         * Completed members are not called again.
+         */
+        int memberACalls = memberA.calls;
+
+        page = getEntityPage(page.getNextPageToken(), memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("b-3"));
+        assertNull(page.getNextPageToken());
+        assertEquals(memberA.calls, memberACalls);
+    }
+
+
+    @Test
+    public void testFailedMemberRestartsFromItsFirstResult() throws Exception
+    {
+        PagedMemberCollection memberA = getEntityMember("memberA", "a-1", "a-2", "a-3", "a-4");
+        PagedMemberCollection memberB = getEntityMember("memberB", "0-1", "0-2");
+
+        memberB.failNextCall = true;
+
+        InstancePage page = getEntityPage(null, memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("a-1", "a-2", "a-3"));
+        assertNotNull(page.getNextPageToken());
+
+        MemberPageTokens pageTokens = new MemberPageTokens(page.getNextPageToken(), methodName);
+
+        assertFalse(pageTokens.isComplete("memberB"));
+        assertNull(pageTokens.getPageToken("memberB"));
+
+        /*
+         * Member B starts from its first result.  Its results sort ahead of those already returned from member A
+         * so they arrive out of order, but none are lost.
+         */
+        page = getEntityPage(page.getNextPageToken(), memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("0-1", "0-2", "a-4"));
+        assertNull(page.getNextPageToken());
+    }
+
+
+    @Test
+    public void testFailedMemberKeepsPagingOpen() throws Exception
+    {
+        PagedMemberCollection memberA = getEntityMember("memberA", "1-a", "3-a", "5-a");
+        PagedMemberCollection memberB = getEntityMember("memberB", "2-b", "4-b", "6-b", "8-b");
+
+        InstancePage page = getEntityPage(null, memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("1-a", "2-b", "3-a"));
+
+        /*
+         * Member B fails on the page where member A runs out.
+         */
+        memberB.failNextCall = true;
+
+        page = getEntityPage(page.getNextPageToken(), memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("5-a"));
+        assertNotNull(page.getNextPageToken());
+
+        MemberPageTokens pageTokens = new MemberPageTokens(page.getNextPageToken(), methodName);
+
+        assertTrue(pageTokens.isComplete("memberA"));
+        assertNotNull(pageTokens.getPageToken("memberB"));
+
+        /*
+         * Member B resumes after the last of its results that was returned.
+         */
+        page = getEntityPage(page.getNextPageToken(), memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("4-b", "6-b", "8-b"));
+        assertNull(page.getNextPageToken());
+    }
+
+
+    @Test
+    public void testMemberThatDidNotRespondKeepsPagingOpen() throws Exception
+    {
+        MemberPageTokens pageTokens = new MemberPageTokens(null, methodName);
+
+        pageTokens.addMemberResults("memberA", Arrays.asList("a-1"), false);
+
+        /*
+         * The federation control stops waiting before member B responds so its late results are ignored.
+         */
+        pageTokens.close();
+        pageTokens.addMemberResults("memberB", Arrays.asList("b-1"), false);
+
+        Map<String, String> instancePageTokens = new LinkedHashMap<>();
+
+        instancePageTokens.put("a-1", "a-1-token");
+
+        String nextPageToken = pageTokens.getNextPageToken(instancePageTokens);
+
+        assertNotNull(nextPageToken);
+
+        pageTokens = new MemberPageTokens(nextPageToken, methodName);
+
+        assertTrue(pageTokens.isComplete("memberA"));
+        assertFalse(pageTokens.isComplete("memberB"));
+        assertNull(pageTokens.getPageToken("memberB"));
+    }
+
+
+    @Test
+    public void testRepeatedFailureOfLastMemberFailsThePage() throws Exception
+    {
+        PagedMemberCollection memberA = getEntityMember("memberA", "a-1");
+        PagedMemberCollection memberB = getEntityMember("memberB", "b-1");
+
+        memberB.failNextCall = true;
+
+        InstancePage page = getEntityPage(null, memberA, memberB);
+
+        assertEquals(getGUIDs(page), Arrays.asList("a-1"));
+        assertNotNull(page.getNextPageToken());
+
+        memberB.failNextCall = true;
+
+        try
+        {
+            getEntityPage(page.getNextPageToken(), memberA, memberB);
+            fail("Enterprise page returned when the only member left to call failed");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    @Test
+    public void testAllMembersFailing() throws Exception
+    {
+        PagedMemberCollection memberA = getEntityMember("memberA", "a-1");
+        PagedMemberCollection memberB = getEntityMember("memberB", "b-1");
+
+        memberA.failNextCall = true;
+        memberB.failNextCall = true;
+
+        try
+        {
+            getEntityPage(null, memberA, memberB);
+            fail("Enterprise page returned when every member failed");
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    @Test
+    public void testRelationshipPagesCoverEveryMember() throws Exception
+    {
+        PagedMemberCollection memberA = new PagedMemberCollection("memberA", repositoryHelper, repositoryValidator);
+        PagedMemberCollection memberB = new PagedMemberCollection("memberB", repositoryHelper, repositoryValidator);
+
+        for (String guid : new String[]{"r-1", "r-3", "r-5"})
+        {
+            Relationship relationship = new Relationship();
+            relationship.setGUID(guid);
+            relationship.setMetadataCollectionId("memberA");
+            memberA.relationships.add(relationship);
+        }
+
+        for (String guid : new String[]{"r-2", "r-4"})
+        {
+            Relationship relationship = new Relationship();
+            relationship.setGUID(guid);
+            relationship.setMetadataCollectionId("memberB");
+            memberB.relationships.add(relationship);
+        }
+
+        List<String> allGUIDs  = new ArrayList<>();
+        String       pageToken = null;
+        int          pageCount = 0;
+
+        do
+        {
+            FindRelationshipPageByPropertyExecutor executor = new FindRelationshipPageByPropertyExecutor(userId,
+                                                                                                         null,
+                                                                                                         null,
+                                                                                                         null,
+                                                                                                         pageToken,
+                                                                                                         null,
+                                                                                                         null,
+                                                                                                         null,
+                                                                                                         SequencingOrder.GUID,
+                                                                                                         2,
+                                                                                                         null,
+                                                                                                         auditLog,
+                                                                                                         repositoryValidator,
+                                                                                                         methodName);
+
+            ((FindRelationshipPageByPropertyExecutor) executor.getClone()).issueRequestToRepository("memberA", memberA);
+            ((FindRelationshipPageByPropertyExecutor) executor.getClone()).issueRequestToRepository("memberB", memberB);
+
+            InstancePage page = executor.getResults(null, repositoryHelper);
+
+            allGUIDs.addAll(getGUIDs(page));
+            pageToken = page.getNextPageToken();
+            pageCount ++;
+        }
+        while ((pageToken != null) && (pageCount < 10));
+
+        assertEquals(allGUIDs, Arrays.asList("r-1", "r-2", "r-3", "r-4", "r-5"));
+        assertEquals(pageCount, 3);
+    }
+}
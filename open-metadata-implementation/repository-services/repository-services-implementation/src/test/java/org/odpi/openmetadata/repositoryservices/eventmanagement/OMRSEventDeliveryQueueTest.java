@@ -0,0 +1,351 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventType;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the delivery queue returns to the producer before the consumer has processed the events, that
+ * the events for each instance are delivered in the order they were queued, that the events that are not about
+ * a single instance are delivered between the events queued before and after them, and that a consumer can
+ * queue events while it is processing an event without them overtaking the events already queued.
+ */
+public class OMRSEventDeliveryQueueTest
+{
+    private static final int instanceCount  = 5;
+    private static final int eventsPerGUID  = 200;
+
+
+    /**
+     * Called by the recording consumer with the label of each event it is passed.
+     */
+    private interface EventHook
+    {
+        void eventReceived(String label) throws Exception;
+    }
+
+
+    @Test
+    public void testOrderedAsynchronousDelivery() throws Exception
+    {
+        CountDownLatch          consumerReleased = new CountDownLatch(1);
+        List<OMRSInstanceEvent> received         = Collections.synchronizedList(new ArrayList<>());
+
+        OMRSInstanceEventProcessorInterface consumer = getConsumer(consumerReleased, received);
+
+        OMRSEventDeliveryQueue deliveryQueue = new OMRSEventDeliveryQueue("test",
+                                                                          "test consumer",
+                                                                          null,
+                                                                          consumer,
+                                                                          instanceCount * eventsPerGUID,
+                                                                          3,
+                                                                          null);
+        deliveryQueue.start();
+
+        List<DelegatableFuture> futures = new ArrayList<>();
+
+        for (int event = 0; event < eventsPerGUID; event++)
+        {
+            for (int instance = 0; instance < instanceCount; instance++)
+            {
+                DelegatableFuture future = new DelegatableFuture();
+
+                deliveryQueue.queueInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                       "typeDefGUID",
+                                                                       Integer.toString(event),
+                                                                       "instance-" + instance),
+                                                 null,
+                                                 future);
+                futures.add(future);
+            }
+        }
+
+        /*
+         * The consumer is still blocked so nothing can have been delivered.
+         */
+        assertTrue(received.isEmpty());
+        assertFalse(futures.get(0).isDone());
+
+        consumerReleased.countDown();
+        deliveryQueue.stop(10000);
+
+        assertEquals(received.size(), instanceCount * eventsPerGUID);
+
+        Map<String, Integer> lastEvent = new HashMap<>();
+
+        for (OMRSInstanceEvent event : received)
+        {
+            int eventNumber = Integer.parseInt(event.getTypeDefName());
+            int previous    = lastEvent.getOrDefault(event.getInstanceGUID(), -1);
+
+            assertEquals(eventNumber, previous + 1);
+            lastEvent.put(event.getInstanceGUID(), eventNumber);
+        }
+
+        for (DelegatableFuture future : futures)
+        {
+            assertTrue(future.isDone());
+        }
+
+        OMRSEventDeliveryMetrics metrics = deliveryQueue.getMetrics();
+
+        assertEquals(metrics.getEventsDelivered(), instanceCount * eventsPerGUID);
+        assertEquals(metrics.getQueueDepth(), 0);
+        assertEquals(metrics.getDeliveryErrors(), 0);
+    }
+
+
+    @Test
+    public void testTypeDefEventIsDeliveredBetweenEarlierAndLaterEvents() throws Exception
+    {
+        checkBarrier((deliveryQueue) -> deliveryQueue.queueTypeDefEvent(new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT,
+                                                                                              "typeDefGUID",
+                                                                                              "barrier"),
+                                                                         null,
+                                                                         new DelegatableFuture()));
+    }
+
+
+    @Test
+    public void testBatchEventIsDeliveredBetweenEarlierAndLaterEvents() throws Exception
+    {
+        checkBarrier((deliveryQueue) -> deliveryQueue.queueInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                                                                                "typeDefGUID",
+                                                                                                "barrier",
+                                                                                                null),
+                                                                          null,
+                                                                          new DelegatableFuture()));
+    }
+
+
+    @Test
+    public void testReIdentifyEventIsDeliveredBetweenEarlierAndLaterEvents() throws Exception
+    {
+        checkBarrier((deliveryQueue) -> deliveryQueue.queueInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                                "typeDefGUID",
+                                                                                                "barrier",
+                                                                                                "instance-1"),
+                                                                          null,
+                                                                          new DelegatableFuture()));
+    }
+
+
+    @Test
+    public void testConsumerCanQueueEventsWhenItsLaneIsFull() throws Exception
+    {
+        OMRSEventDeliveryQueue[] deliveryQueue  = new OMRSEventDeliveryQueue[1];
+        CountDownLatch           earlierQueued  = new CountDownLatch(1);
+        List<String>             received       = Collections.synchronizedList(new ArrayList<>());
+
+        /*
+         * Each lane holds two events so the events queued by the consumer while it processes the trigger event
+         * fill its own lane.  The consumer waits until the earlier event is queued so its events must be
+         * delivered after it.
+         */
+        Object consumer = getRecordingConsumer(received, (label) ->
+        {
+            if ("trigger".equals(label))
+            {
+                earlierQueued.await(10, TimeUnit.SECONDS);
+
+                for (int event = 0; event < 5; event++)
+                {
+                    deliveryQueue[0].queueInstanceEvent(getInstanceEvent("reentrant-" + event, "instance-0"),
+                                                        null,
+                                                        new DelegatableFuture());
+                }
+
+                deliveryQueue[0].queueTypeDefEvent(new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT,
+                                                                        "typeDefGUID",
+                                                                        "reentrant-typedef"),
+                                                   null,
+                                                   new DelegatableFuture());
+            }
+        });
+
+        deliveryQueue[0] = new OMRSEventDeliveryQueue("test",
+                                                      "test consumer",
+                                                      (OMRSTypeDefEventProcessorInterface)consumer,
+                                                      (OMRSInstanceEventProcessorInterface)consumer,
+                                                      2,
+                                                      2,
+                                                      null);
+        deliveryQueue[0].start();
+
+        DelegatableFuture future = new DelegatableFuture();
+
+        deliveryQueue[0].queueInstanceEvent(getInstanceEvent("trigger", "instance-0"), null, future);
+        deliveryQueue[0].queueInstanceEvent(getInstanceEvent("earlier", "instance-0"), null, new DelegatableFuture());
+        earlierQueued.countDown();
+        deliveryQueue[0].stop(10000);
+
+        assertEquals(received, Arrays.asList("trigger",
+                                             "earlier",
+                                             "reentrant-0",
+                                             "reentrant-1",
+                                             "reentrant-2",
+                                             "reentrant-3",
+                                             "reentrant-4",
+                                             "reentrant-typedef"));
+        assertTrue(future.isDone());
+
+        OMRSEventDeliveryMetrics metrics = deliveryQueue[0].getMetrics();
+
+        assertEquals(metrics.getEventsDelivered(), 8);
+        assertEquals(metrics.getQueueDepth(), 0);
+    }
+
+
+    /**
+     * Queue events for several instances either side of an event that must be delivered across the lanes and
+     * check that the consumer processes it after all of the earlier events and before all of the later ones.
+     *
+     * @param barrierEvent queues the event under test
+     * @throws Exception test failure
+     */
+    private void checkBarrier(BarrierEvent barrierEvent) throws Exception
+    {
+        CountDownLatch consumerReleased = new CountDownLatch(1);
+        List<String>   received         = Collections.synchronizedList(new ArrayList<>());
+
+        Object consumer = getRecordingConsumer(received, (label) -> consumerReleased.await(10, TimeUnit.SECONDS));
+
+        OMRSEventDeliveryQueue deliveryQueue = new OMRSEventDeliveryQueue("test",
+                                                                          "test consumer",
+                                                                          (OMRSTypeDefEventProcessorInterface)consumer,
+                                                                          (OMRSInstanceEventProcessorInterface)consumer,
+                                                                          100,
+                                                                          3,
+                                                                          null);
+        deliveryQueue.start();
+
+        for (int instance = 0; instance < 10; instance++)
+        {
+            deliveryQueue.queueInstanceEvent(getInstanceEvent("before", "instance-" + instance), null, new DelegatableFuture());
+        }
+
+        barrierEvent.queue(deliveryQueue);
+
+        for (int instance = 0; instance < 10; instance++)
+        {
+            deliveryQueue.queueInstanceEvent(getInstanceEvent("after", "instance-" + instance), null, new DelegatableFuture());
+        }
+
+        consumerReleased.countDown();
+        deliveryQueue.stop(10000);
+
+        assertEquals(received.size(), 21);
+        assertEquals(received.subList(0, 10), Collections.nCopies(10, "before"));
+        assertEquals(received.get(10), "barrier");
+        assertEquals(received.subList(11, 21), Collections.nCopies(10, "after"));
+    }
+
+
+    /**
+     * Queues the event under test in checkBarrier.
+     */
+    private interface BarrierEvent
+    {
+        void queue(OMRSEventDeliveryQueue deliveryQueue) throws Exception;
+    }
+
+
+    /**
+     * Return an instance event that is labelled with its type name.
+     *
+     * @param label label for the event
+     * @param instanceGUID instance the event is about
+     * @return event
+     */
+    private OMRSInstanceEvent getInstanceEvent(String label,
+                                               String instanceGUID)
+    {
+        return new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "typeDefGUID", label, instanceGUID);
+    }
+
+
+    /**
+     * Return a consumer of TypeDef and instance events that records the type name of each event it is passed,
+     * after calling the hook.
+     *
+     * @param received list of type names of the received events
+     * @param hook called with the type name of each event
+     * @return consumer
+     */
+    private Object getRecordingConsumer(List<String> received,
+                                        EventHook    hook)
+    {
+        return Proxy.newProxyInstance(
+                this.getClass().getClassLoader(),
+                new Class<?>[]{OMRSTypeDefEventProcessorInterface.class, OMRSInstanceEventProcessorInterface.class},
+                (proxy, method, args) ->
+                {
+                    List<String> labels = new ArrayList<>();
+
+                    if ("sendInstanceEvent".equals(method.getName()))
+                    {
+                        labels.add(((OMRSInstanceEvent)args[1]).getTypeDefName());
+                    }
+                    else if ("sendTypeDefEvent".equals(method.getName()))
+                    {
+                        labels.add(((OMRSTypeDefEvent)args[1]).getTypeDefName());
+                    }
+
+                    for (String label : labels)
+                    {
+                        hook.eventReceived(label);
+                        received.add(label);
+                    }
+
+                    return null;
+                });
+    }
+
+
+    /**
+     * Return a consumer that waits to be released and then records the events it is passed.
+     *
+     * @param consumerReleased latch that releases the consumer
+     * @param received list of received events
+     * @return consumer
+     */
+    private OMRSInstanceEventProcessorInterface getConsumer(CountDownLatch          consumerReleased,
+                                                            List<OMRSInstanceEvent> received)
+    {
+        return (OMRSInstanceEventProcessorInterface)Proxy.newProxyInstance(
+                this.getClass().getClassLoader(),
+                new Class<?>[]{OMRSInstanceEventProcessorInterface.class},
+                (proxy, method, args) ->
+                {
+                    consumerReleased.await(10, TimeUnit.SECONDS);
+
+                    if ("sendInstanceEvent".equals(method.getName()))
+                    {
+                        received.add((OMRSInstanceEvent)args[1]);
+                    }
+
+                    return null;
+                });
+    }
+}
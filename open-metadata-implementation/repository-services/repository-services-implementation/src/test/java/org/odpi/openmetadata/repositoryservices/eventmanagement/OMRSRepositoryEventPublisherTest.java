@@ -0,0 +1,198 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Test that a batch of new instances reaches a lineage listener on the enterprise topic as the events for the
+ * individual instances, and that the batch is still sent as a single event to the cohort.
+ */
+public class OMRSRepositoryEventPublisherTest
+{
+    private static final String lineageMappingTypeName = "LineageMapping";
+
+    private OMRSAuditLog       auditLog;
+    private LoopbackTopic      topicConnector;
+    private LineageListener    lineageListener;
+
+
+    /**
+     * Topic that passes each event it is sent straight back to its listeners, in the same way as it is
+     * received from the event bus.
+     */
+    private static class LoopbackTopic extends OMRSTopicConnector
+    {
+        @Override
+        public void sendInstanceEvent(OMRSInstanceEvent instanceEvent) throws ConnectorCheckedException
+        {
+            try
+            {
+                super.processEvent(OMRSJSONMapper.writeValueAsString(instanceEvent.getOMRSEventV1()));
+            }
+            catch (IOException error)
+            {
+                throw new ConnectorCheckedException(500,
+                                                    this.getClass().getName(),
+                                                    "sendInstanceEvent",
+                                                    error.getMessage(),
+                                                    "None",
+                                                    "None");
+            }
+        }
+    }
+
+
+    /**
+     * Listener that reacts to the events about individual instances in the same way as the asset lineage
+     * listener.  It records the new lineage mappings and the event types it receives.
+     */
+    private static class LineageListener implements OMRSTopicListener
+    {
+        List<String> lineageMappings = Collections.synchronizedList(new ArrayList<>());
+        List<String> eventTypes      = Collections.synchronizedList(new ArrayList<>());
+
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+        }
+
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+        }
+
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            eventTypes.add(event.getInstanceEventType().getName());
+
+            switch (event.getInstanceEventType())
+            {
+                case NEW_RELATIONSHIP_EVENT:
+                    Relationship relationship = event.getRelationship();
+
+                    if (lineageMappingTypeName.equals(relationship.getType().getTypeDefName()))
+                    {
+                        lineageMappings.add(relationship.getEntityOneProxy().getGUID() + "->" + relationship.getEntityTwoProxy().getGUID());
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer",
+                                                                "testServerType",
+                                                                "testOrganization",
+                                                                new ArrayList<>()),
+                                    OMRSAuditingComponent.EVENT_PUBLISHER);
+
+        topicConnector = new LoopbackTopic();
+        topicConnector.setAuditLog(auditLog);
+
+        lineageListener = new LineageListener();
+        topicConnector.registerListener(lineageListener);
+    }
+
+
+    @Test
+    public void testLineageListenerReceivesBatchedRelationship()
+    {
+        OMRSRepositoryEventPublisher publisher = new OMRSRepositoryEventPublisher("Local Repository to Enterprise",
+                                                                                  topicConnector,
+                                                                                  auditLog,
+                                                                                  true);
+
+        publisher.processInstanceBatchEvent("test", "collection-1", "testServer", "testServerType", "testOrganization", getBatch());
+
+        assertEquals(lineageListener.lineageMappings, Collections.singletonList("column-1->column-2"));
+        assertEquals(lineageListener.eventTypes, Arrays.asList("NewEntityEvent", "NewEntityEvent", "NewRelationshipEvent"));
+    }
+
+
+    @Test
+    public void testCohortPublisherSendsSingleBatch()
+    {
+        OMRSRepositoryEventPublisher publisher = new OMRSRepositoryEventPublisher("cohort", topicConnector, auditLog);
+
+        publisher.processInstanceBatchEvent("test", "collection-1", "testServer", "testServerType", "testOrganization", getBatch());
+
+        assertEquals(lineageListener.lineageMappings, Collections.emptyList());
+        assertEquals(lineageListener.eventTypes, Collections.singletonList("BatchInstancesEvent"));
+    }
+
+
+    private InstanceGraph getBatch()
+    {
+        InstanceGraph batch = new InstanceGraph();
+
+        batch.setEntities(Arrays.asList(getEntity("column-1"), getEntity("column-2")));
+        batch.setRelationships(Collections.singletonList(getLineageMapping("column-1", "column-2")));
+
+        return batch;
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName("RelationalColumn");
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(type);
+
+        return entity;
+    }
+
+
+    private Relationship getLineageMapping(String sourceGUID,
+                                           String targetGUID)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName(lineageMappingTypeName);
+
+        EntityProxy source = new EntityProxy();
+        source.setGUID(sourceGUID);
+
+        EntityProxy target = new EntityProxy();
+        target.setGUID(targetGUID);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID("mapping-1");
+        relationship.setType(type);
+        relationship.setEntityOneProxy(source);
+        relationship.setEntityTwoProxy(target);
+
+        return relationship;
+    }
+}
@@ -0,0 +1,465 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnectorProvider;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveManager;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Tests the batch requests, scans and property searches of the local repository against an in-memory repository
+ * that indexes its property values.
+ */
+public class LocalOMRSMetadataCollectionTest
+{
+    private static final String metadataCollectionId = "testMetadataCollectionId";
+    private static final String userId               = "testUser";
+    private static final String sourceName           = "LocalOMRSMetadataCollectionTest";
+    private static final String remoteCollectionId   = "remoteMetadataCollectionId";
+
+    private OMRSRepositoryContentHelper  repositoryHelper;
+    private OMRSMetadataCollection       metadataCollection;
+    private LocalOMRSRepositoryConnector localConnector;
+    private CountingEventManager         eventManager;
+
+
+    /**
+     * Event manager that counts the instance events sent by the local repository.
+     */
+    private static class CountingEventManager extends OMRSRepositoryEventManager
+    {
+        int           batchEvents           = 0;
+        int           newEntityEvents       = 0;
+        int           newRelationshipEvents = 0;
+        InstanceGraph lastBatch             = null;
+
+        CountingEventManager(OMRSRepositoryContentValidator repositoryValidator,
+                             OMRSAuditLog                   auditLog)
+        {
+            super("test outbound",
+                  new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null),
+                  repositoryValidator,
+                  auditLog);
+        }
+
+        @Override
+        public void processInstanceBatchEvent(String         sourceName,
+                                              String         originatorMetadataCollectionId,
+                                              String         originatorServerName,
+                                              String         originatorServerType,
+                                              String         originatorOrganizationName,
+                                              InstanceGraph  instances)
+        {
+            batchEvents ++;
+            lastBatch = instances;
+        }
+
+        @Override
+        public void processNewEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+        {
+            newEntityEvents ++;
+        }
+
+        @Override
+        public void processNewRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                Relationship relationship)
+        {
+            newRelationshipEvents ++;
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer",
+                                                                             "testServerType",
+                                                                             "testOrganization",
+                                                                             new ArrayList<>()),
+                                                 OMRSAuditingComponent.LOCAL_REPOSITORY_CONNECTOR);
+
+        OMRSRepositoryContentManager   contentManager = new OMRSRepositoryContentManager(auditLog);
+        OMRSRepositoryContentValidator validator      = new OMRSRepositoryContentValidator(contentManager);
+
+        repositoryHelper = new OMRSRepositoryContentHelper(contentManager);
+        eventManager     = new CountingEventManager(validator, auditLog);
+
+        Connection    connection    = new Connection();
+        ConnectorType connectorType = new ConnectorType();
+
+        connectorType.setConnectorProviderClassName(InMemoryOMRSRepositoryConnectorProvider.class.getName());
+        connection.setConnectorType(connectorType);
+        connection.setConfigurationProperties(Collections.singletonMap(InMemoryOMRSRepositoryConnectorProvider.indexPropertyValuesProperty,
+                                                                       true));
+
+        LocalOMRSConnectorProvider provider = new LocalOMRSConnectorProvider(metadataCollectionId,
+                                                                             connection,
+                                                                             null,
+                                                                             eventManager,
+                                                                             contentManager,
+                                                                             new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null));
+
+        localConnector = (LocalOMRSRepositoryConnector) provider.getConnector(connection);
+
+        localConnector.setRepositoryHelper(repositoryHelper);
+        localConnector.setRepositoryValidator(validator);
+        localConnector.setAuditLog(auditLog);
+        localConnector.setMetadataCollectionId(metadataCollectionId);
+        contentManager.setupEventProcessor(localConnector, eventManager);
+        localConnector.start();
+
+        new OMRSArchiveManager(null, auditLog).setLocalRepository(contentManager, eventManager);
+
+        metadataCollection = localConnector.getMetadataCollection();
+
+        /*
+         * Loading the types sends TypeDef events only.
+         */
+        eventManager.newEntityEvents = 0;
+        eventManager.newRelationshipEvents = 0;
+        eventManager.batchEvents = 0;
+    }
+
+
+    private EntityDetail getBatchEntity(String guid, String typeName) throws Exception
+    {
+        EntityDetail entity = repositoryHelper.getSkeletonEntity(sourceName,
+                                                                 metadataCollectionId,
+                                                                 InstanceProvenanceType.LOCAL_COHORT,
+                                                                 userId,
+                                                                 typeName);
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    private Relationship getBatchRelationship(String typeName, String entityOneGUID, String entityTwoGUID) throws Exception
+    {
+        Relationship relationship = repositoryHelper.getSkeletonRelationship(sourceName,
+                                                                             metadataCollectionId,
+                                                                             InstanceProvenanceType.LOCAL_COHORT,
+                                                                             userId,
+                                                                             typeName);
+        EntityProxy entityOneProxy = new EntityProxy();
+        EntityProxy entityTwoProxy = new EntityProxy();
+
+        entityOneProxy.setGUID(entityOneGUID);
+        entityTwoProxy.setGUID(entityTwoGUID);
+        relationship.setEntityOneProxy(entityOneProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        return relationship;
+    }
+
+
+    private EntityDetail getReferenceEntity(String guid, long version, String description) throws Exception
+    {
+        EntityDetail entity = repositoryHelper.getSkeletonEntity(sourceName,
+                                                                 remoteCollectionId,
+                                                                 InstanceProvenanceType.LOCAL_COHORT,
+                                                                 userId,
+                                                                 "Endpoint");
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setProperties(repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                          null,
+                                                                          "description",
+                                                                          description,
+                                                                          sourceName));
+
+        return entity;
+    }
+
+
+    @Test
+    public void testAddInstancesResolvesBatchReferences() throws Exception
+    {
+        EntityDetail existingConnection = metadataCollection.addEntity(userId,
+                                                                       repositoryHelper.getTypeDefByName(sourceName, "Connection").getGUID(),
+                                                                       null,
+                                                                       null,
+                                                                       null);
+        eventManager.newEntityEvents = 0;
+
+        EntityDetail endpoint        = getBatchEntity("batch-endpoint", "Endpoint");
+        EntityDetail batchConnection = getBatchEntity("batch-connection", "Connection");
+
+        InstanceGraph instances = new InstanceGraph(Arrays.asList(endpoint, batchConnection),
+                                                    Arrays.asList(getBatchRelationship("ConnectionEndpoint",
+                                                                                       "batch-endpoint",
+                                                                                       "batch-connection"),
+                                                                  getBatchRelationship("ConnectionEndpoint",
+                                                                                       "batch-endpoint",
+                                                                                       existingConnection.getGUID())));
+
+        InstanceGraph newInstances = metadataCollection.addInstances(userId, instances);
+
+        assertEquals(newInstances.getEntities().size(), 2);
+        assertEquals(newInstances.getRelationships().size(), 2);
+
+        String newEndpointGUID   = newInstances.getEntities().get(0).getGUID();
+        String newConnectionGUID = newInstances.getEntities().get(1).getGUID();
+
+        assertNotEquals(newEndpointGUID, "batch-endpoint");
+        assertEquals(newInstances.getEntities().get(0).getType().getTypeDefName(), "Endpoint");
+
+        Relationship toBatchEntity    = newInstances.getRelationships().get(0);
+        Relationship toExistingEntity = newInstances.getRelationships().get(1);
+
+        assertEquals(toBatchEntity.getEntityOneProxy().getGUID(), newEndpointGUID);
+        assertEquals(toBatchEntity.getEntityTwoProxy().getGUID(), newConnectionGUID);
+        assertEquals(toExistingEntity.getEntityOneProxy().getGUID(), newEndpointGUID);
+        assertEquals(toExistingEntity.getEntityTwoProxy().getGUID(), existingConnection.getGUID());
+
+        assertNotNull(metadataCollection.getEntityDetail(userId, newEndpointGUID));
+        assertNotNull(metadataCollection.getRelationship(userId, toBatchEntity.getGUID()));
+        assertNotNull(metadataCollection.getRelationship(userId, toExistingEntity.getGUID()));
+
+        assertEquals(eventManager.batchEvents, 1);
+        assertEquals(eventManager.newEntityEvents, 0);
+        assertEquals(eventManager.newRelationshipEvents, 0);
+        assertEquals(eventManager.lastBatch.getEntities().size(), 2);
+        assertEquals(eventManager.lastBatch.getRelationships().size(), 2);
+        assertEquals(eventManager.lastBatch.getEntities().get(0).getMetadataCollectionId(), metadataCollectionId);
+    }
+
+
+    @Test
+    public void testFailedBatchStoresNothing() throws Exception
+    {
+        EntityDetail endpoint = getBatchEntity("batch-endpoint", "Endpoint");
+
+        InstanceGraph instances = new InstanceGraph(Collections.singletonList(endpoint),
+                                                    Collections.singletonList(getBatchRelationship("ConnectionEndpoint",
+                                                                                                   "batch-endpoint",
+                                                                                                   "unknown-connection")));
+
+        try
+        {
+            metadataCollection.addInstances(userId, instances);
+            fail("Batch with an unknown relationship end was accepted");
+        }
+        catch (EntityNotKnownException error)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        List<EntityDetail> endpoints = metadataCollection.findEntitiesByProperty(userId,
+                                                                                 repositoryHelper.getTypeDefByName(sourceName, "Endpoint").getGUID(),
+                                                                                 null,
+                                                                                 null,
+                                                                                 0,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 0);
+        assertNull(endpoints);
+        assertEquals(eventManager.batchEvents, 0);
+        assertEquals(eventManager.newEntityEvents, 0);
+        assertEquals(eventManager.newRelationshipEvents, 0);
+    }
+
+
+    @Test
+    public void testReferenceCopyErrorDoesNotStopBatch() throws Exception
+    {
+        EntityDetail badEntity  = getReferenceEntity("bad-endpoint", 1, "bad");
+        EntityDetail goodEntity = getReferenceEntity("good-endpoint", 1, "good");
+
+        badEntity.setType(null);
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId,
+                                                           new InstanceGraph(Arrays.asList(badEntity, goodEntity), null));
+            fail("Reference copy with no type was accepted");
+        }
+        catch (OMRSCheckedExceptionBase error)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        assertNotNull(metadataCollection.getEntityDetail(userId, "good-endpoint"));
+        assertNull(metadataCollection.isEntityKnown(userId, "bad-endpoint"));
+    }
+
+
+    @Test
+    public void testBatchEventSkipsOlderReferenceCopy() throws Exception
+    {
+        OMRSInstanceEventProcessor eventProcessor = localConnector.getIncomingInstanceEventProcessor();
+
+        eventProcessor.processInstanceBatchEvent("testCohort",
+                                                 remoteCollectionId,
+                                                 "remoteServer",
+                                                 "remoteServerType",
+                                                 "remoteOrganization",
+                                                 new InstanceGraph(Collections.singletonList(getReferenceEntity("remote-endpoint", 2, "newer")),
+                                                                   null));
+
+        eventProcessor.processInstanceBatchEvent("testCohort",
+                                                 remoteCollectionId,
+                                                 "remoteServer",
+                                                 "remoteServerType",
+                                                 "remoteOrganization",
+                                                 new InstanceGraph(Arrays.asList(getReferenceEntity("remote-endpoint", 1, "older"),
+                                                                                 getReferenceEntity("other-endpoint", 1, "other")),
+                                                                   null));
+
+        EntityDetail storedEntity = metadataCollection.getEntityDetail(userId, "remote-endpoint");
+
+        assertEquals(storedEntity.getVersion(), 2L);
+        assertEquals(repositoryHelper.getStringProperty(sourceName, "description", storedEntity.getProperties(), sourceName),
+                     "newer");
+        assertNotNull(metadataCollection.getEntityDetail(userId, "other-endpoint"));
+    }
+
+
+    @Test
+    public void testScanFiltersByHomeCollection() throws Exception
+    {
+        String endpointTypeGUID = repositoryHelper.getTypeDefByName(sourceName, "Endpoint").getGUID();
+
+        EntityDetail localEntity = metadataCollection.addEntity(userId, endpointTypeGUID, null, null, null);
+
+        metadataCollection.saveEntityReferenceCopy(userId, getReferenceEntity("remote-endpoint", 1, "remote"));
+
+        List<String> allGUIDs = new ArrayList<>();
+        Iterator<EntityDetail> entities = metadataCollection.scanEntities(userId, endpointTypeGUID, null, null, 1);
+
+        while (entities.hasNext())
+        {
+            allGUIDs.add(entities.next().getGUID());
+        }
+
+        assertEquals(allGUIDs.size(), 2);
+        assertTrue(allGUIDs.contains(localEntity.getGUID()));
+        assertTrue(allGUIDs.contains("remote-endpoint"));
+
+        entities = metadataCollection.scanEntities(userId, endpointTypeGUID, metadataCollectionId, null, 1);
+
+        EntityDetail scannedEntity = entities.next();
+
+        assertEquals(scannedEntity.getGUID(), localEntity.getGUID());
+        assertEquals(scannedEntity.getMetadataCollectionId(), metadataCollectionId);
+        assertFalse(entities.hasNext());
+
+        entities = metadataCollection.scanEntities(userId, endpointTypeGUID, remoteCollectionId, null, 1);
+
+        assertEquals(entities.next().getGUID(), "remote-endpoint");
+        assertFalse(entities.hasNext());
+    }
+
+
+    @Test
+    public void testExactMatchOnHeaderProperty() throws Exception
+    {
+        String endpointTypeGUID = repositoryHelper.getTypeDefByName(sourceName, "Endpoint").getGUID();
+
+        EntityDetail endpoint = metadataCollection.addEntity(userId,
+                                                             endpointTypeGUID,
+                                                             repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                                                          null,
+                                                                                                          "description",
+                                                                                                          "alpha",
+                                                                                                          sourceName),
+                                                             null,
+                                                             null);
+
+        /*
+         * The created by value is in the instance header, not the property value index.
+         */
+        InstanceProperties matchProperties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                                          null,
+                                                                                          "createdBy",
+                                                                                          repositoryHelper.getExactMatchRegex(userId),
+                                                                                          sourceName);
+
+        List<EntityDetail> endpoints = metadataCollection.findEntitiesByProperty(userId,
+                                                                                 endpointTypeGUID,
+                                                                                 matchProperties,
+                                                                                 MatchCriteria.ALL,
+                                                                                 0,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 0);
+
+        assertNotNull(endpoints);
+        assertEquals(endpoints.get(0).getGUID(), endpoint.getGUID());
+
+        matchProperties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                       matchProperties,
+                                                                       "description",
+                                                                       repositoryHelper.getExactMatchRegex("beta"),
+                                                                       sourceName);
+
+        assertNull(metadataCollection.findEntitiesByProperty(userId,
+                                                             endpointTypeGUID,
+                                                             matchProperties,
+                                                             MatchCriteria.ALL,
+                                                             0,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             0));
+    }
+}
@@ -3,13 +3,20 @@
 package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSPageTokenFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -113,6 +120,145 @@ public class OMRSRepositoryHelperTest
 
     }
 
+    @Test
+    void testformatEntityResultsSequencing() throws PropertyErrorException, PagingErrorException {
+        final String sequencingProperty = "rank";
+
+        for (int resultsSize : new int[]{1, 7, 50, 1000}) {
+            List<EntityDetail> fullResults = new ArrayList<>();
+            for (int index = 0; index < resultsSize; index++) {
+                EntityDetail entity = new EntityDetail();
+                entity.setGUID(Integer.toString(index));
+                // every fifth entity has no rank and the ranks repeat to exercise the tie-break
+                if (index % 5 != 0) {
+                    PrimitivePropertyValue rank = new PrimitivePropertyValue();
+                    rank.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                    rank.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+                    rank.setPrimitiveValue("rank-" + ((index * 7919) % 13));
+                    InstanceProperties properties = new InstanceProperties();
+                    properties.setProperty(sequencingProperty, rank);
+                    entity.setProperties(properties);
+                }
+                fullResults.add(entity);
+            }
+
+            for (SequencingOrder sequencingOrder : new SequencingOrder[]{SequencingOrder.PROPERTY_ASCENDING,
+                                                                         SequencingOrder.PROPERTY_DESCENDING}) {
+                List<EntityDetail> expectedOrder = new ArrayList<>(fullResults);
+                Comparator<EntityDetail> byRank = Comparator.comparing(this::getRank,
+                                                                       Comparator.nullsFirst(Comparator.naturalOrder()));
+                expectedOrder.sort(sequencingOrder == SequencingOrder.PROPERTY_ASCENDING ? byRank : byRank.reversed());
+
+                for (int pageSize : new int[]{1, 10, resultsSize}) {
+                    for (int fromElement : new int[]{0, resultsSize / 3, resultsSize - 1}) {
+                        List<EntityDetail> page = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                                                                                     fromElement,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+                        int toIndex = Math.min(fromElement + pageSize, resultsSize);
+                        assertEquals(page, expectedOrder.subList(fromElement, toIndex));
+                    }
+                }
+            }
+
+            // no sequencing property - the results keep their original order
+            List<EntityDetail> page = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                                                                         resultsSize / 2,
+                                                                         null,
+                                                                         SequencingOrder.ANY,
+                                                                         10);
+            assertEquals(page, fullResults.subList(resultsSize / 2, Math.min(resultsSize / 2 + 10, resultsSize)));
+        }
+    }
+
+    private String getRank(EntityDetail entity) {
+        if (entity.getProperties() == null) {
+            return null;
+        }
+        return (String) ((PrimitivePropertyValue) entity.getProperties().getPropertyValue("rank")).getPrimitiveValue();
+    }
+
+    @Test
+    void testformatEntityPageTokens() throws PagingErrorException {
+        final String sequencingProperty = "rank";
+        final int    resultsSize        = 50;
+
+        List<EntityDetail> fullResults = new ArrayList<>();
+        for (int index = 0; index < resultsSize; index++) {
+            EntityDetail entity = new EntityDetail();
+            entity.setGUID(Integer.toString(index));
+            // every fifth entity has no rank and the ranks repeat to exercise the guid tie-break
+            if (index % 5 != 0) {
+                PrimitivePropertyValue rank = new PrimitivePropertyValue();
+                rank.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                rank.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+                rank.setPrimitiveValue("rank-" + ((index * 7919) % 13));
+                InstanceProperties properties = new InstanceProperties();
+                properties.setProperty(sequencingProperty, rank);
+                entity.setProperties(properties);
+            }
+            fullResults.add(entity);
+        }
+
+        for (SequencingOrder sequencingOrder : new SequencingOrder[]{SequencingOrder.PROPERTY_ASCENDING,
+                                                                     SequencingOrder.PROPERTY_DESCENDING}) {
+            Comparator<EntityDetail> byRank = Comparator.comparing(this::getRank,
+                                                                   Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING) {
+                byRank = byRank.reversed();
+            }
+            List<EntityDetail> expectedOrder = new ArrayList<>(fullResults);
+            expectedOrder.sort(byRank.thenComparing(EntityDetail::getGUID));
+
+            for (int pageSize : new int[]{1, 7, resultsSize, resultsSize + 1}) {
+                List<EntityDetail> allPages  = new ArrayList<>();
+                String             pageToken = null;
+                int                pageCount = 0;
+                do {
+                    InstancePage page = createHelper().formatEntityPage(new ArrayList<>(fullResults),
+                                                                        pageToken,
+                                                                        sequencingProperty,
+                                                                        sequencingOrder,
+                                                                        pageSize);
+                    assertTrue(page.getEntities().size() <= pageSize);
+
+                    // a repository that drops the earlier pages while searching must return the same page
+                    OMRSPageTokenFilter pageTokenFilter = createHelper().getPageTokenFilter(pageToken,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder);
+                    List<EntityDetail> laterResults = new ArrayList<>();
+                    for (EntityDetail entity : fullResults) {
+                        if (pageTokenFilter.isAfterPageToken(entity.getGUID(), entity.getProperties())) {
+                            laterResults.add(entity);
+                        }
+                    }
+                    InstancePage filteredPage = createHelper().formatEntityPage(laterResults,
+                                                                                null,
+                                                                                sequencingProperty,
+                                                                                sequencingOrder,
+                                                                                pageSize);
+                    assertEquals(filteredPage.getEntities(), page.getEntities());
+                    assertEquals(filteredPage.getNextPageToken(), page.getNextPageToken());
+
+                    allPages.addAll(page.getEntities());
+                    pageToken = page.getNextPageToken();
+                    pageCount++;
+                } while (pageToken != null);
+
+                assertEquals(allPages, expectedOrder);
+                assertEquals(pageCount, (resultsSize + pageSize - 1) / pageSize);
+            }
+        }
+
+        try {
+            createHelper().formatEntityPage(fullResults, "not a page token", sequencingProperty, SequencingOrder.ANY, 10);
+            fail("Invalid page token accepted");
+        } catch (PagingErrorException error) {
+            // expected
+        }
+    }
+
     @Test
     void testRegexHelpers() {
 
@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.configuration.registration.CommonServicesDescription;
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.odpi.openmetadata.repositoryservices.rest.properties.InstanceScanRequest;
+import org.odpi.openmetadata.repositoryservices.rest.properties.VoidResponse;
+import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstance;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the newline delimited JSON written by the scan operations of the repository services.
+ */
+public class OMRSRepositoryRESTServicesTest
+{
+    private static final String serverName = "testScanServer";
+    private static final String userId     = "testUser";
+
+    private OMRSRepositoryRESTServices restServices = new OMRSRepositoryRESTServices(true);
+    private ScanCollection             scanCollection;
+
+
+    /**
+     * Metadata collection whose scan returns a fixed number of entities.  It can be set up to fail part way
+     * through the scan, or to reject the scan request.
+     */
+    private static class ScanCollection extends OMRSMetadataCollectionBase
+    {
+        int entityCount = 0;
+        int failAfter   = -1;
+
+        ScanCollection(OMRSRepositoryContentHelper    repositoryHelper,
+                       OMRSRepositoryContentValidator repositoryValidator)
+        {
+            super(null, serverName, repositoryHelper, repositoryValidator, "testMetadataCollectionId");
+        }
+
+        @Override
+        public Iterator<EntityDetail> scanEntities(String               userId,
+                                                   String               entityTypeGUID,
+                                                   String               homeMetadataCollectionId,
+                                                   List<InstanceStatus> limitResultsByStatus,
+                                                   int                  pageSize) throws TypeErrorException
+        {
+            if ("unknown-type".equals(entityTypeGUID))
+            {
+                throw new TypeErrorException(400,
+                                             this.getClass().getName(),
+                                             "scanEntities",
+                                             "Unknown type",
+                                             "None",
+                                             "None");
+            }
+
+            return new Iterator<EntityDetail>()
+            {
+                int returnedCount = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    if (returnedCount == failAfter)
+                    {
+                        throw new OMRSRuntimeException(500,
+                                                       this.getClass().getName(),
+                                                       "hasNext",
+                                                       "Scan failed",
+                                                       "None",
+                                                       "None");
+                    }
+
+                    return returnedCount < entityCount;
+                }
+
+                @Override
+                public EntityDetail next()
+                {
+                    if (! this.hasNext())
+                    {
+                        throw new NoSuchElementException();
+                    }
+
+                    EntityDetail entity = new EntityDetail();
+
+                    entity.setGUID("entity-" + returnedCount);
+                    returnedCount++;
+
+                    return entity;
+                }
+            };
+        }
+    }
+
+
+    /**
+     * Stream that records what had been written each time it is flushed.
+     */
+    private static class FlushRecordingStream extends ByteArrayOutputStream
+    {
+        List<String> flushedText = new ArrayList<>();
+
+        @Override
+        public void flush()
+        {
+            flushedText.add(new String(this.toByteArray(), StandardCharsets.UTF_8));
+        }
+
+        String[] getLines()
+        {
+            return new String(this.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        }
+    }
+
+
+    @BeforeClass
+    public void setUp() throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(serverName,
+                                                                             "testServerType",
+                                                                             "testOrganization",
+                                                                             new ArrayList<>()),
+                                                 OMRSAuditingComponent.REST_SERVICES);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(auditLog);
+
+        scanCollection = new ScanCollection(new OMRSRepositoryContentHelper(contentManager),
+                                            new OMRSRepositoryContentValidator(contentManager));
+
+        OMRSRepositoryConnector repositoryConnector = new OMRSRepositoryConnector()
+        {
+            {
+                metadataCollection = scanCollection;
+            }
+        };
+
+        new OMAGServerPlatformInstanceMap().startUpServerInstance(userId, serverName, auditLog, null);
+        new OMRSRepositoryServicesInstance(serverName,
+                                           repositoryConnector,
+                                           null,
+                                           null,
+                                           "http://localhost:9443",
+                                           CommonServicesDescription.REPOSITORY_SERVICES.getServiceName(),
+                                           auditLog,
+                                           500);
+    }
+
+
+    private InstanceScanRequest getScanRequest(String typeGUID, int pageSize)
+    {
+        InstanceScanRequest scanRequest = new InstanceScanRequest();
+
+        scanRequest.setTypeGUID(typeGUID);
+        scanRequest.setPageSize(pageSize);
+
+        return scanRequest;
+    }
+
+
+    @Test
+    public void testScanIsFlushedEachPage()
+    {
+        FlushRecordingStream responseStream = new FlushRecordingStream();
+
+        scanCollection.entityCount = 5;
+        scanCollection.failAfter = -1;
+
+        restServices.scanEntities(serverName, userId, getScanRequest(null, 2), responseStream);
+
+        String[] lines = responseStream.getLines();
+
+        assertEquals(lines.length, 5);
+        assertTrue(lines[4].contains("entity-4"));
+
+        /*
+         * The first flush happens once the first page has been written.
+         */
+        assertTrue(responseStream.flushedText.size() >= 3);
+        assertEquals(responseStream.flushedText.get(0).split("\n").length, 2);
+    }
+
+
+    @Test
+    public void testScanFailureEndsWithErrorLine() throws Exception
+    {
+        FlushRecordingStream responseStream = new FlushRecordingStream();
+
+        scanCollection.entityCount = 5;
+        scanCollection.failAfter = 3;
+
+        restServices.scanEntities(serverName, userId, getScanRequest(null, 2), responseStream);
+
+        String[] lines = responseStream.getLines();
+
+        assertEquals(lines.length, 4);
+        assertTrue(lines[2].contains("entity-2"));
+
+        VoidResponse response = new ObjectMapper().readValue(lines[3], VoidResponse.class);
+
+        assertEquals(response.getExceptionClassName(), OMRSRuntimeException.class.getName());
+        assertEquals(response.getRelatedHTTPCode(), 500);
+    }
+
+
+    @Test
+    public void testRejectedScanReturnsOnlyErrorLine() throws Exception
+    {
+        FlushRecordingStream responseStream = new FlushRecordingStream();
+
+        restServices.scanEntities(serverName, userId, getScanRequest("unknown-type", 2), responseStream);
+
+        String[] lines = responseStream.getLines();
+
+        assertEquals(lines.length, 1);
+
+        VoidResponse response = new ObjectMapper().readValue(lines[0], VoidResponse.class);
+
+        assertEquals(response.getExceptionClassName(), TypeErrorException.class.getName());
+    }
+}
@@ -9,6 +9,8 @@ import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import org.odpi.openmetadata.repositoryservices.rest.server.OMRSRepositoryRESTServices;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.OutputStream;
+
 
 /**
  * EnterpriseRepositoryServicesResource provides the server-side support for the OMRS Repository REST Services API
@@ -472,6 +474,30 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are
+     * not known, are only proxies or are deleted are left out of the result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures in the order of the requested guids or
+     * InvalidParameterException the guid list or one of its guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-guids")
+
+    public EntityListResponse getEntitiesByGUIDs(@PathVariable String          serverName,
+                                                 @PathVariable String          userId,
+                                                 @RequestBody  GUIDListRequest guidListRequest)
+    {
+        return restAPI.getEntitiesByGUIDs(serverName, userId, guidListRequest);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -536,6 +562,34 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the number of relationships for a specific entity.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the counted results.
+     * @return CountResponse:
+     * count of the relationships associated with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entity/{entityGUID}/relationships/count")
+
+    public CountResponse countRelationshipsForEntity(@PathVariable String                            serverName,
+                                                     @PathVariable String                            userId,
+                                                     @PathVariable String                            entityGUID,
+                                                     @RequestBody  TypeLimitedHistoricalFindRequest  findRequestParameters)
+    {
+        return restAPI.countRelationshipsForEntity(serverName, userId, entityGUID, findRequestParameters);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -596,6 +650,86 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the number of entities that match the supplied properties according to the match criteria.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters find parameters used to limit the counted results.
+     * @return CountResponse:
+     * count of the entities matching the supplied criteria or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-property/count")
+
+    public  CountResponse countEntitiesByProperty(@PathVariable String                              serverName,
+                                                  @PathVariable String                              userId,
+                                                  @RequestBody  EntityPropertyHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.countEntitiesByProperty(serverName, userId, findRequestParameters);
+    }
+
+
+    /**
+     * Return a page of the entities that match the supplied properties according to the match criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria along with the token for the next page (null if this is the
+     * last page) or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-property/page")
+
+    public  EntityListResponse findEntityPageByProperty(@PathVariable String                              serverName,
+                                                        @PathVariable String                              userId,
+                                                        @RequestBody  EntityPropertyHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.findEntityPageByProperty(serverName, userId, findRequestParameters);
+    }
+
+
+    /**
+     * Write all of the entities in the metadata collection, optionally limited to a type (and its subtypes),
+     * a home metadata collection and a list of statuses, to the response as newline delimited JSON (one entity
+     * per line).  The entities are retrieved a page at a time so the export runs in a fixed amount of memory.
+     * If the scan fails, the last line is a VoidResponse describing the exception.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param scanRequestParameters scan parameters used to limit the returned results.
+     * @param responseStream stream to write the entities to.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/scan", produces = "application/x-ndjson")
+
+    public  void scanEntities(@PathVariable String              serverName,
+                              @PathVariable String              userId,
+                              @RequestBody  InstanceScanRequest scanRequestParameters,
+                              OutputStream                      responseStream)
+    {
+        restAPI.scanEntities(serverName, userId, scanRequestParameters, responseStream);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classification attached.
      *
@@ -659,6 +793,69 @@ public class EnterpriseRepositoryServicesResource
         return restAPI.findEntitiesByClassificationHistory(serverName, userId, classificationName, findRequestParameters);
     }
 
+    /**
+     * Return a page of the entities that have the requested type of classification attached.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName name of the classification a null is not valid.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria along with the token for the next page (null if this is the
+     * last page) or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * ClassificationErrorException the classification request is not known to the metadata collection.
+     * PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-classification/{classificationName}/page")
+
+    public  EntityListResponse findEntityPageByClassification(@PathVariable String                             serverName,
+                                                              @PathVariable String                             userId,
+                                                              @PathVariable String                             classificationName,
+                                                              @RequestBody  PropertyMatchHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.findEntityPageByClassification(serverName, userId, classificationName, findRequestParameters);
+    }
+
+
+    /**
+     * Return the number of entities that have the requested type of classification attached.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName name of the classification a null is not valid.
+     * @param findRequestParameters find parameters used to limit the counted results.
+     * @return CountResponse:
+     * count of the entities matching the supplied criteria or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * ClassificationErrorException the classification request is not known to the metadata collection.
+     * PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-classification/{classificationName}/count")
+
+    public  CountResponse countEntitiesByClassification(@PathVariable String                             serverName,
+                                                        @PathVariable String                             userId,
+                                                        @PathVariable String                             classificationName,
+                                                        @RequestBody  PropertyMatchHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.countEntitiesByClassification(serverName, userId, classificationName, findRequestParameters);
+    }
+
 
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
@@ -723,6 +920,38 @@ public class EnterpriseRepositoryServicesResource
         return restAPI.findEntitiesByPropertyValueHistory(serverName, userId, searchCriteria, findRequestParameters);
     }
 
+    /**
+     * Return a page of the entities whose string based property values match the search criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param searchCriteria String expression of the characteristics of the required entities.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria along with the token for the next page (null if this is the
+     * last page) or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/entities/by-property-value/page")
+
+    public  EntityListResponse findEntityPageByPropertyValue(@PathVariable String                              serverName,
+                                                             @PathVariable String                              userId,
+                                                             @RequestParam String                              searchCriteria,
+                                                             @RequestBody  EntityPropertyHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.findEntityPageByPropertyValue(serverName, userId, searchCriteria, findRequestParameters);
+    }
+
 
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
@@ -800,6 +1029,30 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return each of the requested relationships.  Relationships that are not known or are deleted are left out of
+     * the result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships in the order of the requested guids or
+     * InvalidParameterException the guid list or one of its guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/relationships/by-guids")
+
+    public RelationshipListResponse getRelationshipsByGUIDs(@PathVariable String          serverName,
+                                                            @PathVariable String          userId,
+                                                            @RequestBody  GUIDListRequest guidListRequest)
+    {
+        return restAPI.getRelationshipsByGUIDs(serverName, userId, guidListRequest);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -858,6 +1111,58 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested properties by the matching criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * a list of relationships along with the token for the next page (null if this is the last page) or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/relationships/by-property/page")
+
+    public  RelationshipListResponse findRelationshipPageByProperty(@PathVariable String                             serverName,
+                                                                    @PathVariable String                             userId,
+                                                                    @RequestBody  PropertyMatchHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.findRelationshipPageByProperty(serverName, userId, findRequestParameters);
+    }
+
+
+    /**
+     * Write all of the relationships in the metadata collection, optionally limited to a type (and its subtypes),
+     * a home metadata collection and a list of statuses, to the response as newline delimited JSON (one relationship
+     * per line).  The relationships are retrieved a page at a time so the export runs in a fixed amount of memory.
+     * If the scan fails, the last line is a VoidResponse describing the exception.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param scanRequestParameters scan parameters used to limit the returned results.
+     * @param responseStream stream to write the relationships to.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/relationships/scan", produces = "application/x-ndjson")
+
+    public  void scanRelationships(@PathVariable String              serverName,
+                                   @PathVariable String              userId,
+                                   @RequestBody  InstanceScanRequest scanRequestParameters,
+                                   OutputStream                      responseStream)
+    {
+        restAPI.scanRelationships(serverName, userId, scanRequestParameters, responseStream);
+    }
+
+
     /**
      * Return a list of relationships that match the search criteria.  The results can be paged.
      *
@@ -915,6 +1220,36 @@ public class EnterpriseRepositoryServicesResource
         return restAPI.findRelationshipsByPropertyValueHistory(serverName, userId, searchCriteria, findRequestParameters);
     }
 
+    /**
+     * Return a page of the relationships whose string based property values match the search criteria.
+     * The page token in the request is the next page token returned with the previous page (null for the first
+     * page) and the offset is ignored.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param searchCriteria String expression of the characteristics of the required relationships.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * a list of relationships along with the token for the next page (null if this is the last page) or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * PropertyErrorException there is a problem with one of the other parameters  or
+     * PagingErrorException the page token or paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/relationships/by-property-value/page")
+
+    public  RelationshipListResponse findRelationshipPageByPropertyValue(@PathVariable String                              serverName,
+                                                                         @PathVariable String                              userId,
+                                                                         @RequestParam String                              searchCriteria,
+                                                                         @RequestBody  TypeLimitedHistoricalFindRequest    findRequestParameters)
+    {
+        return restAPI.findRelationshipPageByPropertyValue(serverName, userId, searchCriteria, findRequestParameters);
+    }
+
 
     /**
      * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
@@ -1540,6 +1875,77 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Create a set of new entities and the relationships between them in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.  The new instances are assigned new GUIDs and are returned in the order of the request.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param createRequestParameters the new entities and relationships
+     * @return InstanceGraphResponse:
+     * the new entities and relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for an entity's type or
+     * EntityNotKnownException one of the entities at the end of a relationship is not known in the metadata collection or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/batch")
+
+    public InstanceGraphResponse addInstances(@PathVariable String                     serverName,
+                                              @PathVariable String                     userId,
+                                              @RequestBody  InstanceGraphCreateRequest createRequestParameters)
+    {
+        return restAPI.addInstances(serverName, userId, createRequestParameters);
+    }
+
+
+    /**
+     * Create a set of new entities and the relationships between them in a single call.
+     * The guid of each supplied entity is only used to link it to the relationships in the request
+     * that refer to it.  The new instances are assigned new GUIDs and are returned in the order of the request.
+     * The instances are homed in the metadata collection of the external source identified in the request.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param createRequestParameters the new entities and relationships
+     * @return InstanceGraphResponse:
+     * the new entities and relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for an entity's type or
+     * EntityNotKnownException one of the entities at the end of a relationship is not known in the metadata collection or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     one of the requested statuses or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/instances/batch/external")
+
+    public InstanceGraphResponse addExternalInstances(@PathVariable String                     serverName,
+                                                      @PathVariable String                     userId,
+                                                      @RequestBody  InstanceGraphCreateRequest createRequestParameters)
+    {
+        return restAPI.addExternalInstances(serverName, userId, createRequestParameters);
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * Describes the type of relationship end.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum ConceptModelDecoration implements Serializable {
+    /**
+      * The relationship links two concept beads together.
+      */
+    None(0, "The relationship links two concept beads together.")
+,
+    /**
+      * The relationship links an independent concept bead to a collection concept bead.
+      */
+    Aggregation(1, "The relationship links an independent concept bead to a collection concept bead.")
+,
+    /**
+      * The relationship links a sub-part to a composite.
+      */
+    Composition(2, "The relationship links a sub-part to a composite.")
+,
+    /**
+      * The relationship links an extension to a base concept bead.
+      */
+    Extension(3, "The relationship links an extension to a base concept bead.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an ConceptModelDecoration enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    ConceptModelDecoration(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the ConceptModelDecoration enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}
@@ -0,0 +1,270 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.ConceptBeadAttributeLink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * ConceptBeadAttributeLink is a relationships between an entity of type ConceptBead and an entity of type ConceptBeadAttribute.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has parentBead as the proxy name for entity type ConceptBead.
+ * The second entity proxy has attributes as the proxy name for entity type ConceptBeadAttribute.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Links a concept bead to its attributes.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ConceptBeadAttributeLink extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(ConceptBeadAttributeLink.class);
+    private static final String className = ConceptBeadAttributeLink.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "position",
+          "minCardinality",
+          "maxCardinality",
+          "uniqueValues",
+          "orderedValues",
+          "navigable",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "position",
+          "minCardinality",
+          "maxCardinality",
+          "uniqueValues",
+          "orderedValues",
+          "navigable",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public ConceptBeadAttributeLink() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "ConceptBeadAttributeLink";
+       entity1Name = "parentBead";
+       entity1Type = "ConceptBead";
+       entity2Name = "attributes";
+       entity2Type = "ConceptBeadAttribute";
+       typeDefGuid = "5bad1df2-664b-407b-8036-2855e2ede92f";
+    }
+
+    public ConceptBeadAttributeLink(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public ConceptBeadAttributeLink(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public ConceptBeadAttributeLink(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("position",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("minCardinality",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("maxCardinality",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("uniqueValues",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("orderedValues",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("navigable",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Integer position;
+        /**
+            * {@literal Position of this relationship in the concept bead's list of relationships. }
+            * @return {@code Integer }
+            */
+         public Integer getPosition() {
+             return this.position;
+         }
+         public void setPosition(Integer position)  {
+            this.position = position;
+        }
+         private Integer minCardinality;
+        /**
+            * {@literal Minimum number of occurrences of this attribute allowed (0 = optional, 1+ = mandatory). }
+            * @return {@code Integer }
+            */
+         public Integer getMinCardinality() {
+             return this.minCardinality;
+         }
+         public void setMinCardinality(Integer minCardinality)  {
+            this.minCardinality = minCardinality;
+        }
+         private Integer maxCardinality;
+        /**
+            * {@literal Maximum number of occurrences of this attribute allowed (-1 = infinite). }
+            * @return {@code Integer }
+            */
+         public Integer getMaxCardinality() {
+             return this.maxCardinality;
+         }
+         public void setMaxCardinality(Integer maxCardinality)  {
+            this.maxCardinality = maxCardinality;
+        }
+         private Boolean uniqueValues;
+        /**
+            * {@literal When multiple occurrences are allowed, indicates whether duplicates of the same value are allowed or not. }
+            * @return {@code Boolean }
+            */
+         public Boolean getUniqueValues() {
+             return this.uniqueValues;
+         }
+         public void setUniqueValues(Boolean uniqueValues)  {
+            this.uniqueValues = uniqueValues;
+        }
+         private Boolean orderedValues;
+        /**
+            * {@literal When multiple occurrences are allowed, indicates whether the values are ordered or not. }
+            * @return {@code Boolean }
+            */
+         public Boolean getOrderedValues() {
+             return this.orderedValues;
+         }
+         public void setOrderedValues(Boolean orderedValues)  {
+            this.orderedValues = orderedValues;
+        }
+         private Boolean navigable;
+        /**
+            * {@literal Is it possible to follow the link in this direction. }
+            * @return {@code Boolean }
+            */
+         public Boolean getNavigable() {
+             return this.navigable;
+         }
+         public void setNavigable(Boolean navigable)  {
+            this.navigable = navigable;
+        }
+
+   /**
+    * ConceptBeadAttributeLink property names
+    * @return Set of Strings of the ConceptBeadAttributeLink property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * ConceptBeadAttributeLink enum property names
+     * @return Set of Strings of the ConceptBeadAttributeLink enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * ConceptBeadAttributeLink map property names
+     * @return Set of Strings of the ConceptBeadAttributeLink map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * ConceptBeadAttributeLink attribute property names
+     * @return Set of Strings of the ConceptBeadAttributeLink attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" ConceptBeadAttributeLink=");
+             sb.append(super.toString(sb));
+             sb.append(" ConceptBeadAttributeLink Attributes{");
+             sb.append("position=" + this.position +",");
+             sb.append("minCardinality=" + this.minCardinality +",");
+             sb.append("maxCardinality=" + this.maxCardinality +",");
+             sb.append("uniqueValues=" + this.uniqueValues +",");
+             sb.append("orderedValues=" + this.orderedValues +",");
+             sb.append("navigable=" + this.navigable +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
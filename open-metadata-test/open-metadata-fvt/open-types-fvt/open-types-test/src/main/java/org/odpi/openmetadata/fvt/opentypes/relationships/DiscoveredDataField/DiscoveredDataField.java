@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.DiscoveredDataField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * DiscoveredDataField is a relationships between an entity of type SchemaAnalysisAnnotation and an entity of type DataField.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has schemaAnalysisAnnotation as the proxy name for entity type SchemaAnalysisAnnotation.
+ * The second entity proxy has discoveredDataFields as the proxy name for entity type DataField.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Data field detected in asset during schema analysis.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DiscoveredDataField extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(DiscoveredDataField.class);
+    private static final String className = DiscoveredDataField.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "dataFieldPosition",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "dataFieldPosition",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public DiscoveredDataField() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "DiscoveredDataField";
+       entity1Name = "schemaAnalysisAnnotation";
+       entity1Type = "SchemaAnalysisAnnotation";
+       entity2Name = "discoveredDataFields";
+       entity2Type = "DataField";
+       typeDefGuid = "60f2d263-e24d-4f20-8c0d-b5e22222cd54";
+    }
+
+    public DiscoveredDataField(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public DiscoveredDataField(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public DiscoveredDataField(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("dataFieldPosition",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Integer dataFieldPosition;
+        /**
+            * {@literal Location of the data field in the parent annotation's list of data fields. }
+            * @return {@code Integer }
+            */
+         public Integer getDataFieldPosition() {
+             return this.dataFieldPosition;
+         }
+         public void setDataFieldPosition(Integer dataFieldPosition)  {
+            this.dataFieldPosition = dataFieldPosition;
+        }
+
+   /**
+    * DiscoveredDataField property names
+    * @return Set of Strings of the DiscoveredDataField property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * DiscoveredDataField enum property names
+     * @return Set of Strings of the DiscoveredDataField enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * DiscoveredDataField map property names
+     * @return Set of Strings of the DiscoveredDataField map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * DiscoveredDataField attribute property names
+     * @return Set of Strings of the DiscoveredDataField attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" DiscoveredDataField=");
+             sb.append(super.toString(sb));
+             sb.append(" DiscoveredDataField Attributes{");
+             sb.append("dataFieldPosition=" + this.dataFieldPosition +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}